@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of rANS and tANS coding with {@code ways} interleaved states.
+ * Symbols are drawn from a skewed distribution over 64 symbols.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnsBenchmark {
+
+    private static final int COUNT = 65536;
+
+    private static final int LOG = 12;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(COUNT);
+        symbols = new int[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            symbols[i] = Math.min(63, Integer.numberOfTrailingZeros(
+                    random.nextInt() | Integer.MIN_VALUE) + random.nextInt(3));
+        }
+        final int[] frequencies = Ans.normalize(
+                Ans.histogram(symbols, 0, COUNT, 64), LOG);
+        rans = new Rans(frequencies);
+        tans = new Tans(frequencies);
+        writer = new BackwardBitWriter(COUNT);
+        rans.encode(writer, symbols, 0, COUNT, ways);
+        encodedRans = writer.finish();
+        tans.encode(writer, symbols, 0, COUNT, ways);
+        encodedTans = writer.finish();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public byte[] encodeRans() {
+        rans.encode(writer, symbols, 0, COUNT, ways);
+        return writer.finish();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int[] decodeRans() throws IOException {
+        rans.decode(new ReverseBitInput(encodedRans, 0, encodedRans.length),
+                    symbols, 0, COUNT, ways);
+        return symbols;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public byte[] encodeTans() {
+        tans.encode(writer, symbols, 0, COUNT, ways);
+        return writer.finish();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int[] decodeTans() throws IOException {
+        tans.decode(new ReverseBitInput(encodedTans, 0, encodedTans.length),
+                    symbols, 0, COUNT, ways);
+        return symbols;
+    }
+
+    @Param({"1", "2", "4"})
+    int ways;
+
+    private int[] symbols;
+
+    private Rans rans;
+
+    private Tans tans;
+
+    private BackwardBitWriter writer;
+
+    private byte[] encodedRans;
+
+    private byte[] encodedTans;
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.Octets.COUNT;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for size-independent operations of {@link BitInput}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BitInputBenchmark {
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readBoolean(final Octets octets, final Throughput throughput,
+                            final Blackhole blackhole)
+            throws IOException {
+        final AbstractBitInput input = source.input(octets);
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(input.readBoolean());
+        }
+        throughput.octets += input.position() >> 3;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readInt32(final Octets octets, final Throughput throughput,
+                          final Blackhole blackhole)
+            throws IOException {
+        final AbstractBitInput input = source.input(octets);
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(input.readInt(false, 32));
+        }
+        throughput.octets += input.position() >> 3;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readLong64(final Octets octets, final Throughput throughput,
+                           final Blackhole blackhole)
+            throws IOException {
+        final AbstractBitInput input = source.input(octets);
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(input.readLong(false, 64));
+        }
+        throughput.octets += input.position() >> 3;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void align(final Octets octets, final Throughput throughput,
+                      final Blackhole blackhole)
+            throws IOException {
+        final AbstractBitInput input = source.input(octets);
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(input.readBoolean());
+            blackhole.consume(input.align(1));
+        }
+        throughput.octets += input.position() >> 3;
+    }
+
+    @Param
+    Sources source;
+}
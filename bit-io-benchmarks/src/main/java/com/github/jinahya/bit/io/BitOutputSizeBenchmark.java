@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.Octets.COUNT;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for writing values of representative sizes to {@link BitOutput}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BitOutputSizeBenchmark {
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void writeInt(final Octets octets, final Throughput throughput)
+            throws IOException {
+        final BitOutput output = source.output(octets);
+        for (int i = 0; i < COUNT; i++) {
+            output.writeInt(true, size, i);
+        }
+        throughput.octets += (COUNT * size) >> 3;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void writeLong(final Octets octets, final Throughput throughput)
+            throws IOException {
+        final BitOutput output = source.output(octets);
+        for (int i = 0; i < COUNT; i++) {
+            output.writeLong(true, size, i);
+        }
+        throughput.octets += (COUNT * size) >> 3;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void writeChar(final Octets octets, final Throughput throughput)
+            throws IOException {
+        final BitOutput output = source.output(octets);
+        for (int i = 0; i < COUNT; i++) {
+            output.writeChar(size, (char) i);
+        }
+        throughput.octets += (COUNT * size) >> 3;
+    }
+
+    @Param
+    Sources source;
+
+    @Param({"1", "7", "8", "13", "16"})
+    int size;
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.Octets.COUNT;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks comparing bulk reads and writes of fixed-width values against
+ * reading and writing them one by one.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkBenchmark {
+
+    @Setup
+    public void setup() {
+        values = new int[COUNT];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0x9E3779B9;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int[] readInts(final Octets octets, final Throughput throughput)
+            throws IOException {
+        final AbstractBitInput input = source.input(octets);
+        input.readInts(true, size, values, 0, COUNT);
+        throughput.octets += input.position() >> 3;
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int[] readIntsOneByOne(final Octets octets,
+                                  final Throughput throughput)
+            throws IOException {
+        final AbstractBitInput input = source.input(octets);
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = input.readInt(true, size);
+        }
+        throughput.octets += input.position() >> 3;
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void writeInts(final Octets octets, final Throughput throughput)
+            throws IOException {
+        final AbstractBitOutput output = source.output(octets);
+        output.writeInts(true, size, values, 0, COUNT);
+        throughput.octets += (COUNT * size) >> 3;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void writeIntsOneByOne(final Octets octets,
+                                  final Throughput throughput)
+            throws IOException {
+        final AbstractBitOutput output = source.output(octets);
+        for (int i = 0; i < COUNT; i++) {
+            output.writeInt(true, size, values[i]);
+        }
+        throughput.octets += (COUNT * size) >> 3;
+    }
+
+    @Param
+    Sources source;
+
+    @Param({"1", "7", "8", "13", "16", "31"})
+    int size;
+
+    private int[] values;
+}
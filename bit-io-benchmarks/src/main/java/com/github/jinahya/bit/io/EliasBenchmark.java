@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks comparing Elias decoders with fixed-width reads of the same
+ * values. Values are gaps of up to {@code bits} bits whose lengths are
+ * uniformly distributed.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EliasBenchmark {
+
+    private static final int COUNT = 8192;
+
+    private interface Encoder {
+
+        void encode(UnaryBitOutput output, long value) throws IOException;
+    }
+
+    private byte[] encode(final Encoder encoder) throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final UnaryBitOutput output = new DefaultBitOutput<StreamByteOutput>(
+                new StreamByteOutput(stream));
+        for (final long value : values) {
+            encoder.encode(output, value);
+        }
+        output.align(8);
+        return stream.toByteArray();
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(bits);
+        values = new long[COUNT];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1L + (random.nextLong() >>> (64 - 1 - random.nextInt(
+                    bits)));
+        }
+        fixed = encode(new Encoder() {
+            @Override
+            public void encode(final UnaryBitOutput output, final long value)
+                    throws IOException {
+                output.writeLong(true, bits + 1, value);
+            }
+        });
+        gamma = encode(new Encoder() {
+            @Override
+            public void encode(final UnaryBitOutput output, final long value)
+                    throws IOException {
+                Elias.writeGamma(output, value);
+            }
+        });
+        delta = encode(new Encoder() {
+            @Override
+            public void encode(final UnaryBitOutput output, final long value)
+                    throws IOException {
+                Elias.writeDelta(output, value);
+            }
+        });
+        omega = encode(new Encoder() {
+            @Override
+            public void encode(final UnaryBitOutput output, final long value)
+                    throws IOException {
+                Elias.writeOmega(output, value);
+            }
+        });
+    }
+
+    private static UnaryBitInput input(final byte[] array) {
+        return new DefaultBitInput<ArrayByteInput>(
+                new ArrayByteInput(array, 0, array.length));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long[] fixed() throws IOException {
+        final UnaryBitInput input = input(fixed);
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = input.readLong(true, bits + 1);
+        }
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long[] gamma() throws IOException {
+        Elias.readGamma(input(gamma), values, 0, COUNT);
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long[] delta() throws IOException {
+        Elias.readDelta(input(delta), values, 0, COUNT);
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long[] omega() throws IOException {
+        Elias.readOmega(input(omega), values, 0, COUNT);
+        return values;
+    }
+
+    @Param({"8", "16", "32"})
+    int bits;
+
+    private long[] values;
+
+    private byte[] fixed;
+
+    private byte[] gamma;
+
+    private byte[] delta;
+
+    private byte[] omega;
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of reading non-decreasing values, whose deltas are less than
+ * {@code 2^width}, coded with {@link FrameOfReference} and as plain
+ * {@code 63}-bit values.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameOfReferenceBenchmark {
+
+    private static final int COUNT = 8192;
+
+    private static BulkBitOutput output(final ByteArrayOutputStream stream) {
+        return new DefaultBitOutput<StreamByteOutput>(
+                new StreamByteOutput(stream));
+    }
+
+    private static BulkBitInput input(final byte[] array) {
+        return new DefaultBitInput<ArrayByteInput>(
+                new ArrayByteInput(array, 0, array.length));
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(width);
+        values = new long[COUNT];
+        long value = System.currentTimeMillis();
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = value;
+            value += random.nextInt(1 << width);
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        BulkBitOutput output = output(stream);
+        FrameOfReference.write(output, values, 0, COUNT);
+        output.align(1);
+        packed = stream.toByteArray();
+        stream.reset();
+        output = output(stream);
+        output.writeLongs(true, 63, values, 0, COUNT);
+        output.align(1);
+        plain = stream.toByteArray();
+        decoded = new long[COUNT];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long readPacked() throws IOException {
+        FrameOfReference.read(input(packed), decoded, 0, COUNT);
+        return decoded[COUNT - 1];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long readPlain() throws IOException {
+        input(plain).readLongs(true, 63, decoded, 0, COUNT);
+        return decoded[COUNT - 1];
+    }
+
+    @Param({"4", "12", "24"})
+    int width;
+
+    private long[] values;
+
+    private byte[] packed;
+
+    private byte[] plain;
+
+    private long[] decoded;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Random octets shared by a benchmark thread, in a heap array and in a direct
+ * buffer.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+@State(Scope.Thread)
+public class Octets {
+
+    /**
+     * The number of values read or written in each benchmark invocation.
+     */
+    public static final int COUNT = 8192;
+
+    /**
+     * The number of octets; enough for {@link #COUNT} 64-bit values.
+     */
+    public static final int LENGTH = COUNT * 8;
+
+    @Setup
+    public void setup() {
+        array = new byte[LENGTH];
+        new Random(LENGTH).nextBytes(array);
+        direct = ByteBuffer.allocateDirect(LENGTH);
+        direct.put(array).clear();
+    }
+
+    byte[] array;
+
+    ByteBuffer direct;
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of range coding adaptive binary decisions, whose probability of
+ * a one bit is {@code percent} percent, and symbols of a 16-symbol alphabet
+ * with adaptive frequencies.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RangeBenchmark {
+
+    private static final int COUNT = 8192;
+
+    private static final int SYMBOLS = 16;
+
+    private static BitOutput output(final ByteArrayOutputStream stream) {
+        return new DefaultBitOutput<StreamByteOutput>(
+                new StreamByteOutput(stream));
+    }
+
+    private static BitInput input(final byte[] array) {
+        return new DefaultBitInput<ArrayByteInput>(
+                new ArrayByteInput(array, 0, array.length));
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(percent);
+        bits = new int[COUNT];
+        symbols = new int[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            bits[i] = random.nextInt(100) < percent ? 1 : 0;
+            symbols[i] = Integer.numberOfTrailingZeros(
+                    random.nextInt() | (1 << (SYMBOLS - 1)));
+        }
+        stream = new ByteArrayOutputStream(COUNT);
+        encodeBits();
+        encodedBits = stream.toByteArray();
+        encodeSymbols();
+        encodedSymbols = stream.toByteArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int encodeBits() throws IOException {
+        stream.reset();
+        final RangeEncoder encoder = new RangeEncoder(output(stream));
+        RangeCoding.initialize(probabilities);
+        for (int i = 0; i < COUNT; i++) {
+            encoder.encodeBit(probabilities, 0, bits[i]);
+        }
+        encoder.finish();
+        return stream.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int decodeBits() throws IOException {
+        final RangeDecoder decoder = new RangeDecoder(input(encodedBits));
+        RangeCoding.initialize(probabilities);
+        int ones = 0;
+        for (int i = 0; i < COUNT; i++) {
+            ones += decoder.decodeBit(probabilities, 0);
+        }
+        return ones;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int encodeSymbols() throws IOException {
+        stream.reset();
+        final RangeEncoder encoder = new RangeEncoder(output(stream));
+        final int[] cumulative = RangeCoding.cumulative(SYMBOLS);
+        for (int i = 0; i < COUNT; i++) {
+            encoder.encode(cumulative, symbols[i]);
+            RangeCoding.update(cumulative, symbols[i]);
+        }
+        encoder.finish();
+        return stream.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int decodeSymbols() throws IOException {
+        final RangeDecoder decoder = new RangeDecoder(input(encodedSymbols));
+        final int[] cumulative = RangeCoding.cumulative(SYMBOLS);
+        int sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            final int symbol = decoder.decode(cumulative);
+            RangeCoding.update(cumulative, symbol);
+            sum += symbol;
+        }
+        return sum;
+    }
+
+    @Param({"1", "10", "50"})
+    int percent;
+
+    private final short[] probabilities = new short[1];
+
+    private int[] bits;
+
+    private int[] symbols;
+
+    private ByteArrayOutputStream stream;
+
+    private byte[] encodedBits;
+
+    private byte[] encodedSymbols;
+}
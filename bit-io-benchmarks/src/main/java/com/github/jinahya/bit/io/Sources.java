@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Byte sources and targets compared by benchmarks.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public enum Sources {
+
+    ARRAY() {
+        @Override
+        AbstractBitInput input(final Octets octets) {
+            return new DefaultBitInput<ArrayByteInput>(new ArrayByteInput(
+                    octets.array, 0, octets.array.length));
+        }
+
+        @Override
+        AbstractBitOutput output(final Octets octets) {
+            return new DefaultBitOutput<ArrayByteOutput>(new ArrayByteOutput(
+                    octets.array, 0, octets.array.length));
+        }
+    },
+    HEAP_BUFFER() {
+        @Override
+        AbstractBitInput input(final Octets octets) {
+            return new DefaultBitInput<BufferByteInput>(
+                    new BufferByteInput(ByteBuffer.wrap(octets.array)));
+        }
+
+        @Override
+        AbstractBitOutput output(final Octets octets) {
+            return new DefaultBitOutput<BufferByteOutput>(
+                    new BufferByteOutput(ByteBuffer.wrap(octets.array)));
+        }
+    },
+    DIRECT_BUFFER() {
+        @Override
+        AbstractBitInput input(final Octets octets) {
+            return new DefaultBitInput<BufferByteInput>(
+                    new BufferByteInput(octets.direct.duplicate()));
+        }
+
+        @Override
+        AbstractBitOutput output(final Octets octets) {
+            return new DefaultBitOutput<BufferByteOutput>(
+                    new BufferByteOutput(octets.direct.duplicate()));
+        }
+    },
+    STREAM() {
+        @Override
+        AbstractBitInput input(final Octets octets) {
+            return new DefaultBitInput<StreamByteInput>(new StreamByteInput(
+                    new ByteArrayInputStream(octets.array)));
+        }
+
+        @Override
+        AbstractBitOutput output(final Octets octets) {
+            return new DefaultBitOutput<StreamByteOutput>(new StreamByteOutput(
+                    new ArrayOutputStream(octets.array)));
+        }
+    },
+    DATA() {
+        @Override
+        AbstractBitInput input(final Octets octets) {
+            return new DefaultBitInput<DataByteInput>(new DataByteInput(
+                    new DataInputStream(
+                            new ByteArrayInputStream(octets.array))));
+        }
+
+        @Override
+        AbstractBitOutput output(final Octets octets) {
+            return new DefaultBitOutput<DataByteOutput>(new DataByteOutput(
+                    new DataOutputStream(
+                            new ArrayOutputStream(octets.array))));
+        }
+    };
+
+    /**
+     * An output stream writing into a fixed array so that no allocation other
+     * than the stream itself is measured.
+     */
+    private static final class ArrayOutputStream extends OutputStream {
+
+        ArrayOutputStream(final byte[] array) {
+            super();
+            this.array = array;
+        }
+
+        @Override
+        public void write(final int b) {
+            array[index++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            System.arraycopy(b, off, array, index, len);
+            index += len;
+        }
+
+        private final byte[] array;
+
+        private int index;
+    }
+
+    /**
+     * Returns a new bit input reading given octets.
+     *
+     * @param octets the octets to read
+     * @return a new bit input.
+     */
+    abstract AbstractBitInput input(Octets octets);
+
+    /**
+     * Returns a new bit output writing to given octets.
+     *
+     * @param octets the octets to write
+     * @return a new bit output.
+     */
+    abstract AbstractBitOutput output(Octets octets);
+}
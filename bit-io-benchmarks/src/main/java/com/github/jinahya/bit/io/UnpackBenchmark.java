@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.lang.reflect.Constructor;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks comparing the vectorized unpacker against the scalar kernel.
+ * Requires JDK 16 or later and a bit-io jar built with the
+ * {@code multi-release-vector} profile. The vectorized unpacker is created even
+ * where {@link BitIoUnpacker#newInstance()} would fall back to the scalar
+ * kernel. The {@code WithoutAvx2} variants limit the JIT to AVX on x86.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class UnpackBenchmark {
+
+    private static final int COUNT = 4096;
+
+    /**
+     * The number of words for {@link #COUNT} 32-bit values.
+     */
+    private static final int WORDS = COUNT >> 1;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        words = new long[WORDS + 2];
+        final Random random = new Random(WORDS);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = random.nextLong();
+        }
+        values = new int[COUNT];
+        final Constructor<?> constructor
+                = Class.forName(BitIoUnpacker.VECTOR_UNPACKER_NAME)
+                        .getDeclaredConstructor(boolean.class);
+        constructor.setAccessible(true);
+        unpacker = (BitIoUnpacker) constructor.newInstance(true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public int[] scalar() {
+        BitIoPacking.unpack(words, 0L, true, size, values, 0, COUNT);
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public int[] vector() {
+        unpacker.unpack(words, 0L, true, size, values, 0, COUNT);
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector",
+                                      "-XX:UseAVX=1"})
+    public int[] scalarWithoutAvx2() {
+        BitIoPacking.unpack(words, 0L, true, size, values, 0, COUNT);
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector",
+                                      "-XX:UseAVX=1"})
+    public int[] vectorWithoutAvx2() {
+        unpacker.unpack(words, 0L, true, size, values, 0, COUNT);
+        return values;
+    }
+
+    @Param({"1", "3", "7", "8", "13", "16", "24", "31"})
+    int size;
+
+    private long[] words;
+
+    private int[] values;
+
+    private BitIoUnpacker unpacker;
+}
@@ -15,20 +15,180 @@
  */
 package com.github.jinahya.bit.io;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
 
 /**
  * An abstract class for implementing {@link BitInput}.
  *
  * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
  */
-public abstract class AbstractBitInput implements BitInput, ByteInput {
+public abstract class AbstractBitInput
+        implements PositionedBitInput, BulkBitInput, ExpGolombBitInput,
+                   UnaryBitInput, PeekableBitInput, ByteInput {
 
     // -------------------------------------------------------------------------
-    private int octet() throws IOException {
-        final int octet = read() & 0xFF;
-        ++count;
-        return octet;
+    /**
+     * Reads exactly {@code length} bytes into specified array starting at
+     * {@code offset}. The {@code read(byte[], int, int)} method of
+     * {@code AbstractBitInput} class invokes {@link #read()} for each byte.
+     * Subclasses are encouraged to override this method with a more efficient
+     * implementation since the register is, by default, refilled with this
+     * method whenever more than one octet is required.
+     *
+     * @param array the array into which bytes are read
+     * @param offset the starting index in the {@code array}
+     * @param length the number of bytes to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public void read(final byte[] array, final int offset, final int length)
+            throws IOException {
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = (byte) read();
+        }
+    }
+
+    /**
+     * Skips exactly {@code length} bytes. The {@code skipBytes(long)} method of
+     * {@code AbstractBitInput} class reads and discards bytes with
+     * {@link #read(byte[], int, int)}. Subclasses are encouraged to override
+     * this method with a more efficient implementation.
+     *
+     * @param length the number of bytes to skip; not negative.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void skipBytes(long length) throws IOException {
+        while (length > 0L) {
+            final int skipped = (int) Math.min(length, buffer.length);
+            read(buffer, 0, skipped);
+            length -= skipped;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Returns the number of octets to load when the bit register is refilled.
+     * The {@code prefetch(int)} method of {@code AbstractBitInput} class
+     * returns given {@code required} so that no octets are read ahead. Override
+     * this method, along with {@link #octets(int)}, if the byte source can
+     * supply more octets at once; octets read ahead stay in the register and
+     * can be taken back with {@link #unload()}.
+     *
+     * @param required the minimum number of octets required; between
+     * {@code 1} and {@code 8}, both inclusive.
+     * @return the number of octets to load; between {@code required} and
+     * {@code 8}, both inclusive.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected int prefetch(final int required) throws IOException {
+        return required;
+    }
+
+    /**
+     * Reads specified number of octets as an unsigned big-endian value. The
+     * {@code octets(int)} method of {@code AbstractBitInput} class invokes
+     * {@link #read()} for a single octet and {@link #read(byte[], int, int)}
+     * for multiple octets.
+     *
+     * @param length the number of octets to read; between {@code 1} and
+     * {@code 8}, both inclusive.
+     * @return an unsigned big-endian value of {@code length} octets.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected long octets(final int length) throws IOException {
+        if (length == 1) {
+            return read() & 0xFF;
+        }
+        read(buffer, 0, length);
+        return BitIoOctets.getLong(buffer, 0, length) >>> ((8 - length) << 3);
+    }
+
+    /**
+     * Discards whole octets read ahead into the bit register and returns the
+     * number of them. Subclasses overriding {@link #prefetch(int)} may use this
+     * method to restore those octets to their byte source.
+     *
+     * @return the number of octets discarded.
+     */
+    protected final int unload() {
+        final int octets = available >> 3;
+        register >>>= octets << 3;
+        available &= 0x07;
+        count -= octets;
+        return octets;
+    }
+
+    /**
+     * Discards the bit register and sets the number of octets read so far to
+     * given value. Subclasses which can reposition their byte source may use
+     * this method right after doing so.
+     *
+     * @param count new number of octets read so far
+     */
+    protected final void reset(final long count) {
+        register = 0L;
+        available = 0;
+        eof = false;
+        padding = 0;
+        this.count = count;
+    }
+
+    /**
+     * Refills the register, which is supposed to be empty, with at least the
+     * number of octets required for given number of bits.
+     *
+     * @param size the number of bits required; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void refill(final int size) throws IOException {
+        final int octets = prefetch((size + 7) >> 3);
+        register = octets(octets);
+        available = octets << 3;
+        count += octets;
+    }
+
+    /**
+     * Reads an unsigned value of given number of bits from the register,
+     * refilling it if required.
+     *
+     * @param size the number of bits for the value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @return an unsigned value.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long bits(final int size) throws IOException {
+        if (size <= available) {
+            available -= size;
+            return (register >>> available) & (-1L >>> (64 - size));
+        }
+        final int low = size - available;
+        final long high = register & ~(-1L << available);
+        refill(low);
+        available -= low;
+        return (high << low)
+               | ((register >>> available) & (-1L >>> (64 - low)));
+    }
+
+    /**
+     * Reads a value of given number of bits and sign-extends it if
+     * {@code unsigned} is {@code false}.
+     *
+     * @param unsigned a flag for unsigned value
+     * @param size the number of bits for the value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @return the value.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long bits(final boolean unsigned, final int size)
+            throws IOException {
+        final long value = bits(size);
+        if (unsigned) {
+            return value;
+        }
+        final int shift = 64 - size;
+        return (value << shift) >> shift;
     }
 
     /**
@@ -41,28 +201,7 @@ public abstract class AbstractBitInput implements BitInput, ByteInput {
      */
     protected int unsigned8(final int size) throws IOException {
         BitIoConstraints.requireValidSizeUnsigned8(size);
-        if (index == 8) {
-            int octet = octet();
-            if (size == 8) {
-                return octet;
-            }
-            for (int i = 7; i >= 0; i--) {
-                flags[i] = (octet & 0x01) == 0x01;
-                octet >>= 1;
-            }
-            index = 0;
-        }
-        final int available = 8 - index;
-        final int required = size - available;
-        if (required > 0) {
-            return (unsigned8(available) << required) | unsigned8(required);
-        }
-        int value = 0x00;
-        for (int i = 0; i < size; i++) {
-            value <<= 1;
-            value |= (flags[index++] ? 0x01 : 0x00);
-        }
-        return value;
+        return (int) bits(size);
     }
 
     /**
@@ -75,97 +214,314 @@ public abstract class AbstractBitInput implements BitInput, ByteInput {
      */
     protected int unsigned16(final int size) throws IOException {
         BitIoConstraints.requireValidSizeUnsigned16(size);
-        int value = 0x00;
-        final int quotient = size / 8;
-        final int remainder = size % 8;
-        for (int i = 0; i < quotient; i++) {
-            value <<= 8;
-            value |= unsigned8(8);
-        }
-        if (remainder > 0) {
-            value <<= remainder;
-            value |= unsigned8(remainder);
-        }
-        return value;
+        return (int) bits(size);
     }
 
     @Override
     public boolean readBoolean() throws IOException {
-        return readInt(true, 1) == 1;
+        return bits(1) == 1L;
     }
 
     @Override
     public byte readByte(final boolean unsigned, final int size)
             throws IOException {
         BitIoConstraints.requireValidSize(unsigned, 3, size);
-        return (byte) readInt(unsigned, size);
+        return (byte) bits(unsigned, size);
     }
 
     @Override
     public short readShort(final boolean unsigned, final int size)
             throws IOException {
         BitIoConstraints.requireValidSize(unsigned, 4, size);
-        return (short) readInt(unsigned, size);
+        return (short) bits(unsigned, size);
     }
 
     @Override
     public int readInt(final boolean unsigned, final int size)
             throws IOException {
         BitIoConstraints.requireValidSize(unsigned, 5, size);
-        if (!unsigned) {
-            final int usize = size - 1;
-            int value = 0 - readInt(true, 1);
-            if (usize > 0) {
-                value <<= usize;
-                value |= readInt(true, usize);
+        return (int) bits(unsigned, size);
+    }
+
+    @Override
+    public long readLong(final boolean unsigned, final int size)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 6, size);
+        return bits(unsigned, size);
+    }
+
+    /**
+     * {@inheritDoc} The {@code readInts(boolean, int, int[], int, int)} method
+     * of {@code AbstractBitInput} class reads whole octets for a chunk of
+     * values with {@link #read(byte[], int, int)} and unpacks them as 64-bit
+     * words.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void readInts(final boolean unsigned, final int size,
+                         final int[] array, int offset, int length)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 5, size);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int chunk = (CHUNK_OCTETS << 3) / size;
+        while (length > 0) {
+            final int values = Math.min(length, chunk);
+            final int bits = values * size;
+            if (bits <= available) {
+                for (int i = offset, j = offset + values; i < j; i++) {
+                    array[i] = (int) bits(unsigned, size);
+                }
+            } else {
+                final long start = load(bits);
+                unpacker.unpack(bulkWords, start, unsigned, size, array,
+                                offset, values);
             }
-            return value;
-        }
-        int value = 0x00;
-        final int quotient = size / 16;
-        final int remainder = size % 16;
-        for (int i = 0; i < quotient; i++) {
-            value <<= 16;
-            value |= unsigned16(16);
+            offset += values;
+            length -= values;
         }
-        if (remainder > 0) {
-            value <<= remainder;
-            value |= unsigned16(remainder);
-        }
-        return value;
     }
 
+    /**
+     * {@inheritDoc} The {@code readLongs(boolean, int, long[], int, int)}
+     * method of {@code AbstractBitInput} class reads whole octets for a chunk
+     * of values with {@link #read(byte[], int, int)} and unpacks them as 64-bit
+     * words.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
     @Override
-    public long readLong(final boolean unsigned, final int size)
+    public void readLongs(final boolean unsigned, final int size,
+                          final long[] array, int offset, int length)
             throws IOException {
         BitIoConstraints.requireValidSize(unsigned, 6, size);
-        if (!unsigned) {
-            final int usize = size - 1;
-            long value = 0L - readLong(true, 1);
-            if (usize > 0) {
-                value <<= usize;
-                value |= readLong(true, usize);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int chunk = (CHUNK_OCTETS << 3) / size;
+        while (length > 0) {
+            final int values = Math.min(length, chunk);
+            final int bits = values * size;
+            if (bits <= available) {
+                for (int i = offset, j = offset + values; i < j; i++) {
+                    array[i] = bits(unsigned, size);
+                }
+            } else {
+                final long start = load(bits);
+                BitIoPacking.unpack(bulkWords, start, unsigned, size, array,
+                                    offset, values);
             }
-            return value;
+            offset += values;
+            length -= values;
         }
-        long value = 0x00L;
-        final int quotient = size / 31;
-        final int remainder = size % 31;
-        for (int i = 0; i < quotient; i++) {
-            value <<= 31;
-            value |= readInt(true, 31);
+    }
+
+    /**
+     * Loads given number of bits, which is more than currently available, into
+     * {@link #bulkWords}. Bits left in the register come first and following
+     * octets are read with {@link #read(byte[], int, int)}. Bits of the last
+     * octet beyond {@code bits} are left in the register.
+     *
+     * @param bits the number of bits to load; between {@code available + 1}
+     * and {@code CHUNK_OCTETS * 8}, both inclusive.
+     * @return the index of the first bit in {@link #bulkWords}.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long load(final int bits) throws IOException {
+        if (bulkOctets == null) {
+            bulkOctets = new byte[CHUNK_OCTETS];
+            bulkWords = new long[(CHUNK_OCTETS >> 3) + 2];
+            unpacker = BitIoUnpacker.newInstance();
         }
-        if (remainder > 0) {
-            value <<= remainder;
-            value |= readInt(true, remainder);
+        final int length = (bits - available + 7) >> 3;
+        read(bulkOctets, 0, length);
+        count += length;
+        bulkWords[0] = available == 64
+                       ? register : register & ~(-1L << available);
+        BitIoOctets.words(bulkOctets, length, bulkWords, 1);
+        final long start = 64 - available;
+        available += (length << 3) - bits;
+        register = bulkOctets[length - 1] & 0xFF;
+        return start;
+    }
+
+    /**
+     * Reads a run of zero bits terminated by a one bit, which is also
+     * consumed, with leading-zero counts over the register.
+     *
+     * @param limit the maximum number of zeros
+     * @return the number of zeros.
+     * @throws IOException if an I/O error occurs or there are more than
+     * {@code limit} zeros.
+     */
+    private int zeros(final int limit) throws IOException {
+        int zeros = 0;
+        while (true) {
+            if (available == 0) {
+                refill(1);
+            }
+            final long bits = register << (64 - available);
+            if (bits != 0L) {
+                final int leading = Long.numberOfLeadingZeros(bits);
+                available -= leading + 1;
+                zeros += leading;
+                break;
+            }
+            zeros += available;
+            available = 0;
+            if (zeros > limit) {
+                break;
+            }
+        }
+        if (zeros > limit) {
+            throw new IOException("zeros(" + zeros + ") > " + limit);
+        }
+        return zeros;
+    }
+
+    /**
+     * Reads an Exp-Golomb code number.
+     *
+     * @param limit the maximum number of leading zeros; {@code 63} at most.
+     * @return an unsigned code number.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long expGolomb(final int limit) throws IOException {
+        final int zeros = zeros(limit);
+        if (zeros == 0) {
+            return 0L;
+        }
+        return (1L << zeros) - 1L + bits(zeros);
+    }
+
+    /**
+     * Makes sure the register holds at least given number of bits, appending
+     * whole octets below the bits already available, and returns them. Octets
+     * are appended one by one so that an end of stream leaves every octet read
+     * in the register; missing bits are then filled with zeros and counted in
+     * {@link #padding}. Both {@link EOFException} and
+     * {@link BufferUnderflowException} are taken as the end of the stream.
+     *
+     * @param size the number of bits to peek; between {@code 1} and
+     * {@code 57}, both inclusive.
+     * @return an unsigned value of the next {@code size} bits.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long peek(final int size) throws IOException {
+        while (size > available && !eof) {
+            final long value;
+            try {
+                value = octets(1);
+            } catch (final EOFException eofe) {
+                eof = true;
+                break;
+            } catch (final BufferUnderflowException bue) {
+                eof = true; // buffer sources end this way
+                break;
+            }
+            register = (register << 8) | value;
+            available += 8;
+            count++;
         }
-        return value;
+        if (size > available) {
+            padding = size - available;
+            return (register << padding) & (-1L >>> (64 - size));
+        }
+        padding = 0;
+        return (register >>> (available - size)) & (-1L >>> (64 - size));
+    }
+
+    @Override
+    public int peekInt(final int size) throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (size > 32) {
+            throw new IllegalArgumentException("size(" + size + ") > 32");
+        }
+        return (int) peek(size);
+    }
+
+    @Override
+    public long peekLong(final int size) throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (size > 57) {
+            throw new IllegalArgumentException("size(" + size + ") > 57");
+        }
+        return peek(size);
+    }
+
+    @Override
+    public int padding() {
+        return padding;
+    }
+
+    @Override
+    public void consume(final int size) throws IOException {
+        if (size < 0) {
+            throw new IllegalArgumentException("size(" + size + ") < 0");
+        }
+        if (size <= available) {
+            available -= size;
+            return;
+        }
+        if (eof) {
+            throw new EOFException(
+                    "size(" + size + ") > available(" + available + ")");
+        }
+        discard(size);
+    }
+
+    @Override
+    public int readUnary() throws IOException {
+        return zeros(Integer.MAX_VALUE - 64);
+    }
+
+    @Override
+    public int readExpGolombInt(final boolean unsigned) throws IOException {
+        final long code = expGolomb(32);
+        if (unsigned) {
+            if (code > 0xFFFFFFFFL) {
+                throw new IOException("code(" + code + ") > " + 0xFFFFFFFFL);
+            }
+            return (int) code;
+        }
+        final long value = (code & 1L) == 1L
+                           ? (code >>> 1) + 1L : -(code >>> 1);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException(
+                    "value(" + value + ") > " + Integer.MAX_VALUE);
+        }
+        if (value < Integer.MIN_VALUE) {
+            throw new IOException(
+                    "value(" + value + ") < " + Integer.MIN_VALUE);
+        }
+        return (int) value;
+    }
+
+    @Override
+    public long readExpGolombLong(final boolean unsigned) throws IOException {
+        final long code = expGolomb(63);
+        if (unsigned) {
+            return code;
+        }
+        return (code & 1L) == 1L ? (code >>> 1) + 1L : -(code >>> 1);
     }
 
     @Override
     public char readChar(final int size) throws IOException {
         BitIoConstraints.requireValidSizeChar(size);
-        return (char) unsigned16(size);
+        return (char) bits(size);
     }
 
     @Override
@@ -173,34 +529,106 @@ public abstract class AbstractBitInput implements BitInput, ByteInput {
         if (bytes <= 0) {
             throw new IllegalArgumentException("bytes(" + bytes + ") <= 0");
         }
-        long bits = 0; // number of bits to be discarded
         // discard remained bits in current octet.
-        if (index < 8) {
-            bits += (8 - index);
-            unsigned8((int) bits); // count increments
-        }
-        final long remainder = count % bytes;
-        long octets = (remainder > 0 ? bytes : 0) - remainder;
-        for (; octets > 0; octets--) {
-            unsigned8(8);
-            bits += 8;
+        long bits = available & 0x07; // number of bits to be discarded
+        available -= bits;
+        // octets left in the register are not consumed yet
+        final long remainder = (count - (available >> 3)) % bytes;
+        final long octets = (remainder > 0 ? bytes : 0) - remainder;
+        if (octets > 0L) {
+            discard(octets << 3);
+            bits += octets << 3;
         }
         return bits;
     }
 
+    @Override
+    public long position() {
+        return (count << 3) - available;
+    }
+
+    @Override
+    public void skip(final long bits) throws IOException {
+        if (bits < 0L) {
+            throw new IllegalArgumentException("bits(" + bits + ") < 0");
+        }
+        discard(bits);
+    }
+
+    /**
+     * Discards specified number of bits. Bits in the register are discarded
+     * first and whole octets beyond are skipped with {@link #skipBytes(long)}.
+     *
+     * @param bits the number of bits to discard; not negative.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void discard(long bits) throws IOException {
+        if (bits <= available) {
+            available -= (int) bits;
+            return;
+        }
+        bits -= available;
+        available = 0;
+        final long octets = bits >> 3;
+        if (octets > 0L) {
+            skipBytes(octets);
+            count += octets;
+        }
+        final int remainder = (int) (bits & 0x07);
+        if (remainder > 0) {
+            bits(remainder);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The maximum number of octets read at once for bulk reads.
+     */
+    private static final int CHUNK_OCTETS = 1024;
+
     // -------------------------------------------------------------------------
     /**
-     * bit flags.
+     * A buffer for refilling the {@link #register} with multiple octets.
+     */
+    private final byte[] buffer = new byte[8];
+
+    /**
+     * A lazily created buffer of octets for bulk reads.
+     */
+    private byte[] bulkOctets;
+
+    /**
+     * Lazily created 64-bit words assembled from {@link #bulkOctets}.
      */
-    private final boolean[] flags = new boolean[8];
+    private long[] bulkWords;
 
     /**
-     * The next bit index to read.
+     * A lazily created unpacker for bulk int reads.
      */
-    private int index = 8;
+    private BitIoUnpacker unpacker;
+
+    /**
+     * The bit register; only the lower {@link #available} bits are valid.
+     */
+    private long register = 0L;
+
+    /**
+     * The number of bits available in the {@link #register}.
+     */
+    private int available = 0;
 
     /**
      * The number of bytes read so far.
      */
     private long count = 0L;
+
+    /**
+     * A flag set when {@link #peek(int)} reaches the end of the byte source.
+     */
+    private boolean eof = false;
+
+    /**
+     * The number of zero bits padded by the last {@link #peek(int)}.
+     */
+    private int padding = 0;
 }
@@ -22,7 +22,30 @@ import java.io.IOException;
  *
  * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
  */
-public abstract class AbstractBitOutput implements BitOutput, ByteOutput {
+public abstract class AbstractBitOutput
+        implements BulkBitOutput, ExpGolombBitOutput, UnaryBitOutput,
+                   ByteOutput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Writes {@code length} bytes from specified array starting at
+     * {@code offset}. The {@code write(byte[], int, int)} method of
+     * {@code AbstractBitOutput} class invokes {@link #write(int)} for each
+     * byte. Subclasses are encouraged to override this method with a more
+     * efficient implementation since the register is flushed with this method
+     * whenever more than one octet is complete.
+     *
+     * @param array the array from which bytes are written
+     * @param offset the starting index in the {@code array}
+     * @param length the number of bytes to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final byte[] array, final int offset, final int length)
+            throws IOException {
+        for (int i = offset, j = offset + length; i < j; i++) {
+            write(array[i]);
+        }
+    }
 
     // -------------------------------------------------------------------------
     private void octet(final int value) throws IOException {
@@ -31,39 +54,52 @@ public abstract class AbstractBitOutput implements BitOutput, ByteOutput {
     }
 
     /**
-     * Writes an unsigned value whose size is max {@code 8}.
+     * Writes the lower specified number of bits of given value into the
+     * register and writes out all complete octets.
      *
      * @param size the number of lower bits to write; between {@code 1} and
-     * {@code 8}, both inclusive.
+     * {@code 64}, both inclusive.
      * @param value the value to write
      * @throws IOException if an I/O error occurs.
      */
-    protected void unsigned8(final int size, int value) throws IOException {
-        BitIoConstraints.requireValidSizeUnsigned8(size);
-        if (size == 8 && index == 0) {
-            octet(value);
+    private void bits(final int size, final long value) throws IOException {
+        if (size > 56) {
+            bits(size - 32, value >>> 32);
+            bits(32, value);
             return;
         }
-        final int required = size - (8 - index);
-        if (required > 0) {
-            unsigned8(size - required, value >> required);
-            unsigned8(required, value);
+        register <<= size;
+        register |= value & (-1L >>> (64 - size));
+        available += size;
+        if (available < 8) {
             return;
         }
-        for (int i = index + size - 1; i >= index; i--) {
-            flags[i] = (value & 0x01) == 0x01;
-            value >>= 1;
+        final int octets = available >> 3;
+        if (octets == 1) {
+            available -= 8;
+            octet((int) (register >>> available));
+            return;
         }
-        index += size;
-        if (index == 8) {
-            int octet = 0x00;
-            for (int i = 0; i < 8; i++) {
-                octet <<= 1;
-                octet |= (flags[i] ? 0x01 : 0x00);
-            }
-            octet(octet);
-            index = 0;
+        for (int i = 0; i < octets; i++) {
+            available -= 8;
+            buffer[i] = (byte) (register >>> available);
         }
+        write(buffer, 0, octets);
+        count += octets;
+    }
+
+    /**
+     * Writes an unsigned value whose size is max {@code 8}.
+     *
+     * @param size the number of lower bits to write; between {@code 1} and
+     * {@code 8}, both inclusive.
+     * @param value the value to write
+     * @throws IOException if an I/O error occurs.
+     */
+    protected void unsigned8(final int size, final int value)
+            throws IOException {
+        BitIoConstraints.requireValidSizeUnsigned8(size);
+        bits(size, value);
     }
 
     /**
@@ -77,19 +113,12 @@ public abstract class AbstractBitOutput implements BitOutput, ByteOutput {
     protected void unsigned16(final int size, final int value)
             throws IOException {
         BitIoConstraints.requireValidSizeUnsigned16(size);
-        final int quotient = size / 8;
-        final int remainder = size % 8;
-        if (remainder > 0) {
-            unsigned8(remainder, value >> (quotient * 8));
-        }
-        for (int i = quotient - 1; i >= 0; i--) {
-            unsigned8(8, value >> (8 * i));
-        }
+        bits(size, value);
     }
 
     @Override
     public void writeBoolean(final boolean value) throws IOException {
-        writeInt(true, 1, value ? 1 : 0);
+        bits(1, value ? 1L : 0L);
     }
 
     @Override
@@ -97,7 +126,7 @@ public abstract class AbstractBitOutput implements BitOutput, ByteOutput {
                           final byte value)
             throws IOException {
         BitIoConstraints.requireValidSize(unsigned, 3, size);
-        writeInt(unsigned, size, value);
+        bits(size, value);
     }
 
     @Override
@@ -105,7 +134,7 @@ public abstract class AbstractBitOutput implements BitOutput, ByteOutput {
                            final short value)
             throws IOException {
         BitIoConstraints.requireValidSize(unsigned, 4, size);
-        writeInt(unsigned, size, value);
+        bits(size, value);
     }
 
     @Override
@@ -113,22 +142,7 @@ public abstract class AbstractBitOutput implements BitOutput, ByteOutput {
                          final int value)
             throws IOException {
         BitIoConstraints.requireValidSize(unsigned, 5, size);
-        if (!unsigned) {
-            final int usize = size - 1;
-            writeInt(true, 1, value >> usize);
-            if (usize > 0) {
-                writeInt(true, usize, value);
-            }
-            return;
-        }
-        final int quotient = size / 16;
-        final int remainder = size % 16;
-        if (remainder > 0) {
-            unsigned16(remainder, value >> (quotient * 16));
-        }
-        for (int i = quotient - 1; i >= 0; i--) {
-            unsigned16(16, value >> (16 * i));
-        }
+        bits(size, value);
     }
 
     @Override
@@ -136,28 +150,160 @@ public abstract class AbstractBitOutput implements BitOutput, ByteOutput {
                           final long value)
             throws IOException {
         BitIoConstraints.requireValidSize(unsigned, 6, size);
-        if (!unsigned) {
-            final int usize = size - 1;
-            writeLong(true, 1, value >> usize);
-            if (usize > 0) {
-                writeLong(true, usize, value);
-            }
+        bits(size, value);
+    }
+
+    /**
+     * {@inheritDoc} The {@code writeInts(boolean, int, int[], int, int)}
+     * method of {@code AbstractBitOutput} class packs a chunk of values into
+     * 64-bit words and writes complete octets with
+     * {@link #write(byte[], int, int)}.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void writeInts(final boolean unsigned, final int size,
+                          final int[] array, int offset, int length)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 5, size);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int chunk = ((CHUNK_OCTETS - 1) << 3) / size;
+        while (length > 0) {
+            final int values = Math.min(length, chunk);
+            BitIoPacking.pack(words(), available, size, array, offset, values);
+            store(available + values * size);
+            offset += values;
+            length -= values;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code writeLongs(boolean, int, long[], int, int)}
+     * method of {@code AbstractBitOutput} class packs a chunk of values into
+     * 64-bit words and writes complete octets with
+     * {@link #write(byte[], int, int)}.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void writeLongs(final boolean unsigned, final int size,
+                           final long[] array, int offset, int length)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 6, size);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int chunk = ((CHUNK_OCTETS - 1) << 3) / size;
+        while (length > 0) {
+            final int values = Math.min(length, chunk);
+            BitIoPacking.pack(words(), available, size, array, offset, values);
+            store(available + values * size);
+            offset += values;
+            length -= values;
+        }
+    }
+
+    /**
+     * Returns {@link #bulkWords} whose first word starts with the bits pending
+     * in the register.
+     *
+     * @return the words for bulk writes.
+     */
+    private long[] words() {
+        if (bulkWords == null) {
+            bulkOctets = new byte[CHUNK_OCTETS];
+            bulkWords = new long[(CHUNK_OCTETS >> 3) + 1];
+        }
+        bulkWords[0] = available == 0 ? 0L : register << (64 - available);
+        return bulkWords;
+    }
+
+    /**
+     * Writes complete octets of given number of bits packed in
+     * {@link #bulkWords} and keeps the remaining bits in the register.
+     *
+     * @param bits the number of bits packed
+     * @throws IOException if an I/O error occurs.
+     */
+    private void store(final int bits) throws IOException {
+        final int octets = bits >> 3;
+        BitIoOctets.octets(bulkWords, bulkOctets, octets);
+        write(bulkOctets, 0, octets);
+        count += octets;
+        available = bits & 0x07;
+        register = bulkWords[octets >> 3] >>> (64 - ((octets & 7) << 3)
+                                                - available);
+    }
+
+    @Override
+    public void writeUnary(int value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("value(" + value + ") < 0");
+        }
+        for (; value >= 64; value -= 32) {
+            bits(32, 0L);
+        }
+        bits(value + 1, 1L);
+    }
+
+    /**
+     * Writes an Exp-Golomb code number.
+     *
+     * @param code the unsigned code number; not {@code -1L}.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void expGolomb(final long code) throws IOException {
+        final long value = code + 1L;
+        final int size = 64 - Long.numberOfLeadingZeros(value);
+        final int zeros = size - 1;
+        if (size + zeros <= 64) {
+            bits(size + zeros, value);
             return;
         }
-        final int quotient = size / 31;
-        final int remainder = size % 31;
-        if (remainder > 0) {
-            writeInt(true, remainder, (int) (value >> (quotient * 31)));
+        bits(zeros, 0L);
+        bits(size, value);
+    }
+
+    @Override
+    public void writeExpGolombInt(final boolean unsigned, final int value)
+            throws IOException {
+        if (unsigned) {
+            expGolomb(value & 0xFFFFFFFFL);
+            return;
         }
-        for (int i = quotient - 1; i >= 0; i--) {
-            writeInt(true, 31, (int) (value >> (i * 31)));
+        expGolomb(value > 0 ? ((long) value << 1) - 1L : -((long) value << 1));
+    }
+
+    @Override
+    public void writeExpGolombLong(final boolean unsigned, final long value)
+            throws IOException {
+        if (unsigned) {
+            if (value == -1L) {
+                throw new IllegalArgumentException(
+                        "unsigned value(" + value + ") == -1");
+            }
+            expGolomb(value);
+            return;
+        }
+        if (value == Long.MIN_VALUE) {
+            throw new IllegalArgumentException(
+                    "value(" + value + ") == Long.MIN_VALUE");
         }
+        expGolomb(value > 0L ? (value << 1) - 1L : -(value << 1));
     }
 
     @Override
     public void writeChar(final int size, final char value) throws IOException {
         BitIoConstraints.requireValidSizeChar(size);
-        unsigned16(size, value);
+        bits(size, value);
     }
 
     @Override
@@ -167,14 +313,14 @@ public abstract class AbstractBitOutput implements BitOutput, ByteOutput {
         }
         long bits = 0; // number of bits to be padded
         // pad remained bits into current octet
-        if (index > 0) {
-            bits += (8 - index);
-            unsigned8((int) bits, 0x00); // count incremented
+        if (available > 0) {
+            bits += (8 - available);
+            bits((int) bits, 0L); // count incremented
         }
         final long remainder = count % bytes;
         long octets = (remainder > 0 ? bytes : 0) - remainder;
         for (; octets > 0; octets--) {
-            unsigned8(8, 0x00);
+            bits(8, 0L);
             bits += 8;
         }
         return bits;
@@ -182,14 +328,35 @@ public abstract class AbstractBitOutput implements BitOutput, ByteOutput {
 
     // -------------------------------------------------------------------------
     /**
-     * bit flags.
+     * The maximum number of octets written at once for bulk writes.
+     */
+    private static final int CHUNK_OCTETS = 1024;
+
+    // -------------------------------------------------------------------------
+    /**
+     * A buffer for flushing multiple octets from the {@link #register}.
+     */
+    private final byte[] buffer = new byte[8];
+
+    /**
+     * A lazily created buffer of octets for bulk writes.
+     */
+    private byte[] bulkOctets;
+
+    /**
+     * Lazily created 64-bit words for bulk writes.
+     */
+    private long[] bulkWords;
+
+    /**
+     * The bit register; only the lower {@link #available} bits are pending.
      */
-    private final boolean[] flags = new boolean[8];
+    private long register = 0L;
 
     /**
-     * bit index to write.
+     * The number of bits pending in the {@link #register}.
      */
-    private int index = 0;
+    private int available = 0;
 
     /**
      * number of bytes written so far.
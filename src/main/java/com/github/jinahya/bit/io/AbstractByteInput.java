@@ -15,6 +15,8 @@
  */
 package com.github.jinahya.bit.io;
 
+import java.io.IOException;
+
 /**
  * An abstract class for implementing {@code ByteInput}.
  *
@@ -35,6 +37,41 @@ public abstract class AbstractByteInput<T> implements ByteInput {
         this.source = source;
     }
 
+    // -------------------------------------------------------------------------
+    /**
+     * Reads exactly {@code length} bytes into specified array starting at
+     * {@code offset}. The {@code read(byte[], int, int)} method of
+     * {@code AbstractByteInput} class invokes {@link #read()} for each byte.
+     * Subclasses are encouraged to override this method with a more efficient
+     * implementation.
+     *
+     * @param array the array into which bytes are read
+     * @param offset the starting index in the {@code array}
+     * @param length the number of bytes to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public void read(final byte[] array, final int offset, final int length)
+            throws IOException {
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = (byte) read();
+        }
+    }
+
+    /**
+     * Skips exactly {@code length} bytes. The {@code skipBytes(long)} method of
+     * {@code AbstractByteInput} class invokes {@link #read()} for each byte.
+     * Subclasses are encouraged to override this method with a more efficient
+     * implementation.
+     *
+     * @param length the number of bytes to skip; not negative.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void skipBytes(final long length) throws IOException {
+        for (long i = 0L; i < length; i++) {
+            read();
+        }
+    }
+
     // ------------------------------------------------------------------ source
     /**
      * Returns the current value of {@link #source}.
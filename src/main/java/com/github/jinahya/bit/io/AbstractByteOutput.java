@@ -15,6 +15,8 @@
  */
 package com.github.jinahya.bit.io;
 
+import java.io.IOException;
+
 /**
  * An abstract class for implementing {@code ByteOutput}.
  *
@@ -35,6 +37,26 @@ public abstract class AbstractByteOutput<T> implements ByteOutput {
         this.target = target;
     }
 
+    // -------------------------------------------------------------------------
+    /**
+     * Writes {@code length} bytes from specified array starting at
+     * {@code offset}. The {@code write(byte[], int, int)} method of
+     * {@code AbstractByteOutput} class invokes {@link #write(int)} for each
+     * byte. Subclasses are encouraged to override this method with a more
+     * efficient implementation.
+     *
+     * @param array the array from which bytes are written
+     * @param offset the starting index in the {@code array}
+     * @param length the number of bytes to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final byte[] array, final int offset, final int length)
+            throws IOException {
+        for (int i = offset, j = offset + length; i < j; i++) {
+            write(array[i]);
+        }
+    }
+
     // ------------------------------------------------------------------ target
     /**
      * Returns the current value of {@link #target}.
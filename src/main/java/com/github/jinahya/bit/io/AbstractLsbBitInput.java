@@ -0,0 +1,577 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+
+/**
+ * An abstract class for implementing {@link BitInput} in least significant
+ * bit first order, as used by DEFLATE and GIF. The first bit of a stream is
+ * the lowest bit of its first octet and each value is read from its least
+ * significant bit. This class is a separate implementation of
+ * {@link AbstractBitInput} so that neither bit order pays for the other.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see AbstractLsbBitOutput
+ */
+public abstract class AbstractLsbBitInput
+        implements PositionedBitInput, BulkBitInput, ExpGolombBitInput,
+                   UnaryBitInput, PeekableBitInput, ByteInput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Reads exactly {@code length} bytes into specified array starting at
+     * {@code offset}. The {@code read(byte[], int, int)} method of
+     * {@code AbstractLsbBitInput} class invokes {@link #read()} for each byte.
+     * Subclasses are encouraged to override this method with a more efficient
+     * implementation since the register is refilled with this method whenever
+     * more than one octet is required.
+     *
+     * @param array the array into which bytes are read
+     * @param offset the starting index in the {@code array}
+     * @param length the number of bytes to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public void read(final byte[] array, final int offset, final int length)
+            throws IOException {
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = (byte) read();
+        }
+    }
+
+    /**
+     * Skips exactly {@code length} bytes. The {@code skipBytes(long)} method of
+     * {@code AbstractLsbBitInput} class reads and discards bytes with
+     * {@link #read(byte[], int, int)}. Subclasses are encouraged to override
+     * this method with a more efficient implementation.
+     *
+     * @param length the number of bytes to skip; not negative.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void skipBytes(long length) throws IOException {
+        while (length > 0L) {
+            final int skipped = (int) Math.min(length, buffer.length);
+            read(buffer, 0, skipped);
+            length -= skipped;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Refills the register, which is supposed to be empty, with the number of
+     * octets required for given number of bits. The octets are placed at the
+     * top of the register.
+     *
+     * @param size the number of bits required; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void refill(final int size) throws IOException {
+        final int octets = (size + 7) >> 3;
+        if (octets == 1) {
+            register = (long) read() << 56;
+        } else {
+            read(buffer, 0, octets);
+            register = BitIoOctets.getLittleLong(buffer, 0, octets)
+                       << ((8 - octets) << 3);
+        }
+        available = octets << 3;
+        count += octets;
+    }
+
+    /**
+     * Reads an unsigned value of given number of bits from the register,
+     * refilling it if required.
+     *
+     * @param size the number of bits for the value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @return an unsigned value.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long bits(final int size) throws IOException {
+        if (size <= available) {
+            final long value = (register >>> (64 - available))
+                               & (-1L >>> (64 - size));
+            available -= size;
+            return value;
+        }
+        final int low = available;
+        final long value = low == 0 ? 0L : register >>> (64 - low);
+        final int high = size - low;
+        refill(high);
+        final long rest = (register >>> (64 - available))
+                          & (-1L >>> (64 - high));
+        available -= high;
+        return value | (rest << low);
+    }
+
+    /**
+     * Reads a value of given number of bits and sign-extends it if
+     * {@code unsigned} is {@code false}.
+     *
+     * @param unsigned a flag for unsigned value
+     * @param size the number of bits for the value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @return the value.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long bits(final boolean unsigned, final int size)
+            throws IOException {
+        final long value = bits(size);
+        if (unsigned) {
+            return value;
+        }
+        final int shift = 64 - size;
+        return (value << shift) >> shift;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return bits(1) == 1L;
+    }
+
+    @Override
+    public byte readByte(final boolean unsigned, final int size)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 3, size);
+        return (byte) bits(unsigned, size);
+    }
+
+    @Override
+    public short readShort(final boolean unsigned, final int size)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 4, size);
+        return (short) bits(unsigned, size);
+    }
+
+    @Override
+    public int readInt(final boolean unsigned, final int size)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 5, size);
+        return (int) bits(unsigned, size);
+    }
+
+    @Override
+    public long readLong(final boolean unsigned, final int size)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 6, size);
+        return bits(unsigned, size);
+    }
+
+    /**
+     * {@inheritDoc} The {@code readInts(boolean, int, int[], int, int)} method
+     * of {@code AbstractLsbBitInput} class reads whole octets for a chunk of
+     * values with {@link #read(byte[], int, int)} and unpacks them as
+     * little-endian 64-bit words.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void readInts(final boolean unsigned, final int size,
+                         final int[] array, int offset, int length)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 5, size);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int chunk = (CHUNK_OCTETS << 3) / size;
+        while (length > 0) {
+            final int values = Math.min(length, chunk);
+            final int bits = values * size;
+            if (bits <= available) {
+                for (int i = offset, j = offset + values; i < j; i++) {
+                    array[i] = (int) bits(unsigned, size);
+                }
+            } else {
+                final long start = load(bits);
+                BitIoLsbPacking.unpack(bulkWords, start, unsigned, size, array,
+                                       offset, values);
+            }
+            offset += values;
+            length -= values;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code readLongs(boolean, int, long[], int, int)}
+     * method of {@code AbstractLsbBitInput} class reads whole octets for a
+     * chunk of values with {@link #read(byte[], int, int)} and unpacks them as
+     * little-endian 64-bit words.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void readLongs(final boolean unsigned, final int size,
+                          final long[] array, int offset, int length)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 6, size);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int chunk = (CHUNK_OCTETS << 3) / size;
+        while (length > 0) {
+            final int values = Math.min(length, chunk);
+            final int bits = values * size;
+            if (bits <= available) {
+                for (int i = offset, j = offset + values; i < j; i++) {
+                    array[i] = bits(unsigned, size);
+                }
+            } else {
+                final long start = load(bits);
+                BitIoLsbPacking.unpack(bulkWords, start, unsigned, size, array,
+                                       offset, values);
+            }
+            offset += values;
+            length -= values;
+        }
+    }
+
+    /**
+     * Loads given number of bits, which is more than currently available, into
+     * {@link #bulkWords}. Bits left in the register come first, at the top of
+     * the first word, and following octets are read with
+     * {@link #read(byte[], int, int)}. Bits of the last octet beyond
+     * {@code bits} are left in the register.
+     *
+     * @param bits the number of bits to load; between {@code available + 1}
+     * and {@code CHUNK_OCTETS * 8}, both inclusive.
+     * @return the index of the first bit in {@link #bulkWords}.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long load(final int bits) throws IOException {
+        if (bulkOctets == null) {
+            bulkOctets = new byte[CHUNK_OCTETS];
+            bulkWords = new long[(CHUNK_OCTETS >> 3) + 2];
+        }
+        final int length = (bits - available + 7) >> 3;
+        read(bulkOctets, 0, length);
+        count += length;
+        bulkWords[0] = register;
+        BitIoOctets.littleWords(bulkOctets, length, bulkWords, 1);
+        final long start = 64 - available;
+        available += (length << 3) - bits;
+        register = (long) bulkOctets[length - 1] << 56;
+        return start;
+    }
+
+    /**
+     * Reads a run of zero bits terminated by a one bit, which is also
+     * consumed, with trailing-zero counts over the register.
+     *
+     * @param limit the maximum number of zeros
+     * @return the number of zeros.
+     * @throws IOException if an I/O error occurs or there are more than
+     * {@code limit} zeros.
+     */
+    private int zeros(final int limit) throws IOException {
+        int zeros = 0;
+        while (true) {
+            if (available == 0) {
+                refill(1);
+            }
+            final long bits = register >>> (64 - available);
+            if (bits != 0L) {
+                final int trailing = Long.numberOfTrailingZeros(bits);
+                available -= trailing + 1;
+                zeros += trailing;
+                break;
+            }
+            zeros += available;
+            available = 0;
+            if (zeros > limit) {
+                break;
+            }
+        }
+        if (zeros > limit) {
+            throw new IOException("zeros(" + zeros + ") > " + limit);
+        }
+        return zeros;
+    }
+
+    /**
+     * Reads an Exp-Golomb code number; the leading zeros, the one bit and the
+     * remaining bits of the code number plus one, as a value.
+     *
+     * @param limit the maximum number of leading zeros; {@code 63} at most.
+     * @return an unsigned code number.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long expGolomb(final int limit) throws IOException {
+        final int zeros = zeros(limit);
+        if (zeros == 0) {
+            return 0L;
+        }
+        return (1L << zeros) - 1L + bits(zeros);
+    }
+
+    /**
+     * Makes sure the register holds at least given number of bits, appending
+     * whole octets above the bits already available, and returns them. Octets
+     * are appended one by one so that an end of stream leaves every octet read
+     * in the register; missing bits are then filled with zeros and counted in
+     * {@link #padding}. Both {@link EOFException} and
+     * {@link BufferUnderflowException} are taken as the end of the stream.
+     *
+     * @param size the number of bits to peek; between {@code 1} and
+     * {@code 57}, both inclusive.
+     * @return an unsigned value of the next {@code size} bits.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long peek(final int size) throws IOException {
+        if (size > available && !eof) {
+            long bits = available == 0 ? 0L : register >>> (64 - available);
+            do {
+                final long value;
+                try {
+                    value = read();
+                } catch (final EOFException eofe) {
+                    eof = true;
+                    break;
+                } catch (final BufferUnderflowException bue) {
+                    eof = true; // buffer sources end this way
+                    break;
+                }
+                bits |= value << available;
+                available += 8;
+                count++;
+            } while (size > available);
+            register = available == 0 ? 0L : bits << (64 - available);
+        }
+        if (size > available) {
+            padding = size - available;
+            return available == 0 ? 0L : register >>> (64 - available);
+        }
+        padding = 0;
+        return (register >>> (64 - available)) & (-1L >>> (64 - size));
+    }
+
+    /**
+     * {@inheritDoc} The bits peeked by an {@code AbstractLsbBitInput} are in
+     * the reverse order of the value {@link #readInt(boolean, int)} returns
+     * for them; prefix codes which DEFLATE packs from their most significant
+     * bit, such as {@link Huffman} codes, are looked up as they are.
+     *
+     * @param size {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public int peekInt(final int size) throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (size > 32) {
+            throw new IllegalArgumentException("size(" + size + ") > 32");
+        }
+        return (int) (Long.reverse(peek(size)) >>> (64 - size));
+    }
+
+    /**
+     * {@inheritDoc} The bits peeked by an {@code AbstractLsbBitInput} are in
+     * the reverse order of the value {@link #readLong(boolean, int)} returns
+     * for them.
+     *
+     * @param size {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public long peekLong(final int size) throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (size > 57) {
+            throw new IllegalArgumentException("size(" + size + ") > 57");
+        }
+        return Long.reverse(peek(size)) >>> (64 - size);
+    }
+
+    @Override
+    public int padding() {
+        return padding;
+    }
+
+    @Override
+    public void consume(final int size) throws IOException {
+        if (size < 0) {
+            throw new IllegalArgumentException("size(" + size + ") < 0");
+        }
+        if (size <= available) {
+            available -= size;
+            return;
+        }
+        if (eof) {
+            throw new EOFException(
+                    "size(" + size + ") > available(" + available + ")");
+        }
+        discard(size);
+    }
+
+    @Override
+    public int readUnary() throws IOException {
+        return zeros(Integer.MAX_VALUE - 64);
+    }
+
+    @Override
+    public int readExpGolombInt(final boolean unsigned) throws IOException {
+        final long code = expGolomb(32);
+        if (unsigned) {
+            if (code > 0xFFFFFFFFL) {
+                throw new IOException("code(" + code + ") > " + 0xFFFFFFFFL);
+            }
+            return (int) code;
+        }
+        final long value = (code & 1L) == 1L
+                           ? (code >>> 1) + 1L : -(code >>> 1);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException(
+                    "value(" + value + ") > " + Integer.MAX_VALUE);
+        }
+        if (value < Integer.MIN_VALUE) {
+            throw new IOException(
+                    "value(" + value + ") < " + Integer.MIN_VALUE);
+        }
+        return (int) value;
+    }
+
+    @Override
+    public long readExpGolombLong(final boolean unsigned) throws IOException {
+        final long code = expGolomb(63);
+        if (unsigned) {
+            return code;
+        }
+        return (code & 1L) == 1L ? (code >>> 1) + 1L : -(code >>> 1);
+    }
+
+    @Override
+    public char readChar(final int size) throws IOException {
+        BitIoConstraints.requireValidSizeChar(size);
+        return (char) bits(size);
+    }
+
+    @Override
+    public long align(final int bytes) throws IOException {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("bytes(" + bytes + ") <= 0");
+        }
+        // discard remained bits in current octet.
+        long bits = available & 0x07; // number of bits to be discarded
+        available -= bits;
+        // octets left in the register are not consumed yet
+        final long remainder = (count - (available >> 3)) % bytes;
+        final long octets = (remainder > 0 ? bytes : 0) - remainder;
+        if (octets > 0L) {
+            discard(octets << 3);
+            bits += octets << 3;
+        }
+        return bits;
+    }
+
+    @Override
+    public long position() {
+        return (count << 3) - available;
+    }
+
+    @Override
+    public void skip(final long bits) throws IOException {
+        if (bits < 0L) {
+            throw new IllegalArgumentException("bits(" + bits + ") < 0");
+        }
+        discard(bits);
+    }
+
+    /**
+     * Discards specified number of bits. Bits in the register are discarded
+     * first and whole octets beyond are skipped with {@link #skipBytes(long)}.
+     *
+     * @param bits the number of bits to discard; not negative.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void discard(long bits) throws IOException {
+        if (bits <= available) {
+            available -= (int) bits;
+            return;
+        }
+        bits -= available;
+        available = 0;
+        final long octets = bits >> 3;
+        if (octets > 0L) {
+            skipBytes(octets);
+            count += octets;
+        }
+        final int remainder = (int) (bits & 0x07);
+        if (remainder > 0) {
+            bits(remainder);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The maximum number of octets read at once for bulk reads.
+     */
+    private static final int CHUNK_OCTETS = 1024;
+
+    // -------------------------------------------------------------------------
+    /**
+     * A buffer for refilling the {@link #register} with multiple octets.
+     */
+    private final byte[] buffer = new byte[8];
+
+    /**
+     * A lazily created buffer of octets for bulk reads.
+     */
+    private byte[] bulkOctets;
+
+    /**
+     * Lazily created little-endian 64-bit words assembled from
+     * {@link #bulkOctets}.
+     */
+    private long[] bulkWords;
+
+    /**
+     * The bit register; only the upper {@link #available} bits are valid and
+     * the next bit is the lowest of them.
+     */
+    private long register = 0L;
+
+    /**
+     * The number of bits available in the {@link #register}.
+     */
+    private int available = 0;
+
+    /**
+     * The number of bytes read so far.
+     */
+    private long count = 0L;
+
+    /**
+     * A flag set when {@link #peek(int)} reaches the end of the byte source.
+     */
+    private boolean eof = false;
+
+    /**
+     * The number of zero bits padded by the last {@link #peek(int)}.
+     */
+    private int padding = 0;
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * An abstract class for implementing {@link BitOutput} in least significant
+ * bit first order, as used by DEFLATE and GIF. The first bit of a stream is
+ * the lowest bit of its first octet and each value is written from its least
+ * significant bit. This class is a separate implementation of
+ * {@link AbstractBitOutput} so that neither bit order pays for the other.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see AbstractLsbBitInput
+ */
+public abstract class AbstractLsbBitOutput
+        implements BulkBitOutput, ExpGolombBitOutput, UnaryBitOutput,
+                   ByteOutput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Writes {@code length} bytes from specified array starting at
+     * {@code offset}. The {@code write(byte[], int, int)} method of
+     * {@code AbstractLsbBitOutput} class invokes {@link #write(int)} for each
+     * byte. Subclasses are encouraged to override this method with a more
+     * efficient implementation since the register is flushed with this method
+     * whenever more than one octet is complete.
+     *
+     * @param array the array from which bytes are written
+     * @param offset the starting index in the {@code array}
+     * @param length the number of bytes to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final byte[] array, final int offset, final int length)
+            throws IOException {
+        for (int i = offset, j = offset + length; i < j; i++) {
+            write(array[i]);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Writes the lower specified number of bits of given value into the
+     * register and writes out all complete octets.
+     *
+     * @param size the number of lower bits to write; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @param value the value to write
+     * @throws IOException if an I/O error occurs.
+     */
+    private void bits(final int size, final long value) throws IOException {
+        if (size > 56) {
+            bits(32, value);
+            bits(size - 32, value >>> 32);
+            return;
+        }
+        register |= (value & (-1L >>> (64 - size))) << available;
+        available += size;
+        if (available < 8) {
+            return;
+        }
+        final int octets = available >> 3;
+        if (octets == 1) {
+            write((int) register & 0xFF);
+            count++;
+            register >>>= 8;
+            available -= 8;
+            return;
+        }
+        for (int i = 0; i < octets; i++) {
+            buffer[i] = (byte) register;
+            register >>>= 8;
+        }
+        available -= octets << 3;
+        write(buffer, 0, octets);
+        count += octets;
+    }
+
+    @Override
+    public void writeBoolean(final boolean value) throws IOException {
+        bits(1, value ? 1L : 0L);
+    }
+
+    @Override
+    public void writeByte(final boolean unsigned, final int size,
+                          final byte value)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 3, size);
+        bits(size, value);
+    }
+
+    @Override
+    public void writeShort(final boolean unsigned, final int size,
+                           final short value)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 4, size);
+        bits(size, value);
+    }
+
+    @Override
+    public void writeInt(final boolean unsigned, final int size,
+                         final int value)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 5, size);
+        bits(size, value);
+    }
+
+    @Override
+    public void writeLong(final boolean unsigned, final int size,
+                          final long value)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 6, size);
+        bits(size, value);
+    }
+
+    /**
+     * {@inheritDoc} The {@code writeInts(boolean, int, int[], int, int)}
+     * method of {@code AbstractLsbBitOutput} class packs a chunk of values
+     * into little-endian 64-bit words and writes complete octets with
+     * {@link #write(byte[], int, int)}.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void writeInts(final boolean unsigned, final int size,
+                          final int[] array, int offset, int length)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 5, size);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int chunk = ((CHUNK_OCTETS - 1) << 3) / size;
+        while (length > 0) {
+            final int values = Math.min(length, chunk);
+            BitIoLsbPacking.pack(words(), available, size, array, offset,
+                                 values);
+            store(available + values * size);
+            offset += values;
+            length -= values;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code writeLongs(boolean, int, long[], int, int)}
+     * method of {@code AbstractLsbBitOutput} class packs a chunk of values
+     * into little-endian 64-bit words and writes complete octets with
+     * {@link #write(byte[], int, int)}.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void writeLongs(final boolean unsigned, final int size,
+                           final long[] array, int offset, int length)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 6, size);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int chunk = ((CHUNK_OCTETS - 1) << 3) / size;
+        while (length > 0) {
+            final int values = Math.min(length, chunk);
+            BitIoLsbPacking.pack(words(), available, size, array, offset,
+                                 values);
+            store(available + values * size);
+            offset += values;
+            length -= values;
+        }
+    }
+
+    /**
+     * Returns {@link #bulkWords} whose first word starts with the bits pending
+     * in the register.
+     *
+     * @return the words for bulk writes.
+     */
+    private long[] words() {
+        if (bulkWords == null) {
+            bulkOctets = new byte[CHUNK_OCTETS];
+            bulkWords = new long[(CHUNK_OCTETS >> 3) + 1];
+        }
+        bulkWords[0] = register;
+        return bulkWords;
+    }
+
+    /**
+     * Writes complete octets of given number of bits packed in
+     * {@link #bulkWords} and keeps the remaining bits in the register.
+     *
+     * @param bits the number of bits packed
+     * @throws IOException if an I/O error occurs.
+     */
+    private void store(final int bits) throws IOException {
+        final int octets = bits >> 3;
+        BitIoOctets.littleOctets(bulkWords, bulkOctets, octets);
+        write(bulkOctets, 0, octets);
+        count += octets;
+        available = bits & 0x07;
+        register = (bulkWords[octets >> 3] >>> ((octets & 7) << 3))
+                   & ~(-1L << available);
+    }
+
+    @Override
+    public void writeUnary(int value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("value(" + value + ") < 0");
+        }
+        for (; value >= 64; value -= 32) {
+            bits(32, 0L);
+        }
+        bits(value + 1, 1L << value);
+    }
+
+    /**
+     * Writes an Exp-Golomb code number; the leading zeros, the one bit and the
+     * remaining bits of the code number plus one, as a value.
+     *
+     * @param code the unsigned code number; not {@code -1L}.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void expGolomb(final long code) throws IOException {
+        final long value = code + 1L;
+        final int zeros = 63 - Long.numberOfLeadingZeros(value);
+        if (zeros == 0) {
+            bits(1, 1L);
+            return;
+        }
+        final long rest = value & ~(-1L << zeros);
+        if ((zeros << 1) + 1 <= 64) {
+            bits((zeros << 1) + 1, (rest << (zeros + 1)) | (1L << zeros));
+            return;
+        }
+        bits(zeros + 1, 1L << zeros);
+        bits(zeros, rest);
+    }
+
+    @Override
+    public void writeExpGolombInt(final boolean unsigned, final int value)
+            throws IOException {
+        if (unsigned) {
+            expGolomb(value & 0xFFFFFFFFL);
+            return;
+        }
+        expGolomb(value > 0 ? ((long) value << 1) - 1L : -((long) value << 1));
+    }
+
+    @Override
+    public void writeExpGolombLong(final boolean unsigned, final long value)
+            throws IOException {
+        if (unsigned) {
+            if (value == -1L) {
+                throw new IllegalArgumentException(
+                        "unsigned value(" + value + ") == -1");
+            }
+            expGolomb(value);
+            return;
+        }
+        if (value == Long.MIN_VALUE) {
+            throw new IllegalArgumentException(
+                    "value(" + value + ") == Long.MIN_VALUE");
+        }
+        expGolomb(value > 0L ? (value << 1) - 1L : -(value << 1));
+    }
+
+    @Override
+    public void writeChar(final int size, final char value) throws IOException {
+        BitIoConstraints.requireValidSizeChar(size);
+        bits(size, value);
+    }
+
+    @Override
+    public long align(final int bytes) throws IOException {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("bytes(" + bytes + ") <= 0");
+        }
+        long bits = 0; // number of bits to be padded
+        // pad remained bits into current octet
+        if (available > 0) {
+            bits += (8 - available);
+            bits((int) bits, 0L); // count incremented
+        }
+        final long remainder = count % bytes;
+        long octets = (remainder > 0 ? bytes : 0) - remainder;
+        for (; octets > 0; octets--) {
+            bits(8, 0L);
+            bits += 8;
+        }
+        return bits;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The maximum number of octets written at once for bulk writes.
+     */
+    private static final int CHUNK_OCTETS = 1024;
+
+    // -------------------------------------------------------------------------
+    /**
+     * A buffer for flushing multiple octets from the {@link #register}.
+     */
+    private final byte[] buffer = new byte[8];
+
+    /**
+     * A lazily created buffer of octets for bulk writes.
+     */
+    private byte[] bulkOctets;
+
+    /**
+     * Lazily created little-endian 64-bit words for bulk writes.
+     */
+    private long[] bulkWords;
+
+    /**
+     * The bit register; only the lower {@link #available} bits are pending
+     * and the next bit is written above them.
+     */
+    private long register = 0L;
+
+    /**
+     * The number of bits pending in the {@link #register}.
+     */
+    private int available = 0;
+
+    /**
+     * number of bytes written so far.
+     */
+    private long count = 0L;
+}
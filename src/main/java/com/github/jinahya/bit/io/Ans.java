@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+/**
+ * Frequency tables for asymmetric numeral system coders, {@link Rans} and
+ * {@link Tans}. A normalized frequency table has a non-negative frequency for
+ * each symbol of an alphabet and a total which is a power of two.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class Ans {
+
+    /**
+     * The maximum number of interleaved states.
+     */
+    public static final int MAX_WAYS = 4;
+
+    /**
+     * Counts the occurrences of each symbol.
+     *
+     * @param symbols an array of symbols
+     * @param offset the starting index in {@code symbols}
+     * @param length the number of symbols to count
+     * @param alphabet the number of symbols in the alphabet; positive.
+     * @return an array of {@code alphabet} counts.
+     */
+    public static int[] histogram(final int[] symbols, final int offset,
+                                  final int length, final int alphabet) {
+        BitIoConstraints.requireValidRange(symbols.length, offset, length);
+        if (alphabet < 1) {
+            throw new IllegalArgumentException(
+                    "alphabet(" + alphabet + ") < 1");
+        }
+        final int[] histogram = new int[alphabet];
+        for (int i = offset, j = offset + length; i < j; i++) {
+            final int symbol = symbols[i];
+            if (symbol < 0 || symbol >= alphabet) {
+                throw new IllegalArgumentException(
+                        "symbols[" + i + "](" + symbol + ") is out of [0, "
+                        + alphabet + ")");
+            }
+            histogram[symbol]++;
+        }
+        return histogram;
+    }
+
+    /**
+     * Scales specified histogram to frequencies whose total is
+     * {@code 1 << log}. Every symbol which occurred keeps a frequency of at
+     * least {@code 1}; rounding errors are taken from, or given to, the most
+     * frequent symbols.
+     *
+     * @param histogram the counts of symbols
+     * @param log the binary logarithm of the total; between {@code 1} and
+     * {@code 16}, both inclusive.
+     * @return an array of normalized frequencies.
+     */
+    public static int[] normalize(final int[] histogram, final int log) {
+        if (log < 1) {
+            throw new IllegalArgumentException("log(" + log + ") < 1");
+        }
+        if (log > 16) {
+            throw new IllegalArgumentException("log(" + log + ") > 16");
+        }
+        final int total = 1 << log;
+        long sum = 0L;
+        int occurred = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] < 0) {
+                throw new IllegalArgumentException(
+                        "histogram[" + i + "](" + histogram[i] + ") < 0");
+            }
+            if (histogram[i] > 0) {
+                sum += histogram[i];
+                occurred++;
+            }
+        }
+        if (occurred == 0) {
+            throw new IllegalArgumentException("no symbol occurred");
+        }
+        if (occurred > total) {
+            throw new IllegalArgumentException(
+                    "occurred(" + occurred + ") > total(" + total + ")");
+        }
+        final int[] frequencies = new int[histogram.length];
+        int assigned = 0;
+        int largest = -1;
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] == 0) {
+                continue;
+            }
+            frequencies[i] = (int) Math.max(
+                    1L, (histogram[i] * (long) total + (sum >> 1)) / sum);
+            assigned += frequencies[i];
+            if (largest == -1 || frequencies[i] > frequencies[largest]) {
+                largest = i;
+            }
+        }
+        if (assigned < total) {
+            frequencies[largest] += total - assigned;
+        }
+        for (int excess = assigned - total; excess > 0;) {
+            for (int i = 0; i < frequencies.length; i++) {
+                if (frequencies[i] > frequencies[largest]) {
+                    largest = i;
+                }
+            }
+            final int taken = Math.min(excess, frequencies[largest] - 1);
+            frequencies[largest] -= taken;
+            excess -= taken;
+        }
+        return frequencies;
+    }
+
+    /**
+     * Returns the binary logarithm of the total of specified frequencies.
+     *
+     * @param frequencies the normalized frequencies
+     * @param min the minimum logarithm allowed
+     * @param max the maximum logarithm allowed
+     * @return the binary logarithm of the total.
+     */
+    static int log(final int[] frequencies, final int min, final int max) {
+        long total = 0L;
+        for (int i = 0; i < frequencies.length; i++) {
+            if (frequencies[i] < 0) {
+                throw new IllegalArgumentException(
+                        "frequencies[" + i + "](" + frequencies[i] + ") < 0");
+            }
+            total += frequencies[i];
+        }
+        if (total == 0L || (total & (total - 1L)) != 0L) {
+            throw new IllegalArgumentException(
+                    "total(" + total + ") is not a power of two");
+        }
+        final int log = Long.numberOfTrailingZeros(total);
+        if (log < min) {
+            throw new IllegalArgumentException(
+                    "total(" + total + ") < " + (1 << min));
+        }
+        if (log > max) {
+            throw new IllegalArgumentException(
+                    "total(" + total + ") > " + (1 << max));
+        }
+        return log;
+    }
+
+    static void requireValidWays(final int ways) {
+        if (ways < 1) {
+            throw new IllegalArgumentException("ways(" + ways + ") < 1");
+        }
+        if (ways > MAX_WAYS) {
+            throw new IllegalArgumentException(
+                    "ways(" + ways + ") > " + MAX_WAYS);
+        }
+    }
+
+    private Ans() {
+        super();
+    }
+}
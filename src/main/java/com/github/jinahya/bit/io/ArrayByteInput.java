@@ -15,6 +15,7 @@
  */
 package com.github.jinahya.bit.io;
 
+import java.io.EOFException;
 import java.io.IOException;
 
 /**
@@ -41,26 +42,87 @@ public class ArrayByteInput extends AbstractByteInput<byte[]> {
     }
 
     // -------------------------------------------------------------------------
+    /**
+     * Invoked by {@link #read()} when {@link #index} has reached
+     * {@link #limit}. The {@code underflow()} method of {@code ArrayByteInput}
+     * class throws an {@link EOFException} so that bit inputs take it as the
+     * end of the stream. Override this method to adjust {@link #source},
+     * {@link #index}, or {@link #limit} instead; an {@link EOFException} is
+     * still thrown if no octet is available afterwards.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    protected void underflow() throws IOException {
+        throw new EOFException("index(" + index + ") >= limit(" + limit + ")");
+    }
+
     /**
      * {@inheritDoc} The {@code read()} method of {@code ArrayByteInput} class
      * returns {@code source[index++]} as an unsigned 8-bit value. Override this
-     * method if either {@link #source}, {@link #index}, or {@link #limit} needs
-     * to be lazily initialized or adjusted.
+     * method, or {@link #underflow()}, if either {@link #source},
+     * {@link #index}, or {@link #limit} needs to be lazily initialized or
+     * adjusted.
      *
      * @return {@inheritDoc}
+     * @throws EOFException if {@link #index} is equal to or greater than
+     * {@link #limit} even after {@link #underflow()} is invoked.
      * @throws IOException {@inheritDoc}
-     * @throws IllegalStateException if {@link #index} is equal to or greater
-     * than {@link #limit}
      */
     @Override
     public int read() throws IOException {
         if (index >= limit) {
-            throw new IllegalStateException(
-                    "index(" + index + ") >= limit(" + limit + ")");
+            underflow();
+            if (index >= limit) {
+                throw new EOFException(
+                        "index(" + index + ") >= limit(" + limit + ")");
+            }
         }
         return source[index++] & 0xFF;
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of
+     * {@code ArrayByteInput} class copies bytes from {@link #source} with
+     * {@link System#arraycopy(Object, int, Object, int, int)}. When fewer than
+     * {@code length} bytes remain before {@link #limit} this method falls back
+     * to invoking {@link #read()} for each byte so that an overridden
+     * {@link #read()} may adjust the {@link #source}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, final int offset, final int length)
+            throws IOException {
+        if (source == null || limit - index < length) {
+            super.read(array, offset, length);
+            return;
+        }
+        System.arraycopy(source, index, array, offset, length);
+        index += length;
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of
+     * {@code ArrayByteInput} class simply advances {@link #index}. When fewer
+     * than {@code length} bytes remain before {@link #limit} this method falls
+     * back to invoking {@link #read()} for each byte so that an overridden
+     * {@link #read()} may adjust the {@link #source}.
+     *
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skipBytes(final long length) throws IOException {
+        if (source == null || limit - index < length) {
+            super.skipBytes(length);
+            return;
+        }
+        index += (int) length;
+    }
+
     // ------------------------------------------------------------------ source
     @Override
     public ArrayByteInput source(final byte[] target) {
@@ -60,6 +60,30 @@ public class ArrayByteOutput extends AbstractByteOutput<byte[]> {
         target[index++] = (byte) value;
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of
+     * {@code ArrayByteOutput} class copies bytes to {@link #target} with
+     * {@link System#arraycopy(Object, int, Object, int, int)}. When fewer than
+     * {@code length} bytes remain before {@link #limit} this method falls back
+     * to invoking {@link #write(int)} for each byte so that an overridden
+     * {@link #write(int)} may adjust the {@link #target}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] array, final int offset, final int length)
+            throws IOException {
+        if (target == null || limit - index < length) {
+            super.write(array, offset, length);
+            return;
+        }
+        System.arraycopy(array, offset, target, index, length);
+        index += length;
+    }
+
     // ------------------------------------------------------------------ target
     /**
      * Replaces the {@link #target} with given and returns self.
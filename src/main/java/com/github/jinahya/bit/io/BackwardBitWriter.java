@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.util.Arrays;
+
+/**
+ * A writer of bits which are to be read backward, last bit first, by
+ * {@link ReverseBitInput}. Coders which encode in reverse order, such as
+ * {@link Rans} and {@link Tans}, push bits with this class so that their
+ * decoders pop them in forward order.
+ * <p>
+ * Bits are packed most significant bit first into octets, as
+ * {@link BitOutput} does, and {@link #finish()} appends a sentinel {@code 1}
+ * bit followed by zero bits up to an octet boundary so that the reader can
+ * find where the bits end.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class BackwardBitWriter {
+
+    /**
+     * Creates a new instance.
+     */
+    public BackwardBitWriter() {
+        this(64);
+    }
+
+    /**
+     * Creates a new instance with specified initial capacity in octets.
+     *
+     * @param capacity the initial capacity; positive.
+     */
+    public BackwardBitWriter(final int capacity) {
+        super();
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "capacity(" + capacity + ") < 1");
+        }
+        array = new byte[capacity];
+    }
+
+    /**
+     * Writes the lower {@code size} bits of specified value.
+     *
+     * @param size the number of bits to write; between {@code 0} and
+     * {@code 57}, both inclusive.
+     * @param value the value to write
+     */
+    public void write(final int size, final long value) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size(" + size + ") < 0");
+        }
+        if (size > 57) {
+            throw new IllegalArgumentException("size(" + size + ") > 57");
+        }
+        register = (register << size) | (value & ~(-1L << size));
+        available += size;
+        if (available >= 8) {
+            if (length + 8 > array.length) {
+                array = Arrays.copyOf(array, Math.max(array.length << 1, 16));
+            }
+            do {
+                available -= 8;
+                array[length++] = (byte) (register >>> available);
+            } while (available >= 8);
+        }
+    }
+
+    /**
+     * Writes the sentinel bit, pads to an octet boundary and returns the
+     * octets written. This writer is reset afterwards.
+     *
+     * @return an array of octets.
+     */
+    public byte[] finish() {
+        write(8 - available, 1L << (7 - available));
+        final byte[] octets = Arrays.copyOf(array, length);
+        length = 0;
+        return octets;
+    }
+
+    /**
+     * Returns the number of bits written since the last {@link #finish()}.
+     *
+     * @return the number of bits written.
+     */
+    public long size() {
+        return ((long) length << 3) + available;
+    }
+
+    // -------------------------------------------------------------------------
+    private byte[] array;
+
+    /**
+     * The number of octets in {@link #array}.
+     */
+    private int length = 0;
+
+    /**
+     * The bit register; only the lower {@link #available} bits are pending.
+     */
+    private long register = 0L;
+
+    /**
+     * The number of bits pending in {@link #register}; less than {@code 8}
+     * between invocations.
+     */
+    private int available = 0;
+}
@@ -16,6 +16,9 @@
 package com.github.jinahya.bit.io;
 
 import static java.lang.Math.pow;
+import java.nio.channels.Channel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
 
 /**
  * A class for constraints.
@@ -86,6 +89,36 @@ final class BitIoConstraints {
         return requireValidSizeUnsigned16(size);
     }
 
+    static void requireValidRange(final int capacity, final int offset,
+                                  final int length) {
+        if (offset < 0) {
+            throw new IndexOutOfBoundsException("offset(" + offset + ") < 0");
+        }
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("length(" + length + ") < 0");
+        }
+        if (offset > capacity - length) {
+            throw new IndexOutOfBoundsException(
+                    "offset(" + offset + ") + length(" + length
+                    + ") > capacity(" + capacity + ")");
+        }
+    }
+
+    /**
+     * Checks that specified channel, which just transferred no bytes, is not a
+     * selectable channel in non-blocking mode.
+     *
+     * @param channel the channel to check
+     * @throws IllegalBlockingModeException if the channel is in non-blocking
+     * mode.
+     */
+    static void requireBlocking(final Channel channel) {
+        if (channel instanceof SelectableChannel
+            && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalBlockingModeException();
+        }
+    }
+
     private BitIoConstraints() {
         super();
     }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+/**
+ * A class for packing/unpacking fixed-width values, least significant bit
+ * first, to/from little-endian 64-bit words.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+final class BitIoLsbPacking {
+
+    /**
+     * Unpacks fixed-width values from words into an int array.
+     *
+     * @param words the words; bit {@code 0} is the lowest bit of
+     * {@code words[0]}.
+     * @param bit the bit index of the first value in {@code words}
+     * @param unsigned a flag for unsigned values
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param dst the int array
+     * @param offset the starting index in {@code dst}
+     * @param length the number of values to unpack
+     */
+    static void unpack(final long[] words, long bit, final boolean unsigned,
+                       final int size, final int[] dst, final int offset,
+                       final int length) {
+        final int shift = 64 - size;
+        if (unsigned) {
+            final long mask = -1L >>> shift;
+            for (int i = offset, j = offset + length; i < j; i++) {
+                dst[i] = (int) (word(words, bit, size) & mask);
+                bit += size;
+            }
+        } else {
+            for (int i = offset, j = offset + length; i < j; i++) {
+                dst[i] = (int) ((word(words, bit, size) << shift) >> shift);
+                bit += size;
+            }
+        }
+    }
+
+    /**
+     * Unpacks fixed-width values from words into a long array.
+     *
+     * @param words the words; bit {@code 0} is the lowest bit of
+     * {@code words[0]}.
+     * @param bit the bit index of the first value in {@code words}
+     * @param unsigned a flag for unsigned values
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @param dst the long array
+     * @param offset the starting index in {@code dst}
+     * @param length the number of values to unpack
+     */
+    static void unpack(final long[] words, long bit, final boolean unsigned,
+                       final int size, final long[] dst, final int offset,
+                       final int length) {
+        final int shift = 64 - size;
+        if (unsigned) {
+            final long mask = -1L >>> shift;
+            for (int i = offset, j = offset + length; i < j; i++) {
+                dst[i] = word(words, bit, size) & mask;
+                bit += size;
+            }
+        } else {
+            for (int i = offset, j = offset + length; i < j; i++) {
+                dst[i] = (word(words, bit, size) << shift) >> shift;
+                bit += size;
+            }
+        }
+    }
+
+    /**
+     * Packs the lower {@code size} bits of each value of an int array into
+     * words. Bits of {@code words[bit / 64]} prior to {@code bit} are kept and
+     * those following the last value are cleared.
+     *
+     * @param words the words; bit {@code 0} is the lowest bit of
+     * {@code words[0]}.
+     * @param bit the bit index in {@code words} for the first value
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param src the int array
+     * @param offset the starting index in {@code src}
+     * @param length the number of values to pack
+     */
+    static void pack(final long[] words, final long bit, final int size,
+                     final int[] src, final int offset, final int length) {
+        final long mask = -1L >>> (64 - size);
+        int index = (int) (bit >>> 6);
+        int used = (int) (bit & 63);
+        long word = words[index] & ~(-1L << used);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            final long value = src[i] & mask;
+            word |= value << used;
+            used += size;
+            if (used < 64) {
+                continue;
+            }
+            used -= 64;
+            words[index++] = word;
+            word = used == 0 ? 0L : value >>> (size - used);
+        }
+        words[index] = word;
+    }
+
+    /**
+     * Packs the lower {@code size} bits of each value of a long array into
+     * words. Bits of {@code words[bit / 64]} prior to {@code bit} are kept and
+     * those following the last value are cleared.
+     *
+     * @param words the words; bit {@code 0} is the lowest bit of
+     * {@code words[0]}.
+     * @param bit the bit index in {@code words} for the first value
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @param src the long array
+     * @param offset the starting index in {@code src}
+     * @param length the number of values to pack
+     */
+    static void pack(final long[] words, final long bit, final int size,
+                     final long[] src, final int offset, final int length) {
+        final long mask = -1L >>> (64 - size);
+        int index = (int) (bit >>> 6);
+        int used = (int) (bit & 63);
+        long word = words[index] & ~(-1L << used);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            final long value = src[i] & mask;
+            word |= value << used;
+            used += size;
+            if (used < 64) {
+                continue;
+            }
+            used -= 64;
+            words[index++] = word;
+            word = used == 0 ? 0L : value >>> (size - used);
+        }
+        words[index] = word;
+    }
+
+    /**
+     * Returns a word whose lowest {@code size} bits are those starting at
+     * {@code bit} in {@code words}; higher bits are not cleared.
+     *
+     * @param words the words
+     * @param bit the bit index
+     * @param size the number of bits required
+     * @return a right-aligned word.
+     */
+    private static long word(final long[] words, final long bit,
+                             final int size) {
+        final int index = (int) (bit >>> 6);
+        final int shift = (int) (bit & 63);
+        final long word = words[index] >>> shift;
+        if (shift + size > 64) {
+            return word | (words[index + 1] << (64 - shift));
+        }
+        return word;
+    }
+
+    private BitIoLsbPacking() {
+        super();
+    }
+}
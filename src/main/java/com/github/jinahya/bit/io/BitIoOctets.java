@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+/**
+ * A class for converting octets to/from big-endian or little-endian 64-bit
+ * words.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+final class BitIoOctets {
+
+    /**
+     * Assembles a big-endian word from {@code length} bytes starting at
+     * {@code index}. The bytes are left-aligned in the word if {@code length}
+     * is less than {@code 8}.
+     *
+     * @param array the byte array
+     * @param index the starting index
+     * @param length the number of bytes; between {@code 1} and {@code 8}, both
+     * inclusive.
+     * @return a word.
+     */
+    static long getLong(final byte[] array, final int index,
+                        final int length) {
+        long value = 0L;
+        for (int i = 0; i < length; i++) {
+            value <<= 8;
+            value |= array[index + i] & 0xFF;
+        }
+        return value << ((8 - length) << 3);
+    }
+
+    /**
+     * Assembles big-endian words from bytes.
+     *
+     * @param src the byte array
+     * @param length the number of bytes in {@code src} to assemble
+     * @param dst the word array
+     * @param offset the starting index in {@code dst}
+     */
+    static void words(final byte[] src, final int length, final long[] dst,
+                      int offset) {
+        int i = 0;
+        for (final int j = length - 7; i < j; i += 8) {
+            dst[offset++] = getLong(src, i, 8);
+        }
+        if (i < length) {
+            dst[offset] = getLong(src, i, length - i);
+        }
+    }
+
+    /**
+     * Disassembles big-endian words into bytes.
+     *
+     * @param src the word array
+     * @param dst the byte array
+     * @param length the number of bytes to disassemble
+     */
+    static void octets(final long[] src, final byte[] dst, final int length) {
+        for (int i = 0; i < length; i++) {
+            dst[i] = (byte) (src[i >> 3] >>> (56 - ((i & 7) << 3)));
+        }
+    }
+
+    /**
+     * Assembles a little-endian word from {@code length} bytes starting at
+     * {@code index}. The bytes are right-aligned in the word if {@code length}
+     * is less than {@code 8}.
+     *
+     * @param array the byte array
+     * @param index the starting index
+     * @param length the number of bytes; between {@code 1} and {@code 8}, both
+     * inclusive.
+     * @return a word.
+     */
+    static long getLittleLong(final byte[] array, final int index,
+                              final int length) {
+        long value = 0L;
+        for (int i = length - 1; i >= 0; i--) {
+            value <<= 8;
+            value |= array[index + i] & 0xFF;
+        }
+        return value;
+    }
+
+    /**
+     * Assembles little-endian words from bytes.
+     *
+     * @param src the byte array
+     * @param length the number of bytes in {@code src} to assemble
+     * @param dst the word array
+     * @param offset the starting index in {@code dst}
+     */
+    static void littleWords(final byte[] src, final int length,
+                            final long[] dst, int offset) {
+        int i = 0;
+        for (final int j = length - 7; i < j; i += 8) {
+            dst[offset++] = getLittleLong(src, i, 8);
+        }
+        if (i < length) {
+            dst[offset] = getLittleLong(src, i, length - i);
+        }
+    }
+
+    /**
+     * Disassembles little-endian words into bytes.
+     *
+     * @param src the word array
+     * @param dst the byte array
+     * @param length the number of bytes to disassemble
+     */
+    static void littleOctets(final long[] src, final byte[] dst,
+                             final int length) {
+        int i = 0;
+        for (; i < length; i++) {
+            dst[i] = (byte) (src[i >> 3] >>> ((i & 7) << 3));
+        }
+    }
+
+    private BitIoOctets() {
+        super();
+    }
+}
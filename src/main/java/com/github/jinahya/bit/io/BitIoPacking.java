@@ -0,0 +1,281 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+/**
+ * A class for packing/unpacking fixed-width values to/from big-endian 64-bit
+ * words. Values of up to {@code 32} bits, from/into either int or long
+ * arrays, are packed and unpacked a block of words at a time by the
+ * {@link BitIoPackingKernels} specialized for each width.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+final class BitIoPacking {
+
+    /**
+     * Unpacks fixed-width values from words into an int array.
+     *
+     * @param words the words; bit {@code 0} is the highest bit of
+     * {@code words[0]}.
+     * @param bit the bit index of the first value in {@code words}
+     * @param unsigned a flag for unsigned values
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param dst the int array
+     * @param offset the starting index in {@code dst}
+     * @param length the number of values to unpack
+     */
+    static void unpack(final long[] words, long bit, final boolean unsigned,
+                       final int size, final int[] dst, final int offset,
+                       final int length) {
+        final int shift = 64 - size;
+        final int divisor = size & -size; // of size and 64
+        if ((bit & (divisor - 1)) == 0) { // a word boundary is reachable
+            int i = offset;
+            final int j = offset + length;
+            for (; i < j && (bit & 63) != 0; i++) {
+                dst[i] = (int) (word(words, bit, size) >>> shift);
+                bit += size;
+            }
+            final int values = 64 / divisor;
+            final int count = (j - i) / values;
+            BitIoPackingKernels.unpack(size, words, (int) (bit >>> 6), count,
+                                       dst, i);
+            i += count * values;
+            bit += (long) count * values * size;
+            for (; i < j; i++) {
+                dst[i] = (int) (word(words, bit, size) >>> shift);
+                bit += size;
+            }
+            if (!unsigned && size < 32) {
+                final int extend = 32 - size;
+                for (i = offset; i < j; i++) {
+                    dst[i] = (dst[i] << extend) >> extend;
+                }
+            }
+            return;
+        }
+        if (unsigned) {
+            for (int i = offset, j = offset + length; i < j; i++) {
+                dst[i] = (int) (word(words, bit, size) >>> shift);
+                bit += size;
+            }
+        } else {
+            for (int i = offset, j = offset + length; i < j; i++) {
+                dst[i] = (int) (word(words, bit, size) >> shift);
+                bit += size;
+            }
+        }
+    }
+
+    /**
+     * Unpacks fixed-width values from words into a long array.
+     *
+     * @param words the words; bit {@code 0} is the highest bit of
+     * {@code words[0]}.
+     * @param bit the bit index of the first value in {@code words}
+     * @param unsigned a flag for unsigned values
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @param dst the long array
+     * @param offset the starting index in {@code dst}
+     * @param length the number of values to unpack
+     */
+    static void unpack(final long[] words, long bit, final boolean unsigned,
+                       final int size, final long[] dst, final int offset,
+                       final int length) {
+        final int shift = 64 - size;
+        final int divisor = size & -size; // of size and 64
+        if (size <= 32 && (bit & (divisor - 1)) == 0) {
+            int i = offset;
+            final int j = offset + length;
+            for (; i < j && (bit & 63) != 0; i++) {
+                dst[i] = word(words, bit, size) >>> shift;
+                bit += size;
+            }
+            final int values = 64 / divisor;
+            final int count = (j - i) / values;
+            BitIoPackingKernels.unpack(size, words, (int) (bit >>> 6), count,
+                                       dst, i);
+            i += count * values;
+            bit += (long) count * values * size;
+            for (; i < j; i++) {
+                dst[i] = word(words, bit, size) >>> shift;
+                bit += size;
+            }
+            if (!unsigned) {
+                for (i = offset; i < j; i++) {
+                    dst[i] = (dst[i] << shift) >> shift;
+                }
+            }
+            return;
+        }
+        if (unsigned) {
+            for (int i = offset, j = offset + length; i < j; i++) {
+                dst[i] = word(words, bit, size) >>> shift;
+                bit += size;
+            }
+        } else {
+            for (int i = offset, j = offset + length; i < j; i++) {
+                dst[i] = word(words, bit, size) >> shift;
+                bit += size;
+            }
+        }
+    }
+
+    /**
+     * Packs the lower {@code size} bits of each value of an int array into
+     * words. Bits of {@code words[bit / 64]} prior to {@code bit} are kept and
+     * those following the last value are cleared.
+     *
+     * @param words the words; bit {@code 0} is the highest bit of
+     * {@code words[0]}.
+     * @param bit the bit index in {@code words} for the first value
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param src the int array
+     * @param offset the starting index in {@code src}
+     * @param length the number of values to pack
+     */
+    static void pack(final long[] words, final long bit, final int size,
+                     final int[] src, final int offset, final int length) {
+        final long mask = -1L >>> (64 - size);
+        int index = (int) (bit >>> 6);
+        int used = (int) (bit & 63);
+        long word = used == 0 ? 0L : words[index] & (-1L << (64 - used));
+        int i = offset;
+        final int j = offset + length;
+        final int divisor = size & -size; // of size and 64
+        if (size <= 32 && (used & (divisor - 1)) == 0) {
+            for (; i < j && used != 0; i++) { // up to a word boundary
+                final long value = src[i] & mask;
+                final int free = 64 - used;
+                if (size < free) {
+                    word |= value << (free - size);
+                    used += size;
+                    continue;
+                }
+                used = size - free;
+                words[index++] = word | (value >>> used);
+                word = used == 0 ? 0L : value << (64 - used);
+            }
+            if (used == 0) {
+                final int values = 64 / divisor;
+                final int count = (j - i) / values;
+                BitIoPackingKernels.pack(size, words, index, count, src, i);
+                i += count * values;
+                index += count * (size / divisor);
+            }
+        }
+        for (; i < j; i++) {
+            final long value = src[i] & mask;
+            final int free = 64 - used;
+            if (size < free) {
+                word |= value << (free - size);
+                used += size;
+                continue;
+            }
+            used = size - free;
+            words[index++] = word | (value >>> used);
+            word = used == 0 ? 0L : value << (64 - used);
+        }
+        words[index] = word;
+    }
+
+    /**
+     * Packs the lower {@code size} bits of each value of a long array into
+     * words. Bits of {@code words[bit / 64]} prior to {@code bit} are kept and
+     * those following the last value are cleared.
+     *
+     * @param words the words; bit {@code 0} is the highest bit of
+     * {@code words[0]}.
+     * @param bit the bit index in {@code words} for the first value
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @param src the long array
+     * @param offset the starting index in {@code src}
+     * @param length the number of values to pack
+     */
+    static void pack(final long[] words, final long bit, final int size,
+                     final long[] src, final int offset, final int length) {
+        final long mask = -1L >>> (64 - size);
+        int index = (int) (bit >>> 6);
+        int used = (int) (bit & 63);
+        long word = used == 0 ? 0L : words[index] & (-1L << (64 - used));
+        int i = offset;
+        final int j = offset + length;
+        final int divisor = size & -size; // of size and 64
+        if (size <= 32 && (used & (divisor - 1)) == 0) {
+            for (; i < j && used != 0; i++) { // up to a word boundary
+                final long value = src[i] & mask;
+                final int free = 64 - used;
+                if (size < free) {
+                    word |= value << (free - size);
+                    used += size;
+                    continue;
+                }
+                used = size - free;
+                words[index++] = word | (value >>> used);
+                word = used == 0 ? 0L : value << (64 - used);
+            }
+            if (used == 0) {
+                final int values = 64 / divisor;
+                final int count = (j - i) / values;
+                BitIoPackingKernels.pack(size, words, index, count, src, i);
+                i += count * values;
+                index += count * (size / divisor);
+            }
+        }
+        for (; i < j; i++) {
+            final long value = src[i] & mask;
+            final int free = 64 - used;
+            if (size < free) {
+                word |= value << (free - size);
+                used += size;
+                continue;
+            }
+            used = size - free;
+            words[index++] = word | (value >>> used);
+            word = used == 0 ? 0L : value << (64 - used);
+        }
+        words[index] = word;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Returns a word whose highest {@code size} bits are those starting at
+     * {@code bit} in {@code words}.
+     *
+     * @param words the words
+     * @param bit the bit index
+     * @param size the number of bits required
+     * @return a left-aligned word.
+     */
+    private static long word(final long[] words, final long bit,
+                             final int size) {
+        final int index = (int) (bit >>> 6);
+        final int shift = (int) (bit & 63);
+        final long word = words[index] << shift;
+        if (shift + size > 64) {
+            return word | (words[index + 1] >>> (64 - shift));
+        }
+        return word;
+    }
+
+    private BitIoPacking() {
+        super();
+    }
+}
@@ -0,0 +1,10186 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+/**
+ * Kernels packing/unpacking fixed-width values of up to {@code 32} bits
+ * to/from big-endian 64-bit words, one for each width. Values of {@code w}
+ * bits fill a block of {@code w / g} words with {@code 64 / g} values,
+ * where {@code g} is the greatest common divisor of {@code w} and
+ * {@code 64}. Each kernel packs or unpacks whole blocks with shifts and
+ * masks fixed for its width, so no value is checked for straddling two
+ * words.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+final class BitIoPackingKernels {
+
+    /**
+     * Unpacks {@code count} blocks of unsigned values of given width into an
+     * int array, starting at {@code index}, with the kernel for the width.
+     *
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    static void unpack(final int size, final long[] words, final int index,
+                       final int count, final int[] dst, final int i) {
+        switch (size) {
+            case 1:
+                unpack1(words, index, count, dst, i);
+                break;
+            case 2:
+                unpack2(words, index, count, dst, i);
+                break;
+            case 3:
+                unpack3(words, index, count, dst, i);
+                break;
+            case 4:
+                unpack4(words, index, count, dst, i);
+                break;
+            case 5:
+                unpack5(words, index, count, dst, i);
+                break;
+            case 6:
+                unpack6(words, index, count, dst, i);
+                break;
+            case 7:
+                unpack7(words, index, count, dst, i);
+                break;
+            case 8:
+                unpack8(words, index, count, dst, i);
+                break;
+            case 9:
+                unpack9(words, index, count, dst, i);
+                break;
+            case 10:
+                unpack10(words, index, count, dst, i);
+                break;
+            case 11:
+                unpack11(words, index, count, dst, i);
+                break;
+            case 12:
+                unpack12(words, index, count, dst, i);
+                break;
+            case 13:
+                unpack13(words, index, count, dst, i);
+                break;
+            case 14:
+                unpack14(words, index, count, dst, i);
+                break;
+            case 15:
+                unpack15(words, index, count, dst, i);
+                break;
+            case 16:
+                unpack16(words, index, count, dst, i);
+                break;
+            case 17:
+                unpack17(words, index, count, dst, i);
+                break;
+            case 18:
+                unpack18(words, index, count, dst, i);
+                break;
+            case 19:
+                unpack19(words, index, count, dst, i);
+                break;
+            case 20:
+                unpack20(words, index, count, dst, i);
+                break;
+            case 21:
+                unpack21(words, index, count, dst, i);
+                break;
+            case 22:
+                unpack22(words, index, count, dst, i);
+                break;
+            case 23:
+                unpack23(words, index, count, dst, i);
+                break;
+            case 24:
+                unpack24(words, index, count, dst, i);
+                break;
+            case 25:
+                unpack25(words, index, count, dst, i);
+                break;
+            case 26:
+                unpack26(words, index, count, dst, i);
+                break;
+            case 27:
+                unpack27(words, index, count, dst, i);
+                break;
+            case 28:
+                unpack28(words, index, count, dst, i);
+                break;
+            case 29:
+                unpack29(words, index, count, dst, i);
+                break;
+            case 30:
+                unpack30(words, index, count, dst, i);
+                break;
+            case 31:
+                unpack31(words, index, count, dst, i);
+                break;
+            default:
+                unpack32(words, index, count, dst, i);
+                break;
+        }
+    }
+
+    /**
+     * Unpacks {@code count} blocks of unsigned values of given width into a
+     * long array, starting at {@code index}, with the kernel for the width.
+     *
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    static void unpack(final int size, final long[] words, final int index,
+                       final int count, final long[] dst, final int i) {
+        switch (size) {
+            case 1:
+                unpack1(words, index, count, dst, i);
+                break;
+            case 2:
+                unpack2(words, index, count, dst, i);
+                break;
+            case 3:
+                unpack3(words, index, count, dst, i);
+                break;
+            case 4:
+                unpack4(words, index, count, dst, i);
+                break;
+            case 5:
+                unpack5(words, index, count, dst, i);
+                break;
+            case 6:
+                unpack6(words, index, count, dst, i);
+                break;
+            case 7:
+                unpack7(words, index, count, dst, i);
+                break;
+            case 8:
+                unpack8(words, index, count, dst, i);
+                break;
+            case 9:
+                unpack9(words, index, count, dst, i);
+                break;
+            case 10:
+                unpack10(words, index, count, dst, i);
+                break;
+            case 11:
+                unpack11(words, index, count, dst, i);
+                break;
+            case 12:
+                unpack12(words, index, count, dst, i);
+                break;
+            case 13:
+                unpack13(words, index, count, dst, i);
+                break;
+            case 14:
+                unpack14(words, index, count, dst, i);
+                break;
+            case 15:
+                unpack15(words, index, count, dst, i);
+                break;
+            case 16:
+                unpack16(words, index, count, dst, i);
+                break;
+            case 17:
+                unpack17(words, index, count, dst, i);
+                break;
+            case 18:
+                unpack18(words, index, count, dst, i);
+                break;
+            case 19:
+                unpack19(words, index, count, dst, i);
+                break;
+            case 20:
+                unpack20(words, index, count, dst, i);
+                break;
+            case 21:
+                unpack21(words, index, count, dst, i);
+                break;
+            case 22:
+                unpack22(words, index, count, dst, i);
+                break;
+            case 23:
+                unpack23(words, index, count, dst, i);
+                break;
+            case 24:
+                unpack24(words, index, count, dst, i);
+                break;
+            case 25:
+                unpack25(words, index, count, dst, i);
+                break;
+            case 26:
+                unpack26(words, index, count, dst, i);
+                break;
+            case 27:
+                unpack27(words, index, count, dst, i);
+                break;
+            case 28:
+                unpack28(words, index, count, dst, i);
+                break;
+            case 29:
+                unpack29(words, index, count, dst, i);
+                break;
+            case 30:
+                unpack30(words, index, count, dst, i);
+                break;
+            case 31:
+                unpack31(words, index, count, dst, i);
+                break;
+            default:
+                unpack32(words, index, count, dst, i);
+                break;
+        }
+    }
+
+    /**
+     * Packs {@code count} blocks of the lower {@code size} bits of values of an
+     * int array, starting at {@code index}, with the kernel for the width.
+     *
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    static void pack(final int size, final long[] words, final int index,
+                     final int count, final int[] src, final int i) {
+        switch (size) {
+            case 1:
+                pack1(words, index, count, src, i);
+                break;
+            case 2:
+                pack2(words, index, count, src, i);
+                break;
+            case 3:
+                pack3(words, index, count, src, i);
+                break;
+            case 4:
+                pack4(words, index, count, src, i);
+                break;
+            case 5:
+                pack5(words, index, count, src, i);
+                break;
+            case 6:
+                pack6(words, index, count, src, i);
+                break;
+            case 7:
+                pack7(words, index, count, src, i);
+                break;
+            case 8:
+                pack8(words, index, count, src, i);
+                break;
+            case 9:
+                pack9(words, index, count, src, i);
+                break;
+            case 10:
+                pack10(words, index, count, src, i);
+                break;
+            case 11:
+                pack11(words, index, count, src, i);
+                break;
+            case 12:
+                pack12(words, index, count, src, i);
+                break;
+            case 13:
+                pack13(words, index, count, src, i);
+                break;
+            case 14:
+                pack14(words, index, count, src, i);
+                break;
+            case 15:
+                pack15(words, index, count, src, i);
+                break;
+            case 16:
+                pack16(words, index, count, src, i);
+                break;
+            case 17:
+                pack17(words, index, count, src, i);
+                break;
+            case 18:
+                pack18(words, index, count, src, i);
+                break;
+            case 19:
+                pack19(words, index, count, src, i);
+                break;
+            case 20:
+                pack20(words, index, count, src, i);
+                break;
+            case 21:
+                pack21(words, index, count, src, i);
+                break;
+            case 22:
+                pack22(words, index, count, src, i);
+                break;
+            case 23:
+                pack23(words, index, count, src, i);
+                break;
+            case 24:
+                pack24(words, index, count, src, i);
+                break;
+            case 25:
+                pack25(words, index, count, src, i);
+                break;
+            case 26:
+                pack26(words, index, count, src, i);
+                break;
+            case 27:
+                pack27(words, index, count, src, i);
+                break;
+            case 28:
+                pack28(words, index, count, src, i);
+                break;
+            case 29:
+                pack29(words, index, count, src, i);
+                break;
+            case 30:
+                pack30(words, index, count, src, i);
+                break;
+            case 31:
+                pack31(words, index, count, src, i);
+                break;
+            default:
+                pack32(words, index, count, src, i);
+                break;
+        }
+    }
+
+    /**
+     * Packs {@code count} blocks of the lower {@code size} bits of values of a
+     * long array, starting at {@code index}, with the kernel for the width.
+     *
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    static void pack(final int size, final long[] words, final int index,
+                     final int count, final long[] src, final int i) {
+        switch (size) {
+            case 1:
+                pack1(words, index, count, src, i);
+                break;
+            case 2:
+                pack2(words, index, count, src, i);
+                break;
+            case 3:
+                pack3(words, index, count, src, i);
+                break;
+            case 4:
+                pack4(words, index, count, src, i);
+                break;
+            case 5:
+                pack5(words, index, count, src, i);
+                break;
+            case 6:
+                pack6(words, index, count, src, i);
+                break;
+            case 7:
+                pack7(words, index, count, src, i);
+                break;
+            case 8:
+                pack8(words, index, count, src, i);
+                break;
+            case 9:
+                pack9(words, index, count, src, i);
+                break;
+            case 10:
+                pack10(words, index, count, src, i);
+                break;
+            case 11:
+                pack11(words, index, count, src, i);
+                break;
+            case 12:
+                pack12(words, index, count, src, i);
+                break;
+            case 13:
+                pack13(words, index, count, src, i);
+                break;
+            case 14:
+                pack14(words, index, count, src, i);
+                break;
+            case 15:
+                pack15(words, index, count, src, i);
+                break;
+            case 16:
+                pack16(words, index, count, src, i);
+                break;
+            case 17:
+                pack17(words, index, count, src, i);
+                break;
+            case 18:
+                pack18(words, index, count, src, i);
+                break;
+            case 19:
+                pack19(words, index, count, src, i);
+                break;
+            case 20:
+                pack20(words, index, count, src, i);
+                break;
+            case 21:
+                pack21(words, index, count, src, i);
+                break;
+            case 22:
+                pack22(words, index, count, src, i);
+                break;
+            case 23:
+                pack23(words, index, count, src, i);
+                break;
+            case 24:
+                pack24(words, index, count, src, i);
+                break;
+            case 25:
+                pack25(words, index, count, src, i);
+                break;
+            case 26:
+                pack26(words, index, count, src, i);
+                break;
+            case 27:
+                pack27(words, index, count, src, i);
+                break;
+            case 28:
+                pack28(words, index, count, src, i);
+                break;
+            case 29:
+                pack29(words, index, count, src, i);
+                break;
+            case 30:
+                pack30(words, index, count, src, i);
+                break;
+            case 31:
+                pack31(words, index, count, src, i);
+                break;
+            default:
+                pack32(words, index, count, src, i);
+                break;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Unpacks {@code 64} unsigned 1-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack1(final long[] words, int index, final int count,
+                                final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = (int) (w0 >>> 63);
+            dst[i + 1] = (int) (w0 >>> 62) & 0x1;
+            dst[i + 2] = (int) (w0 >>> 61) & 0x1;
+            dst[i + 3] = (int) (w0 >>> 60) & 0x1;
+            dst[i + 4] = (int) (w0 >>> 59) & 0x1;
+            dst[i + 5] = (int) (w0 >>> 58) & 0x1;
+            dst[i + 6] = (int) (w0 >>> 57) & 0x1;
+            dst[i + 7] = (int) (w0 >>> 56) & 0x1;
+            dst[i + 8] = (int) (w0 >>> 55) & 0x1;
+            dst[i + 9] = (int) (w0 >>> 54) & 0x1;
+            dst[i + 10] = (int) (w0 >>> 53) & 0x1;
+            dst[i + 11] = (int) (w0 >>> 52) & 0x1;
+            dst[i + 12] = (int) (w0 >>> 51) & 0x1;
+            dst[i + 13] = (int) (w0 >>> 50) & 0x1;
+            dst[i + 14] = (int) (w0 >>> 49) & 0x1;
+            dst[i + 15] = (int) (w0 >>> 48) & 0x1;
+            dst[i + 16] = (int) (w0 >>> 47) & 0x1;
+            dst[i + 17] = (int) (w0 >>> 46) & 0x1;
+            dst[i + 18] = (int) (w0 >>> 45) & 0x1;
+            dst[i + 19] = (int) (w0 >>> 44) & 0x1;
+            dst[i + 20] = (int) (w0 >>> 43) & 0x1;
+            dst[i + 21] = (int) (w0 >>> 42) & 0x1;
+            dst[i + 22] = (int) (w0 >>> 41) & 0x1;
+            dst[i + 23] = (int) (w0 >>> 40) & 0x1;
+            dst[i + 24] = (int) (w0 >>> 39) & 0x1;
+            dst[i + 25] = (int) (w0 >>> 38) & 0x1;
+            dst[i + 26] = (int) (w0 >>> 37) & 0x1;
+            dst[i + 27] = (int) (w0 >>> 36) & 0x1;
+            dst[i + 28] = (int) (w0 >>> 35) & 0x1;
+            dst[i + 29] = (int) (w0 >>> 34) & 0x1;
+            dst[i + 30] = (int) (w0 >>> 33) & 0x1;
+            dst[i + 31] = (int) (w0 >>> 32) & 0x1;
+            dst[i + 32] = (int) (w0 >>> 31) & 0x1;
+            dst[i + 33] = (int) (w0 >>> 30) & 0x1;
+            dst[i + 34] = (int) (w0 >>> 29) & 0x1;
+            dst[i + 35] = (int) (w0 >>> 28) & 0x1;
+            dst[i + 36] = (int) (w0 >>> 27) & 0x1;
+            dst[i + 37] = (int) (w0 >>> 26) & 0x1;
+            dst[i + 38] = (int) (w0 >>> 25) & 0x1;
+            dst[i + 39] = (int) (w0 >>> 24) & 0x1;
+            dst[i + 40] = (int) (w0 >>> 23) & 0x1;
+            dst[i + 41] = (int) (w0 >>> 22) & 0x1;
+            dst[i + 42] = (int) (w0 >>> 21) & 0x1;
+            dst[i + 43] = (int) (w0 >>> 20) & 0x1;
+            dst[i + 44] = (int) (w0 >>> 19) & 0x1;
+            dst[i + 45] = (int) (w0 >>> 18) & 0x1;
+            dst[i + 46] = (int) (w0 >>> 17) & 0x1;
+            dst[i + 47] = (int) (w0 >>> 16) & 0x1;
+            dst[i + 48] = (int) (w0 >>> 15) & 0x1;
+            dst[i + 49] = (int) (w0 >>> 14) & 0x1;
+            dst[i + 50] = (int) (w0 >>> 13) & 0x1;
+            dst[i + 51] = (int) (w0 >>> 12) & 0x1;
+            dst[i + 52] = (int) (w0 >>> 11) & 0x1;
+            dst[i + 53] = (int) (w0 >>> 10) & 0x1;
+            dst[i + 54] = (int) (w0 >>> 9) & 0x1;
+            dst[i + 55] = (int) (w0 >>> 8) & 0x1;
+            dst[i + 56] = (int) (w0 >>> 7) & 0x1;
+            dst[i + 57] = (int) (w0 >>> 6) & 0x1;
+            dst[i + 58] = (int) (w0 >>> 5) & 0x1;
+            dst[i + 59] = (int) (w0 >>> 4) & 0x1;
+            dst[i + 60] = (int) (w0 >>> 3) & 0x1;
+            dst[i + 61] = (int) (w0 >>> 2) & 0x1;
+            dst[i + 62] = (int) (w0 >>> 1) & 0x1;
+            dst[i + 63] = (int) w0 & 0x1;
+            index++;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 2-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack2(final long[] words, int index, final int count,
+                                final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = (int) (w0 >>> 62);
+            dst[i + 1] = (int) (w0 >>> 60) & 0x3;
+            dst[i + 2] = (int) (w0 >>> 58) & 0x3;
+            dst[i + 3] = (int) (w0 >>> 56) & 0x3;
+            dst[i + 4] = (int) (w0 >>> 54) & 0x3;
+            dst[i + 5] = (int) (w0 >>> 52) & 0x3;
+            dst[i + 6] = (int) (w0 >>> 50) & 0x3;
+            dst[i + 7] = (int) (w0 >>> 48) & 0x3;
+            dst[i + 8] = (int) (w0 >>> 46) & 0x3;
+            dst[i + 9] = (int) (w0 >>> 44) & 0x3;
+            dst[i + 10] = (int) (w0 >>> 42) & 0x3;
+            dst[i + 11] = (int) (w0 >>> 40) & 0x3;
+            dst[i + 12] = (int) (w0 >>> 38) & 0x3;
+            dst[i + 13] = (int) (w0 >>> 36) & 0x3;
+            dst[i + 14] = (int) (w0 >>> 34) & 0x3;
+            dst[i + 15] = (int) (w0 >>> 32) & 0x3;
+            dst[i + 16] = (int) (w0 >>> 30) & 0x3;
+            dst[i + 17] = (int) (w0 >>> 28) & 0x3;
+            dst[i + 18] = (int) (w0 >>> 26) & 0x3;
+            dst[i + 19] = (int) (w0 >>> 24) & 0x3;
+            dst[i + 20] = (int) (w0 >>> 22) & 0x3;
+            dst[i + 21] = (int) (w0 >>> 20) & 0x3;
+            dst[i + 22] = (int) (w0 >>> 18) & 0x3;
+            dst[i + 23] = (int) (w0 >>> 16) & 0x3;
+            dst[i + 24] = (int) (w0 >>> 14) & 0x3;
+            dst[i + 25] = (int) (w0 >>> 12) & 0x3;
+            dst[i + 26] = (int) (w0 >>> 10) & 0x3;
+            dst[i + 27] = (int) (w0 >>> 8) & 0x3;
+            dst[i + 28] = (int) (w0 >>> 6) & 0x3;
+            dst[i + 29] = (int) (w0 >>> 4) & 0x3;
+            dst[i + 30] = (int) (w0 >>> 2) & 0x3;
+            dst[i + 31] = (int) w0 & 0x3;
+            index++;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 3-bit values from each of {@code count}
+     * blocks of {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack3(final long[] words, int index, final int count,
+                                final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            dst[i] = (int) (w0 >>> 61);
+            dst[i + 1] = (int) (w0 >>> 58) & 0x7;
+            dst[i + 2] = (int) (w0 >>> 55) & 0x7;
+            dst[i + 3] = (int) (w0 >>> 52) & 0x7;
+            dst[i + 4] = (int) (w0 >>> 49) & 0x7;
+            dst[i + 5] = (int) (w0 >>> 46) & 0x7;
+            dst[i + 6] = (int) (w0 >>> 43) & 0x7;
+            dst[i + 7] = (int) (w0 >>> 40) & 0x7;
+            dst[i + 8] = (int) (w0 >>> 37) & 0x7;
+            dst[i + 9] = (int) (w0 >>> 34) & 0x7;
+            dst[i + 10] = (int) (w0 >>> 31) & 0x7;
+            dst[i + 11] = (int) (w0 >>> 28) & 0x7;
+            dst[i + 12] = (int) (w0 >>> 25) & 0x7;
+            dst[i + 13] = (int) (w0 >>> 22) & 0x7;
+            dst[i + 14] = (int) (w0 >>> 19) & 0x7;
+            dst[i + 15] = (int) (w0 >>> 16) & 0x7;
+            dst[i + 16] = (int) (w0 >>> 13) & 0x7;
+            dst[i + 17] = (int) (w0 >>> 10) & 0x7;
+            dst[i + 18] = (int) (w0 >>> 7) & 0x7;
+            dst[i + 19] = (int) (w0 >>> 4) & 0x7;
+            dst[i + 20] = (int) (w0 >>> 1) & 0x7;
+            dst[i + 21] = (int) (w0 << 2 | w1 >>> 62) & 0x7;
+            dst[i + 22] = (int) (w1 >>> 59) & 0x7;
+            dst[i + 23] = (int) (w1 >>> 56) & 0x7;
+            dst[i + 24] = (int) (w1 >>> 53) & 0x7;
+            dst[i + 25] = (int) (w1 >>> 50) & 0x7;
+            dst[i + 26] = (int) (w1 >>> 47) & 0x7;
+            dst[i + 27] = (int) (w1 >>> 44) & 0x7;
+            dst[i + 28] = (int) (w1 >>> 41) & 0x7;
+            dst[i + 29] = (int) (w1 >>> 38) & 0x7;
+            dst[i + 30] = (int) (w1 >>> 35) & 0x7;
+            dst[i + 31] = (int) (w1 >>> 32) & 0x7;
+            dst[i + 32] = (int) (w1 >>> 29) & 0x7;
+            dst[i + 33] = (int) (w1 >>> 26) & 0x7;
+            dst[i + 34] = (int) (w1 >>> 23) & 0x7;
+            dst[i + 35] = (int) (w1 >>> 20) & 0x7;
+            dst[i + 36] = (int) (w1 >>> 17) & 0x7;
+            dst[i + 37] = (int) (w1 >>> 14) & 0x7;
+            dst[i + 38] = (int) (w1 >>> 11) & 0x7;
+            dst[i + 39] = (int) (w1 >>> 8) & 0x7;
+            dst[i + 40] = (int) (w1 >>> 5) & 0x7;
+            dst[i + 41] = (int) (w1 >>> 2) & 0x7;
+            dst[i + 42] = (int) (w1 << 1 | w2 >>> 63) & 0x7;
+            dst[i + 43] = (int) (w2 >>> 60) & 0x7;
+            dst[i + 44] = (int) (w2 >>> 57) & 0x7;
+            dst[i + 45] = (int) (w2 >>> 54) & 0x7;
+            dst[i + 46] = (int) (w2 >>> 51) & 0x7;
+            dst[i + 47] = (int) (w2 >>> 48) & 0x7;
+            dst[i + 48] = (int) (w2 >>> 45) & 0x7;
+            dst[i + 49] = (int) (w2 >>> 42) & 0x7;
+            dst[i + 50] = (int) (w2 >>> 39) & 0x7;
+            dst[i + 51] = (int) (w2 >>> 36) & 0x7;
+            dst[i + 52] = (int) (w2 >>> 33) & 0x7;
+            dst[i + 53] = (int) (w2 >>> 30) & 0x7;
+            dst[i + 54] = (int) (w2 >>> 27) & 0x7;
+            dst[i + 55] = (int) (w2 >>> 24) & 0x7;
+            dst[i + 56] = (int) (w2 >>> 21) & 0x7;
+            dst[i + 57] = (int) (w2 >>> 18) & 0x7;
+            dst[i + 58] = (int) (w2 >>> 15) & 0x7;
+            dst[i + 59] = (int) (w2 >>> 12) & 0x7;
+            dst[i + 60] = (int) (w2 >>> 9) & 0x7;
+            dst[i + 61] = (int) (w2 >>> 6) & 0x7;
+            dst[i + 62] = (int) (w2 >>> 3) & 0x7;
+            dst[i + 63] = (int) w2 & 0x7;
+            index += 3;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 16} unsigned 4-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack4(final long[] words, int index, final int count,
+                                final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = (int) (w0 >>> 60);
+            dst[i + 1] = (int) (w0 >>> 56) & 0xF;
+            dst[i + 2] = (int) (w0 >>> 52) & 0xF;
+            dst[i + 3] = (int) (w0 >>> 48) & 0xF;
+            dst[i + 4] = (int) (w0 >>> 44) & 0xF;
+            dst[i + 5] = (int) (w0 >>> 40) & 0xF;
+            dst[i + 6] = (int) (w0 >>> 36) & 0xF;
+            dst[i + 7] = (int) (w0 >>> 32) & 0xF;
+            dst[i + 8] = (int) (w0 >>> 28) & 0xF;
+            dst[i + 9] = (int) (w0 >>> 24) & 0xF;
+            dst[i + 10] = (int) (w0 >>> 20) & 0xF;
+            dst[i + 11] = (int) (w0 >>> 16) & 0xF;
+            dst[i + 12] = (int) (w0 >>> 12) & 0xF;
+            dst[i + 13] = (int) (w0 >>> 8) & 0xF;
+            dst[i + 14] = (int) (w0 >>> 4) & 0xF;
+            dst[i + 15] = (int) w0 & 0xF;
+            index++;
+            i += 16;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 5-bit values from each of {@code count}
+     * blocks of {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack5(final long[] words, int index, final int count,
+                                final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            dst[i] = (int) (w0 >>> 59);
+            dst[i + 1] = (int) (w0 >>> 54) & 0x1F;
+            dst[i + 2] = (int) (w0 >>> 49) & 0x1F;
+            dst[i + 3] = (int) (w0 >>> 44) & 0x1F;
+            dst[i + 4] = (int) (w0 >>> 39) & 0x1F;
+            dst[i + 5] = (int) (w0 >>> 34) & 0x1F;
+            dst[i + 6] = (int) (w0 >>> 29) & 0x1F;
+            dst[i + 7] = (int) (w0 >>> 24) & 0x1F;
+            dst[i + 8] = (int) (w0 >>> 19) & 0x1F;
+            dst[i + 9] = (int) (w0 >>> 14) & 0x1F;
+            dst[i + 10] = (int) (w0 >>> 9) & 0x1F;
+            dst[i + 11] = (int) (w0 >>> 4) & 0x1F;
+            dst[i + 12] = (int) (w0 << 1 | w1 >>> 63) & 0x1F;
+            dst[i + 13] = (int) (w1 >>> 58) & 0x1F;
+            dst[i + 14] = (int) (w1 >>> 53) & 0x1F;
+            dst[i + 15] = (int) (w1 >>> 48) & 0x1F;
+            dst[i + 16] = (int) (w1 >>> 43) & 0x1F;
+            dst[i + 17] = (int) (w1 >>> 38) & 0x1F;
+            dst[i + 18] = (int) (w1 >>> 33) & 0x1F;
+            dst[i + 19] = (int) (w1 >>> 28) & 0x1F;
+            dst[i + 20] = (int) (w1 >>> 23) & 0x1F;
+            dst[i + 21] = (int) (w1 >>> 18) & 0x1F;
+            dst[i + 22] = (int) (w1 >>> 13) & 0x1F;
+            dst[i + 23] = (int) (w1 >>> 8) & 0x1F;
+            dst[i + 24] = (int) (w1 >>> 3) & 0x1F;
+            dst[i + 25] = (int) (w1 << 2 | w2 >>> 62) & 0x1F;
+            dst[i + 26] = (int) (w2 >>> 57) & 0x1F;
+            dst[i + 27] = (int) (w2 >>> 52) & 0x1F;
+            dst[i + 28] = (int) (w2 >>> 47) & 0x1F;
+            dst[i + 29] = (int) (w2 >>> 42) & 0x1F;
+            dst[i + 30] = (int) (w2 >>> 37) & 0x1F;
+            dst[i + 31] = (int) (w2 >>> 32) & 0x1F;
+            dst[i + 32] = (int) (w2 >>> 27) & 0x1F;
+            dst[i + 33] = (int) (w2 >>> 22) & 0x1F;
+            dst[i + 34] = (int) (w2 >>> 17) & 0x1F;
+            dst[i + 35] = (int) (w2 >>> 12) & 0x1F;
+            dst[i + 36] = (int) (w2 >>> 7) & 0x1F;
+            dst[i + 37] = (int) (w2 >>> 2) & 0x1F;
+            dst[i + 38] = (int) (w2 << 3 | w3 >>> 61) & 0x1F;
+            dst[i + 39] = (int) (w3 >>> 56) & 0x1F;
+            dst[i + 40] = (int) (w3 >>> 51) & 0x1F;
+            dst[i + 41] = (int) (w3 >>> 46) & 0x1F;
+            dst[i + 42] = (int) (w3 >>> 41) & 0x1F;
+            dst[i + 43] = (int) (w3 >>> 36) & 0x1F;
+            dst[i + 44] = (int) (w3 >>> 31) & 0x1F;
+            dst[i + 45] = (int) (w3 >>> 26) & 0x1F;
+            dst[i + 46] = (int) (w3 >>> 21) & 0x1F;
+            dst[i + 47] = (int) (w3 >>> 16) & 0x1F;
+            dst[i + 48] = (int) (w3 >>> 11) & 0x1F;
+            dst[i + 49] = (int) (w3 >>> 6) & 0x1F;
+            dst[i + 50] = (int) (w3 >>> 1) & 0x1F;
+            dst[i + 51] = (int) (w3 << 4 | w4 >>> 60) & 0x1F;
+            dst[i + 52] = (int) (w4 >>> 55) & 0x1F;
+            dst[i + 53] = (int) (w4 >>> 50) & 0x1F;
+            dst[i + 54] = (int) (w4 >>> 45) & 0x1F;
+            dst[i + 55] = (int) (w4 >>> 40) & 0x1F;
+            dst[i + 56] = (int) (w4 >>> 35) & 0x1F;
+            dst[i + 57] = (int) (w4 >>> 30) & 0x1F;
+            dst[i + 58] = (int) (w4 >>> 25) & 0x1F;
+            dst[i + 59] = (int) (w4 >>> 20) & 0x1F;
+            dst[i + 60] = (int) (w4 >>> 15) & 0x1F;
+            dst[i + 61] = (int) (w4 >>> 10) & 0x1F;
+            dst[i + 62] = (int) (w4 >>> 5) & 0x1F;
+            dst[i + 63] = (int) w4 & 0x1F;
+            index += 5;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 6-bit values from each of {@code count}
+     * blocks of {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack6(final long[] words, int index, final int count,
+                                final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            dst[i] = (int) (w0 >>> 58);
+            dst[i + 1] = (int) (w0 >>> 52) & 0x3F;
+            dst[i + 2] = (int) (w0 >>> 46) & 0x3F;
+            dst[i + 3] = (int) (w0 >>> 40) & 0x3F;
+            dst[i + 4] = (int) (w0 >>> 34) & 0x3F;
+            dst[i + 5] = (int) (w0 >>> 28) & 0x3F;
+            dst[i + 6] = (int) (w0 >>> 22) & 0x3F;
+            dst[i + 7] = (int) (w0 >>> 16) & 0x3F;
+            dst[i + 8] = (int) (w0 >>> 10) & 0x3F;
+            dst[i + 9] = (int) (w0 >>> 4) & 0x3F;
+            dst[i + 10] = (int) (w0 << 2 | w1 >>> 62) & 0x3F;
+            dst[i + 11] = (int) (w1 >>> 56) & 0x3F;
+            dst[i + 12] = (int) (w1 >>> 50) & 0x3F;
+            dst[i + 13] = (int) (w1 >>> 44) & 0x3F;
+            dst[i + 14] = (int) (w1 >>> 38) & 0x3F;
+            dst[i + 15] = (int) (w1 >>> 32) & 0x3F;
+            dst[i + 16] = (int) (w1 >>> 26) & 0x3F;
+            dst[i + 17] = (int) (w1 >>> 20) & 0x3F;
+            dst[i + 18] = (int) (w1 >>> 14) & 0x3F;
+            dst[i + 19] = (int) (w1 >>> 8) & 0x3F;
+            dst[i + 20] = (int) (w1 >>> 2) & 0x3F;
+            dst[i + 21] = (int) (w1 << 4 | w2 >>> 60) & 0x3F;
+            dst[i + 22] = (int) (w2 >>> 54) & 0x3F;
+            dst[i + 23] = (int) (w2 >>> 48) & 0x3F;
+            dst[i + 24] = (int) (w2 >>> 42) & 0x3F;
+            dst[i + 25] = (int) (w2 >>> 36) & 0x3F;
+            dst[i + 26] = (int) (w2 >>> 30) & 0x3F;
+            dst[i + 27] = (int) (w2 >>> 24) & 0x3F;
+            dst[i + 28] = (int) (w2 >>> 18) & 0x3F;
+            dst[i + 29] = (int) (w2 >>> 12) & 0x3F;
+            dst[i + 30] = (int) (w2 >>> 6) & 0x3F;
+            dst[i + 31] = (int) w2 & 0x3F;
+            index += 3;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 7-bit values from each of {@code count}
+     * blocks of {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack7(final long[] words, int index, final int count,
+                                final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            dst[i] = (int) (w0 >>> 57);
+            dst[i + 1] = (int) (w0 >>> 50) & 0x7F;
+            dst[i + 2] = (int) (w0 >>> 43) & 0x7F;
+            dst[i + 3] = (int) (w0 >>> 36) & 0x7F;
+            dst[i + 4] = (int) (w0 >>> 29) & 0x7F;
+            dst[i + 5] = (int) (w0 >>> 22) & 0x7F;
+            dst[i + 6] = (int) (w0 >>> 15) & 0x7F;
+            dst[i + 7] = (int) (w0 >>> 8) & 0x7F;
+            dst[i + 8] = (int) (w0 >>> 1) & 0x7F;
+            dst[i + 9] = (int) (w0 << 6 | w1 >>> 58) & 0x7F;
+            dst[i + 10] = (int) (w1 >>> 51) & 0x7F;
+            dst[i + 11] = (int) (w1 >>> 44) & 0x7F;
+            dst[i + 12] = (int) (w1 >>> 37) & 0x7F;
+            dst[i + 13] = (int) (w1 >>> 30) & 0x7F;
+            dst[i + 14] = (int) (w1 >>> 23) & 0x7F;
+            dst[i + 15] = (int) (w1 >>> 16) & 0x7F;
+            dst[i + 16] = (int) (w1 >>> 9) & 0x7F;
+            dst[i + 17] = (int) (w1 >>> 2) & 0x7F;
+            dst[i + 18] = (int) (w1 << 5 | w2 >>> 59) & 0x7F;
+            dst[i + 19] = (int) (w2 >>> 52) & 0x7F;
+            dst[i + 20] = (int) (w2 >>> 45) & 0x7F;
+            dst[i + 21] = (int) (w2 >>> 38) & 0x7F;
+            dst[i + 22] = (int) (w2 >>> 31) & 0x7F;
+            dst[i + 23] = (int) (w2 >>> 24) & 0x7F;
+            dst[i + 24] = (int) (w2 >>> 17) & 0x7F;
+            dst[i + 25] = (int) (w2 >>> 10) & 0x7F;
+            dst[i + 26] = (int) (w2 >>> 3) & 0x7F;
+            dst[i + 27] = (int) (w2 << 4 | w3 >>> 60) & 0x7F;
+            dst[i + 28] = (int) (w3 >>> 53) & 0x7F;
+            dst[i + 29] = (int) (w3 >>> 46) & 0x7F;
+            dst[i + 30] = (int) (w3 >>> 39) & 0x7F;
+            dst[i + 31] = (int) (w3 >>> 32) & 0x7F;
+            dst[i + 32] = (int) (w3 >>> 25) & 0x7F;
+            dst[i + 33] = (int) (w3 >>> 18) & 0x7F;
+            dst[i + 34] = (int) (w3 >>> 11) & 0x7F;
+            dst[i + 35] = (int) (w3 >>> 4) & 0x7F;
+            dst[i + 36] = (int) (w3 << 3 | w4 >>> 61) & 0x7F;
+            dst[i + 37] = (int) (w4 >>> 54) & 0x7F;
+            dst[i + 38] = (int) (w4 >>> 47) & 0x7F;
+            dst[i + 39] = (int) (w4 >>> 40) & 0x7F;
+            dst[i + 40] = (int) (w4 >>> 33) & 0x7F;
+            dst[i + 41] = (int) (w4 >>> 26) & 0x7F;
+            dst[i + 42] = (int) (w4 >>> 19) & 0x7F;
+            dst[i + 43] = (int) (w4 >>> 12) & 0x7F;
+            dst[i + 44] = (int) (w4 >>> 5) & 0x7F;
+            dst[i + 45] = (int) (w4 << 2 | w5 >>> 62) & 0x7F;
+            dst[i + 46] = (int) (w5 >>> 55) & 0x7F;
+            dst[i + 47] = (int) (w5 >>> 48) & 0x7F;
+            dst[i + 48] = (int) (w5 >>> 41) & 0x7F;
+            dst[i + 49] = (int) (w5 >>> 34) & 0x7F;
+            dst[i + 50] = (int) (w5 >>> 27) & 0x7F;
+            dst[i + 51] = (int) (w5 >>> 20) & 0x7F;
+            dst[i + 52] = (int) (w5 >>> 13) & 0x7F;
+            dst[i + 53] = (int) (w5 >>> 6) & 0x7F;
+            dst[i + 54] = (int) (w5 << 1 | w6 >>> 63) & 0x7F;
+            dst[i + 55] = (int) (w6 >>> 56) & 0x7F;
+            dst[i + 56] = (int) (w6 >>> 49) & 0x7F;
+            dst[i + 57] = (int) (w6 >>> 42) & 0x7F;
+            dst[i + 58] = (int) (w6 >>> 35) & 0x7F;
+            dst[i + 59] = (int) (w6 >>> 28) & 0x7F;
+            dst[i + 60] = (int) (w6 >>> 21) & 0x7F;
+            dst[i + 61] = (int) (w6 >>> 14) & 0x7F;
+            dst[i + 62] = (int) (w6 >>> 7) & 0x7F;
+            dst[i + 63] = (int) w6 & 0x7F;
+            index += 7;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 8} unsigned 8-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack8(final long[] words, int index, final int count,
+                                final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = (int) (w0 >>> 56);
+            dst[i + 1] = (int) (w0 >>> 48) & 0xFF;
+            dst[i + 2] = (int) (w0 >>> 40) & 0xFF;
+            dst[i + 3] = (int) (w0 >>> 32) & 0xFF;
+            dst[i + 4] = (int) (w0 >>> 24) & 0xFF;
+            dst[i + 5] = (int) (w0 >>> 16) & 0xFF;
+            dst[i + 6] = (int) (w0 >>> 8) & 0xFF;
+            dst[i + 7] = (int) w0 & 0xFF;
+            index++;
+            i += 8;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 9-bit values from each of {@code count}
+     * blocks of {@code 9} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack9(final long[] words, int index, final int count,
+                                final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            dst[i] = (int) (w0 >>> 55);
+            dst[i + 1] = (int) (w0 >>> 46) & 0x1FF;
+            dst[i + 2] = (int) (w0 >>> 37) & 0x1FF;
+            dst[i + 3] = (int) (w0 >>> 28) & 0x1FF;
+            dst[i + 4] = (int) (w0 >>> 19) & 0x1FF;
+            dst[i + 5] = (int) (w0 >>> 10) & 0x1FF;
+            dst[i + 6] = (int) (w0 >>> 1) & 0x1FF;
+            dst[i + 7] = (int) (w0 << 8 | w1 >>> 56) & 0x1FF;
+            dst[i + 8] = (int) (w1 >>> 47) & 0x1FF;
+            dst[i + 9] = (int) (w1 >>> 38) & 0x1FF;
+            dst[i + 10] = (int) (w1 >>> 29) & 0x1FF;
+            dst[i + 11] = (int) (w1 >>> 20) & 0x1FF;
+            dst[i + 12] = (int) (w1 >>> 11) & 0x1FF;
+            dst[i + 13] = (int) (w1 >>> 2) & 0x1FF;
+            dst[i + 14] = (int) (w1 << 7 | w2 >>> 57) & 0x1FF;
+            dst[i + 15] = (int) (w2 >>> 48) & 0x1FF;
+            dst[i + 16] = (int) (w2 >>> 39) & 0x1FF;
+            dst[i + 17] = (int) (w2 >>> 30) & 0x1FF;
+            dst[i + 18] = (int) (w2 >>> 21) & 0x1FF;
+            dst[i + 19] = (int) (w2 >>> 12) & 0x1FF;
+            dst[i + 20] = (int) (w2 >>> 3) & 0x1FF;
+            dst[i + 21] = (int) (w2 << 6 | w3 >>> 58) & 0x1FF;
+            dst[i + 22] = (int) (w3 >>> 49) & 0x1FF;
+            dst[i + 23] = (int) (w3 >>> 40) & 0x1FF;
+            dst[i + 24] = (int) (w3 >>> 31) & 0x1FF;
+            dst[i + 25] = (int) (w3 >>> 22) & 0x1FF;
+            dst[i + 26] = (int) (w3 >>> 13) & 0x1FF;
+            dst[i + 27] = (int) (w3 >>> 4) & 0x1FF;
+            dst[i + 28] = (int) (w3 << 5 | w4 >>> 59) & 0x1FF;
+            dst[i + 29] = (int) (w4 >>> 50) & 0x1FF;
+            dst[i + 30] = (int) (w4 >>> 41) & 0x1FF;
+            dst[i + 31] = (int) (w4 >>> 32) & 0x1FF;
+            dst[i + 32] = (int) (w4 >>> 23) & 0x1FF;
+            dst[i + 33] = (int) (w4 >>> 14) & 0x1FF;
+            dst[i + 34] = (int) (w4 >>> 5) & 0x1FF;
+            dst[i + 35] = (int) (w4 << 4 | w5 >>> 60) & 0x1FF;
+            dst[i + 36] = (int) (w5 >>> 51) & 0x1FF;
+            dst[i + 37] = (int) (w5 >>> 42) & 0x1FF;
+            dst[i + 38] = (int) (w5 >>> 33) & 0x1FF;
+            dst[i + 39] = (int) (w5 >>> 24) & 0x1FF;
+            dst[i + 40] = (int) (w5 >>> 15) & 0x1FF;
+            dst[i + 41] = (int) (w5 >>> 6) & 0x1FF;
+            dst[i + 42] = (int) (w5 << 3 | w6 >>> 61) & 0x1FF;
+            dst[i + 43] = (int) (w6 >>> 52) & 0x1FF;
+            dst[i + 44] = (int) (w6 >>> 43) & 0x1FF;
+            dst[i + 45] = (int) (w6 >>> 34) & 0x1FF;
+            dst[i + 46] = (int) (w6 >>> 25) & 0x1FF;
+            dst[i + 47] = (int) (w6 >>> 16) & 0x1FF;
+            dst[i + 48] = (int) (w6 >>> 7) & 0x1FF;
+            dst[i + 49] = (int) (w6 << 2 | w7 >>> 62) & 0x1FF;
+            dst[i + 50] = (int) (w7 >>> 53) & 0x1FF;
+            dst[i + 51] = (int) (w7 >>> 44) & 0x1FF;
+            dst[i + 52] = (int) (w7 >>> 35) & 0x1FF;
+            dst[i + 53] = (int) (w7 >>> 26) & 0x1FF;
+            dst[i + 54] = (int) (w7 >>> 17) & 0x1FF;
+            dst[i + 55] = (int) (w7 >>> 8) & 0x1FF;
+            dst[i + 56] = (int) (w7 << 1 | w8 >>> 63) & 0x1FF;
+            dst[i + 57] = (int) (w8 >>> 54) & 0x1FF;
+            dst[i + 58] = (int) (w8 >>> 45) & 0x1FF;
+            dst[i + 59] = (int) (w8 >>> 36) & 0x1FF;
+            dst[i + 60] = (int) (w8 >>> 27) & 0x1FF;
+            dst[i + 61] = (int) (w8 >>> 18) & 0x1FF;
+            dst[i + 62] = (int) (w8 >>> 9) & 0x1FF;
+            dst[i + 63] = (int) w8 & 0x1FF;
+            index += 9;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 10-bit values from each of {@code count}
+     * blocks of {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack10(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            dst[i] = (int) (w0 >>> 54);
+            dst[i + 1] = (int) (w0 >>> 44) & 0x3FF;
+            dst[i + 2] = (int) (w0 >>> 34) & 0x3FF;
+            dst[i + 3] = (int) (w0 >>> 24) & 0x3FF;
+            dst[i + 4] = (int) (w0 >>> 14) & 0x3FF;
+            dst[i + 5] = (int) (w0 >>> 4) & 0x3FF;
+            dst[i + 6] = (int) (w0 << 6 | w1 >>> 58) & 0x3FF;
+            dst[i + 7] = (int) (w1 >>> 48) & 0x3FF;
+            dst[i + 8] = (int) (w1 >>> 38) & 0x3FF;
+            dst[i + 9] = (int) (w1 >>> 28) & 0x3FF;
+            dst[i + 10] = (int) (w1 >>> 18) & 0x3FF;
+            dst[i + 11] = (int) (w1 >>> 8) & 0x3FF;
+            dst[i + 12] = (int) (w1 << 2 | w2 >>> 62) & 0x3FF;
+            dst[i + 13] = (int) (w2 >>> 52) & 0x3FF;
+            dst[i + 14] = (int) (w2 >>> 42) & 0x3FF;
+            dst[i + 15] = (int) (w2 >>> 32) & 0x3FF;
+            dst[i + 16] = (int) (w2 >>> 22) & 0x3FF;
+            dst[i + 17] = (int) (w2 >>> 12) & 0x3FF;
+            dst[i + 18] = (int) (w2 >>> 2) & 0x3FF;
+            dst[i + 19] = (int) (w2 << 8 | w3 >>> 56) & 0x3FF;
+            dst[i + 20] = (int) (w3 >>> 46) & 0x3FF;
+            dst[i + 21] = (int) (w3 >>> 36) & 0x3FF;
+            dst[i + 22] = (int) (w3 >>> 26) & 0x3FF;
+            dst[i + 23] = (int) (w3 >>> 16) & 0x3FF;
+            dst[i + 24] = (int) (w3 >>> 6) & 0x3FF;
+            dst[i + 25] = (int) (w3 << 4 | w4 >>> 60) & 0x3FF;
+            dst[i + 26] = (int) (w4 >>> 50) & 0x3FF;
+            dst[i + 27] = (int) (w4 >>> 40) & 0x3FF;
+            dst[i + 28] = (int) (w4 >>> 30) & 0x3FF;
+            dst[i + 29] = (int) (w4 >>> 20) & 0x3FF;
+            dst[i + 30] = (int) (w4 >>> 10) & 0x3FF;
+            dst[i + 31] = (int) w4 & 0x3FF;
+            index += 5;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 11-bit values from each of {@code count}
+     * blocks of {@code 11} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack11(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            dst[i] = (int) (w0 >>> 53);
+            dst[i + 1] = (int) (w0 >>> 42) & 0x7FF;
+            dst[i + 2] = (int) (w0 >>> 31) & 0x7FF;
+            dst[i + 3] = (int) (w0 >>> 20) & 0x7FF;
+            dst[i + 4] = (int) (w0 >>> 9) & 0x7FF;
+            dst[i + 5] = (int) (w0 << 2 | w1 >>> 62) & 0x7FF;
+            dst[i + 6] = (int) (w1 >>> 51) & 0x7FF;
+            dst[i + 7] = (int) (w1 >>> 40) & 0x7FF;
+            dst[i + 8] = (int) (w1 >>> 29) & 0x7FF;
+            dst[i + 9] = (int) (w1 >>> 18) & 0x7FF;
+            dst[i + 10] = (int) (w1 >>> 7) & 0x7FF;
+            dst[i + 11] = (int) (w1 << 4 | w2 >>> 60) & 0x7FF;
+            dst[i + 12] = (int) (w2 >>> 49) & 0x7FF;
+            dst[i + 13] = (int) (w2 >>> 38) & 0x7FF;
+            dst[i + 14] = (int) (w2 >>> 27) & 0x7FF;
+            dst[i + 15] = (int) (w2 >>> 16) & 0x7FF;
+            dst[i + 16] = (int) (w2 >>> 5) & 0x7FF;
+            dst[i + 17] = (int) (w2 << 6 | w3 >>> 58) & 0x7FF;
+            dst[i + 18] = (int) (w3 >>> 47) & 0x7FF;
+            dst[i + 19] = (int) (w3 >>> 36) & 0x7FF;
+            dst[i + 20] = (int) (w3 >>> 25) & 0x7FF;
+            dst[i + 21] = (int) (w3 >>> 14) & 0x7FF;
+            dst[i + 22] = (int) (w3 >>> 3) & 0x7FF;
+            dst[i + 23] = (int) (w3 << 8 | w4 >>> 56) & 0x7FF;
+            dst[i + 24] = (int) (w4 >>> 45) & 0x7FF;
+            dst[i + 25] = (int) (w4 >>> 34) & 0x7FF;
+            dst[i + 26] = (int) (w4 >>> 23) & 0x7FF;
+            dst[i + 27] = (int) (w4 >>> 12) & 0x7FF;
+            dst[i + 28] = (int) (w4 >>> 1) & 0x7FF;
+            dst[i + 29] = (int) (w4 << 10 | w5 >>> 54) & 0x7FF;
+            dst[i + 30] = (int) (w5 >>> 43) & 0x7FF;
+            dst[i + 31] = (int) (w5 >>> 32) & 0x7FF;
+            dst[i + 32] = (int) (w5 >>> 21) & 0x7FF;
+            dst[i + 33] = (int) (w5 >>> 10) & 0x7FF;
+            dst[i + 34] = (int) (w5 << 1 | w6 >>> 63) & 0x7FF;
+            dst[i + 35] = (int) (w6 >>> 52) & 0x7FF;
+            dst[i + 36] = (int) (w6 >>> 41) & 0x7FF;
+            dst[i + 37] = (int) (w6 >>> 30) & 0x7FF;
+            dst[i + 38] = (int) (w6 >>> 19) & 0x7FF;
+            dst[i + 39] = (int) (w6 >>> 8) & 0x7FF;
+            dst[i + 40] = (int) (w6 << 3 | w7 >>> 61) & 0x7FF;
+            dst[i + 41] = (int) (w7 >>> 50) & 0x7FF;
+            dst[i + 42] = (int) (w7 >>> 39) & 0x7FF;
+            dst[i + 43] = (int) (w7 >>> 28) & 0x7FF;
+            dst[i + 44] = (int) (w7 >>> 17) & 0x7FF;
+            dst[i + 45] = (int) (w7 >>> 6) & 0x7FF;
+            dst[i + 46] = (int) (w7 << 5 | w8 >>> 59) & 0x7FF;
+            dst[i + 47] = (int) (w8 >>> 48) & 0x7FF;
+            dst[i + 48] = (int) (w8 >>> 37) & 0x7FF;
+            dst[i + 49] = (int) (w8 >>> 26) & 0x7FF;
+            dst[i + 50] = (int) (w8 >>> 15) & 0x7FF;
+            dst[i + 51] = (int) (w8 >>> 4) & 0x7FF;
+            dst[i + 52] = (int) (w8 << 7 | w9 >>> 57) & 0x7FF;
+            dst[i + 53] = (int) (w9 >>> 46) & 0x7FF;
+            dst[i + 54] = (int) (w9 >>> 35) & 0x7FF;
+            dst[i + 55] = (int) (w9 >>> 24) & 0x7FF;
+            dst[i + 56] = (int) (w9 >>> 13) & 0x7FF;
+            dst[i + 57] = (int) (w9 >>> 2) & 0x7FF;
+            dst[i + 58] = (int) (w9 << 9 | w10 >>> 55) & 0x7FF;
+            dst[i + 59] = (int) (w10 >>> 44) & 0x7FF;
+            dst[i + 60] = (int) (w10 >>> 33) & 0x7FF;
+            dst[i + 61] = (int) (w10 >>> 22) & 0x7FF;
+            dst[i + 62] = (int) (w10 >>> 11) & 0x7FF;
+            dst[i + 63] = (int) w10 & 0x7FF;
+            index += 11;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 16} unsigned 12-bit values from each of {@code count}
+     * blocks of {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack12(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            dst[i] = (int) (w0 >>> 52);
+            dst[i + 1] = (int) (w0 >>> 40) & 0xFFF;
+            dst[i + 2] = (int) (w0 >>> 28) & 0xFFF;
+            dst[i + 3] = (int) (w0 >>> 16) & 0xFFF;
+            dst[i + 4] = (int) (w0 >>> 4) & 0xFFF;
+            dst[i + 5] = (int) (w0 << 8 | w1 >>> 56) & 0xFFF;
+            dst[i + 6] = (int) (w1 >>> 44) & 0xFFF;
+            dst[i + 7] = (int) (w1 >>> 32) & 0xFFF;
+            dst[i + 8] = (int) (w1 >>> 20) & 0xFFF;
+            dst[i + 9] = (int) (w1 >>> 8) & 0xFFF;
+            dst[i + 10] = (int) (w1 << 4 | w2 >>> 60) & 0xFFF;
+            dst[i + 11] = (int) (w2 >>> 48) & 0xFFF;
+            dst[i + 12] = (int) (w2 >>> 36) & 0xFFF;
+            dst[i + 13] = (int) (w2 >>> 24) & 0xFFF;
+            dst[i + 14] = (int) (w2 >>> 12) & 0xFFF;
+            dst[i + 15] = (int) w2 & 0xFFF;
+            index += 3;
+            i += 16;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 13-bit values from each of {@code count}
+     * blocks of {@code 13} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack13(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            dst[i] = (int) (w0 >>> 51);
+            dst[i + 1] = (int) (w0 >>> 38) & 0x1FFF;
+            dst[i + 2] = (int) (w0 >>> 25) & 0x1FFF;
+            dst[i + 3] = (int) (w0 >>> 12) & 0x1FFF;
+            dst[i + 4] = (int) (w0 << 1 | w1 >>> 63) & 0x1FFF;
+            dst[i + 5] = (int) (w1 >>> 50) & 0x1FFF;
+            dst[i + 6] = (int) (w1 >>> 37) & 0x1FFF;
+            dst[i + 7] = (int) (w1 >>> 24) & 0x1FFF;
+            dst[i + 8] = (int) (w1 >>> 11) & 0x1FFF;
+            dst[i + 9] = (int) (w1 << 2 | w2 >>> 62) & 0x1FFF;
+            dst[i + 10] = (int) (w2 >>> 49) & 0x1FFF;
+            dst[i + 11] = (int) (w2 >>> 36) & 0x1FFF;
+            dst[i + 12] = (int) (w2 >>> 23) & 0x1FFF;
+            dst[i + 13] = (int) (w2 >>> 10) & 0x1FFF;
+            dst[i + 14] = (int) (w2 << 3 | w3 >>> 61) & 0x1FFF;
+            dst[i + 15] = (int) (w3 >>> 48) & 0x1FFF;
+            dst[i + 16] = (int) (w3 >>> 35) & 0x1FFF;
+            dst[i + 17] = (int) (w3 >>> 22) & 0x1FFF;
+            dst[i + 18] = (int) (w3 >>> 9) & 0x1FFF;
+            dst[i + 19] = (int) (w3 << 4 | w4 >>> 60) & 0x1FFF;
+            dst[i + 20] = (int) (w4 >>> 47) & 0x1FFF;
+            dst[i + 21] = (int) (w4 >>> 34) & 0x1FFF;
+            dst[i + 22] = (int) (w4 >>> 21) & 0x1FFF;
+            dst[i + 23] = (int) (w4 >>> 8) & 0x1FFF;
+            dst[i + 24] = (int) (w4 << 5 | w5 >>> 59) & 0x1FFF;
+            dst[i + 25] = (int) (w5 >>> 46) & 0x1FFF;
+            dst[i + 26] = (int) (w5 >>> 33) & 0x1FFF;
+            dst[i + 27] = (int) (w5 >>> 20) & 0x1FFF;
+            dst[i + 28] = (int) (w5 >>> 7) & 0x1FFF;
+            dst[i + 29] = (int) (w5 << 6 | w6 >>> 58) & 0x1FFF;
+            dst[i + 30] = (int) (w6 >>> 45) & 0x1FFF;
+            dst[i + 31] = (int) (w6 >>> 32) & 0x1FFF;
+            dst[i + 32] = (int) (w6 >>> 19) & 0x1FFF;
+            dst[i + 33] = (int) (w6 >>> 6) & 0x1FFF;
+            dst[i + 34] = (int) (w6 << 7 | w7 >>> 57) & 0x1FFF;
+            dst[i + 35] = (int) (w7 >>> 44) & 0x1FFF;
+            dst[i + 36] = (int) (w7 >>> 31) & 0x1FFF;
+            dst[i + 37] = (int) (w7 >>> 18) & 0x1FFF;
+            dst[i + 38] = (int) (w7 >>> 5) & 0x1FFF;
+            dst[i + 39] = (int) (w7 << 8 | w8 >>> 56) & 0x1FFF;
+            dst[i + 40] = (int) (w8 >>> 43) & 0x1FFF;
+            dst[i + 41] = (int) (w8 >>> 30) & 0x1FFF;
+            dst[i + 42] = (int) (w8 >>> 17) & 0x1FFF;
+            dst[i + 43] = (int) (w8 >>> 4) & 0x1FFF;
+            dst[i + 44] = (int) (w8 << 9 | w9 >>> 55) & 0x1FFF;
+            dst[i + 45] = (int) (w9 >>> 42) & 0x1FFF;
+            dst[i + 46] = (int) (w9 >>> 29) & 0x1FFF;
+            dst[i + 47] = (int) (w9 >>> 16) & 0x1FFF;
+            dst[i + 48] = (int) (w9 >>> 3) & 0x1FFF;
+            dst[i + 49] = (int) (w9 << 10 | w10 >>> 54) & 0x1FFF;
+            dst[i + 50] = (int) (w10 >>> 41) & 0x1FFF;
+            dst[i + 51] = (int) (w10 >>> 28) & 0x1FFF;
+            dst[i + 52] = (int) (w10 >>> 15) & 0x1FFF;
+            dst[i + 53] = (int) (w10 >>> 2) & 0x1FFF;
+            dst[i + 54] = (int) (w10 << 11 | w11 >>> 53) & 0x1FFF;
+            dst[i + 55] = (int) (w11 >>> 40) & 0x1FFF;
+            dst[i + 56] = (int) (w11 >>> 27) & 0x1FFF;
+            dst[i + 57] = (int) (w11 >>> 14) & 0x1FFF;
+            dst[i + 58] = (int) (w11 >>> 1) & 0x1FFF;
+            dst[i + 59] = (int) (w11 << 12 | w12 >>> 52) & 0x1FFF;
+            dst[i + 60] = (int) (w12 >>> 39) & 0x1FFF;
+            dst[i + 61] = (int) (w12 >>> 26) & 0x1FFF;
+            dst[i + 62] = (int) (w12 >>> 13) & 0x1FFF;
+            dst[i + 63] = (int) w12 & 0x1FFF;
+            index += 13;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 14-bit values from each of {@code count}
+     * blocks of {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack14(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            dst[i] = (int) (w0 >>> 50);
+            dst[i + 1] = (int) (w0 >>> 36) & 0x3FFF;
+            dst[i + 2] = (int) (w0 >>> 22) & 0x3FFF;
+            dst[i + 3] = (int) (w0 >>> 8) & 0x3FFF;
+            dst[i + 4] = (int) (w0 << 6 | w1 >>> 58) & 0x3FFF;
+            dst[i + 5] = (int) (w1 >>> 44) & 0x3FFF;
+            dst[i + 6] = (int) (w1 >>> 30) & 0x3FFF;
+            dst[i + 7] = (int) (w1 >>> 16) & 0x3FFF;
+            dst[i + 8] = (int) (w1 >>> 2) & 0x3FFF;
+            dst[i + 9] = (int) (w1 << 12 | w2 >>> 52) & 0x3FFF;
+            dst[i + 10] = (int) (w2 >>> 38) & 0x3FFF;
+            dst[i + 11] = (int) (w2 >>> 24) & 0x3FFF;
+            dst[i + 12] = (int) (w2 >>> 10) & 0x3FFF;
+            dst[i + 13] = (int) (w2 << 4 | w3 >>> 60) & 0x3FFF;
+            dst[i + 14] = (int) (w3 >>> 46) & 0x3FFF;
+            dst[i + 15] = (int) (w3 >>> 32) & 0x3FFF;
+            dst[i + 16] = (int) (w3 >>> 18) & 0x3FFF;
+            dst[i + 17] = (int) (w3 >>> 4) & 0x3FFF;
+            dst[i + 18] = (int) (w3 << 10 | w4 >>> 54) & 0x3FFF;
+            dst[i + 19] = (int) (w4 >>> 40) & 0x3FFF;
+            dst[i + 20] = (int) (w4 >>> 26) & 0x3FFF;
+            dst[i + 21] = (int) (w4 >>> 12) & 0x3FFF;
+            dst[i + 22] = (int) (w4 << 2 | w5 >>> 62) & 0x3FFF;
+            dst[i + 23] = (int) (w5 >>> 48) & 0x3FFF;
+            dst[i + 24] = (int) (w5 >>> 34) & 0x3FFF;
+            dst[i + 25] = (int) (w5 >>> 20) & 0x3FFF;
+            dst[i + 26] = (int) (w5 >>> 6) & 0x3FFF;
+            dst[i + 27] = (int) (w5 << 8 | w6 >>> 56) & 0x3FFF;
+            dst[i + 28] = (int) (w6 >>> 42) & 0x3FFF;
+            dst[i + 29] = (int) (w6 >>> 28) & 0x3FFF;
+            dst[i + 30] = (int) (w6 >>> 14) & 0x3FFF;
+            dst[i + 31] = (int) w6 & 0x3FFF;
+            index += 7;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 15-bit values from each of {@code count}
+     * blocks of {@code 15} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack15(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            dst[i] = (int) (w0 >>> 49);
+            dst[i + 1] = (int) (w0 >>> 34) & 0x7FFF;
+            dst[i + 2] = (int) (w0 >>> 19) & 0x7FFF;
+            dst[i + 3] = (int) (w0 >>> 4) & 0x7FFF;
+            dst[i + 4] = (int) (w0 << 11 | w1 >>> 53) & 0x7FFF;
+            dst[i + 5] = (int) (w1 >>> 38) & 0x7FFF;
+            dst[i + 6] = (int) (w1 >>> 23) & 0x7FFF;
+            dst[i + 7] = (int) (w1 >>> 8) & 0x7FFF;
+            dst[i + 8] = (int) (w1 << 7 | w2 >>> 57) & 0x7FFF;
+            dst[i + 9] = (int) (w2 >>> 42) & 0x7FFF;
+            dst[i + 10] = (int) (w2 >>> 27) & 0x7FFF;
+            dst[i + 11] = (int) (w2 >>> 12) & 0x7FFF;
+            dst[i + 12] = (int) (w2 << 3 | w3 >>> 61) & 0x7FFF;
+            dst[i + 13] = (int) (w3 >>> 46) & 0x7FFF;
+            dst[i + 14] = (int) (w3 >>> 31) & 0x7FFF;
+            dst[i + 15] = (int) (w3 >>> 16) & 0x7FFF;
+            dst[i + 16] = (int) (w3 >>> 1) & 0x7FFF;
+            dst[i + 17] = (int) (w3 << 14 | w4 >>> 50) & 0x7FFF;
+            dst[i + 18] = (int) (w4 >>> 35) & 0x7FFF;
+            dst[i + 19] = (int) (w4 >>> 20) & 0x7FFF;
+            dst[i + 20] = (int) (w4 >>> 5) & 0x7FFF;
+            dst[i + 21] = (int) (w4 << 10 | w5 >>> 54) & 0x7FFF;
+            dst[i + 22] = (int) (w5 >>> 39) & 0x7FFF;
+            dst[i + 23] = (int) (w5 >>> 24) & 0x7FFF;
+            dst[i + 24] = (int) (w5 >>> 9) & 0x7FFF;
+            dst[i + 25] = (int) (w5 << 6 | w6 >>> 58) & 0x7FFF;
+            dst[i + 26] = (int) (w6 >>> 43) & 0x7FFF;
+            dst[i + 27] = (int) (w6 >>> 28) & 0x7FFF;
+            dst[i + 28] = (int) (w6 >>> 13) & 0x7FFF;
+            dst[i + 29] = (int) (w6 << 2 | w7 >>> 62) & 0x7FFF;
+            dst[i + 30] = (int) (w7 >>> 47) & 0x7FFF;
+            dst[i + 31] = (int) (w7 >>> 32) & 0x7FFF;
+            dst[i + 32] = (int) (w7 >>> 17) & 0x7FFF;
+            dst[i + 33] = (int) (w7 >>> 2) & 0x7FFF;
+            dst[i + 34] = (int) (w7 << 13 | w8 >>> 51) & 0x7FFF;
+            dst[i + 35] = (int) (w8 >>> 36) & 0x7FFF;
+            dst[i + 36] = (int) (w8 >>> 21) & 0x7FFF;
+            dst[i + 37] = (int) (w8 >>> 6) & 0x7FFF;
+            dst[i + 38] = (int) (w8 << 9 | w9 >>> 55) & 0x7FFF;
+            dst[i + 39] = (int) (w9 >>> 40) & 0x7FFF;
+            dst[i + 40] = (int) (w9 >>> 25) & 0x7FFF;
+            dst[i + 41] = (int) (w9 >>> 10) & 0x7FFF;
+            dst[i + 42] = (int) (w9 << 5 | w10 >>> 59) & 0x7FFF;
+            dst[i + 43] = (int) (w10 >>> 44) & 0x7FFF;
+            dst[i + 44] = (int) (w10 >>> 29) & 0x7FFF;
+            dst[i + 45] = (int) (w10 >>> 14) & 0x7FFF;
+            dst[i + 46] = (int) (w10 << 1 | w11 >>> 63) & 0x7FFF;
+            dst[i + 47] = (int) (w11 >>> 48) & 0x7FFF;
+            dst[i + 48] = (int) (w11 >>> 33) & 0x7FFF;
+            dst[i + 49] = (int) (w11 >>> 18) & 0x7FFF;
+            dst[i + 50] = (int) (w11 >>> 3) & 0x7FFF;
+            dst[i + 51] = (int) (w11 << 12 | w12 >>> 52) & 0x7FFF;
+            dst[i + 52] = (int) (w12 >>> 37) & 0x7FFF;
+            dst[i + 53] = (int) (w12 >>> 22) & 0x7FFF;
+            dst[i + 54] = (int) (w12 >>> 7) & 0x7FFF;
+            dst[i + 55] = (int) (w12 << 8 | w13 >>> 56) & 0x7FFF;
+            dst[i + 56] = (int) (w13 >>> 41) & 0x7FFF;
+            dst[i + 57] = (int) (w13 >>> 26) & 0x7FFF;
+            dst[i + 58] = (int) (w13 >>> 11) & 0x7FFF;
+            dst[i + 59] = (int) (w13 << 4 | w14 >>> 60) & 0x7FFF;
+            dst[i + 60] = (int) (w14 >>> 45) & 0x7FFF;
+            dst[i + 61] = (int) (w14 >>> 30) & 0x7FFF;
+            dst[i + 62] = (int) (w14 >>> 15) & 0x7FFF;
+            dst[i + 63] = (int) w14 & 0x7FFF;
+            index += 15;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 4} unsigned 16-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack16(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = (int) (w0 >>> 48);
+            dst[i + 1] = (int) (w0 >>> 32) & 0xFFFF;
+            dst[i + 2] = (int) (w0 >>> 16) & 0xFFFF;
+            dst[i + 3] = (int) w0 & 0xFFFF;
+            index++;
+            i += 4;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 17-bit values from each of {@code count}
+     * blocks of {@code 17} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack17(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            dst[i] = (int) (w0 >>> 47);
+            dst[i + 1] = (int) (w0 >>> 30) & 0x1FFFF;
+            dst[i + 2] = (int) (w0 >>> 13) & 0x1FFFF;
+            dst[i + 3] = (int) (w0 << 4 | w1 >>> 60) & 0x1FFFF;
+            dst[i + 4] = (int) (w1 >>> 43) & 0x1FFFF;
+            dst[i + 5] = (int) (w1 >>> 26) & 0x1FFFF;
+            dst[i + 6] = (int) (w1 >>> 9) & 0x1FFFF;
+            dst[i + 7] = (int) (w1 << 8 | w2 >>> 56) & 0x1FFFF;
+            dst[i + 8] = (int) (w2 >>> 39) & 0x1FFFF;
+            dst[i + 9] = (int) (w2 >>> 22) & 0x1FFFF;
+            dst[i + 10] = (int) (w2 >>> 5) & 0x1FFFF;
+            dst[i + 11] = (int) (w2 << 12 | w3 >>> 52) & 0x1FFFF;
+            dst[i + 12] = (int) (w3 >>> 35) & 0x1FFFF;
+            dst[i + 13] = (int) (w3 >>> 18) & 0x1FFFF;
+            dst[i + 14] = (int) (w3 >>> 1) & 0x1FFFF;
+            dst[i + 15] = (int) (w3 << 16 | w4 >>> 48) & 0x1FFFF;
+            dst[i + 16] = (int) (w4 >>> 31) & 0x1FFFF;
+            dst[i + 17] = (int) (w4 >>> 14) & 0x1FFFF;
+            dst[i + 18] = (int) (w4 << 3 | w5 >>> 61) & 0x1FFFF;
+            dst[i + 19] = (int) (w5 >>> 44) & 0x1FFFF;
+            dst[i + 20] = (int) (w5 >>> 27) & 0x1FFFF;
+            dst[i + 21] = (int) (w5 >>> 10) & 0x1FFFF;
+            dst[i + 22] = (int) (w5 << 7 | w6 >>> 57) & 0x1FFFF;
+            dst[i + 23] = (int) (w6 >>> 40) & 0x1FFFF;
+            dst[i + 24] = (int) (w6 >>> 23) & 0x1FFFF;
+            dst[i + 25] = (int) (w6 >>> 6) & 0x1FFFF;
+            dst[i + 26] = (int) (w6 << 11 | w7 >>> 53) & 0x1FFFF;
+            dst[i + 27] = (int) (w7 >>> 36) & 0x1FFFF;
+            dst[i + 28] = (int) (w7 >>> 19) & 0x1FFFF;
+            dst[i + 29] = (int) (w7 >>> 2) & 0x1FFFF;
+            dst[i + 30] = (int) (w7 << 15 | w8 >>> 49) & 0x1FFFF;
+            dst[i + 31] = (int) (w8 >>> 32) & 0x1FFFF;
+            dst[i + 32] = (int) (w8 >>> 15) & 0x1FFFF;
+            dst[i + 33] = (int) (w8 << 2 | w9 >>> 62) & 0x1FFFF;
+            dst[i + 34] = (int) (w9 >>> 45) & 0x1FFFF;
+            dst[i + 35] = (int) (w9 >>> 28) & 0x1FFFF;
+            dst[i + 36] = (int) (w9 >>> 11) & 0x1FFFF;
+            dst[i + 37] = (int) (w9 << 6 | w10 >>> 58) & 0x1FFFF;
+            dst[i + 38] = (int) (w10 >>> 41) & 0x1FFFF;
+            dst[i + 39] = (int) (w10 >>> 24) & 0x1FFFF;
+            dst[i + 40] = (int) (w10 >>> 7) & 0x1FFFF;
+            dst[i + 41] = (int) (w10 << 10 | w11 >>> 54) & 0x1FFFF;
+            dst[i + 42] = (int) (w11 >>> 37) & 0x1FFFF;
+            dst[i + 43] = (int) (w11 >>> 20) & 0x1FFFF;
+            dst[i + 44] = (int) (w11 >>> 3) & 0x1FFFF;
+            dst[i + 45] = (int) (w11 << 14 | w12 >>> 50) & 0x1FFFF;
+            dst[i + 46] = (int) (w12 >>> 33) & 0x1FFFF;
+            dst[i + 47] = (int) (w12 >>> 16) & 0x1FFFF;
+            dst[i + 48] = (int) (w12 << 1 | w13 >>> 63) & 0x1FFFF;
+            dst[i + 49] = (int) (w13 >>> 46) & 0x1FFFF;
+            dst[i + 50] = (int) (w13 >>> 29) & 0x1FFFF;
+            dst[i + 51] = (int) (w13 >>> 12) & 0x1FFFF;
+            dst[i + 52] = (int) (w13 << 5 | w14 >>> 59) & 0x1FFFF;
+            dst[i + 53] = (int) (w14 >>> 42) & 0x1FFFF;
+            dst[i + 54] = (int) (w14 >>> 25) & 0x1FFFF;
+            dst[i + 55] = (int) (w14 >>> 8) & 0x1FFFF;
+            dst[i + 56] = (int) (w14 << 9 | w15 >>> 55) & 0x1FFFF;
+            dst[i + 57] = (int) (w15 >>> 38) & 0x1FFFF;
+            dst[i + 58] = (int) (w15 >>> 21) & 0x1FFFF;
+            dst[i + 59] = (int) (w15 >>> 4) & 0x1FFFF;
+            dst[i + 60] = (int) (w15 << 13 | w16 >>> 51) & 0x1FFFF;
+            dst[i + 61] = (int) (w16 >>> 34) & 0x1FFFF;
+            dst[i + 62] = (int) (w16 >>> 17) & 0x1FFFF;
+            dst[i + 63] = (int) w16 & 0x1FFFF;
+            index += 17;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 18-bit values from each of {@code count}
+     * blocks of {@code 9} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack18(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            dst[i] = (int) (w0 >>> 46);
+            dst[i + 1] = (int) (w0 >>> 28) & 0x3FFFF;
+            dst[i + 2] = (int) (w0 >>> 10) & 0x3FFFF;
+            dst[i + 3] = (int) (w0 << 8 | w1 >>> 56) & 0x3FFFF;
+            dst[i + 4] = (int) (w1 >>> 38) & 0x3FFFF;
+            dst[i + 5] = (int) (w1 >>> 20) & 0x3FFFF;
+            dst[i + 6] = (int) (w1 >>> 2) & 0x3FFFF;
+            dst[i + 7] = (int) (w1 << 16 | w2 >>> 48) & 0x3FFFF;
+            dst[i + 8] = (int) (w2 >>> 30) & 0x3FFFF;
+            dst[i + 9] = (int) (w2 >>> 12) & 0x3FFFF;
+            dst[i + 10] = (int) (w2 << 6 | w3 >>> 58) & 0x3FFFF;
+            dst[i + 11] = (int) (w3 >>> 40) & 0x3FFFF;
+            dst[i + 12] = (int) (w3 >>> 22) & 0x3FFFF;
+            dst[i + 13] = (int) (w3 >>> 4) & 0x3FFFF;
+            dst[i + 14] = (int) (w3 << 14 | w4 >>> 50) & 0x3FFFF;
+            dst[i + 15] = (int) (w4 >>> 32) & 0x3FFFF;
+            dst[i + 16] = (int) (w4 >>> 14) & 0x3FFFF;
+            dst[i + 17] = (int) (w4 << 4 | w5 >>> 60) & 0x3FFFF;
+            dst[i + 18] = (int) (w5 >>> 42) & 0x3FFFF;
+            dst[i + 19] = (int) (w5 >>> 24) & 0x3FFFF;
+            dst[i + 20] = (int) (w5 >>> 6) & 0x3FFFF;
+            dst[i + 21] = (int) (w5 << 12 | w6 >>> 52) & 0x3FFFF;
+            dst[i + 22] = (int) (w6 >>> 34) & 0x3FFFF;
+            dst[i + 23] = (int) (w6 >>> 16) & 0x3FFFF;
+            dst[i + 24] = (int) (w6 << 2 | w7 >>> 62) & 0x3FFFF;
+            dst[i + 25] = (int) (w7 >>> 44) & 0x3FFFF;
+            dst[i + 26] = (int) (w7 >>> 26) & 0x3FFFF;
+            dst[i + 27] = (int) (w7 >>> 8) & 0x3FFFF;
+            dst[i + 28] = (int) (w7 << 10 | w8 >>> 54) & 0x3FFFF;
+            dst[i + 29] = (int) (w8 >>> 36) & 0x3FFFF;
+            dst[i + 30] = (int) (w8 >>> 18) & 0x3FFFF;
+            dst[i + 31] = (int) w8 & 0x3FFFF;
+            index += 9;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 19-bit values from each of {@code count}
+     * blocks of {@code 19} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack19(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            dst[i] = (int) (w0 >>> 45);
+            dst[i + 1] = (int) (w0 >>> 26) & 0x7FFFF;
+            dst[i + 2] = (int) (w0 >>> 7) & 0x7FFFF;
+            dst[i + 3] = (int) (w0 << 12 | w1 >>> 52) & 0x7FFFF;
+            dst[i + 4] = (int) (w1 >>> 33) & 0x7FFFF;
+            dst[i + 5] = (int) (w1 >>> 14) & 0x7FFFF;
+            dst[i + 6] = (int) (w1 << 5 | w2 >>> 59) & 0x7FFFF;
+            dst[i + 7] = (int) (w2 >>> 40) & 0x7FFFF;
+            dst[i + 8] = (int) (w2 >>> 21) & 0x7FFFF;
+            dst[i + 9] = (int) (w2 >>> 2) & 0x7FFFF;
+            dst[i + 10] = (int) (w2 << 17 | w3 >>> 47) & 0x7FFFF;
+            dst[i + 11] = (int) (w3 >>> 28) & 0x7FFFF;
+            dst[i + 12] = (int) (w3 >>> 9) & 0x7FFFF;
+            dst[i + 13] = (int) (w3 << 10 | w4 >>> 54) & 0x7FFFF;
+            dst[i + 14] = (int) (w4 >>> 35) & 0x7FFFF;
+            dst[i + 15] = (int) (w4 >>> 16) & 0x7FFFF;
+            dst[i + 16] = (int) (w4 << 3 | w5 >>> 61) & 0x7FFFF;
+            dst[i + 17] = (int) (w5 >>> 42) & 0x7FFFF;
+            dst[i + 18] = (int) (w5 >>> 23) & 0x7FFFF;
+            dst[i + 19] = (int) (w5 >>> 4) & 0x7FFFF;
+            dst[i + 20] = (int) (w5 << 15 | w6 >>> 49) & 0x7FFFF;
+            dst[i + 21] = (int) (w6 >>> 30) & 0x7FFFF;
+            dst[i + 22] = (int) (w6 >>> 11) & 0x7FFFF;
+            dst[i + 23] = (int) (w6 << 8 | w7 >>> 56) & 0x7FFFF;
+            dst[i + 24] = (int) (w7 >>> 37) & 0x7FFFF;
+            dst[i + 25] = (int) (w7 >>> 18) & 0x7FFFF;
+            dst[i + 26] = (int) (w7 << 1 | w8 >>> 63) & 0x7FFFF;
+            dst[i + 27] = (int) (w8 >>> 44) & 0x7FFFF;
+            dst[i + 28] = (int) (w8 >>> 25) & 0x7FFFF;
+            dst[i + 29] = (int) (w8 >>> 6) & 0x7FFFF;
+            dst[i + 30] = (int) (w8 << 13 | w9 >>> 51) & 0x7FFFF;
+            dst[i + 31] = (int) (w9 >>> 32) & 0x7FFFF;
+            dst[i + 32] = (int) (w9 >>> 13) & 0x7FFFF;
+            dst[i + 33] = (int) (w9 << 6 | w10 >>> 58) & 0x7FFFF;
+            dst[i + 34] = (int) (w10 >>> 39) & 0x7FFFF;
+            dst[i + 35] = (int) (w10 >>> 20) & 0x7FFFF;
+            dst[i + 36] = (int) (w10 >>> 1) & 0x7FFFF;
+            dst[i + 37] = (int) (w10 << 18 | w11 >>> 46) & 0x7FFFF;
+            dst[i + 38] = (int) (w11 >>> 27) & 0x7FFFF;
+            dst[i + 39] = (int) (w11 >>> 8) & 0x7FFFF;
+            dst[i + 40] = (int) (w11 << 11 | w12 >>> 53) & 0x7FFFF;
+            dst[i + 41] = (int) (w12 >>> 34) & 0x7FFFF;
+            dst[i + 42] = (int) (w12 >>> 15) & 0x7FFFF;
+            dst[i + 43] = (int) (w12 << 4 | w13 >>> 60) & 0x7FFFF;
+            dst[i + 44] = (int) (w13 >>> 41) & 0x7FFFF;
+            dst[i + 45] = (int) (w13 >>> 22) & 0x7FFFF;
+            dst[i + 46] = (int) (w13 >>> 3) & 0x7FFFF;
+            dst[i + 47] = (int) (w13 << 16 | w14 >>> 48) & 0x7FFFF;
+            dst[i + 48] = (int) (w14 >>> 29) & 0x7FFFF;
+            dst[i + 49] = (int) (w14 >>> 10) & 0x7FFFF;
+            dst[i + 50] = (int) (w14 << 9 | w15 >>> 55) & 0x7FFFF;
+            dst[i + 51] = (int) (w15 >>> 36) & 0x7FFFF;
+            dst[i + 52] = (int) (w15 >>> 17) & 0x7FFFF;
+            dst[i + 53] = (int) (w15 << 2 | w16 >>> 62) & 0x7FFFF;
+            dst[i + 54] = (int) (w16 >>> 43) & 0x7FFFF;
+            dst[i + 55] = (int) (w16 >>> 24) & 0x7FFFF;
+            dst[i + 56] = (int) (w16 >>> 5) & 0x7FFFF;
+            dst[i + 57] = (int) (w16 << 14 | w17 >>> 50) & 0x7FFFF;
+            dst[i + 58] = (int) (w17 >>> 31) & 0x7FFFF;
+            dst[i + 59] = (int) (w17 >>> 12) & 0x7FFFF;
+            dst[i + 60] = (int) (w17 << 7 | w18 >>> 57) & 0x7FFFF;
+            dst[i + 61] = (int) (w18 >>> 38) & 0x7FFFF;
+            dst[i + 62] = (int) (w18 >>> 19) & 0x7FFFF;
+            dst[i + 63] = (int) w18 & 0x7FFFF;
+            index += 19;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 16} unsigned 20-bit values from each of {@code count}
+     * blocks of {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack20(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            dst[i] = (int) (w0 >>> 44);
+            dst[i + 1] = (int) (w0 >>> 24) & 0xFFFFF;
+            dst[i + 2] = (int) (w0 >>> 4) & 0xFFFFF;
+            dst[i + 3] = (int) (w0 << 16 | w1 >>> 48) & 0xFFFFF;
+            dst[i + 4] = (int) (w1 >>> 28) & 0xFFFFF;
+            dst[i + 5] = (int) (w1 >>> 8) & 0xFFFFF;
+            dst[i + 6] = (int) (w1 << 12 | w2 >>> 52) & 0xFFFFF;
+            dst[i + 7] = (int) (w2 >>> 32) & 0xFFFFF;
+            dst[i + 8] = (int) (w2 >>> 12) & 0xFFFFF;
+            dst[i + 9] = (int) (w2 << 8 | w3 >>> 56) & 0xFFFFF;
+            dst[i + 10] = (int) (w3 >>> 36) & 0xFFFFF;
+            dst[i + 11] = (int) (w3 >>> 16) & 0xFFFFF;
+            dst[i + 12] = (int) (w3 << 4 | w4 >>> 60) & 0xFFFFF;
+            dst[i + 13] = (int) (w4 >>> 40) & 0xFFFFF;
+            dst[i + 14] = (int) (w4 >>> 20) & 0xFFFFF;
+            dst[i + 15] = (int) w4 & 0xFFFFF;
+            index += 5;
+            i += 16;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 21-bit values from each of {@code count}
+     * blocks of {@code 21} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack21(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            dst[i] = (int) (w0 >>> 43);
+            dst[i + 1] = (int) (w0 >>> 22) & 0x1FFFFF;
+            dst[i + 2] = (int) (w0 >>> 1) & 0x1FFFFF;
+            dst[i + 3] = (int) (w0 << 20 | w1 >>> 44) & 0x1FFFFF;
+            dst[i + 4] = (int) (w1 >>> 23) & 0x1FFFFF;
+            dst[i + 5] = (int) (w1 >>> 2) & 0x1FFFFF;
+            dst[i + 6] = (int) (w1 << 19 | w2 >>> 45) & 0x1FFFFF;
+            dst[i + 7] = (int) (w2 >>> 24) & 0x1FFFFF;
+            dst[i + 8] = (int) (w2 >>> 3) & 0x1FFFFF;
+            dst[i + 9] = (int) (w2 << 18 | w3 >>> 46) & 0x1FFFFF;
+            dst[i + 10] = (int) (w3 >>> 25) & 0x1FFFFF;
+            dst[i + 11] = (int) (w3 >>> 4) & 0x1FFFFF;
+            dst[i + 12] = (int) (w3 << 17 | w4 >>> 47) & 0x1FFFFF;
+            dst[i + 13] = (int) (w4 >>> 26) & 0x1FFFFF;
+            dst[i + 14] = (int) (w4 >>> 5) & 0x1FFFFF;
+            dst[i + 15] = (int) (w4 << 16 | w5 >>> 48) & 0x1FFFFF;
+            dst[i + 16] = (int) (w5 >>> 27) & 0x1FFFFF;
+            dst[i + 17] = (int) (w5 >>> 6) & 0x1FFFFF;
+            dst[i + 18] = (int) (w5 << 15 | w6 >>> 49) & 0x1FFFFF;
+            dst[i + 19] = (int) (w6 >>> 28) & 0x1FFFFF;
+            dst[i + 20] = (int) (w6 >>> 7) & 0x1FFFFF;
+            dst[i + 21] = (int) (w6 << 14 | w7 >>> 50) & 0x1FFFFF;
+            dst[i + 22] = (int) (w7 >>> 29) & 0x1FFFFF;
+            dst[i + 23] = (int) (w7 >>> 8) & 0x1FFFFF;
+            dst[i + 24] = (int) (w7 << 13 | w8 >>> 51) & 0x1FFFFF;
+            dst[i + 25] = (int) (w8 >>> 30) & 0x1FFFFF;
+            dst[i + 26] = (int) (w8 >>> 9) & 0x1FFFFF;
+            dst[i + 27] = (int) (w8 << 12 | w9 >>> 52) & 0x1FFFFF;
+            dst[i + 28] = (int) (w9 >>> 31) & 0x1FFFFF;
+            dst[i + 29] = (int) (w9 >>> 10) & 0x1FFFFF;
+            dst[i + 30] = (int) (w9 << 11 | w10 >>> 53) & 0x1FFFFF;
+            dst[i + 31] = (int) (w10 >>> 32) & 0x1FFFFF;
+            dst[i + 32] = (int) (w10 >>> 11) & 0x1FFFFF;
+            dst[i + 33] = (int) (w10 << 10 | w11 >>> 54) & 0x1FFFFF;
+            dst[i + 34] = (int) (w11 >>> 33) & 0x1FFFFF;
+            dst[i + 35] = (int) (w11 >>> 12) & 0x1FFFFF;
+            dst[i + 36] = (int) (w11 << 9 | w12 >>> 55) & 0x1FFFFF;
+            dst[i + 37] = (int) (w12 >>> 34) & 0x1FFFFF;
+            dst[i + 38] = (int) (w12 >>> 13) & 0x1FFFFF;
+            dst[i + 39] = (int) (w12 << 8 | w13 >>> 56) & 0x1FFFFF;
+            dst[i + 40] = (int) (w13 >>> 35) & 0x1FFFFF;
+            dst[i + 41] = (int) (w13 >>> 14) & 0x1FFFFF;
+            dst[i + 42] = (int) (w13 << 7 | w14 >>> 57) & 0x1FFFFF;
+            dst[i + 43] = (int) (w14 >>> 36) & 0x1FFFFF;
+            dst[i + 44] = (int) (w14 >>> 15) & 0x1FFFFF;
+            dst[i + 45] = (int) (w14 << 6 | w15 >>> 58) & 0x1FFFFF;
+            dst[i + 46] = (int) (w15 >>> 37) & 0x1FFFFF;
+            dst[i + 47] = (int) (w15 >>> 16) & 0x1FFFFF;
+            dst[i + 48] = (int) (w15 << 5 | w16 >>> 59) & 0x1FFFFF;
+            dst[i + 49] = (int) (w16 >>> 38) & 0x1FFFFF;
+            dst[i + 50] = (int) (w16 >>> 17) & 0x1FFFFF;
+            dst[i + 51] = (int) (w16 << 4 | w17 >>> 60) & 0x1FFFFF;
+            dst[i + 52] = (int) (w17 >>> 39) & 0x1FFFFF;
+            dst[i + 53] = (int) (w17 >>> 18) & 0x1FFFFF;
+            dst[i + 54] = (int) (w17 << 3 | w18 >>> 61) & 0x1FFFFF;
+            dst[i + 55] = (int) (w18 >>> 40) & 0x1FFFFF;
+            dst[i + 56] = (int) (w18 >>> 19) & 0x1FFFFF;
+            dst[i + 57] = (int) (w18 << 2 | w19 >>> 62) & 0x1FFFFF;
+            dst[i + 58] = (int) (w19 >>> 41) & 0x1FFFFF;
+            dst[i + 59] = (int) (w19 >>> 20) & 0x1FFFFF;
+            dst[i + 60] = (int) (w19 << 1 | w20 >>> 63) & 0x1FFFFF;
+            dst[i + 61] = (int) (w20 >>> 42) & 0x1FFFFF;
+            dst[i + 62] = (int) (w20 >>> 21) & 0x1FFFFF;
+            dst[i + 63] = (int) w20 & 0x1FFFFF;
+            index += 21;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 22-bit values from each of {@code count}
+     * blocks of {@code 11} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack22(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            dst[i] = (int) (w0 >>> 42);
+            dst[i + 1] = (int) (w0 >>> 20) & 0x3FFFFF;
+            dst[i + 2] = (int) (w0 << 2 | w1 >>> 62) & 0x3FFFFF;
+            dst[i + 3] = (int) (w1 >>> 40) & 0x3FFFFF;
+            dst[i + 4] = (int) (w1 >>> 18) & 0x3FFFFF;
+            dst[i + 5] = (int) (w1 << 4 | w2 >>> 60) & 0x3FFFFF;
+            dst[i + 6] = (int) (w2 >>> 38) & 0x3FFFFF;
+            dst[i + 7] = (int) (w2 >>> 16) & 0x3FFFFF;
+            dst[i + 8] = (int) (w2 << 6 | w3 >>> 58) & 0x3FFFFF;
+            dst[i + 9] = (int) (w3 >>> 36) & 0x3FFFFF;
+            dst[i + 10] = (int) (w3 >>> 14) & 0x3FFFFF;
+            dst[i + 11] = (int) (w3 << 8 | w4 >>> 56) & 0x3FFFFF;
+            dst[i + 12] = (int) (w4 >>> 34) & 0x3FFFFF;
+            dst[i + 13] = (int) (w4 >>> 12) & 0x3FFFFF;
+            dst[i + 14] = (int) (w4 << 10 | w5 >>> 54) & 0x3FFFFF;
+            dst[i + 15] = (int) (w5 >>> 32) & 0x3FFFFF;
+            dst[i + 16] = (int) (w5 >>> 10) & 0x3FFFFF;
+            dst[i + 17] = (int) (w5 << 12 | w6 >>> 52) & 0x3FFFFF;
+            dst[i + 18] = (int) (w6 >>> 30) & 0x3FFFFF;
+            dst[i + 19] = (int) (w6 >>> 8) & 0x3FFFFF;
+            dst[i + 20] = (int) (w6 << 14 | w7 >>> 50) & 0x3FFFFF;
+            dst[i + 21] = (int) (w7 >>> 28) & 0x3FFFFF;
+            dst[i + 22] = (int) (w7 >>> 6) & 0x3FFFFF;
+            dst[i + 23] = (int) (w7 << 16 | w8 >>> 48) & 0x3FFFFF;
+            dst[i + 24] = (int) (w8 >>> 26) & 0x3FFFFF;
+            dst[i + 25] = (int) (w8 >>> 4) & 0x3FFFFF;
+            dst[i + 26] = (int) (w8 << 18 | w9 >>> 46) & 0x3FFFFF;
+            dst[i + 27] = (int) (w9 >>> 24) & 0x3FFFFF;
+            dst[i + 28] = (int) (w9 >>> 2) & 0x3FFFFF;
+            dst[i + 29] = (int) (w9 << 20 | w10 >>> 44) & 0x3FFFFF;
+            dst[i + 30] = (int) (w10 >>> 22) & 0x3FFFFF;
+            dst[i + 31] = (int) w10 & 0x3FFFFF;
+            index += 11;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 23-bit values from each of {@code count}
+     * blocks of {@code 23} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack23(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            dst[i] = (int) (w0 >>> 41);
+            dst[i + 1] = (int) (w0 >>> 18) & 0x7FFFFF;
+            dst[i + 2] = (int) (w0 << 5 | w1 >>> 59) & 0x7FFFFF;
+            dst[i + 3] = (int) (w1 >>> 36) & 0x7FFFFF;
+            dst[i + 4] = (int) (w1 >>> 13) & 0x7FFFFF;
+            dst[i + 5] = (int) (w1 << 10 | w2 >>> 54) & 0x7FFFFF;
+            dst[i + 6] = (int) (w2 >>> 31) & 0x7FFFFF;
+            dst[i + 7] = (int) (w2 >>> 8) & 0x7FFFFF;
+            dst[i + 8] = (int) (w2 << 15 | w3 >>> 49) & 0x7FFFFF;
+            dst[i + 9] = (int) (w3 >>> 26) & 0x7FFFFF;
+            dst[i + 10] = (int) (w3 >>> 3) & 0x7FFFFF;
+            dst[i + 11] = (int) (w3 << 20 | w4 >>> 44) & 0x7FFFFF;
+            dst[i + 12] = (int) (w4 >>> 21) & 0x7FFFFF;
+            dst[i + 13] = (int) (w4 << 2 | w5 >>> 62) & 0x7FFFFF;
+            dst[i + 14] = (int) (w5 >>> 39) & 0x7FFFFF;
+            dst[i + 15] = (int) (w5 >>> 16) & 0x7FFFFF;
+            dst[i + 16] = (int) (w5 << 7 | w6 >>> 57) & 0x7FFFFF;
+            dst[i + 17] = (int) (w6 >>> 34) & 0x7FFFFF;
+            dst[i + 18] = (int) (w6 >>> 11) & 0x7FFFFF;
+            dst[i + 19] = (int) (w6 << 12 | w7 >>> 52) & 0x7FFFFF;
+            dst[i + 20] = (int) (w7 >>> 29) & 0x7FFFFF;
+            dst[i + 21] = (int) (w7 >>> 6) & 0x7FFFFF;
+            dst[i + 22] = (int) (w7 << 17 | w8 >>> 47) & 0x7FFFFF;
+            dst[i + 23] = (int) (w8 >>> 24) & 0x7FFFFF;
+            dst[i + 24] = (int) (w8 >>> 1) & 0x7FFFFF;
+            dst[i + 25] = (int) (w8 << 22 | w9 >>> 42) & 0x7FFFFF;
+            dst[i + 26] = (int) (w9 >>> 19) & 0x7FFFFF;
+            dst[i + 27] = (int) (w9 << 4 | w10 >>> 60) & 0x7FFFFF;
+            dst[i + 28] = (int) (w10 >>> 37) & 0x7FFFFF;
+            dst[i + 29] = (int) (w10 >>> 14) & 0x7FFFFF;
+            dst[i + 30] = (int) (w10 << 9 | w11 >>> 55) & 0x7FFFFF;
+            dst[i + 31] = (int) (w11 >>> 32) & 0x7FFFFF;
+            dst[i + 32] = (int) (w11 >>> 9) & 0x7FFFFF;
+            dst[i + 33] = (int) (w11 << 14 | w12 >>> 50) & 0x7FFFFF;
+            dst[i + 34] = (int) (w12 >>> 27) & 0x7FFFFF;
+            dst[i + 35] = (int) (w12 >>> 4) & 0x7FFFFF;
+            dst[i + 36] = (int) (w12 << 19 | w13 >>> 45) & 0x7FFFFF;
+            dst[i + 37] = (int) (w13 >>> 22) & 0x7FFFFF;
+            dst[i + 38] = (int) (w13 << 1 | w14 >>> 63) & 0x7FFFFF;
+            dst[i + 39] = (int) (w14 >>> 40) & 0x7FFFFF;
+            dst[i + 40] = (int) (w14 >>> 17) & 0x7FFFFF;
+            dst[i + 41] = (int) (w14 << 6 | w15 >>> 58) & 0x7FFFFF;
+            dst[i + 42] = (int) (w15 >>> 35) & 0x7FFFFF;
+            dst[i + 43] = (int) (w15 >>> 12) & 0x7FFFFF;
+            dst[i + 44] = (int) (w15 << 11 | w16 >>> 53) & 0x7FFFFF;
+            dst[i + 45] = (int) (w16 >>> 30) & 0x7FFFFF;
+            dst[i + 46] = (int) (w16 >>> 7) & 0x7FFFFF;
+            dst[i + 47] = (int) (w16 << 16 | w17 >>> 48) & 0x7FFFFF;
+            dst[i + 48] = (int) (w17 >>> 25) & 0x7FFFFF;
+            dst[i + 49] = (int) (w17 >>> 2) & 0x7FFFFF;
+            dst[i + 50] = (int) (w17 << 21 | w18 >>> 43) & 0x7FFFFF;
+            dst[i + 51] = (int) (w18 >>> 20) & 0x7FFFFF;
+            dst[i + 52] = (int) (w18 << 3 | w19 >>> 61) & 0x7FFFFF;
+            dst[i + 53] = (int) (w19 >>> 38) & 0x7FFFFF;
+            dst[i + 54] = (int) (w19 >>> 15) & 0x7FFFFF;
+            dst[i + 55] = (int) (w19 << 8 | w20 >>> 56) & 0x7FFFFF;
+            dst[i + 56] = (int) (w20 >>> 33) & 0x7FFFFF;
+            dst[i + 57] = (int) (w20 >>> 10) & 0x7FFFFF;
+            dst[i + 58] = (int) (w20 << 13 | w21 >>> 51) & 0x7FFFFF;
+            dst[i + 59] = (int) (w21 >>> 28) & 0x7FFFFF;
+            dst[i + 60] = (int) (w21 >>> 5) & 0x7FFFFF;
+            dst[i + 61] = (int) (w21 << 18 | w22 >>> 46) & 0x7FFFFF;
+            dst[i + 62] = (int) (w22 >>> 23) & 0x7FFFFF;
+            dst[i + 63] = (int) w22 & 0x7FFFFF;
+            index += 23;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 8} unsigned 24-bit values from each of {@code count}
+     * blocks of {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack24(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            dst[i] = (int) (w0 >>> 40);
+            dst[i + 1] = (int) (w0 >>> 16) & 0xFFFFFF;
+            dst[i + 2] = (int) (w0 << 8 | w1 >>> 56) & 0xFFFFFF;
+            dst[i + 3] = (int) (w1 >>> 32) & 0xFFFFFF;
+            dst[i + 4] = (int) (w1 >>> 8) & 0xFFFFFF;
+            dst[i + 5] = (int) (w1 << 16 | w2 >>> 48) & 0xFFFFFF;
+            dst[i + 6] = (int) (w2 >>> 24) & 0xFFFFFF;
+            dst[i + 7] = (int) w2 & 0xFFFFFF;
+            index += 3;
+            i += 8;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 25-bit values from each of {@code count}
+     * blocks of {@code 25} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack25(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            final long w23 = words[index + 23];
+            final long w24 = words[index + 24];
+            dst[i] = (int) (w0 >>> 39);
+            dst[i + 1] = (int) (w0 >>> 14) & 0x1FFFFFF;
+            dst[i + 2] = (int) (w0 << 11 | w1 >>> 53) & 0x1FFFFFF;
+            dst[i + 3] = (int) (w1 >>> 28) & 0x1FFFFFF;
+            dst[i + 4] = (int) (w1 >>> 3) & 0x1FFFFFF;
+            dst[i + 5] = (int) (w1 << 22 | w2 >>> 42) & 0x1FFFFFF;
+            dst[i + 6] = (int) (w2 >>> 17) & 0x1FFFFFF;
+            dst[i + 7] = (int) (w2 << 8 | w3 >>> 56) & 0x1FFFFFF;
+            dst[i + 8] = (int) (w3 >>> 31) & 0x1FFFFFF;
+            dst[i + 9] = (int) (w3 >>> 6) & 0x1FFFFFF;
+            dst[i + 10] = (int) (w3 << 19 | w4 >>> 45) & 0x1FFFFFF;
+            dst[i + 11] = (int) (w4 >>> 20) & 0x1FFFFFF;
+            dst[i + 12] = (int) (w4 << 5 | w5 >>> 59) & 0x1FFFFFF;
+            dst[i + 13] = (int) (w5 >>> 34) & 0x1FFFFFF;
+            dst[i + 14] = (int) (w5 >>> 9) & 0x1FFFFFF;
+            dst[i + 15] = (int) (w5 << 16 | w6 >>> 48) & 0x1FFFFFF;
+            dst[i + 16] = (int) (w6 >>> 23) & 0x1FFFFFF;
+            dst[i + 17] = (int) (w6 << 2 | w7 >>> 62) & 0x1FFFFFF;
+            dst[i + 18] = (int) (w7 >>> 37) & 0x1FFFFFF;
+            dst[i + 19] = (int) (w7 >>> 12) & 0x1FFFFFF;
+            dst[i + 20] = (int) (w7 << 13 | w8 >>> 51) & 0x1FFFFFF;
+            dst[i + 21] = (int) (w8 >>> 26) & 0x1FFFFFF;
+            dst[i + 22] = (int) (w8 >>> 1) & 0x1FFFFFF;
+            dst[i + 23] = (int) (w8 << 24 | w9 >>> 40) & 0x1FFFFFF;
+            dst[i + 24] = (int) (w9 >>> 15) & 0x1FFFFFF;
+            dst[i + 25] = (int) (w9 << 10 | w10 >>> 54) & 0x1FFFFFF;
+            dst[i + 26] = (int) (w10 >>> 29) & 0x1FFFFFF;
+            dst[i + 27] = (int) (w10 >>> 4) & 0x1FFFFFF;
+            dst[i + 28] = (int) (w10 << 21 | w11 >>> 43) & 0x1FFFFFF;
+            dst[i + 29] = (int) (w11 >>> 18) & 0x1FFFFFF;
+            dst[i + 30] = (int) (w11 << 7 | w12 >>> 57) & 0x1FFFFFF;
+            dst[i + 31] = (int) (w12 >>> 32) & 0x1FFFFFF;
+            dst[i + 32] = (int) (w12 >>> 7) & 0x1FFFFFF;
+            dst[i + 33] = (int) (w12 << 18 | w13 >>> 46) & 0x1FFFFFF;
+            dst[i + 34] = (int) (w13 >>> 21) & 0x1FFFFFF;
+            dst[i + 35] = (int) (w13 << 4 | w14 >>> 60) & 0x1FFFFFF;
+            dst[i + 36] = (int) (w14 >>> 35) & 0x1FFFFFF;
+            dst[i + 37] = (int) (w14 >>> 10) & 0x1FFFFFF;
+            dst[i + 38] = (int) (w14 << 15 | w15 >>> 49) & 0x1FFFFFF;
+            dst[i + 39] = (int) (w15 >>> 24) & 0x1FFFFFF;
+            dst[i + 40] = (int) (w15 << 1 | w16 >>> 63) & 0x1FFFFFF;
+            dst[i + 41] = (int) (w16 >>> 38) & 0x1FFFFFF;
+            dst[i + 42] = (int) (w16 >>> 13) & 0x1FFFFFF;
+            dst[i + 43] = (int) (w16 << 12 | w17 >>> 52) & 0x1FFFFFF;
+            dst[i + 44] = (int) (w17 >>> 27) & 0x1FFFFFF;
+            dst[i + 45] = (int) (w17 >>> 2) & 0x1FFFFFF;
+            dst[i + 46] = (int) (w17 << 23 | w18 >>> 41) & 0x1FFFFFF;
+            dst[i + 47] = (int) (w18 >>> 16) & 0x1FFFFFF;
+            dst[i + 48] = (int) (w18 << 9 | w19 >>> 55) & 0x1FFFFFF;
+            dst[i + 49] = (int) (w19 >>> 30) & 0x1FFFFFF;
+            dst[i + 50] = (int) (w19 >>> 5) & 0x1FFFFFF;
+            dst[i + 51] = (int) (w19 << 20 | w20 >>> 44) & 0x1FFFFFF;
+            dst[i + 52] = (int) (w20 >>> 19) & 0x1FFFFFF;
+            dst[i + 53] = (int) (w20 << 6 | w21 >>> 58) & 0x1FFFFFF;
+            dst[i + 54] = (int) (w21 >>> 33) & 0x1FFFFFF;
+            dst[i + 55] = (int) (w21 >>> 8) & 0x1FFFFFF;
+            dst[i + 56] = (int) (w21 << 17 | w22 >>> 47) & 0x1FFFFFF;
+            dst[i + 57] = (int) (w22 >>> 22) & 0x1FFFFFF;
+            dst[i + 58] = (int) (w22 << 3 | w23 >>> 61) & 0x1FFFFFF;
+            dst[i + 59] = (int) (w23 >>> 36) & 0x1FFFFFF;
+            dst[i + 60] = (int) (w23 >>> 11) & 0x1FFFFFF;
+            dst[i + 61] = (int) (w23 << 14 | w24 >>> 50) & 0x1FFFFFF;
+            dst[i + 62] = (int) (w24 >>> 25) & 0x1FFFFFF;
+            dst[i + 63] = (int) w24 & 0x1FFFFFF;
+            index += 25;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 26-bit values from each of {@code count}
+     * blocks of {@code 13} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack26(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            dst[i] = (int) (w0 >>> 38);
+            dst[i + 1] = (int) (w0 >>> 12) & 0x3FFFFFF;
+            dst[i + 2] = (int) (w0 << 14 | w1 >>> 50) & 0x3FFFFFF;
+            dst[i + 3] = (int) (w1 >>> 24) & 0x3FFFFFF;
+            dst[i + 4] = (int) (w1 << 2 | w2 >>> 62) & 0x3FFFFFF;
+            dst[i + 5] = (int) (w2 >>> 36) & 0x3FFFFFF;
+            dst[i + 6] = (int) (w2 >>> 10) & 0x3FFFFFF;
+            dst[i + 7] = (int) (w2 << 16 | w3 >>> 48) & 0x3FFFFFF;
+            dst[i + 8] = (int) (w3 >>> 22) & 0x3FFFFFF;
+            dst[i + 9] = (int) (w3 << 4 | w4 >>> 60) & 0x3FFFFFF;
+            dst[i + 10] = (int) (w4 >>> 34) & 0x3FFFFFF;
+            dst[i + 11] = (int) (w4 >>> 8) & 0x3FFFFFF;
+            dst[i + 12] = (int) (w4 << 18 | w5 >>> 46) & 0x3FFFFFF;
+            dst[i + 13] = (int) (w5 >>> 20) & 0x3FFFFFF;
+            dst[i + 14] = (int) (w5 << 6 | w6 >>> 58) & 0x3FFFFFF;
+            dst[i + 15] = (int) (w6 >>> 32) & 0x3FFFFFF;
+            dst[i + 16] = (int) (w6 >>> 6) & 0x3FFFFFF;
+            dst[i + 17] = (int) (w6 << 20 | w7 >>> 44) & 0x3FFFFFF;
+            dst[i + 18] = (int) (w7 >>> 18) & 0x3FFFFFF;
+            dst[i + 19] = (int) (w7 << 8 | w8 >>> 56) & 0x3FFFFFF;
+            dst[i + 20] = (int) (w8 >>> 30) & 0x3FFFFFF;
+            dst[i + 21] = (int) (w8 >>> 4) & 0x3FFFFFF;
+            dst[i + 22] = (int) (w8 << 22 | w9 >>> 42) & 0x3FFFFFF;
+            dst[i + 23] = (int) (w9 >>> 16) & 0x3FFFFFF;
+            dst[i + 24] = (int) (w9 << 10 | w10 >>> 54) & 0x3FFFFFF;
+            dst[i + 25] = (int) (w10 >>> 28) & 0x3FFFFFF;
+            dst[i + 26] = (int) (w10 >>> 2) & 0x3FFFFFF;
+            dst[i + 27] = (int) (w10 << 24 | w11 >>> 40) & 0x3FFFFFF;
+            dst[i + 28] = (int) (w11 >>> 14) & 0x3FFFFFF;
+            dst[i + 29] = (int) (w11 << 12 | w12 >>> 52) & 0x3FFFFFF;
+            dst[i + 30] = (int) (w12 >>> 26) & 0x3FFFFFF;
+            dst[i + 31] = (int) w12 & 0x3FFFFFF;
+            index += 13;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 27-bit values from each of {@code count}
+     * blocks of {@code 27} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack27(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            final long w23 = words[index + 23];
+            final long w24 = words[index + 24];
+            final long w25 = words[index + 25];
+            final long w26 = words[index + 26];
+            dst[i] = (int) (w0 >>> 37);
+            dst[i + 1] = (int) (w0 >>> 10) & 0x7FFFFFF;
+            dst[i + 2] = (int) (w0 << 17 | w1 >>> 47) & 0x7FFFFFF;
+            dst[i + 3] = (int) (w1 >>> 20) & 0x7FFFFFF;
+            dst[i + 4] = (int) (w1 << 7 | w2 >>> 57) & 0x7FFFFFF;
+            dst[i + 5] = (int) (w2 >>> 30) & 0x7FFFFFF;
+            dst[i + 6] = (int) (w2 >>> 3) & 0x7FFFFFF;
+            dst[i + 7] = (int) (w2 << 24 | w3 >>> 40) & 0x7FFFFFF;
+            dst[i + 8] = (int) (w3 >>> 13) & 0x7FFFFFF;
+            dst[i + 9] = (int) (w3 << 14 | w4 >>> 50) & 0x7FFFFFF;
+            dst[i + 10] = (int) (w4 >>> 23) & 0x7FFFFFF;
+            dst[i + 11] = (int) (w4 << 4 | w5 >>> 60) & 0x7FFFFFF;
+            dst[i + 12] = (int) (w5 >>> 33) & 0x7FFFFFF;
+            dst[i + 13] = (int) (w5 >>> 6) & 0x7FFFFFF;
+            dst[i + 14] = (int) (w5 << 21 | w6 >>> 43) & 0x7FFFFFF;
+            dst[i + 15] = (int) (w6 >>> 16) & 0x7FFFFFF;
+            dst[i + 16] = (int) (w6 << 11 | w7 >>> 53) & 0x7FFFFFF;
+            dst[i + 17] = (int) (w7 >>> 26) & 0x7FFFFFF;
+            dst[i + 18] = (int) (w7 << 1 | w8 >>> 63) & 0x7FFFFFF;
+            dst[i + 19] = (int) (w8 >>> 36) & 0x7FFFFFF;
+            dst[i + 20] = (int) (w8 >>> 9) & 0x7FFFFFF;
+            dst[i + 21] = (int) (w8 << 18 | w9 >>> 46) & 0x7FFFFFF;
+            dst[i + 22] = (int) (w9 >>> 19) & 0x7FFFFFF;
+            dst[i + 23] = (int) (w9 << 8 | w10 >>> 56) & 0x7FFFFFF;
+            dst[i + 24] = (int) (w10 >>> 29) & 0x7FFFFFF;
+            dst[i + 25] = (int) (w10 >>> 2) & 0x7FFFFFF;
+            dst[i + 26] = (int) (w10 << 25 | w11 >>> 39) & 0x7FFFFFF;
+            dst[i + 27] = (int) (w11 >>> 12) & 0x7FFFFFF;
+            dst[i + 28] = (int) (w11 << 15 | w12 >>> 49) & 0x7FFFFFF;
+            dst[i + 29] = (int) (w12 >>> 22) & 0x7FFFFFF;
+            dst[i + 30] = (int) (w12 << 5 | w13 >>> 59) & 0x7FFFFFF;
+            dst[i + 31] = (int) (w13 >>> 32) & 0x7FFFFFF;
+            dst[i + 32] = (int) (w13 >>> 5) & 0x7FFFFFF;
+            dst[i + 33] = (int) (w13 << 22 | w14 >>> 42) & 0x7FFFFFF;
+            dst[i + 34] = (int) (w14 >>> 15) & 0x7FFFFFF;
+            dst[i + 35] = (int) (w14 << 12 | w15 >>> 52) & 0x7FFFFFF;
+            dst[i + 36] = (int) (w15 >>> 25) & 0x7FFFFFF;
+            dst[i + 37] = (int) (w15 << 2 | w16 >>> 62) & 0x7FFFFFF;
+            dst[i + 38] = (int) (w16 >>> 35) & 0x7FFFFFF;
+            dst[i + 39] = (int) (w16 >>> 8) & 0x7FFFFFF;
+            dst[i + 40] = (int) (w16 << 19 | w17 >>> 45) & 0x7FFFFFF;
+            dst[i + 41] = (int) (w17 >>> 18) & 0x7FFFFFF;
+            dst[i + 42] = (int) (w17 << 9 | w18 >>> 55) & 0x7FFFFFF;
+            dst[i + 43] = (int) (w18 >>> 28) & 0x7FFFFFF;
+            dst[i + 44] = (int) (w18 >>> 1) & 0x7FFFFFF;
+            dst[i + 45] = (int) (w18 << 26 | w19 >>> 38) & 0x7FFFFFF;
+            dst[i + 46] = (int) (w19 >>> 11) & 0x7FFFFFF;
+            dst[i + 47] = (int) (w19 << 16 | w20 >>> 48) & 0x7FFFFFF;
+            dst[i + 48] = (int) (w20 >>> 21) & 0x7FFFFFF;
+            dst[i + 49] = (int) (w20 << 6 | w21 >>> 58) & 0x7FFFFFF;
+            dst[i + 50] = (int) (w21 >>> 31) & 0x7FFFFFF;
+            dst[i + 51] = (int) (w21 >>> 4) & 0x7FFFFFF;
+            dst[i + 52] = (int) (w21 << 23 | w22 >>> 41) & 0x7FFFFFF;
+            dst[i + 53] = (int) (w22 >>> 14) & 0x7FFFFFF;
+            dst[i + 54] = (int) (w22 << 13 | w23 >>> 51) & 0x7FFFFFF;
+            dst[i + 55] = (int) (w23 >>> 24) & 0x7FFFFFF;
+            dst[i + 56] = (int) (w23 << 3 | w24 >>> 61) & 0x7FFFFFF;
+            dst[i + 57] = (int) (w24 >>> 34) & 0x7FFFFFF;
+            dst[i + 58] = (int) (w24 >>> 7) & 0x7FFFFFF;
+            dst[i + 59] = (int) (w24 << 20 | w25 >>> 44) & 0x7FFFFFF;
+            dst[i + 60] = (int) (w25 >>> 17) & 0x7FFFFFF;
+            dst[i + 61] = (int) (w25 << 10 | w26 >>> 54) & 0x7FFFFFF;
+            dst[i + 62] = (int) (w26 >>> 27) & 0x7FFFFFF;
+            dst[i + 63] = (int) w26 & 0x7FFFFFF;
+            index += 27;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 16} unsigned 28-bit values from each of {@code count}
+     * blocks of {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack28(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            dst[i] = (int) (w0 >>> 36);
+            dst[i + 1] = (int) (w0 >>> 8) & 0xFFFFFFF;
+            dst[i + 2] = (int) (w0 << 20 | w1 >>> 44) & 0xFFFFFFF;
+            dst[i + 3] = (int) (w1 >>> 16) & 0xFFFFFFF;
+            dst[i + 4] = (int) (w1 << 12 | w2 >>> 52) & 0xFFFFFFF;
+            dst[i + 5] = (int) (w2 >>> 24) & 0xFFFFFFF;
+            dst[i + 6] = (int) (w2 << 4 | w3 >>> 60) & 0xFFFFFFF;
+            dst[i + 7] = (int) (w3 >>> 32) & 0xFFFFFFF;
+            dst[i + 8] = (int) (w3 >>> 4) & 0xFFFFFFF;
+            dst[i + 9] = (int) (w3 << 24 | w4 >>> 40) & 0xFFFFFFF;
+            dst[i + 10] = (int) (w4 >>> 12) & 0xFFFFFFF;
+            dst[i + 11] = (int) (w4 << 16 | w5 >>> 48) & 0xFFFFFFF;
+            dst[i + 12] = (int) (w5 >>> 20) & 0xFFFFFFF;
+            dst[i + 13] = (int) (w5 << 8 | w6 >>> 56) & 0xFFFFFFF;
+            dst[i + 14] = (int) (w6 >>> 28) & 0xFFFFFFF;
+            dst[i + 15] = (int) w6 & 0xFFFFFFF;
+            index += 7;
+            i += 16;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 29-bit values from each of {@code count}
+     * blocks of {@code 29} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack29(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            final long w23 = words[index + 23];
+            final long w24 = words[index + 24];
+            final long w25 = words[index + 25];
+            final long w26 = words[index + 26];
+            final long w27 = words[index + 27];
+            final long w28 = words[index + 28];
+            dst[i] = (int) (w0 >>> 35);
+            dst[i + 1] = (int) (w0 >>> 6) & 0x1FFFFFFF;
+            dst[i + 2] = (int) (w0 << 23 | w1 >>> 41) & 0x1FFFFFFF;
+            dst[i + 3] = (int) (w1 >>> 12) & 0x1FFFFFFF;
+            dst[i + 4] = (int) (w1 << 17 | w2 >>> 47) & 0x1FFFFFFF;
+            dst[i + 5] = (int) (w2 >>> 18) & 0x1FFFFFFF;
+            dst[i + 6] = (int) (w2 << 11 | w3 >>> 53) & 0x1FFFFFFF;
+            dst[i + 7] = (int) (w3 >>> 24) & 0x1FFFFFFF;
+            dst[i + 8] = (int) (w3 << 5 | w4 >>> 59) & 0x1FFFFFFF;
+            dst[i + 9] = (int) (w4 >>> 30) & 0x1FFFFFFF;
+            dst[i + 10] = (int) (w4 >>> 1) & 0x1FFFFFFF;
+            dst[i + 11] = (int) (w4 << 28 | w5 >>> 36) & 0x1FFFFFFF;
+            dst[i + 12] = (int) (w5 >>> 7) & 0x1FFFFFFF;
+            dst[i + 13] = (int) (w5 << 22 | w6 >>> 42) & 0x1FFFFFFF;
+            dst[i + 14] = (int) (w6 >>> 13) & 0x1FFFFFFF;
+            dst[i + 15] = (int) (w6 << 16 | w7 >>> 48) & 0x1FFFFFFF;
+            dst[i + 16] = (int) (w7 >>> 19) & 0x1FFFFFFF;
+            dst[i + 17] = (int) (w7 << 10 | w8 >>> 54) & 0x1FFFFFFF;
+            dst[i + 18] = (int) (w8 >>> 25) & 0x1FFFFFFF;
+            dst[i + 19] = (int) (w8 << 4 | w9 >>> 60) & 0x1FFFFFFF;
+            dst[i + 20] = (int) (w9 >>> 31) & 0x1FFFFFFF;
+            dst[i + 21] = (int) (w9 >>> 2) & 0x1FFFFFFF;
+            dst[i + 22] = (int) (w9 << 27 | w10 >>> 37) & 0x1FFFFFFF;
+            dst[i + 23] = (int) (w10 >>> 8) & 0x1FFFFFFF;
+            dst[i + 24] = (int) (w10 << 21 | w11 >>> 43) & 0x1FFFFFFF;
+            dst[i + 25] = (int) (w11 >>> 14) & 0x1FFFFFFF;
+            dst[i + 26] = (int) (w11 << 15 | w12 >>> 49) & 0x1FFFFFFF;
+            dst[i + 27] = (int) (w12 >>> 20) & 0x1FFFFFFF;
+            dst[i + 28] = (int) (w12 << 9 | w13 >>> 55) & 0x1FFFFFFF;
+            dst[i + 29] = (int) (w13 >>> 26) & 0x1FFFFFFF;
+            dst[i + 30] = (int) (w13 << 3 | w14 >>> 61) & 0x1FFFFFFF;
+            dst[i + 31] = (int) (w14 >>> 32) & 0x1FFFFFFF;
+            dst[i + 32] = (int) (w14 >>> 3) & 0x1FFFFFFF;
+            dst[i + 33] = (int) (w14 << 26 | w15 >>> 38) & 0x1FFFFFFF;
+            dst[i + 34] = (int) (w15 >>> 9) & 0x1FFFFFFF;
+            dst[i + 35] = (int) (w15 << 20 | w16 >>> 44) & 0x1FFFFFFF;
+            dst[i + 36] = (int) (w16 >>> 15) & 0x1FFFFFFF;
+            dst[i + 37] = (int) (w16 << 14 | w17 >>> 50) & 0x1FFFFFFF;
+            dst[i + 38] = (int) (w17 >>> 21) & 0x1FFFFFFF;
+            dst[i + 39] = (int) (w17 << 8 | w18 >>> 56) & 0x1FFFFFFF;
+            dst[i + 40] = (int) (w18 >>> 27) & 0x1FFFFFFF;
+            dst[i + 41] = (int) (w18 << 2 | w19 >>> 62) & 0x1FFFFFFF;
+            dst[i + 42] = (int) (w19 >>> 33) & 0x1FFFFFFF;
+            dst[i + 43] = (int) (w19 >>> 4) & 0x1FFFFFFF;
+            dst[i + 44] = (int) (w19 << 25 | w20 >>> 39) & 0x1FFFFFFF;
+            dst[i + 45] = (int) (w20 >>> 10) & 0x1FFFFFFF;
+            dst[i + 46] = (int) (w20 << 19 | w21 >>> 45) & 0x1FFFFFFF;
+            dst[i + 47] = (int) (w21 >>> 16) & 0x1FFFFFFF;
+            dst[i + 48] = (int) (w21 << 13 | w22 >>> 51) & 0x1FFFFFFF;
+            dst[i + 49] = (int) (w22 >>> 22) & 0x1FFFFFFF;
+            dst[i + 50] = (int) (w22 << 7 | w23 >>> 57) & 0x1FFFFFFF;
+            dst[i + 51] = (int) (w23 >>> 28) & 0x1FFFFFFF;
+            dst[i + 52] = (int) (w23 << 1 | w24 >>> 63) & 0x1FFFFFFF;
+            dst[i + 53] = (int) (w24 >>> 34) & 0x1FFFFFFF;
+            dst[i + 54] = (int) (w24 >>> 5) & 0x1FFFFFFF;
+            dst[i + 55] = (int) (w24 << 24 | w25 >>> 40) & 0x1FFFFFFF;
+            dst[i + 56] = (int) (w25 >>> 11) & 0x1FFFFFFF;
+            dst[i + 57] = (int) (w25 << 18 | w26 >>> 46) & 0x1FFFFFFF;
+            dst[i + 58] = (int) (w26 >>> 17) & 0x1FFFFFFF;
+            dst[i + 59] = (int) (w26 << 12 | w27 >>> 52) & 0x1FFFFFFF;
+            dst[i + 60] = (int) (w27 >>> 23) & 0x1FFFFFFF;
+            dst[i + 61] = (int) (w27 << 6 | w28 >>> 58) & 0x1FFFFFFF;
+            dst[i + 62] = (int) (w28 >>> 29) & 0x1FFFFFFF;
+            dst[i + 63] = (int) w28 & 0x1FFFFFFF;
+            index += 29;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 30-bit values from each of {@code count}
+     * blocks of {@code 15} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack30(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            dst[i] = (int) (w0 >>> 34);
+            dst[i + 1] = (int) (w0 >>> 4) & 0x3FFFFFFF;
+            dst[i + 2] = (int) (w0 << 26 | w1 >>> 38) & 0x3FFFFFFF;
+            dst[i + 3] = (int) (w1 >>> 8) & 0x3FFFFFFF;
+            dst[i + 4] = (int) (w1 << 22 | w2 >>> 42) & 0x3FFFFFFF;
+            dst[i + 5] = (int) (w2 >>> 12) & 0x3FFFFFFF;
+            dst[i + 6] = (int) (w2 << 18 | w3 >>> 46) & 0x3FFFFFFF;
+            dst[i + 7] = (int) (w3 >>> 16) & 0x3FFFFFFF;
+            dst[i + 8] = (int) (w3 << 14 | w4 >>> 50) & 0x3FFFFFFF;
+            dst[i + 9] = (int) (w4 >>> 20) & 0x3FFFFFFF;
+            dst[i + 10] = (int) (w4 << 10 | w5 >>> 54) & 0x3FFFFFFF;
+            dst[i + 11] = (int) (w5 >>> 24) & 0x3FFFFFFF;
+            dst[i + 12] = (int) (w5 << 6 | w6 >>> 58) & 0x3FFFFFFF;
+            dst[i + 13] = (int) (w6 >>> 28) & 0x3FFFFFFF;
+            dst[i + 14] = (int) (w6 << 2 | w7 >>> 62) & 0x3FFFFFFF;
+            dst[i + 15] = (int) (w7 >>> 32) & 0x3FFFFFFF;
+            dst[i + 16] = (int) (w7 >>> 2) & 0x3FFFFFFF;
+            dst[i + 17] = (int) (w7 << 28 | w8 >>> 36) & 0x3FFFFFFF;
+            dst[i + 18] = (int) (w8 >>> 6) & 0x3FFFFFFF;
+            dst[i + 19] = (int) (w8 << 24 | w9 >>> 40) & 0x3FFFFFFF;
+            dst[i + 20] = (int) (w9 >>> 10) & 0x3FFFFFFF;
+            dst[i + 21] = (int) (w9 << 20 | w10 >>> 44) & 0x3FFFFFFF;
+            dst[i + 22] = (int) (w10 >>> 14) & 0x3FFFFFFF;
+            dst[i + 23] = (int) (w10 << 16 | w11 >>> 48) & 0x3FFFFFFF;
+            dst[i + 24] = (int) (w11 >>> 18) & 0x3FFFFFFF;
+            dst[i + 25] = (int) (w11 << 12 | w12 >>> 52) & 0x3FFFFFFF;
+            dst[i + 26] = (int) (w12 >>> 22) & 0x3FFFFFFF;
+            dst[i + 27] = (int) (w12 << 8 | w13 >>> 56) & 0x3FFFFFFF;
+            dst[i + 28] = (int) (w13 >>> 26) & 0x3FFFFFFF;
+            dst[i + 29] = (int) (w13 << 4 | w14 >>> 60) & 0x3FFFFFFF;
+            dst[i + 30] = (int) (w14 >>> 30) & 0x3FFFFFFF;
+            dst[i + 31] = (int) w14 & 0x3FFFFFFF;
+            index += 15;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 31-bit values from each of {@code count}
+     * blocks of {@code 31} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack31(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            final long w23 = words[index + 23];
+            final long w24 = words[index + 24];
+            final long w25 = words[index + 25];
+            final long w26 = words[index + 26];
+            final long w27 = words[index + 27];
+            final long w28 = words[index + 28];
+            final long w29 = words[index + 29];
+            final long w30 = words[index + 30];
+            dst[i] = (int) (w0 >>> 33);
+            dst[i + 1] = (int) (w0 >>> 2) & 0x7FFFFFFF;
+            dst[i + 2] = (int) (w0 << 29 | w1 >>> 35) & 0x7FFFFFFF;
+            dst[i + 3] = (int) (w1 >>> 4) & 0x7FFFFFFF;
+            dst[i + 4] = (int) (w1 << 27 | w2 >>> 37) & 0x7FFFFFFF;
+            dst[i + 5] = (int) (w2 >>> 6) & 0x7FFFFFFF;
+            dst[i + 6] = (int) (w2 << 25 | w3 >>> 39) & 0x7FFFFFFF;
+            dst[i + 7] = (int) (w3 >>> 8) & 0x7FFFFFFF;
+            dst[i + 8] = (int) (w3 << 23 | w4 >>> 41) & 0x7FFFFFFF;
+            dst[i + 9] = (int) (w4 >>> 10) & 0x7FFFFFFF;
+            dst[i + 10] = (int) (w4 << 21 | w5 >>> 43) & 0x7FFFFFFF;
+            dst[i + 11] = (int) (w5 >>> 12) & 0x7FFFFFFF;
+            dst[i + 12] = (int) (w5 << 19 | w6 >>> 45) & 0x7FFFFFFF;
+            dst[i + 13] = (int) (w6 >>> 14) & 0x7FFFFFFF;
+            dst[i + 14] = (int) (w6 << 17 | w7 >>> 47) & 0x7FFFFFFF;
+            dst[i + 15] = (int) (w7 >>> 16) & 0x7FFFFFFF;
+            dst[i + 16] = (int) (w7 << 15 | w8 >>> 49) & 0x7FFFFFFF;
+            dst[i + 17] = (int) (w8 >>> 18) & 0x7FFFFFFF;
+            dst[i + 18] = (int) (w8 << 13 | w9 >>> 51) & 0x7FFFFFFF;
+            dst[i + 19] = (int) (w9 >>> 20) & 0x7FFFFFFF;
+            dst[i + 20] = (int) (w9 << 11 | w10 >>> 53) & 0x7FFFFFFF;
+            dst[i + 21] = (int) (w10 >>> 22) & 0x7FFFFFFF;
+            dst[i + 22] = (int) (w10 << 9 | w11 >>> 55) & 0x7FFFFFFF;
+            dst[i + 23] = (int) (w11 >>> 24) & 0x7FFFFFFF;
+            dst[i + 24] = (int) (w11 << 7 | w12 >>> 57) & 0x7FFFFFFF;
+            dst[i + 25] = (int) (w12 >>> 26) & 0x7FFFFFFF;
+            dst[i + 26] = (int) (w12 << 5 | w13 >>> 59) & 0x7FFFFFFF;
+            dst[i + 27] = (int) (w13 >>> 28) & 0x7FFFFFFF;
+            dst[i + 28] = (int) (w13 << 3 | w14 >>> 61) & 0x7FFFFFFF;
+            dst[i + 29] = (int) (w14 >>> 30) & 0x7FFFFFFF;
+            dst[i + 30] = (int) (w14 << 1 | w15 >>> 63) & 0x7FFFFFFF;
+            dst[i + 31] = (int) (w15 >>> 32) & 0x7FFFFFFF;
+            dst[i + 32] = (int) (w15 >>> 1) & 0x7FFFFFFF;
+            dst[i + 33] = (int) (w15 << 30 | w16 >>> 34) & 0x7FFFFFFF;
+            dst[i + 34] = (int) (w16 >>> 3) & 0x7FFFFFFF;
+            dst[i + 35] = (int) (w16 << 28 | w17 >>> 36) & 0x7FFFFFFF;
+            dst[i + 36] = (int) (w17 >>> 5) & 0x7FFFFFFF;
+            dst[i + 37] = (int) (w17 << 26 | w18 >>> 38) & 0x7FFFFFFF;
+            dst[i + 38] = (int) (w18 >>> 7) & 0x7FFFFFFF;
+            dst[i + 39] = (int) (w18 << 24 | w19 >>> 40) & 0x7FFFFFFF;
+            dst[i + 40] = (int) (w19 >>> 9) & 0x7FFFFFFF;
+            dst[i + 41] = (int) (w19 << 22 | w20 >>> 42) & 0x7FFFFFFF;
+            dst[i + 42] = (int) (w20 >>> 11) & 0x7FFFFFFF;
+            dst[i + 43] = (int) (w20 << 20 | w21 >>> 44) & 0x7FFFFFFF;
+            dst[i + 44] = (int) (w21 >>> 13) & 0x7FFFFFFF;
+            dst[i + 45] = (int) (w21 << 18 | w22 >>> 46) & 0x7FFFFFFF;
+            dst[i + 46] = (int) (w22 >>> 15) & 0x7FFFFFFF;
+            dst[i + 47] = (int) (w22 << 16 | w23 >>> 48) & 0x7FFFFFFF;
+            dst[i + 48] = (int) (w23 >>> 17) & 0x7FFFFFFF;
+            dst[i + 49] = (int) (w23 << 14 | w24 >>> 50) & 0x7FFFFFFF;
+            dst[i + 50] = (int) (w24 >>> 19) & 0x7FFFFFFF;
+            dst[i + 51] = (int) (w24 << 12 | w25 >>> 52) & 0x7FFFFFFF;
+            dst[i + 52] = (int) (w25 >>> 21) & 0x7FFFFFFF;
+            dst[i + 53] = (int) (w25 << 10 | w26 >>> 54) & 0x7FFFFFFF;
+            dst[i + 54] = (int) (w26 >>> 23) & 0x7FFFFFFF;
+            dst[i + 55] = (int) (w26 << 8 | w27 >>> 56) & 0x7FFFFFFF;
+            dst[i + 56] = (int) (w27 >>> 25) & 0x7FFFFFFF;
+            dst[i + 57] = (int) (w27 << 6 | w28 >>> 58) & 0x7FFFFFFF;
+            dst[i + 58] = (int) (w28 >>> 27) & 0x7FFFFFFF;
+            dst[i + 59] = (int) (w28 << 4 | w29 >>> 60) & 0x7FFFFFFF;
+            dst[i + 60] = (int) (w29 >>> 29) & 0x7FFFFFFF;
+            dst[i + 61] = (int) (w29 << 2 | w30 >>> 62) & 0x7FFFFFFF;
+            dst[i + 62] = (int) (w30 >>> 31) & 0x7FFFFFFF;
+            dst[i + 63] = (int) w30 & 0x7FFFFFFF;
+            index += 31;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 2} 32-bit values from each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the int array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack32(final long[] words, int index, final int count,
+                                 final int[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = (int) (w0 >>> 32);
+            dst[i + 1] = (int) w0;
+            index++;
+            i += 2;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Unpacks {@code 64} unsigned 1-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack1(final long[] words, int index, final int count,
+                                final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = w0 >>> 63;
+            dst[i + 1] = (w0 >>> 62) & 0x1L;
+            dst[i + 2] = (w0 >>> 61) & 0x1L;
+            dst[i + 3] = (w0 >>> 60) & 0x1L;
+            dst[i + 4] = (w0 >>> 59) & 0x1L;
+            dst[i + 5] = (w0 >>> 58) & 0x1L;
+            dst[i + 6] = (w0 >>> 57) & 0x1L;
+            dst[i + 7] = (w0 >>> 56) & 0x1L;
+            dst[i + 8] = (w0 >>> 55) & 0x1L;
+            dst[i + 9] = (w0 >>> 54) & 0x1L;
+            dst[i + 10] = (w0 >>> 53) & 0x1L;
+            dst[i + 11] = (w0 >>> 52) & 0x1L;
+            dst[i + 12] = (w0 >>> 51) & 0x1L;
+            dst[i + 13] = (w0 >>> 50) & 0x1L;
+            dst[i + 14] = (w0 >>> 49) & 0x1L;
+            dst[i + 15] = (w0 >>> 48) & 0x1L;
+            dst[i + 16] = (w0 >>> 47) & 0x1L;
+            dst[i + 17] = (w0 >>> 46) & 0x1L;
+            dst[i + 18] = (w0 >>> 45) & 0x1L;
+            dst[i + 19] = (w0 >>> 44) & 0x1L;
+            dst[i + 20] = (w0 >>> 43) & 0x1L;
+            dst[i + 21] = (w0 >>> 42) & 0x1L;
+            dst[i + 22] = (w0 >>> 41) & 0x1L;
+            dst[i + 23] = (w0 >>> 40) & 0x1L;
+            dst[i + 24] = (w0 >>> 39) & 0x1L;
+            dst[i + 25] = (w0 >>> 38) & 0x1L;
+            dst[i + 26] = (w0 >>> 37) & 0x1L;
+            dst[i + 27] = (w0 >>> 36) & 0x1L;
+            dst[i + 28] = (w0 >>> 35) & 0x1L;
+            dst[i + 29] = (w0 >>> 34) & 0x1L;
+            dst[i + 30] = (w0 >>> 33) & 0x1L;
+            dst[i + 31] = (w0 >>> 32) & 0x1L;
+            dst[i + 32] = (w0 >>> 31) & 0x1L;
+            dst[i + 33] = (w0 >>> 30) & 0x1L;
+            dst[i + 34] = (w0 >>> 29) & 0x1L;
+            dst[i + 35] = (w0 >>> 28) & 0x1L;
+            dst[i + 36] = (w0 >>> 27) & 0x1L;
+            dst[i + 37] = (w0 >>> 26) & 0x1L;
+            dst[i + 38] = (w0 >>> 25) & 0x1L;
+            dst[i + 39] = (w0 >>> 24) & 0x1L;
+            dst[i + 40] = (w0 >>> 23) & 0x1L;
+            dst[i + 41] = (w0 >>> 22) & 0x1L;
+            dst[i + 42] = (w0 >>> 21) & 0x1L;
+            dst[i + 43] = (w0 >>> 20) & 0x1L;
+            dst[i + 44] = (w0 >>> 19) & 0x1L;
+            dst[i + 45] = (w0 >>> 18) & 0x1L;
+            dst[i + 46] = (w0 >>> 17) & 0x1L;
+            dst[i + 47] = (w0 >>> 16) & 0x1L;
+            dst[i + 48] = (w0 >>> 15) & 0x1L;
+            dst[i + 49] = (w0 >>> 14) & 0x1L;
+            dst[i + 50] = (w0 >>> 13) & 0x1L;
+            dst[i + 51] = (w0 >>> 12) & 0x1L;
+            dst[i + 52] = (w0 >>> 11) & 0x1L;
+            dst[i + 53] = (w0 >>> 10) & 0x1L;
+            dst[i + 54] = (w0 >>> 9) & 0x1L;
+            dst[i + 55] = (w0 >>> 8) & 0x1L;
+            dst[i + 56] = (w0 >>> 7) & 0x1L;
+            dst[i + 57] = (w0 >>> 6) & 0x1L;
+            dst[i + 58] = (w0 >>> 5) & 0x1L;
+            dst[i + 59] = (w0 >>> 4) & 0x1L;
+            dst[i + 60] = (w0 >>> 3) & 0x1L;
+            dst[i + 61] = (w0 >>> 2) & 0x1L;
+            dst[i + 62] = (w0 >>> 1) & 0x1L;
+            dst[i + 63] = w0 & 0x1L;
+            index++;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 2-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack2(final long[] words, int index, final int count,
+                                final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = w0 >>> 62;
+            dst[i + 1] = (w0 >>> 60) & 0x3L;
+            dst[i + 2] = (w0 >>> 58) & 0x3L;
+            dst[i + 3] = (w0 >>> 56) & 0x3L;
+            dst[i + 4] = (w0 >>> 54) & 0x3L;
+            dst[i + 5] = (w0 >>> 52) & 0x3L;
+            dst[i + 6] = (w0 >>> 50) & 0x3L;
+            dst[i + 7] = (w0 >>> 48) & 0x3L;
+            dst[i + 8] = (w0 >>> 46) & 0x3L;
+            dst[i + 9] = (w0 >>> 44) & 0x3L;
+            dst[i + 10] = (w0 >>> 42) & 0x3L;
+            dst[i + 11] = (w0 >>> 40) & 0x3L;
+            dst[i + 12] = (w0 >>> 38) & 0x3L;
+            dst[i + 13] = (w0 >>> 36) & 0x3L;
+            dst[i + 14] = (w0 >>> 34) & 0x3L;
+            dst[i + 15] = (w0 >>> 32) & 0x3L;
+            dst[i + 16] = (w0 >>> 30) & 0x3L;
+            dst[i + 17] = (w0 >>> 28) & 0x3L;
+            dst[i + 18] = (w0 >>> 26) & 0x3L;
+            dst[i + 19] = (w0 >>> 24) & 0x3L;
+            dst[i + 20] = (w0 >>> 22) & 0x3L;
+            dst[i + 21] = (w0 >>> 20) & 0x3L;
+            dst[i + 22] = (w0 >>> 18) & 0x3L;
+            dst[i + 23] = (w0 >>> 16) & 0x3L;
+            dst[i + 24] = (w0 >>> 14) & 0x3L;
+            dst[i + 25] = (w0 >>> 12) & 0x3L;
+            dst[i + 26] = (w0 >>> 10) & 0x3L;
+            dst[i + 27] = (w0 >>> 8) & 0x3L;
+            dst[i + 28] = (w0 >>> 6) & 0x3L;
+            dst[i + 29] = (w0 >>> 4) & 0x3L;
+            dst[i + 30] = (w0 >>> 2) & 0x3L;
+            dst[i + 31] = w0 & 0x3L;
+            index++;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 3-bit values from each of {@code count}
+     * blocks of {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack3(final long[] words, int index, final int count,
+                                final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            dst[i] = w0 >>> 61;
+            dst[i + 1] = (w0 >>> 58) & 0x7L;
+            dst[i + 2] = (w0 >>> 55) & 0x7L;
+            dst[i + 3] = (w0 >>> 52) & 0x7L;
+            dst[i + 4] = (w0 >>> 49) & 0x7L;
+            dst[i + 5] = (w0 >>> 46) & 0x7L;
+            dst[i + 6] = (w0 >>> 43) & 0x7L;
+            dst[i + 7] = (w0 >>> 40) & 0x7L;
+            dst[i + 8] = (w0 >>> 37) & 0x7L;
+            dst[i + 9] = (w0 >>> 34) & 0x7L;
+            dst[i + 10] = (w0 >>> 31) & 0x7L;
+            dst[i + 11] = (w0 >>> 28) & 0x7L;
+            dst[i + 12] = (w0 >>> 25) & 0x7L;
+            dst[i + 13] = (w0 >>> 22) & 0x7L;
+            dst[i + 14] = (w0 >>> 19) & 0x7L;
+            dst[i + 15] = (w0 >>> 16) & 0x7L;
+            dst[i + 16] = (w0 >>> 13) & 0x7L;
+            dst[i + 17] = (w0 >>> 10) & 0x7L;
+            dst[i + 18] = (w0 >>> 7) & 0x7L;
+            dst[i + 19] = (w0 >>> 4) & 0x7L;
+            dst[i + 20] = (w0 >>> 1) & 0x7L;
+            dst[i + 21] = (w0 << 2 | w1 >>> 62) & 0x7L;
+            dst[i + 22] = (w1 >>> 59) & 0x7L;
+            dst[i + 23] = (w1 >>> 56) & 0x7L;
+            dst[i + 24] = (w1 >>> 53) & 0x7L;
+            dst[i + 25] = (w1 >>> 50) & 0x7L;
+            dst[i + 26] = (w1 >>> 47) & 0x7L;
+            dst[i + 27] = (w1 >>> 44) & 0x7L;
+            dst[i + 28] = (w1 >>> 41) & 0x7L;
+            dst[i + 29] = (w1 >>> 38) & 0x7L;
+            dst[i + 30] = (w1 >>> 35) & 0x7L;
+            dst[i + 31] = (w1 >>> 32) & 0x7L;
+            dst[i + 32] = (w1 >>> 29) & 0x7L;
+            dst[i + 33] = (w1 >>> 26) & 0x7L;
+            dst[i + 34] = (w1 >>> 23) & 0x7L;
+            dst[i + 35] = (w1 >>> 20) & 0x7L;
+            dst[i + 36] = (w1 >>> 17) & 0x7L;
+            dst[i + 37] = (w1 >>> 14) & 0x7L;
+            dst[i + 38] = (w1 >>> 11) & 0x7L;
+            dst[i + 39] = (w1 >>> 8) & 0x7L;
+            dst[i + 40] = (w1 >>> 5) & 0x7L;
+            dst[i + 41] = (w1 >>> 2) & 0x7L;
+            dst[i + 42] = (w1 << 1 | w2 >>> 63) & 0x7L;
+            dst[i + 43] = (w2 >>> 60) & 0x7L;
+            dst[i + 44] = (w2 >>> 57) & 0x7L;
+            dst[i + 45] = (w2 >>> 54) & 0x7L;
+            dst[i + 46] = (w2 >>> 51) & 0x7L;
+            dst[i + 47] = (w2 >>> 48) & 0x7L;
+            dst[i + 48] = (w2 >>> 45) & 0x7L;
+            dst[i + 49] = (w2 >>> 42) & 0x7L;
+            dst[i + 50] = (w2 >>> 39) & 0x7L;
+            dst[i + 51] = (w2 >>> 36) & 0x7L;
+            dst[i + 52] = (w2 >>> 33) & 0x7L;
+            dst[i + 53] = (w2 >>> 30) & 0x7L;
+            dst[i + 54] = (w2 >>> 27) & 0x7L;
+            dst[i + 55] = (w2 >>> 24) & 0x7L;
+            dst[i + 56] = (w2 >>> 21) & 0x7L;
+            dst[i + 57] = (w2 >>> 18) & 0x7L;
+            dst[i + 58] = (w2 >>> 15) & 0x7L;
+            dst[i + 59] = (w2 >>> 12) & 0x7L;
+            dst[i + 60] = (w2 >>> 9) & 0x7L;
+            dst[i + 61] = (w2 >>> 6) & 0x7L;
+            dst[i + 62] = (w2 >>> 3) & 0x7L;
+            dst[i + 63] = w2 & 0x7L;
+            index += 3;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 16} unsigned 4-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack4(final long[] words, int index, final int count,
+                                final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = w0 >>> 60;
+            dst[i + 1] = (w0 >>> 56) & 0xFL;
+            dst[i + 2] = (w0 >>> 52) & 0xFL;
+            dst[i + 3] = (w0 >>> 48) & 0xFL;
+            dst[i + 4] = (w0 >>> 44) & 0xFL;
+            dst[i + 5] = (w0 >>> 40) & 0xFL;
+            dst[i + 6] = (w0 >>> 36) & 0xFL;
+            dst[i + 7] = (w0 >>> 32) & 0xFL;
+            dst[i + 8] = (w0 >>> 28) & 0xFL;
+            dst[i + 9] = (w0 >>> 24) & 0xFL;
+            dst[i + 10] = (w0 >>> 20) & 0xFL;
+            dst[i + 11] = (w0 >>> 16) & 0xFL;
+            dst[i + 12] = (w0 >>> 12) & 0xFL;
+            dst[i + 13] = (w0 >>> 8) & 0xFL;
+            dst[i + 14] = (w0 >>> 4) & 0xFL;
+            dst[i + 15] = w0 & 0xFL;
+            index++;
+            i += 16;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 5-bit values from each of {@code count}
+     * blocks of {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack5(final long[] words, int index, final int count,
+                                final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            dst[i] = w0 >>> 59;
+            dst[i + 1] = (w0 >>> 54) & 0x1FL;
+            dst[i + 2] = (w0 >>> 49) & 0x1FL;
+            dst[i + 3] = (w0 >>> 44) & 0x1FL;
+            dst[i + 4] = (w0 >>> 39) & 0x1FL;
+            dst[i + 5] = (w0 >>> 34) & 0x1FL;
+            dst[i + 6] = (w0 >>> 29) & 0x1FL;
+            dst[i + 7] = (w0 >>> 24) & 0x1FL;
+            dst[i + 8] = (w0 >>> 19) & 0x1FL;
+            dst[i + 9] = (w0 >>> 14) & 0x1FL;
+            dst[i + 10] = (w0 >>> 9) & 0x1FL;
+            dst[i + 11] = (w0 >>> 4) & 0x1FL;
+            dst[i + 12] = (w0 << 1 | w1 >>> 63) & 0x1FL;
+            dst[i + 13] = (w1 >>> 58) & 0x1FL;
+            dst[i + 14] = (w1 >>> 53) & 0x1FL;
+            dst[i + 15] = (w1 >>> 48) & 0x1FL;
+            dst[i + 16] = (w1 >>> 43) & 0x1FL;
+            dst[i + 17] = (w1 >>> 38) & 0x1FL;
+            dst[i + 18] = (w1 >>> 33) & 0x1FL;
+            dst[i + 19] = (w1 >>> 28) & 0x1FL;
+            dst[i + 20] = (w1 >>> 23) & 0x1FL;
+            dst[i + 21] = (w1 >>> 18) & 0x1FL;
+            dst[i + 22] = (w1 >>> 13) & 0x1FL;
+            dst[i + 23] = (w1 >>> 8) & 0x1FL;
+            dst[i + 24] = (w1 >>> 3) & 0x1FL;
+            dst[i + 25] = (w1 << 2 | w2 >>> 62) & 0x1FL;
+            dst[i + 26] = (w2 >>> 57) & 0x1FL;
+            dst[i + 27] = (w2 >>> 52) & 0x1FL;
+            dst[i + 28] = (w2 >>> 47) & 0x1FL;
+            dst[i + 29] = (w2 >>> 42) & 0x1FL;
+            dst[i + 30] = (w2 >>> 37) & 0x1FL;
+            dst[i + 31] = (w2 >>> 32) & 0x1FL;
+            dst[i + 32] = (w2 >>> 27) & 0x1FL;
+            dst[i + 33] = (w2 >>> 22) & 0x1FL;
+            dst[i + 34] = (w2 >>> 17) & 0x1FL;
+            dst[i + 35] = (w2 >>> 12) & 0x1FL;
+            dst[i + 36] = (w2 >>> 7) & 0x1FL;
+            dst[i + 37] = (w2 >>> 2) & 0x1FL;
+            dst[i + 38] = (w2 << 3 | w3 >>> 61) & 0x1FL;
+            dst[i + 39] = (w3 >>> 56) & 0x1FL;
+            dst[i + 40] = (w3 >>> 51) & 0x1FL;
+            dst[i + 41] = (w3 >>> 46) & 0x1FL;
+            dst[i + 42] = (w3 >>> 41) & 0x1FL;
+            dst[i + 43] = (w3 >>> 36) & 0x1FL;
+            dst[i + 44] = (w3 >>> 31) & 0x1FL;
+            dst[i + 45] = (w3 >>> 26) & 0x1FL;
+            dst[i + 46] = (w3 >>> 21) & 0x1FL;
+            dst[i + 47] = (w3 >>> 16) & 0x1FL;
+            dst[i + 48] = (w3 >>> 11) & 0x1FL;
+            dst[i + 49] = (w3 >>> 6) & 0x1FL;
+            dst[i + 50] = (w3 >>> 1) & 0x1FL;
+            dst[i + 51] = (w3 << 4 | w4 >>> 60) & 0x1FL;
+            dst[i + 52] = (w4 >>> 55) & 0x1FL;
+            dst[i + 53] = (w4 >>> 50) & 0x1FL;
+            dst[i + 54] = (w4 >>> 45) & 0x1FL;
+            dst[i + 55] = (w4 >>> 40) & 0x1FL;
+            dst[i + 56] = (w4 >>> 35) & 0x1FL;
+            dst[i + 57] = (w4 >>> 30) & 0x1FL;
+            dst[i + 58] = (w4 >>> 25) & 0x1FL;
+            dst[i + 59] = (w4 >>> 20) & 0x1FL;
+            dst[i + 60] = (w4 >>> 15) & 0x1FL;
+            dst[i + 61] = (w4 >>> 10) & 0x1FL;
+            dst[i + 62] = (w4 >>> 5) & 0x1FL;
+            dst[i + 63] = w4 & 0x1FL;
+            index += 5;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 6-bit values from each of {@code count}
+     * blocks of {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack6(final long[] words, int index, final int count,
+                                final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            dst[i] = w0 >>> 58;
+            dst[i + 1] = (w0 >>> 52) & 0x3FL;
+            dst[i + 2] = (w0 >>> 46) & 0x3FL;
+            dst[i + 3] = (w0 >>> 40) & 0x3FL;
+            dst[i + 4] = (w0 >>> 34) & 0x3FL;
+            dst[i + 5] = (w0 >>> 28) & 0x3FL;
+            dst[i + 6] = (w0 >>> 22) & 0x3FL;
+            dst[i + 7] = (w0 >>> 16) & 0x3FL;
+            dst[i + 8] = (w0 >>> 10) & 0x3FL;
+            dst[i + 9] = (w0 >>> 4) & 0x3FL;
+            dst[i + 10] = (w0 << 2 | w1 >>> 62) & 0x3FL;
+            dst[i + 11] = (w1 >>> 56) & 0x3FL;
+            dst[i + 12] = (w1 >>> 50) & 0x3FL;
+            dst[i + 13] = (w1 >>> 44) & 0x3FL;
+            dst[i + 14] = (w1 >>> 38) & 0x3FL;
+            dst[i + 15] = (w1 >>> 32) & 0x3FL;
+            dst[i + 16] = (w1 >>> 26) & 0x3FL;
+            dst[i + 17] = (w1 >>> 20) & 0x3FL;
+            dst[i + 18] = (w1 >>> 14) & 0x3FL;
+            dst[i + 19] = (w1 >>> 8) & 0x3FL;
+            dst[i + 20] = (w1 >>> 2) & 0x3FL;
+            dst[i + 21] = (w1 << 4 | w2 >>> 60) & 0x3FL;
+            dst[i + 22] = (w2 >>> 54) & 0x3FL;
+            dst[i + 23] = (w2 >>> 48) & 0x3FL;
+            dst[i + 24] = (w2 >>> 42) & 0x3FL;
+            dst[i + 25] = (w2 >>> 36) & 0x3FL;
+            dst[i + 26] = (w2 >>> 30) & 0x3FL;
+            dst[i + 27] = (w2 >>> 24) & 0x3FL;
+            dst[i + 28] = (w2 >>> 18) & 0x3FL;
+            dst[i + 29] = (w2 >>> 12) & 0x3FL;
+            dst[i + 30] = (w2 >>> 6) & 0x3FL;
+            dst[i + 31] = w2 & 0x3FL;
+            index += 3;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 7-bit values from each of {@code count}
+     * blocks of {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack7(final long[] words, int index, final int count,
+                                final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            dst[i] = w0 >>> 57;
+            dst[i + 1] = (w0 >>> 50) & 0x7FL;
+            dst[i + 2] = (w0 >>> 43) & 0x7FL;
+            dst[i + 3] = (w0 >>> 36) & 0x7FL;
+            dst[i + 4] = (w0 >>> 29) & 0x7FL;
+            dst[i + 5] = (w0 >>> 22) & 0x7FL;
+            dst[i + 6] = (w0 >>> 15) & 0x7FL;
+            dst[i + 7] = (w0 >>> 8) & 0x7FL;
+            dst[i + 8] = (w0 >>> 1) & 0x7FL;
+            dst[i + 9] = (w0 << 6 | w1 >>> 58) & 0x7FL;
+            dst[i + 10] = (w1 >>> 51) & 0x7FL;
+            dst[i + 11] = (w1 >>> 44) & 0x7FL;
+            dst[i + 12] = (w1 >>> 37) & 0x7FL;
+            dst[i + 13] = (w1 >>> 30) & 0x7FL;
+            dst[i + 14] = (w1 >>> 23) & 0x7FL;
+            dst[i + 15] = (w1 >>> 16) & 0x7FL;
+            dst[i + 16] = (w1 >>> 9) & 0x7FL;
+            dst[i + 17] = (w1 >>> 2) & 0x7FL;
+            dst[i + 18] = (w1 << 5 | w2 >>> 59) & 0x7FL;
+            dst[i + 19] = (w2 >>> 52) & 0x7FL;
+            dst[i + 20] = (w2 >>> 45) & 0x7FL;
+            dst[i + 21] = (w2 >>> 38) & 0x7FL;
+            dst[i + 22] = (w2 >>> 31) & 0x7FL;
+            dst[i + 23] = (w2 >>> 24) & 0x7FL;
+            dst[i + 24] = (w2 >>> 17) & 0x7FL;
+            dst[i + 25] = (w2 >>> 10) & 0x7FL;
+            dst[i + 26] = (w2 >>> 3) & 0x7FL;
+            dst[i + 27] = (w2 << 4 | w3 >>> 60) & 0x7FL;
+            dst[i + 28] = (w3 >>> 53) & 0x7FL;
+            dst[i + 29] = (w3 >>> 46) & 0x7FL;
+            dst[i + 30] = (w3 >>> 39) & 0x7FL;
+            dst[i + 31] = (w3 >>> 32) & 0x7FL;
+            dst[i + 32] = (w3 >>> 25) & 0x7FL;
+            dst[i + 33] = (w3 >>> 18) & 0x7FL;
+            dst[i + 34] = (w3 >>> 11) & 0x7FL;
+            dst[i + 35] = (w3 >>> 4) & 0x7FL;
+            dst[i + 36] = (w3 << 3 | w4 >>> 61) & 0x7FL;
+            dst[i + 37] = (w4 >>> 54) & 0x7FL;
+            dst[i + 38] = (w4 >>> 47) & 0x7FL;
+            dst[i + 39] = (w4 >>> 40) & 0x7FL;
+            dst[i + 40] = (w4 >>> 33) & 0x7FL;
+            dst[i + 41] = (w4 >>> 26) & 0x7FL;
+            dst[i + 42] = (w4 >>> 19) & 0x7FL;
+            dst[i + 43] = (w4 >>> 12) & 0x7FL;
+            dst[i + 44] = (w4 >>> 5) & 0x7FL;
+            dst[i + 45] = (w4 << 2 | w5 >>> 62) & 0x7FL;
+            dst[i + 46] = (w5 >>> 55) & 0x7FL;
+            dst[i + 47] = (w5 >>> 48) & 0x7FL;
+            dst[i + 48] = (w5 >>> 41) & 0x7FL;
+            dst[i + 49] = (w5 >>> 34) & 0x7FL;
+            dst[i + 50] = (w5 >>> 27) & 0x7FL;
+            dst[i + 51] = (w5 >>> 20) & 0x7FL;
+            dst[i + 52] = (w5 >>> 13) & 0x7FL;
+            dst[i + 53] = (w5 >>> 6) & 0x7FL;
+            dst[i + 54] = (w5 << 1 | w6 >>> 63) & 0x7FL;
+            dst[i + 55] = (w6 >>> 56) & 0x7FL;
+            dst[i + 56] = (w6 >>> 49) & 0x7FL;
+            dst[i + 57] = (w6 >>> 42) & 0x7FL;
+            dst[i + 58] = (w6 >>> 35) & 0x7FL;
+            dst[i + 59] = (w6 >>> 28) & 0x7FL;
+            dst[i + 60] = (w6 >>> 21) & 0x7FL;
+            dst[i + 61] = (w6 >>> 14) & 0x7FL;
+            dst[i + 62] = (w6 >>> 7) & 0x7FL;
+            dst[i + 63] = w6 & 0x7FL;
+            index += 7;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 8} unsigned 8-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack8(final long[] words, int index, final int count,
+                                final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = w0 >>> 56;
+            dst[i + 1] = (w0 >>> 48) & 0xFFL;
+            dst[i + 2] = (w0 >>> 40) & 0xFFL;
+            dst[i + 3] = (w0 >>> 32) & 0xFFL;
+            dst[i + 4] = (w0 >>> 24) & 0xFFL;
+            dst[i + 5] = (w0 >>> 16) & 0xFFL;
+            dst[i + 6] = (w0 >>> 8) & 0xFFL;
+            dst[i + 7] = w0 & 0xFFL;
+            index++;
+            i += 8;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 9-bit values from each of {@code count}
+     * blocks of {@code 9} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack9(final long[] words, int index, final int count,
+                                final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            dst[i] = w0 >>> 55;
+            dst[i + 1] = (w0 >>> 46) & 0x1FFL;
+            dst[i + 2] = (w0 >>> 37) & 0x1FFL;
+            dst[i + 3] = (w0 >>> 28) & 0x1FFL;
+            dst[i + 4] = (w0 >>> 19) & 0x1FFL;
+            dst[i + 5] = (w0 >>> 10) & 0x1FFL;
+            dst[i + 6] = (w0 >>> 1) & 0x1FFL;
+            dst[i + 7] = (w0 << 8 | w1 >>> 56) & 0x1FFL;
+            dst[i + 8] = (w1 >>> 47) & 0x1FFL;
+            dst[i + 9] = (w1 >>> 38) & 0x1FFL;
+            dst[i + 10] = (w1 >>> 29) & 0x1FFL;
+            dst[i + 11] = (w1 >>> 20) & 0x1FFL;
+            dst[i + 12] = (w1 >>> 11) & 0x1FFL;
+            dst[i + 13] = (w1 >>> 2) & 0x1FFL;
+            dst[i + 14] = (w1 << 7 | w2 >>> 57) & 0x1FFL;
+            dst[i + 15] = (w2 >>> 48) & 0x1FFL;
+            dst[i + 16] = (w2 >>> 39) & 0x1FFL;
+            dst[i + 17] = (w2 >>> 30) & 0x1FFL;
+            dst[i + 18] = (w2 >>> 21) & 0x1FFL;
+            dst[i + 19] = (w2 >>> 12) & 0x1FFL;
+            dst[i + 20] = (w2 >>> 3) & 0x1FFL;
+            dst[i + 21] = (w2 << 6 | w3 >>> 58) & 0x1FFL;
+            dst[i + 22] = (w3 >>> 49) & 0x1FFL;
+            dst[i + 23] = (w3 >>> 40) & 0x1FFL;
+            dst[i + 24] = (w3 >>> 31) & 0x1FFL;
+            dst[i + 25] = (w3 >>> 22) & 0x1FFL;
+            dst[i + 26] = (w3 >>> 13) & 0x1FFL;
+            dst[i + 27] = (w3 >>> 4) & 0x1FFL;
+            dst[i + 28] = (w3 << 5 | w4 >>> 59) & 0x1FFL;
+            dst[i + 29] = (w4 >>> 50) & 0x1FFL;
+            dst[i + 30] = (w4 >>> 41) & 0x1FFL;
+            dst[i + 31] = (w4 >>> 32) & 0x1FFL;
+            dst[i + 32] = (w4 >>> 23) & 0x1FFL;
+            dst[i + 33] = (w4 >>> 14) & 0x1FFL;
+            dst[i + 34] = (w4 >>> 5) & 0x1FFL;
+            dst[i + 35] = (w4 << 4 | w5 >>> 60) & 0x1FFL;
+            dst[i + 36] = (w5 >>> 51) & 0x1FFL;
+            dst[i + 37] = (w5 >>> 42) & 0x1FFL;
+            dst[i + 38] = (w5 >>> 33) & 0x1FFL;
+            dst[i + 39] = (w5 >>> 24) & 0x1FFL;
+            dst[i + 40] = (w5 >>> 15) & 0x1FFL;
+            dst[i + 41] = (w5 >>> 6) & 0x1FFL;
+            dst[i + 42] = (w5 << 3 | w6 >>> 61) & 0x1FFL;
+            dst[i + 43] = (w6 >>> 52) & 0x1FFL;
+            dst[i + 44] = (w6 >>> 43) & 0x1FFL;
+            dst[i + 45] = (w6 >>> 34) & 0x1FFL;
+            dst[i + 46] = (w6 >>> 25) & 0x1FFL;
+            dst[i + 47] = (w6 >>> 16) & 0x1FFL;
+            dst[i + 48] = (w6 >>> 7) & 0x1FFL;
+            dst[i + 49] = (w6 << 2 | w7 >>> 62) & 0x1FFL;
+            dst[i + 50] = (w7 >>> 53) & 0x1FFL;
+            dst[i + 51] = (w7 >>> 44) & 0x1FFL;
+            dst[i + 52] = (w7 >>> 35) & 0x1FFL;
+            dst[i + 53] = (w7 >>> 26) & 0x1FFL;
+            dst[i + 54] = (w7 >>> 17) & 0x1FFL;
+            dst[i + 55] = (w7 >>> 8) & 0x1FFL;
+            dst[i + 56] = (w7 << 1 | w8 >>> 63) & 0x1FFL;
+            dst[i + 57] = (w8 >>> 54) & 0x1FFL;
+            dst[i + 58] = (w8 >>> 45) & 0x1FFL;
+            dst[i + 59] = (w8 >>> 36) & 0x1FFL;
+            dst[i + 60] = (w8 >>> 27) & 0x1FFL;
+            dst[i + 61] = (w8 >>> 18) & 0x1FFL;
+            dst[i + 62] = (w8 >>> 9) & 0x1FFL;
+            dst[i + 63] = w8 & 0x1FFL;
+            index += 9;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 10-bit values from each of {@code count}
+     * blocks of {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack10(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            dst[i] = w0 >>> 54;
+            dst[i + 1] = (w0 >>> 44) & 0x3FFL;
+            dst[i + 2] = (w0 >>> 34) & 0x3FFL;
+            dst[i + 3] = (w0 >>> 24) & 0x3FFL;
+            dst[i + 4] = (w0 >>> 14) & 0x3FFL;
+            dst[i + 5] = (w0 >>> 4) & 0x3FFL;
+            dst[i + 6] = (w0 << 6 | w1 >>> 58) & 0x3FFL;
+            dst[i + 7] = (w1 >>> 48) & 0x3FFL;
+            dst[i + 8] = (w1 >>> 38) & 0x3FFL;
+            dst[i + 9] = (w1 >>> 28) & 0x3FFL;
+            dst[i + 10] = (w1 >>> 18) & 0x3FFL;
+            dst[i + 11] = (w1 >>> 8) & 0x3FFL;
+            dst[i + 12] = (w1 << 2 | w2 >>> 62) & 0x3FFL;
+            dst[i + 13] = (w2 >>> 52) & 0x3FFL;
+            dst[i + 14] = (w2 >>> 42) & 0x3FFL;
+            dst[i + 15] = (w2 >>> 32) & 0x3FFL;
+            dst[i + 16] = (w2 >>> 22) & 0x3FFL;
+            dst[i + 17] = (w2 >>> 12) & 0x3FFL;
+            dst[i + 18] = (w2 >>> 2) & 0x3FFL;
+            dst[i + 19] = (w2 << 8 | w3 >>> 56) & 0x3FFL;
+            dst[i + 20] = (w3 >>> 46) & 0x3FFL;
+            dst[i + 21] = (w3 >>> 36) & 0x3FFL;
+            dst[i + 22] = (w3 >>> 26) & 0x3FFL;
+            dst[i + 23] = (w3 >>> 16) & 0x3FFL;
+            dst[i + 24] = (w3 >>> 6) & 0x3FFL;
+            dst[i + 25] = (w3 << 4 | w4 >>> 60) & 0x3FFL;
+            dst[i + 26] = (w4 >>> 50) & 0x3FFL;
+            dst[i + 27] = (w4 >>> 40) & 0x3FFL;
+            dst[i + 28] = (w4 >>> 30) & 0x3FFL;
+            dst[i + 29] = (w4 >>> 20) & 0x3FFL;
+            dst[i + 30] = (w4 >>> 10) & 0x3FFL;
+            dst[i + 31] = w4 & 0x3FFL;
+            index += 5;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 11-bit values from each of {@code count}
+     * blocks of {@code 11} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack11(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            dst[i] = w0 >>> 53;
+            dst[i + 1] = (w0 >>> 42) & 0x7FFL;
+            dst[i + 2] = (w0 >>> 31) & 0x7FFL;
+            dst[i + 3] = (w0 >>> 20) & 0x7FFL;
+            dst[i + 4] = (w0 >>> 9) & 0x7FFL;
+            dst[i + 5] = (w0 << 2 | w1 >>> 62) & 0x7FFL;
+            dst[i + 6] = (w1 >>> 51) & 0x7FFL;
+            dst[i + 7] = (w1 >>> 40) & 0x7FFL;
+            dst[i + 8] = (w1 >>> 29) & 0x7FFL;
+            dst[i + 9] = (w1 >>> 18) & 0x7FFL;
+            dst[i + 10] = (w1 >>> 7) & 0x7FFL;
+            dst[i + 11] = (w1 << 4 | w2 >>> 60) & 0x7FFL;
+            dst[i + 12] = (w2 >>> 49) & 0x7FFL;
+            dst[i + 13] = (w2 >>> 38) & 0x7FFL;
+            dst[i + 14] = (w2 >>> 27) & 0x7FFL;
+            dst[i + 15] = (w2 >>> 16) & 0x7FFL;
+            dst[i + 16] = (w2 >>> 5) & 0x7FFL;
+            dst[i + 17] = (w2 << 6 | w3 >>> 58) & 0x7FFL;
+            dst[i + 18] = (w3 >>> 47) & 0x7FFL;
+            dst[i + 19] = (w3 >>> 36) & 0x7FFL;
+            dst[i + 20] = (w3 >>> 25) & 0x7FFL;
+            dst[i + 21] = (w3 >>> 14) & 0x7FFL;
+            dst[i + 22] = (w3 >>> 3) & 0x7FFL;
+            dst[i + 23] = (w3 << 8 | w4 >>> 56) & 0x7FFL;
+            dst[i + 24] = (w4 >>> 45) & 0x7FFL;
+            dst[i + 25] = (w4 >>> 34) & 0x7FFL;
+            dst[i + 26] = (w4 >>> 23) & 0x7FFL;
+            dst[i + 27] = (w4 >>> 12) & 0x7FFL;
+            dst[i + 28] = (w4 >>> 1) & 0x7FFL;
+            dst[i + 29] = (w4 << 10 | w5 >>> 54) & 0x7FFL;
+            dst[i + 30] = (w5 >>> 43) & 0x7FFL;
+            dst[i + 31] = (w5 >>> 32) & 0x7FFL;
+            dst[i + 32] = (w5 >>> 21) & 0x7FFL;
+            dst[i + 33] = (w5 >>> 10) & 0x7FFL;
+            dst[i + 34] = (w5 << 1 | w6 >>> 63) & 0x7FFL;
+            dst[i + 35] = (w6 >>> 52) & 0x7FFL;
+            dst[i + 36] = (w6 >>> 41) & 0x7FFL;
+            dst[i + 37] = (w6 >>> 30) & 0x7FFL;
+            dst[i + 38] = (w6 >>> 19) & 0x7FFL;
+            dst[i + 39] = (w6 >>> 8) & 0x7FFL;
+            dst[i + 40] = (w6 << 3 | w7 >>> 61) & 0x7FFL;
+            dst[i + 41] = (w7 >>> 50) & 0x7FFL;
+            dst[i + 42] = (w7 >>> 39) & 0x7FFL;
+            dst[i + 43] = (w7 >>> 28) & 0x7FFL;
+            dst[i + 44] = (w7 >>> 17) & 0x7FFL;
+            dst[i + 45] = (w7 >>> 6) & 0x7FFL;
+            dst[i + 46] = (w7 << 5 | w8 >>> 59) & 0x7FFL;
+            dst[i + 47] = (w8 >>> 48) & 0x7FFL;
+            dst[i + 48] = (w8 >>> 37) & 0x7FFL;
+            dst[i + 49] = (w8 >>> 26) & 0x7FFL;
+            dst[i + 50] = (w8 >>> 15) & 0x7FFL;
+            dst[i + 51] = (w8 >>> 4) & 0x7FFL;
+            dst[i + 52] = (w8 << 7 | w9 >>> 57) & 0x7FFL;
+            dst[i + 53] = (w9 >>> 46) & 0x7FFL;
+            dst[i + 54] = (w9 >>> 35) & 0x7FFL;
+            dst[i + 55] = (w9 >>> 24) & 0x7FFL;
+            dst[i + 56] = (w9 >>> 13) & 0x7FFL;
+            dst[i + 57] = (w9 >>> 2) & 0x7FFL;
+            dst[i + 58] = (w9 << 9 | w10 >>> 55) & 0x7FFL;
+            dst[i + 59] = (w10 >>> 44) & 0x7FFL;
+            dst[i + 60] = (w10 >>> 33) & 0x7FFL;
+            dst[i + 61] = (w10 >>> 22) & 0x7FFL;
+            dst[i + 62] = (w10 >>> 11) & 0x7FFL;
+            dst[i + 63] = w10 & 0x7FFL;
+            index += 11;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 16} unsigned 12-bit values from each of {@code count}
+     * blocks of {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack12(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            dst[i] = w0 >>> 52;
+            dst[i + 1] = (w0 >>> 40) & 0xFFFL;
+            dst[i + 2] = (w0 >>> 28) & 0xFFFL;
+            dst[i + 3] = (w0 >>> 16) & 0xFFFL;
+            dst[i + 4] = (w0 >>> 4) & 0xFFFL;
+            dst[i + 5] = (w0 << 8 | w1 >>> 56) & 0xFFFL;
+            dst[i + 6] = (w1 >>> 44) & 0xFFFL;
+            dst[i + 7] = (w1 >>> 32) & 0xFFFL;
+            dst[i + 8] = (w1 >>> 20) & 0xFFFL;
+            dst[i + 9] = (w1 >>> 8) & 0xFFFL;
+            dst[i + 10] = (w1 << 4 | w2 >>> 60) & 0xFFFL;
+            dst[i + 11] = (w2 >>> 48) & 0xFFFL;
+            dst[i + 12] = (w2 >>> 36) & 0xFFFL;
+            dst[i + 13] = (w2 >>> 24) & 0xFFFL;
+            dst[i + 14] = (w2 >>> 12) & 0xFFFL;
+            dst[i + 15] = w2 & 0xFFFL;
+            index += 3;
+            i += 16;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 13-bit values from each of {@code count}
+     * blocks of {@code 13} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack13(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            dst[i] = w0 >>> 51;
+            dst[i + 1] = (w0 >>> 38) & 0x1FFFL;
+            dst[i + 2] = (w0 >>> 25) & 0x1FFFL;
+            dst[i + 3] = (w0 >>> 12) & 0x1FFFL;
+            dst[i + 4] = (w0 << 1 | w1 >>> 63) & 0x1FFFL;
+            dst[i + 5] = (w1 >>> 50) & 0x1FFFL;
+            dst[i + 6] = (w1 >>> 37) & 0x1FFFL;
+            dst[i + 7] = (w1 >>> 24) & 0x1FFFL;
+            dst[i + 8] = (w1 >>> 11) & 0x1FFFL;
+            dst[i + 9] = (w1 << 2 | w2 >>> 62) & 0x1FFFL;
+            dst[i + 10] = (w2 >>> 49) & 0x1FFFL;
+            dst[i + 11] = (w2 >>> 36) & 0x1FFFL;
+            dst[i + 12] = (w2 >>> 23) & 0x1FFFL;
+            dst[i + 13] = (w2 >>> 10) & 0x1FFFL;
+            dst[i + 14] = (w2 << 3 | w3 >>> 61) & 0x1FFFL;
+            dst[i + 15] = (w3 >>> 48) & 0x1FFFL;
+            dst[i + 16] = (w3 >>> 35) & 0x1FFFL;
+            dst[i + 17] = (w3 >>> 22) & 0x1FFFL;
+            dst[i + 18] = (w3 >>> 9) & 0x1FFFL;
+            dst[i + 19] = (w3 << 4 | w4 >>> 60) & 0x1FFFL;
+            dst[i + 20] = (w4 >>> 47) & 0x1FFFL;
+            dst[i + 21] = (w4 >>> 34) & 0x1FFFL;
+            dst[i + 22] = (w4 >>> 21) & 0x1FFFL;
+            dst[i + 23] = (w4 >>> 8) & 0x1FFFL;
+            dst[i + 24] = (w4 << 5 | w5 >>> 59) & 0x1FFFL;
+            dst[i + 25] = (w5 >>> 46) & 0x1FFFL;
+            dst[i + 26] = (w5 >>> 33) & 0x1FFFL;
+            dst[i + 27] = (w5 >>> 20) & 0x1FFFL;
+            dst[i + 28] = (w5 >>> 7) & 0x1FFFL;
+            dst[i + 29] = (w5 << 6 | w6 >>> 58) & 0x1FFFL;
+            dst[i + 30] = (w6 >>> 45) & 0x1FFFL;
+            dst[i + 31] = (w6 >>> 32) & 0x1FFFL;
+            dst[i + 32] = (w6 >>> 19) & 0x1FFFL;
+            dst[i + 33] = (w6 >>> 6) & 0x1FFFL;
+            dst[i + 34] = (w6 << 7 | w7 >>> 57) & 0x1FFFL;
+            dst[i + 35] = (w7 >>> 44) & 0x1FFFL;
+            dst[i + 36] = (w7 >>> 31) & 0x1FFFL;
+            dst[i + 37] = (w7 >>> 18) & 0x1FFFL;
+            dst[i + 38] = (w7 >>> 5) & 0x1FFFL;
+            dst[i + 39] = (w7 << 8 | w8 >>> 56) & 0x1FFFL;
+            dst[i + 40] = (w8 >>> 43) & 0x1FFFL;
+            dst[i + 41] = (w8 >>> 30) & 0x1FFFL;
+            dst[i + 42] = (w8 >>> 17) & 0x1FFFL;
+            dst[i + 43] = (w8 >>> 4) & 0x1FFFL;
+            dst[i + 44] = (w8 << 9 | w9 >>> 55) & 0x1FFFL;
+            dst[i + 45] = (w9 >>> 42) & 0x1FFFL;
+            dst[i + 46] = (w9 >>> 29) & 0x1FFFL;
+            dst[i + 47] = (w9 >>> 16) & 0x1FFFL;
+            dst[i + 48] = (w9 >>> 3) & 0x1FFFL;
+            dst[i + 49] = (w9 << 10 | w10 >>> 54) & 0x1FFFL;
+            dst[i + 50] = (w10 >>> 41) & 0x1FFFL;
+            dst[i + 51] = (w10 >>> 28) & 0x1FFFL;
+            dst[i + 52] = (w10 >>> 15) & 0x1FFFL;
+            dst[i + 53] = (w10 >>> 2) & 0x1FFFL;
+            dst[i + 54] = (w10 << 11 | w11 >>> 53) & 0x1FFFL;
+            dst[i + 55] = (w11 >>> 40) & 0x1FFFL;
+            dst[i + 56] = (w11 >>> 27) & 0x1FFFL;
+            dst[i + 57] = (w11 >>> 14) & 0x1FFFL;
+            dst[i + 58] = (w11 >>> 1) & 0x1FFFL;
+            dst[i + 59] = (w11 << 12 | w12 >>> 52) & 0x1FFFL;
+            dst[i + 60] = (w12 >>> 39) & 0x1FFFL;
+            dst[i + 61] = (w12 >>> 26) & 0x1FFFL;
+            dst[i + 62] = (w12 >>> 13) & 0x1FFFL;
+            dst[i + 63] = w12 & 0x1FFFL;
+            index += 13;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 14-bit values from each of {@code count}
+     * blocks of {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack14(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            dst[i] = w0 >>> 50;
+            dst[i + 1] = (w0 >>> 36) & 0x3FFFL;
+            dst[i + 2] = (w0 >>> 22) & 0x3FFFL;
+            dst[i + 3] = (w0 >>> 8) & 0x3FFFL;
+            dst[i + 4] = (w0 << 6 | w1 >>> 58) & 0x3FFFL;
+            dst[i + 5] = (w1 >>> 44) & 0x3FFFL;
+            dst[i + 6] = (w1 >>> 30) & 0x3FFFL;
+            dst[i + 7] = (w1 >>> 16) & 0x3FFFL;
+            dst[i + 8] = (w1 >>> 2) & 0x3FFFL;
+            dst[i + 9] = (w1 << 12 | w2 >>> 52) & 0x3FFFL;
+            dst[i + 10] = (w2 >>> 38) & 0x3FFFL;
+            dst[i + 11] = (w2 >>> 24) & 0x3FFFL;
+            dst[i + 12] = (w2 >>> 10) & 0x3FFFL;
+            dst[i + 13] = (w2 << 4 | w3 >>> 60) & 0x3FFFL;
+            dst[i + 14] = (w3 >>> 46) & 0x3FFFL;
+            dst[i + 15] = (w3 >>> 32) & 0x3FFFL;
+            dst[i + 16] = (w3 >>> 18) & 0x3FFFL;
+            dst[i + 17] = (w3 >>> 4) & 0x3FFFL;
+            dst[i + 18] = (w3 << 10 | w4 >>> 54) & 0x3FFFL;
+            dst[i + 19] = (w4 >>> 40) & 0x3FFFL;
+            dst[i + 20] = (w4 >>> 26) & 0x3FFFL;
+            dst[i + 21] = (w4 >>> 12) & 0x3FFFL;
+            dst[i + 22] = (w4 << 2 | w5 >>> 62) & 0x3FFFL;
+            dst[i + 23] = (w5 >>> 48) & 0x3FFFL;
+            dst[i + 24] = (w5 >>> 34) & 0x3FFFL;
+            dst[i + 25] = (w5 >>> 20) & 0x3FFFL;
+            dst[i + 26] = (w5 >>> 6) & 0x3FFFL;
+            dst[i + 27] = (w5 << 8 | w6 >>> 56) & 0x3FFFL;
+            dst[i + 28] = (w6 >>> 42) & 0x3FFFL;
+            dst[i + 29] = (w6 >>> 28) & 0x3FFFL;
+            dst[i + 30] = (w6 >>> 14) & 0x3FFFL;
+            dst[i + 31] = w6 & 0x3FFFL;
+            index += 7;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 15-bit values from each of {@code count}
+     * blocks of {@code 15} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack15(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            dst[i] = w0 >>> 49;
+            dst[i + 1] = (w0 >>> 34) & 0x7FFFL;
+            dst[i + 2] = (w0 >>> 19) & 0x7FFFL;
+            dst[i + 3] = (w0 >>> 4) & 0x7FFFL;
+            dst[i + 4] = (w0 << 11 | w1 >>> 53) & 0x7FFFL;
+            dst[i + 5] = (w1 >>> 38) & 0x7FFFL;
+            dst[i + 6] = (w1 >>> 23) & 0x7FFFL;
+            dst[i + 7] = (w1 >>> 8) & 0x7FFFL;
+            dst[i + 8] = (w1 << 7 | w2 >>> 57) & 0x7FFFL;
+            dst[i + 9] = (w2 >>> 42) & 0x7FFFL;
+            dst[i + 10] = (w2 >>> 27) & 0x7FFFL;
+            dst[i + 11] = (w2 >>> 12) & 0x7FFFL;
+            dst[i + 12] = (w2 << 3 | w3 >>> 61) & 0x7FFFL;
+            dst[i + 13] = (w3 >>> 46) & 0x7FFFL;
+            dst[i + 14] = (w3 >>> 31) & 0x7FFFL;
+            dst[i + 15] = (w3 >>> 16) & 0x7FFFL;
+            dst[i + 16] = (w3 >>> 1) & 0x7FFFL;
+            dst[i + 17] = (w3 << 14 | w4 >>> 50) & 0x7FFFL;
+            dst[i + 18] = (w4 >>> 35) & 0x7FFFL;
+            dst[i + 19] = (w4 >>> 20) & 0x7FFFL;
+            dst[i + 20] = (w4 >>> 5) & 0x7FFFL;
+            dst[i + 21] = (w4 << 10 | w5 >>> 54) & 0x7FFFL;
+            dst[i + 22] = (w5 >>> 39) & 0x7FFFL;
+            dst[i + 23] = (w5 >>> 24) & 0x7FFFL;
+            dst[i + 24] = (w5 >>> 9) & 0x7FFFL;
+            dst[i + 25] = (w5 << 6 | w6 >>> 58) & 0x7FFFL;
+            dst[i + 26] = (w6 >>> 43) & 0x7FFFL;
+            dst[i + 27] = (w6 >>> 28) & 0x7FFFL;
+            dst[i + 28] = (w6 >>> 13) & 0x7FFFL;
+            dst[i + 29] = (w6 << 2 | w7 >>> 62) & 0x7FFFL;
+            dst[i + 30] = (w7 >>> 47) & 0x7FFFL;
+            dst[i + 31] = (w7 >>> 32) & 0x7FFFL;
+            dst[i + 32] = (w7 >>> 17) & 0x7FFFL;
+            dst[i + 33] = (w7 >>> 2) & 0x7FFFL;
+            dst[i + 34] = (w7 << 13 | w8 >>> 51) & 0x7FFFL;
+            dst[i + 35] = (w8 >>> 36) & 0x7FFFL;
+            dst[i + 36] = (w8 >>> 21) & 0x7FFFL;
+            dst[i + 37] = (w8 >>> 6) & 0x7FFFL;
+            dst[i + 38] = (w8 << 9 | w9 >>> 55) & 0x7FFFL;
+            dst[i + 39] = (w9 >>> 40) & 0x7FFFL;
+            dst[i + 40] = (w9 >>> 25) & 0x7FFFL;
+            dst[i + 41] = (w9 >>> 10) & 0x7FFFL;
+            dst[i + 42] = (w9 << 5 | w10 >>> 59) & 0x7FFFL;
+            dst[i + 43] = (w10 >>> 44) & 0x7FFFL;
+            dst[i + 44] = (w10 >>> 29) & 0x7FFFL;
+            dst[i + 45] = (w10 >>> 14) & 0x7FFFL;
+            dst[i + 46] = (w10 << 1 | w11 >>> 63) & 0x7FFFL;
+            dst[i + 47] = (w11 >>> 48) & 0x7FFFL;
+            dst[i + 48] = (w11 >>> 33) & 0x7FFFL;
+            dst[i + 49] = (w11 >>> 18) & 0x7FFFL;
+            dst[i + 50] = (w11 >>> 3) & 0x7FFFL;
+            dst[i + 51] = (w11 << 12 | w12 >>> 52) & 0x7FFFL;
+            dst[i + 52] = (w12 >>> 37) & 0x7FFFL;
+            dst[i + 53] = (w12 >>> 22) & 0x7FFFL;
+            dst[i + 54] = (w12 >>> 7) & 0x7FFFL;
+            dst[i + 55] = (w12 << 8 | w13 >>> 56) & 0x7FFFL;
+            dst[i + 56] = (w13 >>> 41) & 0x7FFFL;
+            dst[i + 57] = (w13 >>> 26) & 0x7FFFL;
+            dst[i + 58] = (w13 >>> 11) & 0x7FFFL;
+            dst[i + 59] = (w13 << 4 | w14 >>> 60) & 0x7FFFL;
+            dst[i + 60] = (w14 >>> 45) & 0x7FFFL;
+            dst[i + 61] = (w14 >>> 30) & 0x7FFFL;
+            dst[i + 62] = (w14 >>> 15) & 0x7FFFL;
+            dst[i + 63] = w14 & 0x7FFFL;
+            index += 15;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 4} unsigned 16-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack16(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = w0 >>> 48;
+            dst[i + 1] = (w0 >>> 32) & 0xFFFFL;
+            dst[i + 2] = (w0 >>> 16) & 0xFFFFL;
+            dst[i + 3] = w0 & 0xFFFFL;
+            index++;
+            i += 4;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 17-bit values from each of {@code count}
+     * blocks of {@code 17} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack17(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            dst[i] = w0 >>> 47;
+            dst[i + 1] = (w0 >>> 30) & 0x1FFFFL;
+            dst[i + 2] = (w0 >>> 13) & 0x1FFFFL;
+            dst[i + 3] = (w0 << 4 | w1 >>> 60) & 0x1FFFFL;
+            dst[i + 4] = (w1 >>> 43) & 0x1FFFFL;
+            dst[i + 5] = (w1 >>> 26) & 0x1FFFFL;
+            dst[i + 6] = (w1 >>> 9) & 0x1FFFFL;
+            dst[i + 7] = (w1 << 8 | w2 >>> 56) & 0x1FFFFL;
+            dst[i + 8] = (w2 >>> 39) & 0x1FFFFL;
+            dst[i + 9] = (w2 >>> 22) & 0x1FFFFL;
+            dst[i + 10] = (w2 >>> 5) & 0x1FFFFL;
+            dst[i + 11] = (w2 << 12 | w3 >>> 52) & 0x1FFFFL;
+            dst[i + 12] = (w3 >>> 35) & 0x1FFFFL;
+            dst[i + 13] = (w3 >>> 18) & 0x1FFFFL;
+            dst[i + 14] = (w3 >>> 1) & 0x1FFFFL;
+            dst[i + 15] = (w3 << 16 | w4 >>> 48) & 0x1FFFFL;
+            dst[i + 16] = (w4 >>> 31) & 0x1FFFFL;
+            dst[i + 17] = (w4 >>> 14) & 0x1FFFFL;
+            dst[i + 18] = (w4 << 3 | w5 >>> 61) & 0x1FFFFL;
+            dst[i + 19] = (w5 >>> 44) & 0x1FFFFL;
+            dst[i + 20] = (w5 >>> 27) & 0x1FFFFL;
+            dst[i + 21] = (w5 >>> 10) & 0x1FFFFL;
+            dst[i + 22] = (w5 << 7 | w6 >>> 57) & 0x1FFFFL;
+            dst[i + 23] = (w6 >>> 40) & 0x1FFFFL;
+            dst[i + 24] = (w6 >>> 23) & 0x1FFFFL;
+            dst[i + 25] = (w6 >>> 6) & 0x1FFFFL;
+            dst[i + 26] = (w6 << 11 | w7 >>> 53) & 0x1FFFFL;
+            dst[i + 27] = (w7 >>> 36) & 0x1FFFFL;
+            dst[i + 28] = (w7 >>> 19) & 0x1FFFFL;
+            dst[i + 29] = (w7 >>> 2) & 0x1FFFFL;
+            dst[i + 30] = (w7 << 15 | w8 >>> 49) & 0x1FFFFL;
+            dst[i + 31] = (w8 >>> 32) & 0x1FFFFL;
+            dst[i + 32] = (w8 >>> 15) & 0x1FFFFL;
+            dst[i + 33] = (w8 << 2 | w9 >>> 62) & 0x1FFFFL;
+            dst[i + 34] = (w9 >>> 45) & 0x1FFFFL;
+            dst[i + 35] = (w9 >>> 28) & 0x1FFFFL;
+            dst[i + 36] = (w9 >>> 11) & 0x1FFFFL;
+            dst[i + 37] = (w9 << 6 | w10 >>> 58) & 0x1FFFFL;
+            dst[i + 38] = (w10 >>> 41) & 0x1FFFFL;
+            dst[i + 39] = (w10 >>> 24) & 0x1FFFFL;
+            dst[i + 40] = (w10 >>> 7) & 0x1FFFFL;
+            dst[i + 41] = (w10 << 10 | w11 >>> 54) & 0x1FFFFL;
+            dst[i + 42] = (w11 >>> 37) & 0x1FFFFL;
+            dst[i + 43] = (w11 >>> 20) & 0x1FFFFL;
+            dst[i + 44] = (w11 >>> 3) & 0x1FFFFL;
+            dst[i + 45] = (w11 << 14 | w12 >>> 50) & 0x1FFFFL;
+            dst[i + 46] = (w12 >>> 33) & 0x1FFFFL;
+            dst[i + 47] = (w12 >>> 16) & 0x1FFFFL;
+            dst[i + 48] = (w12 << 1 | w13 >>> 63) & 0x1FFFFL;
+            dst[i + 49] = (w13 >>> 46) & 0x1FFFFL;
+            dst[i + 50] = (w13 >>> 29) & 0x1FFFFL;
+            dst[i + 51] = (w13 >>> 12) & 0x1FFFFL;
+            dst[i + 52] = (w13 << 5 | w14 >>> 59) & 0x1FFFFL;
+            dst[i + 53] = (w14 >>> 42) & 0x1FFFFL;
+            dst[i + 54] = (w14 >>> 25) & 0x1FFFFL;
+            dst[i + 55] = (w14 >>> 8) & 0x1FFFFL;
+            dst[i + 56] = (w14 << 9 | w15 >>> 55) & 0x1FFFFL;
+            dst[i + 57] = (w15 >>> 38) & 0x1FFFFL;
+            dst[i + 58] = (w15 >>> 21) & 0x1FFFFL;
+            dst[i + 59] = (w15 >>> 4) & 0x1FFFFL;
+            dst[i + 60] = (w15 << 13 | w16 >>> 51) & 0x1FFFFL;
+            dst[i + 61] = (w16 >>> 34) & 0x1FFFFL;
+            dst[i + 62] = (w16 >>> 17) & 0x1FFFFL;
+            dst[i + 63] = w16 & 0x1FFFFL;
+            index += 17;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 18-bit values from each of {@code count}
+     * blocks of {@code 9} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack18(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            dst[i] = w0 >>> 46;
+            dst[i + 1] = (w0 >>> 28) & 0x3FFFFL;
+            dst[i + 2] = (w0 >>> 10) & 0x3FFFFL;
+            dst[i + 3] = (w0 << 8 | w1 >>> 56) & 0x3FFFFL;
+            dst[i + 4] = (w1 >>> 38) & 0x3FFFFL;
+            dst[i + 5] = (w1 >>> 20) & 0x3FFFFL;
+            dst[i + 6] = (w1 >>> 2) & 0x3FFFFL;
+            dst[i + 7] = (w1 << 16 | w2 >>> 48) & 0x3FFFFL;
+            dst[i + 8] = (w2 >>> 30) & 0x3FFFFL;
+            dst[i + 9] = (w2 >>> 12) & 0x3FFFFL;
+            dst[i + 10] = (w2 << 6 | w3 >>> 58) & 0x3FFFFL;
+            dst[i + 11] = (w3 >>> 40) & 0x3FFFFL;
+            dst[i + 12] = (w3 >>> 22) & 0x3FFFFL;
+            dst[i + 13] = (w3 >>> 4) & 0x3FFFFL;
+            dst[i + 14] = (w3 << 14 | w4 >>> 50) & 0x3FFFFL;
+            dst[i + 15] = (w4 >>> 32) & 0x3FFFFL;
+            dst[i + 16] = (w4 >>> 14) & 0x3FFFFL;
+            dst[i + 17] = (w4 << 4 | w5 >>> 60) & 0x3FFFFL;
+            dst[i + 18] = (w5 >>> 42) & 0x3FFFFL;
+            dst[i + 19] = (w5 >>> 24) & 0x3FFFFL;
+            dst[i + 20] = (w5 >>> 6) & 0x3FFFFL;
+            dst[i + 21] = (w5 << 12 | w6 >>> 52) & 0x3FFFFL;
+            dst[i + 22] = (w6 >>> 34) & 0x3FFFFL;
+            dst[i + 23] = (w6 >>> 16) & 0x3FFFFL;
+            dst[i + 24] = (w6 << 2 | w7 >>> 62) & 0x3FFFFL;
+            dst[i + 25] = (w7 >>> 44) & 0x3FFFFL;
+            dst[i + 26] = (w7 >>> 26) & 0x3FFFFL;
+            dst[i + 27] = (w7 >>> 8) & 0x3FFFFL;
+            dst[i + 28] = (w7 << 10 | w8 >>> 54) & 0x3FFFFL;
+            dst[i + 29] = (w8 >>> 36) & 0x3FFFFL;
+            dst[i + 30] = (w8 >>> 18) & 0x3FFFFL;
+            dst[i + 31] = w8 & 0x3FFFFL;
+            index += 9;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 19-bit values from each of {@code count}
+     * blocks of {@code 19} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack19(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            dst[i] = w0 >>> 45;
+            dst[i + 1] = (w0 >>> 26) & 0x7FFFFL;
+            dst[i + 2] = (w0 >>> 7) & 0x7FFFFL;
+            dst[i + 3] = (w0 << 12 | w1 >>> 52) & 0x7FFFFL;
+            dst[i + 4] = (w1 >>> 33) & 0x7FFFFL;
+            dst[i + 5] = (w1 >>> 14) & 0x7FFFFL;
+            dst[i + 6] = (w1 << 5 | w2 >>> 59) & 0x7FFFFL;
+            dst[i + 7] = (w2 >>> 40) & 0x7FFFFL;
+            dst[i + 8] = (w2 >>> 21) & 0x7FFFFL;
+            dst[i + 9] = (w2 >>> 2) & 0x7FFFFL;
+            dst[i + 10] = (w2 << 17 | w3 >>> 47) & 0x7FFFFL;
+            dst[i + 11] = (w3 >>> 28) & 0x7FFFFL;
+            dst[i + 12] = (w3 >>> 9) & 0x7FFFFL;
+            dst[i + 13] = (w3 << 10 | w4 >>> 54) & 0x7FFFFL;
+            dst[i + 14] = (w4 >>> 35) & 0x7FFFFL;
+            dst[i + 15] = (w4 >>> 16) & 0x7FFFFL;
+            dst[i + 16] = (w4 << 3 | w5 >>> 61) & 0x7FFFFL;
+            dst[i + 17] = (w5 >>> 42) & 0x7FFFFL;
+            dst[i + 18] = (w5 >>> 23) & 0x7FFFFL;
+            dst[i + 19] = (w5 >>> 4) & 0x7FFFFL;
+            dst[i + 20] = (w5 << 15 | w6 >>> 49) & 0x7FFFFL;
+            dst[i + 21] = (w6 >>> 30) & 0x7FFFFL;
+            dst[i + 22] = (w6 >>> 11) & 0x7FFFFL;
+            dst[i + 23] = (w6 << 8 | w7 >>> 56) & 0x7FFFFL;
+            dst[i + 24] = (w7 >>> 37) & 0x7FFFFL;
+            dst[i + 25] = (w7 >>> 18) & 0x7FFFFL;
+            dst[i + 26] = (w7 << 1 | w8 >>> 63) & 0x7FFFFL;
+            dst[i + 27] = (w8 >>> 44) & 0x7FFFFL;
+            dst[i + 28] = (w8 >>> 25) & 0x7FFFFL;
+            dst[i + 29] = (w8 >>> 6) & 0x7FFFFL;
+            dst[i + 30] = (w8 << 13 | w9 >>> 51) & 0x7FFFFL;
+            dst[i + 31] = (w9 >>> 32) & 0x7FFFFL;
+            dst[i + 32] = (w9 >>> 13) & 0x7FFFFL;
+            dst[i + 33] = (w9 << 6 | w10 >>> 58) & 0x7FFFFL;
+            dst[i + 34] = (w10 >>> 39) & 0x7FFFFL;
+            dst[i + 35] = (w10 >>> 20) & 0x7FFFFL;
+            dst[i + 36] = (w10 >>> 1) & 0x7FFFFL;
+            dst[i + 37] = (w10 << 18 | w11 >>> 46) & 0x7FFFFL;
+            dst[i + 38] = (w11 >>> 27) & 0x7FFFFL;
+            dst[i + 39] = (w11 >>> 8) & 0x7FFFFL;
+            dst[i + 40] = (w11 << 11 | w12 >>> 53) & 0x7FFFFL;
+            dst[i + 41] = (w12 >>> 34) & 0x7FFFFL;
+            dst[i + 42] = (w12 >>> 15) & 0x7FFFFL;
+            dst[i + 43] = (w12 << 4 | w13 >>> 60) & 0x7FFFFL;
+            dst[i + 44] = (w13 >>> 41) & 0x7FFFFL;
+            dst[i + 45] = (w13 >>> 22) & 0x7FFFFL;
+            dst[i + 46] = (w13 >>> 3) & 0x7FFFFL;
+            dst[i + 47] = (w13 << 16 | w14 >>> 48) & 0x7FFFFL;
+            dst[i + 48] = (w14 >>> 29) & 0x7FFFFL;
+            dst[i + 49] = (w14 >>> 10) & 0x7FFFFL;
+            dst[i + 50] = (w14 << 9 | w15 >>> 55) & 0x7FFFFL;
+            dst[i + 51] = (w15 >>> 36) & 0x7FFFFL;
+            dst[i + 52] = (w15 >>> 17) & 0x7FFFFL;
+            dst[i + 53] = (w15 << 2 | w16 >>> 62) & 0x7FFFFL;
+            dst[i + 54] = (w16 >>> 43) & 0x7FFFFL;
+            dst[i + 55] = (w16 >>> 24) & 0x7FFFFL;
+            dst[i + 56] = (w16 >>> 5) & 0x7FFFFL;
+            dst[i + 57] = (w16 << 14 | w17 >>> 50) & 0x7FFFFL;
+            dst[i + 58] = (w17 >>> 31) & 0x7FFFFL;
+            dst[i + 59] = (w17 >>> 12) & 0x7FFFFL;
+            dst[i + 60] = (w17 << 7 | w18 >>> 57) & 0x7FFFFL;
+            dst[i + 61] = (w18 >>> 38) & 0x7FFFFL;
+            dst[i + 62] = (w18 >>> 19) & 0x7FFFFL;
+            dst[i + 63] = w18 & 0x7FFFFL;
+            index += 19;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 16} unsigned 20-bit values from each of {@code count}
+     * blocks of {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack20(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            dst[i] = w0 >>> 44;
+            dst[i + 1] = (w0 >>> 24) & 0xFFFFFL;
+            dst[i + 2] = (w0 >>> 4) & 0xFFFFFL;
+            dst[i + 3] = (w0 << 16 | w1 >>> 48) & 0xFFFFFL;
+            dst[i + 4] = (w1 >>> 28) & 0xFFFFFL;
+            dst[i + 5] = (w1 >>> 8) & 0xFFFFFL;
+            dst[i + 6] = (w1 << 12 | w2 >>> 52) & 0xFFFFFL;
+            dst[i + 7] = (w2 >>> 32) & 0xFFFFFL;
+            dst[i + 8] = (w2 >>> 12) & 0xFFFFFL;
+            dst[i + 9] = (w2 << 8 | w3 >>> 56) & 0xFFFFFL;
+            dst[i + 10] = (w3 >>> 36) & 0xFFFFFL;
+            dst[i + 11] = (w3 >>> 16) & 0xFFFFFL;
+            dst[i + 12] = (w3 << 4 | w4 >>> 60) & 0xFFFFFL;
+            dst[i + 13] = (w4 >>> 40) & 0xFFFFFL;
+            dst[i + 14] = (w4 >>> 20) & 0xFFFFFL;
+            dst[i + 15] = w4 & 0xFFFFFL;
+            index += 5;
+            i += 16;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 21-bit values from each of {@code count}
+     * blocks of {@code 21} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack21(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            dst[i] = w0 >>> 43;
+            dst[i + 1] = (w0 >>> 22) & 0x1FFFFFL;
+            dst[i + 2] = (w0 >>> 1) & 0x1FFFFFL;
+            dst[i + 3] = (w0 << 20 | w1 >>> 44) & 0x1FFFFFL;
+            dst[i + 4] = (w1 >>> 23) & 0x1FFFFFL;
+            dst[i + 5] = (w1 >>> 2) & 0x1FFFFFL;
+            dst[i + 6] = (w1 << 19 | w2 >>> 45) & 0x1FFFFFL;
+            dst[i + 7] = (w2 >>> 24) & 0x1FFFFFL;
+            dst[i + 8] = (w2 >>> 3) & 0x1FFFFFL;
+            dst[i + 9] = (w2 << 18 | w3 >>> 46) & 0x1FFFFFL;
+            dst[i + 10] = (w3 >>> 25) & 0x1FFFFFL;
+            dst[i + 11] = (w3 >>> 4) & 0x1FFFFFL;
+            dst[i + 12] = (w3 << 17 | w4 >>> 47) & 0x1FFFFFL;
+            dst[i + 13] = (w4 >>> 26) & 0x1FFFFFL;
+            dst[i + 14] = (w4 >>> 5) & 0x1FFFFFL;
+            dst[i + 15] = (w4 << 16 | w5 >>> 48) & 0x1FFFFFL;
+            dst[i + 16] = (w5 >>> 27) & 0x1FFFFFL;
+            dst[i + 17] = (w5 >>> 6) & 0x1FFFFFL;
+            dst[i + 18] = (w5 << 15 | w6 >>> 49) & 0x1FFFFFL;
+            dst[i + 19] = (w6 >>> 28) & 0x1FFFFFL;
+            dst[i + 20] = (w6 >>> 7) & 0x1FFFFFL;
+            dst[i + 21] = (w6 << 14 | w7 >>> 50) & 0x1FFFFFL;
+            dst[i + 22] = (w7 >>> 29) & 0x1FFFFFL;
+            dst[i + 23] = (w7 >>> 8) & 0x1FFFFFL;
+            dst[i + 24] = (w7 << 13 | w8 >>> 51) & 0x1FFFFFL;
+            dst[i + 25] = (w8 >>> 30) & 0x1FFFFFL;
+            dst[i + 26] = (w8 >>> 9) & 0x1FFFFFL;
+            dst[i + 27] = (w8 << 12 | w9 >>> 52) & 0x1FFFFFL;
+            dst[i + 28] = (w9 >>> 31) & 0x1FFFFFL;
+            dst[i + 29] = (w9 >>> 10) & 0x1FFFFFL;
+            dst[i + 30] = (w9 << 11 | w10 >>> 53) & 0x1FFFFFL;
+            dst[i + 31] = (w10 >>> 32) & 0x1FFFFFL;
+            dst[i + 32] = (w10 >>> 11) & 0x1FFFFFL;
+            dst[i + 33] = (w10 << 10 | w11 >>> 54) & 0x1FFFFFL;
+            dst[i + 34] = (w11 >>> 33) & 0x1FFFFFL;
+            dst[i + 35] = (w11 >>> 12) & 0x1FFFFFL;
+            dst[i + 36] = (w11 << 9 | w12 >>> 55) & 0x1FFFFFL;
+            dst[i + 37] = (w12 >>> 34) & 0x1FFFFFL;
+            dst[i + 38] = (w12 >>> 13) & 0x1FFFFFL;
+            dst[i + 39] = (w12 << 8 | w13 >>> 56) & 0x1FFFFFL;
+            dst[i + 40] = (w13 >>> 35) & 0x1FFFFFL;
+            dst[i + 41] = (w13 >>> 14) & 0x1FFFFFL;
+            dst[i + 42] = (w13 << 7 | w14 >>> 57) & 0x1FFFFFL;
+            dst[i + 43] = (w14 >>> 36) & 0x1FFFFFL;
+            dst[i + 44] = (w14 >>> 15) & 0x1FFFFFL;
+            dst[i + 45] = (w14 << 6 | w15 >>> 58) & 0x1FFFFFL;
+            dst[i + 46] = (w15 >>> 37) & 0x1FFFFFL;
+            dst[i + 47] = (w15 >>> 16) & 0x1FFFFFL;
+            dst[i + 48] = (w15 << 5 | w16 >>> 59) & 0x1FFFFFL;
+            dst[i + 49] = (w16 >>> 38) & 0x1FFFFFL;
+            dst[i + 50] = (w16 >>> 17) & 0x1FFFFFL;
+            dst[i + 51] = (w16 << 4 | w17 >>> 60) & 0x1FFFFFL;
+            dst[i + 52] = (w17 >>> 39) & 0x1FFFFFL;
+            dst[i + 53] = (w17 >>> 18) & 0x1FFFFFL;
+            dst[i + 54] = (w17 << 3 | w18 >>> 61) & 0x1FFFFFL;
+            dst[i + 55] = (w18 >>> 40) & 0x1FFFFFL;
+            dst[i + 56] = (w18 >>> 19) & 0x1FFFFFL;
+            dst[i + 57] = (w18 << 2 | w19 >>> 62) & 0x1FFFFFL;
+            dst[i + 58] = (w19 >>> 41) & 0x1FFFFFL;
+            dst[i + 59] = (w19 >>> 20) & 0x1FFFFFL;
+            dst[i + 60] = (w19 << 1 | w20 >>> 63) & 0x1FFFFFL;
+            dst[i + 61] = (w20 >>> 42) & 0x1FFFFFL;
+            dst[i + 62] = (w20 >>> 21) & 0x1FFFFFL;
+            dst[i + 63] = w20 & 0x1FFFFFL;
+            index += 21;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 22-bit values from each of {@code count}
+     * blocks of {@code 11} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack22(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            dst[i] = w0 >>> 42;
+            dst[i + 1] = (w0 >>> 20) & 0x3FFFFFL;
+            dst[i + 2] = (w0 << 2 | w1 >>> 62) & 0x3FFFFFL;
+            dst[i + 3] = (w1 >>> 40) & 0x3FFFFFL;
+            dst[i + 4] = (w1 >>> 18) & 0x3FFFFFL;
+            dst[i + 5] = (w1 << 4 | w2 >>> 60) & 0x3FFFFFL;
+            dst[i + 6] = (w2 >>> 38) & 0x3FFFFFL;
+            dst[i + 7] = (w2 >>> 16) & 0x3FFFFFL;
+            dst[i + 8] = (w2 << 6 | w3 >>> 58) & 0x3FFFFFL;
+            dst[i + 9] = (w3 >>> 36) & 0x3FFFFFL;
+            dst[i + 10] = (w3 >>> 14) & 0x3FFFFFL;
+            dst[i + 11] = (w3 << 8 | w4 >>> 56) & 0x3FFFFFL;
+            dst[i + 12] = (w4 >>> 34) & 0x3FFFFFL;
+            dst[i + 13] = (w4 >>> 12) & 0x3FFFFFL;
+            dst[i + 14] = (w4 << 10 | w5 >>> 54) & 0x3FFFFFL;
+            dst[i + 15] = (w5 >>> 32) & 0x3FFFFFL;
+            dst[i + 16] = (w5 >>> 10) & 0x3FFFFFL;
+            dst[i + 17] = (w5 << 12 | w6 >>> 52) & 0x3FFFFFL;
+            dst[i + 18] = (w6 >>> 30) & 0x3FFFFFL;
+            dst[i + 19] = (w6 >>> 8) & 0x3FFFFFL;
+            dst[i + 20] = (w6 << 14 | w7 >>> 50) & 0x3FFFFFL;
+            dst[i + 21] = (w7 >>> 28) & 0x3FFFFFL;
+            dst[i + 22] = (w7 >>> 6) & 0x3FFFFFL;
+            dst[i + 23] = (w7 << 16 | w8 >>> 48) & 0x3FFFFFL;
+            dst[i + 24] = (w8 >>> 26) & 0x3FFFFFL;
+            dst[i + 25] = (w8 >>> 4) & 0x3FFFFFL;
+            dst[i + 26] = (w8 << 18 | w9 >>> 46) & 0x3FFFFFL;
+            dst[i + 27] = (w9 >>> 24) & 0x3FFFFFL;
+            dst[i + 28] = (w9 >>> 2) & 0x3FFFFFL;
+            dst[i + 29] = (w9 << 20 | w10 >>> 44) & 0x3FFFFFL;
+            dst[i + 30] = (w10 >>> 22) & 0x3FFFFFL;
+            dst[i + 31] = w10 & 0x3FFFFFL;
+            index += 11;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 23-bit values from each of {@code count}
+     * blocks of {@code 23} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack23(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            dst[i] = w0 >>> 41;
+            dst[i + 1] = (w0 >>> 18) & 0x7FFFFFL;
+            dst[i + 2] = (w0 << 5 | w1 >>> 59) & 0x7FFFFFL;
+            dst[i + 3] = (w1 >>> 36) & 0x7FFFFFL;
+            dst[i + 4] = (w1 >>> 13) & 0x7FFFFFL;
+            dst[i + 5] = (w1 << 10 | w2 >>> 54) & 0x7FFFFFL;
+            dst[i + 6] = (w2 >>> 31) & 0x7FFFFFL;
+            dst[i + 7] = (w2 >>> 8) & 0x7FFFFFL;
+            dst[i + 8] = (w2 << 15 | w3 >>> 49) & 0x7FFFFFL;
+            dst[i + 9] = (w3 >>> 26) & 0x7FFFFFL;
+            dst[i + 10] = (w3 >>> 3) & 0x7FFFFFL;
+            dst[i + 11] = (w3 << 20 | w4 >>> 44) & 0x7FFFFFL;
+            dst[i + 12] = (w4 >>> 21) & 0x7FFFFFL;
+            dst[i + 13] = (w4 << 2 | w5 >>> 62) & 0x7FFFFFL;
+            dst[i + 14] = (w5 >>> 39) & 0x7FFFFFL;
+            dst[i + 15] = (w5 >>> 16) & 0x7FFFFFL;
+            dst[i + 16] = (w5 << 7 | w6 >>> 57) & 0x7FFFFFL;
+            dst[i + 17] = (w6 >>> 34) & 0x7FFFFFL;
+            dst[i + 18] = (w6 >>> 11) & 0x7FFFFFL;
+            dst[i + 19] = (w6 << 12 | w7 >>> 52) & 0x7FFFFFL;
+            dst[i + 20] = (w7 >>> 29) & 0x7FFFFFL;
+            dst[i + 21] = (w7 >>> 6) & 0x7FFFFFL;
+            dst[i + 22] = (w7 << 17 | w8 >>> 47) & 0x7FFFFFL;
+            dst[i + 23] = (w8 >>> 24) & 0x7FFFFFL;
+            dst[i + 24] = (w8 >>> 1) & 0x7FFFFFL;
+            dst[i + 25] = (w8 << 22 | w9 >>> 42) & 0x7FFFFFL;
+            dst[i + 26] = (w9 >>> 19) & 0x7FFFFFL;
+            dst[i + 27] = (w9 << 4 | w10 >>> 60) & 0x7FFFFFL;
+            dst[i + 28] = (w10 >>> 37) & 0x7FFFFFL;
+            dst[i + 29] = (w10 >>> 14) & 0x7FFFFFL;
+            dst[i + 30] = (w10 << 9 | w11 >>> 55) & 0x7FFFFFL;
+            dst[i + 31] = (w11 >>> 32) & 0x7FFFFFL;
+            dst[i + 32] = (w11 >>> 9) & 0x7FFFFFL;
+            dst[i + 33] = (w11 << 14 | w12 >>> 50) & 0x7FFFFFL;
+            dst[i + 34] = (w12 >>> 27) & 0x7FFFFFL;
+            dst[i + 35] = (w12 >>> 4) & 0x7FFFFFL;
+            dst[i + 36] = (w12 << 19 | w13 >>> 45) & 0x7FFFFFL;
+            dst[i + 37] = (w13 >>> 22) & 0x7FFFFFL;
+            dst[i + 38] = (w13 << 1 | w14 >>> 63) & 0x7FFFFFL;
+            dst[i + 39] = (w14 >>> 40) & 0x7FFFFFL;
+            dst[i + 40] = (w14 >>> 17) & 0x7FFFFFL;
+            dst[i + 41] = (w14 << 6 | w15 >>> 58) & 0x7FFFFFL;
+            dst[i + 42] = (w15 >>> 35) & 0x7FFFFFL;
+            dst[i + 43] = (w15 >>> 12) & 0x7FFFFFL;
+            dst[i + 44] = (w15 << 11 | w16 >>> 53) & 0x7FFFFFL;
+            dst[i + 45] = (w16 >>> 30) & 0x7FFFFFL;
+            dst[i + 46] = (w16 >>> 7) & 0x7FFFFFL;
+            dst[i + 47] = (w16 << 16 | w17 >>> 48) & 0x7FFFFFL;
+            dst[i + 48] = (w17 >>> 25) & 0x7FFFFFL;
+            dst[i + 49] = (w17 >>> 2) & 0x7FFFFFL;
+            dst[i + 50] = (w17 << 21 | w18 >>> 43) & 0x7FFFFFL;
+            dst[i + 51] = (w18 >>> 20) & 0x7FFFFFL;
+            dst[i + 52] = (w18 << 3 | w19 >>> 61) & 0x7FFFFFL;
+            dst[i + 53] = (w19 >>> 38) & 0x7FFFFFL;
+            dst[i + 54] = (w19 >>> 15) & 0x7FFFFFL;
+            dst[i + 55] = (w19 << 8 | w20 >>> 56) & 0x7FFFFFL;
+            dst[i + 56] = (w20 >>> 33) & 0x7FFFFFL;
+            dst[i + 57] = (w20 >>> 10) & 0x7FFFFFL;
+            dst[i + 58] = (w20 << 13 | w21 >>> 51) & 0x7FFFFFL;
+            dst[i + 59] = (w21 >>> 28) & 0x7FFFFFL;
+            dst[i + 60] = (w21 >>> 5) & 0x7FFFFFL;
+            dst[i + 61] = (w21 << 18 | w22 >>> 46) & 0x7FFFFFL;
+            dst[i + 62] = (w22 >>> 23) & 0x7FFFFFL;
+            dst[i + 63] = w22 & 0x7FFFFFL;
+            index += 23;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 8} unsigned 24-bit values from each of {@code count}
+     * blocks of {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack24(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            dst[i] = w0 >>> 40;
+            dst[i + 1] = (w0 >>> 16) & 0xFFFFFFL;
+            dst[i + 2] = (w0 << 8 | w1 >>> 56) & 0xFFFFFFL;
+            dst[i + 3] = (w1 >>> 32) & 0xFFFFFFL;
+            dst[i + 4] = (w1 >>> 8) & 0xFFFFFFL;
+            dst[i + 5] = (w1 << 16 | w2 >>> 48) & 0xFFFFFFL;
+            dst[i + 6] = (w2 >>> 24) & 0xFFFFFFL;
+            dst[i + 7] = w2 & 0xFFFFFFL;
+            index += 3;
+            i += 8;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 25-bit values from each of {@code count}
+     * blocks of {@code 25} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack25(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            final long w23 = words[index + 23];
+            final long w24 = words[index + 24];
+            dst[i] = w0 >>> 39;
+            dst[i + 1] = (w0 >>> 14) & 0x1FFFFFFL;
+            dst[i + 2] = (w0 << 11 | w1 >>> 53) & 0x1FFFFFFL;
+            dst[i + 3] = (w1 >>> 28) & 0x1FFFFFFL;
+            dst[i + 4] = (w1 >>> 3) & 0x1FFFFFFL;
+            dst[i + 5] = (w1 << 22 | w2 >>> 42) & 0x1FFFFFFL;
+            dst[i + 6] = (w2 >>> 17) & 0x1FFFFFFL;
+            dst[i + 7] = (w2 << 8 | w3 >>> 56) & 0x1FFFFFFL;
+            dst[i + 8] = (w3 >>> 31) & 0x1FFFFFFL;
+            dst[i + 9] = (w3 >>> 6) & 0x1FFFFFFL;
+            dst[i + 10] = (w3 << 19 | w4 >>> 45) & 0x1FFFFFFL;
+            dst[i + 11] = (w4 >>> 20) & 0x1FFFFFFL;
+            dst[i + 12] = (w4 << 5 | w5 >>> 59) & 0x1FFFFFFL;
+            dst[i + 13] = (w5 >>> 34) & 0x1FFFFFFL;
+            dst[i + 14] = (w5 >>> 9) & 0x1FFFFFFL;
+            dst[i + 15] = (w5 << 16 | w6 >>> 48) & 0x1FFFFFFL;
+            dst[i + 16] = (w6 >>> 23) & 0x1FFFFFFL;
+            dst[i + 17] = (w6 << 2 | w7 >>> 62) & 0x1FFFFFFL;
+            dst[i + 18] = (w7 >>> 37) & 0x1FFFFFFL;
+            dst[i + 19] = (w7 >>> 12) & 0x1FFFFFFL;
+            dst[i + 20] = (w7 << 13 | w8 >>> 51) & 0x1FFFFFFL;
+            dst[i + 21] = (w8 >>> 26) & 0x1FFFFFFL;
+            dst[i + 22] = (w8 >>> 1) & 0x1FFFFFFL;
+            dst[i + 23] = (w8 << 24 | w9 >>> 40) & 0x1FFFFFFL;
+            dst[i + 24] = (w9 >>> 15) & 0x1FFFFFFL;
+            dst[i + 25] = (w9 << 10 | w10 >>> 54) & 0x1FFFFFFL;
+            dst[i + 26] = (w10 >>> 29) & 0x1FFFFFFL;
+            dst[i + 27] = (w10 >>> 4) & 0x1FFFFFFL;
+            dst[i + 28] = (w10 << 21 | w11 >>> 43) & 0x1FFFFFFL;
+            dst[i + 29] = (w11 >>> 18) & 0x1FFFFFFL;
+            dst[i + 30] = (w11 << 7 | w12 >>> 57) & 0x1FFFFFFL;
+            dst[i + 31] = (w12 >>> 32) & 0x1FFFFFFL;
+            dst[i + 32] = (w12 >>> 7) & 0x1FFFFFFL;
+            dst[i + 33] = (w12 << 18 | w13 >>> 46) & 0x1FFFFFFL;
+            dst[i + 34] = (w13 >>> 21) & 0x1FFFFFFL;
+            dst[i + 35] = (w13 << 4 | w14 >>> 60) & 0x1FFFFFFL;
+            dst[i + 36] = (w14 >>> 35) & 0x1FFFFFFL;
+            dst[i + 37] = (w14 >>> 10) & 0x1FFFFFFL;
+            dst[i + 38] = (w14 << 15 | w15 >>> 49) & 0x1FFFFFFL;
+            dst[i + 39] = (w15 >>> 24) & 0x1FFFFFFL;
+            dst[i + 40] = (w15 << 1 | w16 >>> 63) & 0x1FFFFFFL;
+            dst[i + 41] = (w16 >>> 38) & 0x1FFFFFFL;
+            dst[i + 42] = (w16 >>> 13) & 0x1FFFFFFL;
+            dst[i + 43] = (w16 << 12 | w17 >>> 52) & 0x1FFFFFFL;
+            dst[i + 44] = (w17 >>> 27) & 0x1FFFFFFL;
+            dst[i + 45] = (w17 >>> 2) & 0x1FFFFFFL;
+            dst[i + 46] = (w17 << 23 | w18 >>> 41) & 0x1FFFFFFL;
+            dst[i + 47] = (w18 >>> 16) & 0x1FFFFFFL;
+            dst[i + 48] = (w18 << 9 | w19 >>> 55) & 0x1FFFFFFL;
+            dst[i + 49] = (w19 >>> 30) & 0x1FFFFFFL;
+            dst[i + 50] = (w19 >>> 5) & 0x1FFFFFFL;
+            dst[i + 51] = (w19 << 20 | w20 >>> 44) & 0x1FFFFFFL;
+            dst[i + 52] = (w20 >>> 19) & 0x1FFFFFFL;
+            dst[i + 53] = (w20 << 6 | w21 >>> 58) & 0x1FFFFFFL;
+            dst[i + 54] = (w21 >>> 33) & 0x1FFFFFFL;
+            dst[i + 55] = (w21 >>> 8) & 0x1FFFFFFL;
+            dst[i + 56] = (w21 << 17 | w22 >>> 47) & 0x1FFFFFFL;
+            dst[i + 57] = (w22 >>> 22) & 0x1FFFFFFL;
+            dst[i + 58] = (w22 << 3 | w23 >>> 61) & 0x1FFFFFFL;
+            dst[i + 59] = (w23 >>> 36) & 0x1FFFFFFL;
+            dst[i + 60] = (w23 >>> 11) & 0x1FFFFFFL;
+            dst[i + 61] = (w23 << 14 | w24 >>> 50) & 0x1FFFFFFL;
+            dst[i + 62] = (w24 >>> 25) & 0x1FFFFFFL;
+            dst[i + 63] = w24 & 0x1FFFFFFL;
+            index += 25;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 26-bit values from each of {@code count}
+     * blocks of {@code 13} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack26(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            dst[i] = w0 >>> 38;
+            dst[i + 1] = (w0 >>> 12) & 0x3FFFFFFL;
+            dst[i + 2] = (w0 << 14 | w1 >>> 50) & 0x3FFFFFFL;
+            dst[i + 3] = (w1 >>> 24) & 0x3FFFFFFL;
+            dst[i + 4] = (w1 << 2 | w2 >>> 62) & 0x3FFFFFFL;
+            dst[i + 5] = (w2 >>> 36) & 0x3FFFFFFL;
+            dst[i + 6] = (w2 >>> 10) & 0x3FFFFFFL;
+            dst[i + 7] = (w2 << 16 | w3 >>> 48) & 0x3FFFFFFL;
+            dst[i + 8] = (w3 >>> 22) & 0x3FFFFFFL;
+            dst[i + 9] = (w3 << 4 | w4 >>> 60) & 0x3FFFFFFL;
+            dst[i + 10] = (w4 >>> 34) & 0x3FFFFFFL;
+            dst[i + 11] = (w4 >>> 8) & 0x3FFFFFFL;
+            dst[i + 12] = (w4 << 18 | w5 >>> 46) & 0x3FFFFFFL;
+            dst[i + 13] = (w5 >>> 20) & 0x3FFFFFFL;
+            dst[i + 14] = (w5 << 6 | w6 >>> 58) & 0x3FFFFFFL;
+            dst[i + 15] = (w6 >>> 32) & 0x3FFFFFFL;
+            dst[i + 16] = (w6 >>> 6) & 0x3FFFFFFL;
+            dst[i + 17] = (w6 << 20 | w7 >>> 44) & 0x3FFFFFFL;
+            dst[i + 18] = (w7 >>> 18) & 0x3FFFFFFL;
+            dst[i + 19] = (w7 << 8 | w8 >>> 56) & 0x3FFFFFFL;
+            dst[i + 20] = (w8 >>> 30) & 0x3FFFFFFL;
+            dst[i + 21] = (w8 >>> 4) & 0x3FFFFFFL;
+            dst[i + 22] = (w8 << 22 | w9 >>> 42) & 0x3FFFFFFL;
+            dst[i + 23] = (w9 >>> 16) & 0x3FFFFFFL;
+            dst[i + 24] = (w9 << 10 | w10 >>> 54) & 0x3FFFFFFL;
+            dst[i + 25] = (w10 >>> 28) & 0x3FFFFFFL;
+            dst[i + 26] = (w10 >>> 2) & 0x3FFFFFFL;
+            dst[i + 27] = (w10 << 24 | w11 >>> 40) & 0x3FFFFFFL;
+            dst[i + 28] = (w11 >>> 14) & 0x3FFFFFFL;
+            dst[i + 29] = (w11 << 12 | w12 >>> 52) & 0x3FFFFFFL;
+            dst[i + 30] = (w12 >>> 26) & 0x3FFFFFFL;
+            dst[i + 31] = w12 & 0x3FFFFFFL;
+            index += 13;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 27-bit values from each of {@code count}
+     * blocks of {@code 27} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack27(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            final long w23 = words[index + 23];
+            final long w24 = words[index + 24];
+            final long w25 = words[index + 25];
+            final long w26 = words[index + 26];
+            dst[i] = w0 >>> 37;
+            dst[i + 1] = (w0 >>> 10) & 0x7FFFFFFL;
+            dst[i + 2] = (w0 << 17 | w1 >>> 47) & 0x7FFFFFFL;
+            dst[i + 3] = (w1 >>> 20) & 0x7FFFFFFL;
+            dst[i + 4] = (w1 << 7 | w2 >>> 57) & 0x7FFFFFFL;
+            dst[i + 5] = (w2 >>> 30) & 0x7FFFFFFL;
+            dst[i + 6] = (w2 >>> 3) & 0x7FFFFFFL;
+            dst[i + 7] = (w2 << 24 | w3 >>> 40) & 0x7FFFFFFL;
+            dst[i + 8] = (w3 >>> 13) & 0x7FFFFFFL;
+            dst[i + 9] = (w3 << 14 | w4 >>> 50) & 0x7FFFFFFL;
+            dst[i + 10] = (w4 >>> 23) & 0x7FFFFFFL;
+            dst[i + 11] = (w4 << 4 | w5 >>> 60) & 0x7FFFFFFL;
+            dst[i + 12] = (w5 >>> 33) & 0x7FFFFFFL;
+            dst[i + 13] = (w5 >>> 6) & 0x7FFFFFFL;
+            dst[i + 14] = (w5 << 21 | w6 >>> 43) & 0x7FFFFFFL;
+            dst[i + 15] = (w6 >>> 16) & 0x7FFFFFFL;
+            dst[i + 16] = (w6 << 11 | w7 >>> 53) & 0x7FFFFFFL;
+            dst[i + 17] = (w7 >>> 26) & 0x7FFFFFFL;
+            dst[i + 18] = (w7 << 1 | w8 >>> 63) & 0x7FFFFFFL;
+            dst[i + 19] = (w8 >>> 36) & 0x7FFFFFFL;
+            dst[i + 20] = (w8 >>> 9) & 0x7FFFFFFL;
+            dst[i + 21] = (w8 << 18 | w9 >>> 46) & 0x7FFFFFFL;
+            dst[i + 22] = (w9 >>> 19) & 0x7FFFFFFL;
+            dst[i + 23] = (w9 << 8 | w10 >>> 56) & 0x7FFFFFFL;
+            dst[i + 24] = (w10 >>> 29) & 0x7FFFFFFL;
+            dst[i + 25] = (w10 >>> 2) & 0x7FFFFFFL;
+            dst[i + 26] = (w10 << 25 | w11 >>> 39) & 0x7FFFFFFL;
+            dst[i + 27] = (w11 >>> 12) & 0x7FFFFFFL;
+            dst[i + 28] = (w11 << 15 | w12 >>> 49) & 0x7FFFFFFL;
+            dst[i + 29] = (w12 >>> 22) & 0x7FFFFFFL;
+            dst[i + 30] = (w12 << 5 | w13 >>> 59) & 0x7FFFFFFL;
+            dst[i + 31] = (w13 >>> 32) & 0x7FFFFFFL;
+            dst[i + 32] = (w13 >>> 5) & 0x7FFFFFFL;
+            dst[i + 33] = (w13 << 22 | w14 >>> 42) & 0x7FFFFFFL;
+            dst[i + 34] = (w14 >>> 15) & 0x7FFFFFFL;
+            dst[i + 35] = (w14 << 12 | w15 >>> 52) & 0x7FFFFFFL;
+            dst[i + 36] = (w15 >>> 25) & 0x7FFFFFFL;
+            dst[i + 37] = (w15 << 2 | w16 >>> 62) & 0x7FFFFFFL;
+            dst[i + 38] = (w16 >>> 35) & 0x7FFFFFFL;
+            dst[i + 39] = (w16 >>> 8) & 0x7FFFFFFL;
+            dst[i + 40] = (w16 << 19 | w17 >>> 45) & 0x7FFFFFFL;
+            dst[i + 41] = (w17 >>> 18) & 0x7FFFFFFL;
+            dst[i + 42] = (w17 << 9 | w18 >>> 55) & 0x7FFFFFFL;
+            dst[i + 43] = (w18 >>> 28) & 0x7FFFFFFL;
+            dst[i + 44] = (w18 >>> 1) & 0x7FFFFFFL;
+            dst[i + 45] = (w18 << 26 | w19 >>> 38) & 0x7FFFFFFL;
+            dst[i + 46] = (w19 >>> 11) & 0x7FFFFFFL;
+            dst[i + 47] = (w19 << 16 | w20 >>> 48) & 0x7FFFFFFL;
+            dst[i + 48] = (w20 >>> 21) & 0x7FFFFFFL;
+            dst[i + 49] = (w20 << 6 | w21 >>> 58) & 0x7FFFFFFL;
+            dst[i + 50] = (w21 >>> 31) & 0x7FFFFFFL;
+            dst[i + 51] = (w21 >>> 4) & 0x7FFFFFFL;
+            dst[i + 52] = (w21 << 23 | w22 >>> 41) & 0x7FFFFFFL;
+            dst[i + 53] = (w22 >>> 14) & 0x7FFFFFFL;
+            dst[i + 54] = (w22 << 13 | w23 >>> 51) & 0x7FFFFFFL;
+            dst[i + 55] = (w23 >>> 24) & 0x7FFFFFFL;
+            dst[i + 56] = (w23 << 3 | w24 >>> 61) & 0x7FFFFFFL;
+            dst[i + 57] = (w24 >>> 34) & 0x7FFFFFFL;
+            dst[i + 58] = (w24 >>> 7) & 0x7FFFFFFL;
+            dst[i + 59] = (w24 << 20 | w25 >>> 44) & 0x7FFFFFFL;
+            dst[i + 60] = (w25 >>> 17) & 0x7FFFFFFL;
+            dst[i + 61] = (w25 << 10 | w26 >>> 54) & 0x7FFFFFFL;
+            dst[i + 62] = (w26 >>> 27) & 0x7FFFFFFL;
+            dst[i + 63] = w26 & 0x7FFFFFFL;
+            index += 27;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 16} unsigned 28-bit values from each of {@code count}
+     * blocks of {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack28(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            dst[i] = w0 >>> 36;
+            dst[i + 1] = (w0 >>> 8) & 0xFFFFFFFL;
+            dst[i + 2] = (w0 << 20 | w1 >>> 44) & 0xFFFFFFFL;
+            dst[i + 3] = (w1 >>> 16) & 0xFFFFFFFL;
+            dst[i + 4] = (w1 << 12 | w2 >>> 52) & 0xFFFFFFFL;
+            dst[i + 5] = (w2 >>> 24) & 0xFFFFFFFL;
+            dst[i + 6] = (w2 << 4 | w3 >>> 60) & 0xFFFFFFFL;
+            dst[i + 7] = (w3 >>> 32) & 0xFFFFFFFL;
+            dst[i + 8] = (w3 >>> 4) & 0xFFFFFFFL;
+            dst[i + 9] = (w3 << 24 | w4 >>> 40) & 0xFFFFFFFL;
+            dst[i + 10] = (w4 >>> 12) & 0xFFFFFFFL;
+            dst[i + 11] = (w4 << 16 | w5 >>> 48) & 0xFFFFFFFL;
+            dst[i + 12] = (w5 >>> 20) & 0xFFFFFFFL;
+            dst[i + 13] = (w5 << 8 | w6 >>> 56) & 0xFFFFFFFL;
+            dst[i + 14] = (w6 >>> 28) & 0xFFFFFFFL;
+            dst[i + 15] = w6 & 0xFFFFFFFL;
+            index += 7;
+            i += 16;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 29-bit values from each of {@code count}
+     * blocks of {@code 29} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack29(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            final long w23 = words[index + 23];
+            final long w24 = words[index + 24];
+            final long w25 = words[index + 25];
+            final long w26 = words[index + 26];
+            final long w27 = words[index + 27];
+            final long w28 = words[index + 28];
+            dst[i] = w0 >>> 35;
+            dst[i + 1] = (w0 >>> 6) & 0x1FFFFFFFL;
+            dst[i + 2] = (w0 << 23 | w1 >>> 41) & 0x1FFFFFFFL;
+            dst[i + 3] = (w1 >>> 12) & 0x1FFFFFFFL;
+            dst[i + 4] = (w1 << 17 | w2 >>> 47) & 0x1FFFFFFFL;
+            dst[i + 5] = (w2 >>> 18) & 0x1FFFFFFFL;
+            dst[i + 6] = (w2 << 11 | w3 >>> 53) & 0x1FFFFFFFL;
+            dst[i + 7] = (w3 >>> 24) & 0x1FFFFFFFL;
+            dst[i + 8] = (w3 << 5 | w4 >>> 59) & 0x1FFFFFFFL;
+            dst[i + 9] = (w4 >>> 30) & 0x1FFFFFFFL;
+            dst[i + 10] = (w4 >>> 1) & 0x1FFFFFFFL;
+            dst[i + 11] = (w4 << 28 | w5 >>> 36) & 0x1FFFFFFFL;
+            dst[i + 12] = (w5 >>> 7) & 0x1FFFFFFFL;
+            dst[i + 13] = (w5 << 22 | w6 >>> 42) & 0x1FFFFFFFL;
+            dst[i + 14] = (w6 >>> 13) & 0x1FFFFFFFL;
+            dst[i + 15] = (w6 << 16 | w7 >>> 48) & 0x1FFFFFFFL;
+            dst[i + 16] = (w7 >>> 19) & 0x1FFFFFFFL;
+            dst[i + 17] = (w7 << 10 | w8 >>> 54) & 0x1FFFFFFFL;
+            dst[i + 18] = (w8 >>> 25) & 0x1FFFFFFFL;
+            dst[i + 19] = (w8 << 4 | w9 >>> 60) & 0x1FFFFFFFL;
+            dst[i + 20] = (w9 >>> 31) & 0x1FFFFFFFL;
+            dst[i + 21] = (w9 >>> 2) & 0x1FFFFFFFL;
+            dst[i + 22] = (w9 << 27 | w10 >>> 37) & 0x1FFFFFFFL;
+            dst[i + 23] = (w10 >>> 8) & 0x1FFFFFFFL;
+            dst[i + 24] = (w10 << 21 | w11 >>> 43) & 0x1FFFFFFFL;
+            dst[i + 25] = (w11 >>> 14) & 0x1FFFFFFFL;
+            dst[i + 26] = (w11 << 15 | w12 >>> 49) & 0x1FFFFFFFL;
+            dst[i + 27] = (w12 >>> 20) & 0x1FFFFFFFL;
+            dst[i + 28] = (w12 << 9 | w13 >>> 55) & 0x1FFFFFFFL;
+            dst[i + 29] = (w13 >>> 26) & 0x1FFFFFFFL;
+            dst[i + 30] = (w13 << 3 | w14 >>> 61) & 0x1FFFFFFFL;
+            dst[i + 31] = (w14 >>> 32) & 0x1FFFFFFFL;
+            dst[i + 32] = (w14 >>> 3) & 0x1FFFFFFFL;
+            dst[i + 33] = (w14 << 26 | w15 >>> 38) & 0x1FFFFFFFL;
+            dst[i + 34] = (w15 >>> 9) & 0x1FFFFFFFL;
+            dst[i + 35] = (w15 << 20 | w16 >>> 44) & 0x1FFFFFFFL;
+            dst[i + 36] = (w16 >>> 15) & 0x1FFFFFFFL;
+            dst[i + 37] = (w16 << 14 | w17 >>> 50) & 0x1FFFFFFFL;
+            dst[i + 38] = (w17 >>> 21) & 0x1FFFFFFFL;
+            dst[i + 39] = (w17 << 8 | w18 >>> 56) & 0x1FFFFFFFL;
+            dst[i + 40] = (w18 >>> 27) & 0x1FFFFFFFL;
+            dst[i + 41] = (w18 << 2 | w19 >>> 62) & 0x1FFFFFFFL;
+            dst[i + 42] = (w19 >>> 33) & 0x1FFFFFFFL;
+            dst[i + 43] = (w19 >>> 4) & 0x1FFFFFFFL;
+            dst[i + 44] = (w19 << 25 | w20 >>> 39) & 0x1FFFFFFFL;
+            dst[i + 45] = (w20 >>> 10) & 0x1FFFFFFFL;
+            dst[i + 46] = (w20 << 19 | w21 >>> 45) & 0x1FFFFFFFL;
+            dst[i + 47] = (w21 >>> 16) & 0x1FFFFFFFL;
+            dst[i + 48] = (w21 << 13 | w22 >>> 51) & 0x1FFFFFFFL;
+            dst[i + 49] = (w22 >>> 22) & 0x1FFFFFFFL;
+            dst[i + 50] = (w22 << 7 | w23 >>> 57) & 0x1FFFFFFFL;
+            dst[i + 51] = (w23 >>> 28) & 0x1FFFFFFFL;
+            dst[i + 52] = (w23 << 1 | w24 >>> 63) & 0x1FFFFFFFL;
+            dst[i + 53] = (w24 >>> 34) & 0x1FFFFFFFL;
+            dst[i + 54] = (w24 >>> 5) & 0x1FFFFFFFL;
+            dst[i + 55] = (w24 << 24 | w25 >>> 40) & 0x1FFFFFFFL;
+            dst[i + 56] = (w25 >>> 11) & 0x1FFFFFFFL;
+            dst[i + 57] = (w25 << 18 | w26 >>> 46) & 0x1FFFFFFFL;
+            dst[i + 58] = (w26 >>> 17) & 0x1FFFFFFFL;
+            dst[i + 59] = (w26 << 12 | w27 >>> 52) & 0x1FFFFFFFL;
+            dst[i + 60] = (w27 >>> 23) & 0x1FFFFFFFL;
+            dst[i + 61] = (w27 << 6 | w28 >>> 58) & 0x1FFFFFFFL;
+            dst[i + 62] = (w28 >>> 29) & 0x1FFFFFFFL;
+            dst[i + 63] = w28 & 0x1FFFFFFFL;
+            index += 29;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 32} unsigned 30-bit values from each of {@code count}
+     * blocks of {@code 15} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack30(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            dst[i] = w0 >>> 34;
+            dst[i + 1] = (w0 >>> 4) & 0x3FFFFFFFL;
+            dst[i + 2] = (w0 << 26 | w1 >>> 38) & 0x3FFFFFFFL;
+            dst[i + 3] = (w1 >>> 8) & 0x3FFFFFFFL;
+            dst[i + 4] = (w1 << 22 | w2 >>> 42) & 0x3FFFFFFFL;
+            dst[i + 5] = (w2 >>> 12) & 0x3FFFFFFFL;
+            dst[i + 6] = (w2 << 18 | w3 >>> 46) & 0x3FFFFFFFL;
+            dst[i + 7] = (w3 >>> 16) & 0x3FFFFFFFL;
+            dst[i + 8] = (w3 << 14 | w4 >>> 50) & 0x3FFFFFFFL;
+            dst[i + 9] = (w4 >>> 20) & 0x3FFFFFFFL;
+            dst[i + 10] = (w4 << 10 | w5 >>> 54) & 0x3FFFFFFFL;
+            dst[i + 11] = (w5 >>> 24) & 0x3FFFFFFFL;
+            dst[i + 12] = (w5 << 6 | w6 >>> 58) & 0x3FFFFFFFL;
+            dst[i + 13] = (w6 >>> 28) & 0x3FFFFFFFL;
+            dst[i + 14] = (w6 << 2 | w7 >>> 62) & 0x3FFFFFFFL;
+            dst[i + 15] = (w7 >>> 32) & 0x3FFFFFFFL;
+            dst[i + 16] = (w7 >>> 2) & 0x3FFFFFFFL;
+            dst[i + 17] = (w7 << 28 | w8 >>> 36) & 0x3FFFFFFFL;
+            dst[i + 18] = (w8 >>> 6) & 0x3FFFFFFFL;
+            dst[i + 19] = (w8 << 24 | w9 >>> 40) & 0x3FFFFFFFL;
+            dst[i + 20] = (w9 >>> 10) & 0x3FFFFFFFL;
+            dst[i + 21] = (w9 << 20 | w10 >>> 44) & 0x3FFFFFFFL;
+            dst[i + 22] = (w10 >>> 14) & 0x3FFFFFFFL;
+            dst[i + 23] = (w10 << 16 | w11 >>> 48) & 0x3FFFFFFFL;
+            dst[i + 24] = (w11 >>> 18) & 0x3FFFFFFFL;
+            dst[i + 25] = (w11 << 12 | w12 >>> 52) & 0x3FFFFFFFL;
+            dst[i + 26] = (w12 >>> 22) & 0x3FFFFFFFL;
+            dst[i + 27] = (w12 << 8 | w13 >>> 56) & 0x3FFFFFFFL;
+            dst[i + 28] = (w13 >>> 26) & 0x3FFFFFFFL;
+            dst[i + 29] = (w13 << 4 | w14 >>> 60) & 0x3FFFFFFFL;
+            dst[i + 30] = (w14 >>> 30) & 0x3FFFFFFFL;
+            dst[i + 31] = w14 & 0x3FFFFFFFL;
+            index += 15;
+            i += 32;
+        }
+    }
+
+    /**
+     * Unpacks {@code 64} unsigned 31-bit values from each of {@code count}
+     * blocks of {@code 31} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack31(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            final long w1 = words[index + 1];
+            final long w2 = words[index + 2];
+            final long w3 = words[index + 3];
+            final long w4 = words[index + 4];
+            final long w5 = words[index + 5];
+            final long w6 = words[index + 6];
+            final long w7 = words[index + 7];
+            final long w8 = words[index + 8];
+            final long w9 = words[index + 9];
+            final long w10 = words[index + 10];
+            final long w11 = words[index + 11];
+            final long w12 = words[index + 12];
+            final long w13 = words[index + 13];
+            final long w14 = words[index + 14];
+            final long w15 = words[index + 15];
+            final long w16 = words[index + 16];
+            final long w17 = words[index + 17];
+            final long w18 = words[index + 18];
+            final long w19 = words[index + 19];
+            final long w20 = words[index + 20];
+            final long w21 = words[index + 21];
+            final long w22 = words[index + 22];
+            final long w23 = words[index + 23];
+            final long w24 = words[index + 24];
+            final long w25 = words[index + 25];
+            final long w26 = words[index + 26];
+            final long w27 = words[index + 27];
+            final long w28 = words[index + 28];
+            final long w29 = words[index + 29];
+            final long w30 = words[index + 30];
+            dst[i] = w0 >>> 33;
+            dst[i + 1] = (w0 >>> 2) & 0x7FFFFFFFL;
+            dst[i + 2] = (w0 << 29 | w1 >>> 35) & 0x7FFFFFFFL;
+            dst[i + 3] = (w1 >>> 4) & 0x7FFFFFFFL;
+            dst[i + 4] = (w1 << 27 | w2 >>> 37) & 0x7FFFFFFFL;
+            dst[i + 5] = (w2 >>> 6) & 0x7FFFFFFFL;
+            dst[i + 6] = (w2 << 25 | w3 >>> 39) & 0x7FFFFFFFL;
+            dst[i + 7] = (w3 >>> 8) & 0x7FFFFFFFL;
+            dst[i + 8] = (w3 << 23 | w4 >>> 41) & 0x7FFFFFFFL;
+            dst[i + 9] = (w4 >>> 10) & 0x7FFFFFFFL;
+            dst[i + 10] = (w4 << 21 | w5 >>> 43) & 0x7FFFFFFFL;
+            dst[i + 11] = (w5 >>> 12) & 0x7FFFFFFFL;
+            dst[i + 12] = (w5 << 19 | w6 >>> 45) & 0x7FFFFFFFL;
+            dst[i + 13] = (w6 >>> 14) & 0x7FFFFFFFL;
+            dst[i + 14] = (w6 << 17 | w7 >>> 47) & 0x7FFFFFFFL;
+            dst[i + 15] = (w7 >>> 16) & 0x7FFFFFFFL;
+            dst[i + 16] = (w7 << 15 | w8 >>> 49) & 0x7FFFFFFFL;
+            dst[i + 17] = (w8 >>> 18) & 0x7FFFFFFFL;
+            dst[i + 18] = (w8 << 13 | w9 >>> 51) & 0x7FFFFFFFL;
+            dst[i + 19] = (w9 >>> 20) & 0x7FFFFFFFL;
+            dst[i + 20] = (w9 << 11 | w10 >>> 53) & 0x7FFFFFFFL;
+            dst[i + 21] = (w10 >>> 22) & 0x7FFFFFFFL;
+            dst[i + 22] = (w10 << 9 | w11 >>> 55) & 0x7FFFFFFFL;
+            dst[i + 23] = (w11 >>> 24) & 0x7FFFFFFFL;
+            dst[i + 24] = (w11 << 7 | w12 >>> 57) & 0x7FFFFFFFL;
+            dst[i + 25] = (w12 >>> 26) & 0x7FFFFFFFL;
+            dst[i + 26] = (w12 << 5 | w13 >>> 59) & 0x7FFFFFFFL;
+            dst[i + 27] = (w13 >>> 28) & 0x7FFFFFFFL;
+            dst[i + 28] = (w13 << 3 | w14 >>> 61) & 0x7FFFFFFFL;
+            dst[i + 29] = (w14 >>> 30) & 0x7FFFFFFFL;
+            dst[i + 30] = (w14 << 1 | w15 >>> 63) & 0x7FFFFFFFL;
+            dst[i + 31] = (w15 >>> 32) & 0x7FFFFFFFL;
+            dst[i + 32] = (w15 >>> 1) & 0x7FFFFFFFL;
+            dst[i + 33] = (w15 << 30 | w16 >>> 34) & 0x7FFFFFFFL;
+            dst[i + 34] = (w16 >>> 3) & 0x7FFFFFFFL;
+            dst[i + 35] = (w16 << 28 | w17 >>> 36) & 0x7FFFFFFFL;
+            dst[i + 36] = (w17 >>> 5) & 0x7FFFFFFFL;
+            dst[i + 37] = (w17 << 26 | w18 >>> 38) & 0x7FFFFFFFL;
+            dst[i + 38] = (w18 >>> 7) & 0x7FFFFFFFL;
+            dst[i + 39] = (w18 << 24 | w19 >>> 40) & 0x7FFFFFFFL;
+            dst[i + 40] = (w19 >>> 9) & 0x7FFFFFFFL;
+            dst[i + 41] = (w19 << 22 | w20 >>> 42) & 0x7FFFFFFFL;
+            dst[i + 42] = (w20 >>> 11) & 0x7FFFFFFFL;
+            dst[i + 43] = (w20 << 20 | w21 >>> 44) & 0x7FFFFFFFL;
+            dst[i + 44] = (w21 >>> 13) & 0x7FFFFFFFL;
+            dst[i + 45] = (w21 << 18 | w22 >>> 46) & 0x7FFFFFFFL;
+            dst[i + 46] = (w22 >>> 15) & 0x7FFFFFFFL;
+            dst[i + 47] = (w22 << 16 | w23 >>> 48) & 0x7FFFFFFFL;
+            dst[i + 48] = (w23 >>> 17) & 0x7FFFFFFFL;
+            dst[i + 49] = (w23 << 14 | w24 >>> 50) & 0x7FFFFFFFL;
+            dst[i + 50] = (w24 >>> 19) & 0x7FFFFFFFL;
+            dst[i + 51] = (w24 << 12 | w25 >>> 52) & 0x7FFFFFFFL;
+            dst[i + 52] = (w25 >>> 21) & 0x7FFFFFFFL;
+            dst[i + 53] = (w25 << 10 | w26 >>> 54) & 0x7FFFFFFFL;
+            dst[i + 54] = (w26 >>> 23) & 0x7FFFFFFFL;
+            dst[i + 55] = (w26 << 8 | w27 >>> 56) & 0x7FFFFFFFL;
+            dst[i + 56] = (w27 >>> 25) & 0x7FFFFFFFL;
+            dst[i + 57] = (w27 << 6 | w28 >>> 58) & 0x7FFFFFFFL;
+            dst[i + 58] = (w28 >>> 27) & 0x7FFFFFFFL;
+            dst[i + 59] = (w28 << 4 | w29 >>> 60) & 0x7FFFFFFFL;
+            dst[i + 60] = (w29 >>> 29) & 0x7FFFFFFFL;
+            dst[i + 61] = (w29 << 2 | w30 >>> 62) & 0x7FFFFFFFL;
+            dst[i + 62] = (w30 >>> 31) & 0x7FFFFFFFL;
+            dst[i + 63] = w30 & 0x7FFFFFFFL;
+            index += 31;
+            i += 64;
+        }
+    }
+
+    /**
+     * Unpacks {@code 2} unsigned 32-bit values from each of {@code count} words
+     * starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to unpack
+     * @param dst the long array
+     * @param i the starting index in {@code dst}
+     */
+    private static void unpack32(final long[] words, int index, final int count,
+                                 final long[] dst, int i) {
+        for (int k = 0; k < count; k++) {
+            final long w0 = words[index];
+            dst[i] = w0 >>> 32;
+            dst[i + 1] = w0 & 0xFFFFFFFFL;
+            index++;
+            i += 2;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Packs {@code 64} 1-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack1(final long[] words, int index, final int count,
+                              final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1L) << 63;
+            word |= (src[i + 1] & 0x1L) << 62;
+            word |= (src[i + 2] & 0x1L) << 61;
+            word |= (src[i + 3] & 0x1L) << 60;
+            word |= (src[i + 4] & 0x1L) << 59;
+            word |= (src[i + 5] & 0x1L) << 58;
+            word |= (src[i + 6] & 0x1L) << 57;
+            word |= (src[i + 7] & 0x1L) << 56;
+            word |= (src[i + 8] & 0x1L) << 55;
+            word |= (src[i + 9] & 0x1L) << 54;
+            word |= (src[i + 10] & 0x1L) << 53;
+            word |= (src[i + 11] & 0x1L) << 52;
+            word |= (src[i + 12] & 0x1L) << 51;
+            word |= (src[i + 13] & 0x1L) << 50;
+            word |= (src[i + 14] & 0x1L) << 49;
+            word |= (src[i + 15] & 0x1L) << 48;
+            word |= (src[i + 16] & 0x1L) << 47;
+            word |= (src[i + 17] & 0x1L) << 46;
+            word |= (src[i + 18] & 0x1L) << 45;
+            word |= (src[i + 19] & 0x1L) << 44;
+            word |= (src[i + 20] & 0x1L) << 43;
+            word |= (src[i + 21] & 0x1L) << 42;
+            word |= (src[i + 22] & 0x1L) << 41;
+            word |= (src[i + 23] & 0x1L) << 40;
+            word |= (src[i + 24] & 0x1L) << 39;
+            word |= (src[i + 25] & 0x1L) << 38;
+            word |= (src[i + 26] & 0x1L) << 37;
+            word |= (src[i + 27] & 0x1L) << 36;
+            word |= (src[i + 28] & 0x1L) << 35;
+            word |= (src[i + 29] & 0x1L) << 34;
+            word |= (src[i + 30] & 0x1L) << 33;
+            word |= (src[i + 31] & 0x1L) << 32;
+            word |= (src[i + 32] & 0x1L) << 31;
+            word |= (src[i + 33] & 0x1L) << 30;
+            word |= (src[i + 34] & 0x1L) << 29;
+            word |= (src[i + 35] & 0x1L) << 28;
+            word |= (src[i + 36] & 0x1L) << 27;
+            word |= (src[i + 37] & 0x1L) << 26;
+            word |= (src[i + 38] & 0x1L) << 25;
+            word |= (src[i + 39] & 0x1L) << 24;
+            word |= (src[i + 40] & 0x1L) << 23;
+            word |= (src[i + 41] & 0x1L) << 22;
+            word |= (src[i + 42] & 0x1L) << 21;
+            word |= (src[i + 43] & 0x1L) << 20;
+            word |= (src[i + 44] & 0x1L) << 19;
+            word |= (src[i + 45] & 0x1L) << 18;
+            word |= (src[i + 46] & 0x1L) << 17;
+            word |= (src[i + 47] & 0x1L) << 16;
+            word |= (src[i + 48] & 0x1L) << 15;
+            word |= (src[i + 49] & 0x1L) << 14;
+            word |= (src[i + 50] & 0x1L) << 13;
+            word |= (src[i + 51] & 0x1L) << 12;
+            word |= (src[i + 52] & 0x1L) << 11;
+            word |= (src[i + 53] & 0x1L) << 10;
+            word |= (src[i + 54] & 0x1L) << 9;
+            word |= (src[i + 55] & 0x1L) << 8;
+            word |= (src[i + 56] & 0x1L) << 7;
+            word |= (src[i + 57] & 0x1L) << 6;
+            word |= (src[i + 58] & 0x1L) << 5;
+            word |= (src[i + 59] & 0x1L) << 4;
+            word |= (src[i + 60] & 0x1L) << 3;
+            word |= (src[i + 61] & 0x1L) << 2;
+            word |= (src[i + 62] & 0x1L) << 1;
+            words[index] = word | (src[i + 63] & 0x1L);
+            index++;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 2-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack2(final long[] words, int index, final int count,
+                              final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3L) << 62;
+            word |= (src[i + 1] & 0x3L) << 60;
+            word |= (src[i + 2] & 0x3L) << 58;
+            word |= (src[i + 3] & 0x3L) << 56;
+            word |= (src[i + 4] & 0x3L) << 54;
+            word |= (src[i + 5] & 0x3L) << 52;
+            word |= (src[i + 6] & 0x3L) << 50;
+            word |= (src[i + 7] & 0x3L) << 48;
+            word |= (src[i + 8] & 0x3L) << 46;
+            word |= (src[i + 9] & 0x3L) << 44;
+            word |= (src[i + 10] & 0x3L) << 42;
+            word |= (src[i + 11] & 0x3L) << 40;
+            word |= (src[i + 12] & 0x3L) << 38;
+            word |= (src[i + 13] & 0x3L) << 36;
+            word |= (src[i + 14] & 0x3L) << 34;
+            word |= (src[i + 15] & 0x3L) << 32;
+            word |= (src[i + 16] & 0x3L) << 30;
+            word |= (src[i + 17] & 0x3L) << 28;
+            word |= (src[i + 18] & 0x3L) << 26;
+            word |= (src[i + 19] & 0x3L) << 24;
+            word |= (src[i + 20] & 0x3L) << 22;
+            word |= (src[i + 21] & 0x3L) << 20;
+            word |= (src[i + 22] & 0x3L) << 18;
+            word |= (src[i + 23] & 0x3L) << 16;
+            word |= (src[i + 24] & 0x3L) << 14;
+            word |= (src[i + 25] & 0x3L) << 12;
+            word |= (src[i + 26] & 0x3L) << 10;
+            word |= (src[i + 27] & 0x3L) << 8;
+            word |= (src[i + 28] & 0x3L) << 6;
+            word |= (src[i + 29] & 0x3L) << 4;
+            word |= (src[i + 30] & 0x3L) << 2;
+            words[index] = word | (src[i + 31] & 0x3L);
+            index++;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 3-bit values into each of {@code count} blocks of {@code
+     * 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack3(final long[] words, int index, final int count,
+                              final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7L) << 61;
+            word |= (src[i + 1] & 0x7L) << 58;
+            word |= (src[i + 2] & 0x7L) << 55;
+            word |= (src[i + 3] & 0x7L) << 52;
+            word |= (src[i + 4] & 0x7L) << 49;
+            word |= (src[i + 5] & 0x7L) << 46;
+            word |= (src[i + 6] & 0x7L) << 43;
+            word |= (src[i + 7] & 0x7L) << 40;
+            word |= (src[i + 8] & 0x7L) << 37;
+            word |= (src[i + 9] & 0x7L) << 34;
+            word |= (src[i + 10] & 0x7L) << 31;
+            word |= (src[i + 11] & 0x7L) << 28;
+            word |= (src[i + 12] & 0x7L) << 25;
+            word |= (src[i + 13] & 0x7L) << 22;
+            word |= (src[i + 14] & 0x7L) << 19;
+            word |= (src[i + 15] & 0x7L) << 16;
+            word |= (src[i + 16] & 0x7L) << 13;
+            word |= (src[i + 17] & 0x7L) << 10;
+            word |= (src[i + 18] & 0x7L) << 7;
+            word |= (src[i + 19] & 0x7L) << 4;
+            word |= (src[i + 20] & 0x7L) << 1;
+            final long value21 = src[i + 21] & 0x7L;
+            words[index] = word | value21 >>> 2;
+            word = value21 << 62;
+            word |= (src[i + 22] & 0x7L) << 59;
+            word |= (src[i + 23] & 0x7L) << 56;
+            word |= (src[i + 24] & 0x7L) << 53;
+            word |= (src[i + 25] & 0x7L) << 50;
+            word |= (src[i + 26] & 0x7L) << 47;
+            word |= (src[i + 27] & 0x7L) << 44;
+            word |= (src[i + 28] & 0x7L) << 41;
+            word |= (src[i + 29] & 0x7L) << 38;
+            word |= (src[i + 30] & 0x7L) << 35;
+            word |= (src[i + 31] & 0x7L) << 32;
+            word |= (src[i + 32] & 0x7L) << 29;
+            word |= (src[i + 33] & 0x7L) << 26;
+            word |= (src[i + 34] & 0x7L) << 23;
+            word |= (src[i + 35] & 0x7L) << 20;
+            word |= (src[i + 36] & 0x7L) << 17;
+            word |= (src[i + 37] & 0x7L) << 14;
+            word |= (src[i + 38] & 0x7L) << 11;
+            word |= (src[i + 39] & 0x7L) << 8;
+            word |= (src[i + 40] & 0x7L) << 5;
+            word |= (src[i + 41] & 0x7L) << 2;
+            final long value42 = src[i + 42] & 0x7L;
+            words[index + 1] = word | value42 >>> 1;
+            word = value42 << 63;
+            word |= (src[i + 43] & 0x7L) << 60;
+            word |= (src[i + 44] & 0x7L) << 57;
+            word |= (src[i + 45] & 0x7L) << 54;
+            word |= (src[i + 46] & 0x7L) << 51;
+            word |= (src[i + 47] & 0x7L) << 48;
+            word |= (src[i + 48] & 0x7L) << 45;
+            word |= (src[i + 49] & 0x7L) << 42;
+            word |= (src[i + 50] & 0x7L) << 39;
+            word |= (src[i + 51] & 0x7L) << 36;
+            word |= (src[i + 52] & 0x7L) << 33;
+            word |= (src[i + 53] & 0x7L) << 30;
+            word |= (src[i + 54] & 0x7L) << 27;
+            word |= (src[i + 55] & 0x7L) << 24;
+            word |= (src[i + 56] & 0x7L) << 21;
+            word |= (src[i + 57] & 0x7L) << 18;
+            word |= (src[i + 58] & 0x7L) << 15;
+            word |= (src[i + 59] & 0x7L) << 12;
+            word |= (src[i + 60] & 0x7L) << 9;
+            word |= (src[i + 61] & 0x7L) << 6;
+            word |= (src[i + 62] & 0x7L) << 3;
+            words[index + 2] = word | (src[i + 63] & 0x7L);
+            index += 3;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 16} 4-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack4(final long[] words, int index, final int count,
+                              final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFL) << 60;
+            word |= (src[i + 1] & 0xFL) << 56;
+            word |= (src[i + 2] & 0xFL) << 52;
+            word |= (src[i + 3] & 0xFL) << 48;
+            word |= (src[i + 4] & 0xFL) << 44;
+            word |= (src[i + 5] & 0xFL) << 40;
+            word |= (src[i + 6] & 0xFL) << 36;
+            word |= (src[i + 7] & 0xFL) << 32;
+            word |= (src[i + 8] & 0xFL) << 28;
+            word |= (src[i + 9] & 0xFL) << 24;
+            word |= (src[i + 10] & 0xFL) << 20;
+            word |= (src[i + 11] & 0xFL) << 16;
+            word |= (src[i + 12] & 0xFL) << 12;
+            word |= (src[i + 13] & 0xFL) << 8;
+            word |= (src[i + 14] & 0xFL) << 4;
+            words[index] = word | (src[i + 15] & 0xFL);
+            index++;
+            i += 16;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 5-bit values into each of {@code count} blocks of {@code
+     * 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack5(final long[] words, int index, final int count,
+                              final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FL) << 59;
+            word |= (src[i + 1] & 0x1FL) << 54;
+            word |= (src[i + 2] & 0x1FL) << 49;
+            word |= (src[i + 3] & 0x1FL) << 44;
+            word |= (src[i + 4] & 0x1FL) << 39;
+            word |= (src[i + 5] & 0x1FL) << 34;
+            word |= (src[i + 6] & 0x1FL) << 29;
+            word |= (src[i + 7] & 0x1FL) << 24;
+            word |= (src[i + 8] & 0x1FL) << 19;
+            word |= (src[i + 9] & 0x1FL) << 14;
+            word |= (src[i + 10] & 0x1FL) << 9;
+            word |= (src[i + 11] & 0x1FL) << 4;
+            final long value12 = src[i + 12] & 0x1FL;
+            words[index] = word | value12 >>> 1;
+            word = value12 << 63;
+            word |= (src[i + 13] & 0x1FL) << 58;
+            word |= (src[i + 14] & 0x1FL) << 53;
+            word |= (src[i + 15] & 0x1FL) << 48;
+            word |= (src[i + 16] & 0x1FL) << 43;
+            word |= (src[i + 17] & 0x1FL) << 38;
+            word |= (src[i + 18] & 0x1FL) << 33;
+            word |= (src[i + 19] & 0x1FL) << 28;
+            word |= (src[i + 20] & 0x1FL) << 23;
+            word |= (src[i + 21] & 0x1FL) << 18;
+            word |= (src[i + 22] & 0x1FL) << 13;
+            word |= (src[i + 23] & 0x1FL) << 8;
+            word |= (src[i + 24] & 0x1FL) << 3;
+            final long value25 = src[i + 25] & 0x1FL;
+            words[index + 1] = word | value25 >>> 2;
+            word = value25 << 62;
+            word |= (src[i + 26] & 0x1FL) << 57;
+            word |= (src[i + 27] & 0x1FL) << 52;
+            word |= (src[i + 28] & 0x1FL) << 47;
+            word |= (src[i + 29] & 0x1FL) << 42;
+            word |= (src[i + 30] & 0x1FL) << 37;
+            word |= (src[i + 31] & 0x1FL) << 32;
+            word |= (src[i + 32] & 0x1FL) << 27;
+            word |= (src[i + 33] & 0x1FL) << 22;
+            word |= (src[i + 34] & 0x1FL) << 17;
+            word |= (src[i + 35] & 0x1FL) << 12;
+            word |= (src[i + 36] & 0x1FL) << 7;
+            word |= (src[i + 37] & 0x1FL) << 2;
+            final long value38 = src[i + 38] & 0x1FL;
+            words[index + 2] = word | value38 >>> 3;
+            word = value38 << 61;
+            word |= (src[i + 39] & 0x1FL) << 56;
+            word |= (src[i + 40] & 0x1FL) << 51;
+            word |= (src[i + 41] & 0x1FL) << 46;
+            word |= (src[i + 42] & 0x1FL) << 41;
+            word |= (src[i + 43] & 0x1FL) << 36;
+            word |= (src[i + 44] & 0x1FL) << 31;
+            word |= (src[i + 45] & 0x1FL) << 26;
+            word |= (src[i + 46] & 0x1FL) << 21;
+            word |= (src[i + 47] & 0x1FL) << 16;
+            word |= (src[i + 48] & 0x1FL) << 11;
+            word |= (src[i + 49] & 0x1FL) << 6;
+            word |= (src[i + 50] & 0x1FL) << 1;
+            final long value51 = src[i + 51] & 0x1FL;
+            words[index + 3] = word | value51 >>> 4;
+            word = value51 << 60;
+            word |= (src[i + 52] & 0x1FL) << 55;
+            word |= (src[i + 53] & 0x1FL) << 50;
+            word |= (src[i + 54] & 0x1FL) << 45;
+            word |= (src[i + 55] & 0x1FL) << 40;
+            word |= (src[i + 56] & 0x1FL) << 35;
+            word |= (src[i + 57] & 0x1FL) << 30;
+            word |= (src[i + 58] & 0x1FL) << 25;
+            word |= (src[i + 59] & 0x1FL) << 20;
+            word |= (src[i + 60] & 0x1FL) << 15;
+            word |= (src[i + 61] & 0x1FL) << 10;
+            word |= (src[i + 62] & 0x1FL) << 5;
+            words[index + 4] = word | (src[i + 63] & 0x1FL);
+            index += 5;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 6-bit values into each of {@code count} blocks of {@code
+     * 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack6(final long[] words, int index, final int count,
+                              final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FL) << 58;
+            word |= (src[i + 1] & 0x3FL) << 52;
+            word |= (src[i + 2] & 0x3FL) << 46;
+            word |= (src[i + 3] & 0x3FL) << 40;
+            word |= (src[i + 4] & 0x3FL) << 34;
+            word |= (src[i + 5] & 0x3FL) << 28;
+            word |= (src[i + 6] & 0x3FL) << 22;
+            word |= (src[i + 7] & 0x3FL) << 16;
+            word |= (src[i + 8] & 0x3FL) << 10;
+            word |= (src[i + 9] & 0x3FL) << 4;
+            final long value10 = src[i + 10] & 0x3FL;
+            words[index] = word | value10 >>> 2;
+            word = value10 << 62;
+            word |= (src[i + 11] & 0x3FL) << 56;
+            word |= (src[i + 12] & 0x3FL) << 50;
+            word |= (src[i + 13] & 0x3FL) << 44;
+            word |= (src[i + 14] & 0x3FL) << 38;
+            word |= (src[i + 15] & 0x3FL) << 32;
+            word |= (src[i + 16] & 0x3FL) << 26;
+            word |= (src[i + 17] & 0x3FL) << 20;
+            word |= (src[i + 18] & 0x3FL) << 14;
+            word |= (src[i + 19] & 0x3FL) << 8;
+            word |= (src[i + 20] & 0x3FL) << 2;
+            final long value21 = src[i + 21] & 0x3FL;
+            words[index + 1] = word | value21 >>> 4;
+            word = value21 << 60;
+            word |= (src[i + 22] & 0x3FL) << 54;
+            word |= (src[i + 23] & 0x3FL) << 48;
+            word |= (src[i + 24] & 0x3FL) << 42;
+            word |= (src[i + 25] & 0x3FL) << 36;
+            word |= (src[i + 26] & 0x3FL) << 30;
+            word |= (src[i + 27] & 0x3FL) << 24;
+            word |= (src[i + 28] & 0x3FL) << 18;
+            word |= (src[i + 29] & 0x3FL) << 12;
+            word |= (src[i + 30] & 0x3FL) << 6;
+            words[index + 2] = word | (src[i + 31] & 0x3FL);
+            index += 3;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 7-bit values into each of {@code count} blocks of {@code
+     * 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack7(final long[] words, int index, final int count,
+                              final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FL) << 57;
+            word |= (src[i + 1] & 0x7FL) << 50;
+            word |= (src[i + 2] & 0x7FL) << 43;
+            word |= (src[i + 3] & 0x7FL) << 36;
+            word |= (src[i + 4] & 0x7FL) << 29;
+            word |= (src[i + 5] & 0x7FL) << 22;
+            word |= (src[i + 6] & 0x7FL) << 15;
+            word |= (src[i + 7] & 0x7FL) << 8;
+            word |= (src[i + 8] & 0x7FL) << 1;
+            final long value9 = src[i + 9] & 0x7FL;
+            words[index] = word | value9 >>> 6;
+            word = value9 << 58;
+            word |= (src[i + 10] & 0x7FL) << 51;
+            word |= (src[i + 11] & 0x7FL) << 44;
+            word |= (src[i + 12] & 0x7FL) << 37;
+            word |= (src[i + 13] & 0x7FL) << 30;
+            word |= (src[i + 14] & 0x7FL) << 23;
+            word |= (src[i + 15] & 0x7FL) << 16;
+            word |= (src[i + 16] & 0x7FL) << 9;
+            word |= (src[i + 17] & 0x7FL) << 2;
+            final long value18 = src[i + 18] & 0x7FL;
+            words[index + 1] = word | value18 >>> 5;
+            word = value18 << 59;
+            word |= (src[i + 19] & 0x7FL) << 52;
+            word |= (src[i + 20] & 0x7FL) << 45;
+            word |= (src[i + 21] & 0x7FL) << 38;
+            word |= (src[i + 22] & 0x7FL) << 31;
+            word |= (src[i + 23] & 0x7FL) << 24;
+            word |= (src[i + 24] & 0x7FL) << 17;
+            word |= (src[i + 25] & 0x7FL) << 10;
+            word |= (src[i + 26] & 0x7FL) << 3;
+            final long value27 = src[i + 27] & 0x7FL;
+            words[index + 2] = word | value27 >>> 4;
+            word = value27 << 60;
+            word |= (src[i + 28] & 0x7FL) << 53;
+            word |= (src[i + 29] & 0x7FL) << 46;
+            word |= (src[i + 30] & 0x7FL) << 39;
+            word |= (src[i + 31] & 0x7FL) << 32;
+            word |= (src[i + 32] & 0x7FL) << 25;
+            word |= (src[i + 33] & 0x7FL) << 18;
+            word |= (src[i + 34] & 0x7FL) << 11;
+            word |= (src[i + 35] & 0x7FL) << 4;
+            final long value36 = src[i + 36] & 0x7FL;
+            words[index + 3] = word | value36 >>> 3;
+            word = value36 << 61;
+            word |= (src[i + 37] & 0x7FL) << 54;
+            word |= (src[i + 38] & 0x7FL) << 47;
+            word |= (src[i + 39] & 0x7FL) << 40;
+            word |= (src[i + 40] & 0x7FL) << 33;
+            word |= (src[i + 41] & 0x7FL) << 26;
+            word |= (src[i + 42] & 0x7FL) << 19;
+            word |= (src[i + 43] & 0x7FL) << 12;
+            word |= (src[i + 44] & 0x7FL) << 5;
+            final long value45 = src[i + 45] & 0x7FL;
+            words[index + 4] = word | value45 >>> 2;
+            word = value45 << 62;
+            word |= (src[i + 46] & 0x7FL) << 55;
+            word |= (src[i + 47] & 0x7FL) << 48;
+            word |= (src[i + 48] & 0x7FL) << 41;
+            word |= (src[i + 49] & 0x7FL) << 34;
+            word |= (src[i + 50] & 0x7FL) << 27;
+            word |= (src[i + 51] & 0x7FL) << 20;
+            word |= (src[i + 52] & 0x7FL) << 13;
+            word |= (src[i + 53] & 0x7FL) << 6;
+            final long value54 = src[i + 54] & 0x7FL;
+            words[index + 5] = word | value54 >>> 1;
+            word = value54 << 63;
+            word |= (src[i + 55] & 0x7FL) << 56;
+            word |= (src[i + 56] & 0x7FL) << 49;
+            word |= (src[i + 57] & 0x7FL) << 42;
+            word |= (src[i + 58] & 0x7FL) << 35;
+            word |= (src[i + 59] & 0x7FL) << 28;
+            word |= (src[i + 60] & 0x7FL) << 21;
+            word |= (src[i + 61] & 0x7FL) << 14;
+            word |= (src[i + 62] & 0x7FL) << 7;
+            words[index + 6] = word | (src[i + 63] & 0x7FL);
+            index += 7;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 8} 8-bit values into each of {@code count} words starting at
+     * {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack8(final long[] words, int index, final int count,
+                              final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFL) << 56;
+            word |= (src[i + 1] & 0xFFL) << 48;
+            word |= (src[i + 2] & 0xFFL) << 40;
+            word |= (src[i + 3] & 0xFFL) << 32;
+            word |= (src[i + 4] & 0xFFL) << 24;
+            word |= (src[i + 5] & 0xFFL) << 16;
+            word |= (src[i + 6] & 0xFFL) << 8;
+            words[index] = word | (src[i + 7] & 0xFFL);
+            index++;
+            i += 8;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 9-bit values into each of {@code count} blocks of {@code
+     * 9} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack9(final long[] words, int index, final int count,
+                              final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFL) << 55;
+            word |= (src[i + 1] & 0x1FFL) << 46;
+            word |= (src[i + 2] & 0x1FFL) << 37;
+            word |= (src[i + 3] & 0x1FFL) << 28;
+            word |= (src[i + 4] & 0x1FFL) << 19;
+            word |= (src[i + 5] & 0x1FFL) << 10;
+            word |= (src[i + 6] & 0x1FFL) << 1;
+            final long value7 = src[i + 7] & 0x1FFL;
+            words[index] = word | value7 >>> 8;
+            word = value7 << 56;
+            word |= (src[i + 8] & 0x1FFL) << 47;
+            word |= (src[i + 9] & 0x1FFL) << 38;
+            word |= (src[i + 10] & 0x1FFL) << 29;
+            word |= (src[i + 11] & 0x1FFL) << 20;
+            word |= (src[i + 12] & 0x1FFL) << 11;
+            word |= (src[i + 13] & 0x1FFL) << 2;
+            final long value14 = src[i + 14] & 0x1FFL;
+            words[index + 1] = word | value14 >>> 7;
+            word = value14 << 57;
+            word |= (src[i + 15] & 0x1FFL) << 48;
+            word |= (src[i + 16] & 0x1FFL) << 39;
+            word |= (src[i + 17] & 0x1FFL) << 30;
+            word |= (src[i + 18] & 0x1FFL) << 21;
+            word |= (src[i + 19] & 0x1FFL) << 12;
+            word |= (src[i + 20] & 0x1FFL) << 3;
+            final long value21 = src[i + 21] & 0x1FFL;
+            words[index + 2] = word | value21 >>> 6;
+            word = value21 << 58;
+            word |= (src[i + 22] & 0x1FFL) << 49;
+            word |= (src[i + 23] & 0x1FFL) << 40;
+            word |= (src[i + 24] & 0x1FFL) << 31;
+            word |= (src[i + 25] & 0x1FFL) << 22;
+            word |= (src[i + 26] & 0x1FFL) << 13;
+            word |= (src[i + 27] & 0x1FFL) << 4;
+            final long value28 = src[i + 28] & 0x1FFL;
+            words[index + 3] = word | value28 >>> 5;
+            word = value28 << 59;
+            word |= (src[i + 29] & 0x1FFL) << 50;
+            word |= (src[i + 30] & 0x1FFL) << 41;
+            word |= (src[i + 31] & 0x1FFL) << 32;
+            word |= (src[i + 32] & 0x1FFL) << 23;
+            word |= (src[i + 33] & 0x1FFL) << 14;
+            word |= (src[i + 34] & 0x1FFL) << 5;
+            final long value35 = src[i + 35] & 0x1FFL;
+            words[index + 4] = word | value35 >>> 4;
+            word = value35 << 60;
+            word |= (src[i + 36] & 0x1FFL) << 51;
+            word |= (src[i + 37] & 0x1FFL) << 42;
+            word |= (src[i + 38] & 0x1FFL) << 33;
+            word |= (src[i + 39] & 0x1FFL) << 24;
+            word |= (src[i + 40] & 0x1FFL) << 15;
+            word |= (src[i + 41] & 0x1FFL) << 6;
+            final long value42 = src[i + 42] & 0x1FFL;
+            words[index + 5] = word | value42 >>> 3;
+            word = value42 << 61;
+            word |= (src[i + 43] & 0x1FFL) << 52;
+            word |= (src[i + 44] & 0x1FFL) << 43;
+            word |= (src[i + 45] & 0x1FFL) << 34;
+            word |= (src[i + 46] & 0x1FFL) << 25;
+            word |= (src[i + 47] & 0x1FFL) << 16;
+            word |= (src[i + 48] & 0x1FFL) << 7;
+            final long value49 = src[i + 49] & 0x1FFL;
+            words[index + 6] = word | value49 >>> 2;
+            word = value49 << 62;
+            word |= (src[i + 50] & 0x1FFL) << 53;
+            word |= (src[i + 51] & 0x1FFL) << 44;
+            word |= (src[i + 52] & 0x1FFL) << 35;
+            word |= (src[i + 53] & 0x1FFL) << 26;
+            word |= (src[i + 54] & 0x1FFL) << 17;
+            word |= (src[i + 55] & 0x1FFL) << 8;
+            final long value56 = src[i + 56] & 0x1FFL;
+            words[index + 7] = word | value56 >>> 1;
+            word = value56 << 63;
+            word |= (src[i + 57] & 0x1FFL) << 54;
+            word |= (src[i + 58] & 0x1FFL) << 45;
+            word |= (src[i + 59] & 0x1FFL) << 36;
+            word |= (src[i + 60] & 0x1FFL) << 27;
+            word |= (src[i + 61] & 0x1FFL) << 18;
+            word |= (src[i + 62] & 0x1FFL) << 9;
+            words[index + 8] = word | (src[i + 63] & 0x1FFL);
+            index += 9;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 10-bit values into each of {@code count} blocks of
+     * {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack10(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFL) << 54;
+            word |= (src[i + 1] & 0x3FFL) << 44;
+            word |= (src[i + 2] & 0x3FFL) << 34;
+            word |= (src[i + 3] & 0x3FFL) << 24;
+            word |= (src[i + 4] & 0x3FFL) << 14;
+            word |= (src[i + 5] & 0x3FFL) << 4;
+            final long value6 = src[i + 6] & 0x3FFL;
+            words[index] = word | value6 >>> 6;
+            word = value6 << 58;
+            word |= (src[i + 7] & 0x3FFL) << 48;
+            word |= (src[i + 8] & 0x3FFL) << 38;
+            word |= (src[i + 9] & 0x3FFL) << 28;
+            word |= (src[i + 10] & 0x3FFL) << 18;
+            word |= (src[i + 11] & 0x3FFL) << 8;
+            final long value12 = src[i + 12] & 0x3FFL;
+            words[index + 1] = word | value12 >>> 2;
+            word = value12 << 62;
+            word |= (src[i + 13] & 0x3FFL) << 52;
+            word |= (src[i + 14] & 0x3FFL) << 42;
+            word |= (src[i + 15] & 0x3FFL) << 32;
+            word |= (src[i + 16] & 0x3FFL) << 22;
+            word |= (src[i + 17] & 0x3FFL) << 12;
+            word |= (src[i + 18] & 0x3FFL) << 2;
+            final long value19 = src[i + 19] & 0x3FFL;
+            words[index + 2] = word | value19 >>> 8;
+            word = value19 << 56;
+            word |= (src[i + 20] & 0x3FFL) << 46;
+            word |= (src[i + 21] & 0x3FFL) << 36;
+            word |= (src[i + 22] & 0x3FFL) << 26;
+            word |= (src[i + 23] & 0x3FFL) << 16;
+            word |= (src[i + 24] & 0x3FFL) << 6;
+            final long value25 = src[i + 25] & 0x3FFL;
+            words[index + 3] = word | value25 >>> 4;
+            word = value25 << 60;
+            word |= (src[i + 26] & 0x3FFL) << 50;
+            word |= (src[i + 27] & 0x3FFL) << 40;
+            word |= (src[i + 28] & 0x3FFL) << 30;
+            word |= (src[i + 29] & 0x3FFL) << 20;
+            word |= (src[i + 30] & 0x3FFL) << 10;
+            words[index + 4] = word | (src[i + 31] & 0x3FFL);
+            index += 5;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 11-bit values into each of {@code count} blocks of
+     * {@code 11} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack11(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFL) << 53;
+            word |= (src[i + 1] & 0x7FFL) << 42;
+            word |= (src[i + 2] & 0x7FFL) << 31;
+            word |= (src[i + 3] & 0x7FFL) << 20;
+            word |= (src[i + 4] & 0x7FFL) << 9;
+            final long value5 = src[i + 5] & 0x7FFL;
+            words[index] = word | value5 >>> 2;
+            word = value5 << 62;
+            word |= (src[i + 6] & 0x7FFL) << 51;
+            word |= (src[i + 7] & 0x7FFL) << 40;
+            word |= (src[i + 8] & 0x7FFL) << 29;
+            word |= (src[i + 9] & 0x7FFL) << 18;
+            word |= (src[i + 10] & 0x7FFL) << 7;
+            final long value11 = src[i + 11] & 0x7FFL;
+            words[index + 1] = word | value11 >>> 4;
+            word = value11 << 60;
+            word |= (src[i + 12] & 0x7FFL) << 49;
+            word |= (src[i + 13] & 0x7FFL) << 38;
+            word |= (src[i + 14] & 0x7FFL) << 27;
+            word |= (src[i + 15] & 0x7FFL) << 16;
+            word |= (src[i + 16] & 0x7FFL) << 5;
+            final long value17 = src[i + 17] & 0x7FFL;
+            words[index + 2] = word | value17 >>> 6;
+            word = value17 << 58;
+            word |= (src[i + 18] & 0x7FFL) << 47;
+            word |= (src[i + 19] & 0x7FFL) << 36;
+            word |= (src[i + 20] & 0x7FFL) << 25;
+            word |= (src[i + 21] & 0x7FFL) << 14;
+            word |= (src[i + 22] & 0x7FFL) << 3;
+            final long value23 = src[i + 23] & 0x7FFL;
+            words[index + 3] = word | value23 >>> 8;
+            word = value23 << 56;
+            word |= (src[i + 24] & 0x7FFL) << 45;
+            word |= (src[i + 25] & 0x7FFL) << 34;
+            word |= (src[i + 26] & 0x7FFL) << 23;
+            word |= (src[i + 27] & 0x7FFL) << 12;
+            word |= (src[i + 28] & 0x7FFL) << 1;
+            final long value29 = src[i + 29] & 0x7FFL;
+            words[index + 4] = word | value29 >>> 10;
+            word = value29 << 54;
+            word |= (src[i + 30] & 0x7FFL) << 43;
+            word |= (src[i + 31] & 0x7FFL) << 32;
+            word |= (src[i + 32] & 0x7FFL) << 21;
+            word |= (src[i + 33] & 0x7FFL) << 10;
+            final long value34 = src[i + 34] & 0x7FFL;
+            words[index + 5] = word | value34 >>> 1;
+            word = value34 << 63;
+            word |= (src[i + 35] & 0x7FFL) << 52;
+            word |= (src[i + 36] & 0x7FFL) << 41;
+            word |= (src[i + 37] & 0x7FFL) << 30;
+            word |= (src[i + 38] & 0x7FFL) << 19;
+            word |= (src[i + 39] & 0x7FFL) << 8;
+            final long value40 = src[i + 40] & 0x7FFL;
+            words[index + 6] = word | value40 >>> 3;
+            word = value40 << 61;
+            word |= (src[i + 41] & 0x7FFL) << 50;
+            word |= (src[i + 42] & 0x7FFL) << 39;
+            word |= (src[i + 43] & 0x7FFL) << 28;
+            word |= (src[i + 44] & 0x7FFL) << 17;
+            word |= (src[i + 45] & 0x7FFL) << 6;
+            final long value46 = src[i + 46] & 0x7FFL;
+            words[index + 7] = word | value46 >>> 5;
+            word = value46 << 59;
+            word |= (src[i + 47] & 0x7FFL) << 48;
+            word |= (src[i + 48] & 0x7FFL) << 37;
+            word |= (src[i + 49] & 0x7FFL) << 26;
+            word |= (src[i + 50] & 0x7FFL) << 15;
+            word |= (src[i + 51] & 0x7FFL) << 4;
+            final long value52 = src[i + 52] & 0x7FFL;
+            words[index + 8] = word | value52 >>> 7;
+            word = value52 << 57;
+            word |= (src[i + 53] & 0x7FFL) << 46;
+            word |= (src[i + 54] & 0x7FFL) << 35;
+            word |= (src[i + 55] & 0x7FFL) << 24;
+            word |= (src[i + 56] & 0x7FFL) << 13;
+            word |= (src[i + 57] & 0x7FFL) << 2;
+            final long value58 = src[i + 58] & 0x7FFL;
+            words[index + 9] = word | value58 >>> 9;
+            word = value58 << 55;
+            word |= (src[i + 59] & 0x7FFL) << 44;
+            word |= (src[i + 60] & 0x7FFL) << 33;
+            word |= (src[i + 61] & 0x7FFL) << 22;
+            word |= (src[i + 62] & 0x7FFL) << 11;
+            words[index + 10] = word | (src[i + 63] & 0x7FFL);
+            index += 11;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 16} 12-bit values into each of {@code count} blocks of
+     * {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack12(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFL) << 52;
+            word |= (src[i + 1] & 0xFFFL) << 40;
+            word |= (src[i + 2] & 0xFFFL) << 28;
+            word |= (src[i + 3] & 0xFFFL) << 16;
+            word |= (src[i + 4] & 0xFFFL) << 4;
+            final long value5 = src[i + 5] & 0xFFFL;
+            words[index] = word | value5 >>> 8;
+            word = value5 << 56;
+            word |= (src[i + 6] & 0xFFFL) << 44;
+            word |= (src[i + 7] & 0xFFFL) << 32;
+            word |= (src[i + 8] & 0xFFFL) << 20;
+            word |= (src[i + 9] & 0xFFFL) << 8;
+            final long value10 = src[i + 10] & 0xFFFL;
+            words[index + 1] = word | value10 >>> 4;
+            word = value10 << 60;
+            word |= (src[i + 11] & 0xFFFL) << 48;
+            word |= (src[i + 12] & 0xFFFL) << 36;
+            word |= (src[i + 13] & 0xFFFL) << 24;
+            word |= (src[i + 14] & 0xFFFL) << 12;
+            words[index + 2] = word | (src[i + 15] & 0xFFFL);
+            index += 3;
+            i += 16;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 13-bit values into each of {@code count} blocks of
+     * {@code 13} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack13(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFL) << 51;
+            word |= (src[i + 1] & 0x1FFFL) << 38;
+            word |= (src[i + 2] & 0x1FFFL) << 25;
+            word |= (src[i + 3] & 0x1FFFL) << 12;
+            final long value4 = src[i + 4] & 0x1FFFL;
+            words[index] = word | value4 >>> 1;
+            word = value4 << 63;
+            word |= (src[i + 5] & 0x1FFFL) << 50;
+            word |= (src[i + 6] & 0x1FFFL) << 37;
+            word |= (src[i + 7] & 0x1FFFL) << 24;
+            word |= (src[i + 8] & 0x1FFFL) << 11;
+            final long value9 = src[i + 9] & 0x1FFFL;
+            words[index + 1] = word | value9 >>> 2;
+            word = value9 << 62;
+            word |= (src[i + 10] & 0x1FFFL) << 49;
+            word |= (src[i + 11] & 0x1FFFL) << 36;
+            word |= (src[i + 12] & 0x1FFFL) << 23;
+            word |= (src[i + 13] & 0x1FFFL) << 10;
+            final long value14 = src[i + 14] & 0x1FFFL;
+            words[index + 2] = word | value14 >>> 3;
+            word = value14 << 61;
+            word |= (src[i + 15] & 0x1FFFL) << 48;
+            word |= (src[i + 16] & 0x1FFFL) << 35;
+            word |= (src[i + 17] & 0x1FFFL) << 22;
+            word |= (src[i + 18] & 0x1FFFL) << 9;
+            final long value19 = src[i + 19] & 0x1FFFL;
+            words[index + 3] = word | value19 >>> 4;
+            word = value19 << 60;
+            word |= (src[i + 20] & 0x1FFFL) << 47;
+            word |= (src[i + 21] & 0x1FFFL) << 34;
+            word |= (src[i + 22] & 0x1FFFL) << 21;
+            word |= (src[i + 23] & 0x1FFFL) << 8;
+            final long value24 = src[i + 24] & 0x1FFFL;
+            words[index + 4] = word | value24 >>> 5;
+            word = value24 << 59;
+            word |= (src[i + 25] & 0x1FFFL) << 46;
+            word |= (src[i + 26] & 0x1FFFL) << 33;
+            word |= (src[i + 27] & 0x1FFFL) << 20;
+            word |= (src[i + 28] & 0x1FFFL) << 7;
+            final long value29 = src[i + 29] & 0x1FFFL;
+            words[index + 5] = word | value29 >>> 6;
+            word = value29 << 58;
+            word |= (src[i + 30] & 0x1FFFL) << 45;
+            word |= (src[i + 31] & 0x1FFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFL) << 19;
+            word |= (src[i + 33] & 0x1FFFL) << 6;
+            final long value34 = src[i + 34] & 0x1FFFL;
+            words[index + 6] = word | value34 >>> 7;
+            word = value34 << 57;
+            word |= (src[i + 35] & 0x1FFFL) << 44;
+            word |= (src[i + 36] & 0x1FFFL) << 31;
+            word |= (src[i + 37] & 0x1FFFL) << 18;
+            word |= (src[i + 38] & 0x1FFFL) << 5;
+            final long value39 = src[i + 39] & 0x1FFFL;
+            words[index + 7] = word | value39 >>> 8;
+            word = value39 << 56;
+            word |= (src[i + 40] & 0x1FFFL) << 43;
+            word |= (src[i + 41] & 0x1FFFL) << 30;
+            word |= (src[i + 42] & 0x1FFFL) << 17;
+            word |= (src[i + 43] & 0x1FFFL) << 4;
+            final long value44 = src[i + 44] & 0x1FFFL;
+            words[index + 8] = word | value44 >>> 9;
+            word = value44 << 55;
+            word |= (src[i + 45] & 0x1FFFL) << 42;
+            word |= (src[i + 46] & 0x1FFFL) << 29;
+            word |= (src[i + 47] & 0x1FFFL) << 16;
+            word |= (src[i + 48] & 0x1FFFL) << 3;
+            final long value49 = src[i + 49] & 0x1FFFL;
+            words[index + 9] = word | value49 >>> 10;
+            word = value49 << 54;
+            word |= (src[i + 50] & 0x1FFFL) << 41;
+            word |= (src[i + 51] & 0x1FFFL) << 28;
+            word |= (src[i + 52] & 0x1FFFL) << 15;
+            word |= (src[i + 53] & 0x1FFFL) << 2;
+            final long value54 = src[i + 54] & 0x1FFFL;
+            words[index + 10] = word | value54 >>> 11;
+            word = value54 << 53;
+            word |= (src[i + 55] & 0x1FFFL) << 40;
+            word |= (src[i + 56] & 0x1FFFL) << 27;
+            word |= (src[i + 57] & 0x1FFFL) << 14;
+            word |= (src[i + 58] & 0x1FFFL) << 1;
+            final long value59 = src[i + 59] & 0x1FFFL;
+            words[index + 11] = word | value59 >>> 12;
+            word = value59 << 52;
+            word |= (src[i + 60] & 0x1FFFL) << 39;
+            word |= (src[i + 61] & 0x1FFFL) << 26;
+            word |= (src[i + 62] & 0x1FFFL) << 13;
+            words[index + 12] = word | (src[i + 63] & 0x1FFFL);
+            index += 13;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 14-bit values into each of {@code count} blocks of
+     * {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack14(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFL) << 50;
+            word |= (src[i + 1] & 0x3FFFL) << 36;
+            word |= (src[i + 2] & 0x3FFFL) << 22;
+            word |= (src[i + 3] & 0x3FFFL) << 8;
+            final long value4 = src[i + 4] & 0x3FFFL;
+            words[index] = word | value4 >>> 6;
+            word = value4 << 58;
+            word |= (src[i + 5] & 0x3FFFL) << 44;
+            word |= (src[i + 6] & 0x3FFFL) << 30;
+            word |= (src[i + 7] & 0x3FFFL) << 16;
+            word |= (src[i + 8] & 0x3FFFL) << 2;
+            final long value9 = src[i + 9] & 0x3FFFL;
+            words[index + 1] = word | value9 >>> 12;
+            word = value9 << 52;
+            word |= (src[i + 10] & 0x3FFFL) << 38;
+            word |= (src[i + 11] & 0x3FFFL) << 24;
+            word |= (src[i + 12] & 0x3FFFL) << 10;
+            final long value13 = src[i + 13] & 0x3FFFL;
+            words[index + 2] = word | value13 >>> 4;
+            word = value13 << 60;
+            word |= (src[i + 14] & 0x3FFFL) << 46;
+            word |= (src[i + 15] & 0x3FFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFL) << 18;
+            word |= (src[i + 17] & 0x3FFFL) << 4;
+            final long value18 = src[i + 18] & 0x3FFFL;
+            words[index + 3] = word | value18 >>> 10;
+            word = value18 << 54;
+            word |= (src[i + 19] & 0x3FFFL) << 40;
+            word |= (src[i + 20] & 0x3FFFL) << 26;
+            word |= (src[i + 21] & 0x3FFFL) << 12;
+            final long value22 = src[i + 22] & 0x3FFFL;
+            words[index + 4] = word | value22 >>> 2;
+            word = value22 << 62;
+            word |= (src[i + 23] & 0x3FFFL) << 48;
+            word |= (src[i + 24] & 0x3FFFL) << 34;
+            word |= (src[i + 25] & 0x3FFFL) << 20;
+            word |= (src[i + 26] & 0x3FFFL) << 6;
+            final long value27 = src[i + 27] & 0x3FFFL;
+            words[index + 5] = word | value27 >>> 8;
+            word = value27 << 56;
+            word |= (src[i + 28] & 0x3FFFL) << 42;
+            word |= (src[i + 29] & 0x3FFFL) << 28;
+            word |= (src[i + 30] & 0x3FFFL) << 14;
+            words[index + 6] = word | (src[i + 31] & 0x3FFFL);
+            index += 7;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 15-bit values into each of {@code count} blocks of
+     * {@code 15} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack15(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFL) << 49;
+            word |= (src[i + 1] & 0x7FFFL) << 34;
+            word |= (src[i + 2] & 0x7FFFL) << 19;
+            word |= (src[i + 3] & 0x7FFFL) << 4;
+            final long value4 = src[i + 4] & 0x7FFFL;
+            words[index] = word | value4 >>> 11;
+            word = value4 << 53;
+            word |= (src[i + 5] & 0x7FFFL) << 38;
+            word |= (src[i + 6] & 0x7FFFL) << 23;
+            word |= (src[i + 7] & 0x7FFFL) << 8;
+            final long value8 = src[i + 8] & 0x7FFFL;
+            words[index + 1] = word | value8 >>> 7;
+            word = value8 << 57;
+            word |= (src[i + 9] & 0x7FFFL) << 42;
+            word |= (src[i + 10] & 0x7FFFL) << 27;
+            word |= (src[i + 11] & 0x7FFFL) << 12;
+            final long value12 = src[i + 12] & 0x7FFFL;
+            words[index + 2] = word | value12 >>> 3;
+            word = value12 << 61;
+            word |= (src[i + 13] & 0x7FFFL) << 46;
+            word |= (src[i + 14] & 0x7FFFL) << 31;
+            word |= (src[i + 15] & 0x7FFFL) << 16;
+            word |= (src[i + 16] & 0x7FFFL) << 1;
+            final long value17 = src[i + 17] & 0x7FFFL;
+            words[index + 3] = word | value17 >>> 14;
+            word = value17 << 50;
+            word |= (src[i + 18] & 0x7FFFL) << 35;
+            word |= (src[i + 19] & 0x7FFFL) << 20;
+            word |= (src[i + 20] & 0x7FFFL) << 5;
+            final long value21 = src[i + 21] & 0x7FFFL;
+            words[index + 4] = word | value21 >>> 10;
+            word = value21 << 54;
+            word |= (src[i + 22] & 0x7FFFL) << 39;
+            word |= (src[i + 23] & 0x7FFFL) << 24;
+            word |= (src[i + 24] & 0x7FFFL) << 9;
+            final long value25 = src[i + 25] & 0x7FFFL;
+            words[index + 5] = word | value25 >>> 6;
+            word = value25 << 58;
+            word |= (src[i + 26] & 0x7FFFL) << 43;
+            word |= (src[i + 27] & 0x7FFFL) << 28;
+            word |= (src[i + 28] & 0x7FFFL) << 13;
+            final long value29 = src[i + 29] & 0x7FFFL;
+            words[index + 6] = word | value29 >>> 2;
+            word = value29 << 62;
+            word |= (src[i + 30] & 0x7FFFL) << 47;
+            word |= (src[i + 31] & 0x7FFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFL) << 17;
+            word |= (src[i + 33] & 0x7FFFL) << 2;
+            final long value34 = src[i + 34] & 0x7FFFL;
+            words[index + 7] = word | value34 >>> 13;
+            word = value34 << 51;
+            word |= (src[i + 35] & 0x7FFFL) << 36;
+            word |= (src[i + 36] & 0x7FFFL) << 21;
+            word |= (src[i + 37] & 0x7FFFL) << 6;
+            final long value38 = src[i + 38] & 0x7FFFL;
+            words[index + 8] = word | value38 >>> 9;
+            word = value38 << 55;
+            word |= (src[i + 39] & 0x7FFFL) << 40;
+            word |= (src[i + 40] & 0x7FFFL) << 25;
+            word |= (src[i + 41] & 0x7FFFL) << 10;
+            final long value42 = src[i + 42] & 0x7FFFL;
+            words[index + 9] = word | value42 >>> 5;
+            word = value42 << 59;
+            word |= (src[i + 43] & 0x7FFFL) << 44;
+            word |= (src[i + 44] & 0x7FFFL) << 29;
+            word |= (src[i + 45] & 0x7FFFL) << 14;
+            final long value46 = src[i + 46] & 0x7FFFL;
+            words[index + 10] = word | value46 >>> 1;
+            word = value46 << 63;
+            word |= (src[i + 47] & 0x7FFFL) << 48;
+            word |= (src[i + 48] & 0x7FFFL) << 33;
+            word |= (src[i + 49] & 0x7FFFL) << 18;
+            word |= (src[i + 50] & 0x7FFFL) << 3;
+            final long value51 = src[i + 51] & 0x7FFFL;
+            words[index + 11] = word | value51 >>> 12;
+            word = value51 << 52;
+            word |= (src[i + 52] & 0x7FFFL) << 37;
+            word |= (src[i + 53] & 0x7FFFL) << 22;
+            word |= (src[i + 54] & 0x7FFFL) << 7;
+            final long value55 = src[i + 55] & 0x7FFFL;
+            words[index + 12] = word | value55 >>> 8;
+            word = value55 << 56;
+            word |= (src[i + 56] & 0x7FFFL) << 41;
+            word |= (src[i + 57] & 0x7FFFL) << 26;
+            word |= (src[i + 58] & 0x7FFFL) << 11;
+            final long value59 = src[i + 59] & 0x7FFFL;
+            words[index + 13] = word | value59 >>> 4;
+            word = value59 << 60;
+            word |= (src[i + 60] & 0x7FFFL) << 45;
+            word |= (src[i + 61] & 0x7FFFL) << 30;
+            word |= (src[i + 62] & 0x7FFFL) << 15;
+            words[index + 14] = word | (src[i + 63] & 0x7FFFL);
+            index += 15;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 4} 16-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack16(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFL) << 48;
+            word |= (src[i + 1] & 0xFFFFL) << 32;
+            word |= (src[i + 2] & 0xFFFFL) << 16;
+            words[index] = word | (src[i + 3] & 0xFFFFL);
+            index++;
+            i += 4;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 17-bit values into each of {@code count} blocks of
+     * {@code 17} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack17(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFFL) << 47;
+            word |= (src[i + 1] & 0x1FFFFL) << 30;
+            word |= (src[i + 2] & 0x1FFFFL) << 13;
+            final long value3 = src[i + 3] & 0x1FFFFL;
+            words[index] = word | value3 >>> 4;
+            word = value3 << 60;
+            word |= (src[i + 4] & 0x1FFFFL) << 43;
+            word |= (src[i + 5] & 0x1FFFFL) << 26;
+            word |= (src[i + 6] & 0x1FFFFL) << 9;
+            final long value7 = src[i + 7] & 0x1FFFFL;
+            words[index + 1] = word | value7 >>> 8;
+            word = value7 << 56;
+            word |= (src[i + 8] & 0x1FFFFL) << 39;
+            word |= (src[i + 9] & 0x1FFFFL) << 22;
+            word |= (src[i + 10] & 0x1FFFFL) << 5;
+            final long value11 = src[i + 11] & 0x1FFFFL;
+            words[index + 2] = word | value11 >>> 12;
+            word = value11 << 52;
+            word |= (src[i + 12] & 0x1FFFFL) << 35;
+            word |= (src[i + 13] & 0x1FFFFL) << 18;
+            word |= (src[i + 14] & 0x1FFFFL) << 1;
+            final long value15 = src[i + 15] & 0x1FFFFL;
+            words[index + 3] = word | value15 >>> 16;
+            word = value15 << 48;
+            word |= (src[i + 16] & 0x1FFFFL) << 31;
+            word |= (src[i + 17] & 0x1FFFFL) << 14;
+            final long value18 = src[i + 18] & 0x1FFFFL;
+            words[index + 4] = word | value18 >>> 3;
+            word = value18 << 61;
+            word |= (src[i + 19] & 0x1FFFFL) << 44;
+            word |= (src[i + 20] & 0x1FFFFL) << 27;
+            word |= (src[i + 21] & 0x1FFFFL) << 10;
+            final long value22 = src[i + 22] & 0x1FFFFL;
+            words[index + 5] = word | value22 >>> 7;
+            word = value22 << 57;
+            word |= (src[i + 23] & 0x1FFFFL) << 40;
+            word |= (src[i + 24] & 0x1FFFFL) << 23;
+            word |= (src[i + 25] & 0x1FFFFL) << 6;
+            final long value26 = src[i + 26] & 0x1FFFFL;
+            words[index + 6] = word | value26 >>> 11;
+            word = value26 << 53;
+            word |= (src[i + 27] & 0x1FFFFL) << 36;
+            word |= (src[i + 28] & 0x1FFFFL) << 19;
+            word |= (src[i + 29] & 0x1FFFFL) << 2;
+            final long value30 = src[i + 30] & 0x1FFFFL;
+            words[index + 7] = word | value30 >>> 15;
+            word = value30 << 49;
+            word |= (src[i + 31] & 0x1FFFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFFL) << 15;
+            final long value33 = src[i + 33] & 0x1FFFFL;
+            words[index + 8] = word | value33 >>> 2;
+            word = value33 << 62;
+            word |= (src[i + 34] & 0x1FFFFL) << 45;
+            word |= (src[i + 35] & 0x1FFFFL) << 28;
+            word |= (src[i + 36] & 0x1FFFFL) << 11;
+            final long value37 = src[i + 37] & 0x1FFFFL;
+            words[index + 9] = word | value37 >>> 6;
+            word = value37 << 58;
+            word |= (src[i + 38] & 0x1FFFFL) << 41;
+            word |= (src[i + 39] & 0x1FFFFL) << 24;
+            word |= (src[i + 40] & 0x1FFFFL) << 7;
+            final long value41 = src[i + 41] & 0x1FFFFL;
+            words[index + 10] = word | value41 >>> 10;
+            word = value41 << 54;
+            word |= (src[i + 42] & 0x1FFFFL) << 37;
+            word |= (src[i + 43] & 0x1FFFFL) << 20;
+            word |= (src[i + 44] & 0x1FFFFL) << 3;
+            final long value45 = src[i + 45] & 0x1FFFFL;
+            words[index + 11] = word | value45 >>> 14;
+            word = value45 << 50;
+            word |= (src[i + 46] & 0x1FFFFL) << 33;
+            word |= (src[i + 47] & 0x1FFFFL) << 16;
+            final long value48 = src[i + 48] & 0x1FFFFL;
+            words[index + 12] = word | value48 >>> 1;
+            word = value48 << 63;
+            word |= (src[i + 49] & 0x1FFFFL) << 46;
+            word |= (src[i + 50] & 0x1FFFFL) << 29;
+            word |= (src[i + 51] & 0x1FFFFL) << 12;
+            final long value52 = src[i + 52] & 0x1FFFFL;
+            words[index + 13] = word | value52 >>> 5;
+            word = value52 << 59;
+            word |= (src[i + 53] & 0x1FFFFL) << 42;
+            word |= (src[i + 54] & 0x1FFFFL) << 25;
+            word |= (src[i + 55] & 0x1FFFFL) << 8;
+            final long value56 = src[i + 56] & 0x1FFFFL;
+            words[index + 14] = word | value56 >>> 9;
+            word = value56 << 55;
+            word |= (src[i + 57] & 0x1FFFFL) << 38;
+            word |= (src[i + 58] & 0x1FFFFL) << 21;
+            word |= (src[i + 59] & 0x1FFFFL) << 4;
+            final long value60 = src[i + 60] & 0x1FFFFL;
+            words[index + 15] = word | value60 >>> 13;
+            word = value60 << 51;
+            word |= (src[i + 61] & 0x1FFFFL) << 34;
+            word |= (src[i + 62] & 0x1FFFFL) << 17;
+            words[index + 16] = word | (src[i + 63] & 0x1FFFFL);
+            index += 17;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 18-bit values into each of {@code count} blocks of
+     * {@code 9} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack18(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFFL) << 46;
+            word |= (src[i + 1] & 0x3FFFFL) << 28;
+            word |= (src[i + 2] & 0x3FFFFL) << 10;
+            final long value3 = src[i + 3] & 0x3FFFFL;
+            words[index] = word | value3 >>> 8;
+            word = value3 << 56;
+            word |= (src[i + 4] & 0x3FFFFL) << 38;
+            word |= (src[i + 5] & 0x3FFFFL) << 20;
+            word |= (src[i + 6] & 0x3FFFFL) << 2;
+            final long value7 = src[i + 7] & 0x3FFFFL;
+            words[index + 1] = word | value7 >>> 16;
+            word = value7 << 48;
+            word |= (src[i + 8] & 0x3FFFFL) << 30;
+            word |= (src[i + 9] & 0x3FFFFL) << 12;
+            final long value10 = src[i + 10] & 0x3FFFFL;
+            words[index + 2] = word | value10 >>> 6;
+            word = value10 << 58;
+            word |= (src[i + 11] & 0x3FFFFL) << 40;
+            word |= (src[i + 12] & 0x3FFFFL) << 22;
+            word |= (src[i + 13] & 0x3FFFFL) << 4;
+            final long value14 = src[i + 14] & 0x3FFFFL;
+            words[index + 3] = word | value14 >>> 14;
+            word = value14 << 50;
+            word |= (src[i + 15] & 0x3FFFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFFL) << 14;
+            final long value17 = src[i + 17] & 0x3FFFFL;
+            words[index + 4] = word | value17 >>> 4;
+            word = value17 << 60;
+            word |= (src[i + 18] & 0x3FFFFL) << 42;
+            word |= (src[i + 19] & 0x3FFFFL) << 24;
+            word |= (src[i + 20] & 0x3FFFFL) << 6;
+            final long value21 = src[i + 21] & 0x3FFFFL;
+            words[index + 5] = word | value21 >>> 12;
+            word = value21 << 52;
+            word |= (src[i + 22] & 0x3FFFFL) << 34;
+            word |= (src[i + 23] & 0x3FFFFL) << 16;
+            final long value24 = src[i + 24] & 0x3FFFFL;
+            words[index + 6] = word | value24 >>> 2;
+            word = value24 << 62;
+            word |= (src[i + 25] & 0x3FFFFL) << 44;
+            word |= (src[i + 26] & 0x3FFFFL) << 26;
+            word |= (src[i + 27] & 0x3FFFFL) << 8;
+            final long value28 = src[i + 28] & 0x3FFFFL;
+            words[index + 7] = word | value28 >>> 10;
+            word = value28 << 54;
+            word |= (src[i + 29] & 0x3FFFFL) << 36;
+            word |= (src[i + 30] & 0x3FFFFL) << 18;
+            words[index + 8] = word | (src[i + 31] & 0x3FFFFL);
+            index += 9;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 19-bit values into each of {@code count} blocks of
+     * {@code 19} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack19(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFFL) << 45;
+            word |= (src[i + 1] & 0x7FFFFL) << 26;
+            word |= (src[i + 2] & 0x7FFFFL) << 7;
+            final long value3 = src[i + 3] & 0x7FFFFL;
+            words[index] = word | value3 >>> 12;
+            word = value3 << 52;
+            word |= (src[i + 4] & 0x7FFFFL) << 33;
+            word |= (src[i + 5] & 0x7FFFFL) << 14;
+            final long value6 = src[i + 6] & 0x7FFFFL;
+            words[index + 1] = word | value6 >>> 5;
+            word = value6 << 59;
+            word |= (src[i + 7] & 0x7FFFFL) << 40;
+            word |= (src[i + 8] & 0x7FFFFL) << 21;
+            word |= (src[i + 9] & 0x7FFFFL) << 2;
+            final long value10 = src[i + 10] & 0x7FFFFL;
+            words[index + 2] = word | value10 >>> 17;
+            word = value10 << 47;
+            word |= (src[i + 11] & 0x7FFFFL) << 28;
+            word |= (src[i + 12] & 0x7FFFFL) << 9;
+            final long value13 = src[i + 13] & 0x7FFFFL;
+            words[index + 3] = word | value13 >>> 10;
+            word = value13 << 54;
+            word |= (src[i + 14] & 0x7FFFFL) << 35;
+            word |= (src[i + 15] & 0x7FFFFL) << 16;
+            final long value16 = src[i + 16] & 0x7FFFFL;
+            words[index + 4] = word | value16 >>> 3;
+            word = value16 << 61;
+            word |= (src[i + 17] & 0x7FFFFL) << 42;
+            word |= (src[i + 18] & 0x7FFFFL) << 23;
+            word |= (src[i + 19] & 0x7FFFFL) << 4;
+            final long value20 = src[i + 20] & 0x7FFFFL;
+            words[index + 5] = word | value20 >>> 15;
+            word = value20 << 49;
+            word |= (src[i + 21] & 0x7FFFFL) << 30;
+            word |= (src[i + 22] & 0x7FFFFL) << 11;
+            final long value23 = src[i + 23] & 0x7FFFFL;
+            words[index + 6] = word | value23 >>> 8;
+            word = value23 << 56;
+            word |= (src[i + 24] & 0x7FFFFL) << 37;
+            word |= (src[i + 25] & 0x7FFFFL) << 18;
+            final long value26 = src[i + 26] & 0x7FFFFL;
+            words[index + 7] = word | value26 >>> 1;
+            word = value26 << 63;
+            word |= (src[i + 27] & 0x7FFFFL) << 44;
+            word |= (src[i + 28] & 0x7FFFFL) << 25;
+            word |= (src[i + 29] & 0x7FFFFL) << 6;
+            final long value30 = src[i + 30] & 0x7FFFFL;
+            words[index + 8] = word | value30 >>> 13;
+            word = value30 << 51;
+            word |= (src[i + 31] & 0x7FFFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFFL) << 13;
+            final long value33 = src[i + 33] & 0x7FFFFL;
+            words[index + 9] = word | value33 >>> 6;
+            word = value33 << 58;
+            word |= (src[i + 34] & 0x7FFFFL) << 39;
+            word |= (src[i + 35] & 0x7FFFFL) << 20;
+            word |= (src[i + 36] & 0x7FFFFL) << 1;
+            final long value37 = src[i + 37] & 0x7FFFFL;
+            words[index + 10] = word | value37 >>> 18;
+            word = value37 << 46;
+            word |= (src[i + 38] & 0x7FFFFL) << 27;
+            word |= (src[i + 39] & 0x7FFFFL) << 8;
+            final long value40 = src[i + 40] & 0x7FFFFL;
+            words[index + 11] = word | value40 >>> 11;
+            word = value40 << 53;
+            word |= (src[i + 41] & 0x7FFFFL) << 34;
+            word |= (src[i + 42] & 0x7FFFFL) << 15;
+            final long value43 = src[i + 43] & 0x7FFFFL;
+            words[index + 12] = word | value43 >>> 4;
+            word = value43 << 60;
+            word |= (src[i + 44] & 0x7FFFFL) << 41;
+            word |= (src[i + 45] & 0x7FFFFL) << 22;
+            word |= (src[i + 46] & 0x7FFFFL) << 3;
+            final long value47 = src[i + 47] & 0x7FFFFL;
+            words[index + 13] = word | value47 >>> 16;
+            word = value47 << 48;
+            word |= (src[i + 48] & 0x7FFFFL) << 29;
+            word |= (src[i + 49] & 0x7FFFFL) << 10;
+            final long value50 = src[i + 50] & 0x7FFFFL;
+            words[index + 14] = word | value50 >>> 9;
+            word = value50 << 55;
+            word |= (src[i + 51] & 0x7FFFFL) << 36;
+            word |= (src[i + 52] & 0x7FFFFL) << 17;
+            final long value53 = src[i + 53] & 0x7FFFFL;
+            words[index + 15] = word | value53 >>> 2;
+            word = value53 << 62;
+            word |= (src[i + 54] & 0x7FFFFL) << 43;
+            word |= (src[i + 55] & 0x7FFFFL) << 24;
+            word |= (src[i + 56] & 0x7FFFFL) << 5;
+            final long value57 = src[i + 57] & 0x7FFFFL;
+            words[index + 16] = word | value57 >>> 14;
+            word = value57 << 50;
+            word |= (src[i + 58] & 0x7FFFFL) << 31;
+            word |= (src[i + 59] & 0x7FFFFL) << 12;
+            final long value60 = src[i + 60] & 0x7FFFFL;
+            words[index + 17] = word | value60 >>> 7;
+            word = value60 << 57;
+            word |= (src[i + 61] & 0x7FFFFL) << 38;
+            word |= (src[i + 62] & 0x7FFFFL) << 19;
+            words[index + 18] = word | (src[i + 63] & 0x7FFFFL);
+            index += 19;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 16} 20-bit values into each of {@code count} blocks of
+     * {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack20(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFFL) << 44;
+            word |= (src[i + 1] & 0xFFFFFL) << 24;
+            word |= (src[i + 2] & 0xFFFFFL) << 4;
+            final long value3 = src[i + 3] & 0xFFFFFL;
+            words[index] = word | value3 >>> 16;
+            word = value3 << 48;
+            word |= (src[i + 4] & 0xFFFFFL) << 28;
+            word |= (src[i + 5] & 0xFFFFFL) << 8;
+            final long value6 = src[i + 6] & 0xFFFFFL;
+            words[index + 1] = word | value6 >>> 12;
+            word = value6 << 52;
+            word |= (src[i + 7] & 0xFFFFFL) << 32;
+            word |= (src[i + 8] & 0xFFFFFL) << 12;
+            final long value9 = src[i + 9] & 0xFFFFFL;
+            words[index + 2] = word | value9 >>> 8;
+            word = value9 << 56;
+            word |= (src[i + 10] & 0xFFFFFL) << 36;
+            word |= (src[i + 11] & 0xFFFFFL) << 16;
+            final long value12 = src[i + 12] & 0xFFFFFL;
+            words[index + 3] = word | value12 >>> 4;
+            word = value12 << 60;
+            word |= (src[i + 13] & 0xFFFFFL) << 40;
+            word |= (src[i + 14] & 0xFFFFFL) << 20;
+            words[index + 4] = word | (src[i + 15] & 0xFFFFFL);
+            index += 5;
+            i += 16;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 21-bit values into each of {@code count} blocks of
+     * {@code 21} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack21(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFFFL) << 43;
+            word |= (src[i + 1] & 0x1FFFFFL) << 22;
+            word |= (src[i + 2] & 0x1FFFFFL) << 1;
+            final long value3 = src[i + 3] & 0x1FFFFFL;
+            words[index] = word | value3 >>> 20;
+            word = value3 << 44;
+            word |= (src[i + 4] & 0x1FFFFFL) << 23;
+            word |= (src[i + 5] & 0x1FFFFFL) << 2;
+            final long value6 = src[i + 6] & 0x1FFFFFL;
+            words[index + 1] = word | value6 >>> 19;
+            word = value6 << 45;
+            word |= (src[i + 7] & 0x1FFFFFL) << 24;
+            word |= (src[i + 8] & 0x1FFFFFL) << 3;
+            final long value9 = src[i + 9] & 0x1FFFFFL;
+            words[index + 2] = word | value9 >>> 18;
+            word = value9 << 46;
+            word |= (src[i + 10] & 0x1FFFFFL) << 25;
+            word |= (src[i + 11] & 0x1FFFFFL) << 4;
+            final long value12 = src[i + 12] & 0x1FFFFFL;
+            words[index + 3] = word | value12 >>> 17;
+            word = value12 << 47;
+            word |= (src[i + 13] & 0x1FFFFFL) << 26;
+            word |= (src[i + 14] & 0x1FFFFFL) << 5;
+            final long value15 = src[i + 15] & 0x1FFFFFL;
+            words[index + 4] = word | value15 >>> 16;
+            word = value15 << 48;
+            word |= (src[i + 16] & 0x1FFFFFL) << 27;
+            word |= (src[i + 17] & 0x1FFFFFL) << 6;
+            final long value18 = src[i + 18] & 0x1FFFFFL;
+            words[index + 5] = word | value18 >>> 15;
+            word = value18 << 49;
+            word |= (src[i + 19] & 0x1FFFFFL) << 28;
+            word |= (src[i + 20] & 0x1FFFFFL) << 7;
+            final long value21 = src[i + 21] & 0x1FFFFFL;
+            words[index + 6] = word | value21 >>> 14;
+            word = value21 << 50;
+            word |= (src[i + 22] & 0x1FFFFFL) << 29;
+            word |= (src[i + 23] & 0x1FFFFFL) << 8;
+            final long value24 = src[i + 24] & 0x1FFFFFL;
+            words[index + 7] = word | value24 >>> 13;
+            word = value24 << 51;
+            word |= (src[i + 25] & 0x1FFFFFL) << 30;
+            word |= (src[i + 26] & 0x1FFFFFL) << 9;
+            final long value27 = src[i + 27] & 0x1FFFFFL;
+            words[index + 8] = word | value27 >>> 12;
+            word = value27 << 52;
+            word |= (src[i + 28] & 0x1FFFFFL) << 31;
+            word |= (src[i + 29] & 0x1FFFFFL) << 10;
+            final long value30 = src[i + 30] & 0x1FFFFFL;
+            words[index + 9] = word | value30 >>> 11;
+            word = value30 << 53;
+            word |= (src[i + 31] & 0x1FFFFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFFFL) << 11;
+            final long value33 = src[i + 33] & 0x1FFFFFL;
+            words[index + 10] = word | value33 >>> 10;
+            word = value33 << 54;
+            word |= (src[i + 34] & 0x1FFFFFL) << 33;
+            word |= (src[i + 35] & 0x1FFFFFL) << 12;
+            final long value36 = src[i + 36] & 0x1FFFFFL;
+            words[index + 11] = word | value36 >>> 9;
+            word = value36 << 55;
+            word |= (src[i + 37] & 0x1FFFFFL) << 34;
+            word |= (src[i + 38] & 0x1FFFFFL) << 13;
+            final long value39 = src[i + 39] & 0x1FFFFFL;
+            words[index + 12] = word | value39 >>> 8;
+            word = value39 << 56;
+            word |= (src[i + 40] & 0x1FFFFFL) << 35;
+            word |= (src[i + 41] & 0x1FFFFFL) << 14;
+            final long value42 = src[i + 42] & 0x1FFFFFL;
+            words[index + 13] = word | value42 >>> 7;
+            word = value42 << 57;
+            word |= (src[i + 43] & 0x1FFFFFL) << 36;
+            word |= (src[i + 44] & 0x1FFFFFL) << 15;
+            final long value45 = src[i + 45] & 0x1FFFFFL;
+            words[index + 14] = word | value45 >>> 6;
+            word = value45 << 58;
+            word |= (src[i + 46] & 0x1FFFFFL) << 37;
+            word |= (src[i + 47] & 0x1FFFFFL) << 16;
+            final long value48 = src[i + 48] & 0x1FFFFFL;
+            words[index + 15] = word | value48 >>> 5;
+            word = value48 << 59;
+            word |= (src[i + 49] & 0x1FFFFFL) << 38;
+            word |= (src[i + 50] & 0x1FFFFFL) << 17;
+            final long value51 = src[i + 51] & 0x1FFFFFL;
+            words[index + 16] = word | value51 >>> 4;
+            word = value51 << 60;
+            word |= (src[i + 52] & 0x1FFFFFL) << 39;
+            word |= (src[i + 53] & 0x1FFFFFL) << 18;
+            final long value54 = src[i + 54] & 0x1FFFFFL;
+            words[index + 17] = word | value54 >>> 3;
+            word = value54 << 61;
+            word |= (src[i + 55] & 0x1FFFFFL) << 40;
+            word |= (src[i + 56] & 0x1FFFFFL) << 19;
+            final long value57 = src[i + 57] & 0x1FFFFFL;
+            words[index + 18] = word | value57 >>> 2;
+            word = value57 << 62;
+            word |= (src[i + 58] & 0x1FFFFFL) << 41;
+            word |= (src[i + 59] & 0x1FFFFFL) << 20;
+            final long value60 = src[i + 60] & 0x1FFFFFL;
+            words[index + 19] = word | value60 >>> 1;
+            word = value60 << 63;
+            word |= (src[i + 61] & 0x1FFFFFL) << 42;
+            word |= (src[i + 62] & 0x1FFFFFL) << 21;
+            words[index + 20] = word | (src[i + 63] & 0x1FFFFFL);
+            index += 21;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 22-bit values into each of {@code count} blocks of
+     * {@code 11} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack22(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFFFL) << 42;
+            word |= (src[i + 1] & 0x3FFFFFL) << 20;
+            final long value2 = src[i + 2] & 0x3FFFFFL;
+            words[index] = word | value2 >>> 2;
+            word = value2 << 62;
+            word |= (src[i + 3] & 0x3FFFFFL) << 40;
+            word |= (src[i + 4] & 0x3FFFFFL) << 18;
+            final long value5 = src[i + 5] & 0x3FFFFFL;
+            words[index + 1] = word | value5 >>> 4;
+            word = value5 << 60;
+            word |= (src[i + 6] & 0x3FFFFFL) << 38;
+            word |= (src[i + 7] & 0x3FFFFFL) << 16;
+            final long value8 = src[i + 8] & 0x3FFFFFL;
+            words[index + 2] = word | value8 >>> 6;
+            word = value8 << 58;
+            word |= (src[i + 9] & 0x3FFFFFL) << 36;
+            word |= (src[i + 10] & 0x3FFFFFL) << 14;
+            final long value11 = src[i + 11] & 0x3FFFFFL;
+            words[index + 3] = word | value11 >>> 8;
+            word = value11 << 56;
+            word |= (src[i + 12] & 0x3FFFFFL) << 34;
+            word |= (src[i + 13] & 0x3FFFFFL) << 12;
+            final long value14 = src[i + 14] & 0x3FFFFFL;
+            words[index + 4] = word | value14 >>> 10;
+            word = value14 << 54;
+            word |= (src[i + 15] & 0x3FFFFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFFFL) << 10;
+            final long value17 = src[i + 17] & 0x3FFFFFL;
+            words[index + 5] = word | value17 >>> 12;
+            word = value17 << 52;
+            word |= (src[i + 18] & 0x3FFFFFL) << 30;
+            word |= (src[i + 19] & 0x3FFFFFL) << 8;
+            final long value20 = src[i + 20] & 0x3FFFFFL;
+            words[index + 6] = word | value20 >>> 14;
+            word = value20 << 50;
+            word |= (src[i + 21] & 0x3FFFFFL) << 28;
+            word |= (src[i + 22] & 0x3FFFFFL) << 6;
+            final long value23 = src[i + 23] & 0x3FFFFFL;
+            words[index + 7] = word | value23 >>> 16;
+            word = value23 << 48;
+            word |= (src[i + 24] & 0x3FFFFFL) << 26;
+            word |= (src[i + 25] & 0x3FFFFFL) << 4;
+            final long value26 = src[i + 26] & 0x3FFFFFL;
+            words[index + 8] = word | value26 >>> 18;
+            word = value26 << 46;
+            word |= (src[i + 27] & 0x3FFFFFL) << 24;
+            word |= (src[i + 28] & 0x3FFFFFL) << 2;
+            final long value29 = src[i + 29] & 0x3FFFFFL;
+            words[index + 9] = word | value29 >>> 20;
+            word = value29 << 44;
+            word |= (src[i + 30] & 0x3FFFFFL) << 22;
+            words[index + 10] = word | (src[i + 31] & 0x3FFFFFL);
+            index += 11;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 23-bit values into each of {@code count} blocks of
+     * {@code 23} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack23(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFFFL) << 41;
+            word |= (src[i + 1] & 0x7FFFFFL) << 18;
+            final long value2 = src[i + 2] & 0x7FFFFFL;
+            words[index] = word | value2 >>> 5;
+            word = value2 << 59;
+            word |= (src[i + 3] & 0x7FFFFFL) << 36;
+            word |= (src[i + 4] & 0x7FFFFFL) << 13;
+            final long value5 = src[i + 5] & 0x7FFFFFL;
+            words[index + 1] = word | value5 >>> 10;
+            word = value5 << 54;
+            word |= (src[i + 6] & 0x7FFFFFL) << 31;
+            word |= (src[i + 7] & 0x7FFFFFL) << 8;
+            final long value8 = src[i + 8] & 0x7FFFFFL;
+            words[index + 2] = word | value8 >>> 15;
+            word = value8 << 49;
+            word |= (src[i + 9] & 0x7FFFFFL) << 26;
+            word |= (src[i + 10] & 0x7FFFFFL) << 3;
+            final long value11 = src[i + 11] & 0x7FFFFFL;
+            words[index + 3] = word | value11 >>> 20;
+            word = value11 << 44;
+            word |= (src[i + 12] & 0x7FFFFFL) << 21;
+            final long value13 = src[i + 13] & 0x7FFFFFL;
+            words[index + 4] = word | value13 >>> 2;
+            word = value13 << 62;
+            word |= (src[i + 14] & 0x7FFFFFL) << 39;
+            word |= (src[i + 15] & 0x7FFFFFL) << 16;
+            final long value16 = src[i + 16] & 0x7FFFFFL;
+            words[index + 5] = word | value16 >>> 7;
+            word = value16 << 57;
+            word |= (src[i + 17] & 0x7FFFFFL) << 34;
+            word |= (src[i + 18] & 0x7FFFFFL) << 11;
+            final long value19 = src[i + 19] & 0x7FFFFFL;
+            words[index + 6] = word | value19 >>> 12;
+            word = value19 << 52;
+            word |= (src[i + 20] & 0x7FFFFFL) << 29;
+            word |= (src[i + 21] & 0x7FFFFFL) << 6;
+            final long value22 = src[i + 22] & 0x7FFFFFL;
+            words[index + 7] = word | value22 >>> 17;
+            word = value22 << 47;
+            word |= (src[i + 23] & 0x7FFFFFL) << 24;
+            word |= (src[i + 24] & 0x7FFFFFL) << 1;
+            final long value25 = src[i + 25] & 0x7FFFFFL;
+            words[index + 8] = word | value25 >>> 22;
+            word = value25 << 42;
+            word |= (src[i + 26] & 0x7FFFFFL) << 19;
+            final long value27 = src[i + 27] & 0x7FFFFFL;
+            words[index + 9] = word | value27 >>> 4;
+            word = value27 << 60;
+            word |= (src[i + 28] & 0x7FFFFFL) << 37;
+            word |= (src[i + 29] & 0x7FFFFFL) << 14;
+            final long value30 = src[i + 30] & 0x7FFFFFL;
+            words[index + 10] = word | value30 >>> 9;
+            word = value30 << 55;
+            word |= (src[i + 31] & 0x7FFFFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFFFL) << 9;
+            final long value33 = src[i + 33] & 0x7FFFFFL;
+            words[index + 11] = word | value33 >>> 14;
+            word = value33 << 50;
+            word |= (src[i + 34] & 0x7FFFFFL) << 27;
+            word |= (src[i + 35] & 0x7FFFFFL) << 4;
+            final long value36 = src[i + 36] & 0x7FFFFFL;
+            words[index + 12] = word | value36 >>> 19;
+            word = value36 << 45;
+            word |= (src[i + 37] & 0x7FFFFFL) << 22;
+            final long value38 = src[i + 38] & 0x7FFFFFL;
+            words[index + 13] = word | value38 >>> 1;
+            word = value38 << 63;
+            word |= (src[i + 39] & 0x7FFFFFL) << 40;
+            word |= (src[i + 40] & 0x7FFFFFL) << 17;
+            final long value41 = src[i + 41] & 0x7FFFFFL;
+            words[index + 14] = word | value41 >>> 6;
+            word = value41 << 58;
+            word |= (src[i + 42] & 0x7FFFFFL) << 35;
+            word |= (src[i + 43] & 0x7FFFFFL) << 12;
+            final long value44 = src[i + 44] & 0x7FFFFFL;
+            words[index + 15] = word | value44 >>> 11;
+            word = value44 << 53;
+            word |= (src[i + 45] & 0x7FFFFFL) << 30;
+            word |= (src[i + 46] & 0x7FFFFFL) << 7;
+            final long value47 = src[i + 47] & 0x7FFFFFL;
+            words[index + 16] = word | value47 >>> 16;
+            word = value47 << 48;
+            word |= (src[i + 48] & 0x7FFFFFL) << 25;
+            word |= (src[i + 49] & 0x7FFFFFL) << 2;
+            final long value50 = src[i + 50] & 0x7FFFFFL;
+            words[index + 17] = word | value50 >>> 21;
+            word = value50 << 43;
+            word |= (src[i + 51] & 0x7FFFFFL) << 20;
+            final long value52 = src[i + 52] & 0x7FFFFFL;
+            words[index + 18] = word | value52 >>> 3;
+            word = value52 << 61;
+            word |= (src[i + 53] & 0x7FFFFFL) << 38;
+            word |= (src[i + 54] & 0x7FFFFFL) << 15;
+            final long value55 = src[i + 55] & 0x7FFFFFL;
+            words[index + 19] = word | value55 >>> 8;
+            word = value55 << 56;
+            word |= (src[i + 56] & 0x7FFFFFL) << 33;
+            word |= (src[i + 57] & 0x7FFFFFL) << 10;
+            final long value58 = src[i + 58] & 0x7FFFFFL;
+            words[index + 20] = word | value58 >>> 13;
+            word = value58 << 51;
+            word |= (src[i + 59] & 0x7FFFFFL) << 28;
+            word |= (src[i + 60] & 0x7FFFFFL) << 5;
+            final long value61 = src[i + 61] & 0x7FFFFFL;
+            words[index + 21] = word | value61 >>> 18;
+            word = value61 << 46;
+            word |= (src[i + 62] & 0x7FFFFFL) << 23;
+            words[index + 22] = word | (src[i + 63] & 0x7FFFFFL);
+            index += 23;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 8} 24-bit values into each of {@code count} blocks of {@code
+     * 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack24(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFFFL) << 40;
+            word |= (src[i + 1] & 0xFFFFFFL) << 16;
+            final long value2 = src[i + 2] & 0xFFFFFFL;
+            words[index] = word | value2 >>> 8;
+            word = value2 << 56;
+            word |= (src[i + 3] & 0xFFFFFFL) << 32;
+            word |= (src[i + 4] & 0xFFFFFFL) << 8;
+            final long value5 = src[i + 5] & 0xFFFFFFL;
+            words[index + 1] = word | value5 >>> 16;
+            word = value5 << 48;
+            word |= (src[i + 6] & 0xFFFFFFL) << 24;
+            words[index + 2] = word | (src[i + 7] & 0xFFFFFFL);
+            index += 3;
+            i += 8;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 25-bit values into each of {@code count} blocks of
+     * {@code 25} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack25(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFFFFL) << 39;
+            word |= (src[i + 1] & 0x1FFFFFFL) << 14;
+            final long value2 = src[i + 2] & 0x1FFFFFFL;
+            words[index] = word | value2 >>> 11;
+            word = value2 << 53;
+            word |= (src[i + 3] & 0x1FFFFFFL) << 28;
+            word |= (src[i + 4] & 0x1FFFFFFL) << 3;
+            final long value5 = src[i + 5] & 0x1FFFFFFL;
+            words[index + 1] = word | value5 >>> 22;
+            word = value5 << 42;
+            word |= (src[i + 6] & 0x1FFFFFFL) << 17;
+            final long value7 = src[i + 7] & 0x1FFFFFFL;
+            words[index + 2] = word | value7 >>> 8;
+            word = value7 << 56;
+            word |= (src[i + 8] & 0x1FFFFFFL) << 31;
+            word |= (src[i + 9] & 0x1FFFFFFL) << 6;
+            final long value10 = src[i + 10] & 0x1FFFFFFL;
+            words[index + 3] = word | value10 >>> 19;
+            word = value10 << 45;
+            word |= (src[i + 11] & 0x1FFFFFFL) << 20;
+            final long value12 = src[i + 12] & 0x1FFFFFFL;
+            words[index + 4] = word | value12 >>> 5;
+            word = value12 << 59;
+            word |= (src[i + 13] & 0x1FFFFFFL) << 34;
+            word |= (src[i + 14] & 0x1FFFFFFL) << 9;
+            final long value15 = src[i + 15] & 0x1FFFFFFL;
+            words[index + 5] = word | value15 >>> 16;
+            word = value15 << 48;
+            word |= (src[i + 16] & 0x1FFFFFFL) << 23;
+            final long value17 = src[i + 17] & 0x1FFFFFFL;
+            words[index + 6] = word | value17 >>> 2;
+            word = value17 << 62;
+            word |= (src[i + 18] & 0x1FFFFFFL) << 37;
+            word |= (src[i + 19] & 0x1FFFFFFL) << 12;
+            final long value20 = src[i + 20] & 0x1FFFFFFL;
+            words[index + 7] = word | value20 >>> 13;
+            word = value20 << 51;
+            word |= (src[i + 21] & 0x1FFFFFFL) << 26;
+            word |= (src[i + 22] & 0x1FFFFFFL) << 1;
+            final long value23 = src[i + 23] & 0x1FFFFFFL;
+            words[index + 8] = word | value23 >>> 24;
+            word = value23 << 40;
+            word |= (src[i + 24] & 0x1FFFFFFL) << 15;
+            final long value25 = src[i + 25] & 0x1FFFFFFL;
+            words[index + 9] = word | value25 >>> 10;
+            word = value25 << 54;
+            word |= (src[i + 26] & 0x1FFFFFFL) << 29;
+            word |= (src[i + 27] & 0x1FFFFFFL) << 4;
+            final long value28 = src[i + 28] & 0x1FFFFFFL;
+            words[index + 10] = word | value28 >>> 21;
+            word = value28 << 43;
+            word |= (src[i + 29] & 0x1FFFFFFL) << 18;
+            final long value30 = src[i + 30] & 0x1FFFFFFL;
+            words[index + 11] = word | value30 >>> 7;
+            word = value30 << 57;
+            word |= (src[i + 31] & 0x1FFFFFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFFFFL) << 7;
+            final long value33 = src[i + 33] & 0x1FFFFFFL;
+            words[index + 12] = word | value33 >>> 18;
+            word = value33 << 46;
+            word |= (src[i + 34] & 0x1FFFFFFL) << 21;
+            final long value35 = src[i + 35] & 0x1FFFFFFL;
+            words[index + 13] = word | value35 >>> 4;
+            word = value35 << 60;
+            word |= (src[i + 36] & 0x1FFFFFFL) << 35;
+            word |= (src[i + 37] & 0x1FFFFFFL) << 10;
+            final long value38 = src[i + 38] & 0x1FFFFFFL;
+            words[index + 14] = word | value38 >>> 15;
+            word = value38 << 49;
+            word |= (src[i + 39] & 0x1FFFFFFL) << 24;
+            final long value40 = src[i + 40] & 0x1FFFFFFL;
+            words[index + 15] = word | value40 >>> 1;
+            word = value40 << 63;
+            word |= (src[i + 41] & 0x1FFFFFFL) << 38;
+            word |= (src[i + 42] & 0x1FFFFFFL) << 13;
+            final long value43 = src[i + 43] & 0x1FFFFFFL;
+            words[index + 16] = word | value43 >>> 12;
+            word = value43 << 52;
+            word |= (src[i + 44] & 0x1FFFFFFL) << 27;
+            word |= (src[i + 45] & 0x1FFFFFFL) << 2;
+            final long value46 = src[i + 46] & 0x1FFFFFFL;
+            words[index + 17] = word | value46 >>> 23;
+            word = value46 << 41;
+            word |= (src[i + 47] & 0x1FFFFFFL) << 16;
+            final long value48 = src[i + 48] & 0x1FFFFFFL;
+            words[index + 18] = word | value48 >>> 9;
+            word = value48 << 55;
+            word |= (src[i + 49] & 0x1FFFFFFL) << 30;
+            word |= (src[i + 50] & 0x1FFFFFFL) << 5;
+            final long value51 = src[i + 51] & 0x1FFFFFFL;
+            words[index + 19] = word | value51 >>> 20;
+            word = value51 << 44;
+            word |= (src[i + 52] & 0x1FFFFFFL) << 19;
+            final long value53 = src[i + 53] & 0x1FFFFFFL;
+            words[index + 20] = word | value53 >>> 6;
+            word = value53 << 58;
+            word |= (src[i + 54] & 0x1FFFFFFL) << 33;
+            word |= (src[i + 55] & 0x1FFFFFFL) << 8;
+            final long value56 = src[i + 56] & 0x1FFFFFFL;
+            words[index + 21] = word | value56 >>> 17;
+            word = value56 << 47;
+            word |= (src[i + 57] & 0x1FFFFFFL) << 22;
+            final long value58 = src[i + 58] & 0x1FFFFFFL;
+            words[index + 22] = word | value58 >>> 3;
+            word = value58 << 61;
+            word |= (src[i + 59] & 0x1FFFFFFL) << 36;
+            word |= (src[i + 60] & 0x1FFFFFFL) << 11;
+            final long value61 = src[i + 61] & 0x1FFFFFFL;
+            words[index + 23] = word | value61 >>> 14;
+            word = value61 << 50;
+            word |= (src[i + 62] & 0x1FFFFFFL) << 25;
+            words[index + 24] = word | (src[i + 63] & 0x1FFFFFFL);
+            index += 25;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 26-bit values into each of {@code count} blocks of
+     * {@code 13} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack26(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFFFFL) << 38;
+            word |= (src[i + 1] & 0x3FFFFFFL) << 12;
+            final long value2 = src[i + 2] & 0x3FFFFFFL;
+            words[index] = word | value2 >>> 14;
+            word = value2 << 50;
+            word |= (src[i + 3] & 0x3FFFFFFL) << 24;
+            final long value4 = src[i + 4] & 0x3FFFFFFL;
+            words[index + 1] = word | value4 >>> 2;
+            word = value4 << 62;
+            word |= (src[i + 5] & 0x3FFFFFFL) << 36;
+            word |= (src[i + 6] & 0x3FFFFFFL) << 10;
+            final long value7 = src[i + 7] & 0x3FFFFFFL;
+            words[index + 2] = word | value7 >>> 16;
+            word = value7 << 48;
+            word |= (src[i + 8] & 0x3FFFFFFL) << 22;
+            final long value9 = src[i + 9] & 0x3FFFFFFL;
+            words[index + 3] = word | value9 >>> 4;
+            word = value9 << 60;
+            word |= (src[i + 10] & 0x3FFFFFFL) << 34;
+            word |= (src[i + 11] & 0x3FFFFFFL) << 8;
+            final long value12 = src[i + 12] & 0x3FFFFFFL;
+            words[index + 4] = word | value12 >>> 18;
+            word = value12 << 46;
+            word |= (src[i + 13] & 0x3FFFFFFL) << 20;
+            final long value14 = src[i + 14] & 0x3FFFFFFL;
+            words[index + 5] = word | value14 >>> 6;
+            word = value14 << 58;
+            word |= (src[i + 15] & 0x3FFFFFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFFFFL) << 6;
+            final long value17 = src[i + 17] & 0x3FFFFFFL;
+            words[index + 6] = word | value17 >>> 20;
+            word = value17 << 44;
+            word |= (src[i + 18] & 0x3FFFFFFL) << 18;
+            final long value19 = src[i + 19] & 0x3FFFFFFL;
+            words[index + 7] = word | value19 >>> 8;
+            word = value19 << 56;
+            word |= (src[i + 20] & 0x3FFFFFFL) << 30;
+            word |= (src[i + 21] & 0x3FFFFFFL) << 4;
+            final long value22 = src[i + 22] & 0x3FFFFFFL;
+            words[index + 8] = word | value22 >>> 22;
+            word = value22 << 42;
+            word |= (src[i + 23] & 0x3FFFFFFL) << 16;
+            final long value24 = src[i + 24] & 0x3FFFFFFL;
+            words[index + 9] = word | value24 >>> 10;
+            word = value24 << 54;
+            word |= (src[i + 25] & 0x3FFFFFFL) << 28;
+            word |= (src[i + 26] & 0x3FFFFFFL) << 2;
+            final long value27 = src[i + 27] & 0x3FFFFFFL;
+            words[index + 10] = word | value27 >>> 24;
+            word = value27 << 40;
+            word |= (src[i + 28] & 0x3FFFFFFL) << 14;
+            final long value29 = src[i + 29] & 0x3FFFFFFL;
+            words[index + 11] = word | value29 >>> 12;
+            word = value29 << 52;
+            word |= (src[i + 30] & 0x3FFFFFFL) << 26;
+            words[index + 12] = word | (src[i + 31] & 0x3FFFFFFL);
+            index += 13;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 27-bit values into each of {@code count} blocks of
+     * {@code 27} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack27(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFFFFL) << 37;
+            word |= (src[i + 1] & 0x7FFFFFFL) << 10;
+            final long value2 = src[i + 2] & 0x7FFFFFFL;
+            words[index] = word | value2 >>> 17;
+            word = value2 << 47;
+            word |= (src[i + 3] & 0x7FFFFFFL) << 20;
+            final long value4 = src[i + 4] & 0x7FFFFFFL;
+            words[index + 1] = word | value4 >>> 7;
+            word = value4 << 57;
+            word |= (src[i + 5] & 0x7FFFFFFL) << 30;
+            word |= (src[i + 6] & 0x7FFFFFFL) << 3;
+            final long value7 = src[i + 7] & 0x7FFFFFFL;
+            words[index + 2] = word | value7 >>> 24;
+            word = value7 << 40;
+            word |= (src[i + 8] & 0x7FFFFFFL) << 13;
+            final long value9 = src[i + 9] & 0x7FFFFFFL;
+            words[index + 3] = word | value9 >>> 14;
+            word = value9 << 50;
+            word |= (src[i + 10] & 0x7FFFFFFL) << 23;
+            final long value11 = src[i + 11] & 0x7FFFFFFL;
+            words[index + 4] = word | value11 >>> 4;
+            word = value11 << 60;
+            word |= (src[i + 12] & 0x7FFFFFFL) << 33;
+            word |= (src[i + 13] & 0x7FFFFFFL) << 6;
+            final long value14 = src[i + 14] & 0x7FFFFFFL;
+            words[index + 5] = word | value14 >>> 21;
+            word = value14 << 43;
+            word |= (src[i + 15] & 0x7FFFFFFL) << 16;
+            final long value16 = src[i + 16] & 0x7FFFFFFL;
+            words[index + 6] = word | value16 >>> 11;
+            word = value16 << 53;
+            word |= (src[i + 17] & 0x7FFFFFFL) << 26;
+            final long value18 = src[i + 18] & 0x7FFFFFFL;
+            words[index + 7] = word | value18 >>> 1;
+            word = value18 << 63;
+            word |= (src[i + 19] & 0x7FFFFFFL) << 36;
+            word |= (src[i + 20] & 0x7FFFFFFL) << 9;
+            final long value21 = src[i + 21] & 0x7FFFFFFL;
+            words[index + 8] = word | value21 >>> 18;
+            word = value21 << 46;
+            word |= (src[i + 22] & 0x7FFFFFFL) << 19;
+            final long value23 = src[i + 23] & 0x7FFFFFFL;
+            words[index + 9] = word | value23 >>> 8;
+            word = value23 << 56;
+            word |= (src[i + 24] & 0x7FFFFFFL) << 29;
+            word |= (src[i + 25] & 0x7FFFFFFL) << 2;
+            final long value26 = src[i + 26] & 0x7FFFFFFL;
+            words[index + 10] = word | value26 >>> 25;
+            word = value26 << 39;
+            word |= (src[i + 27] & 0x7FFFFFFL) << 12;
+            final long value28 = src[i + 28] & 0x7FFFFFFL;
+            words[index + 11] = word | value28 >>> 15;
+            word = value28 << 49;
+            word |= (src[i + 29] & 0x7FFFFFFL) << 22;
+            final long value30 = src[i + 30] & 0x7FFFFFFL;
+            words[index + 12] = word | value30 >>> 5;
+            word = value30 << 59;
+            word |= (src[i + 31] & 0x7FFFFFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFFFFL) << 5;
+            final long value33 = src[i + 33] & 0x7FFFFFFL;
+            words[index + 13] = word | value33 >>> 22;
+            word = value33 << 42;
+            word |= (src[i + 34] & 0x7FFFFFFL) << 15;
+            final long value35 = src[i + 35] & 0x7FFFFFFL;
+            words[index + 14] = word | value35 >>> 12;
+            word = value35 << 52;
+            word |= (src[i + 36] & 0x7FFFFFFL) << 25;
+            final long value37 = src[i + 37] & 0x7FFFFFFL;
+            words[index + 15] = word | value37 >>> 2;
+            word = value37 << 62;
+            word |= (src[i + 38] & 0x7FFFFFFL) << 35;
+            word |= (src[i + 39] & 0x7FFFFFFL) << 8;
+            final long value40 = src[i + 40] & 0x7FFFFFFL;
+            words[index + 16] = word | value40 >>> 19;
+            word = value40 << 45;
+            word |= (src[i + 41] & 0x7FFFFFFL) << 18;
+            final long value42 = src[i + 42] & 0x7FFFFFFL;
+            words[index + 17] = word | value42 >>> 9;
+            word = value42 << 55;
+            word |= (src[i + 43] & 0x7FFFFFFL) << 28;
+            word |= (src[i + 44] & 0x7FFFFFFL) << 1;
+            final long value45 = src[i + 45] & 0x7FFFFFFL;
+            words[index + 18] = word | value45 >>> 26;
+            word = value45 << 38;
+            word |= (src[i + 46] & 0x7FFFFFFL) << 11;
+            final long value47 = src[i + 47] & 0x7FFFFFFL;
+            words[index + 19] = word | value47 >>> 16;
+            word = value47 << 48;
+            word |= (src[i + 48] & 0x7FFFFFFL) << 21;
+            final long value49 = src[i + 49] & 0x7FFFFFFL;
+            words[index + 20] = word | value49 >>> 6;
+            word = value49 << 58;
+            word |= (src[i + 50] & 0x7FFFFFFL) << 31;
+            word |= (src[i + 51] & 0x7FFFFFFL) << 4;
+            final long value52 = src[i + 52] & 0x7FFFFFFL;
+            words[index + 21] = word | value52 >>> 23;
+            word = value52 << 41;
+            word |= (src[i + 53] & 0x7FFFFFFL) << 14;
+            final long value54 = src[i + 54] & 0x7FFFFFFL;
+            words[index + 22] = word | value54 >>> 13;
+            word = value54 << 51;
+            word |= (src[i + 55] & 0x7FFFFFFL) << 24;
+            final long value56 = src[i + 56] & 0x7FFFFFFL;
+            words[index + 23] = word | value56 >>> 3;
+            word = value56 << 61;
+            word |= (src[i + 57] & 0x7FFFFFFL) << 34;
+            word |= (src[i + 58] & 0x7FFFFFFL) << 7;
+            final long value59 = src[i + 59] & 0x7FFFFFFL;
+            words[index + 24] = word | value59 >>> 20;
+            word = value59 << 44;
+            word |= (src[i + 60] & 0x7FFFFFFL) << 17;
+            final long value61 = src[i + 61] & 0x7FFFFFFL;
+            words[index + 25] = word | value61 >>> 10;
+            word = value61 << 54;
+            word |= (src[i + 62] & 0x7FFFFFFL) << 27;
+            words[index + 26] = word | (src[i + 63] & 0x7FFFFFFL);
+            index += 27;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 16} 28-bit values into each of {@code count} blocks of
+     * {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack28(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFFFFL) << 36;
+            word |= (src[i + 1] & 0xFFFFFFFL) << 8;
+            final long value2 = src[i + 2] & 0xFFFFFFFL;
+            words[index] = word | value2 >>> 20;
+            word = value2 << 44;
+            word |= (src[i + 3] & 0xFFFFFFFL) << 16;
+            final long value4 = src[i + 4] & 0xFFFFFFFL;
+            words[index + 1] = word | value4 >>> 12;
+            word = value4 << 52;
+            word |= (src[i + 5] & 0xFFFFFFFL) << 24;
+            final long value6 = src[i + 6] & 0xFFFFFFFL;
+            words[index + 2] = word | value6 >>> 4;
+            word = value6 << 60;
+            word |= (src[i + 7] & 0xFFFFFFFL) << 32;
+            word |= (src[i + 8] & 0xFFFFFFFL) << 4;
+            final long value9 = src[i + 9] & 0xFFFFFFFL;
+            words[index + 3] = word | value9 >>> 24;
+            word = value9 << 40;
+            word |= (src[i + 10] & 0xFFFFFFFL) << 12;
+            final long value11 = src[i + 11] & 0xFFFFFFFL;
+            words[index + 4] = word | value11 >>> 16;
+            word = value11 << 48;
+            word |= (src[i + 12] & 0xFFFFFFFL) << 20;
+            final long value13 = src[i + 13] & 0xFFFFFFFL;
+            words[index + 5] = word | value13 >>> 8;
+            word = value13 << 56;
+            word |= (src[i + 14] & 0xFFFFFFFL) << 28;
+            words[index + 6] = word | (src[i + 15] & 0xFFFFFFFL);
+            index += 7;
+            i += 16;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 29-bit values into each of {@code count} blocks of
+     * {@code 29} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack29(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFFFFFL) << 35;
+            word |= (src[i + 1] & 0x1FFFFFFFL) << 6;
+            final long value2 = src[i + 2] & 0x1FFFFFFFL;
+            words[index] = word | value2 >>> 23;
+            word = value2 << 41;
+            word |= (src[i + 3] & 0x1FFFFFFFL) << 12;
+            final long value4 = src[i + 4] & 0x1FFFFFFFL;
+            words[index + 1] = word | value4 >>> 17;
+            word = value4 << 47;
+            word |= (src[i + 5] & 0x1FFFFFFFL) << 18;
+            final long value6 = src[i + 6] & 0x1FFFFFFFL;
+            words[index + 2] = word | value6 >>> 11;
+            word = value6 << 53;
+            word |= (src[i + 7] & 0x1FFFFFFFL) << 24;
+            final long value8 = src[i + 8] & 0x1FFFFFFFL;
+            words[index + 3] = word | value8 >>> 5;
+            word = value8 << 59;
+            word |= (src[i + 9] & 0x1FFFFFFFL) << 30;
+            word |= (src[i + 10] & 0x1FFFFFFFL) << 1;
+            final long value11 = src[i + 11] & 0x1FFFFFFFL;
+            words[index + 4] = word | value11 >>> 28;
+            word = value11 << 36;
+            word |= (src[i + 12] & 0x1FFFFFFFL) << 7;
+            final long value13 = src[i + 13] & 0x1FFFFFFFL;
+            words[index + 5] = word | value13 >>> 22;
+            word = value13 << 42;
+            word |= (src[i + 14] & 0x1FFFFFFFL) << 13;
+            final long value15 = src[i + 15] & 0x1FFFFFFFL;
+            words[index + 6] = word | value15 >>> 16;
+            word = value15 << 48;
+            word |= (src[i + 16] & 0x1FFFFFFFL) << 19;
+            final long value17 = src[i + 17] & 0x1FFFFFFFL;
+            words[index + 7] = word | value17 >>> 10;
+            word = value17 << 54;
+            word |= (src[i + 18] & 0x1FFFFFFFL) << 25;
+            final long value19 = src[i + 19] & 0x1FFFFFFFL;
+            words[index + 8] = word | value19 >>> 4;
+            word = value19 << 60;
+            word |= (src[i + 20] & 0x1FFFFFFFL) << 31;
+            word |= (src[i + 21] & 0x1FFFFFFFL) << 2;
+            final long value22 = src[i + 22] & 0x1FFFFFFFL;
+            words[index + 9] = word | value22 >>> 27;
+            word = value22 << 37;
+            word |= (src[i + 23] & 0x1FFFFFFFL) << 8;
+            final long value24 = src[i + 24] & 0x1FFFFFFFL;
+            words[index + 10] = word | value24 >>> 21;
+            word = value24 << 43;
+            word |= (src[i + 25] & 0x1FFFFFFFL) << 14;
+            final long value26 = src[i + 26] & 0x1FFFFFFFL;
+            words[index + 11] = word | value26 >>> 15;
+            word = value26 << 49;
+            word |= (src[i + 27] & 0x1FFFFFFFL) << 20;
+            final long value28 = src[i + 28] & 0x1FFFFFFFL;
+            words[index + 12] = word | value28 >>> 9;
+            word = value28 << 55;
+            word |= (src[i + 29] & 0x1FFFFFFFL) << 26;
+            final long value30 = src[i + 30] & 0x1FFFFFFFL;
+            words[index + 13] = word | value30 >>> 3;
+            word = value30 << 61;
+            word |= (src[i + 31] & 0x1FFFFFFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFFFFFL) << 3;
+            final long value33 = src[i + 33] & 0x1FFFFFFFL;
+            words[index + 14] = word | value33 >>> 26;
+            word = value33 << 38;
+            word |= (src[i + 34] & 0x1FFFFFFFL) << 9;
+            final long value35 = src[i + 35] & 0x1FFFFFFFL;
+            words[index + 15] = word | value35 >>> 20;
+            word = value35 << 44;
+            word |= (src[i + 36] & 0x1FFFFFFFL) << 15;
+            final long value37 = src[i + 37] & 0x1FFFFFFFL;
+            words[index + 16] = word | value37 >>> 14;
+            word = value37 << 50;
+            word |= (src[i + 38] & 0x1FFFFFFFL) << 21;
+            final long value39 = src[i + 39] & 0x1FFFFFFFL;
+            words[index + 17] = word | value39 >>> 8;
+            word = value39 << 56;
+            word |= (src[i + 40] & 0x1FFFFFFFL) << 27;
+            final long value41 = src[i + 41] & 0x1FFFFFFFL;
+            words[index + 18] = word | value41 >>> 2;
+            word = value41 << 62;
+            word |= (src[i + 42] & 0x1FFFFFFFL) << 33;
+            word |= (src[i + 43] & 0x1FFFFFFFL) << 4;
+            final long value44 = src[i + 44] & 0x1FFFFFFFL;
+            words[index + 19] = word | value44 >>> 25;
+            word = value44 << 39;
+            word |= (src[i + 45] & 0x1FFFFFFFL) << 10;
+            final long value46 = src[i + 46] & 0x1FFFFFFFL;
+            words[index + 20] = word | value46 >>> 19;
+            word = value46 << 45;
+            word |= (src[i + 47] & 0x1FFFFFFFL) << 16;
+            final long value48 = src[i + 48] & 0x1FFFFFFFL;
+            words[index + 21] = word | value48 >>> 13;
+            word = value48 << 51;
+            word |= (src[i + 49] & 0x1FFFFFFFL) << 22;
+            final long value50 = src[i + 50] & 0x1FFFFFFFL;
+            words[index + 22] = word | value50 >>> 7;
+            word = value50 << 57;
+            word |= (src[i + 51] & 0x1FFFFFFFL) << 28;
+            final long value52 = src[i + 52] & 0x1FFFFFFFL;
+            words[index + 23] = word | value52 >>> 1;
+            word = value52 << 63;
+            word |= (src[i + 53] & 0x1FFFFFFFL) << 34;
+            word |= (src[i + 54] & 0x1FFFFFFFL) << 5;
+            final long value55 = src[i + 55] & 0x1FFFFFFFL;
+            words[index + 24] = word | value55 >>> 24;
+            word = value55 << 40;
+            word |= (src[i + 56] & 0x1FFFFFFFL) << 11;
+            final long value57 = src[i + 57] & 0x1FFFFFFFL;
+            words[index + 25] = word | value57 >>> 18;
+            word = value57 << 46;
+            word |= (src[i + 58] & 0x1FFFFFFFL) << 17;
+            final long value59 = src[i + 59] & 0x1FFFFFFFL;
+            words[index + 26] = word | value59 >>> 12;
+            word = value59 << 52;
+            word |= (src[i + 60] & 0x1FFFFFFFL) << 23;
+            final long value61 = src[i + 61] & 0x1FFFFFFFL;
+            words[index + 27] = word | value61 >>> 6;
+            word = value61 << 58;
+            word |= (src[i + 62] & 0x1FFFFFFFL) << 29;
+            words[index + 28] = word | (src[i + 63] & 0x1FFFFFFFL);
+            index += 29;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 30-bit values into each of {@code count} blocks of
+     * {@code 15} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack30(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFFFFFL) << 34;
+            word |= (src[i + 1] & 0x3FFFFFFFL) << 4;
+            final long value2 = src[i + 2] & 0x3FFFFFFFL;
+            words[index] = word | value2 >>> 26;
+            word = value2 << 38;
+            word |= (src[i + 3] & 0x3FFFFFFFL) << 8;
+            final long value4 = src[i + 4] & 0x3FFFFFFFL;
+            words[index + 1] = word | value4 >>> 22;
+            word = value4 << 42;
+            word |= (src[i + 5] & 0x3FFFFFFFL) << 12;
+            final long value6 = src[i + 6] & 0x3FFFFFFFL;
+            words[index + 2] = word | value6 >>> 18;
+            word = value6 << 46;
+            word |= (src[i + 7] & 0x3FFFFFFFL) << 16;
+            final long value8 = src[i + 8] & 0x3FFFFFFFL;
+            words[index + 3] = word | value8 >>> 14;
+            word = value8 << 50;
+            word |= (src[i + 9] & 0x3FFFFFFFL) << 20;
+            final long value10 = src[i + 10] & 0x3FFFFFFFL;
+            words[index + 4] = word | value10 >>> 10;
+            word = value10 << 54;
+            word |= (src[i + 11] & 0x3FFFFFFFL) << 24;
+            final long value12 = src[i + 12] & 0x3FFFFFFFL;
+            words[index + 5] = word | value12 >>> 6;
+            word = value12 << 58;
+            word |= (src[i + 13] & 0x3FFFFFFFL) << 28;
+            final long value14 = src[i + 14] & 0x3FFFFFFFL;
+            words[index + 6] = word | value14 >>> 2;
+            word = value14 << 62;
+            word |= (src[i + 15] & 0x3FFFFFFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFFFFFL) << 2;
+            final long value17 = src[i + 17] & 0x3FFFFFFFL;
+            words[index + 7] = word | value17 >>> 28;
+            word = value17 << 36;
+            word |= (src[i + 18] & 0x3FFFFFFFL) << 6;
+            final long value19 = src[i + 19] & 0x3FFFFFFFL;
+            words[index + 8] = word | value19 >>> 24;
+            word = value19 << 40;
+            word |= (src[i + 20] & 0x3FFFFFFFL) << 10;
+            final long value21 = src[i + 21] & 0x3FFFFFFFL;
+            words[index + 9] = word | value21 >>> 20;
+            word = value21 << 44;
+            word |= (src[i + 22] & 0x3FFFFFFFL) << 14;
+            final long value23 = src[i + 23] & 0x3FFFFFFFL;
+            words[index + 10] = word | value23 >>> 16;
+            word = value23 << 48;
+            word |= (src[i + 24] & 0x3FFFFFFFL) << 18;
+            final long value25 = src[i + 25] & 0x3FFFFFFFL;
+            words[index + 11] = word | value25 >>> 12;
+            word = value25 << 52;
+            word |= (src[i + 26] & 0x3FFFFFFFL) << 22;
+            final long value27 = src[i + 27] & 0x3FFFFFFFL;
+            words[index + 12] = word | value27 >>> 8;
+            word = value27 << 56;
+            word |= (src[i + 28] & 0x3FFFFFFFL) << 26;
+            final long value29 = src[i + 29] & 0x3FFFFFFFL;
+            words[index + 13] = word | value29 >>> 4;
+            word = value29 << 60;
+            word |= (src[i + 30] & 0x3FFFFFFFL) << 30;
+            words[index + 14] = word | (src[i + 31] & 0x3FFFFFFFL);
+            index += 15;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 31-bit values into each of {@code count} blocks of
+     * {@code 31} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack31(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFFFFFL) << 33;
+            word |= (src[i + 1] & 0x7FFFFFFFL) << 2;
+            final long value2 = src[i + 2] & 0x7FFFFFFFL;
+            words[index] = word | value2 >>> 29;
+            word = value2 << 35;
+            word |= (src[i + 3] & 0x7FFFFFFFL) << 4;
+            final long value4 = src[i + 4] & 0x7FFFFFFFL;
+            words[index + 1] = word | value4 >>> 27;
+            word = value4 << 37;
+            word |= (src[i + 5] & 0x7FFFFFFFL) << 6;
+            final long value6 = src[i + 6] & 0x7FFFFFFFL;
+            words[index + 2] = word | value6 >>> 25;
+            word = value6 << 39;
+            word |= (src[i + 7] & 0x7FFFFFFFL) << 8;
+            final long value8 = src[i + 8] & 0x7FFFFFFFL;
+            words[index + 3] = word | value8 >>> 23;
+            word = value8 << 41;
+            word |= (src[i + 9] & 0x7FFFFFFFL) << 10;
+            final long value10 = src[i + 10] & 0x7FFFFFFFL;
+            words[index + 4] = word | value10 >>> 21;
+            word = value10 << 43;
+            word |= (src[i + 11] & 0x7FFFFFFFL) << 12;
+            final long value12 = src[i + 12] & 0x7FFFFFFFL;
+            words[index + 5] = word | value12 >>> 19;
+            word = value12 << 45;
+            word |= (src[i + 13] & 0x7FFFFFFFL) << 14;
+            final long value14 = src[i + 14] & 0x7FFFFFFFL;
+            words[index + 6] = word | value14 >>> 17;
+            word = value14 << 47;
+            word |= (src[i + 15] & 0x7FFFFFFFL) << 16;
+            final long value16 = src[i + 16] & 0x7FFFFFFFL;
+            words[index + 7] = word | value16 >>> 15;
+            word = value16 << 49;
+            word |= (src[i + 17] & 0x7FFFFFFFL) << 18;
+            final long value18 = src[i + 18] & 0x7FFFFFFFL;
+            words[index + 8] = word | value18 >>> 13;
+            word = value18 << 51;
+            word |= (src[i + 19] & 0x7FFFFFFFL) << 20;
+            final long value20 = src[i + 20] & 0x7FFFFFFFL;
+            words[index + 9] = word | value20 >>> 11;
+            word = value20 << 53;
+            word |= (src[i + 21] & 0x7FFFFFFFL) << 22;
+            final long value22 = src[i + 22] & 0x7FFFFFFFL;
+            words[index + 10] = word | value22 >>> 9;
+            word = value22 << 55;
+            word |= (src[i + 23] & 0x7FFFFFFFL) << 24;
+            final long value24 = src[i + 24] & 0x7FFFFFFFL;
+            words[index + 11] = word | value24 >>> 7;
+            word = value24 << 57;
+            word |= (src[i + 25] & 0x7FFFFFFFL) << 26;
+            final long value26 = src[i + 26] & 0x7FFFFFFFL;
+            words[index + 12] = word | value26 >>> 5;
+            word = value26 << 59;
+            word |= (src[i + 27] & 0x7FFFFFFFL) << 28;
+            final long value28 = src[i + 28] & 0x7FFFFFFFL;
+            words[index + 13] = word | value28 >>> 3;
+            word = value28 << 61;
+            word |= (src[i + 29] & 0x7FFFFFFFL) << 30;
+            final long value30 = src[i + 30] & 0x7FFFFFFFL;
+            words[index + 14] = word | value30 >>> 1;
+            word = value30 << 63;
+            word |= (src[i + 31] & 0x7FFFFFFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFFFFFL) << 1;
+            final long value33 = src[i + 33] & 0x7FFFFFFFL;
+            words[index + 15] = word | value33 >>> 30;
+            word = value33 << 34;
+            word |= (src[i + 34] & 0x7FFFFFFFL) << 3;
+            final long value35 = src[i + 35] & 0x7FFFFFFFL;
+            words[index + 16] = word | value35 >>> 28;
+            word = value35 << 36;
+            word |= (src[i + 36] & 0x7FFFFFFFL) << 5;
+            final long value37 = src[i + 37] & 0x7FFFFFFFL;
+            words[index + 17] = word | value37 >>> 26;
+            word = value37 << 38;
+            word |= (src[i + 38] & 0x7FFFFFFFL) << 7;
+            final long value39 = src[i + 39] & 0x7FFFFFFFL;
+            words[index + 18] = word | value39 >>> 24;
+            word = value39 << 40;
+            word |= (src[i + 40] & 0x7FFFFFFFL) << 9;
+            final long value41 = src[i + 41] & 0x7FFFFFFFL;
+            words[index + 19] = word | value41 >>> 22;
+            word = value41 << 42;
+            word |= (src[i + 42] & 0x7FFFFFFFL) << 11;
+            final long value43 = src[i + 43] & 0x7FFFFFFFL;
+            words[index + 20] = word | value43 >>> 20;
+            word = value43 << 44;
+            word |= (src[i + 44] & 0x7FFFFFFFL) << 13;
+            final long value45 = src[i + 45] & 0x7FFFFFFFL;
+            words[index + 21] = word | value45 >>> 18;
+            word = value45 << 46;
+            word |= (src[i + 46] & 0x7FFFFFFFL) << 15;
+            final long value47 = src[i + 47] & 0x7FFFFFFFL;
+            words[index + 22] = word | value47 >>> 16;
+            word = value47 << 48;
+            word |= (src[i + 48] & 0x7FFFFFFFL) << 17;
+            final long value49 = src[i + 49] & 0x7FFFFFFFL;
+            words[index + 23] = word | value49 >>> 14;
+            word = value49 << 50;
+            word |= (src[i + 50] & 0x7FFFFFFFL) << 19;
+            final long value51 = src[i + 51] & 0x7FFFFFFFL;
+            words[index + 24] = word | value51 >>> 12;
+            word = value51 << 52;
+            word |= (src[i + 52] & 0x7FFFFFFFL) << 21;
+            final long value53 = src[i + 53] & 0x7FFFFFFFL;
+            words[index + 25] = word | value53 >>> 10;
+            word = value53 << 54;
+            word |= (src[i + 54] & 0x7FFFFFFFL) << 23;
+            final long value55 = src[i + 55] & 0x7FFFFFFFL;
+            words[index + 26] = word | value55 >>> 8;
+            word = value55 << 56;
+            word |= (src[i + 56] & 0x7FFFFFFFL) << 25;
+            final long value57 = src[i + 57] & 0x7FFFFFFFL;
+            words[index + 27] = word | value57 >>> 6;
+            word = value57 << 58;
+            word |= (src[i + 58] & 0x7FFFFFFFL) << 27;
+            final long value59 = src[i + 59] & 0x7FFFFFFFL;
+            words[index + 28] = word | value59 >>> 4;
+            word = value59 << 60;
+            word |= (src[i + 60] & 0x7FFFFFFFL) << 29;
+            final long value61 = src[i + 61] & 0x7FFFFFFFL;
+            words[index + 29] = word | value61 >>> 2;
+            word = value61 << 62;
+            word |= (src[i + 62] & 0x7FFFFFFFL) << 31;
+            words[index + 30] = word | (src[i + 63] & 0x7FFFFFFFL);
+            index += 31;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 2} 32-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the int array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack32(final long[] words, int index, final int count,
+                               final int[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFFFFFL) << 32;
+            words[index] = word | (src[i + 1] & 0xFFFFFFFFL);
+            index++;
+            i += 2;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Packs {@code 64} 1-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack1(final long[] words, int index, final int count,
+                              final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1L) << 63;
+            word |= (src[i + 1] & 0x1L) << 62;
+            word |= (src[i + 2] & 0x1L) << 61;
+            word |= (src[i + 3] & 0x1L) << 60;
+            word |= (src[i + 4] & 0x1L) << 59;
+            word |= (src[i + 5] & 0x1L) << 58;
+            word |= (src[i + 6] & 0x1L) << 57;
+            word |= (src[i + 7] & 0x1L) << 56;
+            word |= (src[i + 8] & 0x1L) << 55;
+            word |= (src[i + 9] & 0x1L) << 54;
+            word |= (src[i + 10] & 0x1L) << 53;
+            word |= (src[i + 11] & 0x1L) << 52;
+            word |= (src[i + 12] & 0x1L) << 51;
+            word |= (src[i + 13] & 0x1L) << 50;
+            word |= (src[i + 14] & 0x1L) << 49;
+            word |= (src[i + 15] & 0x1L) << 48;
+            word |= (src[i + 16] & 0x1L) << 47;
+            word |= (src[i + 17] & 0x1L) << 46;
+            word |= (src[i + 18] & 0x1L) << 45;
+            word |= (src[i + 19] & 0x1L) << 44;
+            word |= (src[i + 20] & 0x1L) << 43;
+            word |= (src[i + 21] & 0x1L) << 42;
+            word |= (src[i + 22] & 0x1L) << 41;
+            word |= (src[i + 23] & 0x1L) << 40;
+            word |= (src[i + 24] & 0x1L) << 39;
+            word |= (src[i + 25] & 0x1L) << 38;
+            word |= (src[i + 26] & 0x1L) << 37;
+            word |= (src[i + 27] & 0x1L) << 36;
+            word |= (src[i + 28] & 0x1L) << 35;
+            word |= (src[i + 29] & 0x1L) << 34;
+            word |= (src[i + 30] & 0x1L) << 33;
+            word |= (src[i + 31] & 0x1L) << 32;
+            word |= (src[i + 32] & 0x1L) << 31;
+            word |= (src[i + 33] & 0x1L) << 30;
+            word |= (src[i + 34] & 0x1L) << 29;
+            word |= (src[i + 35] & 0x1L) << 28;
+            word |= (src[i + 36] & 0x1L) << 27;
+            word |= (src[i + 37] & 0x1L) << 26;
+            word |= (src[i + 38] & 0x1L) << 25;
+            word |= (src[i + 39] & 0x1L) << 24;
+            word |= (src[i + 40] & 0x1L) << 23;
+            word |= (src[i + 41] & 0x1L) << 22;
+            word |= (src[i + 42] & 0x1L) << 21;
+            word |= (src[i + 43] & 0x1L) << 20;
+            word |= (src[i + 44] & 0x1L) << 19;
+            word |= (src[i + 45] & 0x1L) << 18;
+            word |= (src[i + 46] & 0x1L) << 17;
+            word |= (src[i + 47] & 0x1L) << 16;
+            word |= (src[i + 48] & 0x1L) << 15;
+            word |= (src[i + 49] & 0x1L) << 14;
+            word |= (src[i + 50] & 0x1L) << 13;
+            word |= (src[i + 51] & 0x1L) << 12;
+            word |= (src[i + 52] & 0x1L) << 11;
+            word |= (src[i + 53] & 0x1L) << 10;
+            word |= (src[i + 54] & 0x1L) << 9;
+            word |= (src[i + 55] & 0x1L) << 8;
+            word |= (src[i + 56] & 0x1L) << 7;
+            word |= (src[i + 57] & 0x1L) << 6;
+            word |= (src[i + 58] & 0x1L) << 5;
+            word |= (src[i + 59] & 0x1L) << 4;
+            word |= (src[i + 60] & 0x1L) << 3;
+            word |= (src[i + 61] & 0x1L) << 2;
+            word |= (src[i + 62] & 0x1L) << 1;
+            words[index] = word | (src[i + 63] & 0x1L);
+            index++;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 2-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack2(final long[] words, int index, final int count,
+                              final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3L) << 62;
+            word |= (src[i + 1] & 0x3L) << 60;
+            word |= (src[i + 2] & 0x3L) << 58;
+            word |= (src[i + 3] & 0x3L) << 56;
+            word |= (src[i + 4] & 0x3L) << 54;
+            word |= (src[i + 5] & 0x3L) << 52;
+            word |= (src[i + 6] & 0x3L) << 50;
+            word |= (src[i + 7] & 0x3L) << 48;
+            word |= (src[i + 8] & 0x3L) << 46;
+            word |= (src[i + 9] & 0x3L) << 44;
+            word |= (src[i + 10] & 0x3L) << 42;
+            word |= (src[i + 11] & 0x3L) << 40;
+            word |= (src[i + 12] & 0x3L) << 38;
+            word |= (src[i + 13] & 0x3L) << 36;
+            word |= (src[i + 14] & 0x3L) << 34;
+            word |= (src[i + 15] & 0x3L) << 32;
+            word |= (src[i + 16] & 0x3L) << 30;
+            word |= (src[i + 17] & 0x3L) << 28;
+            word |= (src[i + 18] & 0x3L) << 26;
+            word |= (src[i + 19] & 0x3L) << 24;
+            word |= (src[i + 20] & 0x3L) << 22;
+            word |= (src[i + 21] & 0x3L) << 20;
+            word |= (src[i + 22] & 0x3L) << 18;
+            word |= (src[i + 23] & 0x3L) << 16;
+            word |= (src[i + 24] & 0x3L) << 14;
+            word |= (src[i + 25] & 0x3L) << 12;
+            word |= (src[i + 26] & 0x3L) << 10;
+            word |= (src[i + 27] & 0x3L) << 8;
+            word |= (src[i + 28] & 0x3L) << 6;
+            word |= (src[i + 29] & 0x3L) << 4;
+            word |= (src[i + 30] & 0x3L) << 2;
+            words[index] = word | (src[i + 31] & 0x3L);
+            index++;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 3-bit values into each of {@code count} blocks of {@code
+     * 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack3(final long[] words, int index, final int count,
+                              final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7L) << 61;
+            word |= (src[i + 1] & 0x7L) << 58;
+            word |= (src[i + 2] & 0x7L) << 55;
+            word |= (src[i + 3] & 0x7L) << 52;
+            word |= (src[i + 4] & 0x7L) << 49;
+            word |= (src[i + 5] & 0x7L) << 46;
+            word |= (src[i + 6] & 0x7L) << 43;
+            word |= (src[i + 7] & 0x7L) << 40;
+            word |= (src[i + 8] & 0x7L) << 37;
+            word |= (src[i + 9] & 0x7L) << 34;
+            word |= (src[i + 10] & 0x7L) << 31;
+            word |= (src[i + 11] & 0x7L) << 28;
+            word |= (src[i + 12] & 0x7L) << 25;
+            word |= (src[i + 13] & 0x7L) << 22;
+            word |= (src[i + 14] & 0x7L) << 19;
+            word |= (src[i + 15] & 0x7L) << 16;
+            word |= (src[i + 16] & 0x7L) << 13;
+            word |= (src[i + 17] & 0x7L) << 10;
+            word |= (src[i + 18] & 0x7L) << 7;
+            word |= (src[i + 19] & 0x7L) << 4;
+            word |= (src[i + 20] & 0x7L) << 1;
+            final long value21 = src[i + 21] & 0x7L;
+            words[index] = word | value21 >>> 2;
+            word = value21 << 62;
+            word |= (src[i + 22] & 0x7L) << 59;
+            word |= (src[i + 23] & 0x7L) << 56;
+            word |= (src[i + 24] & 0x7L) << 53;
+            word |= (src[i + 25] & 0x7L) << 50;
+            word |= (src[i + 26] & 0x7L) << 47;
+            word |= (src[i + 27] & 0x7L) << 44;
+            word |= (src[i + 28] & 0x7L) << 41;
+            word |= (src[i + 29] & 0x7L) << 38;
+            word |= (src[i + 30] & 0x7L) << 35;
+            word |= (src[i + 31] & 0x7L) << 32;
+            word |= (src[i + 32] & 0x7L) << 29;
+            word |= (src[i + 33] & 0x7L) << 26;
+            word |= (src[i + 34] & 0x7L) << 23;
+            word |= (src[i + 35] & 0x7L) << 20;
+            word |= (src[i + 36] & 0x7L) << 17;
+            word |= (src[i + 37] & 0x7L) << 14;
+            word |= (src[i + 38] & 0x7L) << 11;
+            word |= (src[i + 39] & 0x7L) << 8;
+            word |= (src[i + 40] & 0x7L) << 5;
+            word |= (src[i + 41] & 0x7L) << 2;
+            final long value42 = src[i + 42] & 0x7L;
+            words[index + 1] = word | value42 >>> 1;
+            word = value42 << 63;
+            word |= (src[i + 43] & 0x7L) << 60;
+            word |= (src[i + 44] & 0x7L) << 57;
+            word |= (src[i + 45] & 0x7L) << 54;
+            word |= (src[i + 46] & 0x7L) << 51;
+            word |= (src[i + 47] & 0x7L) << 48;
+            word |= (src[i + 48] & 0x7L) << 45;
+            word |= (src[i + 49] & 0x7L) << 42;
+            word |= (src[i + 50] & 0x7L) << 39;
+            word |= (src[i + 51] & 0x7L) << 36;
+            word |= (src[i + 52] & 0x7L) << 33;
+            word |= (src[i + 53] & 0x7L) << 30;
+            word |= (src[i + 54] & 0x7L) << 27;
+            word |= (src[i + 55] & 0x7L) << 24;
+            word |= (src[i + 56] & 0x7L) << 21;
+            word |= (src[i + 57] & 0x7L) << 18;
+            word |= (src[i + 58] & 0x7L) << 15;
+            word |= (src[i + 59] & 0x7L) << 12;
+            word |= (src[i + 60] & 0x7L) << 9;
+            word |= (src[i + 61] & 0x7L) << 6;
+            word |= (src[i + 62] & 0x7L) << 3;
+            words[index + 2] = word | (src[i + 63] & 0x7L);
+            index += 3;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 16} 4-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack4(final long[] words, int index, final int count,
+                              final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFL) << 60;
+            word |= (src[i + 1] & 0xFL) << 56;
+            word |= (src[i + 2] & 0xFL) << 52;
+            word |= (src[i + 3] & 0xFL) << 48;
+            word |= (src[i + 4] & 0xFL) << 44;
+            word |= (src[i + 5] & 0xFL) << 40;
+            word |= (src[i + 6] & 0xFL) << 36;
+            word |= (src[i + 7] & 0xFL) << 32;
+            word |= (src[i + 8] & 0xFL) << 28;
+            word |= (src[i + 9] & 0xFL) << 24;
+            word |= (src[i + 10] & 0xFL) << 20;
+            word |= (src[i + 11] & 0xFL) << 16;
+            word |= (src[i + 12] & 0xFL) << 12;
+            word |= (src[i + 13] & 0xFL) << 8;
+            word |= (src[i + 14] & 0xFL) << 4;
+            words[index] = word | (src[i + 15] & 0xFL);
+            index++;
+            i += 16;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 5-bit values into each of {@code count} blocks of {@code
+     * 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack5(final long[] words, int index, final int count,
+                              final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FL) << 59;
+            word |= (src[i + 1] & 0x1FL) << 54;
+            word |= (src[i + 2] & 0x1FL) << 49;
+            word |= (src[i + 3] & 0x1FL) << 44;
+            word |= (src[i + 4] & 0x1FL) << 39;
+            word |= (src[i + 5] & 0x1FL) << 34;
+            word |= (src[i + 6] & 0x1FL) << 29;
+            word |= (src[i + 7] & 0x1FL) << 24;
+            word |= (src[i + 8] & 0x1FL) << 19;
+            word |= (src[i + 9] & 0x1FL) << 14;
+            word |= (src[i + 10] & 0x1FL) << 9;
+            word |= (src[i + 11] & 0x1FL) << 4;
+            final long value12 = src[i + 12] & 0x1FL;
+            words[index] = word | value12 >>> 1;
+            word = value12 << 63;
+            word |= (src[i + 13] & 0x1FL) << 58;
+            word |= (src[i + 14] & 0x1FL) << 53;
+            word |= (src[i + 15] & 0x1FL) << 48;
+            word |= (src[i + 16] & 0x1FL) << 43;
+            word |= (src[i + 17] & 0x1FL) << 38;
+            word |= (src[i + 18] & 0x1FL) << 33;
+            word |= (src[i + 19] & 0x1FL) << 28;
+            word |= (src[i + 20] & 0x1FL) << 23;
+            word |= (src[i + 21] & 0x1FL) << 18;
+            word |= (src[i + 22] & 0x1FL) << 13;
+            word |= (src[i + 23] & 0x1FL) << 8;
+            word |= (src[i + 24] & 0x1FL) << 3;
+            final long value25 = src[i + 25] & 0x1FL;
+            words[index + 1] = word | value25 >>> 2;
+            word = value25 << 62;
+            word |= (src[i + 26] & 0x1FL) << 57;
+            word |= (src[i + 27] & 0x1FL) << 52;
+            word |= (src[i + 28] & 0x1FL) << 47;
+            word |= (src[i + 29] & 0x1FL) << 42;
+            word |= (src[i + 30] & 0x1FL) << 37;
+            word |= (src[i + 31] & 0x1FL) << 32;
+            word |= (src[i + 32] & 0x1FL) << 27;
+            word |= (src[i + 33] & 0x1FL) << 22;
+            word |= (src[i + 34] & 0x1FL) << 17;
+            word |= (src[i + 35] & 0x1FL) << 12;
+            word |= (src[i + 36] & 0x1FL) << 7;
+            word |= (src[i + 37] & 0x1FL) << 2;
+            final long value38 = src[i + 38] & 0x1FL;
+            words[index + 2] = word | value38 >>> 3;
+            word = value38 << 61;
+            word |= (src[i + 39] & 0x1FL) << 56;
+            word |= (src[i + 40] & 0x1FL) << 51;
+            word |= (src[i + 41] & 0x1FL) << 46;
+            word |= (src[i + 42] & 0x1FL) << 41;
+            word |= (src[i + 43] & 0x1FL) << 36;
+            word |= (src[i + 44] & 0x1FL) << 31;
+            word |= (src[i + 45] & 0x1FL) << 26;
+            word |= (src[i + 46] & 0x1FL) << 21;
+            word |= (src[i + 47] & 0x1FL) << 16;
+            word |= (src[i + 48] & 0x1FL) << 11;
+            word |= (src[i + 49] & 0x1FL) << 6;
+            word |= (src[i + 50] & 0x1FL) << 1;
+            final long value51 = src[i + 51] & 0x1FL;
+            words[index + 3] = word | value51 >>> 4;
+            word = value51 << 60;
+            word |= (src[i + 52] & 0x1FL) << 55;
+            word |= (src[i + 53] & 0x1FL) << 50;
+            word |= (src[i + 54] & 0x1FL) << 45;
+            word |= (src[i + 55] & 0x1FL) << 40;
+            word |= (src[i + 56] & 0x1FL) << 35;
+            word |= (src[i + 57] & 0x1FL) << 30;
+            word |= (src[i + 58] & 0x1FL) << 25;
+            word |= (src[i + 59] & 0x1FL) << 20;
+            word |= (src[i + 60] & 0x1FL) << 15;
+            word |= (src[i + 61] & 0x1FL) << 10;
+            word |= (src[i + 62] & 0x1FL) << 5;
+            words[index + 4] = word | (src[i + 63] & 0x1FL);
+            index += 5;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 6-bit values into each of {@code count} blocks of {@code
+     * 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack6(final long[] words, int index, final int count,
+                              final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FL) << 58;
+            word |= (src[i + 1] & 0x3FL) << 52;
+            word |= (src[i + 2] & 0x3FL) << 46;
+            word |= (src[i + 3] & 0x3FL) << 40;
+            word |= (src[i + 4] & 0x3FL) << 34;
+            word |= (src[i + 5] & 0x3FL) << 28;
+            word |= (src[i + 6] & 0x3FL) << 22;
+            word |= (src[i + 7] & 0x3FL) << 16;
+            word |= (src[i + 8] & 0x3FL) << 10;
+            word |= (src[i + 9] & 0x3FL) << 4;
+            final long value10 = src[i + 10] & 0x3FL;
+            words[index] = word | value10 >>> 2;
+            word = value10 << 62;
+            word |= (src[i + 11] & 0x3FL) << 56;
+            word |= (src[i + 12] & 0x3FL) << 50;
+            word |= (src[i + 13] & 0x3FL) << 44;
+            word |= (src[i + 14] & 0x3FL) << 38;
+            word |= (src[i + 15] & 0x3FL) << 32;
+            word |= (src[i + 16] & 0x3FL) << 26;
+            word |= (src[i + 17] & 0x3FL) << 20;
+            word |= (src[i + 18] & 0x3FL) << 14;
+            word |= (src[i + 19] & 0x3FL) << 8;
+            word |= (src[i + 20] & 0x3FL) << 2;
+            final long value21 = src[i + 21] & 0x3FL;
+            words[index + 1] = word | value21 >>> 4;
+            word = value21 << 60;
+            word |= (src[i + 22] & 0x3FL) << 54;
+            word |= (src[i + 23] & 0x3FL) << 48;
+            word |= (src[i + 24] & 0x3FL) << 42;
+            word |= (src[i + 25] & 0x3FL) << 36;
+            word |= (src[i + 26] & 0x3FL) << 30;
+            word |= (src[i + 27] & 0x3FL) << 24;
+            word |= (src[i + 28] & 0x3FL) << 18;
+            word |= (src[i + 29] & 0x3FL) << 12;
+            word |= (src[i + 30] & 0x3FL) << 6;
+            words[index + 2] = word | (src[i + 31] & 0x3FL);
+            index += 3;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 7-bit values into each of {@code count} blocks of {@code
+     * 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack7(final long[] words, int index, final int count,
+                              final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FL) << 57;
+            word |= (src[i + 1] & 0x7FL) << 50;
+            word |= (src[i + 2] & 0x7FL) << 43;
+            word |= (src[i + 3] & 0x7FL) << 36;
+            word |= (src[i + 4] & 0x7FL) << 29;
+            word |= (src[i + 5] & 0x7FL) << 22;
+            word |= (src[i + 6] & 0x7FL) << 15;
+            word |= (src[i + 7] & 0x7FL) << 8;
+            word |= (src[i + 8] & 0x7FL) << 1;
+            final long value9 = src[i + 9] & 0x7FL;
+            words[index] = word | value9 >>> 6;
+            word = value9 << 58;
+            word |= (src[i + 10] & 0x7FL) << 51;
+            word |= (src[i + 11] & 0x7FL) << 44;
+            word |= (src[i + 12] & 0x7FL) << 37;
+            word |= (src[i + 13] & 0x7FL) << 30;
+            word |= (src[i + 14] & 0x7FL) << 23;
+            word |= (src[i + 15] & 0x7FL) << 16;
+            word |= (src[i + 16] & 0x7FL) << 9;
+            word |= (src[i + 17] & 0x7FL) << 2;
+            final long value18 = src[i + 18] & 0x7FL;
+            words[index + 1] = word | value18 >>> 5;
+            word = value18 << 59;
+            word |= (src[i + 19] & 0x7FL) << 52;
+            word |= (src[i + 20] & 0x7FL) << 45;
+            word |= (src[i + 21] & 0x7FL) << 38;
+            word |= (src[i + 22] & 0x7FL) << 31;
+            word |= (src[i + 23] & 0x7FL) << 24;
+            word |= (src[i + 24] & 0x7FL) << 17;
+            word |= (src[i + 25] & 0x7FL) << 10;
+            word |= (src[i + 26] & 0x7FL) << 3;
+            final long value27 = src[i + 27] & 0x7FL;
+            words[index + 2] = word | value27 >>> 4;
+            word = value27 << 60;
+            word |= (src[i + 28] & 0x7FL) << 53;
+            word |= (src[i + 29] & 0x7FL) << 46;
+            word |= (src[i + 30] & 0x7FL) << 39;
+            word |= (src[i + 31] & 0x7FL) << 32;
+            word |= (src[i + 32] & 0x7FL) << 25;
+            word |= (src[i + 33] & 0x7FL) << 18;
+            word |= (src[i + 34] & 0x7FL) << 11;
+            word |= (src[i + 35] & 0x7FL) << 4;
+            final long value36 = src[i + 36] & 0x7FL;
+            words[index + 3] = word | value36 >>> 3;
+            word = value36 << 61;
+            word |= (src[i + 37] & 0x7FL) << 54;
+            word |= (src[i + 38] & 0x7FL) << 47;
+            word |= (src[i + 39] & 0x7FL) << 40;
+            word |= (src[i + 40] & 0x7FL) << 33;
+            word |= (src[i + 41] & 0x7FL) << 26;
+            word |= (src[i + 42] & 0x7FL) << 19;
+            word |= (src[i + 43] & 0x7FL) << 12;
+            word |= (src[i + 44] & 0x7FL) << 5;
+            final long value45 = src[i + 45] & 0x7FL;
+            words[index + 4] = word | value45 >>> 2;
+            word = value45 << 62;
+            word |= (src[i + 46] & 0x7FL) << 55;
+            word |= (src[i + 47] & 0x7FL) << 48;
+            word |= (src[i + 48] & 0x7FL) << 41;
+            word |= (src[i + 49] & 0x7FL) << 34;
+            word |= (src[i + 50] & 0x7FL) << 27;
+            word |= (src[i + 51] & 0x7FL) << 20;
+            word |= (src[i + 52] & 0x7FL) << 13;
+            word |= (src[i + 53] & 0x7FL) << 6;
+            final long value54 = src[i + 54] & 0x7FL;
+            words[index + 5] = word | value54 >>> 1;
+            word = value54 << 63;
+            word |= (src[i + 55] & 0x7FL) << 56;
+            word |= (src[i + 56] & 0x7FL) << 49;
+            word |= (src[i + 57] & 0x7FL) << 42;
+            word |= (src[i + 58] & 0x7FL) << 35;
+            word |= (src[i + 59] & 0x7FL) << 28;
+            word |= (src[i + 60] & 0x7FL) << 21;
+            word |= (src[i + 61] & 0x7FL) << 14;
+            word |= (src[i + 62] & 0x7FL) << 7;
+            words[index + 6] = word | (src[i + 63] & 0x7FL);
+            index += 7;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 8} 8-bit values into each of {@code count} words starting at
+     * {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack8(final long[] words, int index, final int count,
+                              final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFL) << 56;
+            word |= (src[i + 1] & 0xFFL) << 48;
+            word |= (src[i + 2] & 0xFFL) << 40;
+            word |= (src[i + 3] & 0xFFL) << 32;
+            word |= (src[i + 4] & 0xFFL) << 24;
+            word |= (src[i + 5] & 0xFFL) << 16;
+            word |= (src[i + 6] & 0xFFL) << 8;
+            words[index] = word | (src[i + 7] & 0xFFL);
+            index++;
+            i += 8;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 9-bit values into each of {@code count} blocks of {@code
+     * 9} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack9(final long[] words, int index, final int count,
+                              final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFL) << 55;
+            word |= (src[i + 1] & 0x1FFL) << 46;
+            word |= (src[i + 2] & 0x1FFL) << 37;
+            word |= (src[i + 3] & 0x1FFL) << 28;
+            word |= (src[i + 4] & 0x1FFL) << 19;
+            word |= (src[i + 5] & 0x1FFL) << 10;
+            word |= (src[i + 6] & 0x1FFL) << 1;
+            final long value7 = src[i + 7] & 0x1FFL;
+            words[index] = word | value7 >>> 8;
+            word = value7 << 56;
+            word |= (src[i + 8] & 0x1FFL) << 47;
+            word |= (src[i + 9] & 0x1FFL) << 38;
+            word |= (src[i + 10] & 0x1FFL) << 29;
+            word |= (src[i + 11] & 0x1FFL) << 20;
+            word |= (src[i + 12] & 0x1FFL) << 11;
+            word |= (src[i + 13] & 0x1FFL) << 2;
+            final long value14 = src[i + 14] & 0x1FFL;
+            words[index + 1] = word | value14 >>> 7;
+            word = value14 << 57;
+            word |= (src[i + 15] & 0x1FFL) << 48;
+            word |= (src[i + 16] & 0x1FFL) << 39;
+            word |= (src[i + 17] & 0x1FFL) << 30;
+            word |= (src[i + 18] & 0x1FFL) << 21;
+            word |= (src[i + 19] & 0x1FFL) << 12;
+            word |= (src[i + 20] & 0x1FFL) << 3;
+            final long value21 = src[i + 21] & 0x1FFL;
+            words[index + 2] = word | value21 >>> 6;
+            word = value21 << 58;
+            word |= (src[i + 22] & 0x1FFL) << 49;
+            word |= (src[i + 23] & 0x1FFL) << 40;
+            word |= (src[i + 24] & 0x1FFL) << 31;
+            word |= (src[i + 25] & 0x1FFL) << 22;
+            word |= (src[i + 26] & 0x1FFL) << 13;
+            word |= (src[i + 27] & 0x1FFL) << 4;
+            final long value28 = src[i + 28] & 0x1FFL;
+            words[index + 3] = word | value28 >>> 5;
+            word = value28 << 59;
+            word |= (src[i + 29] & 0x1FFL) << 50;
+            word |= (src[i + 30] & 0x1FFL) << 41;
+            word |= (src[i + 31] & 0x1FFL) << 32;
+            word |= (src[i + 32] & 0x1FFL) << 23;
+            word |= (src[i + 33] & 0x1FFL) << 14;
+            word |= (src[i + 34] & 0x1FFL) << 5;
+            final long value35 = src[i + 35] & 0x1FFL;
+            words[index + 4] = word | value35 >>> 4;
+            word = value35 << 60;
+            word |= (src[i + 36] & 0x1FFL) << 51;
+            word |= (src[i + 37] & 0x1FFL) << 42;
+            word |= (src[i + 38] & 0x1FFL) << 33;
+            word |= (src[i + 39] & 0x1FFL) << 24;
+            word |= (src[i + 40] & 0x1FFL) << 15;
+            word |= (src[i + 41] & 0x1FFL) << 6;
+            final long value42 = src[i + 42] & 0x1FFL;
+            words[index + 5] = word | value42 >>> 3;
+            word = value42 << 61;
+            word |= (src[i + 43] & 0x1FFL) << 52;
+            word |= (src[i + 44] & 0x1FFL) << 43;
+            word |= (src[i + 45] & 0x1FFL) << 34;
+            word |= (src[i + 46] & 0x1FFL) << 25;
+            word |= (src[i + 47] & 0x1FFL) << 16;
+            word |= (src[i + 48] & 0x1FFL) << 7;
+            final long value49 = src[i + 49] & 0x1FFL;
+            words[index + 6] = word | value49 >>> 2;
+            word = value49 << 62;
+            word |= (src[i + 50] & 0x1FFL) << 53;
+            word |= (src[i + 51] & 0x1FFL) << 44;
+            word |= (src[i + 52] & 0x1FFL) << 35;
+            word |= (src[i + 53] & 0x1FFL) << 26;
+            word |= (src[i + 54] & 0x1FFL) << 17;
+            word |= (src[i + 55] & 0x1FFL) << 8;
+            final long value56 = src[i + 56] & 0x1FFL;
+            words[index + 7] = word | value56 >>> 1;
+            word = value56 << 63;
+            word |= (src[i + 57] & 0x1FFL) << 54;
+            word |= (src[i + 58] & 0x1FFL) << 45;
+            word |= (src[i + 59] & 0x1FFL) << 36;
+            word |= (src[i + 60] & 0x1FFL) << 27;
+            word |= (src[i + 61] & 0x1FFL) << 18;
+            word |= (src[i + 62] & 0x1FFL) << 9;
+            words[index + 8] = word | (src[i + 63] & 0x1FFL);
+            index += 9;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 10-bit values into each of {@code count} blocks of
+     * {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack10(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFL) << 54;
+            word |= (src[i + 1] & 0x3FFL) << 44;
+            word |= (src[i + 2] & 0x3FFL) << 34;
+            word |= (src[i + 3] & 0x3FFL) << 24;
+            word |= (src[i + 4] & 0x3FFL) << 14;
+            word |= (src[i + 5] & 0x3FFL) << 4;
+            final long value6 = src[i + 6] & 0x3FFL;
+            words[index] = word | value6 >>> 6;
+            word = value6 << 58;
+            word |= (src[i + 7] & 0x3FFL) << 48;
+            word |= (src[i + 8] & 0x3FFL) << 38;
+            word |= (src[i + 9] & 0x3FFL) << 28;
+            word |= (src[i + 10] & 0x3FFL) << 18;
+            word |= (src[i + 11] & 0x3FFL) << 8;
+            final long value12 = src[i + 12] & 0x3FFL;
+            words[index + 1] = word | value12 >>> 2;
+            word = value12 << 62;
+            word |= (src[i + 13] & 0x3FFL) << 52;
+            word |= (src[i + 14] & 0x3FFL) << 42;
+            word |= (src[i + 15] & 0x3FFL) << 32;
+            word |= (src[i + 16] & 0x3FFL) << 22;
+            word |= (src[i + 17] & 0x3FFL) << 12;
+            word |= (src[i + 18] & 0x3FFL) << 2;
+            final long value19 = src[i + 19] & 0x3FFL;
+            words[index + 2] = word | value19 >>> 8;
+            word = value19 << 56;
+            word |= (src[i + 20] & 0x3FFL) << 46;
+            word |= (src[i + 21] & 0x3FFL) << 36;
+            word |= (src[i + 22] & 0x3FFL) << 26;
+            word |= (src[i + 23] & 0x3FFL) << 16;
+            word |= (src[i + 24] & 0x3FFL) << 6;
+            final long value25 = src[i + 25] & 0x3FFL;
+            words[index + 3] = word | value25 >>> 4;
+            word = value25 << 60;
+            word |= (src[i + 26] & 0x3FFL) << 50;
+            word |= (src[i + 27] & 0x3FFL) << 40;
+            word |= (src[i + 28] & 0x3FFL) << 30;
+            word |= (src[i + 29] & 0x3FFL) << 20;
+            word |= (src[i + 30] & 0x3FFL) << 10;
+            words[index + 4] = word | (src[i + 31] & 0x3FFL);
+            index += 5;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 11-bit values into each of {@code count} blocks of
+     * {@code 11} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack11(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFL) << 53;
+            word |= (src[i + 1] & 0x7FFL) << 42;
+            word |= (src[i + 2] & 0x7FFL) << 31;
+            word |= (src[i + 3] & 0x7FFL) << 20;
+            word |= (src[i + 4] & 0x7FFL) << 9;
+            final long value5 = src[i + 5] & 0x7FFL;
+            words[index] = word | value5 >>> 2;
+            word = value5 << 62;
+            word |= (src[i + 6] & 0x7FFL) << 51;
+            word |= (src[i + 7] & 0x7FFL) << 40;
+            word |= (src[i + 8] & 0x7FFL) << 29;
+            word |= (src[i + 9] & 0x7FFL) << 18;
+            word |= (src[i + 10] & 0x7FFL) << 7;
+            final long value11 = src[i + 11] & 0x7FFL;
+            words[index + 1] = word | value11 >>> 4;
+            word = value11 << 60;
+            word |= (src[i + 12] & 0x7FFL) << 49;
+            word |= (src[i + 13] & 0x7FFL) << 38;
+            word |= (src[i + 14] & 0x7FFL) << 27;
+            word |= (src[i + 15] & 0x7FFL) << 16;
+            word |= (src[i + 16] & 0x7FFL) << 5;
+            final long value17 = src[i + 17] & 0x7FFL;
+            words[index + 2] = word | value17 >>> 6;
+            word = value17 << 58;
+            word |= (src[i + 18] & 0x7FFL) << 47;
+            word |= (src[i + 19] & 0x7FFL) << 36;
+            word |= (src[i + 20] & 0x7FFL) << 25;
+            word |= (src[i + 21] & 0x7FFL) << 14;
+            word |= (src[i + 22] & 0x7FFL) << 3;
+            final long value23 = src[i + 23] & 0x7FFL;
+            words[index + 3] = word | value23 >>> 8;
+            word = value23 << 56;
+            word |= (src[i + 24] & 0x7FFL) << 45;
+            word |= (src[i + 25] & 0x7FFL) << 34;
+            word |= (src[i + 26] & 0x7FFL) << 23;
+            word |= (src[i + 27] & 0x7FFL) << 12;
+            word |= (src[i + 28] & 0x7FFL) << 1;
+            final long value29 = src[i + 29] & 0x7FFL;
+            words[index + 4] = word | value29 >>> 10;
+            word = value29 << 54;
+            word |= (src[i + 30] & 0x7FFL) << 43;
+            word |= (src[i + 31] & 0x7FFL) << 32;
+            word |= (src[i + 32] & 0x7FFL) << 21;
+            word |= (src[i + 33] & 0x7FFL) << 10;
+            final long value34 = src[i + 34] & 0x7FFL;
+            words[index + 5] = word | value34 >>> 1;
+            word = value34 << 63;
+            word |= (src[i + 35] & 0x7FFL) << 52;
+            word |= (src[i + 36] & 0x7FFL) << 41;
+            word |= (src[i + 37] & 0x7FFL) << 30;
+            word |= (src[i + 38] & 0x7FFL) << 19;
+            word |= (src[i + 39] & 0x7FFL) << 8;
+            final long value40 = src[i + 40] & 0x7FFL;
+            words[index + 6] = word | value40 >>> 3;
+            word = value40 << 61;
+            word |= (src[i + 41] & 0x7FFL) << 50;
+            word |= (src[i + 42] & 0x7FFL) << 39;
+            word |= (src[i + 43] & 0x7FFL) << 28;
+            word |= (src[i + 44] & 0x7FFL) << 17;
+            word |= (src[i + 45] & 0x7FFL) << 6;
+            final long value46 = src[i + 46] & 0x7FFL;
+            words[index + 7] = word | value46 >>> 5;
+            word = value46 << 59;
+            word |= (src[i + 47] & 0x7FFL) << 48;
+            word |= (src[i + 48] & 0x7FFL) << 37;
+            word |= (src[i + 49] & 0x7FFL) << 26;
+            word |= (src[i + 50] & 0x7FFL) << 15;
+            word |= (src[i + 51] & 0x7FFL) << 4;
+            final long value52 = src[i + 52] & 0x7FFL;
+            words[index + 8] = word | value52 >>> 7;
+            word = value52 << 57;
+            word |= (src[i + 53] & 0x7FFL) << 46;
+            word |= (src[i + 54] & 0x7FFL) << 35;
+            word |= (src[i + 55] & 0x7FFL) << 24;
+            word |= (src[i + 56] & 0x7FFL) << 13;
+            word |= (src[i + 57] & 0x7FFL) << 2;
+            final long value58 = src[i + 58] & 0x7FFL;
+            words[index + 9] = word | value58 >>> 9;
+            word = value58 << 55;
+            word |= (src[i + 59] & 0x7FFL) << 44;
+            word |= (src[i + 60] & 0x7FFL) << 33;
+            word |= (src[i + 61] & 0x7FFL) << 22;
+            word |= (src[i + 62] & 0x7FFL) << 11;
+            words[index + 10] = word | (src[i + 63] & 0x7FFL);
+            index += 11;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 16} 12-bit values into each of {@code count} blocks of
+     * {@code 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack12(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFL) << 52;
+            word |= (src[i + 1] & 0xFFFL) << 40;
+            word |= (src[i + 2] & 0xFFFL) << 28;
+            word |= (src[i + 3] & 0xFFFL) << 16;
+            word |= (src[i + 4] & 0xFFFL) << 4;
+            final long value5 = src[i + 5] & 0xFFFL;
+            words[index] = word | value5 >>> 8;
+            word = value5 << 56;
+            word |= (src[i + 6] & 0xFFFL) << 44;
+            word |= (src[i + 7] & 0xFFFL) << 32;
+            word |= (src[i + 8] & 0xFFFL) << 20;
+            word |= (src[i + 9] & 0xFFFL) << 8;
+            final long value10 = src[i + 10] & 0xFFFL;
+            words[index + 1] = word | value10 >>> 4;
+            word = value10 << 60;
+            word |= (src[i + 11] & 0xFFFL) << 48;
+            word |= (src[i + 12] & 0xFFFL) << 36;
+            word |= (src[i + 13] & 0xFFFL) << 24;
+            word |= (src[i + 14] & 0xFFFL) << 12;
+            words[index + 2] = word | (src[i + 15] & 0xFFFL);
+            index += 3;
+            i += 16;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 13-bit values into each of {@code count} blocks of
+     * {@code 13} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack13(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFL) << 51;
+            word |= (src[i + 1] & 0x1FFFL) << 38;
+            word |= (src[i + 2] & 0x1FFFL) << 25;
+            word |= (src[i + 3] & 0x1FFFL) << 12;
+            final long value4 = src[i + 4] & 0x1FFFL;
+            words[index] = word | value4 >>> 1;
+            word = value4 << 63;
+            word |= (src[i + 5] & 0x1FFFL) << 50;
+            word |= (src[i + 6] & 0x1FFFL) << 37;
+            word |= (src[i + 7] & 0x1FFFL) << 24;
+            word |= (src[i + 8] & 0x1FFFL) << 11;
+            final long value9 = src[i + 9] & 0x1FFFL;
+            words[index + 1] = word | value9 >>> 2;
+            word = value9 << 62;
+            word |= (src[i + 10] & 0x1FFFL) << 49;
+            word |= (src[i + 11] & 0x1FFFL) << 36;
+            word |= (src[i + 12] & 0x1FFFL) << 23;
+            word |= (src[i + 13] & 0x1FFFL) << 10;
+            final long value14 = src[i + 14] & 0x1FFFL;
+            words[index + 2] = word | value14 >>> 3;
+            word = value14 << 61;
+            word |= (src[i + 15] & 0x1FFFL) << 48;
+            word |= (src[i + 16] & 0x1FFFL) << 35;
+            word |= (src[i + 17] & 0x1FFFL) << 22;
+            word |= (src[i + 18] & 0x1FFFL) << 9;
+            final long value19 = src[i + 19] & 0x1FFFL;
+            words[index + 3] = word | value19 >>> 4;
+            word = value19 << 60;
+            word |= (src[i + 20] & 0x1FFFL) << 47;
+            word |= (src[i + 21] & 0x1FFFL) << 34;
+            word |= (src[i + 22] & 0x1FFFL) << 21;
+            word |= (src[i + 23] & 0x1FFFL) << 8;
+            final long value24 = src[i + 24] & 0x1FFFL;
+            words[index + 4] = word | value24 >>> 5;
+            word = value24 << 59;
+            word |= (src[i + 25] & 0x1FFFL) << 46;
+            word |= (src[i + 26] & 0x1FFFL) << 33;
+            word |= (src[i + 27] & 0x1FFFL) << 20;
+            word |= (src[i + 28] & 0x1FFFL) << 7;
+            final long value29 = src[i + 29] & 0x1FFFL;
+            words[index + 5] = word | value29 >>> 6;
+            word = value29 << 58;
+            word |= (src[i + 30] & 0x1FFFL) << 45;
+            word |= (src[i + 31] & 0x1FFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFL) << 19;
+            word |= (src[i + 33] & 0x1FFFL) << 6;
+            final long value34 = src[i + 34] & 0x1FFFL;
+            words[index + 6] = word | value34 >>> 7;
+            word = value34 << 57;
+            word |= (src[i + 35] & 0x1FFFL) << 44;
+            word |= (src[i + 36] & 0x1FFFL) << 31;
+            word |= (src[i + 37] & 0x1FFFL) << 18;
+            word |= (src[i + 38] & 0x1FFFL) << 5;
+            final long value39 = src[i + 39] & 0x1FFFL;
+            words[index + 7] = word | value39 >>> 8;
+            word = value39 << 56;
+            word |= (src[i + 40] & 0x1FFFL) << 43;
+            word |= (src[i + 41] & 0x1FFFL) << 30;
+            word |= (src[i + 42] & 0x1FFFL) << 17;
+            word |= (src[i + 43] & 0x1FFFL) << 4;
+            final long value44 = src[i + 44] & 0x1FFFL;
+            words[index + 8] = word | value44 >>> 9;
+            word = value44 << 55;
+            word |= (src[i + 45] & 0x1FFFL) << 42;
+            word |= (src[i + 46] & 0x1FFFL) << 29;
+            word |= (src[i + 47] & 0x1FFFL) << 16;
+            word |= (src[i + 48] & 0x1FFFL) << 3;
+            final long value49 = src[i + 49] & 0x1FFFL;
+            words[index + 9] = word | value49 >>> 10;
+            word = value49 << 54;
+            word |= (src[i + 50] & 0x1FFFL) << 41;
+            word |= (src[i + 51] & 0x1FFFL) << 28;
+            word |= (src[i + 52] & 0x1FFFL) << 15;
+            word |= (src[i + 53] & 0x1FFFL) << 2;
+            final long value54 = src[i + 54] & 0x1FFFL;
+            words[index + 10] = word | value54 >>> 11;
+            word = value54 << 53;
+            word |= (src[i + 55] & 0x1FFFL) << 40;
+            word |= (src[i + 56] & 0x1FFFL) << 27;
+            word |= (src[i + 57] & 0x1FFFL) << 14;
+            word |= (src[i + 58] & 0x1FFFL) << 1;
+            final long value59 = src[i + 59] & 0x1FFFL;
+            words[index + 11] = word | value59 >>> 12;
+            word = value59 << 52;
+            word |= (src[i + 60] & 0x1FFFL) << 39;
+            word |= (src[i + 61] & 0x1FFFL) << 26;
+            word |= (src[i + 62] & 0x1FFFL) << 13;
+            words[index + 12] = word | (src[i + 63] & 0x1FFFL);
+            index += 13;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 14-bit values into each of {@code count} blocks of
+     * {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack14(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFL) << 50;
+            word |= (src[i + 1] & 0x3FFFL) << 36;
+            word |= (src[i + 2] & 0x3FFFL) << 22;
+            word |= (src[i + 3] & 0x3FFFL) << 8;
+            final long value4 = src[i + 4] & 0x3FFFL;
+            words[index] = word | value4 >>> 6;
+            word = value4 << 58;
+            word |= (src[i + 5] & 0x3FFFL) << 44;
+            word |= (src[i + 6] & 0x3FFFL) << 30;
+            word |= (src[i + 7] & 0x3FFFL) << 16;
+            word |= (src[i + 8] & 0x3FFFL) << 2;
+            final long value9 = src[i + 9] & 0x3FFFL;
+            words[index + 1] = word | value9 >>> 12;
+            word = value9 << 52;
+            word |= (src[i + 10] & 0x3FFFL) << 38;
+            word |= (src[i + 11] & 0x3FFFL) << 24;
+            word |= (src[i + 12] & 0x3FFFL) << 10;
+            final long value13 = src[i + 13] & 0x3FFFL;
+            words[index + 2] = word | value13 >>> 4;
+            word = value13 << 60;
+            word |= (src[i + 14] & 0x3FFFL) << 46;
+            word |= (src[i + 15] & 0x3FFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFL) << 18;
+            word |= (src[i + 17] & 0x3FFFL) << 4;
+            final long value18 = src[i + 18] & 0x3FFFL;
+            words[index + 3] = word | value18 >>> 10;
+            word = value18 << 54;
+            word |= (src[i + 19] & 0x3FFFL) << 40;
+            word |= (src[i + 20] & 0x3FFFL) << 26;
+            word |= (src[i + 21] & 0x3FFFL) << 12;
+            final long value22 = src[i + 22] & 0x3FFFL;
+            words[index + 4] = word | value22 >>> 2;
+            word = value22 << 62;
+            word |= (src[i + 23] & 0x3FFFL) << 48;
+            word |= (src[i + 24] & 0x3FFFL) << 34;
+            word |= (src[i + 25] & 0x3FFFL) << 20;
+            word |= (src[i + 26] & 0x3FFFL) << 6;
+            final long value27 = src[i + 27] & 0x3FFFL;
+            words[index + 5] = word | value27 >>> 8;
+            word = value27 << 56;
+            word |= (src[i + 28] & 0x3FFFL) << 42;
+            word |= (src[i + 29] & 0x3FFFL) << 28;
+            word |= (src[i + 30] & 0x3FFFL) << 14;
+            words[index + 6] = word | (src[i + 31] & 0x3FFFL);
+            index += 7;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 15-bit values into each of {@code count} blocks of
+     * {@code 15} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack15(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFL) << 49;
+            word |= (src[i + 1] & 0x7FFFL) << 34;
+            word |= (src[i + 2] & 0x7FFFL) << 19;
+            word |= (src[i + 3] & 0x7FFFL) << 4;
+            final long value4 = src[i + 4] & 0x7FFFL;
+            words[index] = word | value4 >>> 11;
+            word = value4 << 53;
+            word |= (src[i + 5] & 0x7FFFL) << 38;
+            word |= (src[i + 6] & 0x7FFFL) << 23;
+            word |= (src[i + 7] & 0x7FFFL) << 8;
+            final long value8 = src[i + 8] & 0x7FFFL;
+            words[index + 1] = word | value8 >>> 7;
+            word = value8 << 57;
+            word |= (src[i + 9] & 0x7FFFL) << 42;
+            word |= (src[i + 10] & 0x7FFFL) << 27;
+            word |= (src[i + 11] & 0x7FFFL) << 12;
+            final long value12 = src[i + 12] & 0x7FFFL;
+            words[index + 2] = word | value12 >>> 3;
+            word = value12 << 61;
+            word |= (src[i + 13] & 0x7FFFL) << 46;
+            word |= (src[i + 14] & 0x7FFFL) << 31;
+            word |= (src[i + 15] & 0x7FFFL) << 16;
+            word |= (src[i + 16] & 0x7FFFL) << 1;
+            final long value17 = src[i + 17] & 0x7FFFL;
+            words[index + 3] = word | value17 >>> 14;
+            word = value17 << 50;
+            word |= (src[i + 18] & 0x7FFFL) << 35;
+            word |= (src[i + 19] & 0x7FFFL) << 20;
+            word |= (src[i + 20] & 0x7FFFL) << 5;
+            final long value21 = src[i + 21] & 0x7FFFL;
+            words[index + 4] = word | value21 >>> 10;
+            word = value21 << 54;
+            word |= (src[i + 22] & 0x7FFFL) << 39;
+            word |= (src[i + 23] & 0x7FFFL) << 24;
+            word |= (src[i + 24] & 0x7FFFL) << 9;
+            final long value25 = src[i + 25] & 0x7FFFL;
+            words[index + 5] = word | value25 >>> 6;
+            word = value25 << 58;
+            word |= (src[i + 26] & 0x7FFFL) << 43;
+            word |= (src[i + 27] & 0x7FFFL) << 28;
+            word |= (src[i + 28] & 0x7FFFL) << 13;
+            final long value29 = src[i + 29] & 0x7FFFL;
+            words[index + 6] = word | value29 >>> 2;
+            word = value29 << 62;
+            word |= (src[i + 30] & 0x7FFFL) << 47;
+            word |= (src[i + 31] & 0x7FFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFL) << 17;
+            word |= (src[i + 33] & 0x7FFFL) << 2;
+            final long value34 = src[i + 34] & 0x7FFFL;
+            words[index + 7] = word | value34 >>> 13;
+            word = value34 << 51;
+            word |= (src[i + 35] & 0x7FFFL) << 36;
+            word |= (src[i + 36] & 0x7FFFL) << 21;
+            word |= (src[i + 37] & 0x7FFFL) << 6;
+            final long value38 = src[i + 38] & 0x7FFFL;
+            words[index + 8] = word | value38 >>> 9;
+            word = value38 << 55;
+            word |= (src[i + 39] & 0x7FFFL) << 40;
+            word |= (src[i + 40] & 0x7FFFL) << 25;
+            word |= (src[i + 41] & 0x7FFFL) << 10;
+            final long value42 = src[i + 42] & 0x7FFFL;
+            words[index + 9] = word | value42 >>> 5;
+            word = value42 << 59;
+            word |= (src[i + 43] & 0x7FFFL) << 44;
+            word |= (src[i + 44] & 0x7FFFL) << 29;
+            word |= (src[i + 45] & 0x7FFFL) << 14;
+            final long value46 = src[i + 46] & 0x7FFFL;
+            words[index + 10] = word | value46 >>> 1;
+            word = value46 << 63;
+            word |= (src[i + 47] & 0x7FFFL) << 48;
+            word |= (src[i + 48] & 0x7FFFL) << 33;
+            word |= (src[i + 49] & 0x7FFFL) << 18;
+            word |= (src[i + 50] & 0x7FFFL) << 3;
+            final long value51 = src[i + 51] & 0x7FFFL;
+            words[index + 11] = word | value51 >>> 12;
+            word = value51 << 52;
+            word |= (src[i + 52] & 0x7FFFL) << 37;
+            word |= (src[i + 53] & 0x7FFFL) << 22;
+            word |= (src[i + 54] & 0x7FFFL) << 7;
+            final long value55 = src[i + 55] & 0x7FFFL;
+            words[index + 12] = word | value55 >>> 8;
+            word = value55 << 56;
+            word |= (src[i + 56] & 0x7FFFL) << 41;
+            word |= (src[i + 57] & 0x7FFFL) << 26;
+            word |= (src[i + 58] & 0x7FFFL) << 11;
+            final long value59 = src[i + 59] & 0x7FFFL;
+            words[index + 13] = word | value59 >>> 4;
+            word = value59 << 60;
+            word |= (src[i + 60] & 0x7FFFL) << 45;
+            word |= (src[i + 61] & 0x7FFFL) << 30;
+            word |= (src[i + 62] & 0x7FFFL) << 15;
+            words[index + 14] = word | (src[i + 63] & 0x7FFFL);
+            index += 15;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 4} 16-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack16(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFL) << 48;
+            word |= (src[i + 1] & 0xFFFFL) << 32;
+            word |= (src[i + 2] & 0xFFFFL) << 16;
+            words[index] = word | (src[i + 3] & 0xFFFFL);
+            index++;
+            i += 4;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 17-bit values into each of {@code count} blocks of
+     * {@code 17} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack17(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFFL) << 47;
+            word |= (src[i + 1] & 0x1FFFFL) << 30;
+            word |= (src[i + 2] & 0x1FFFFL) << 13;
+            final long value3 = src[i + 3] & 0x1FFFFL;
+            words[index] = word | value3 >>> 4;
+            word = value3 << 60;
+            word |= (src[i + 4] & 0x1FFFFL) << 43;
+            word |= (src[i + 5] & 0x1FFFFL) << 26;
+            word |= (src[i + 6] & 0x1FFFFL) << 9;
+            final long value7 = src[i + 7] & 0x1FFFFL;
+            words[index + 1] = word | value7 >>> 8;
+            word = value7 << 56;
+            word |= (src[i + 8] & 0x1FFFFL) << 39;
+            word |= (src[i + 9] & 0x1FFFFL) << 22;
+            word |= (src[i + 10] & 0x1FFFFL) << 5;
+            final long value11 = src[i + 11] & 0x1FFFFL;
+            words[index + 2] = word | value11 >>> 12;
+            word = value11 << 52;
+            word |= (src[i + 12] & 0x1FFFFL) << 35;
+            word |= (src[i + 13] & 0x1FFFFL) << 18;
+            word |= (src[i + 14] & 0x1FFFFL) << 1;
+            final long value15 = src[i + 15] & 0x1FFFFL;
+            words[index + 3] = word | value15 >>> 16;
+            word = value15 << 48;
+            word |= (src[i + 16] & 0x1FFFFL) << 31;
+            word |= (src[i + 17] & 0x1FFFFL) << 14;
+            final long value18 = src[i + 18] & 0x1FFFFL;
+            words[index + 4] = word | value18 >>> 3;
+            word = value18 << 61;
+            word |= (src[i + 19] & 0x1FFFFL) << 44;
+            word |= (src[i + 20] & 0x1FFFFL) << 27;
+            word |= (src[i + 21] & 0x1FFFFL) << 10;
+            final long value22 = src[i + 22] & 0x1FFFFL;
+            words[index + 5] = word | value22 >>> 7;
+            word = value22 << 57;
+            word |= (src[i + 23] & 0x1FFFFL) << 40;
+            word |= (src[i + 24] & 0x1FFFFL) << 23;
+            word |= (src[i + 25] & 0x1FFFFL) << 6;
+            final long value26 = src[i + 26] & 0x1FFFFL;
+            words[index + 6] = word | value26 >>> 11;
+            word = value26 << 53;
+            word |= (src[i + 27] & 0x1FFFFL) << 36;
+            word |= (src[i + 28] & 0x1FFFFL) << 19;
+            word |= (src[i + 29] & 0x1FFFFL) << 2;
+            final long value30 = src[i + 30] & 0x1FFFFL;
+            words[index + 7] = word | value30 >>> 15;
+            word = value30 << 49;
+            word |= (src[i + 31] & 0x1FFFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFFL) << 15;
+            final long value33 = src[i + 33] & 0x1FFFFL;
+            words[index + 8] = word | value33 >>> 2;
+            word = value33 << 62;
+            word |= (src[i + 34] & 0x1FFFFL) << 45;
+            word |= (src[i + 35] & 0x1FFFFL) << 28;
+            word |= (src[i + 36] & 0x1FFFFL) << 11;
+            final long value37 = src[i + 37] & 0x1FFFFL;
+            words[index + 9] = word | value37 >>> 6;
+            word = value37 << 58;
+            word |= (src[i + 38] & 0x1FFFFL) << 41;
+            word |= (src[i + 39] & 0x1FFFFL) << 24;
+            word |= (src[i + 40] & 0x1FFFFL) << 7;
+            final long value41 = src[i + 41] & 0x1FFFFL;
+            words[index + 10] = word | value41 >>> 10;
+            word = value41 << 54;
+            word |= (src[i + 42] & 0x1FFFFL) << 37;
+            word |= (src[i + 43] & 0x1FFFFL) << 20;
+            word |= (src[i + 44] & 0x1FFFFL) << 3;
+            final long value45 = src[i + 45] & 0x1FFFFL;
+            words[index + 11] = word | value45 >>> 14;
+            word = value45 << 50;
+            word |= (src[i + 46] & 0x1FFFFL) << 33;
+            word |= (src[i + 47] & 0x1FFFFL) << 16;
+            final long value48 = src[i + 48] & 0x1FFFFL;
+            words[index + 12] = word | value48 >>> 1;
+            word = value48 << 63;
+            word |= (src[i + 49] & 0x1FFFFL) << 46;
+            word |= (src[i + 50] & 0x1FFFFL) << 29;
+            word |= (src[i + 51] & 0x1FFFFL) << 12;
+            final long value52 = src[i + 52] & 0x1FFFFL;
+            words[index + 13] = word | value52 >>> 5;
+            word = value52 << 59;
+            word |= (src[i + 53] & 0x1FFFFL) << 42;
+            word |= (src[i + 54] & 0x1FFFFL) << 25;
+            word |= (src[i + 55] & 0x1FFFFL) << 8;
+            final long value56 = src[i + 56] & 0x1FFFFL;
+            words[index + 14] = word | value56 >>> 9;
+            word = value56 << 55;
+            word |= (src[i + 57] & 0x1FFFFL) << 38;
+            word |= (src[i + 58] & 0x1FFFFL) << 21;
+            word |= (src[i + 59] & 0x1FFFFL) << 4;
+            final long value60 = src[i + 60] & 0x1FFFFL;
+            words[index + 15] = word | value60 >>> 13;
+            word = value60 << 51;
+            word |= (src[i + 61] & 0x1FFFFL) << 34;
+            word |= (src[i + 62] & 0x1FFFFL) << 17;
+            words[index + 16] = word | (src[i + 63] & 0x1FFFFL);
+            index += 17;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 18-bit values into each of {@code count} blocks of
+     * {@code 9} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack18(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFFL) << 46;
+            word |= (src[i + 1] & 0x3FFFFL) << 28;
+            word |= (src[i + 2] & 0x3FFFFL) << 10;
+            final long value3 = src[i + 3] & 0x3FFFFL;
+            words[index] = word | value3 >>> 8;
+            word = value3 << 56;
+            word |= (src[i + 4] & 0x3FFFFL) << 38;
+            word |= (src[i + 5] & 0x3FFFFL) << 20;
+            word |= (src[i + 6] & 0x3FFFFL) << 2;
+            final long value7 = src[i + 7] & 0x3FFFFL;
+            words[index + 1] = word | value7 >>> 16;
+            word = value7 << 48;
+            word |= (src[i + 8] & 0x3FFFFL) << 30;
+            word |= (src[i + 9] & 0x3FFFFL) << 12;
+            final long value10 = src[i + 10] & 0x3FFFFL;
+            words[index + 2] = word | value10 >>> 6;
+            word = value10 << 58;
+            word |= (src[i + 11] & 0x3FFFFL) << 40;
+            word |= (src[i + 12] & 0x3FFFFL) << 22;
+            word |= (src[i + 13] & 0x3FFFFL) << 4;
+            final long value14 = src[i + 14] & 0x3FFFFL;
+            words[index + 3] = word | value14 >>> 14;
+            word = value14 << 50;
+            word |= (src[i + 15] & 0x3FFFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFFL) << 14;
+            final long value17 = src[i + 17] & 0x3FFFFL;
+            words[index + 4] = word | value17 >>> 4;
+            word = value17 << 60;
+            word |= (src[i + 18] & 0x3FFFFL) << 42;
+            word |= (src[i + 19] & 0x3FFFFL) << 24;
+            word |= (src[i + 20] & 0x3FFFFL) << 6;
+            final long value21 = src[i + 21] & 0x3FFFFL;
+            words[index + 5] = word | value21 >>> 12;
+            word = value21 << 52;
+            word |= (src[i + 22] & 0x3FFFFL) << 34;
+            word |= (src[i + 23] & 0x3FFFFL) << 16;
+            final long value24 = src[i + 24] & 0x3FFFFL;
+            words[index + 6] = word | value24 >>> 2;
+            word = value24 << 62;
+            word |= (src[i + 25] & 0x3FFFFL) << 44;
+            word |= (src[i + 26] & 0x3FFFFL) << 26;
+            word |= (src[i + 27] & 0x3FFFFL) << 8;
+            final long value28 = src[i + 28] & 0x3FFFFL;
+            words[index + 7] = word | value28 >>> 10;
+            word = value28 << 54;
+            word |= (src[i + 29] & 0x3FFFFL) << 36;
+            word |= (src[i + 30] & 0x3FFFFL) << 18;
+            words[index + 8] = word | (src[i + 31] & 0x3FFFFL);
+            index += 9;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 19-bit values into each of {@code count} blocks of
+     * {@code 19} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack19(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFFL) << 45;
+            word |= (src[i + 1] & 0x7FFFFL) << 26;
+            word |= (src[i + 2] & 0x7FFFFL) << 7;
+            final long value3 = src[i + 3] & 0x7FFFFL;
+            words[index] = word | value3 >>> 12;
+            word = value3 << 52;
+            word |= (src[i + 4] & 0x7FFFFL) << 33;
+            word |= (src[i + 5] & 0x7FFFFL) << 14;
+            final long value6 = src[i + 6] & 0x7FFFFL;
+            words[index + 1] = word | value6 >>> 5;
+            word = value6 << 59;
+            word |= (src[i + 7] & 0x7FFFFL) << 40;
+            word |= (src[i + 8] & 0x7FFFFL) << 21;
+            word |= (src[i + 9] & 0x7FFFFL) << 2;
+            final long value10 = src[i + 10] & 0x7FFFFL;
+            words[index + 2] = word | value10 >>> 17;
+            word = value10 << 47;
+            word |= (src[i + 11] & 0x7FFFFL) << 28;
+            word |= (src[i + 12] & 0x7FFFFL) << 9;
+            final long value13 = src[i + 13] & 0x7FFFFL;
+            words[index + 3] = word | value13 >>> 10;
+            word = value13 << 54;
+            word |= (src[i + 14] & 0x7FFFFL) << 35;
+            word |= (src[i + 15] & 0x7FFFFL) << 16;
+            final long value16 = src[i + 16] & 0x7FFFFL;
+            words[index + 4] = word | value16 >>> 3;
+            word = value16 << 61;
+            word |= (src[i + 17] & 0x7FFFFL) << 42;
+            word |= (src[i + 18] & 0x7FFFFL) << 23;
+            word |= (src[i + 19] & 0x7FFFFL) << 4;
+            final long value20 = src[i + 20] & 0x7FFFFL;
+            words[index + 5] = word | value20 >>> 15;
+            word = value20 << 49;
+            word |= (src[i + 21] & 0x7FFFFL) << 30;
+            word |= (src[i + 22] & 0x7FFFFL) << 11;
+            final long value23 = src[i + 23] & 0x7FFFFL;
+            words[index + 6] = word | value23 >>> 8;
+            word = value23 << 56;
+            word |= (src[i + 24] & 0x7FFFFL) << 37;
+            word |= (src[i + 25] & 0x7FFFFL) << 18;
+            final long value26 = src[i + 26] & 0x7FFFFL;
+            words[index + 7] = word | value26 >>> 1;
+            word = value26 << 63;
+            word |= (src[i + 27] & 0x7FFFFL) << 44;
+            word |= (src[i + 28] & 0x7FFFFL) << 25;
+            word |= (src[i + 29] & 0x7FFFFL) << 6;
+            final long value30 = src[i + 30] & 0x7FFFFL;
+            words[index + 8] = word | value30 >>> 13;
+            word = value30 << 51;
+            word |= (src[i + 31] & 0x7FFFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFFL) << 13;
+            final long value33 = src[i + 33] & 0x7FFFFL;
+            words[index + 9] = word | value33 >>> 6;
+            word = value33 << 58;
+            word |= (src[i + 34] & 0x7FFFFL) << 39;
+            word |= (src[i + 35] & 0x7FFFFL) << 20;
+            word |= (src[i + 36] & 0x7FFFFL) << 1;
+            final long value37 = src[i + 37] & 0x7FFFFL;
+            words[index + 10] = word | value37 >>> 18;
+            word = value37 << 46;
+            word |= (src[i + 38] & 0x7FFFFL) << 27;
+            word |= (src[i + 39] & 0x7FFFFL) << 8;
+            final long value40 = src[i + 40] & 0x7FFFFL;
+            words[index + 11] = word | value40 >>> 11;
+            word = value40 << 53;
+            word |= (src[i + 41] & 0x7FFFFL) << 34;
+            word |= (src[i + 42] & 0x7FFFFL) << 15;
+            final long value43 = src[i + 43] & 0x7FFFFL;
+            words[index + 12] = word | value43 >>> 4;
+            word = value43 << 60;
+            word |= (src[i + 44] & 0x7FFFFL) << 41;
+            word |= (src[i + 45] & 0x7FFFFL) << 22;
+            word |= (src[i + 46] & 0x7FFFFL) << 3;
+            final long value47 = src[i + 47] & 0x7FFFFL;
+            words[index + 13] = word | value47 >>> 16;
+            word = value47 << 48;
+            word |= (src[i + 48] & 0x7FFFFL) << 29;
+            word |= (src[i + 49] & 0x7FFFFL) << 10;
+            final long value50 = src[i + 50] & 0x7FFFFL;
+            words[index + 14] = word | value50 >>> 9;
+            word = value50 << 55;
+            word |= (src[i + 51] & 0x7FFFFL) << 36;
+            word |= (src[i + 52] & 0x7FFFFL) << 17;
+            final long value53 = src[i + 53] & 0x7FFFFL;
+            words[index + 15] = word | value53 >>> 2;
+            word = value53 << 62;
+            word |= (src[i + 54] & 0x7FFFFL) << 43;
+            word |= (src[i + 55] & 0x7FFFFL) << 24;
+            word |= (src[i + 56] & 0x7FFFFL) << 5;
+            final long value57 = src[i + 57] & 0x7FFFFL;
+            words[index + 16] = word | value57 >>> 14;
+            word = value57 << 50;
+            word |= (src[i + 58] & 0x7FFFFL) << 31;
+            word |= (src[i + 59] & 0x7FFFFL) << 12;
+            final long value60 = src[i + 60] & 0x7FFFFL;
+            words[index + 17] = word | value60 >>> 7;
+            word = value60 << 57;
+            word |= (src[i + 61] & 0x7FFFFL) << 38;
+            word |= (src[i + 62] & 0x7FFFFL) << 19;
+            words[index + 18] = word | (src[i + 63] & 0x7FFFFL);
+            index += 19;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 16} 20-bit values into each of {@code count} blocks of
+     * {@code 5} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack20(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFFL) << 44;
+            word |= (src[i + 1] & 0xFFFFFL) << 24;
+            word |= (src[i + 2] & 0xFFFFFL) << 4;
+            final long value3 = src[i + 3] & 0xFFFFFL;
+            words[index] = word | value3 >>> 16;
+            word = value3 << 48;
+            word |= (src[i + 4] & 0xFFFFFL) << 28;
+            word |= (src[i + 5] & 0xFFFFFL) << 8;
+            final long value6 = src[i + 6] & 0xFFFFFL;
+            words[index + 1] = word | value6 >>> 12;
+            word = value6 << 52;
+            word |= (src[i + 7] & 0xFFFFFL) << 32;
+            word |= (src[i + 8] & 0xFFFFFL) << 12;
+            final long value9 = src[i + 9] & 0xFFFFFL;
+            words[index + 2] = word | value9 >>> 8;
+            word = value9 << 56;
+            word |= (src[i + 10] & 0xFFFFFL) << 36;
+            word |= (src[i + 11] & 0xFFFFFL) << 16;
+            final long value12 = src[i + 12] & 0xFFFFFL;
+            words[index + 3] = word | value12 >>> 4;
+            word = value12 << 60;
+            word |= (src[i + 13] & 0xFFFFFL) << 40;
+            word |= (src[i + 14] & 0xFFFFFL) << 20;
+            words[index + 4] = word | (src[i + 15] & 0xFFFFFL);
+            index += 5;
+            i += 16;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 21-bit values into each of {@code count} blocks of
+     * {@code 21} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack21(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFFFL) << 43;
+            word |= (src[i + 1] & 0x1FFFFFL) << 22;
+            word |= (src[i + 2] & 0x1FFFFFL) << 1;
+            final long value3 = src[i + 3] & 0x1FFFFFL;
+            words[index] = word | value3 >>> 20;
+            word = value3 << 44;
+            word |= (src[i + 4] & 0x1FFFFFL) << 23;
+            word |= (src[i + 5] & 0x1FFFFFL) << 2;
+            final long value6 = src[i + 6] & 0x1FFFFFL;
+            words[index + 1] = word | value6 >>> 19;
+            word = value6 << 45;
+            word |= (src[i + 7] & 0x1FFFFFL) << 24;
+            word |= (src[i + 8] & 0x1FFFFFL) << 3;
+            final long value9 = src[i + 9] & 0x1FFFFFL;
+            words[index + 2] = word | value9 >>> 18;
+            word = value9 << 46;
+            word |= (src[i + 10] & 0x1FFFFFL) << 25;
+            word |= (src[i + 11] & 0x1FFFFFL) << 4;
+            final long value12 = src[i + 12] & 0x1FFFFFL;
+            words[index + 3] = word | value12 >>> 17;
+            word = value12 << 47;
+            word |= (src[i + 13] & 0x1FFFFFL) << 26;
+            word |= (src[i + 14] & 0x1FFFFFL) << 5;
+            final long value15 = src[i + 15] & 0x1FFFFFL;
+            words[index + 4] = word | value15 >>> 16;
+            word = value15 << 48;
+            word |= (src[i + 16] & 0x1FFFFFL) << 27;
+            word |= (src[i + 17] & 0x1FFFFFL) << 6;
+            final long value18 = src[i + 18] & 0x1FFFFFL;
+            words[index + 5] = word | value18 >>> 15;
+            word = value18 << 49;
+            word |= (src[i + 19] & 0x1FFFFFL) << 28;
+            word |= (src[i + 20] & 0x1FFFFFL) << 7;
+            final long value21 = src[i + 21] & 0x1FFFFFL;
+            words[index + 6] = word | value21 >>> 14;
+            word = value21 << 50;
+            word |= (src[i + 22] & 0x1FFFFFL) << 29;
+            word |= (src[i + 23] & 0x1FFFFFL) << 8;
+            final long value24 = src[i + 24] & 0x1FFFFFL;
+            words[index + 7] = word | value24 >>> 13;
+            word = value24 << 51;
+            word |= (src[i + 25] & 0x1FFFFFL) << 30;
+            word |= (src[i + 26] & 0x1FFFFFL) << 9;
+            final long value27 = src[i + 27] & 0x1FFFFFL;
+            words[index + 8] = word | value27 >>> 12;
+            word = value27 << 52;
+            word |= (src[i + 28] & 0x1FFFFFL) << 31;
+            word |= (src[i + 29] & 0x1FFFFFL) << 10;
+            final long value30 = src[i + 30] & 0x1FFFFFL;
+            words[index + 9] = word | value30 >>> 11;
+            word = value30 << 53;
+            word |= (src[i + 31] & 0x1FFFFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFFFL) << 11;
+            final long value33 = src[i + 33] & 0x1FFFFFL;
+            words[index + 10] = word | value33 >>> 10;
+            word = value33 << 54;
+            word |= (src[i + 34] & 0x1FFFFFL) << 33;
+            word |= (src[i + 35] & 0x1FFFFFL) << 12;
+            final long value36 = src[i + 36] & 0x1FFFFFL;
+            words[index + 11] = word | value36 >>> 9;
+            word = value36 << 55;
+            word |= (src[i + 37] & 0x1FFFFFL) << 34;
+            word |= (src[i + 38] & 0x1FFFFFL) << 13;
+            final long value39 = src[i + 39] & 0x1FFFFFL;
+            words[index + 12] = word | value39 >>> 8;
+            word = value39 << 56;
+            word |= (src[i + 40] & 0x1FFFFFL) << 35;
+            word |= (src[i + 41] & 0x1FFFFFL) << 14;
+            final long value42 = src[i + 42] & 0x1FFFFFL;
+            words[index + 13] = word | value42 >>> 7;
+            word = value42 << 57;
+            word |= (src[i + 43] & 0x1FFFFFL) << 36;
+            word |= (src[i + 44] & 0x1FFFFFL) << 15;
+            final long value45 = src[i + 45] & 0x1FFFFFL;
+            words[index + 14] = word | value45 >>> 6;
+            word = value45 << 58;
+            word |= (src[i + 46] & 0x1FFFFFL) << 37;
+            word |= (src[i + 47] & 0x1FFFFFL) << 16;
+            final long value48 = src[i + 48] & 0x1FFFFFL;
+            words[index + 15] = word | value48 >>> 5;
+            word = value48 << 59;
+            word |= (src[i + 49] & 0x1FFFFFL) << 38;
+            word |= (src[i + 50] & 0x1FFFFFL) << 17;
+            final long value51 = src[i + 51] & 0x1FFFFFL;
+            words[index + 16] = word | value51 >>> 4;
+            word = value51 << 60;
+            word |= (src[i + 52] & 0x1FFFFFL) << 39;
+            word |= (src[i + 53] & 0x1FFFFFL) << 18;
+            final long value54 = src[i + 54] & 0x1FFFFFL;
+            words[index + 17] = word | value54 >>> 3;
+            word = value54 << 61;
+            word |= (src[i + 55] & 0x1FFFFFL) << 40;
+            word |= (src[i + 56] & 0x1FFFFFL) << 19;
+            final long value57 = src[i + 57] & 0x1FFFFFL;
+            words[index + 18] = word | value57 >>> 2;
+            word = value57 << 62;
+            word |= (src[i + 58] & 0x1FFFFFL) << 41;
+            word |= (src[i + 59] & 0x1FFFFFL) << 20;
+            final long value60 = src[i + 60] & 0x1FFFFFL;
+            words[index + 19] = word | value60 >>> 1;
+            word = value60 << 63;
+            word |= (src[i + 61] & 0x1FFFFFL) << 42;
+            word |= (src[i + 62] & 0x1FFFFFL) << 21;
+            words[index + 20] = word | (src[i + 63] & 0x1FFFFFL);
+            index += 21;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 22-bit values into each of {@code count} blocks of
+     * {@code 11} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack22(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFFFL) << 42;
+            word |= (src[i + 1] & 0x3FFFFFL) << 20;
+            final long value2 = src[i + 2] & 0x3FFFFFL;
+            words[index] = word | value2 >>> 2;
+            word = value2 << 62;
+            word |= (src[i + 3] & 0x3FFFFFL) << 40;
+            word |= (src[i + 4] & 0x3FFFFFL) << 18;
+            final long value5 = src[i + 5] & 0x3FFFFFL;
+            words[index + 1] = word | value5 >>> 4;
+            word = value5 << 60;
+            word |= (src[i + 6] & 0x3FFFFFL) << 38;
+            word |= (src[i + 7] & 0x3FFFFFL) << 16;
+            final long value8 = src[i + 8] & 0x3FFFFFL;
+            words[index + 2] = word | value8 >>> 6;
+            word = value8 << 58;
+            word |= (src[i + 9] & 0x3FFFFFL) << 36;
+            word |= (src[i + 10] & 0x3FFFFFL) << 14;
+            final long value11 = src[i + 11] & 0x3FFFFFL;
+            words[index + 3] = word | value11 >>> 8;
+            word = value11 << 56;
+            word |= (src[i + 12] & 0x3FFFFFL) << 34;
+            word |= (src[i + 13] & 0x3FFFFFL) << 12;
+            final long value14 = src[i + 14] & 0x3FFFFFL;
+            words[index + 4] = word | value14 >>> 10;
+            word = value14 << 54;
+            word |= (src[i + 15] & 0x3FFFFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFFFL) << 10;
+            final long value17 = src[i + 17] & 0x3FFFFFL;
+            words[index + 5] = word | value17 >>> 12;
+            word = value17 << 52;
+            word |= (src[i + 18] & 0x3FFFFFL) << 30;
+            word |= (src[i + 19] & 0x3FFFFFL) << 8;
+            final long value20 = src[i + 20] & 0x3FFFFFL;
+            words[index + 6] = word | value20 >>> 14;
+            word = value20 << 50;
+            word |= (src[i + 21] & 0x3FFFFFL) << 28;
+            word |= (src[i + 22] & 0x3FFFFFL) << 6;
+            final long value23 = src[i + 23] & 0x3FFFFFL;
+            words[index + 7] = word | value23 >>> 16;
+            word = value23 << 48;
+            word |= (src[i + 24] & 0x3FFFFFL) << 26;
+            word |= (src[i + 25] & 0x3FFFFFL) << 4;
+            final long value26 = src[i + 26] & 0x3FFFFFL;
+            words[index + 8] = word | value26 >>> 18;
+            word = value26 << 46;
+            word |= (src[i + 27] & 0x3FFFFFL) << 24;
+            word |= (src[i + 28] & 0x3FFFFFL) << 2;
+            final long value29 = src[i + 29] & 0x3FFFFFL;
+            words[index + 9] = word | value29 >>> 20;
+            word = value29 << 44;
+            word |= (src[i + 30] & 0x3FFFFFL) << 22;
+            words[index + 10] = word | (src[i + 31] & 0x3FFFFFL);
+            index += 11;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 23-bit values into each of {@code count} blocks of
+     * {@code 23} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack23(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFFFL) << 41;
+            word |= (src[i + 1] & 0x7FFFFFL) << 18;
+            final long value2 = src[i + 2] & 0x7FFFFFL;
+            words[index] = word | value2 >>> 5;
+            word = value2 << 59;
+            word |= (src[i + 3] & 0x7FFFFFL) << 36;
+            word |= (src[i + 4] & 0x7FFFFFL) << 13;
+            final long value5 = src[i + 5] & 0x7FFFFFL;
+            words[index + 1] = word | value5 >>> 10;
+            word = value5 << 54;
+            word |= (src[i + 6] & 0x7FFFFFL) << 31;
+            word |= (src[i + 7] & 0x7FFFFFL) << 8;
+            final long value8 = src[i + 8] & 0x7FFFFFL;
+            words[index + 2] = word | value8 >>> 15;
+            word = value8 << 49;
+            word |= (src[i + 9] & 0x7FFFFFL) << 26;
+            word |= (src[i + 10] & 0x7FFFFFL) << 3;
+            final long value11 = src[i + 11] & 0x7FFFFFL;
+            words[index + 3] = word | value11 >>> 20;
+            word = value11 << 44;
+            word |= (src[i + 12] & 0x7FFFFFL) << 21;
+            final long value13 = src[i + 13] & 0x7FFFFFL;
+            words[index + 4] = word | value13 >>> 2;
+            word = value13 << 62;
+            word |= (src[i + 14] & 0x7FFFFFL) << 39;
+            word |= (src[i + 15] & 0x7FFFFFL) << 16;
+            final long value16 = src[i + 16] & 0x7FFFFFL;
+            words[index + 5] = word | value16 >>> 7;
+            word = value16 << 57;
+            word |= (src[i + 17] & 0x7FFFFFL) << 34;
+            word |= (src[i + 18] & 0x7FFFFFL) << 11;
+            final long value19 = src[i + 19] & 0x7FFFFFL;
+            words[index + 6] = word | value19 >>> 12;
+            word = value19 << 52;
+            word |= (src[i + 20] & 0x7FFFFFL) << 29;
+            word |= (src[i + 21] & 0x7FFFFFL) << 6;
+            final long value22 = src[i + 22] & 0x7FFFFFL;
+            words[index + 7] = word | value22 >>> 17;
+            word = value22 << 47;
+            word |= (src[i + 23] & 0x7FFFFFL) << 24;
+            word |= (src[i + 24] & 0x7FFFFFL) << 1;
+            final long value25 = src[i + 25] & 0x7FFFFFL;
+            words[index + 8] = word | value25 >>> 22;
+            word = value25 << 42;
+            word |= (src[i + 26] & 0x7FFFFFL) << 19;
+            final long value27 = src[i + 27] & 0x7FFFFFL;
+            words[index + 9] = word | value27 >>> 4;
+            word = value27 << 60;
+            word |= (src[i + 28] & 0x7FFFFFL) << 37;
+            word |= (src[i + 29] & 0x7FFFFFL) << 14;
+            final long value30 = src[i + 30] & 0x7FFFFFL;
+            words[index + 10] = word | value30 >>> 9;
+            word = value30 << 55;
+            word |= (src[i + 31] & 0x7FFFFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFFFL) << 9;
+            final long value33 = src[i + 33] & 0x7FFFFFL;
+            words[index + 11] = word | value33 >>> 14;
+            word = value33 << 50;
+            word |= (src[i + 34] & 0x7FFFFFL) << 27;
+            word |= (src[i + 35] & 0x7FFFFFL) << 4;
+            final long value36 = src[i + 36] & 0x7FFFFFL;
+            words[index + 12] = word | value36 >>> 19;
+            word = value36 << 45;
+            word |= (src[i + 37] & 0x7FFFFFL) << 22;
+            final long value38 = src[i + 38] & 0x7FFFFFL;
+            words[index + 13] = word | value38 >>> 1;
+            word = value38 << 63;
+            word |= (src[i + 39] & 0x7FFFFFL) << 40;
+            word |= (src[i + 40] & 0x7FFFFFL) << 17;
+            final long value41 = src[i + 41] & 0x7FFFFFL;
+            words[index + 14] = word | value41 >>> 6;
+            word = value41 << 58;
+            word |= (src[i + 42] & 0x7FFFFFL) << 35;
+            word |= (src[i + 43] & 0x7FFFFFL) << 12;
+            final long value44 = src[i + 44] & 0x7FFFFFL;
+            words[index + 15] = word | value44 >>> 11;
+            word = value44 << 53;
+            word |= (src[i + 45] & 0x7FFFFFL) << 30;
+            word |= (src[i + 46] & 0x7FFFFFL) << 7;
+            final long value47 = src[i + 47] & 0x7FFFFFL;
+            words[index + 16] = word | value47 >>> 16;
+            word = value47 << 48;
+            word |= (src[i + 48] & 0x7FFFFFL) << 25;
+            word |= (src[i + 49] & 0x7FFFFFL) << 2;
+            final long value50 = src[i + 50] & 0x7FFFFFL;
+            words[index + 17] = word | value50 >>> 21;
+            word = value50 << 43;
+            word |= (src[i + 51] & 0x7FFFFFL) << 20;
+            final long value52 = src[i + 52] & 0x7FFFFFL;
+            words[index + 18] = word | value52 >>> 3;
+            word = value52 << 61;
+            word |= (src[i + 53] & 0x7FFFFFL) << 38;
+            word |= (src[i + 54] & 0x7FFFFFL) << 15;
+            final long value55 = src[i + 55] & 0x7FFFFFL;
+            words[index + 19] = word | value55 >>> 8;
+            word = value55 << 56;
+            word |= (src[i + 56] & 0x7FFFFFL) << 33;
+            word |= (src[i + 57] & 0x7FFFFFL) << 10;
+            final long value58 = src[i + 58] & 0x7FFFFFL;
+            words[index + 20] = word | value58 >>> 13;
+            word = value58 << 51;
+            word |= (src[i + 59] & 0x7FFFFFL) << 28;
+            word |= (src[i + 60] & 0x7FFFFFL) << 5;
+            final long value61 = src[i + 61] & 0x7FFFFFL;
+            words[index + 21] = word | value61 >>> 18;
+            word = value61 << 46;
+            word |= (src[i + 62] & 0x7FFFFFL) << 23;
+            words[index + 22] = word | (src[i + 63] & 0x7FFFFFL);
+            index += 23;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 8} 24-bit values into each of {@code count} blocks of {@code
+     * 3} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack24(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFFFL) << 40;
+            word |= (src[i + 1] & 0xFFFFFFL) << 16;
+            final long value2 = src[i + 2] & 0xFFFFFFL;
+            words[index] = word | value2 >>> 8;
+            word = value2 << 56;
+            word |= (src[i + 3] & 0xFFFFFFL) << 32;
+            word |= (src[i + 4] & 0xFFFFFFL) << 8;
+            final long value5 = src[i + 5] & 0xFFFFFFL;
+            words[index + 1] = word | value5 >>> 16;
+            word = value5 << 48;
+            word |= (src[i + 6] & 0xFFFFFFL) << 24;
+            words[index + 2] = word | (src[i + 7] & 0xFFFFFFL);
+            index += 3;
+            i += 8;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 25-bit values into each of {@code count} blocks of
+     * {@code 25} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack25(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFFFFL) << 39;
+            word |= (src[i + 1] & 0x1FFFFFFL) << 14;
+            final long value2 = src[i + 2] & 0x1FFFFFFL;
+            words[index] = word | value2 >>> 11;
+            word = value2 << 53;
+            word |= (src[i + 3] & 0x1FFFFFFL) << 28;
+            word |= (src[i + 4] & 0x1FFFFFFL) << 3;
+            final long value5 = src[i + 5] & 0x1FFFFFFL;
+            words[index + 1] = word | value5 >>> 22;
+            word = value5 << 42;
+            word |= (src[i + 6] & 0x1FFFFFFL) << 17;
+            final long value7 = src[i + 7] & 0x1FFFFFFL;
+            words[index + 2] = word | value7 >>> 8;
+            word = value7 << 56;
+            word |= (src[i + 8] & 0x1FFFFFFL) << 31;
+            word |= (src[i + 9] & 0x1FFFFFFL) << 6;
+            final long value10 = src[i + 10] & 0x1FFFFFFL;
+            words[index + 3] = word | value10 >>> 19;
+            word = value10 << 45;
+            word |= (src[i + 11] & 0x1FFFFFFL) << 20;
+            final long value12 = src[i + 12] & 0x1FFFFFFL;
+            words[index + 4] = word | value12 >>> 5;
+            word = value12 << 59;
+            word |= (src[i + 13] & 0x1FFFFFFL) << 34;
+            word |= (src[i + 14] & 0x1FFFFFFL) << 9;
+            final long value15 = src[i + 15] & 0x1FFFFFFL;
+            words[index + 5] = word | value15 >>> 16;
+            word = value15 << 48;
+            word |= (src[i + 16] & 0x1FFFFFFL) << 23;
+            final long value17 = src[i + 17] & 0x1FFFFFFL;
+            words[index + 6] = word | value17 >>> 2;
+            word = value17 << 62;
+            word |= (src[i + 18] & 0x1FFFFFFL) << 37;
+            word |= (src[i + 19] & 0x1FFFFFFL) << 12;
+            final long value20 = src[i + 20] & 0x1FFFFFFL;
+            words[index + 7] = word | value20 >>> 13;
+            word = value20 << 51;
+            word |= (src[i + 21] & 0x1FFFFFFL) << 26;
+            word |= (src[i + 22] & 0x1FFFFFFL) << 1;
+            final long value23 = src[i + 23] & 0x1FFFFFFL;
+            words[index + 8] = word | value23 >>> 24;
+            word = value23 << 40;
+            word |= (src[i + 24] & 0x1FFFFFFL) << 15;
+            final long value25 = src[i + 25] & 0x1FFFFFFL;
+            words[index + 9] = word | value25 >>> 10;
+            word = value25 << 54;
+            word |= (src[i + 26] & 0x1FFFFFFL) << 29;
+            word |= (src[i + 27] & 0x1FFFFFFL) << 4;
+            final long value28 = src[i + 28] & 0x1FFFFFFL;
+            words[index + 10] = word | value28 >>> 21;
+            word = value28 << 43;
+            word |= (src[i + 29] & 0x1FFFFFFL) << 18;
+            final long value30 = src[i + 30] & 0x1FFFFFFL;
+            words[index + 11] = word | value30 >>> 7;
+            word = value30 << 57;
+            word |= (src[i + 31] & 0x1FFFFFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFFFFL) << 7;
+            final long value33 = src[i + 33] & 0x1FFFFFFL;
+            words[index + 12] = word | value33 >>> 18;
+            word = value33 << 46;
+            word |= (src[i + 34] & 0x1FFFFFFL) << 21;
+            final long value35 = src[i + 35] & 0x1FFFFFFL;
+            words[index + 13] = word | value35 >>> 4;
+            word = value35 << 60;
+            word |= (src[i + 36] & 0x1FFFFFFL) << 35;
+            word |= (src[i + 37] & 0x1FFFFFFL) << 10;
+            final long value38 = src[i + 38] & 0x1FFFFFFL;
+            words[index + 14] = word | value38 >>> 15;
+            word = value38 << 49;
+            word |= (src[i + 39] & 0x1FFFFFFL) << 24;
+            final long value40 = src[i + 40] & 0x1FFFFFFL;
+            words[index + 15] = word | value40 >>> 1;
+            word = value40 << 63;
+            word |= (src[i + 41] & 0x1FFFFFFL) << 38;
+            word |= (src[i + 42] & 0x1FFFFFFL) << 13;
+            final long value43 = src[i + 43] & 0x1FFFFFFL;
+            words[index + 16] = word | value43 >>> 12;
+            word = value43 << 52;
+            word |= (src[i + 44] & 0x1FFFFFFL) << 27;
+            word |= (src[i + 45] & 0x1FFFFFFL) << 2;
+            final long value46 = src[i + 46] & 0x1FFFFFFL;
+            words[index + 17] = word | value46 >>> 23;
+            word = value46 << 41;
+            word |= (src[i + 47] & 0x1FFFFFFL) << 16;
+            final long value48 = src[i + 48] & 0x1FFFFFFL;
+            words[index + 18] = word | value48 >>> 9;
+            word = value48 << 55;
+            word |= (src[i + 49] & 0x1FFFFFFL) << 30;
+            word |= (src[i + 50] & 0x1FFFFFFL) << 5;
+            final long value51 = src[i + 51] & 0x1FFFFFFL;
+            words[index + 19] = word | value51 >>> 20;
+            word = value51 << 44;
+            word |= (src[i + 52] & 0x1FFFFFFL) << 19;
+            final long value53 = src[i + 53] & 0x1FFFFFFL;
+            words[index + 20] = word | value53 >>> 6;
+            word = value53 << 58;
+            word |= (src[i + 54] & 0x1FFFFFFL) << 33;
+            word |= (src[i + 55] & 0x1FFFFFFL) << 8;
+            final long value56 = src[i + 56] & 0x1FFFFFFL;
+            words[index + 21] = word | value56 >>> 17;
+            word = value56 << 47;
+            word |= (src[i + 57] & 0x1FFFFFFL) << 22;
+            final long value58 = src[i + 58] & 0x1FFFFFFL;
+            words[index + 22] = word | value58 >>> 3;
+            word = value58 << 61;
+            word |= (src[i + 59] & 0x1FFFFFFL) << 36;
+            word |= (src[i + 60] & 0x1FFFFFFL) << 11;
+            final long value61 = src[i + 61] & 0x1FFFFFFL;
+            words[index + 23] = word | value61 >>> 14;
+            word = value61 << 50;
+            word |= (src[i + 62] & 0x1FFFFFFL) << 25;
+            words[index + 24] = word | (src[i + 63] & 0x1FFFFFFL);
+            index += 25;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 26-bit values into each of {@code count} blocks of
+     * {@code 13} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack26(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFFFFL) << 38;
+            word |= (src[i + 1] & 0x3FFFFFFL) << 12;
+            final long value2 = src[i + 2] & 0x3FFFFFFL;
+            words[index] = word | value2 >>> 14;
+            word = value2 << 50;
+            word |= (src[i + 3] & 0x3FFFFFFL) << 24;
+            final long value4 = src[i + 4] & 0x3FFFFFFL;
+            words[index + 1] = word | value4 >>> 2;
+            word = value4 << 62;
+            word |= (src[i + 5] & 0x3FFFFFFL) << 36;
+            word |= (src[i + 6] & 0x3FFFFFFL) << 10;
+            final long value7 = src[i + 7] & 0x3FFFFFFL;
+            words[index + 2] = word | value7 >>> 16;
+            word = value7 << 48;
+            word |= (src[i + 8] & 0x3FFFFFFL) << 22;
+            final long value9 = src[i + 9] & 0x3FFFFFFL;
+            words[index + 3] = word | value9 >>> 4;
+            word = value9 << 60;
+            word |= (src[i + 10] & 0x3FFFFFFL) << 34;
+            word |= (src[i + 11] & 0x3FFFFFFL) << 8;
+            final long value12 = src[i + 12] & 0x3FFFFFFL;
+            words[index + 4] = word | value12 >>> 18;
+            word = value12 << 46;
+            word |= (src[i + 13] & 0x3FFFFFFL) << 20;
+            final long value14 = src[i + 14] & 0x3FFFFFFL;
+            words[index + 5] = word | value14 >>> 6;
+            word = value14 << 58;
+            word |= (src[i + 15] & 0x3FFFFFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFFFFL) << 6;
+            final long value17 = src[i + 17] & 0x3FFFFFFL;
+            words[index + 6] = word | value17 >>> 20;
+            word = value17 << 44;
+            word |= (src[i + 18] & 0x3FFFFFFL) << 18;
+            final long value19 = src[i + 19] & 0x3FFFFFFL;
+            words[index + 7] = word | value19 >>> 8;
+            word = value19 << 56;
+            word |= (src[i + 20] & 0x3FFFFFFL) << 30;
+            word |= (src[i + 21] & 0x3FFFFFFL) << 4;
+            final long value22 = src[i + 22] & 0x3FFFFFFL;
+            words[index + 8] = word | value22 >>> 22;
+            word = value22 << 42;
+            word |= (src[i + 23] & 0x3FFFFFFL) << 16;
+            final long value24 = src[i + 24] & 0x3FFFFFFL;
+            words[index + 9] = word | value24 >>> 10;
+            word = value24 << 54;
+            word |= (src[i + 25] & 0x3FFFFFFL) << 28;
+            word |= (src[i + 26] & 0x3FFFFFFL) << 2;
+            final long value27 = src[i + 27] & 0x3FFFFFFL;
+            words[index + 10] = word | value27 >>> 24;
+            word = value27 << 40;
+            word |= (src[i + 28] & 0x3FFFFFFL) << 14;
+            final long value29 = src[i + 29] & 0x3FFFFFFL;
+            words[index + 11] = word | value29 >>> 12;
+            word = value29 << 52;
+            word |= (src[i + 30] & 0x3FFFFFFL) << 26;
+            words[index + 12] = word | (src[i + 31] & 0x3FFFFFFL);
+            index += 13;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 27-bit values into each of {@code count} blocks of
+     * {@code 27} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack27(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFFFFL) << 37;
+            word |= (src[i + 1] & 0x7FFFFFFL) << 10;
+            final long value2 = src[i + 2] & 0x7FFFFFFL;
+            words[index] = word | value2 >>> 17;
+            word = value2 << 47;
+            word |= (src[i + 3] & 0x7FFFFFFL) << 20;
+            final long value4 = src[i + 4] & 0x7FFFFFFL;
+            words[index + 1] = word | value4 >>> 7;
+            word = value4 << 57;
+            word |= (src[i + 5] & 0x7FFFFFFL) << 30;
+            word |= (src[i + 6] & 0x7FFFFFFL) << 3;
+            final long value7 = src[i + 7] & 0x7FFFFFFL;
+            words[index + 2] = word | value7 >>> 24;
+            word = value7 << 40;
+            word |= (src[i + 8] & 0x7FFFFFFL) << 13;
+            final long value9 = src[i + 9] & 0x7FFFFFFL;
+            words[index + 3] = word | value9 >>> 14;
+            word = value9 << 50;
+            word |= (src[i + 10] & 0x7FFFFFFL) << 23;
+            final long value11 = src[i + 11] & 0x7FFFFFFL;
+            words[index + 4] = word | value11 >>> 4;
+            word = value11 << 60;
+            word |= (src[i + 12] & 0x7FFFFFFL) << 33;
+            word |= (src[i + 13] & 0x7FFFFFFL) << 6;
+            final long value14 = src[i + 14] & 0x7FFFFFFL;
+            words[index + 5] = word | value14 >>> 21;
+            word = value14 << 43;
+            word |= (src[i + 15] & 0x7FFFFFFL) << 16;
+            final long value16 = src[i + 16] & 0x7FFFFFFL;
+            words[index + 6] = word | value16 >>> 11;
+            word = value16 << 53;
+            word |= (src[i + 17] & 0x7FFFFFFL) << 26;
+            final long value18 = src[i + 18] & 0x7FFFFFFL;
+            words[index + 7] = word | value18 >>> 1;
+            word = value18 << 63;
+            word |= (src[i + 19] & 0x7FFFFFFL) << 36;
+            word |= (src[i + 20] & 0x7FFFFFFL) << 9;
+            final long value21 = src[i + 21] & 0x7FFFFFFL;
+            words[index + 8] = word | value21 >>> 18;
+            word = value21 << 46;
+            word |= (src[i + 22] & 0x7FFFFFFL) << 19;
+            final long value23 = src[i + 23] & 0x7FFFFFFL;
+            words[index + 9] = word | value23 >>> 8;
+            word = value23 << 56;
+            word |= (src[i + 24] & 0x7FFFFFFL) << 29;
+            word |= (src[i + 25] & 0x7FFFFFFL) << 2;
+            final long value26 = src[i + 26] & 0x7FFFFFFL;
+            words[index + 10] = word | value26 >>> 25;
+            word = value26 << 39;
+            word |= (src[i + 27] & 0x7FFFFFFL) << 12;
+            final long value28 = src[i + 28] & 0x7FFFFFFL;
+            words[index + 11] = word | value28 >>> 15;
+            word = value28 << 49;
+            word |= (src[i + 29] & 0x7FFFFFFL) << 22;
+            final long value30 = src[i + 30] & 0x7FFFFFFL;
+            words[index + 12] = word | value30 >>> 5;
+            word = value30 << 59;
+            word |= (src[i + 31] & 0x7FFFFFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFFFFL) << 5;
+            final long value33 = src[i + 33] & 0x7FFFFFFL;
+            words[index + 13] = word | value33 >>> 22;
+            word = value33 << 42;
+            word |= (src[i + 34] & 0x7FFFFFFL) << 15;
+            final long value35 = src[i + 35] & 0x7FFFFFFL;
+            words[index + 14] = word | value35 >>> 12;
+            word = value35 << 52;
+            word |= (src[i + 36] & 0x7FFFFFFL) << 25;
+            final long value37 = src[i + 37] & 0x7FFFFFFL;
+            words[index + 15] = word | value37 >>> 2;
+            word = value37 << 62;
+            word |= (src[i + 38] & 0x7FFFFFFL) << 35;
+            word |= (src[i + 39] & 0x7FFFFFFL) << 8;
+            final long value40 = src[i + 40] & 0x7FFFFFFL;
+            words[index + 16] = word | value40 >>> 19;
+            word = value40 << 45;
+            word |= (src[i + 41] & 0x7FFFFFFL) << 18;
+            final long value42 = src[i + 42] & 0x7FFFFFFL;
+            words[index + 17] = word | value42 >>> 9;
+            word = value42 << 55;
+            word |= (src[i + 43] & 0x7FFFFFFL) << 28;
+            word |= (src[i + 44] & 0x7FFFFFFL) << 1;
+            final long value45 = src[i + 45] & 0x7FFFFFFL;
+            words[index + 18] = word | value45 >>> 26;
+            word = value45 << 38;
+            word |= (src[i + 46] & 0x7FFFFFFL) << 11;
+            final long value47 = src[i + 47] & 0x7FFFFFFL;
+            words[index + 19] = word | value47 >>> 16;
+            word = value47 << 48;
+            word |= (src[i + 48] & 0x7FFFFFFL) << 21;
+            final long value49 = src[i + 49] & 0x7FFFFFFL;
+            words[index + 20] = word | value49 >>> 6;
+            word = value49 << 58;
+            word |= (src[i + 50] & 0x7FFFFFFL) << 31;
+            word |= (src[i + 51] & 0x7FFFFFFL) << 4;
+            final long value52 = src[i + 52] & 0x7FFFFFFL;
+            words[index + 21] = word | value52 >>> 23;
+            word = value52 << 41;
+            word |= (src[i + 53] & 0x7FFFFFFL) << 14;
+            final long value54 = src[i + 54] & 0x7FFFFFFL;
+            words[index + 22] = word | value54 >>> 13;
+            word = value54 << 51;
+            word |= (src[i + 55] & 0x7FFFFFFL) << 24;
+            final long value56 = src[i + 56] & 0x7FFFFFFL;
+            words[index + 23] = word | value56 >>> 3;
+            word = value56 << 61;
+            word |= (src[i + 57] & 0x7FFFFFFL) << 34;
+            word |= (src[i + 58] & 0x7FFFFFFL) << 7;
+            final long value59 = src[i + 59] & 0x7FFFFFFL;
+            words[index + 24] = word | value59 >>> 20;
+            word = value59 << 44;
+            word |= (src[i + 60] & 0x7FFFFFFL) << 17;
+            final long value61 = src[i + 61] & 0x7FFFFFFL;
+            words[index + 25] = word | value61 >>> 10;
+            word = value61 << 54;
+            word |= (src[i + 62] & 0x7FFFFFFL) << 27;
+            words[index + 26] = word | (src[i + 63] & 0x7FFFFFFL);
+            index += 27;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 16} 28-bit values into each of {@code count} blocks of
+     * {@code 7} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack28(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFFFFL) << 36;
+            word |= (src[i + 1] & 0xFFFFFFFL) << 8;
+            final long value2 = src[i + 2] & 0xFFFFFFFL;
+            words[index] = word | value2 >>> 20;
+            word = value2 << 44;
+            word |= (src[i + 3] & 0xFFFFFFFL) << 16;
+            final long value4 = src[i + 4] & 0xFFFFFFFL;
+            words[index + 1] = word | value4 >>> 12;
+            word = value4 << 52;
+            word |= (src[i + 5] & 0xFFFFFFFL) << 24;
+            final long value6 = src[i + 6] & 0xFFFFFFFL;
+            words[index + 2] = word | value6 >>> 4;
+            word = value6 << 60;
+            word |= (src[i + 7] & 0xFFFFFFFL) << 32;
+            word |= (src[i + 8] & 0xFFFFFFFL) << 4;
+            final long value9 = src[i + 9] & 0xFFFFFFFL;
+            words[index + 3] = word | value9 >>> 24;
+            word = value9 << 40;
+            word |= (src[i + 10] & 0xFFFFFFFL) << 12;
+            final long value11 = src[i + 11] & 0xFFFFFFFL;
+            words[index + 4] = word | value11 >>> 16;
+            word = value11 << 48;
+            word |= (src[i + 12] & 0xFFFFFFFL) << 20;
+            final long value13 = src[i + 13] & 0xFFFFFFFL;
+            words[index + 5] = word | value13 >>> 8;
+            word = value13 << 56;
+            word |= (src[i + 14] & 0xFFFFFFFL) << 28;
+            words[index + 6] = word | (src[i + 15] & 0xFFFFFFFL);
+            index += 7;
+            i += 16;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 29-bit values into each of {@code count} blocks of
+     * {@code 29} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack29(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x1FFFFFFFL) << 35;
+            word |= (src[i + 1] & 0x1FFFFFFFL) << 6;
+            final long value2 = src[i + 2] & 0x1FFFFFFFL;
+            words[index] = word | value2 >>> 23;
+            word = value2 << 41;
+            word |= (src[i + 3] & 0x1FFFFFFFL) << 12;
+            final long value4 = src[i + 4] & 0x1FFFFFFFL;
+            words[index + 1] = word | value4 >>> 17;
+            word = value4 << 47;
+            word |= (src[i + 5] & 0x1FFFFFFFL) << 18;
+            final long value6 = src[i + 6] & 0x1FFFFFFFL;
+            words[index + 2] = word | value6 >>> 11;
+            word = value6 << 53;
+            word |= (src[i + 7] & 0x1FFFFFFFL) << 24;
+            final long value8 = src[i + 8] & 0x1FFFFFFFL;
+            words[index + 3] = word | value8 >>> 5;
+            word = value8 << 59;
+            word |= (src[i + 9] & 0x1FFFFFFFL) << 30;
+            word |= (src[i + 10] & 0x1FFFFFFFL) << 1;
+            final long value11 = src[i + 11] & 0x1FFFFFFFL;
+            words[index + 4] = word | value11 >>> 28;
+            word = value11 << 36;
+            word |= (src[i + 12] & 0x1FFFFFFFL) << 7;
+            final long value13 = src[i + 13] & 0x1FFFFFFFL;
+            words[index + 5] = word | value13 >>> 22;
+            word = value13 << 42;
+            word |= (src[i + 14] & 0x1FFFFFFFL) << 13;
+            final long value15 = src[i + 15] & 0x1FFFFFFFL;
+            words[index + 6] = word | value15 >>> 16;
+            word = value15 << 48;
+            word |= (src[i + 16] & 0x1FFFFFFFL) << 19;
+            final long value17 = src[i + 17] & 0x1FFFFFFFL;
+            words[index + 7] = word | value17 >>> 10;
+            word = value17 << 54;
+            word |= (src[i + 18] & 0x1FFFFFFFL) << 25;
+            final long value19 = src[i + 19] & 0x1FFFFFFFL;
+            words[index + 8] = word | value19 >>> 4;
+            word = value19 << 60;
+            word |= (src[i + 20] & 0x1FFFFFFFL) << 31;
+            word |= (src[i + 21] & 0x1FFFFFFFL) << 2;
+            final long value22 = src[i + 22] & 0x1FFFFFFFL;
+            words[index + 9] = word | value22 >>> 27;
+            word = value22 << 37;
+            word |= (src[i + 23] & 0x1FFFFFFFL) << 8;
+            final long value24 = src[i + 24] & 0x1FFFFFFFL;
+            words[index + 10] = word | value24 >>> 21;
+            word = value24 << 43;
+            word |= (src[i + 25] & 0x1FFFFFFFL) << 14;
+            final long value26 = src[i + 26] & 0x1FFFFFFFL;
+            words[index + 11] = word | value26 >>> 15;
+            word = value26 << 49;
+            word |= (src[i + 27] & 0x1FFFFFFFL) << 20;
+            final long value28 = src[i + 28] & 0x1FFFFFFFL;
+            words[index + 12] = word | value28 >>> 9;
+            word = value28 << 55;
+            word |= (src[i + 29] & 0x1FFFFFFFL) << 26;
+            final long value30 = src[i + 30] & 0x1FFFFFFFL;
+            words[index + 13] = word | value30 >>> 3;
+            word = value30 << 61;
+            word |= (src[i + 31] & 0x1FFFFFFFL) << 32;
+            word |= (src[i + 32] & 0x1FFFFFFFL) << 3;
+            final long value33 = src[i + 33] & 0x1FFFFFFFL;
+            words[index + 14] = word | value33 >>> 26;
+            word = value33 << 38;
+            word |= (src[i + 34] & 0x1FFFFFFFL) << 9;
+            final long value35 = src[i + 35] & 0x1FFFFFFFL;
+            words[index + 15] = word | value35 >>> 20;
+            word = value35 << 44;
+            word |= (src[i + 36] & 0x1FFFFFFFL) << 15;
+            final long value37 = src[i + 37] & 0x1FFFFFFFL;
+            words[index + 16] = word | value37 >>> 14;
+            word = value37 << 50;
+            word |= (src[i + 38] & 0x1FFFFFFFL) << 21;
+            final long value39 = src[i + 39] & 0x1FFFFFFFL;
+            words[index + 17] = word | value39 >>> 8;
+            word = value39 << 56;
+            word |= (src[i + 40] & 0x1FFFFFFFL) << 27;
+            final long value41 = src[i + 41] & 0x1FFFFFFFL;
+            words[index + 18] = word | value41 >>> 2;
+            word = value41 << 62;
+            word |= (src[i + 42] & 0x1FFFFFFFL) << 33;
+            word |= (src[i + 43] & 0x1FFFFFFFL) << 4;
+            final long value44 = src[i + 44] & 0x1FFFFFFFL;
+            words[index + 19] = word | value44 >>> 25;
+            word = value44 << 39;
+            word |= (src[i + 45] & 0x1FFFFFFFL) << 10;
+            final long value46 = src[i + 46] & 0x1FFFFFFFL;
+            words[index + 20] = word | value46 >>> 19;
+            word = value46 << 45;
+            word |= (src[i + 47] & 0x1FFFFFFFL) << 16;
+            final long value48 = src[i + 48] & 0x1FFFFFFFL;
+            words[index + 21] = word | value48 >>> 13;
+            word = value48 << 51;
+            word |= (src[i + 49] & 0x1FFFFFFFL) << 22;
+            final long value50 = src[i + 50] & 0x1FFFFFFFL;
+            words[index + 22] = word | value50 >>> 7;
+            word = value50 << 57;
+            word |= (src[i + 51] & 0x1FFFFFFFL) << 28;
+            final long value52 = src[i + 52] & 0x1FFFFFFFL;
+            words[index + 23] = word | value52 >>> 1;
+            word = value52 << 63;
+            word |= (src[i + 53] & 0x1FFFFFFFL) << 34;
+            word |= (src[i + 54] & 0x1FFFFFFFL) << 5;
+            final long value55 = src[i + 55] & 0x1FFFFFFFL;
+            words[index + 24] = word | value55 >>> 24;
+            word = value55 << 40;
+            word |= (src[i + 56] & 0x1FFFFFFFL) << 11;
+            final long value57 = src[i + 57] & 0x1FFFFFFFL;
+            words[index + 25] = word | value57 >>> 18;
+            word = value57 << 46;
+            word |= (src[i + 58] & 0x1FFFFFFFL) << 17;
+            final long value59 = src[i + 59] & 0x1FFFFFFFL;
+            words[index + 26] = word | value59 >>> 12;
+            word = value59 << 52;
+            word |= (src[i + 60] & 0x1FFFFFFFL) << 23;
+            final long value61 = src[i + 61] & 0x1FFFFFFFL;
+            words[index + 27] = word | value61 >>> 6;
+            word = value61 << 58;
+            word |= (src[i + 62] & 0x1FFFFFFFL) << 29;
+            words[index + 28] = word | (src[i + 63] & 0x1FFFFFFFL);
+            index += 29;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 32} 30-bit values into each of {@code count} blocks of
+     * {@code 15} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack30(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x3FFFFFFFL) << 34;
+            word |= (src[i + 1] & 0x3FFFFFFFL) << 4;
+            final long value2 = src[i + 2] & 0x3FFFFFFFL;
+            words[index] = word | value2 >>> 26;
+            word = value2 << 38;
+            word |= (src[i + 3] & 0x3FFFFFFFL) << 8;
+            final long value4 = src[i + 4] & 0x3FFFFFFFL;
+            words[index + 1] = word | value4 >>> 22;
+            word = value4 << 42;
+            word |= (src[i + 5] & 0x3FFFFFFFL) << 12;
+            final long value6 = src[i + 6] & 0x3FFFFFFFL;
+            words[index + 2] = word | value6 >>> 18;
+            word = value6 << 46;
+            word |= (src[i + 7] & 0x3FFFFFFFL) << 16;
+            final long value8 = src[i + 8] & 0x3FFFFFFFL;
+            words[index + 3] = word | value8 >>> 14;
+            word = value8 << 50;
+            word |= (src[i + 9] & 0x3FFFFFFFL) << 20;
+            final long value10 = src[i + 10] & 0x3FFFFFFFL;
+            words[index + 4] = word | value10 >>> 10;
+            word = value10 << 54;
+            word |= (src[i + 11] & 0x3FFFFFFFL) << 24;
+            final long value12 = src[i + 12] & 0x3FFFFFFFL;
+            words[index + 5] = word | value12 >>> 6;
+            word = value12 << 58;
+            word |= (src[i + 13] & 0x3FFFFFFFL) << 28;
+            final long value14 = src[i + 14] & 0x3FFFFFFFL;
+            words[index + 6] = word | value14 >>> 2;
+            word = value14 << 62;
+            word |= (src[i + 15] & 0x3FFFFFFFL) << 32;
+            word |= (src[i + 16] & 0x3FFFFFFFL) << 2;
+            final long value17 = src[i + 17] & 0x3FFFFFFFL;
+            words[index + 7] = word | value17 >>> 28;
+            word = value17 << 36;
+            word |= (src[i + 18] & 0x3FFFFFFFL) << 6;
+            final long value19 = src[i + 19] & 0x3FFFFFFFL;
+            words[index + 8] = word | value19 >>> 24;
+            word = value19 << 40;
+            word |= (src[i + 20] & 0x3FFFFFFFL) << 10;
+            final long value21 = src[i + 21] & 0x3FFFFFFFL;
+            words[index + 9] = word | value21 >>> 20;
+            word = value21 << 44;
+            word |= (src[i + 22] & 0x3FFFFFFFL) << 14;
+            final long value23 = src[i + 23] & 0x3FFFFFFFL;
+            words[index + 10] = word | value23 >>> 16;
+            word = value23 << 48;
+            word |= (src[i + 24] & 0x3FFFFFFFL) << 18;
+            final long value25 = src[i + 25] & 0x3FFFFFFFL;
+            words[index + 11] = word | value25 >>> 12;
+            word = value25 << 52;
+            word |= (src[i + 26] & 0x3FFFFFFFL) << 22;
+            final long value27 = src[i + 27] & 0x3FFFFFFFL;
+            words[index + 12] = word | value27 >>> 8;
+            word = value27 << 56;
+            word |= (src[i + 28] & 0x3FFFFFFFL) << 26;
+            final long value29 = src[i + 29] & 0x3FFFFFFFL;
+            words[index + 13] = word | value29 >>> 4;
+            word = value29 << 60;
+            word |= (src[i + 30] & 0x3FFFFFFFL) << 30;
+            words[index + 14] = word | (src[i + 31] & 0x3FFFFFFFL);
+            index += 15;
+            i += 32;
+        }
+    }
+
+    /**
+     * Packs {@code 64} 31-bit values into each of {@code count} blocks of
+     * {@code 31} words starting at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of blocks to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack31(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0x7FFFFFFFL) << 33;
+            word |= (src[i + 1] & 0x7FFFFFFFL) << 2;
+            final long value2 = src[i + 2] & 0x7FFFFFFFL;
+            words[index] = word | value2 >>> 29;
+            word = value2 << 35;
+            word |= (src[i + 3] & 0x7FFFFFFFL) << 4;
+            final long value4 = src[i + 4] & 0x7FFFFFFFL;
+            words[index + 1] = word | value4 >>> 27;
+            word = value4 << 37;
+            word |= (src[i + 5] & 0x7FFFFFFFL) << 6;
+            final long value6 = src[i + 6] & 0x7FFFFFFFL;
+            words[index + 2] = word | value6 >>> 25;
+            word = value6 << 39;
+            word |= (src[i + 7] & 0x7FFFFFFFL) << 8;
+            final long value8 = src[i + 8] & 0x7FFFFFFFL;
+            words[index + 3] = word | value8 >>> 23;
+            word = value8 << 41;
+            word |= (src[i + 9] & 0x7FFFFFFFL) << 10;
+            final long value10 = src[i + 10] & 0x7FFFFFFFL;
+            words[index + 4] = word | value10 >>> 21;
+            word = value10 << 43;
+            word |= (src[i + 11] & 0x7FFFFFFFL) << 12;
+            final long value12 = src[i + 12] & 0x7FFFFFFFL;
+            words[index + 5] = word | value12 >>> 19;
+            word = value12 << 45;
+            word |= (src[i + 13] & 0x7FFFFFFFL) << 14;
+            final long value14 = src[i + 14] & 0x7FFFFFFFL;
+            words[index + 6] = word | value14 >>> 17;
+            word = value14 << 47;
+            word |= (src[i + 15] & 0x7FFFFFFFL) << 16;
+            final long value16 = src[i + 16] & 0x7FFFFFFFL;
+            words[index + 7] = word | value16 >>> 15;
+            word = value16 << 49;
+            word |= (src[i + 17] & 0x7FFFFFFFL) << 18;
+            final long value18 = src[i + 18] & 0x7FFFFFFFL;
+            words[index + 8] = word | value18 >>> 13;
+            word = value18 << 51;
+            word |= (src[i + 19] & 0x7FFFFFFFL) << 20;
+            final long value20 = src[i + 20] & 0x7FFFFFFFL;
+            words[index + 9] = word | value20 >>> 11;
+            word = value20 << 53;
+            word |= (src[i + 21] & 0x7FFFFFFFL) << 22;
+            final long value22 = src[i + 22] & 0x7FFFFFFFL;
+            words[index + 10] = word | value22 >>> 9;
+            word = value22 << 55;
+            word |= (src[i + 23] & 0x7FFFFFFFL) << 24;
+            final long value24 = src[i + 24] & 0x7FFFFFFFL;
+            words[index + 11] = word | value24 >>> 7;
+            word = value24 << 57;
+            word |= (src[i + 25] & 0x7FFFFFFFL) << 26;
+            final long value26 = src[i + 26] & 0x7FFFFFFFL;
+            words[index + 12] = word | value26 >>> 5;
+            word = value26 << 59;
+            word |= (src[i + 27] & 0x7FFFFFFFL) << 28;
+            final long value28 = src[i + 28] & 0x7FFFFFFFL;
+            words[index + 13] = word | value28 >>> 3;
+            word = value28 << 61;
+            word |= (src[i + 29] & 0x7FFFFFFFL) << 30;
+            final long value30 = src[i + 30] & 0x7FFFFFFFL;
+            words[index + 14] = word | value30 >>> 1;
+            word = value30 << 63;
+            word |= (src[i + 31] & 0x7FFFFFFFL) << 32;
+            word |= (src[i + 32] & 0x7FFFFFFFL) << 1;
+            final long value33 = src[i + 33] & 0x7FFFFFFFL;
+            words[index + 15] = word | value33 >>> 30;
+            word = value33 << 34;
+            word |= (src[i + 34] & 0x7FFFFFFFL) << 3;
+            final long value35 = src[i + 35] & 0x7FFFFFFFL;
+            words[index + 16] = word | value35 >>> 28;
+            word = value35 << 36;
+            word |= (src[i + 36] & 0x7FFFFFFFL) << 5;
+            final long value37 = src[i + 37] & 0x7FFFFFFFL;
+            words[index + 17] = word | value37 >>> 26;
+            word = value37 << 38;
+            word |= (src[i + 38] & 0x7FFFFFFFL) << 7;
+            final long value39 = src[i + 39] & 0x7FFFFFFFL;
+            words[index + 18] = word | value39 >>> 24;
+            word = value39 << 40;
+            word |= (src[i + 40] & 0x7FFFFFFFL) << 9;
+            final long value41 = src[i + 41] & 0x7FFFFFFFL;
+            words[index + 19] = word | value41 >>> 22;
+            word = value41 << 42;
+            word |= (src[i + 42] & 0x7FFFFFFFL) << 11;
+            final long value43 = src[i + 43] & 0x7FFFFFFFL;
+            words[index + 20] = word | value43 >>> 20;
+            word = value43 << 44;
+            word |= (src[i + 44] & 0x7FFFFFFFL) << 13;
+            final long value45 = src[i + 45] & 0x7FFFFFFFL;
+            words[index + 21] = word | value45 >>> 18;
+            word = value45 << 46;
+            word |= (src[i + 46] & 0x7FFFFFFFL) << 15;
+            final long value47 = src[i + 47] & 0x7FFFFFFFL;
+            words[index + 22] = word | value47 >>> 16;
+            word = value47 << 48;
+            word |= (src[i + 48] & 0x7FFFFFFFL) << 17;
+            final long value49 = src[i + 49] & 0x7FFFFFFFL;
+            words[index + 23] = word | value49 >>> 14;
+            word = value49 << 50;
+            word |= (src[i + 50] & 0x7FFFFFFFL) << 19;
+            final long value51 = src[i + 51] & 0x7FFFFFFFL;
+            words[index + 24] = word | value51 >>> 12;
+            word = value51 << 52;
+            word |= (src[i + 52] & 0x7FFFFFFFL) << 21;
+            final long value53 = src[i + 53] & 0x7FFFFFFFL;
+            words[index + 25] = word | value53 >>> 10;
+            word = value53 << 54;
+            word |= (src[i + 54] & 0x7FFFFFFFL) << 23;
+            final long value55 = src[i + 55] & 0x7FFFFFFFL;
+            words[index + 26] = word | value55 >>> 8;
+            word = value55 << 56;
+            word |= (src[i + 56] & 0x7FFFFFFFL) << 25;
+            final long value57 = src[i + 57] & 0x7FFFFFFFL;
+            words[index + 27] = word | value57 >>> 6;
+            word = value57 << 58;
+            word |= (src[i + 58] & 0x7FFFFFFFL) << 27;
+            final long value59 = src[i + 59] & 0x7FFFFFFFL;
+            words[index + 28] = word | value59 >>> 4;
+            word = value59 << 60;
+            word |= (src[i + 60] & 0x7FFFFFFFL) << 29;
+            final long value61 = src[i + 61] & 0x7FFFFFFFL;
+            words[index + 29] = word | value61 >>> 2;
+            word = value61 << 62;
+            word |= (src[i + 62] & 0x7FFFFFFFL) << 31;
+            words[index + 30] = word | (src[i + 63] & 0x7FFFFFFFL);
+            index += 31;
+            i += 64;
+        }
+    }
+
+    /**
+     * Packs {@code 2} 32-bit values into each of {@code count} words starting
+     * at {@code index}.
+     *
+     * @param words the words
+     * @param index the index of the first word
+     * @param count the number of words to pack
+     * @param src the long array
+     * @param i the starting index in {@code src}
+     */
+    private static void pack32(final long[] words, int index, final int count,
+                               final long[] src, int i) {
+        for (int k = 0; k < count; k++) {
+            long word = (src[i] & 0xFFFFFFFFL) << 32;
+            words[index] = word | (src[i + 1] & 0xFFFFFFFFL);
+            index++;
+            i += 2;
+        }
+    }
+
+    private BitIoPackingKernels() {
+        super();
+    }
+}
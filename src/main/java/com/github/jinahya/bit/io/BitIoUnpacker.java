@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+/**
+ * Unpacks fixed-width int values from words. This class delegates to the
+ * scalar kernel in {@link BitIoPacking}; a vectorized subclass is used instead
+ * when the runtime provides one.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+class BitIoUnpacker {
+
+    /**
+     * The name of the vectorized subclass which exists only in the
+     * {@code META-INF/versions/16} directory of the multi-release jar.
+     */
+    static final String VECTOR_UNPACKER_NAME
+            = "com.github.jinahya.bit.io.BitIoVectorUnpacker";
+
+    /**
+     * Loads the vectorized subclass.
+     *
+     * @return the vectorized subclass or {@code null} if the class doesn't
+     * exist or the {@code jdk.incubator.vector} module is not available.
+     */
+    private static Class<?> vectorUnpackerClass() {
+        try {
+            final Class<?> c = Class.forName(VECTOR_UNPACKER_NAME);
+            c.getDeclaredConstructor().newInstance();
+            return c;
+        } catch (final Exception e) {
+            return null;
+        } catch (final LinkageError e) { // module not added
+            return null;
+        }
+    }
+
+    /**
+     * The vectorized subclass; {@code null} if not available.
+     */
+    private static final Class<?> VECTOR_UNPACKER_CLASS
+            = vectorUnpackerClass();
+
+    /**
+     * Creates a new instance of the vectorized subclass if available;
+     * otherwise creates a new instance of this class.
+     *
+     * @return a new instance.
+     */
+    static BitIoUnpacker newInstance() {
+        if (VECTOR_UNPACKER_CLASS != null) {
+            try {
+                return (BitIoUnpacker) VECTOR_UNPACKER_CLASS
+                        .getDeclaredConstructor().newInstance();
+            } catch (final Exception e) {
+                // fall through
+            }
+        }
+        return new BitIoUnpacker();
+    }
+
+    /**
+     * Unpacks fixed-width values from words into an int array. The
+     * {@code unpack(long[], long, boolean, int, int[], int, int)} method of
+     * {@code BitIoUnpacker} class invokes
+     * {@link BitIoPacking#unpack(long[], long, boolean, int, int[], int, int)}.
+     *
+     * @param words the words; bit {@code 0} is the highest bit of
+     * {@code words[0]}. Implementations may read, but not use, up to one word
+     * beyond the last bit.
+     * @param bit the bit index of the first value in {@code words}
+     * @param unsigned a flag for unsigned values
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param dst the int array
+     * @param offset the starting index in {@code dst}
+     * @param length the number of values to unpack
+     */
+    void unpack(final long[] words, final long bit, final boolean unsigned,
+                final int size, final int[] dst, final int offset,
+                final int length) {
+        BitIoPacking.unpack(words, bit, unsigned, size, dst, offset, length);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A {@link BitInput} reads bits directly from an instance of
+ * {@link ByteBuffer}. The bit register is refilled with
+ * {@link ByteBuffer#getLong()} while eight or more bytes remain and with
+ * {@link ByteBuffer#get()} near the limit.
+ * <p>
+ * Octets may be read ahead of bits actually consumed. The {@link #align(int)}
+ * method puts those octets back so that the position of the {@link #source}
+ * is exactly after the last octet consumed and the buffer can be handed back
+ * to the caller.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see BufferByteInput
+ */
+public class BufferBitInput extends AbstractBitInput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance built on top of the specified byte buffer.
+     *
+     * @param source the byte buffer; {@code null} if it's supposed to be lazily
+     * initialized and set.
+     */
+    public BufferBitInput(final ByteBuffer source) {
+        super();
+        this.source = source;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code BufferBitInput} class
+     * invokes {@link ByteBuffer#get()} on {@link #source} and returns the
+     * result as an unsigned 8-bit int.
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        return source.get() & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of
+     * {@code BufferBitInput} class invokes
+     * {@link ByteBuffer#get(byte[], int, int)} on {@link #source}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, final int offset, final int length)
+            throws IOException {
+        source.get(array, offset, length);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of
+     * {@code BufferBitInput} class advances the position of {@link #source}.
+     *
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws BufferUnderflowException if {@link #source} has fewer than
+     * {@code length} bytes remaining.
+     */
+    @Override
+    public void skipBytes(final long length) throws IOException {
+        if (source.remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+        ((Buffer) source).position(source.position() + (int) length);
+    }
+
+    /**
+     * {@inheritDoc} The {@code prefetch(int)} method of {@code BufferBitInput}
+     * class returns {@code 8} if the {@link #source} has eight or more bytes
+     * remaining.
+     *
+     * @param required {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected int prefetch(final int required) {
+        return source.remaining() >= 8 ? 8 : required;
+    }
+
+    /**
+     * {@inheritDoc} The {@code octets(int)} method of {@code BufferBitInput}
+     * class invokes {@link ByteBuffer#getLong()} for eight octets regardless
+     * of the order of the {@link #source}.
+     *
+     * @param length {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected long octets(final int length) throws IOException {
+        if (length == 8) {
+            final long value = source.getLong();
+            return source.order() == ByteOrder.BIG_ENDIAN
+                   ? value : Long.reverseBytes(value);
+        }
+        long value = 0L;
+        for (int i = 0; i < length; i++) {
+            value <<= 8;
+            value |= source.get() & 0xFF;
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc} The {@code align(int)} method of {@code BufferBitInput}
+     * class puts back octets read ahead by moving the position of the
+     * {@link #source} backward.
+     *
+     * @param bytes {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public long align(final int bytes) throws IOException {
+        final long bits = super.align(bytes);
+        final int octets = unload();
+        if (octets > 0) {
+            ((Buffer) source).position(source.position() - octets);
+        }
+        return bits;
+    }
+
+    // ------------------------------------------------------------------ source
+    /**
+     * Returns the current value of {@link #source}.
+     *
+     * @return the current value of {@link #source}
+     */
+    public ByteBuffer getSource() {
+        return source;
+    }
+
+    /**
+     * Replaces the current value of {@link #source} with given. Any bits left
+     * from the previous source should be discarded, with {@link #align(int)},
+     * before replacing.
+     *
+     * @param source new value for {@link #source}
+     */
+    public void setSource(final ByteBuffer source) {
+        this.source = source;
+    }
+
+    /**
+     * Replaces the current value of {@link #source} with given and returns this
+     * instance.
+     *
+     * @param source new value for {@link #source}
+     * @return this instance
+     * @see #setSource(java.nio.ByteBuffer)
+     */
+    public BufferBitInput source(final ByteBuffer source) {
+        setSource(source);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The underlying byte buffer.
+     */
+    protected ByteBuffer source;
+}
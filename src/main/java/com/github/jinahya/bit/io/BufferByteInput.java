@@ -16,6 +16,8 @@
 package com.github.jinahya.bit.io;
 
 import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 
 /**
@@ -55,6 +57,44 @@ public class BufferByteInput extends AbstractByteInput<ByteBuffer> {
         return source.get() & 0xFF;
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of
+     * {@code BufferByteInput} class invokes
+     * {@link ByteBuffer#get(byte[], int, int)} on {@link #source}. Override
+     * this method along with {@link #read()} if {@link #source} is supposed to
+     * be lazily initialized or adjusted.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see ByteBuffer#get(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] array, final int offset, final int length)
+            throws IOException {
+        source.get(array, offset, length);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of
+     * {@code BufferByteInput} class advances the position of {@link #source}.
+     * Override this method along with {@link #read()} if {@link #source} is
+     * supposed to be lazily initialized or adjusted.
+     *
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws BufferUnderflowException if {@link #source} has fewer than
+     * {@code length} bytes remaining.
+     */
+    @Override
+    public void skipBytes(final long length) throws IOException {
+        if (source.remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+        ((Buffer) source).position(source.position() + (int) length);
+    }
+
     // ------------------------------------------------------------------ source
     @Override
     public BufferByteInput source(final ByteBuffer source) {
@@ -55,6 +55,25 @@ public class BufferByteOutput extends AbstractByteOutput<ByteBuffer> {
         target.put((byte) value);
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of
+     * {@code BufferByteOutput} class invokes
+     * {@link ByteBuffer#put(byte[], int, int)} on {@link #target}. Override
+     * this method along with {@link #write(int)} if {@link #target} is
+     * supposed to be lazily initialized or adjusted.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see ByteBuffer#put(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] array, final int offset, final int length)
+            throws IOException {
+        target.put(array, offset, length);
+    }
+
     // ------------------------------------------------------------------ target
     @Override
     public BufferByteOutput target(final ByteBuffer target) {
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * An abstract {@link BitInput} reads bytes through an internal buffer which is
+ * refilled, as a whole, from an underlying byte source.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see BufferedBitOutput
+ */
+public abstract class BufferedBitInput extends AbstractBitInput {
+
+    /**
+     * The default size of the {@link #buffer}.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance with a buffer of {@link #DEFAULT_BUFFER_SIZE}.
+     */
+    public BufferedBitInput() {
+        this(new byte[DEFAULT_BUFFER_SIZE]);
+    }
+
+    /**
+     * Creates a new instance with given buffer.
+     *
+     * @param buffer the buffer to use; {@code null} if it's supposed to be
+     * lazily initialized with {@link #newBuffer()}.
+     * @throws IllegalArgumentException if {@code buffer} is empty.
+     */
+    public BufferedBitInput(final byte[] buffer) {
+        super();
+        this.buffer = requireNonEmpty(buffer);
+    }
+
+    private static byte[] requireNonEmpty(final byte[] buffer) {
+        if (buffer != null && buffer.length == 0) {
+            throw new IllegalArgumentException("buffer.length == 0");
+        }
+        return buffer;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Reads up to {@code length} bytes from the underlying byte source into
+     * specified array.
+     *
+     * @param array the array into which bytes are read
+     * @param offset the starting index in the {@code array}
+     * @param length the maximum number of bytes to read; always positive.
+     * @return the number of bytes read; {@code -1} if the underlying byte
+     * source reached its end.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected abstract int fill(byte[] array, int offset, int length)
+            throws IOException;
+
+    /**
+     * Returns a new buffer for the {@link #buffer} which is {@code null} when
+     * bytes are read. The {@code newBuffer()} method of
+     * {@code BufferedBitInput} class returns a new array of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @return a new non-empty buffer.
+     */
+    protected byte[] newBuffer() {
+        return new byte[DEFAULT_BUFFER_SIZE];
+    }
+
+    /**
+     * Sets the {@link #buffer} with {@link #newBuffer()} if it is
+     * {@code null}.
+     */
+    private void initBuffer() {
+        if (buffer == null) {
+            final byte[] created = newBuffer();
+            if (created == null) {
+                throw new IllegalStateException("newBuffer() returned null");
+            }
+            setBuffer(created);
+        }
+    }
+
+    /**
+     * Refills the {@link #buffer} from the underlying byte source.
+     *
+     * @throws EOFException if the underlying byte source reached its end.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void fill() throws IOException {
+        initBuffer();
+        int filled;
+        do {
+            filled = fill(buffer, 0, buffer.length);
+        } while (filled == 0);
+        if (filled == -1) {
+            throw new EOFException();
+        }
+        index = 0;
+        limit = filled;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code BufferedBitInput}
+     * class returns the next byte in the {@link #buffer} and refills the
+     * {@link #buffer} when it is exhausted.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the underlying byte source reached its end.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        if (index >= limit) {
+            fill();
+        }
+        return buffer[index++] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of
+     * {@code BufferedBitInput} class copies bytes from the {@link #buffer}
+     * and reads directly from the underlying byte source when the remaining
+     * number of bytes is not less than the size of the {@link #buffer}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws EOFException if the underlying byte source reached its end.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, int offset, int length)
+            throws IOException {
+        while (length > 0) {
+            if (index >= limit) {
+                initBuffer();
+                if (length >= buffer.length) {
+                    final int filled = fill(array, offset, length);
+                    if (filled == -1) {
+                        throw new EOFException();
+                    }
+                    offset += filled;
+                    length -= filled;
+                    continue;
+                }
+                fill();
+            }
+            final int copied = Math.min(limit - index, length);
+            System.arraycopy(buffer, index, array, offset, copied);
+            index += copied;
+            offset += copied;
+            length -= copied;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of
+     * {@code BufferedBitInput} class discards bytes in the {@link #buffer}
+     * and refills it as required.
+     *
+     * @param length {@inheritDoc}
+     * @throws EOFException if the underlying byte source reached its end.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skipBytes(long length) throws IOException {
+        while (length > 0L) {
+            if (index >= limit) {
+                fill();
+            }
+            final int skipped = (int) Math.min(limit - index, length);
+            index += skipped;
+            length -= skipped;
+        }
+    }
+
+    // ------------------------------------------------------------------ buffer
+    /**
+     * Returns the current value of {@link #buffer}.
+     *
+     * @return the current value of {@link #buffer}
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Replaces the current value of {@link #buffer} with given. Any bytes
+     * remained in the previous buffer are discarded.
+     *
+     * @param buffer new value for {@link #buffer}; {@code null} if it's
+     * supposed to be lazily initialized with {@link #newBuffer()}.
+     * @throws IllegalArgumentException if {@code buffer} is empty.
+     */
+    public void setBuffer(final byte[] buffer) {
+        this.buffer = requireNonEmpty(buffer);
+        index = 0;
+        limit = 0;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The buffer holding bytes read from the underlying byte source.
+     */
+    protected byte[] buffer;
+
+    /**
+     * The index in the {@link #buffer} to read.
+     */
+    protected int index;
+
+    /**
+     * The index in the {@link #buffer} that {@link #index} can't exceed.
+     */
+    protected int limit;
+}
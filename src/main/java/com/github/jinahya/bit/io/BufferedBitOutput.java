@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * An abstract {@link BitOutput} writes bytes through an internal buffer which
+ * is drained, as a whole, to an underlying byte target.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see BufferedBitInput
+ */
+public abstract class BufferedBitOutput extends AbstractBitOutput
+        implements Flushable, Closeable {
+
+    /**
+     * The default size of the {@link #buffer}.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance with a buffer of {@link #DEFAULT_BUFFER_SIZE}.
+     */
+    public BufferedBitOutput() {
+        this(new byte[DEFAULT_BUFFER_SIZE]);
+    }
+
+    /**
+     * Creates a new instance with given buffer.
+     *
+     * @param buffer the buffer to use; {@code null} if it's supposed to be
+     * lazily initialized and set.
+     */
+    public BufferedBitOutput(final byte[] buffer) {
+        super();
+        this.buffer = buffer;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Writes all {@code length} bytes from specified array to the underlying
+     * byte target.
+     *
+     * @param array the array from which bytes are written
+     * @param offset the starting index in the {@code array}
+     * @param length the number of bytes to write; always positive.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected abstract void drain(byte[] array, int offset, int length)
+            throws IOException;
+
+    /**
+     * Drains all bytes in the {@link #buffer}, if any, to the underlying byte
+     * target.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void drain() throws IOException {
+        if (index > 0) {
+            drain(buffer, 0, index);
+            index = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code BufferedBitOutput}
+     * class puts given value into the {@link #buffer} and drains the
+     * {@link #buffer} when it is full.
+     *
+     * @param value {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final int value) throws IOException {
+        buffer[index++] = (byte) value;
+        if (index == buffer.length) {
+            drain();
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of
+     * {@code BufferedBitOutput} class copies bytes into the {@link #buffer}
+     * and writes directly to the underlying byte target when the number of
+     * bytes is not less than the size of the {@link #buffer}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] array, int offset, int length)
+            throws IOException {
+        if (length >= buffer.length) {
+            drain();
+            drain(array, offset, length);
+            return;
+        }
+        while (length > 0) {
+            final int copied = Math.min(buffer.length - index, length);
+            System.arraycopy(array, offset, buffer, index, copied);
+            index += copied;
+            offset += copied;
+            length -= copied;
+            if (index == buffer.length) {
+                drain();
+            }
+        }
+    }
+
+    /**
+     * Pads the current octet, as {@code align(1)} does, and writes all
+     * buffered bytes to the underlying byte target.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @see #align(int)
+     */
+    @Override
+    public void flush() throws IOException {
+        align(1);
+        drain();
+    }
+
+    /**
+     * Releases the underlying byte target. The {@code release()} method of
+     * {@code BufferedBitOutput} class does nothing.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @see #close()
+     */
+    protected void release() throws IOException {
+    }
+
+    /**
+     * Flushes this output and releases the underlying byte target. The
+     * {@code close()} method of {@code BufferedBitOutput} class invokes
+     * {@link #flush()} and then, even if flushing fails, {@link #release()}.
+     * Closing a closed output has no effect.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+        } finally {
+            release();
+        }
+    }
+
+    // ------------------------------------------------------------------ buffer
+    /**
+     * Returns the current value of {@link #buffer}.
+     *
+     * @return the current value of {@link #buffer}
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Replaces the current value of {@link #buffer} with given. Any bytes
+     * remained in the previous buffer are drained first.
+     *
+     * @param buffer new value for {@link #buffer}
+     * @throws IOException if an I/O error occurs.
+     */
+    public void setBuffer(final byte[] buffer) throws IOException {
+        if (this.buffer != null) {
+            drain();
+        }
+        this.buffer = buffer;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The buffer holding bytes to be written to the underlying byte target.
+     */
+    protected byte[] buffer;
+
+    /**
+     * The index in the {@link #buffer} to write.
+     */
+    protected int index;
+
+    /**
+     * A flag for a closed output.
+     */
+    private boolean closed;
+}
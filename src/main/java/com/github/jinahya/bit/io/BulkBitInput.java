@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A {@link BitInput} which reads arrays of values of the same size at once.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public interface BulkBitInput extends BitInput {
+
+    /**
+     * Reads specified number of int values of the same size into given array.
+     * The result is equivalent to invoking {@link #readInt(boolean, int)}
+     * {@code length} times.
+     *
+     * @param unsigned a flag for unsigned values
+     * @param size number of bits for each value; between {@code 1} and
+     * {@code 31 + (unsigned ? 0 : 1)}, both inclusive.
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is
+     * out of bounds of {@code array}.
+     * @throws IOException if an I/O error occurs.
+     */
+    void readInts(boolean unsigned, int size, int[] array, int offset,
+                  int length)
+            throws IOException;
+
+    /**
+     * Reads specified number of long values of the same size into given
+     * array. The result is equivalent to invoking
+     * {@link #readLong(boolean, int)} {@code length} times.
+     *
+     * @param unsigned a flag for unsigned values
+     * @param size number of bits for each value; between {@code 1} and
+     * {@code 63 + (unsigned ? 0 : 1)}, both inclusive.
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is
+     * out of bounds of {@code array}.
+     * @throws IOException if an I/O error occurs.
+     */
+    void readLongs(boolean unsigned, int size, long[] array, int offset,
+                   int length)
+            throws IOException;
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A {@link BufferedBitInput} reads bytes from a {@link ReadableByteChannel}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see ChannelBitOutput
+ */
+public class ChannelBitInput extends BufferedBitInput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance built on top of the specified channel.
+     *
+     * @param source the channel; {@code null} if it's supposed to be lazily
+     * initialized and set
+     */
+    public ChannelBitInput(final ReadableByteChannel source) {
+        super();
+        this.source = source;
+    }
+
+    /**
+     * Creates a new instance built on top of the specified channel with given
+     * buffer.
+     *
+     * @param source the channel; {@code null} if it's supposed to be lazily
+     * initialized and set
+     * @param buffer the buffer to use; {@code null} if it's supposed to be
+     * lazily initialized with {@link #newBuffer()}.
+     * @throws IllegalArgumentException if {@code buffer} is empty.
+     */
+    public ChannelBitInput(final ReadableByteChannel source,
+                           final byte[] buffer) {
+        super(buffer);
+        this.source = source;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * {@inheritDoc} The {@code fill(byte[], int, int)} method of
+     * {@code ChannelBitInput} class invokes
+     * {@link ReadableByteChannel#read(ByteBuffer)} on {@link #source} with a
+     * byte buffer wrapping specified array and returns the result.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IllegalBlockingModeException if the {@link #source} is a
+     * selectable channel in non-blocking mode and no bytes are available.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected int fill(final byte[] array, final int offset, final int length)
+            throws IOException {
+        final ByteBuffer wrapped = wrap(array);
+        ((Buffer) wrapped).limit(offset + length);
+        ((Buffer) wrapped).position(offset);
+        final int read = source.read(wrapped);
+        if (read == 0) {
+            BitIoConstraints.requireBlocking(source);
+        }
+        return read;
+    }
+
+    /**
+     * Returns a byte buffer wrapping specified array. The last two wrappers
+     * are kept so that switching between the internal buffer and an array of
+     * a caller creates no new wrapper.
+     *
+     * @param array the array to wrap
+     * @return a byte buffer wrapping the {@code array}
+     */
+    private ByteBuffer wrap(final byte[] array) {
+        if (wrapper == null || wrapper.array() != array) {
+            final ByteBuffer other = previous;
+            previous = wrapper;
+            wrapper = other != null && other.array() == array
+                      ? other : ByteBuffer.wrap(array);
+        }
+        return wrapper;
+    }
+
+    // ------------------------------------------------------------------ source
+    /**
+     * Returns the current value of {@link #source}.
+     *
+     * @return the current value of {@link #source}
+     */
+    public ReadableByteChannel getSource() {
+        return source;
+    }
+
+    /**
+     * Replaces the current value of {@link #source} with given.
+     *
+     * @param source new value for {@link #source}
+     */
+    public void setSource(final ReadableByteChannel source) {
+        this.source = source;
+    }
+
+    /**
+     * Replaces the current value of {@link #source} with given and returns this
+     * instance.
+     *
+     * @param source new value for {@link #source}
+     * @return this instance
+     * @see #setSource(java.nio.channels.ReadableByteChannel)
+     */
+    public ChannelBitInput source(final ReadableByteChannel source) {
+        setSource(source);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The underlying channel.
+     */
+    protected ReadableByteChannel source;
+
+    /**
+     * A byte buffer wrapping the array being filled.
+     */
+    private ByteBuffer wrapper;
+
+    /**
+     * A byte buffer wrapping the array filled before.
+     */
+    private ByteBuffer previous;
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link BufferedBitOutput} writes bytes to a {@link WritableByteChannel}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see ChannelBitInput
+ */
+public class ChannelBitOutput extends BufferedBitOutput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance built on top of the specified channel.
+     *
+     * @param target the channel; {@code null} if it's supposed to be lazily
+     * initialized and set.
+     */
+    public ChannelBitOutput(final WritableByteChannel target) {
+        super();
+        this.target = target;
+    }
+
+    /**
+     * Creates a new instance built on top of the specified channel with given
+     * buffer.
+     *
+     * @param target the channel; {@code null} if it's supposed to be lazily
+     * initialized and set.
+     * @param buffer the buffer to use; {@code null} if it's supposed to be
+     * lazily initialized and set.
+     */
+    public ChannelBitOutput(final WritableByteChannel target,
+                            final byte[] buffer) {
+        super(buffer);
+        this.target = target;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * {@inheritDoc} The {@code drain(byte[], int, int)} method of
+     * {@code ChannelBitOutput} class invokes
+     * {@link WritableByteChannel#write(ByteBuffer)} on {@link #target}, with a
+     * byte buffer wrapping specified array, until all bytes are written.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IllegalBlockingModeException if the {@link #target} is a
+     * selectable channel in non-blocking mode and accepts no bytes.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void drain(final byte[] array, final int offset,
+                         final int length)
+            throws IOException {
+        final ByteBuffer wrapped = wrap(array);
+        ((Buffer) wrapped).limit(offset + length);
+        ((Buffer) wrapped).position(offset);
+        while (wrapped.hasRemaining()) {
+            if (target.write(wrapped) == 0) {
+                BitIoConstraints.requireBlocking(target);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code release()} method of {@code ChannelBitOutput}
+     * class invokes {@link WritableByteChannel#close()} on {@link #target}.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void release() throws IOException {
+        target.close();
+    }
+
+    /**
+     * Returns a byte buffer wrapping specified array. The last two wrappers
+     * are kept so that switching between the internal buffer and an array of
+     * a caller creates no new wrapper.
+     *
+     * @param array the array to wrap
+     * @return a byte buffer wrapping the {@code array}
+     */
+    private ByteBuffer wrap(final byte[] array) {
+        if (wrapper == null || wrapper.array() != array) {
+            final ByteBuffer other = previous;
+            previous = wrapper;
+            wrapper = other != null && other.array() == array
+                      ? other : ByteBuffer.wrap(array);
+        }
+        return wrapper;
+    }
+
+    // ------------------------------------------------------------------ target
+    /**
+     * Returns the current value of {@link #target}.
+     *
+     * @return the current value of {@link #target}.
+     */
+    public WritableByteChannel getTarget() {
+        return target;
+    }
+
+    /**
+     * Replaces the value of {@link #target} with given.
+     *
+     * @param target new value for {@link #target}.
+     */
+    public void setTarget(final WritableByteChannel target) {
+        this.target = target;
+    }
+
+    /**
+     * Replaces the value of {@link #target} with given and returns this
+     * instance.
+     *
+     * @param target new value for {@link #target}.
+     * @return this instance.
+     * @see #setTarget(java.nio.channels.WritableByteChannel)
+     */
+    public ChannelBitOutput target(final WritableByteChannel target) {
+        setTarget(target);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The underlying channel.
+     */
+    protected WritableByteChannel target;
+
+    /**
+     * A byte buffer wrapping the array being drained.
+     */
+    private ByteBuffer wrapper;
+
+    /**
+     * A byte buffer wrapping the array drained before.
+     */
+    private ByteBuffer previous;
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A {@link ByteOutput} writes bytes into pooled direct byte buffers and sends
+ * them to a {@link WritableByteChannel} in batches. A batch is sent with a
+ * single gathering write when the {@link #target} is a
+ * {@link GatheringByteChannel} and buffers are recycled right after each batch.
+ * <p>
+ * Bytes are sent only when a batch is full or when {@link #flush()} is invoked
+ * so callers should align the bit output wrapping this byte output, with
+ * {@code align(1)}, and flush this byte output when done. Once sending a batch
+ * fails, the bytes of the batch are discarded and any further attempt to send
+ * bytes fails with an {@link IOException}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see BufferByteOutput
+ * @see StreamByteOutput
+ */
+public class ChannelByteOutput extends AbstractByteOutput<WritableByteChannel>
+        implements Flushable, Closeable {
+
+    /**
+     * The default capacity of each pooled buffer.
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = 8192;
+
+    /**
+     * The default number of buffers sent in a batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 16;
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance with {@link #DEFAULT_BUFFER_CAPACITY} and
+     * {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @param target the channel; {@code null} if it's supposed to be lazily
+     * initialized and set.
+     */
+    public ChannelByteOutput(final WritableByteChannel target) {
+        this(target, DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new instance with given buffer capacity and batch size.
+     *
+     * @param target the channel; {@code null} if it's supposed to be lazily
+     * initialized and set.
+     * @param bufferCapacity the capacity of each pooled buffer
+     * @param batchSize the maximum number of buffers sent in a batch
+     */
+    public ChannelByteOutput(final WritableByteChannel target,
+                             final int bufferCapacity, final int batchSize) {
+        super(target);
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "bufferCapacity(" + bufferCapacity + ") <= 0");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(
+                    "batchSize(" + batchSize + ") <= 0");
+        }
+        this.bufferCapacity = bufferCapacity;
+        this.batch = new ByteBuffer[batchSize];
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Returns the current buffer, borrowing one from the pool if required.
+     *
+     * @return the current buffer which has at least one byte remaining.
+     * @throws IOException if an I/O error occurs.
+     */
+    private ByteBuffer current() throws IOException {
+        if (current != null && current.hasRemaining()) {
+            return current;
+        }
+        requireNotFailed();
+        if (current != null) {
+            batch[batched++] = current;
+            current = null;
+            if (batched == batch.length) {
+                send();
+            }
+        }
+        current = pool.pollFirst();
+        if (current == null) {
+            current = ByteBuffer.allocateDirect(bufferCapacity);
+        }
+        return current;
+    }
+
+    /**
+     * Checks whether a previous batch failed to be sent.
+     *
+     * @throws IOException if a previous batch failed to be sent.
+     */
+    private void requireNotFailed() throws IOException {
+        if (failed) {
+            throw new IOException("a previous batch failed to be sent");
+        }
+    }
+
+    /**
+     * Sends all batched buffers to the {@link #target} and recycles them. The
+     * buffers are recycled even if sending fails, in which case this output is
+     * marked failed.
+     *
+     * @throws IllegalBlockingModeException if the {@link #target} is a
+     * selectable channel in non-blocking mode and accepts no bytes.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void send() throws IOException {
+        boolean sent = false;
+        try {
+            for (int i = 0; i < batched; i++) {
+                ((Buffer) batch[i]).flip();
+            }
+            if (target instanceof GatheringByteChannel) {
+                final GatheringByteChannel channel
+                        = (GatheringByteChannel) target;
+                for (int i = 0; i < batched;) {
+                    final long count = channel.write(batch, i, batched - i);
+                    if (count == 0L) {
+                        BitIoConstraints.requireBlocking(target);
+                    }
+                    written += count;
+                    while (i < batched && !batch[i].hasRemaining()) {
+                        i++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < batched; i++) {
+                    while (batch[i].hasRemaining()) {
+                        final int count = target.write(batch[i]);
+                        if (count == 0) {
+                            BitIoConstraints.requireBlocking(target);
+                        }
+                        written += count;
+                    }
+                }
+            }
+            sent = true;
+        } finally {
+            for (int i = 0; i < batched; i++) {
+                ((Buffer) batch[i]).clear();
+                pool.offerFirst(batch[i]);
+                batch[i] = null;
+            }
+            batched = 0;
+            failed = !sent;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code ChannelByteOutput}
+     * class puts given value into the current pooled buffer.
+     *
+     * @param value {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final int value) throws IOException {
+        current().put((byte) value);
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of
+     * {@code ChannelByteOutput} class puts bytes into pooled buffers.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] array, int offset, int length)
+            throws IOException {
+        while (length > 0) {
+            final ByteBuffer buffer = current();
+            final int put = Math.min(buffer.remaining(), length);
+            buffer.put(array, offset, put);
+            offset += put;
+            length -= put;
+        }
+    }
+
+    /**
+     * Sends all bytes written so far, including those in a partially filled
+     * buffer, to the {@link #target}.
+     *
+     * @throws IOException if an I/O error occurs or a previous batch failed to
+     * be sent.
+     */
+    @Override
+    public void flush() throws IOException {
+        requireNotFailed();
+        if (current != null && current.position() > 0) {
+            batch[batched++] = current;
+            current = null;
+        }
+        if (batched > 0) {
+            send();
+        }
+    }
+
+    /**
+     * Flushes this output and closes the {@link #target}, even if flushing
+     * fails.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            target.close();
+        }
+    }
+
+    // ------------------------------------------------------------------ target
+    @Override
+    public ChannelByteOutput target(final WritableByteChannel target) {
+        return (ChannelByteOutput) super.target(target);
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Returns the number of bytes sent to the {@link #target} so far.
+     *
+     * @return the number of bytes written to the channel.
+     */
+    public long getBytesWritten() {
+        return written;
+    }
+
+    /**
+     * Returns the number of pooled buffers currently holding bytes not yet
+     * sent.
+     *
+     * @return the number of buffers in use.
+     */
+    public int getBuffersInUse() {
+        return batched + (current != null && current.position() > 0 ? 1 : 0);
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The capacity of each pooled buffer.
+     */
+    private final int bufferCapacity;
+
+    /**
+     * Free buffers.
+     */
+    private final Deque<ByteBuffer> pool = new ArrayDeque<ByteBuffer>();
+
+    /**
+     * Full buffers waiting to be sent.
+     */
+    private final ByteBuffer[] batch;
+
+    /**
+     * The number of buffers in {@link #batch}.
+     */
+    private int batched;
+
+    /**
+     * The buffer being filled.
+     */
+    private ByteBuffer current;
+
+    /**
+     * The number of bytes written to the {@link #target} so far.
+     */
+    private long written;
+
+    /**
+     * A flag for a batch which failed to be sent.
+     */
+    private boolean failed;
+}
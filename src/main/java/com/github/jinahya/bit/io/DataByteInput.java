@@ -53,6 +53,55 @@ public class DataByteInput extends AbstractByteInput<DataInput> {
         return source.readUnsignedByte();
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of
+     * {@code DataByteInput} class invokes
+     * {@link DataInput#readFully(byte[], int, int)} on {@link #source}.
+     * Override this method along with {@link #read()} if the {@link #source}
+     * is supposed to be lazily initialized and set.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, final int offset, final int length)
+            throws IOException {
+        source.readFully(array, offset, length);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of
+     * {@code DataByteInput} class invokes {@link DataInput#skipBytes(int)} on
+     * {@link #source} until {@code length - 1} bytes are skipped and reads the
+     * last byte with {@link #read()}, since a {@link java.io.DataInputStream}
+     * may skip past the end of its stream without an error. Override this
+     * method along with {@link #read()} if the {@link #source} is supposed to
+     * be lazily initialized and set.
+     *
+     * @param length {@inheritDoc}
+     * @throws java.io.EOFException if the {@link #source} reached end of
+     * stream before {@code length} bytes are skipped.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skipBytes(long length) throws IOException {
+        if (length <= 0L) {
+            return;
+        }
+        while (--length > 0L) {
+            final int skipped = source.skipBytes(
+                    (int) Math.min(length, Integer.MAX_VALUE));
+            if (skipped > 0) {
+                length -= skipped - 1L;
+                continue;
+            }
+            read(); // checks the end of stream
+        }
+        read(); // the last byte, which also checks the end of stream
+    }
+
     // -------------------------------------------------------------------------
     @Override
     public DataByteInput source(final DataInput source) {
@@ -53,6 +53,24 @@ public class DataByteOutput extends AbstractByteOutput<DataOutput> {
         target.writeByte(value);
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of
+     * {@code DataByteOutput} class invokes
+     * {@link DataOutput#write(byte[], int, int)} on {@link #target}. Override
+     * this method along with {@link #write(int)} if the {@link #target} is
+     * supposed to be lazily initialized and set.
+     *
+     * @param array {@inheritDoc }
+     * @param offset {@inheritDoc }
+     * @param length {@inheritDoc }
+     * @throws IOException {@inheritDoc }
+     */
+    @Override
+    public void write(final byte[] array, final int offset, final int length)
+            throws IOException {
+        target.write(array, offset, length);
+    }
+
     // ------------------------------------------------------------------ target
     @Override
     public DataByteOutput target(final DataOutput target) {
@@ -52,6 +52,50 @@ public class DefaultBitInput<T extends ByteInput> extends AbstractBitInput {
         return delegate.read();
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of
+     * {@code DefaultBitInput} class invokes
+     * {@link AbstractByteInput#read(byte[], int, int)} on {@link #delegate} if
+     * it is an instance of {@link AbstractByteInput}; otherwise, including when
+     * {@link #delegate} is not set yet, this method falls back to invoking
+     * {@link #read()} for each byte so that an overridden {@link #read()} may
+     * lazily initialize and set {@link #delegate}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, final int offset, final int length)
+            throws IOException {
+        if (delegate instanceof AbstractByteInput) {
+            ((AbstractByteInput<?>) delegate).read(array, offset, length);
+            return;
+        }
+        super.read(array, offset, length);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of
+     * {@code DefaultBitInput} class invokes
+     * {@link AbstractByteInput#skipBytes(long)} on {@link #delegate} if it is
+     * an instance of {@link AbstractByteInput}; otherwise this method falls
+     * back to reading and discarding bytes with
+     * {@link #read(byte[], int, int)}.
+     *
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skipBytes(final long length) throws IOException {
+        if (delegate instanceof AbstractByteInput) {
+            ((AbstractByteInput<?>) delegate).skipBytes(length);
+            return;
+        }
+        super.skipBytes(length);
+    }
+
     // ---------------------------------------------------------------- delegate
     /**
      * Returns the current value of {@link #delegate}.
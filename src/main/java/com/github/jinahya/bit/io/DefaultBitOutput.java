@@ -52,6 +52,30 @@ public class DefaultBitOutput<T extends ByteOutput> extends AbstractBitOutput {
         delegate.write(value);
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of
+     * {@code DefaultBitOutput} class invokes
+     * {@link AbstractByteOutput#write(byte[], int, int)} on {@link #delegate}
+     * if it is an instance of {@link AbstractByteOutput}; otherwise, including
+     * when {@link #delegate} is not set yet, this method falls back to invoking
+     * {@link #write(int)} for each byte so that an overridden
+     * {@link #write(int)} may lazily initialize and set {@link #delegate}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] array, final int offset, final int length)
+            throws IOException {
+        if (delegate instanceof AbstractByteOutput) {
+            ((AbstractByteOutput<?>) delegate).write(array, offset, length);
+            return;
+        }
+        super.write(array, offset, length);
+    }
+
     // ---------------------------------------------------------------- delegate
     /**
      * returns the current value of {@link #delegate}.
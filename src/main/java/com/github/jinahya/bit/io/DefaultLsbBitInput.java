@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A default implementation reads bytes, least significant bit first, from an
+ * instance of {@link ByteInput}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @param <T> byte input type parameter
+ */
+public class DefaultLsbBitInput<T extends ByteInput>
+        extends AbstractLsbBitInput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Create a new instance with specified delegate.
+     *
+     * @param delegate the delegate on which {@link #read()} is invoked; may be
+     * {@code null} if it is intended to be lazily initialized and set.
+     */
+    public DefaultLsbBitInput(final T delegate) {
+        super();
+        this.delegate = delegate;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code DefaultLsbBitInput}
+     * class invokes {@link ByteInput#read()} on {@link #delegate} and returns
+     * the result. Override this method if {@link #delegate} is supposed to be
+     * lazily initialized and set.
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        return delegate.read();
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of
+     * {@code DefaultLsbBitInput} class invokes
+     * {@link AbstractByteInput#read(byte[], int, int)} on {@link #delegate} if
+     * it is an instance of {@link AbstractByteInput}; otherwise, including when
+     * {@link #delegate} is not set yet, this method falls back to invoking
+     * {@link #read()} for each byte so that an overridden {@link #read()} may
+     * lazily initialize and set {@link #delegate}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, final int offset, final int length)
+            throws IOException {
+        if (delegate instanceof AbstractByteInput) {
+            ((AbstractByteInput<?>) delegate).read(array, offset, length);
+            return;
+        }
+        super.read(array, offset, length);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of
+     * {@code DefaultLsbBitInput} class invokes
+     * {@link AbstractByteInput#skipBytes(long)} on {@link #delegate} if it is
+     * an instance of {@link AbstractByteInput}; otherwise this method falls
+     * back to reading and discarding bytes with
+     * {@link #read(byte[], int, int)}.
+     *
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skipBytes(final long length) throws IOException {
+        if (delegate instanceof AbstractByteInput) {
+            ((AbstractByteInput<?>) delegate).skipBytes(length);
+            return;
+        }
+        super.skipBytes(length);
+    }
+
+    // ---------------------------------------------------------------- delegate
+    /**
+     * Returns the current value of {@link #delegate}.
+     *
+     * @return current value of {@link #delegate}
+     */
+    public T getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Replaces the value of {@link #delegate} with given.
+     *
+     * @param delegate new value of {@link #delegate}.
+     */
+    public void setDelegate(final T delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Replaces {@link #delegate} with given and returns self.
+     *
+     * @param delegate new value for {@link #delegate}
+     * @return this instance
+     */
+    public DefaultLsbBitInput<T> delegate(final T delegate) {
+        setDelegate(delegate);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The delegate on which {@link #read()} is invoked.
+     */
+    protected T delegate;
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A default implementation writes bytes, least significant bit first, to an
+ * instance of {@link ByteOutput}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @param <T> byte output type parameter
+ */
+public class DefaultLsbBitOutput<T extends ByteOutput>
+        extends AbstractLsbBitOutput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates new instance with specified delegate.
+     *
+     * @param delegate the delegate; {@code null} if if is supposed to be lazily
+     * initialized and set.
+     */
+    public DefaultLsbBitOutput(final T delegate) {
+        super();
+        this.delegate = delegate;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * {@inheritDoc} The {@code write(int)} method of
+     * {@code DefaultLsbBitOutput} class invokes {@link ByteOutput#write(int)}
+     * on {@link #delegate} with given value. Override this method if
+     * {@link #delegate} is supposed to be lazily initialized and set.
+     *
+     * @param value {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final int value) throws IOException {
+        delegate.write(value);
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of
+     * {@code DefaultLsbBitOutput} class invokes
+     * {@link AbstractByteOutput#write(byte[], int, int)} on {@link #delegate}
+     * if it is an instance of {@link AbstractByteOutput}; otherwise, including
+     * when {@link #delegate} is not set yet, this method falls back to invoking
+     * {@link #write(int)} for each byte so that an overridden
+     * {@link #write(int)} may lazily initialize and set {@link #delegate}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] array, final int offset, final int length)
+            throws IOException {
+        if (delegate instanceof AbstractByteOutput) {
+            ((AbstractByteOutput<?>) delegate).write(array, offset, length);
+            return;
+        }
+        super.write(array, offset, length);
+    }
+
+    // ---------------------------------------------------------------- delegate
+    /**
+     * returns the current value of {@link #delegate}.
+     *
+     * @return current value of {@link #delegate}
+     */
+    public T getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Replaces the value of {@link #delegate} with given.
+     *
+     * @param delegate new value of {@link #delegate}.
+     */
+    public void setDelegate(final T delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Replaces {@link #delegate} with given and returns self.
+     *
+     * @param delegate new value for {@link #delegate}
+     * @return this instance
+     */
+    public DefaultLsbBitOutput<T> delegate(final T delegate) {
+        setDelegate(delegate);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The delegate on which {@link #write(int)} is invoked.
+     */
+    protected T delegate;
+}
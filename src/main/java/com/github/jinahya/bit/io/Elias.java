@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * Elias gamma, delta and omega codes of positive values. Values are treated as
+ * unsigned 64-bit values so that any value but {@code 0} can be coded.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class Elias {
+
+    private static long requirePositive(final long value) {
+        if (value == 0L) {
+            throw new IllegalArgumentException("value(" + value + ") == 0");
+        }
+        return value;
+    }
+
+    /**
+     * Reads the lower {@code size} bits of a value whose highest one bit, at
+     * {@code size}, is implied.
+     *
+     * @param input the input to read
+     * @param size the number of bits to read; between {@code 0} and
+     * {@code 63}, both inclusive.
+     * @return the value.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static long implied(final BitInput input, final int size)
+            throws IOException {
+        if (size == 0) {
+            return 1L;
+        }
+        return (1L << size) | input.readLong(true, size);
+    }
+
+    /**
+     * Writes the lower {@code size} bits of a value whose highest one bit, at
+     * {@code size}, is implied.
+     *
+     * @param output the output to write
+     * @param size the number of bits to write; between {@code 0} and
+     * {@code 63}, both inclusive.
+     * @param value the value
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void implied(final BitOutput output, final int size,
+                                final long value)
+            throws IOException {
+        if (size > 0) {
+            output.writeLong(true, size, value);
+        }
+    }
+
+    // ------------------------------------------------------------------ gamma
+    /**
+     * Reads an Elias gamma coded value. The number of leading zeros is found
+     * with {@link UnaryBitInput#readUnary()}.
+     *
+     * @param input the input to read
+     * @return a positive value.
+     * @throws IOException if an I/O error occurs or the code has more than
+     * {@code 63} leading zeros.
+     */
+    public static long readGamma(final UnaryBitInput input) throws IOException {
+        final int size = input.readUnary();
+        if (size > 63) {
+            throw new IOException("zeros(" + size + ") > 63");
+        }
+        return implied(input, size);
+    }
+
+    /**
+     * Reads Elias gamma coded values into specified array.
+     *
+     * @param input the input to read
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void readGamma(final UnaryBitInput input, final long[] array,
+                                 final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = readGamma(input);
+        }
+    }
+
+    /**
+     * Writes an Elias gamma coded value.
+     *
+     * @param output the output to write
+     * @param value the value to write; not {@code 0}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeGamma(final UnaryBitOutput output, final long value)
+            throws IOException {
+        final int size = 63 - Long.numberOfLeadingZeros(requirePositive(value));
+        output.writeUnary(size);
+        implied(output, size, value);
+    }
+
+    // ------------------------------------------------------------------ delta
+    /**
+     * Reads an Elias delta coded value.
+     *
+     * @param input the input to read
+     * @return a positive value.
+     * @throws IOException if an I/O error occurs or the coded length is
+     * greater than {@code 64}.
+     */
+    public static long readDelta(final UnaryBitInput input) throws IOException {
+        final long length = readGamma(input);
+        if (length > 64L || length < 0L) {
+            throw new IOException("length(" + length + ") > 64");
+        }
+        return implied(input, (int) length - 1);
+    }
+
+    /**
+     * Reads Elias delta coded values into specified array.
+     *
+     * @param input the input to read
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void readDelta(final UnaryBitInput input, final long[] array,
+                                 final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = readDelta(input);
+        }
+    }
+
+    /**
+     * Writes an Elias delta coded value.
+     *
+     * @param output the output to write
+     * @param value the value to write; not {@code 0}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeDelta(final UnaryBitOutput output, final long value)
+            throws IOException {
+        final int size = 63 - Long.numberOfLeadingZeros(requirePositive(value));
+        writeGamma(output, size + 1);
+        implied(output, size, value);
+    }
+
+    // ------------------------------------------------------------------ omega
+    /**
+     * Reads an Elias omega coded value.
+     *
+     * @param input the input to read
+     * @return a positive value.
+     * @throws IOException if an I/O error occurs or a group is longer than
+     * {@code 64} bits.
+     */
+    public static long readOmega(final BitInput input) throws IOException {
+        long value = 1L;
+        while (input.readBoolean()) {
+            if (value > 63L) {
+                throw new IOException("group(" + (value + 1) + ") > 64");
+            }
+            value = implied(input, (int) value);
+        }
+        return value;
+    }
+
+    /**
+     * Reads Elias omega coded values into specified array.
+     *
+     * @param input the input to read
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void readOmega(final BitInput input, final long[] array,
+                                 final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = readOmega(input);
+        }
+    }
+
+    /**
+     * Writes the groups of an Elias omega code, less the terminating zero,
+     * length groups first.
+     *
+     * @param output the output to write
+     * @param value the value to write; not {@code 0}.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void omega(final BitOutput output, final long value)
+            throws IOException {
+        if (value == 1L) {
+            return;
+        }
+        final int size = 63 - Long.numberOfLeadingZeros(value);
+        omega(output, size);
+        output.writeBoolean(true);
+        implied(output, size, value);
+    }
+
+    /**
+     * Writes an Elias omega coded value.
+     *
+     * @param output the output to write
+     * @param value the value to write; not {@code 0}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeOmega(final BitOutput output, final long value)
+            throws IOException {
+        omega(output, requirePositive(value));
+        output.writeBoolean(false);
+    }
+
+    private Elias() {
+        super();
+    }
+}
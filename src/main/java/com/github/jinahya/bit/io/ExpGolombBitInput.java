@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A {@link BitInput} which reads Exponential-Golomb coded values.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public interface ExpGolombBitInput extends BitInput {
+
+    /**
+     * Reads an Exp-Golomb coded int value; {@code ue(v)} if {@code unsigned}
+     * is {@code true}, {@code se(v)} otherwise.
+     *
+     * @param unsigned a flag for unsigned value
+     * @return an int value; unsigned values greater than
+     * {@link Integer#MAX_VALUE} are returned as negative.
+     * @throws IOException if an I/O error occurs, the code has more than
+     * {@code 32} leading zeros, or the value does not fit in {@code 32} bits.
+     */
+    int readExpGolombInt(boolean unsigned) throws IOException;
+
+    /**
+     * Reads an Exp-Golomb coded long value; {@code ue(v)} if
+     * {@code unsigned} is {@code true}, {@code se(v)} otherwise.
+     *
+     * @param unsigned a flag for unsigned value
+     * @return a long value; unsigned values greater than
+     * {@link Long#MAX_VALUE} are returned as negative.
+     * @throws IOException if an I/O error occurs or the code has more than
+     * {@code 63} leading zeros.
+     */
+    long readExpGolombLong(boolean unsigned) throws IOException;
+}
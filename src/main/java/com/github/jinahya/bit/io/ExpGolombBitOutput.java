@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A {@link BitOutput} which writes Exponential-Golomb coded values.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public interface ExpGolombBitOutput extends BitOutput {
+
+    /**
+     * Writes an Exp-Golomb coded int value; {@code ue(v)} if {@code unsigned}
+     * is {@code true}, {@code se(v)} otherwise.
+     *
+     * @param unsigned a flag for unsigned value; if {@code true}, the value
+     * is treated as an unsigned 32-bit value.
+     * @param value the value to write
+     * @throws IOException if an I/O error occurs.
+     */
+    void writeExpGolombInt(boolean unsigned, int value) throws IOException;
+
+    /**
+     * Writes an Exp-Golomb coded long value; {@code ue(v)} if
+     * {@code unsigned} is {@code true}, {@code se(v)} otherwise.
+     *
+     * @param unsigned a flag for unsigned value; if {@code true}, the value
+     * is treated as an unsigned 64-bit value.
+     * @param value the value to write
+     * @throws IllegalArgumentException if {@code value} is {@code -1L} while
+     * {@code unsigned} is {@code true} or {@link Long#MIN_VALUE} while
+     * {@code unsigned} is {@code false}.
+     * @throws IOException if an I/O error occurs.
+     */
+    void writeExpGolombLong(boolean unsigned, long value) throws IOException;
+}
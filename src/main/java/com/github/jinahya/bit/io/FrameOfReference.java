@@ -0,0 +1,247 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * Frame-of-reference coding of non-decreasing long values in blocks. Each
+ * block starts with a header made of the number of values less one in
+ * {@value #LENGTH_SIZE} bits, the bit width of the deltas in
+ * {@value #WIDTH_SIZE} bits and the first value, the reference, in {@code 64}
+ * bits. The differences between consecutive values follow, all packed with the
+ * smallest width which holds the largest of them. A block of equal values
+ * takes its header only.
+ * <p>
+ * The size of a block is known from its header, so blocks can be skipped with
+ * {@link PositionedBitInput#skip(long)} without decoding them.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class FrameOfReference {
+
+    /**
+     * The number of values written in each block by
+     * {@link #write(BulkBitOutput, long[], int, int)}.
+     */
+    public static final int BLOCK_SIZE = 128;
+
+    /**
+     * The number of bits for the number of values in a block header.
+     */
+    public static final int LENGTH_SIZE = 16;
+
+    /**
+     * The number of bits for the width of deltas in a block header.
+     */
+    public static final int WIDTH_SIZE = 7;
+
+    /**
+     * The maximum number of values in a block.
+     */
+    public static final int MAX_BLOCK_SIZE = 1 << LENGTH_SIZE;
+
+    // -------------------------------------------------------------------------
+    private static int requireValidLength(final int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("length(" + length + ") < 1");
+        }
+        if (length > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException(
+                    "length(" + length + ") > " + MAX_BLOCK_SIZE);
+        }
+        return length;
+    }
+
+    private static void writeBlock(final BulkBitOutput output,
+                                   final long[] array, final int offset,
+                                   final int length,
+                                   final long[] deltas)
+            throws IOException {
+        long union = 0L;
+        for (int i = 1; i < length; i++) {
+            final int j = offset + i;
+            if (array[j] < array[j - 1]) {
+                throw new IllegalArgumentException(
+                        "array[" + j + "](" + array[j] + ") < array["
+                        + (j - 1) + "](" + array[j - 1] + ")");
+            }
+            union |= deltas[i] = array[j] - array[j - 1];
+        }
+        final int width = 64 - Long.numberOfLeadingZeros(union);
+        output.writeInt(true, LENGTH_SIZE, length - 1);
+        output.writeInt(true, WIDTH_SIZE, width);
+        output.writeLong(false, 64, array[offset]);
+        if (width > 0) {
+            output.writeLongs(width < 64, width, deltas, 1, length - 1);
+        }
+    }
+
+    private static int readWidth(final BitInput input) throws IOException {
+        final int width = input.readInt(true, WIDTH_SIZE);
+        if (width > 64) {
+            throw new IOException("width(" + width + ") > 64");
+        }
+        return width;
+    }
+
+    private static int readBlock(final BulkBitInput input,
+                                 final long[] array, final int offset,
+                                 final int limit)
+            throws IOException {
+        final int length = input.readInt(true, LENGTH_SIZE) + 1;
+        if (length > limit - offset) {
+            throw new IOException(
+                    "length(" + length + ") > " + (limit - offset));
+        }
+        final int width = readWidth(input);
+        array[offset] = input.readLong(false, 64);
+        final int end = offset + length;
+        if (width == 0) {
+            for (int i = offset + 1; i < end; i++) {
+                array[i] = array[offset];
+            }
+            return length;
+        }
+        input.readLongs(width < 64, width, array, offset + 1, length - 1);
+        for (int i = offset + 1; i < end; i++) {
+            array[i] += array[i - 1];
+        }
+        return length;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Writes a block of non-decreasing values.
+     *
+     * @param output the output to write
+     * @param array the array whose values are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to write; between {@code 1} and
+     * {@link #MAX_BLOCK_SIZE}, both inclusive.
+     * @throws IllegalArgumentException if values are not in non-decreasing
+     * order.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeBlock(final BulkBitOutput output,
+                                  final long[] array, final int offset,
+                                  final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        requireValidLength(length);
+        writeBlock(output, array, offset, length, new long[length]);
+    }
+
+    /**
+     * Reads a block into specified array. Deltas are unpacked at once and
+     * values are reconstructed with a prefix sum over the reference.
+     *
+     * @param input the input to read
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @return the number of values read.
+     * @throws IOException if an I/O error occurs or the block does not fit in
+     * {@code array} from {@code offset}.
+     */
+    public static int readBlock(final BulkBitInput input,
+                                final long[] array, final int offset)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, 0);
+        return readBlock(input, array, offset, array.length);
+    }
+
+    /**
+     * Skips a block without decoding its values.
+     *
+     * @param input the input to read
+     * @return the number of values skipped.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static int skipBlock(final PositionedBitInput input)
+            throws IOException {
+        final int length = input.readInt(true, LENGTH_SIZE) + 1;
+        final int width = readWidth(input);
+        input.skip(64L + (long) width * (length - 1));
+        return length;
+    }
+
+    /**
+     * Skips specified number of blocks without decoding their values.
+     *
+     * @param input the input to read
+     * @param blocks the number of blocks to skip; not negative.
+     * @return the number of values skipped.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long skipBlocks(final PositionedBitInput input,
+                                  final int blocks)
+            throws IOException {
+        if (blocks < 0) {
+            throw new IllegalArgumentException("blocks(" + blocks + ") < 0");
+        }
+        long skipped = 0L;
+        for (int i = 0; i < blocks; i++) {
+            skipped += skipBlock(input);
+        }
+        return skipped;
+    }
+
+    /**
+     * Writes non-decreasing values of specified array in blocks of
+     * {@link #BLOCK_SIZE} values. The last block may be shorter.
+     *
+     * @param output the output to write
+     * @param array the array whose values are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to write
+     * @throws IllegalArgumentException if values are not in non-decreasing
+     * order.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void write(final BulkBitOutput output, final long[] array,
+                             final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final long[] deltas = new long[Math.min(length, BLOCK_SIZE)];
+        for (int i = offset, j = offset + length; i < j; i += BLOCK_SIZE) {
+            writeBlock(output, array, i, Math.min(j - i, BLOCK_SIZE), deltas);
+        }
+    }
+
+    /**
+     * Reads specified number of values, written by
+     * {@link #write(BulkBitOutput, long[], int, int)}, into given array.
+     *
+     * @param input the input to read
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs or a block exceeds
+     * {@code length}.
+     */
+    public static void read(final BulkBitInput input, final long[] array,
+                            final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j;) {
+            i += readBlock(input, array, i, j);
+        }
+    }
+
+    private FrameOfReference() {
+        super();
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A canonical Huffman codec built from code lengths. Codes are assigned in
+ * the order of lengths and then symbols, as in DEFLATE. Decoding peeks the
+ * next {@link #getPrimaryBits() primary bits} and looks them up in a primary
+ * table; codes longer than that continue in secondary tables, each indexed
+ * by at most as many bits as the primary table, for each of their prefixes.
+ * Secondary tables nest as deep as the longest code requires.
+ * <p>
+ * Codes are read and written from their most significant bit, as DEFLATE packs
+ * them, with any {@link PeekableBitInput}, with any {@link BitOutput} by
+ * {@link #write(BitOutput, int)}, with {@link AbstractLsbBitOutput} by
+ * {@link #writeLsb(AbstractLsbBitOutput, int)}, and with
+ * {@link BackwardBitWriter}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class Huffman {
+
+    /**
+     * The maximum length of codes.
+     */
+    public static final int MAX_LENGTH = 32;
+
+    /**
+     * The maximum number of symbols.
+     */
+    public static final int MAX_SYMBOLS = 1 << 24;
+
+    /**
+     * The default number of bits for the primary table.
+     */
+    public static final int DEFAULT_PRIMARY_BITS = 9;
+
+    /**
+     * The maximum number of entries of all tables; offsets of tables are kept
+     * in {@code 25} bits of an entry.
+     */
+    private static final int MAX_ENTRIES = 1 << 25;
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance with given code lengths and
+     * {@link #DEFAULT_PRIMARY_BITS}.
+     *
+     * @param lengths the code lengths indexed by symbols; {@code 0} for unused
+     * symbols.
+     */
+    public Huffman(final int[] lengths) {
+        this(lengths, DEFAULT_PRIMARY_BITS);
+    }
+
+    /**
+     * Creates a new instance with given code lengths and number of bits for
+     * the primary table.
+     *
+     * @param lengths the code lengths indexed by symbols; between {@code 0}
+     * and {@link #MAX_LENGTH}, both inclusive; {@code 0} for unused symbols.
+     * @param primaryBits the number of bits for the primary table; between
+     * {@code 1} and {@code 16}, both inclusive.
+     * @throws IllegalArgumentException if any length is out of range, no
+     * symbol is used, there are more than {@link #MAX_SYMBOLS} lengths, the
+     * lengths are over-subscribed, or the tables need more than {@code 2^25}
+     * entries.
+     */
+    public Huffman(final int[] lengths, final int primaryBits) {
+        super();
+        if (primaryBits < 1 || primaryBits > 16) {
+            throw new IllegalArgumentException(
+                    "primaryBits(" + primaryBits + ") is not in [1, 16]");
+        }
+        if (lengths.length > MAX_SYMBOLS) {
+            throw new IllegalArgumentException(
+                    "lengths.length(" + lengths.length + ") > " + MAX_SYMBOLS);
+        }
+        // count codes for each length
+        final int[] counts = new int[MAX_LENGTH + 1];
+        int longest = 0;
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            final int length = lengths[symbol];
+            if (length < 0 || length > MAX_LENGTH) {
+                throw new IllegalArgumentException(
+                        "lengths[" + symbol + "](" + length + ") is not in [0, "
+                        + MAX_LENGTH + "]");
+            }
+            counts[length]++;
+            longest = Math.max(longest, length);
+        }
+        if (longest == 0) {
+            throw new IllegalArgumentException("no symbol is used");
+        }
+        // check the Kraft inequality
+        long left = 1L;
+        for (int length = 1; length <= MAX_LENGTH; length++) {
+            left = (left << 1) - counts[length];
+            if (left < 0L) {
+                throw new IllegalArgumentException(
+                        "over-subscribed at length " + length);
+            }
+        }
+        // assign canonical codes
+        counts[0] = 0;
+        final int[] nexts = new int[MAX_LENGTH + 1];
+        long code = 0L;
+        for (int length = 1; length <= MAX_LENGTH; length++) {
+            code = (code + counts[length - 1]) << 1;
+            nexts[length] = (int) code;
+        }
+        this.lengths = lengths.clone();
+        codes = new int[lengths.length];
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                codes[symbol] = nexts[lengths[symbol]]++;
+            }
+        }
+        // build tables from codes in lexicographic order
+        this.primaryBits = Math.min(primaryBits, longest);
+        int used = 0;
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                used++;
+            }
+        }
+        final long[] keys = new long[used];
+        for (int symbol = 0, i = 0; symbol < lengths.length; symbol++) {
+            final int length = lengths[symbol];
+            if (length > 0) {
+                final long aligned
+                        = (codes[symbol] & 0xFFFFFFFFL) << (32 - length);
+                keys[i++] = (aligned << 30) | ((long) length << 24) | symbol;
+            }
+        }
+        Arrays.sort(keys);
+        final int size = fill(keys, 0, used, 0, this.primaryBits,
+                              this.primaryBits, 0, 1 << this.primaryBits,
+                              null);
+        table = new int[size];
+        fill(keys, 0, used, 0, this.primaryBits, this.primaryBits, 0,
+             1 << this.primaryBits, table);
+    }
+
+    /**
+     * Fills a table with codes which share their first {@code depth} bits and
+     * appends a table of the next level for each run of codes longer than
+     * {@code depth + bits}. Only sizes are computed if {@code table} is
+     * {@code null}.
+     *
+     * @param keys the codes, aligned to {@code 32} bits, shifted left by
+     * {@code 30} and ored with their lengths shifted left by {@code 24} and
+     * their symbols; sorted.
+     * @param from the index of the first key
+     * @param to the index after the last key
+     * @param depth the number of bits looked up by previous levels
+     * @param bits the number of bits for the table
+     * @param maxBits the maximum number of bits for tables of next levels
+     * @param base the offset of the table
+     * @param size the number of entries of all tables so far
+     * @param table the array of tables; may be {@code null}.
+     * @return the number of entries of all tables.
+     */
+    private static int fill(final long[] keys, final int from, final int to,
+                            final int depth, final int bits,
+                            final int maxBits, final int base, int size,
+                            final int[] table) {
+        final int shift = 32 - depth - bits;
+        final int mask = (1 << bits) - 1;
+        for (int i = from; i < to;) {
+            final int index = (int) (keys[i] >>> (30 + shift)) & mask;
+            final int length = (int) (keys[i] >>> 24) & 63;
+            if (length <= depth + bits) {
+                if (table != null) {
+                    final int entry = (((int) keys[i] & 0xFFFFFF) << 6)
+                                      | length;
+                    final int end = base + index
+                                    + (1 << (depth + bits - length));
+                    for (int j = base + index; j < end; j++) {
+                        table[j] = entry;
+                    }
+                }
+                i++;
+                continue;
+            }
+            int j = i;
+            int longest = length;
+            while (j < to
+                   && ((int) (keys[j] >>> (30 + shift)) & mask) == index) {
+                longest = Math.max(longest, (int) (keys[j] >>> 24) & 63);
+                j++;
+            }
+            final int subBits = Math.min(longest - depth - bits, maxBits);
+            final int subBase = size;
+            size += 1 << subBits;
+            if (size > MAX_ENTRIES) {
+                throw new IllegalArgumentException(
+                        "tables need more than " + MAX_ENTRIES + " entries");
+            }
+            if (table != null) {
+                table[base + index] = ~((subBase << 6) | subBits);
+            }
+            size = fill(keys, i, j, depth + bits, subBits, maxBits, subBase,
+                        size, table);
+            i = j;
+        }
+        return size;
+    }
+
+    private long reversed(final int symbol) {
+        return (Integer.reverse(codes[symbol]) & 0xFFFFFFFFL)
+               >>> (32 - lengths[symbol]);
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Reads a symbol. The lookahead may run past the end of the stream; only
+     * the bits of the code read are consumed.
+     *
+     * @param input the input to read
+     * @return the symbol.
+     * @throws EOFException if the stream ends within a code.
+     * @throws IOException if an I/O error occurs or the next bits do not form
+     * any code.
+     */
+    public int read(final PeekableBitInput input) throws IOException {
+        int depth = primaryBits;
+        int entry = table[input.peekInt(depth)];
+        while (entry < 0) {
+            final int sub = ~entry;
+            final int bits = sub & 63;
+            depth += bits;
+            entry = table[(sub >>> 6)
+                          + (input.peekInt(depth) & ((1 << bits) - 1))];
+        }
+        if (entry == 0) {
+            if (input.padding() > 0) {
+                throw new EOFException();
+            }
+            throw new IOException("no code matches");
+        }
+        input.consume(entry & 63);
+        return entry >>> 6;
+    }
+
+    /**
+     * Reads symbols into specified array.
+     *
+     * @param input the input to read
+     * @param array the array to which symbols are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of symbols to read
+     * @throws IOException if an I/O error occurs or the next bits do not form
+     * any code.
+     */
+    public void read(final PeekableBitInput input, final int[] array,
+                     final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = read(input);
+        }
+    }
+
+    /**
+     * Writes the code of given symbol, from its most significant bit, to an
+     * output which writes values from their most significant bit.
+     *
+     * @param output the output to write
+     * @param symbol the symbol to write
+     * @throws IllegalArgumentException if {@code symbol} has no code.
+     * @throws IOException if an I/O error occurs.
+     * @see #writeLsb(AbstractLsbBitOutput, int)
+     */
+    public void write(final BitOutput output, final int symbol)
+            throws IOException {
+        final int length = lengths[symbol];
+        if (length == 0) {
+            throw new IllegalArgumentException(
+                    "symbol(" + symbol + ") has no code");
+        }
+        output.writeLong(true, length, codes[symbol] & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Writes the code of given symbol, from its most significant bit, to an
+     * output which writes values from their least significant bit. The code
+     * is written bit-reversed, as DEFLATE packs Huffman codes.
+     *
+     * @param output the output to write
+     * @param symbol the symbol to write
+     * @throws IllegalArgumentException if {@code symbol} has no code.
+     * @throws IOException if an I/O error occurs.
+     * @see #write(BitOutput, int)
+     */
+    public void writeLsb(final AbstractLsbBitOutput output, final int symbol)
+            throws IOException {
+        final int length = lengths[symbol];
+        if (length == 0) {
+            throw new IllegalArgumentException(
+                    "symbol(" + symbol + ") has no code");
+        }
+        output.writeLong(true, length, reversed(symbol));
+    }
+
+    /**
+     * Writes the code of given symbol so that a {@link ReverseBitInput} reads
+     * it from its most significant bit. Symbols are read back in the reverse
+     * order they are written.
+     *
+     * @param writer the writer to write
+     * @param symbol the symbol to write
+     * @throws IllegalArgumentException if {@code symbol} has no code.
+     */
+    public void write(final BackwardBitWriter writer, final int symbol) {
+        final int length = lengths[symbol];
+        if (length == 0) {
+            throw new IllegalArgumentException(
+                    "symbol(" + symbol + ") has no code");
+        }
+        writer.write(length, reversed(symbol));
+    }
+
+    /**
+     * Writes the codes of symbols of specified array.
+     *
+     * @param output the output to write
+     * @param array the array whose symbols are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of symbols to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final BitOutput output, final int[] array,
+                      final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            write(output, array[i]);
+        }
+    }
+
+    /**
+     * Writes the codes of symbols of specified array, bit-reversed, to an
+     * output which writes values from their least significant bit.
+     *
+     * @param output the output to write
+     * @param array the array whose symbols are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of symbols to write
+     * @throws IOException if an I/O error occurs.
+     * @see #writeLsb(AbstractLsbBitOutput, int)
+     */
+    public void writeLsb(final AbstractLsbBitOutput output, final int[] array,
+                         final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            writeLsb(output, array[i]);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Returns the code of given symbol.
+     *
+     * @param symbol the symbol
+     * @return the code in the lower {@link #getLength(int)} bits.
+     */
+    public int getCode(final int symbol) {
+        return codes[symbol];
+    }
+
+    /**
+     * Returns the code length of given symbol.
+     *
+     * @param symbol the symbol
+     * @return the code length; {@code 0} if the symbol is not used.
+     */
+    public int getLength(final int symbol) {
+        return lengths[symbol];
+    }
+
+    /**
+     * Returns the number of bits peeked for the primary table; the smaller of
+     * the requested number and the longest code length.
+     *
+     * @return the number of bits for the primary table.
+     */
+    public int getPrimaryBits() {
+        return primaryBits;
+    }
+
+    // -------------------------------------------------------------------------
+    private final int[] lengths;
+
+    private final int[] codes;
+
+    private final int primaryBits;
+
+    /**
+     * The primary table followed by secondary tables. A non-negative entry is
+     * a symbol shifted left by {@code 6} bits ored with its code length;
+     * {@code 0} for unused entries. A negative entry is the complement of the
+     * offset of a table of the next level shifted left by {@code 6} bits ored
+     * with the number of bits for the table.
+     */
+    private final int[] table;
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link BitInput} reads bits from a file mapped, window by window, into
+ * memory. Files larger than {@code 2 GB} are read as a series of
+ * {@link MappedByteBuffer}s each of which is at most {@link #windowSize}
+ * bytes and moving across those windows is transparent to callers.
+ * <p>
+ * Windows are never unmapped explicitly; Java offers no portable way to do
+ * so. A window is unmapped when it is garbage collected after this input
+ * moves past it or is itself discarded. This input never closes the
+ * channel, and closing the channel does not unmap the windows either.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see FileChannel#map(FileChannel.MapMode, long, long)
+ */
+public class MappedBitInput extends AbstractBitInput
+        implements SeekableBitInput {
+
+    /**
+     * The default size of each mapped window.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance reads from specified file channel with windows of
+     * {@link #DEFAULT_WINDOW_SIZE}.
+     *
+     * @param channel the file channel to map; must be readable.
+     */
+    public MappedBitInput(final FileChannel channel) {
+        this(channel, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a new instance reads from specified file channel with windows of
+     * given size.
+     *
+     * @param channel the file channel to map; must be readable.
+     * @param windowSize the maximum number of bytes of each mapped window
+     */
+    public MappedBitInput(final FileChannel channel, final int windowSize) {
+        super();
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        if (windowSize < 8) {
+            throw new IllegalArgumentException(
+                    "windowSize(" + windowSize + ") < 8");
+        }
+        this.channel = channel;
+        this.windowSize = windowSize;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Maps a window starts at given file offset.
+     *
+     * @param offset the file offset of the window
+     * @throws EOFException if {@code offset} is not less than the size of the
+     * file.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void map(final long offset) throws IOException {
+        final long remaining = channel.size() - offset;
+        if (remaining <= 0L) {
+            throw new EOFException();
+        }
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                             Math.min(remaining, windowSize));
+        start = offset;
+    }
+
+    /**
+     * Maps the next window if the current window is exhausted.
+     *
+     * @throws EOFException if the end of the file is reached.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void next() throws IOException {
+        if (window == null) {
+            map(start);
+        } else if (!window.hasRemaining()) {
+            map(start + window.limit());
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code MappedBitInput} class
+     * reads a byte from the current window, mapping the next window if
+     * required.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the end of the file is reached.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        next();
+        return window.get() & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of
+     * {@code MappedBitInput} class copies bytes from windows, mapping next
+     * windows if required.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws EOFException if the end of the file is reached.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] array, int offset, int length)
+            throws IOException {
+        while (length > 0) {
+            next();
+            final int copied = Math.min(window.remaining(), length);
+            window.get(array, offset, copied);
+            offset += copied;
+            length -= copied;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code prefetch(int)} method of {@code MappedBitInput}
+     * class maps the next window if required and returns {@code 8} if the
+     * current window has eight or more bytes remaining.
+     *
+     * @param required {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws EOFException if the end of the file is reached.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected int prefetch(final int required) throws IOException {
+        next();
+        return window.remaining() >= 8 ? 8 : required;
+    }
+
+    /**
+     * {@inheritDoc} The {@code octets(int)} method of {@code MappedBitInput}
+     * class invokes {@link MappedByteBuffer#getLong()} for eight octets within
+     * the current window.
+     *
+     * @param length {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected long octets(final int length) throws IOException {
+        if (length == 8 && window != null && window.remaining() >= 8) {
+            return window.getLong(); // mapped buffers are big-endian
+        }
+        long value = 0L;
+        for (int i = 0; i < length; i++) {
+            value <<= 8;
+            value |= read();
+        }
+        return value;
+    }
+
+    /**
+     * Moves to given file offset without mapping a new window if the offset is
+     * in the current window.
+     *
+     * @param offset the file offset to move to
+     */
+    private void move(final long offset) {
+        if (window != null && offset >= start
+            && offset - start < window.limit()) {
+            ((Buffer) window).position((int) (offset - start));
+        } else {
+            window = null; // mapped lazily
+            start = offset;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of
+     * {@code MappedBitInput} class moves to the file offset after skipped
+     * bytes without reading them.
+     *
+     * @param length {@inheritDoc}
+     * @throws EOFException if fewer than {@code length} bytes remain in the
+     * file.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skipBytes(final long length) throws IOException {
+        final long offset = (window == null ? start
+                             : start + window.position()) + length;
+        if (offset > channel.size()) {
+            throw new EOFException();
+        }
+        move(offset);
+    }
+
+    // ---------------------------------------------------------------- position
+    /**
+     * {@inheritDoc} The bit position of {@code MappedBitInput} class is
+     * relative to the beginning of the file.
+     *
+     * @param position the bit position from the beginning of the file;
+     * between {@code 0} and {@code 8 * size}, both inclusive.
+     * @throws IllegalArgumentException if {@code position} is out of range.
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void seek(final long position) throws IOException {
+        final long size = channel.size();
+        if (position < 0L || position > (size << 3)) {
+            throw new IllegalArgumentException(
+                    "position(" + position + ") out of [0, " + (size << 3)
+                    + "]");
+        }
+        final long offset = position >>> 3;
+        move(offset);
+        reset(offset);
+        final int bits = (int) (position & 0x07);
+        if (bits > 0) {
+            readInt(true, bits);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Returns the file channel to map.
+     *
+     * @return the file channel.
+     */
+    public FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Returns the maximum number of bytes of each mapped window.
+     *
+     * @return the window size.
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The file channel to map.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The maximum number of bytes of each window.
+     */
+    private final int windowSize;
+
+    /**
+     * The current window.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * The file offset of the current {@link #window}, or of the next window to
+     * map if {@link #window} is {@code null}.
+     */
+    private long start;
+}
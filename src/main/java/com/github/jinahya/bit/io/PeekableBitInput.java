@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A {@link BitInput} which looks ahead at bits without reading them.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public interface PeekableBitInput extends BitInput {
+
+    /**
+     * Returns the next specified number of bits, as an unsigned value, without
+     * consuming them. Bits are in the order read, whatever order values are
+     * read in; the first bit to read is the most significant bit of the value
+     * peeked. At the end of the stream missing low-order bits are filled with
+     * zeros and counted by {@link #padding()}.
+     *
+     * @param size the number of bits to peek; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @return the bits peeked as an unsigned value; values of {@code 32} bits
+     * are returned as is.
+     * @throws IOException if an I/O error occurs.
+     * @see #consume(int)
+     */
+    int peekInt(int size) throws IOException;
+
+    /**
+     * Returns the next specified number of bits, as an unsigned value, without
+     * consuming them. Bits are in the order read, whatever order values are
+     * read in; the first bit to read is the most significant bit of the value
+     * peeked. At the end of the stream missing low-order bits are filled with
+     * zeros and counted by {@link #padding()}.
+     *
+     * @param size the number of bits to peek; between {@code 1} and
+     * {@code 57}, both inclusive.
+     * @return the bits peeked as an unsigned value.
+     * @throws IOException if an I/O error occurs.
+     * @see #consume(int)
+     */
+    long peekLong(int size) throws IOException;
+
+    /**
+     * Returns the number of zero bits filled at the end of the value returned
+     * by the last {@link #peekInt(int)} or {@link #peekLong(int)} because the
+     * stream ended. Only {@code size - padding()} bits of that value can be
+     * consumed.
+     *
+     * @return the number of padded bits; {@code 0} if all bits peeked are real.
+     */
+    int padding();
+
+    /**
+     * Consumes specified number of bits, usually ones which have been peeked.
+     *
+     * @param size the number of bits to consume; not negative.
+     * @throws java.io.EOFException if the stream ended and {@code size} is
+     * greater than the number of real bits left.
+     * @throws IOException if an I/O error occurs.
+     */
+    void consume(int size) throws IOException;
+}
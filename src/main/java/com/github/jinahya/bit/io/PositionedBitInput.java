@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A {@link BitInput} which counts the bits it has read and skips bits.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public interface PositionedBitInput extends BitInput {
+
+    /**
+     * Returns the number of bits read, skipped, or discarded so far.
+     *
+     * @return the current bit position.
+     */
+    long position();
+
+    /**
+     * Skips specified number of bits. Whole octets are skipped on the
+     * underlying byte source, without being decoded, where possible.
+     *
+     * @param bits the number of bits to skip; not negative.
+     * @throws IllegalArgumentException if {@code bits} is negative.
+     * @throws IOException if an I/O error occurs.
+     */
+    void skip(long bits) throws IOException;
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.util.Arrays;
+
+/**
+ * Constants and context-model helpers shared by {@link RangeEncoder} and
+ * {@link RangeDecoder}.
+ * <p>
+ * Binary decisions are coded with adaptive probabilities held in a
+ * {@code short[]}, one element per context, each being the probability of a
+ * {@code 0} bit scaled to {@link #PROBABILITY_BITS} bits. Multi-symbol
+ * alphabets are coded with cumulative frequencies held in an {@code int[]}
+ * whose element at {@code s} is the sum of the frequencies of symbols below
+ * {@code s} and whose last element is the total, which must not exceed
+ * {@link #MAX_TOTAL}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class RangeCoding {
+
+    /**
+     * The number of bits of a probability.
+     */
+    public static final int PROBABILITY_BITS = 11;
+
+    /**
+     * The initial probability; one half.
+     */
+    public static final short PROBABILITY_INIT
+            = (short) (1 << (PROBABILITY_BITS - 1));
+
+    /**
+     * The number of bits by which a probability moves toward the bit coded.
+     * Smaller values adapt faster.
+     */
+    public static final int MOVE_BITS = 5;
+
+    /**
+     * The maximum total of cumulative frequencies.
+     */
+    public static final int MAX_TOTAL = 1 << 16;
+
+    /**
+     * The increment added to the frequency of a symbol by
+     * {@link #update(int[], int)}.
+     */
+    public static final int INCREMENT = 32;
+
+    /**
+     * The maximum number of symbols of cumulative frequencies; each symbol
+     * keeps a frequency of at least {@code 1} and there must be room for an
+     * {@link #INCREMENT} on top of them.
+     */
+    public static final int MAX_SYMBOLS = MAX_TOTAL - INCREMENT;
+
+    /**
+     * Sets all probabilities in specified array to one half.
+     *
+     * @param probabilities the array of probabilities
+     * @return given array.
+     */
+    public static short[] initialize(final short[] probabilities) {
+        Arrays.fill(probabilities, PROBABILITY_INIT);
+        return probabilities;
+    }
+
+    /**
+     * Creates cumulative frequencies of specified number of equally probable
+     * symbols.
+     *
+     * @param symbols the number of symbols; between {@code 1} and
+     * {@link #MAX_SYMBOLS}, both inclusive.
+     * @return an array of {@code symbols + 1} cumulative frequencies.
+     */
+    public static int[] cumulative(final int symbols) {
+        if (symbols < 1) {
+            throw new IllegalArgumentException(
+                    "symbols(" + symbols + ") < 1");
+        }
+        if (symbols > MAX_SYMBOLS) {
+            throw new IllegalArgumentException(
+                    "symbols(" + symbols + ") > " + MAX_SYMBOLS);
+        }
+        final int[] cumulative = new int[symbols + 1];
+        for (int i = 1; i < cumulative.length; i++) {
+            cumulative[i] = i;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Adds {@link #INCREMENT} to the frequency of specified symbol, halving all
+     * frequencies, none below {@code 1}, for as long as the total would exceed
+     * {@link #MAX_TOTAL}. Each update takes time linear in the number of
+     * symbols, which suits small alphabets.
+     *
+     * @param cumulative the cumulative frequencies
+     * @param symbol the symbol just coded
+     */
+    public static void update(final int[] cumulative, final int symbol) {
+        final int symbols = cumulative.length - 1;
+        while (cumulative[symbols] + INCREMENT > MAX_TOTAL) {
+            int previous = cumulative[0];
+            for (int i = 1; i <= symbols; i++) {
+                final int frequency = cumulative[i] - previous;
+                previous = cumulative[i];
+                cumulative[i] = cumulative[i - 1]
+                                + Math.max(1, frequency >> 1);
+            }
+        }
+        for (int i = symbol + 1; i <= symbols; i++) {
+            cumulative[i] += INCREMENT;
+        }
+    }
+
+    /**
+     * Finds the symbol whose cumulative range contains specified count.
+     *
+     * @param cumulative the cumulative frequencies
+     * @param count the count; less than the total
+     * @return the symbol.
+     */
+    static int symbol(final int[] cumulative, final int count) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (high - low > 1) {
+            final int middle = (low + high) >>> 1;
+            if (cumulative[middle] <= count) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    static void requireValidFrequency(final int start, final int size,
+                                      final int total) {
+        if (total < 1) {
+            throw new IllegalArgumentException("total(" + total + ") < 1");
+        }
+        if (total > MAX_TOTAL) {
+            throw new IllegalArgumentException(
+                    "total(" + total + ") > " + MAX_TOTAL);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (start < 0 || start > total - size) {
+            throw new IllegalArgumentException(
+                    "start(" + start + ") + size(" + size + ") > total("
+                    + total + ")");
+        }
+    }
+
+    /**
+     * The value of the range below which it is renormalized.
+     */
+    static final long TOP = 1L << 24;
+
+    private RangeCoding() {
+        super();
+    }
+}
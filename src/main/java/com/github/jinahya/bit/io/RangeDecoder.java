@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import static com.github.jinahya.bit.io.RangeCoding.MOVE_BITS;
+import static com.github.jinahya.bit.io.RangeCoding.PROBABILITY_BITS;
+import static com.github.jinahya.bit.io.RangeCoding.TOP;
+
+/**
+ * A range decoder of data encoded by {@link RangeEncoder}. Each decoding
+ * method must be invoked with the same models, in the same order, as the
+ * corresponding encoding method was.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see RangeCoding
+ */
+public class RangeDecoder {
+
+    /**
+     * Creates a new instance reading from specified input. The first five
+     * octets are read immediately.
+     *
+     * @param input the input to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public RangeDecoder(final BitInput input) throws IOException {
+        super();
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        this.input = input;
+        for (int i = 0; i < 5; i++) {
+            code = ((code << 8) | input.readInt(true, 8)) & 0xFFFFFFFFL;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    private void normalize() throws IOException {
+        while (range < TOP) {
+            range <<= 8;
+            code = (code << 8) | input.readInt(true, 8);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Decodes a bit with the probability at specified index and adapts the
+     * probability toward the bit.
+     *
+     * @param probabilities the probabilities of contexts
+     * @param index the index of the context
+     * @return the bit decoded; {@code 0} or {@code 1}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public int decodeBit(final short[] probabilities, final int index)
+            throws IOException {
+        final int probability = probabilities[index];
+        final long bound = (range >>> PROBABILITY_BITS) * probability;
+        final int bit;
+        if (code < bound) {
+            range = bound;
+            probabilities[index] = (short) (probability
+                                            + (((1 << PROBABILITY_BITS)
+                                                - probability) >> MOVE_BITS));
+            bit = 0;
+        } else {
+            code -= bound;
+            range -= bound;
+            probabilities[index]
+                    = (short) (probability - (probability >> MOVE_BITS));
+            bit = 1;
+        }
+        normalize();
+        return bit;
+    }
+
+    /**
+     * Decodes a value of {@code size} bits encoded with
+     * {@link RangeEncoder#encodeTree(short[], int, int)}.
+     *
+     * @param probabilities the probabilities of the tree
+     * @param size the number of bits; between {@code 1} and {@code 16}, both
+     * inclusive.
+     * @return the value decoded.
+     * @throws IOException if an I/O error occurs.
+     */
+    public int decodeTree(final short[] probabilities, final int size)
+            throws IOException {
+        int index = 1;
+        for (int i = 0; i < size; i++) {
+            index = (index << 1) | decodeBit(probabilities, index);
+        }
+        return index - (1 << size);
+    }
+
+    /**
+     * Decodes a value of {@code size} bits encoded with
+     * {@link RangeEncoder#encodeDirect(int, int)}.
+     *
+     * @param size the number of bits; between {@code 1} and {@code 32}, both
+     * inclusive.
+     * @return the value decoded.
+     * @throws IOException if an I/O error occurs.
+     */
+    public int decodeDirect(final int size) throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (size > 32) {
+            throw new IllegalArgumentException("size(" + size + ") > 32");
+        }
+        int value = 0;
+        for (int i = 0; i < size; i++) {
+            range >>>= 1;
+            value <<= 1;
+            if (code >= range) {
+                code -= range;
+                value |= 1;
+            }
+            normalize();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the count, in {@code [0, total)}, identifying the next symbol.
+     * The symbol must then be removed with {@link #remove(int, int)}.
+     *
+     * @param total the total frequency; between {@code 1} and
+     * {@link RangeCoding#MAX_TOTAL}, both inclusive.
+     * @return the count.
+     * @throws IOException if the data is corrupt.
+     */
+    public int count(final int total) throws IOException {
+        RangeCoding.requireValidFrequency(0, 1, total);
+        range /= total;
+        final long count = code / range;
+        if (count >= total) {
+            throw new IOException("count(" + count + ") >= total(" + total
+                                  + ")");
+        }
+        return (int) count;
+    }
+
+    /**
+     * Removes the symbol identified by the last {@link #count(int)}.
+     *
+     * @param start the cumulative frequency of the symbol
+     * @param size the frequency of the symbol; positive.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void remove(final int start, final int size) throws IOException {
+        code -= start * range;
+        range *= size;
+        normalize();
+    }
+
+    /**
+     * Decodes a symbol with specified cumulative frequencies.
+     *
+     * @param cumulative the cumulative frequencies
+     * @return the symbol decoded.
+     * @throws IOException if an I/O error occurs or the data is corrupt.
+     * @see RangeCoding#update(int[], int)
+     */
+    public int decode(final int[] cumulative) throws IOException {
+        final int symbol = RangeCoding.symbol(
+                cumulative, count(cumulative[cumulative.length - 1]));
+        remove(cumulative[symbol], cumulative[symbol + 1] - cumulative[symbol]);
+        return symbol;
+    }
+
+    // -------------------------------------------------------------------------
+    private final BitInput input;
+
+    /**
+     * The offset of the code value within the current interval.
+     */
+    private long code = 0L;
+
+    /**
+     * The width of the current interval.
+     */
+    private long range = 0xFFFFFFFFL;
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import static com.github.jinahya.bit.io.RangeCoding.MOVE_BITS;
+import static com.github.jinahya.bit.io.RangeCoding.PROBABILITY_BITS;
+import static com.github.jinahya.bit.io.RangeCoding.TOP;
+
+/**
+ * A range encoder of adaptive binary decisions, direct bits and symbols of
+ * multi-symbol alphabets. The encoder keeps a 32-bit range and emits octets,
+ * with carries propagated, through {@link BitOutput#writeInt(boolean, int,
+ * int)} so that coded data may be embedded in a bit stream. Decode with
+ * {@link RangeDecoder}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see RangeCoding
+ */
+public class RangeEncoder {
+
+    /**
+     * Creates a new instance writing to specified output.
+     *
+     * @param output the output to write
+     */
+    public RangeEncoder(final BitOutput output) {
+        super();
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        this.output = output;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Emits the top octet of {@link #low}, or holds it back in
+     * {@link #cache} while a carry may still change it.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void shift() throws IOException {
+        if (low < 0xFF000000L || low > 0xFFFFFFFFL) {
+            final int carry = (int) (low >>> 32);
+            int octet = cache;
+            do {
+                output.writeInt(true, 8, (octet + carry) & 0xFF);
+                octet = 0xFF;
+            } while (--pending != 0);
+            cache = (int) (low >>> 24) & 0xFF;
+        }
+        pending++;
+        low = (low & 0x00FFFFFFL) << 8;
+    }
+
+    private void normalize() throws IOException {
+        while (range < TOP) {
+            range <<= 8;
+            shift();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Encodes a bit with the probability at specified index and adapts the
+     * probability toward the bit.
+     *
+     * @param probabilities the probabilities of contexts
+     * @param index the index of the context
+     * @param bit the bit to encode; {@code 0} or {@code 1}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void encodeBit(final short[] probabilities, final int index,
+                          final int bit)
+            throws IOException {
+        final int probability = probabilities[index];
+        final long bound = (range >>> PROBABILITY_BITS) * probability;
+        if (bit == 0) {
+            range = bound;
+            probabilities[index] = (short) (probability
+                                            + (((1 << PROBABILITY_BITS)
+                                                - probability) >> MOVE_BITS));
+        } else {
+            low += bound;
+            range -= bound;
+            probabilities[index]
+                    = (short) (probability - (probability >> MOVE_BITS));
+        }
+        normalize();
+    }
+
+    /**
+     * Encodes the lower {@code size} bits of specified value, most significant
+     * bit first, through a binary tree of contexts. The tree uses elements at
+     * {@code 1} to {@code (1 << size) - 1} of {@code probabilities}.
+     *
+     * @param probabilities the probabilities of the tree
+     * @param size the number of bits; between {@code 1} and {@code 16}, both
+     * inclusive.
+     * @param value the value to encode
+     * @throws IOException if an I/O error occurs.
+     */
+    public void encodeTree(final short[] probabilities, final int size,
+                           final int value)
+            throws IOException {
+        int index = 1;
+        for (int i = size - 1; i >= 0; i--) {
+            final int bit = (value >>> i) & 1;
+            encodeBit(probabilities, index, bit);
+            index = (index << 1) | bit;
+        }
+    }
+
+    /**
+     * Encodes the lower {@code size} bits of specified value with fixed
+     * probabilities of one half.
+     *
+     * @param size the number of bits; between {@code 1} and {@code 32}, both
+     * inclusive.
+     * @param value the value to encode
+     * @throws IOException if an I/O error occurs.
+     */
+    public void encodeDirect(final int size, final int value)
+            throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (size > 32) {
+            throw new IllegalArgumentException("size(" + size + ") > 32");
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            range >>>= 1;
+            if (((value >>> i) & 1) == 1) {
+                low += range;
+            }
+            normalize();
+        }
+    }
+
+    /**
+     * Encodes a symbol occupying {@code [start, start + size)} of
+     * {@code [0, total)}.
+     *
+     * @param start the cumulative frequency of the symbol
+     * @param size the frequency of the symbol; positive.
+     * @param total the total frequency; between {@code 1} and
+     * {@link RangeCoding#MAX_TOTAL}, both inclusive.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void encode(final int start, final int size, final int total)
+            throws IOException {
+        RangeCoding.requireValidFrequency(start, size, total);
+        range /= total;
+        low += start * range;
+        range *= size;
+        normalize();
+    }
+
+    /**
+     * Encodes a symbol with specified cumulative frequencies.
+     *
+     * @param cumulative the cumulative frequencies
+     * @param symbol the symbol to encode
+     * @throws IOException if an I/O error occurs.
+     * @see RangeCoding#update(int[], int)
+     */
+    public void encode(final int[] cumulative, final int symbol)
+            throws IOException {
+        encode(cumulative[symbol], cumulative[symbol + 1] - cumulative[symbol],
+               cumulative[cumulative.length - 1]);
+    }
+
+    /**
+     * Flushes all pending octets. This encoder should not be used afterwards.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    public void finish() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            shift();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    private final BitOutput output;
+
+    /**
+     * The lower bound of the interval; may carry into bit {@code 32}.
+     */
+    private long low = 0L;
+
+    /**
+     * The width of the interval; between {@link RangeCoding#TOP} and
+     * {@code 0xFFFFFFFF} after each operation.
+     */
+    private long range = 0xFFFFFFFFL;
+
+    /**
+     * The octet held back for carry propagation.
+     */
+    private int cache = 0;
+
+    /**
+     * The number of octets held back; {@link #cache} followed by
+     * {@code pending - 1} octets of {@code 0xFF}.
+     */
+    private int pending = 1;
+}
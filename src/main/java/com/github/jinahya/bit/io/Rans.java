@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A static range asymmetric numeral system (rANS) coder with a 31-bit state
+ * renormalized by octets. Symbols are encoded in reverse order through a
+ * {@link BackwardBitWriter} and decoded in forward order through a
+ * {@link ReverseBitInput}. Up to {@link Ans#MAX_WAYS} states may be
+ * interleaved, symbol {@code i} going to state {@code i % ways}, so that
+ * their dependency chains overlap.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see Ans#normalize(int[], int)
+ */
+public class Rans {
+
+    /**
+     * The maximum binary logarithm of the total frequency.
+     */
+    public static final int MAX_LOG = 16;
+
+    /**
+     * The lower bound of a normalized state.
+     */
+    private static final int LOWER = 1 << 23;
+
+    /**
+     * Creates a new instance with specified normalized frequencies.
+     *
+     * @param frequencies the frequencies of symbols whose total is a power of
+     * two not greater than {@code 1 << }{@link #MAX_LOG}.
+     */
+    public Rans(final int[] frequencies) {
+        super();
+        log = Ans.log(frequencies, 0, MAX_LOG);
+        this.frequencies = frequencies.clone();
+        starts = new int[frequencies.length];
+        bounds = new long[frequencies.length];
+        slots = new int[1 << log];
+        int start = 0;
+        for (int symbol = 0; symbol < frequencies.length; symbol++) {
+            final int frequency = frequencies[symbol];
+            starts[symbol] = start;
+            bounds[symbol] = ((long) (LOWER >> log) << 8) * frequency;
+            for (int i = 0; i < frequency; i++) {
+                slots[start++] = symbol;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Encodes symbols. The symbols are decoded with
+     * {@link #decode(ReverseBitInput, int[], int, int, int)} with the same
+     * {@code length} and {@code ways}.
+     *
+     * @param writer the writer to write
+     * @param symbols an array of symbols to encode
+     * @param offset the starting index in {@code symbols}
+     * @param length the number of symbols to encode
+     * @param ways the number of interleaved states; between {@code 1} and
+     * {@link Ans#MAX_WAYS}, both inclusive.
+     */
+    public void encode(final BackwardBitWriter writer, final int[] symbols,
+                       final int offset, final int length, final int ways) {
+        BitIoConstraints.requireValidRange(symbols.length, offset, length);
+        Ans.requireValidWays(ways);
+        final int[] states = new int[ways];
+        for (int w = 0; w < ways; w++) {
+            states[w] = LOWER;
+        }
+        for (int i = length - 1; i >= 0; i--) {
+            final int symbol = symbols[offset + i];
+            final int frequency = frequencies[symbol];
+            if (frequency == 0) {
+                throw new IllegalArgumentException(
+                        "symbol(" + symbol + ") has no frequency");
+            }
+            final int w = i % ways;
+            int state = states[w];
+            while (state >= bounds[symbol]) {
+                writer.write(8, state);
+                state >>>= 8;
+            }
+            states[w] = ((state / frequency) << log) + (state % frequency)
+                        + starts[symbol];
+        }
+        for (int w = ways - 1; w >= 0; w--) {
+            writer.write(32, states[w]);
+        }
+    }
+
+    /**
+     * Decodes symbols encoded by
+     * {@link #encode(BackwardBitWriter, int[], int, int, int)}.
+     *
+     * @param input the input to read
+     * @param symbols an array to which decoded symbols are stored
+     * @param offset the starting index in {@code symbols}
+     * @param length the number of symbols to decode
+     * @param ways the number of interleaved states used for encoding
+     * @throws IOException if an I/O error occurs.
+     */
+    public void decode(final ReverseBitInput input, final int[] symbols,
+                       final int offset, final int length, final int ways)
+            throws IOException {
+        BitIoConstraints.requireValidRange(symbols.length, offset, length);
+        Ans.requireValidWays(ways);
+        final int[] states = new int[ways];
+        for (int w = 0; w < ways; w++) {
+            states[w] = (int) input.bits(32);
+        }
+        final int mask = (1 << log) - 1;
+        for (int i = 0; i < length; i++) {
+            final int w = i % ways;
+            int state = states[w];
+            final int slot = state & mask;
+            final int symbol = slots[slot];
+            state = frequencies[symbol] * (state >>> log) + slot
+                    - starts[symbol];
+            while (state < LOWER) {
+                state = (state << 8) | (int) input.bits(8);
+            }
+            states[w] = state;
+            symbols[offset + i] = symbol;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The binary logarithm of the total frequency.
+     */
+    private final int log;
+
+    private final int[] frequencies;
+
+    /**
+     * The cumulative frequencies of symbols.
+     */
+    private final int[] starts;
+
+    /**
+     * The exclusive upper bounds of states before encoding each symbol.
+     */
+    private final long[] bounds;
+
+    /**
+     * The symbols for each slot of the total frequency.
+     */
+    private final int[] slots;
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A bit input which reads a region of octets from its end toward its start,
+ * as formats such as tANS payloads are decoded. The last octet of the region
+ * holds a sentinel bit, the lowest one bit, which is preceded by the last bit
+ * to read; {@link BackwardBitWriter} writes such regions. Zstandard FSE and
+ * Huffman bitstreams, whose sentinel is the highest one bit and whose values
+ * are read from their most significant bit, are read with
+ * {@link ReverseMsbBitInput} instead.
+ * <p>
+ * Each value is read from its least significant bit, so a value written
+ * forward with {@link BitOutput#writeLong(boolean, int, long)} is read back
+ * as is. Bits peeked are in the order read, the first one being the most
+ * significant, so {@link Huffman} codes written with
+ * {@link Huffman#write(BackwardBitWriter, int)} are looked up as they are. A
+ * 64-bit register is refilled with up to eight octets at once with
+ * {@link ByteBuffer#getLong(int)} without moving the buffer.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see ReverseMsbBitInput
+ */
+public class ReverseBitInput
+        implements PositionedBitInput, BulkBitInput, ExpGolombBitInput,
+                   UnaryBitInput, PeekableBitInput {
+
+    /**
+     * Creates a new instance reading specified range of an array.
+     *
+     * @param array the array of octets
+     * @param offset the index of the first octet
+     * @param length the number of octets
+     * @throws IOException if the range is empty or its last octet has no
+     * sentinel bit.
+     */
+    public ReverseBitInput(final byte[] array, final int offset,
+                           final int length)
+            throws IOException {
+        this(range(array, offset, length));
+    }
+
+    /**
+     * Creates a new instance reading the octets between the index and the
+     * limit of specified byte input. The byte input is not modified.
+     *
+     * @param input the byte input
+     * @throws IOException if the range is empty or its last octet has no
+     * sentinel bit.
+     */
+    public ReverseBitInput(final ArrayByteInput input) throws IOException {
+        this(input.getSource(), input.getIndex(),
+             input.getLimit() - input.getIndex());
+    }
+
+    /**
+     * Creates a new instance reading the octets between the position and the
+     * limit of specified buffer. Neither the position nor the byte order of
+     * the buffer is changed.
+     *
+     * @param buffer the buffer
+     * @throws IOException if the buffer has no remaining octets or its last
+     * octet has no sentinel bit.
+     */
+    public ReverseBitInput(final ByteBuffer buffer) throws IOException {
+        super();
+        this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        start = buffer.position();
+        index = buffer.limit();
+        if (index == start) {
+            throw new EOFException("no octets");
+        }
+        final int last = this.buffer.get(--index) & 0xFF;
+        if (last == 0) {
+            throw new IOException("no sentinel bit in the last octet");
+        }
+        final int zeros = Integer.numberOfTrailingZeros(last);
+        register = last >>> (zeros + 1);
+        available = 7 - zeros;
+        total = remaining();
+    }
+
+    private static ByteBuffer range(final byte[] array, final int offset,
+                                    final int length) {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        return ByteBuffer.wrap(array, offset, length);
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Refills the register with as many whole octets as fit.
+     */
+    private void refill() {
+        final int octets = Math.min((64 - available) >> 3, index - start);
+        if (octets == 8) {
+            index -= 8;
+            register = buffer.getLong(index);
+            available = 64;
+            return;
+        }
+        if (octets > 0) {
+            long value = 0L;
+            for (int i = index - octets; i < index; i++) {
+                value = (value << 8) | (buffer.get(i) & 0xFF);
+            }
+            index -= octets;
+            register |= value << available;
+            available += octets << 3;
+        }
+    }
+
+    /**
+     * Reads specified number of bits.
+     *
+     * @param size the number of bits; between {@code 0} and {@code 57}, both
+     * inclusive.
+     * @return an unsigned value.
+     * @throws EOFException if fewer than {@code size} bits remain.
+     */
+    long bits(final int size) throws EOFException {
+        if (size > available) {
+            refill();
+            if (size > available) {
+                throw new EOFException(
+                        "size(" + size + ") > remaining(" + available + ")");
+            }
+        }
+        final long value = register & ~(-1L << size);
+        register >>>= size;
+        available -= size;
+        return value;
+    }
+
+    /**
+     * Reads a value of given number of bits and sign-extends it if
+     * {@code unsigned} is {@code false}.
+     *
+     * @param unsigned a flag for unsigned value
+     * @param size the number of bits for the value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @return the value.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long bits(final boolean unsigned, final int size)
+            throws IOException {
+        long value;
+        if (size > 57) {
+            value = bits(32);
+            value |= bits(size - 32) << 32;
+        } else {
+            value = bits(size);
+        }
+        if (unsigned) {
+            return value;
+        }
+        final int shift = 64 - size;
+        return (value << shift) >> shift;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return bits(1) == 1L;
+    }
+
+    @Override
+    public byte readByte(final boolean unsigned, final int size)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 3, size);
+        return (byte) bits(unsigned, size);
+    }
+
+    @Override
+    public short readShort(final boolean unsigned, final int size)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 4, size);
+        return (short) bits(unsigned, size);
+    }
+
+    @Override
+    public int readInt(final boolean unsigned, final int size)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 5, size);
+        return (int) bits(unsigned, size);
+    }
+
+    @Override
+    public long readLong(final boolean unsigned, final int size)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 6, size);
+        return bits(unsigned, size);
+    }
+
+    /**
+     * {@inheritDoc} Values are stored in the order read, the one nearest to
+     * the end of the region first.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void readInts(final boolean unsigned, final int size,
+                         final int[] array, final int offset,
+                         final int length)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 5, size);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = (int) bits(unsigned, size);
+        }
+    }
+
+    /**
+     * {@inheritDoc} Values are stored in the order read, the one nearest to
+     * the end of the region first.
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void readLongs(final boolean unsigned, final int size,
+                          final long[] array, final int offset,
+                          final int length)
+            throws IOException {
+        BitIoConstraints.requireValidSize(unsigned, 6, size);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = bits(unsigned, size);
+        }
+    }
+
+    /**
+     * Returns the next specified number of bits without consuming them. Bits
+     * beyond the start of the region are filled with zeros, as the high-order
+     * bits of the value, and counted by {@link #padding()}.
+     *
+     * @param size the number of bits to peek; between {@code 1} and
+     * {@code 57}, both inclusive.
+     * @return an unsigned value.
+     */
+    private long peek(final int size) {
+        if (size > available) {
+            refill();
+            if (size > available) {
+                padding = size - available;
+                return register & ~(-1L << available);
+            }
+        }
+        padding = 0;
+        return register & ~(-1L << size);
+    }
+
+    @Override
+    public int peekInt(final int size) throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (size > 32) {
+            throw new IllegalArgumentException("size(" + size + ") > 32");
+        }
+        return (int) (Long.reverse(peek(size)) >>> (64 - size));
+    }
+
+    @Override
+    public long peekLong(final int size) throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("size(" + size + ") < 1");
+        }
+        if (size > 57) {
+            throw new IllegalArgumentException("size(" + size + ") > 57");
+        }
+        return Long.reverse(peek(size)) >>> (64 - size);
+    }
+
+    @Override
+    public int padding() {
+        return padding;
+    }
+
+    @Override
+    public void consume(final int size) throws IOException {
+        if (size < 0) {
+            throw new IllegalArgumentException("size(" + size + ") < 0");
+        }
+        if (size < available) {
+            register >>>= size;
+            available -= size;
+            return;
+        }
+        discard(size);
+    }
+
+    /**
+     * {@inheritDoc} Zero bits are counted in the order read.
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public int readUnary() throws IOException {
+        int zeros = 0;
+        while (true) {
+            if (available == 0) {
+                refill();
+                if (available == 0) {
+                    throw new EOFException();
+                }
+            }
+            if (register != 0L) {
+                final int trailing = Long.numberOfTrailingZeros(register);
+                register >>>= trailing + 1;
+                available -= trailing + 1;
+                return zeros + trailing;
+            }
+            zeros += available;
+            available = 0;
+        }
+    }
+
+    /**
+     * Reads an Exp-Golomb code number whose bits, in the order read, are the
+     * leading zeros, a one bit and the remaining bits of the code number plus
+     * one, as a value.
+     *
+     * @param limit the maximum number of leading zeros; {@code 63} at most.
+     * @return an unsigned code number.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long expGolomb(final int limit) throws IOException {
+        final int zeros = readUnary();
+        if (zeros > limit) {
+            throw new IOException("zeros(" + zeros + ") > " + limit);
+        }
+        if (zeros == 0) {
+            return 0L;
+        }
+        return (1L << zeros) - 1L + bits(true, zeros);
+    }
+
+    /**
+     * {@inheritDoc} The bits of the code are taken in the order read; the
+     * remaining bits of the code number plus one are read as a value.
+     *
+     * @param unsigned {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public int readExpGolombInt(final boolean unsigned) throws IOException {
+        final long code = expGolomb(32);
+        if (unsigned) {
+            if (code > 0xFFFFFFFFL) {
+                throw new IOException("code(" + code + ") > " + 0xFFFFFFFFL);
+            }
+            return (int) code;
+        }
+        final long value = (code & 1L) == 1L
+                           ? (code >>> 1) + 1L : -(code >>> 1);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException(
+                    "value(" + value + ") > " + Integer.MAX_VALUE);
+        }
+        if (value < Integer.MIN_VALUE) {
+            throw new IOException(
+                    "value(" + value + ") < " + Integer.MIN_VALUE);
+        }
+        return (int) value;
+    }
+
+    /**
+     * {@inheritDoc} The bits of the code are taken in the order read; the
+     * remaining bits of the code number plus one are read as a value.
+     *
+     * @param unsigned {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public long readExpGolombLong(final boolean unsigned) throws IOException {
+        final long code = expGolomb(63);
+        if (unsigned) {
+            return code;
+        }
+        return (code & 1L) == 1L ? (code >>> 1) + 1L : -(code >>> 1);
+    }
+
+    @Override
+    public char readChar(final int size) throws IOException {
+        BitIoConstraints.requireValidSizeChar(size);
+        return (char) bits(size);
+    }
+
+    /**
+     * {@inheritDoc} The {@code align(int)} method of {@code ReverseBitInput}
+     * class discards bits so that the number of remaining bits is a multiple
+     * of {@code bytes * 8}; octets are aligned from the start of the region.
+     *
+     * @param bytes {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public long align(final int bytes) throws IOException {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("bytes(" + bytes + ") <= 0");
+        }
+        final long bits = remaining() % ((long) bytes << 3);
+        discard(bits);
+        return bits;
+    }
+
+    /**
+     * {@inheritDoc} The position of a {@code ReverseBitInput} starts at the
+     * bit preceding the sentinel bit.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long position() {
+        return total - remaining();
+    }
+
+    @Override
+    public void skip(final long bits) throws IOException {
+        if (bits < 0L) {
+            throw new IllegalArgumentException("bits(" + bits + ") < 0");
+        }
+        discard(bits);
+    }
+
+    /**
+     * Discards specified number of bits.
+     *
+     * @param bits the number of bits to discard; not negative.
+     * @throws EOFException if fewer than {@code bits} bits remain.
+     */
+    private void discard(long bits) throws EOFException {
+        if (bits < available) {
+            register >>>= bits;
+            available -= (int) bits;
+            return;
+        }
+        if (bits > remaining()) {
+            throw new EOFException(
+                    "bits(" + bits + ") > remaining(" + remaining() + ")");
+        }
+        bits -= available;
+        register = 0L;
+        available = 0;
+        index -= (int) (bits >> 3);
+        bits(((int) bits) & 0x07);
+    }
+
+    /**
+     * Returns the number of bits remaining toward the start of the region.
+     *
+     * @return the number of bits remaining.
+     */
+    public long remaining() {
+        return ((long) (index - start) << 3) + available;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * A big-endian view of the source buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The index of the first octet of the region.
+     */
+    private final int start;
+
+    /**
+     * The index following the next octet to load; octets from {@link #start}
+     * up to this index are not loaded yet.
+     */
+    private int index;
+
+    /**
+     * The bit register; the lower {@link #available} bits are the next ones to
+     * read, the next one at bit {@code 0}.
+     */
+    private long register;
+
+    /**
+     * The number of bits available in {@link #register}.
+     */
+    private int available;
+
+    /**
+     * The number of bits preceding the sentinel bit.
+     */
+    private final long total;
+
+    /**
+     * The number of zero bits padded by the last {@link #peek(int)}.
+     */
+    private int padding = 0;
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * Golomb-Rice coding of unsigned values. A value {@code v} coded with a
+ * parameter {@code k} is written as the quotient {@code v >>> k} in unary
+ * followed by the lower {@code k} bits of {@code v}. Static methods code values
+ * with a fixed parameter; instances choose the parameter adaptively from a
+ * running mean of the values coded so far, as in LOCO-I.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class Rice {
+
+    /**
+     * The number of values after which the running mean is halved so that it
+     * follows recent values.
+     */
+    public static final int RESET = 64;
+
+    // -------------------------------------------------------------------------
+    private static int requireValidK(final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k(" + k + ") < 0");
+        }
+        if (k > 63) {
+            throw new IllegalArgumentException("k(" + k + ") > 63");
+        }
+        return k;
+    }
+
+    /**
+     * Reads a value coded with given parameter.
+     *
+     * @param input the input to read
+     * @param k the parameter; between {@code 0} and {@code 63}, both
+     * inclusive.
+     * @return an unsigned value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long readRice(final UnaryBitInput input, final int k)
+            throws IOException {
+        requireValidK(k);
+        final long quotient = input.readUnary();
+        if (k == 0) {
+            return quotient;
+        }
+        return (quotient << k) | input.readLong(true, k);
+    }
+
+    /**
+     * Reads values coded with given parameter into specified array.
+     *
+     * @param input the input to read
+     * @param k the parameter; between {@code 0} and {@code 63}, both
+     * inclusive.
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void readRice(final UnaryBitInput input, final int k,
+                                final long[] array, final int offset,
+                                final int length)
+            throws IOException {
+        requireValidK(k);
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            final long quotient = input.readUnary();
+            array[i] = k == 0
+                       ? quotient
+                       : (quotient << k) | input.readLong(true, k);
+        }
+    }
+
+    /**
+     * Writes a value with given parameter.
+     *
+     * @param output the output to write
+     * @param k the parameter; between {@code 0} and {@code 63}, both
+     * inclusive.
+     * @param value the unsigned value to write; its quotient,
+     * {@code value >>> k}, must not exceed {@link Integer#MAX_VALUE}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeRice(final UnaryBitOutput output, final int k,
+                                 final long value)
+            throws IOException {
+        requireValidK(k);
+        final long quotient = value >>> k;
+        if (quotient > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "quotient(" + quotient + ") > " + Integer.MAX_VALUE);
+        }
+        output.writeUnary((int) quotient);
+        if (k > 0) {
+            output.writeLong(true, k, value);
+        }
+    }
+
+    /**
+     * Writes values of specified array with given parameter.
+     *
+     * @param output the output to write
+     * @param k the parameter; between {@code 0} and {@code 63}, both
+     * inclusive.
+     * @param array the array whose values are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeRice(final UnaryBitOutput output, final int k,
+                                 final long[] array, final int offset,
+                                 final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            writeRice(output, k, array[i]);
+        }
+    }
+
+    /**
+     * Reads a Golomb coded value whose remainder is truncated binary coded.
+     *
+     * @param input the input to read
+     * @param m the divisor; positive.
+     * @return an unsigned value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long readGolomb(final UnaryBitInput input, final long m)
+            throws IOException {
+        if (m <= 0L) {
+            throw new IllegalArgumentException("m(" + m + ") <= 0");
+        }
+        final long quotient = input.readUnary();
+        if (m == 1L) {
+            return quotient;
+        }
+        final int b = 64 - Long.numberOfLeadingZeros(m - 1L); // ceil(log2(m))
+        final long cutoff = (1L << b) - m;
+        long remainder = b == 1 ? 0L : input.readLong(true, b - 1);
+        if (remainder >= cutoff) {
+            remainder = ((remainder << 1) | (input.readBoolean() ? 1L : 0L))
+                        - cutoff;
+        }
+        return quotient * m + remainder;
+    }
+
+    /**
+     * Writes a Golomb coded value whose remainder is truncated binary coded.
+     *
+     * @param output the output to write
+     * @param m the divisor; positive.
+     * @param value the value to write; not negative. Its quotient,
+     * {@code value / m}, must not exceed {@link Integer#MAX_VALUE}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeGolomb(final UnaryBitOutput output, final long m,
+                                   final long value)
+            throws IOException {
+        if (m <= 0L) {
+            throw new IllegalArgumentException("m(" + m + ") <= 0");
+        }
+        if (value < 0L) {
+            throw new IllegalArgumentException("value(" + value + ") < 0");
+        }
+        final long quotient = value / m;
+        if (quotient > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "quotient(" + quotient + ") > " + Integer.MAX_VALUE);
+        }
+        output.writeUnary((int) quotient);
+        if (m == 1L) {
+            return;
+        }
+        final int b = 64 - Long.numberOfLeadingZeros(m - 1L);
+        final long cutoff = (1L << b) - m;
+        final long remainder = value % m;
+        if (remainder < cutoff) {
+            if (b > 1) {
+                output.writeLong(true, b - 1, remainder);
+            }
+        } else {
+            output.writeLong(true, b, remainder + cutoff);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance with an initial mean of {@code 4}.
+     */
+    public Rice() {
+        this(4L);
+    }
+
+    /**
+     * Creates a new instance with given initial mean.
+     *
+     * @param mean the initial mean of values; not negative.
+     */
+    public Rice(final long mean) {
+        super();
+        if (mean < 0L) {
+            throw new IllegalArgumentException("mean(" + mean + ") < 0");
+        }
+        this.sum = mean;
+        this.count = 1;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Returns the parameter for the next value; the smallest {@code k} for
+     * which {@code count << k} is not less than the sum of recent values.
+     *
+     * @return the parameter for the next value.
+     */
+    public int getK() {
+        int k = 0;
+        while (k < 56 && ((long) count << k) < sum) {
+            k++;
+        }
+        return k;
+    }
+
+    private void update(final long value) {
+        sum += value;
+        if (sum < 0L || value < 0L) { // overflow or too large
+            sum = Long.MAX_VALUE;
+        }
+        if (++count == RESET) {
+            sum >>= 1;
+            count >>= 1;
+        }
+    }
+
+    /**
+     * Reads a value with the adaptive parameter.
+     *
+     * @param input the input to read
+     * @return an unsigned value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public long read(final UnaryBitInput input) throws IOException {
+        final long value = readRice(input, getK());
+        update(value);
+        return value;
+    }
+
+    /**
+     * Reads values with the adaptive parameter into specified array.
+     *
+     * @param input the input to read
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public void read(final UnaryBitInput input, final long[] array,
+                     final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = read(input);
+        }
+    }
+
+    /**
+     * Writes a value with the adaptive parameter.
+     *
+     * @param output the output to write
+     * @param value the unsigned value to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final UnaryBitOutput output, final long value)
+            throws IOException {
+        writeRice(output, getK(), value);
+        update(value);
+    }
+
+    /**
+     * Writes values of specified array with the adaptive parameter.
+     *
+     * @param output the output to write
+     * @param array the array whose values are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final UnaryBitOutput output, final long[] array,
+                      final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            write(output, array[i]);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The sum of recent values.
+     */
+    private long sum;
+
+    /**
+     * The number of recent values.
+     */
+    private int count;
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A {@link PositionedBitInput} whose underlying byte source can be
+ * repositioned.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public interface SeekableBitInput extends PositionedBitInput {
+
+    /**
+     * Moves to specified bit position. Subsequent reads start from the bit at
+     * {@code position} and {@link #position()} returns {@code position}. The
+     * octet count used by {@link #align(int)} is adjusted as if all preceding
+     * bits were read.
+     *
+     * @param position the new bit position; not negative.
+     * @throws IllegalArgumentException if {@code position} is out of range.
+     * @throws IOException if an I/O error occurs.
+     */
+    void seek(long position) throws IOException;
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link BufferedBitInput} reads bytes from an {@link InputStream}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see StreamBitOutput
+ */
+public class StreamBitInput extends BufferedBitInput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance built on top of the specified input stream.
+     *
+     * @param source the input stream; {@code null} if it's supposed to be
+     * lazily initialized and set
+     */
+    public StreamBitInput(final InputStream source) {
+        super();
+        this.source = source;
+    }
+
+    /**
+     * Creates a new instance built on top of the specified input stream with
+     * given buffer.
+     *
+     * @param source the input stream; {@code null} if it's supposed to be
+     * lazily initialized and set
+     * @param buffer the buffer to use; {@code null} if it's supposed to be
+     * lazily initialized with {@link #newBuffer()}.
+     * @throws IllegalArgumentException if {@code buffer} is empty.
+     */
+    public StreamBitInput(final InputStream source, final byte[] buffer) {
+        super(buffer);
+        this.source = source;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * {@inheritDoc} The {@code fill(byte[], int, int)} method of
+     * {@code StreamBitInput} class invokes
+     * {@link InputStream#read(byte[], int, int)} on {@link #source} and
+     * returns the result.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected int fill(final byte[] array, final int offset, final int length)
+            throws IOException {
+        return source.read(array, offset, length);
+    }
+
+    // ------------------------------------------------------------------ source
+    /**
+     * Returns the current value of {@link #source}.
+     *
+     * @return the current value of {@link #source}
+     */
+    public InputStream getSource() {
+        return source;
+    }
+
+    /**
+     * Replaces the current value of {@link #source} with given.
+     *
+     * @param source new value for {@link #source}
+     */
+    public void setSource(final InputStream source) {
+        this.source = source;
+    }
+
+    /**
+     * Replaces the current value of {@link #source} with given and returns this
+     * instance.
+     *
+     * @param source new value for {@link #source}
+     * @return this instance
+     * @see #setSource(java.io.InputStream)
+     */
+    public StreamBitInput source(final InputStream source) {
+        setSource(source);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The underlying input stream.
+     */
+    protected InputStream source;
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link BufferedBitOutput} writes bytes to an {@link OutputStream}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see StreamBitInput
+ */
+public class StreamBitOutput extends BufferedBitOutput {
+
+    // -------------------------------------------------------------------------
+    /**
+     * Creates a new instance built on top of the specified output stream.
+     *
+     * @param target the output stream; {@code null} if it's supposed to be
+     * lazily initialized and set.
+     */
+    public StreamBitOutput(final OutputStream target) {
+        super();
+        this.target = target;
+    }
+
+    /**
+     * Creates a new instance built on top of the specified output stream with
+     * given buffer.
+     *
+     * @param target the output stream; {@code null} if it's supposed to be
+     * lazily initialized and set.
+     * @param buffer the buffer to use; {@code null} if it's supposed to be
+     * lazily initialized and set.
+     */
+    public StreamBitOutput(final OutputStream target, final byte[] buffer) {
+        super(buffer);
+        this.target = target;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * {@inheritDoc} The {@code drain(byte[], int, int)} method of
+     * {@code StreamBitOutput} class invokes
+     * {@link OutputStream#write(byte[], int, int)} on {@link #target}.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void drain(final byte[] array, final int offset,
+                         final int length)
+            throws IOException {
+        target.write(array, offset, length);
+    }
+
+    /**
+     * {@inheritDoc} The {@code flush()} method of {@code StreamBitOutput}
+     * class invokes {@link OutputStream#flush()} on {@link #target} after
+     * draining.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        super.flush();
+        target.flush();
+    }
+
+    /**
+     * {@inheritDoc} The {@code release()} method of {@code StreamBitOutput}
+     * class invokes {@link OutputStream#close()} on {@link #target}.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void release() throws IOException {
+        target.close();
+    }
+
+    // ------------------------------------------------------------------ target
+    /**
+     * Returns the current value of {@link #target}.
+     *
+     * @return the current value of {@link #target}.
+     */
+    public OutputStream getTarget() {
+        return target;
+    }
+
+    /**
+     * Replaces the value of {@link #target} with given.
+     *
+     * @param target new value for {@link #target}.
+     */
+    public void setTarget(final OutputStream target) {
+        this.target = target;
+    }
+
+    /**
+     * Replaces the value of {@link #target} with given and returns this
+     * instance.
+     *
+     * @param target new value for {@link #target}.
+     * @return this instance.
+     * @see #setTarget(java.io.OutputStream)
+     */
+    public StreamBitOutput target(final OutputStream target) {
+        setTarget(target);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The underlying output stream.
+     */
+    protected OutputStream target;
+}
@@ -58,6 +58,66 @@ public class StreamByteInput extends AbstractByteInput<InputStream> {
         return value;
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of
+     * {@code StreamByteInput} class invokes
+     * {@link InputStream#read(byte[], int, int)} on {@link #source} until
+     * {@code length} bytes are read. Override this method along with
+     * {@link #read()} if the {@link #source} is supposed to be lazily
+     * initialized and set.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws EOFException if the {@link #source} reached end of stream before
+     * {@code length} bytes are read.
+     * @see InputStream#read(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] array, int offset, int length)
+            throws IOException {
+        while (length > 0) {
+            final int read = source.read(array, offset, length);
+            if (read == -1) {
+                throw new EOFException();
+            }
+            offset += read;
+            length -= read;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of
+     * {@code StreamByteInput} class invokes {@link InputStream#skip(long)} on
+     * {@link #source} until {@code length - 1} bytes are skipped and reads the
+     * last byte with {@link #read()}, since some streams, such as
+     * {@link java.io.FileInputStream}, skip past their end without an error.
+     * Override this method along with {@link #read()} if the {@link #source}
+     * is supposed to be lazily initialized and set.
+     *
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws EOFException if the {@link #source} reached end of stream before
+     * {@code length} bytes are skipped.
+     * @see InputStream#skip(long)
+     */
+    @Override
+    public void skipBytes(long length) throws IOException {
+        if (length <= 0L) {
+            return;
+        }
+        while (--length > 0L) {
+            final long skipped = source.skip(length);
+            if (skipped > 0L) {
+                length -= skipped - 1L;
+                continue;
+            }
+            read(); // checks the end of stream
+        }
+        read(); // the last byte, which also checks the end of stream
+    }
+
     // ------------------------------------------------------------------ source
     @Override
     public StreamByteInput source(final InputStream source) {
@@ -53,6 +53,25 @@ public class StreamByteOutput extends AbstractByteOutput<OutputStream> {
         target.write(value);
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of
+     * {@code StreamByteOutput} class invokes
+     * {@link OutputStream#write(byte[], int, int)} on {@link #target}.
+     * Override this method along with {@link #write(int)} if the
+     * {@link #target} is supposed to be lazily initialized and set.
+     *
+     * @param array {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see OutputStream#write(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] array, final int offset, final int length)
+            throws IOException {
+        target.write(array, offset, length);
+    }
+
     // ------------------------------------------------------------------ target
     @Override
     public StreamByteOutput target(final OutputStream target) {
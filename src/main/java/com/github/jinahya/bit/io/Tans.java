@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A table-based asymmetric numeral system (tANS) coder, after the finite state
+ * entropy construction. Each symbol costs one table lookup and a variable
+ * number of bits, with no multiplication nor division. Symbols are encoded in
+ * reverse order through a {@link BackwardBitWriter} and decoded in forward
+ * order through a {@link ReverseBitInput}. Up to {@link Ans#MAX_WAYS}
+ * states may be interleaved, symbol {@code i} going to state
+ * {@code i % ways}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ * @see Ans#normalize(int[], int)
+ */
+public class Tans {
+
+    /**
+     * The minimum binary logarithm of the table size.
+     */
+    public static final int MIN_LOG = 5;
+
+    /**
+     * The maximum binary logarithm of the table size.
+     */
+    public static final int MAX_LOG = 15;
+
+    /**
+     * Creates a new instance with specified normalized frequencies.
+     *
+     * @param frequencies the frequencies of symbols whose total, the table
+     * size, is a power of two between {@code 1 << }{@link #MIN_LOG} and
+     * {@code 1 << }{@link #MAX_LOG}, both inclusive.
+     */
+    public Tans(final int[] frequencies) {
+        super();
+        log = Ans.log(frequencies, MIN_LOG, MAX_LOG);
+        final int size = 1 << log;
+        // spread symbols over the table; the step is odd so every cell is hit
+        final int[] spread = new int[size];
+        final int step = (size >> 1) + (size >> 3) + 3;
+        int position = 0;
+        for (int symbol = 0; symbol < frequencies.length; symbol++) {
+            for (int i = 0; i < frequencies[symbol]; i++) {
+                spread[position] = symbol;
+                position = (position + step) & (size - 1);
+            }
+        }
+        // encoding tables
+        this.frequencies = frequencies.clone();
+        states = new int[size];
+        deltaBits = new int[frequencies.length];
+        deltaStates = new int[frequencies.length];
+        final int[] cumulative = new int[frequencies.length];
+        int total = 0;
+        for (int symbol = 0; symbol < frequencies.length; symbol++) {
+            final int frequency = frequencies[symbol];
+            cumulative[symbol] = total;
+            if (frequency == 1) {
+                deltaBits[symbol] = (log << 16) - size;
+            } else if (frequency > 1) {
+                final int bits = log - (31 - Integer.numberOfLeadingZeros(
+                                        frequency - 1));
+                deltaBits[symbol] = (bits << 16) - (frequency << bits);
+            }
+            deltaStates[symbol] = total - frequency;
+            total += frequency;
+        }
+        for (int i = 0; i < size; i++) {
+            states[cumulative[spread[i]]++] = size + i;
+        }
+        // decoding tables
+        symbols = spread;
+        bits = new int[size];
+        bases = new int[size];
+        final int[] next = frequencies.clone();
+        for (int i = 0; i < size; i++) {
+            final int x = next[spread[i]]++;
+            bits[i] = log - (31 - Integer.numberOfLeadingZeros(x));
+            bases[i] = (x << bits[i]) - size;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Encodes symbols. The symbols are decoded with
+     * {@link #decode(ReverseBitInput, int[], int, int, int)} with the same
+     * {@code length} and {@code ways}.
+     *
+     * @param writer the writer to write
+     * @param symbols an array of symbols to encode
+     * @param offset the starting index in {@code symbols}
+     * @param length the number of symbols to encode
+     * @param ways the number of interleaved states; between {@code 1} and
+     * {@link Ans#MAX_WAYS}, both inclusive.
+     */
+    public void encode(final BackwardBitWriter writer, final int[] symbols,
+                       final int offset, final int length, final int ways) {
+        BitIoConstraints.requireValidRange(symbols.length, offset, length);
+        Ans.requireValidWays(ways);
+        final int size = 1 << log;
+        final int[] x = new int[ways];
+        for (int w = 0; w < ways; w++) {
+            x[w] = size;
+        }
+        for (int i = length - 1; i >= 0; i--) {
+            final int symbol = symbols[offset + i];
+            if (frequencies[symbol] == 0) {
+                throw new IllegalArgumentException(
+                        "symbol(" + symbol + ") has no frequency");
+            }
+            final int w = i % ways;
+            final int state = x[w];
+            final int count = (state + deltaBits[symbol]) >>> 16;
+            writer.write(count, state);
+            x[w] = states[(state >>> count) + deltaStates[symbol]];
+        }
+        for (int w = ways - 1; w >= 0; w--) {
+            writer.write(log, x[w] - size);
+        }
+    }
+
+    /**
+     * Decodes symbols encoded by
+     * {@link #encode(BackwardBitWriter, int[], int, int, int)}.
+     *
+     * @param input the input to read
+     * @param symbols an array to which decoded symbols are stored
+     * @param offset the starting index in {@code symbols}
+     * @param length the number of symbols to decode
+     * @param ways the number of interleaved states used for encoding
+     * @throws IOException if an I/O error occurs.
+     */
+    public void decode(final ReverseBitInput input, final int[] symbols,
+                       final int offset, final int length, final int ways)
+            throws IOException {
+        BitIoConstraints.requireValidRange(symbols.length, offset, length);
+        Ans.requireValidWays(ways);
+        final int[] x = new int[ways];
+        for (int w = 0; w < ways; w++) {
+            x[w] = (int) input.bits(log);
+        }
+        for (int i = 0; i < length; i++) {
+            final int w = i % ways;
+            final int state = x[w];
+            symbols[offset + i] = this.symbols[state];
+            x[w] = bases[state] + (int) input.bits(bits[state]);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * The binary logarithm of the table size.
+     */
+    private final int log;
+
+    private final int[] frequencies;
+
+    /**
+     * The encoding states sorted by symbol.
+     */
+    private final int[] states;
+
+    /**
+     * Per-symbol values which give the number of bits to write when added to
+     * a state and shifted right by {@code 16}.
+     */
+    private final int[] deltaBits;
+
+    /**
+     * Per-symbol offsets into {@link #states}.
+     */
+    private final int[] deltaStates;
+
+    /**
+     * The decoded symbol of each state.
+     */
+    private final int[] symbols;
+
+    /**
+     * The number of bits to read at each state.
+     */
+    private final int[] bits;
+
+    /**
+     * The base of the next state at each state.
+     */
+    private final int[] bases;
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * A {@link BitOutput} which writes unary coded values.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public interface UnaryBitOutput extends BitOutput {
+
+    /**
+     * Writes a unary coded value; specified number of zero bits followed by a
+     * one bit.
+     *
+     * @param value the number of zero bits; not negative.
+     * @throws IllegalArgumentException if {@code value} is negative.
+     * @throws IOException if an I/O error occurs.
+     */
+    void writeUnary(int value) throws IOException;
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * Bit-granular variable-length coding of unsigned values. A value is split
+ * into groups of {@code width} bits, least significant group first, and each
+ * group is preceded by a continuation bit which is set if more groups follow.
+ * A continuation bit and its group are read or written in a single call.
+ * Signed values are ZigZag mapped with {@link ZigZag}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class Varint {
+
+    private static int requireValidWidth(final int width) {
+        if (width < 1) {
+            throw new IllegalArgumentException("width(" + width + ") < 1");
+        }
+        if (width > 32) {
+            throw new IllegalArgumentException("width(" + width + ") > 32");
+        }
+        return width;
+    }
+
+    /**
+     * Reads an unsigned value.
+     *
+     * @param input the input to read
+     * @param width the number of bits for each group; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @return an unsigned value.
+     * @throws IOException if an I/O error occurs or the groups exceed
+     * {@code 64} bits.
+     */
+    public static long readVarint(final BitInput input, final int width)
+            throws IOException {
+        requireValidWidth(width);
+        final long mask = ~(-1L << width);
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += width) {
+            final long group = input.readLong(true, width + 1);
+            if (shift > 64 - width && (group & mask) >>> (64 - shift) != 0L) {
+                throw new IOException("groups exceed 64 bits");
+            }
+            value |= (group & mask) << shift;
+            if ((group >>> width) == 0L) {
+                return value;
+            }
+        }
+        throw new IOException("groups exceed 64 bits");
+    }
+
+    /**
+     * Reads unsigned values into specified array.
+     *
+     * @param input the input to read
+     * @param width the number of bits for each group; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void readVarints(final BitInput input, final int width,
+                                   final long[] array, final int offset,
+                                   final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = readVarint(input, width);
+        }
+    }
+
+    /**
+     * Writes an unsigned value.
+     *
+     * @param output the output to write
+     * @param width the number of bits for each group; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param value the unsigned value to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeVarint(final BitOutput output, final int width,
+                                   long value)
+            throws IOException {
+        requireValidWidth(width);
+        final long mask = ~(-1L << width);
+        while (true) {
+            final long group = value & mask;
+            value >>>= width;
+            if (value == 0L) {
+                output.writeLong(true, width + 1, group);
+                return;
+            }
+            output.writeLong(true, width + 1, (1L << width) | group);
+        }
+    }
+
+    /**
+     * Writes unsigned values of specified array.
+     *
+     * @param output the output to write
+     * @param width the number of bits for each group; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param array the array whose values are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeVarints(final BitOutput output, final int width,
+                                    final long[] array, final int offset,
+                                    final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            writeVarint(output, width, array[i]);
+        }
+    }
+
+    /**
+     * Reads a ZigZag mapped signed value.
+     *
+     * @param input the input to read
+     * @param width the number of bits for each group; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @return a signed value.
+     * @throws IOException if an I/O error occurs or the groups exceed
+     * {@code 64} bits.
+     */
+    public static long readSignedVarint(final BitInput input, final int width)
+            throws IOException {
+        return ZigZag.decode(readVarint(input, width));
+    }
+
+    /**
+     * Reads ZigZag mapped signed values into specified array.
+     *
+     * @param input the input to read
+     * @param width the number of bits for each group; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void readSignedVarints(final BitInput input,
+                                         final int width, final long[] array,
+                                         final int offset, final int length)
+            throws IOException {
+        readVarints(input, width, array, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = ZigZag.decode(array[i]);
+        }
+    }
+
+    /**
+     * Writes a ZigZag mapped signed value.
+     *
+     * @param output the output to write
+     * @param width the number of bits for each group; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param value the signed value to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeSignedVarint(final BitOutput output,
+                                         final int width, final long value)
+            throws IOException {
+        writeVarint(output, width, ZigZag.encode(value));
+    }
+
+    /**
+     * Writes ZigZag mapped signed values of specified array.
+     *
+     * @param output the output to write
+     * @param width the number of bits for each group; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param array the array whose values are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeSignedVarints(final BitOutput output,
+                                          final int width, final long[] array,
+                                          final int offset, final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            writeVarint(output, width, ZigZag.encode(array[i]));
+        }
+    }
+
+    private Varint() {
+        super();
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+
+/**
+ * ZigZag mapping of signed values to unsigned values, so that values of small
+ * magnitude have small unsigned forms; {@code 0, -1, 1, -2, 2, ...} are mapped
+ * to {@code 0, 1, 2, 3, 4, ...}. Mapped values are written with unsigned
+ * reads and writes and need no separate sign handling; full-width mapped
+ * values, {@code 32} bits for ints and {@code 64} bits for longs, are written
+ * as they are.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public final class ZigZag {
+
+    /**
+     * Maps a signed int value to its unsigned form.
+     *
+     * @param value the value to map
+     * @return the unsigned form.
+     */
+    public static int encode(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Maps a signed long value to its unsigned form.
+     *
+     * @param value the value to map
+     * @return the unsigned form.
+     */
+    public static long encode(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Maps an unsigned form back to the signed int value.
+     *
+     * @param value the unsigned form
+     * @return the signed value.
+     */
+    public static int decode(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Maps an unsigned form back to the signed long value.
+     *
+     * @param value the unsigned form
+     * @return the signed value.
+     */
+    public static long decode(final long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    // -------------------------------------------------------------------------
+    /**
+     * Reads a ZigZag mapped int value of given size.
+     *
+     * @param input the input to read
+     * @param size the number of bits; between {@code 1} and {@code 32}, both
+     * inclusive.
+     * @return the signed value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static int readInt(final BitInput input, final int size)
+            throws IOException {
+        return decode(input.readInt(size < 32, size));
+    }
+
+    /**
+     * Reads ZigZag mapped int values of given size into specified array with
+     * {@link BulkBitInput#readInts(boolean, int, int[], int, int)}.
+     *
+     * @param input the input to read
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void readInts(final BulkBitInput input, final int size,
+                                final int[] array, final int offset,
+                                final int length)
+            throws IOException {
+        input.readInts(size < 32, size, array, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = decode(array[i]);
+        }
+    }
+
+    /**
+     * Writes a ZigZag mapped int value of given size.
+     *
+     * @param output the output to write
+     * @param size the number of bits; between {@code 1} and {@code 32}, both
+     * inclusive.
+     * @param value the signed value to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeInt(final BitOutput output, final int size,
+                                final int value)
+            throws IOException {
+        output.writeInt(size < 32, size, encode(value));
+    }
+
+    /**
+     * Writes ZigZag mapped int values of given size from specified array with
+     * {@link BulkBitOutput#writeInts(boolean, int, int[], int, int)}.
+     * Values are mapped in place and mapped back once written, or on failure,
+     * so the array is left as is.
+     *
+     * @param output the output to write
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 32}, both inclusive.
+     * @param array the array whose values are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeInts(final BulkBitOutput output, final int size,
+                                 final int[] array, final int offset,
+                                 final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int limit = offset + length;
+        for (int i = offset; i < limit; i++) {
+            array[i] = encode(array[i]);
+        }
+        try {
+            output.writeInts(size < 32, size, array, offset, length);
+        } finally {
+            for (int i = offset; i < limit; i++) {
+                array[i] = decode(array[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads a ZigZag mapped long value of given size.
+     *
+     * @param input the input to read
+     * @param size the number of bits; between {@code 1} and {@code 64}, both
+     * inclusive.
+     * @return the signed value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long readLong(final BitInput input, final int size)
+            throws IOException {
+        return decode(input.readLong(size < 64, size));
+    }
+
+    /**
+     * Reads ZigZag mapped long values of given size into specified array with
+     * {@link BulkBitInput#readLongs(boolean, int, long[], int, int)}.
+     *
+     * @param input the input to read
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @param array the array to which values are stored
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to read
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void readLongs(final BulkBitInput input, final int size,
+                                 final long[] array, final int offset,
+                                 final int length)
+            throws IOException {
+        input.readLongs(size < 64, size, array, offset, length);
+        for (int i = offset, j = offset + length; i < j; i++) {
+            array[i] = decode(array[i]);
+        }
+    }
+
+    /**
+     * Writes a ZigZag mapped long value of given size.
+     *
+     * @param output the output to write
+     * @param size the number of bits; between {@code 1} and {@code 64}, both
+     * inclusive.
+     * @param value the signed value to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeLong(final BitOutput output, final int size,
+                                 final long value)
+            throws IOException {
+        output.writeLong(size < 64, size, encode(value));
+    }
+
+    /**
+     * Writes ZigZag mapped long values of given size from specified array
+     * with {@link BulkBitOutput#writeLongs(boolean, int, long[], int, int)}.
+     * Values are mapped in place and mapped back once written, or on failure,
+     * so the array is left as is.
+     *
+     * @param output the output to write
+     * @param size the number of bits for each value; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @param array the array whose values are written
+     * @param offset the starting index in {@code array}
+     * @param length the number of values to write
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeLongs(final BulkBitOutput output, final int size,
+                                  final long[] array, final int offset,
+                                  final int length)
+            throws IOException {
+        BitIoConstraints.requireValidRange(array.length, offset, length);
+        final int limit = offset + length;
+        for (int i = offset; i < limit; i++) {
+            array[i] = encode(array[i]);
+        }
+        try {
+            output.writeLongs(size < 64, size, array, offset, length);
+        } finally {
+            for (int i = offset; i < limit; i++) {
+                array[i] = decode(array[i]);
+            }
+        }
+    }
+
+    private ZigZag() {
+        super();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * An unpacker shifting and masking values across vector lanes. Values are
+ * unpacked in blocks whose bit length is a multiple of {@code 64} so that the
+ * word indices and shifts of the lanes repeat for every block.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+final class BitIoVectorUnpacker extends BitIoUnpacker {
+
+    private static final VectorSpecies<Long> LONGS
+            = LongVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Integer> INTS = VectorSpecies.of(
+            int.class, VectorShape.forBitSize(LONGS.vectorBitSize() >> 1));
+
+    /**
+     * The maximum number of values in a block.
+     */
+    private static final int BLOCK = Math.max(64, LONGS.length());
+
+    /**
+     * Creates a new instance. Narrower vectors are not used since their
+     * gathers are not intrinsified and run much slower than the scalar kernel.
+     *
+     * @throws IllegalStateException if the preferred species has less than
+     * {@code 4} lanes.
+     */
+    BitIoVectorUnpacker() {
+        this(false);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param force a flag for using vectors of any width; for benchmarks
+     * @throws IllegalStateException if {@code force} is {@code false} and the
+     * preferred species has less than {@code 4} lanes.
+     */
+    BitIoVectorUnpacker(final boolean force) {
+        super();
+        if (!force && LONGS.length() < 4) {
+            throw new IllegalStateException(
+                    "lanes(" + LONGS.length() + ") < 4");
+        }
+    }
+
+    /**
+     * {@inheritDoc} The
+     * {@code unpack(long[], long, boolean, int, int[], int, int)} method of
+     * {@code BitIoVectorUnpacker} class unpacks whole blocks with vectors and
+     * the rest with the scalar kernel.
+     *
+     * @param words {@inheritDoc}
+     * @param bit {@inheritDoc}
+     * @param unsigned {@inheritDoc}
+     * @param size {@inheritDoc}
+     * @param dst {@inheritDoc}
+     * @param offset {@inheritDoc}
+     * @param length {@inheritDoc}
+     */
+    @Override
+    void unpack(final long[] words, long bit, final boolean unsigned,
+                final int size, final int[] dst, int offset, int length) {
+        // values in a block; the period of the lane pattern, at least a vector
+        final int block = Math.max(64 >> Integer.numberOfTrailingZeros(size),
+                                   LONGS.length());
+        if (length >= block) {
+            final int first = (int) (bit & 63);
+            for (int k = 0; k < block; k++) {
+                final int b = first + k * size;
+                indices[k] = b >>> 6;
+                nexts[k] = indices[k] + 1;
+                lefts[k] = b & 63;
+                // a zero left shift must not take the whole next word
+                rights[k] = lefts[k] == 0 ? 63 : 64 - lefts[k];
+            }
+            final VectorOperators.Binary extend
+                    = unsigned ? VectorOperators.LSHR : VectorOperators.ASHR;
+            final int blockWords = (block * size) >> 6;
+            int base = (int) (bit >>> 6);
+            for (; length >= block; length -= block) {
+                for (int k = 0; k < block; k += LONGS.length()) {
+                    final LongVector high = LongVector.fromArray(
+                            LONGS, words, base, indices, k);
+                    final LongVector low = LongVector.fromArray(
+                            LONGS, words, base, nexts, k);
+                    high.lanewise(VectorOperators.LSHL,
+                                  LongVector.fromArray(LONGS, lefts, k))
+                            .or(low.lanewise(
+                                    VectorOperators.LSHR,
+                                    LongVector.fromArray(LONGS, rights, k)))
+                            .lanewise(extend, 64 - size)
+                            .convertShape(VectorOperators.L2I, INTS, 0)
+                            .reinterpretAsInts()
+                            .intoArray(dst, offset + k);
+                }
+                base += blockWords;
+                offset += block;
+            }
+            bit = ((long) base << 6) + first;
+        }
+        BitIoPacking.unpack(words, bit, unsigned, size, dst, offset, length);
+    }
+
+    private final int[] indices = new int[BLOCK];
+
+    private final int[] nexts = new int[BLOCK];
+
+    private final long[] lefts = new long[BLOCK];
+
+    private final long[] rights = new long[BLOCK];
+}
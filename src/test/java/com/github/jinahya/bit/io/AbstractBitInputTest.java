@@ -15,10 +15,18 @@
  */
 package com.github.jinahya.bit.io;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.ThreadLocalRandom;
+import static java.util.concurrent.ThreadLocalRandom.current;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
 import org.testng.annotations.Test;
 
 public class AbstractBitInputTest {
@@ -36,4 +44,244 @@ public class AbstractBitInputTest {
                 = mock(AbstractBitInput.class, Mockito.CALLS_REAL_METHODS);
         mock.align(ThreadLocalRandom.current().nextInt() | Integer.MIN_VALUE);
     }
+
+    @Test
+    public void readAcrossOctets() throws IOException {
+        final byte[] array = new byte[]{
+            (byte) 0xA5, 0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB,
+            (byte) 0xCD, (byte) 0xEF, (byte) 0xFF};
+        final AbstractBitInput input = new DefaultBitInput<>(
+                new ArrayByteInput(array, 0, array.length));
+        assertEquals(input.readInt(true, 3), 0x05);
+        assertEquals(input.readInt(false, 5), 0x05);
+        assertEquals(input.readLong(false, 64), 0x0123456789ABCDEFL);
+        assertEquals(input.readInt(true, 1), 1);
+        assertEquals(input.align(1), 7L);
+    }
+
+    @Test
+    public void alignCountsOctetsRead() throws IOException {
+        final byte[] array = new byte[8];
+        final AbstractBitInput input = new DefaultBitInput<>(
+                new ArrayByteInput(array, 0, array.length));
+        input.readInt(true, 9);
+        assertEquals(input.align(4), 23L);
+        input.readBoolean();
+        assertEquals(input.align(2), 15L);
+    }
+
+    private static void skip(final byte[] array, final AbstractBitInput input)
+            throws IOException {
+        final AbstractBitInput expected = new DefaultBitInput<>(
+                new ArrayByteInput(array, 0, array.length));
+        while (expected.position() < array.length * 8L - 64L) {
+            final int size = current().nextInt(1, 65);
+            final long value = expected.readLong(size < 64, size);
+            if (current().nextBoolean()) {
+                input.skip(size);
+            } else {
+                assertEquals(input.readLong(size < 64, size), value);
+            }
+            assertEquals(input.position(), expected.position());
+        }
+        assertEquals(input.align(4), expected.align(4));
+        assertEquals(input.position(), expected.position());
+    }
+
+    @Test(invocationCount = 16)
+    public void skip() throws IOException {
+        final byte[] array = new byte[1024];
+        current().nextBytes(array);
+        skip(array, new DefaultBitInput<>(
+             new ArrayByteInput(array, 0, array.length)));
+        skip(array, new DefaultBitInput<>(
+             new BufferByteInput(ByteBuffer.wrap(array))));
+        skip(array, new DefaultBitInput<>(
+             new StreamByteInput(new ByteArrayInputStream(array))));
+        skip(array, new DefaultBitInput<>(new DataByteInput(
+             new DataInputStream(new ByteArrayInputStream(array)))));
+        skip(array, new StreamBitInput(new ByteArrayInputStream(array),
+                                       new byte[current().nextInt(1, 16)]));
+        skip(array, new BufferBitInput(ByteBuffer.wrap(array)));
+    }
+
+    /**
+     * Returns a stream which skips past its end without an error, as
+     * {@link java.io.FileInputStream} does.
+     */
+    private static InputStream skippingPastEnd(final byte[] array) {
+        return new ByteArrayInputStream(array) {
+            @Override
+            public synchronized long skip(final long n) {
+                pos += n;
+                return n;
+            }
+        };
+    }
+
+    private static void skipPastEnd(final AbstractBitInput input)
+            throws IOException {
+        input.readInt(true, 3);
+        input.skip(29L); // to the end
+        try {
+            input.skip(16L);
+            fail("skipped past the end");
+        } catch (final EOFException eofe) {
+            // expected
+        }
+    }
+
+    @Test
+    public void skipPastEnd() throws IOException {
+        skipPastEnd(new DefaultBitInput<>(
+                new StreamByteInput(skippingPastEnd(new byte[4]))));
+        skipPastEnd(new DefaultBitInput<>(new DataByteInput(
+                new DataInputStream(skippingPastEnd(new byte[4])))));
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void alignPastEnd() throws IOException {
+        final AbstractBitInput input = new DefaultBitInput<>(
+                new StreamByteInput(skippingPastEnd(new byte[6])));
+        input.readBoolean();
+        input.align(8);
+    }
+
+    private static void bulk(final byte[] array, final AbstractBitInput input)
+            throws IOException {
+        final AbstractBitInput expected = new DefaultBitInput<>(
+                new ArrayByteInput(array, 0, array.length));
+        while (true) {
+            final boolean ints = current().nextBoolean();
+            final boolean unsigned = current().nextBoolean();
+            final int size = current().nextInt(
+                    1, (ints ? 32 : 64) + (unsigned ? 0 : 1));
+            final int length = current().nextInt(0, 300);
+            if (expected.position() + (long) size * length + 8L
+                > array.length * 8L) {
+                break;
+            }
+            final int offset = current().nextInt(0, 4);
+            if (ints) {
+                final int[] values = new int[offset + length];
+                input.readInts(unsigned, size, values, offset, length);
+                for (int i = offset; i < values.length; i++) {
+                    assertEquals(values[i], expected.readInt(unsigned, size));
+                }
+            } else {
+                final long[] values = new long[offset + length];
+                input.readLongs(unsigned, size, values, offset, length);
+                for (int i = offset; i < values.length; i++) {
+                    assertEquals(values[i], expected.readLong(unsigned, size));
+                }
+            }
+            assertEquals(input.position(), expected.position());
+            final int size2 = current().nextInt(1, 8);
+            assertEquals(input.readInt(true, size2),
+                         expected.readInt(true, size2));
+        }
+        assertEquals(input.align(1), expected.align(1));
+    }
+
+    @Test(invocationCount = 16)
+    public void bulk() throws IOException {
+        final byte[] array = new byte[65536];
+        current().nextBytes(array);
+        bulk(array, new DefaultBitInput<>(
+             new ArrayByteInput(array, 0, array.length)));
+        bulk(array, new DefaultBitInput<>(
+             new StreamByteInput(new ByteArrayInputStream(array))));
+        bulk(array, new StreamBitInput(new ByteArrayInputStream(array),
+                                       new byte[current().nextInt(1, 16)]));
+        bulk(array, new BufferBitInput(ByteBuffer.wrap(array)));
+    }
+
+    @Test
+    public void peekAndConsume() throws IOException {
+        final byte[] array = {(byte) 0xA5, 0x0F, 0x00};
+        final AbstractBitInput input = new DefaultBitInput<>(
+                new ArrayByteInput(array, 0, array.length));
+        assertEquals(input.peekInt(4), 0xA);
+        assertEquals(input.peekInt(12), 0xA50);
+        input.consume(3);
+        assertEquals(input.peekInt(5), 0x05);
+        assertEquals(input.readInt(true, 6), 0x0A);
+        assertEquals(input.peekInt(7), 0x0F);
+        input.consume(7);
+        assertEquals(input.padding(), 0);
+        assertEquals(input.align(1), 0L);
+    }
+
+    @Test
+    public void peekLong() throws IOException {
+        final byte[] array = new byte[16];
+        current().nextBytes(array);
+        final AbstractBitInput input = new DefaultBitInput<>(
+                new ArrayByteInput(array, 0, array.length));
+        final long expected = ByteBuffer.wrap(array).getLong(1) >>> 7;
+        input.consume(3);
+        assertEquals(input.peekLong(5), (array[0] & 0xFF) & 0x1F);
+        input.consume(5);
+        assertEquals(input.peekLong(57), expected);
+        assertEquals(input.readLong(true, 57), expected);
+    }
+
+    @Test
+    public void peekPastEnd() throws IOException {
+        final AbstractBitInput input = new DefaultBitInput<>(
+                new StreamByteInput(
+                        new ByteArrayInputStream(new byte[]{(byte) 0xA5})));
+        input.consume(2);
+        assertEquals(input.peekInt(10), 0x94 << 2);
+        assertEquals(input.padding(), 4);
+        assertEquals(input.peekInt(6), 0x25);
+        assertEquals(input.padding(), 0);
+        input.consume(6);
+        assertEquals(input.peekLong(57), 0L);
+        assertEquals(input.padding(), 57);
+        try {
+            input.consume(1);
+            fail("consumed past the end");
+        } catch (final EOFException eofe) {
+            // expected
+        }
+    }
+
+    @Test
+    public void peekPastEndOfArray() throws IOException {
+        final byte[] array = {(byte) 0xA5};
+        final AbstractBitInput input = new DefaultBitInput<>(
+                new ArrayByteInput(array, 0, array.length));
+        input.consume(2);
+        assertEquals(input.peekInt(10), 0x94 << 2);
+        assertEquals(input.padding(), 4);
+        input.consume(6);
+        assertEquals(input.peekLong(57), 0L);
+        assertEquals(input.padding(), 57);
+        try {
+            input.consume(1);
+            fail("consumed past the end");
+        } catch (final EOFException eofe) {
+            // expected
+        }
+    }
+
+    @Test
+    public void peekPastEndOfBuffer() throws IOException {
+        final AbstractBitInput input = new BufferBitInput(
+                ByteBuffer.wrap(new byte[]{0x7F}));
+        assertEquals(input.peekInt(12), 0x7F0);
+        assertEquals(input.padding(), 4);
+        input.consume(8);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void readIntsOutOfBounds() throws IOException {
+        new WhiteBitInput().readInts(true, 1, new int[1], 1, 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void skipWithNegativeBits() throws IOException {
+        new WhiteBitInput().skip(-1L);
+    }
 }
@@ -15,25 +15,88 @@
  */
 package com.github.jinahya.bit.io;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.concurrent.ThreadLocalRandom;
+import static java.util.concurrent.ThreadLocalRandom.current;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
 import org.testng.annotations.Test;
 
 public class AbstractBitOutputTest {
 
     @Test(expectedExceptions = {IllegalArgumentException.class})
     public void alingWithZeroBytes() throws IOException {
-        final BitOutput mock
+        final AbstractBitOutput mock
                 = mock(AbstractBitOutput.class, Mockito.CALLS_REAL_METHODS);
         mock.align(0);
     }
 
     @Test(expectedExceptions = {IllegalArgumentException.class})
     public void alingWithNegativeBytes() throws IOException {
-        final BitOutput mock
+        final AbstractBitOutput mock
                 = mock(AbstractBitOutput.class, Mockito.CALLS_REAL_METHODS);
         mock.align(ThreadLocalRandom.current().nextInt() | Integer.MIN_VALUE);
     }
+
+    @Test
+    public void writeAcrossOctets() throws IOException {
+        final byte[] array = new byte[10];
+        final AbstractBitOutput output = new DefaultBitOutput<>(
+                new ArrayByteOutput(array, 0, array.length));
+        output.writeInt(true, 3, 0x05);
+        output.writeInt(false, 5, 0x05);
+        output.writeLong(false, 64, 0x0123456789ABCDEFL);
+        output.writeBoolean(true);
+        assertEquals(output.align(1), 7L);
+        assertEquals(array, new byte[]{
+            (byte) 0xA5, 0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB,
+            (byte) 0xCD, (byte) 0xEF, (byte) 0x80});
+    }
+
+    @Test(invocationCount = 16)
+    public void bulk() throws IOException {
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        final AbstractBitOutput single = new DefaultBitOutput<>(
+                new StreamByteOutput(expected));
+        final AbstractBitOutput bulk = new DefaultBitOutput<>(
+                new StreamByteOutput(actual));
+        for (int k = 0; k < 64; k++) {
+            final boolean unsigned = current().nextBoolean();
+            final int length = current().nextInt(0, 2000);
+            final int offset = current().nextInt(0, 4);
+            if (current().nextBoolean()) {
+                final int size = current().nextInt(1, 32 + (unsigned ? 0 : 1));
+                final int[] values = new int[offset + length];
+                for (int i = offset; i < values.length; i++) {
+                    values[i] = current().nextInt();
+                    single.writeInt(unsigned, size, values[i]);
+                }
+                bulk.writeInts(unsigned, size, values, offset, length);
+            } else {
+                final int size = current().nextInt(1, 64 + (unsigned ? 0 : 1));
+                final long[] values = new long[offset + length];
+                for (int i = offset; i < values.length; i++) {
+                    values[i] = current().nextLong();
+                    single.writeLong(unsigned, size, values[i]);
+                }
+                bulk.writeLongs(unsigned, size, values, offset, length);
+            }
+            final int size = current().nextInt(1, 8);
+            final int value = current().nextInt();
+            single.writeInt(true, size, value);
+            bulk.writeInt(true, size, value);
+        }
+        assertEquals(bulk.align(1), single.align(1));
+        assertEquals(actual.toByteArray(), expected.toByteArray());
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void writeLongsOutOfBounds() throws IOException {
+        final AbstractBitOutput mock
+                = mock(AbstractBitOutput.class, Mockito.CALLS_REAL_METHODS);
+        mock.writeLongs(true, 1, new long[1], 0, 2);
+    }
 }
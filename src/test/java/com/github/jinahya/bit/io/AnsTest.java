@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+public class AnsTest {
+
+    /**
+     * Returns symbols of a skewed distribution over 64 symbols.
+     */
+    private static int[] symbols(final int length) {
+        final int[] symbols = new int[length];
+        for (int i = 0; i < symbols.length; i++) {
+            symbols[i] = Math.min(63, Integer.numberOfTrailingZeros(
+                    current().nextInt() | Integer.MIN_VALUE)
+                                      + current().nextInt(3));
+        }
+        return symbols;
+    }
+
+    private static ReverseBitInput input(final byte[] octets)
+            throws IOException {
+        return new ReverseBitInput(octets, 0, octets.length);
+    }
+
+    @Test(invocationCount = 16)
+    public void normalize() {
+        final int[] histogram = new int[current().nextInt(1, 300)];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = current().nextInt(4) == 0
+                           ? 0 : current().nextInt(1, 100000);
+        }
+        histogram[current().nextInt(histogram.length)] = 1;
+        final int log = current().nextInt(9, 17);
+        final int[] frequencies = Ans.normalize(histogram, log);
+        int total = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            assertEquals(frequencies[i] > 0, histogram[i] > 0);
+            total += frequencies[i];
+        }
+        assertEquals(total, 1 << log);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void normalizeTooManySymbols() {
+        Ans.normalize(new int[]{1, 1, 1}, 1);
+    }
+
+    @Test(invocationCount = 8)
+    public void rans() throws IOException {
+        final int[] symbols = symbols(current().nextInt(1, 65536));
+        final int[] frequencies = Ans.normalize(
+                Ans.histogram(symbols, 0, symbols.length, 64),
+                current().nextInt(12, Rans.MAX_LOG + 1));
+        final Rans rans = new Rans(frequencies);
+        for (int ways = 1; ways <= Ans.MAX_WAYS; ways++) {
+            final BackwardBitWriter writer = new BackwardBitWriter();
+            rans.encode(writer, symbols, 0, symbols.length, ways);
+            final ReverseBitInput input = input(writer.finish());
+            final int[] decoded = new int[symbols.length];
+            rans.decode(input, decoded, 0, decoded.length, ways);
+            assertEquals(decoded, symbols);
+            assertTrue(input.remaining() < 8L);
+        }
+    }
+
+    @Test(invocationCount = 8)
+    public void tans() throws IOException {
+        final int[] symbols = symbols(current().nextInt(1, 65536));
+        final int[] frequencies = Ans.normalize(
+                Ans.histogram(symbols, 0, symbols.length, 64),
+                current().nextInt(Tans.MIN_LOG + 2, Tans.MAX_LOG + 1));
+        final Tans tans = new Tans(frequencies);
+        for (int ways = 1; ways <= Ans.MAX_WAYS; ways++) {
+            final BackwardBitWriter writer = new BackwardBitWriter();
+            tans.encode(writer, symbols, 0, symbols.length, ways);
+            final ReverseBitInput input = input(writer.finish());
+            final int[] decoded = new int[symbols.length];
+            tans.decode(input, decoded, 0, decoded.length, ways);
+            assertEquals(decoded, symbols);
+            assertEquals(input.remaining(), 0L);
+        }
+    }
+
+    @Test
+    public void entropy() throws IOException {
+        final int[] symbols = symbols(1 << 16);
+        final int[] histogram = Ans.histogram(symbols, 0, symbols.length, 64);
+        double entropy = 0.0d;
+        for (final int count : histogram) {
+            if (count > 0) {
+                final double p = count / (double) symbols.length;
+                entropy -= count * Math.log(p) / Math.log(2.0d);
+            }
+        }
+        final int[] frequencies = Ans.normalize(histogram, 12);
+        final BackwardBitWriter writer = new BackwardBitWriter();
+        new Rans(frequencies).encode(writer, symbols, 0, symbols.length, 4);
+        assertTrue(writer.size() < entropy * 1.01d + 256, writer.size()
+                                                          + " " + entropy);
+        writer.finish();
+        new Tans(frequencies).encode(writer, symbols, 0, symbols.length, 4);
+        assertTrue(writer.size() < entropy * 1.01d + 256, writer.size()
+                                                          + " " + entropy);
+    }
+
+    @Test
+    public void single() throws IOException {
+        final int[] symbols = new int[100];
+        final int[] frequencies = Ans.normalize(
+                Ans.histogram(symbols, 0, symbols.length, 1), 5);
+        final BackwardBitWriter writer = new BackwardBitWriter();
+        new Tans(frequencies).encode(writer, symbols, 0, symbols.length, 2);
+        new Rans(frequencies).encode(writer, symbols, 0, symbols.length, 2);
+        final ReverseBitInput input = input(writer.finish());
+        final int[] decoded = new int[symbols.length];
+        new Rans(frequencies).decode(input, decoded, 0, decoded.length, 2);
+        assertEquals(decoded, symbols);
+        new Tans(frequencies).decode(input, decoded, 0, decoded.length, 2);
+        assertEquals(decoded, symbols);
+    }
+}
@@ -15,10 +15,62 @@
  */
 package com.github.jinahya.bit.io;
 
+import java.io.EOFException;
+import java.io.IOException;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
 /**
  *
  * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
  */
 public class ArrayByteInputTest extends ByteInputTest<ArrayByteInput> {
 
+    @Test
+    public void readBulk() throws IOException {
+        final byte[] source = new byte[]{1, 2, 3, 4, 5};
+        final ArrayByteInput input = new ArrayByteInput(source, 1, 4);
+        final byte[] array = new byte[4];
+        input.read(array, 1, 3);
+        assertEquals(array, new byte[]{0, 2, 3, 4});
+        assertEquals(input.getIndex(), 4);
+    }
+
+    @Test
+    public void readBulkFallsBackToReadWhenShort() throws IOException {
+        final byte[] source = new byte[]{1, 2, 3};
+        final ArrayByteInput input = new ArrayByteInput(source, 0, 1) {
+            @Override
+            public int read() throws IOException {
+                if (index >= limit) {
+                    limit = this.source.length; // lazily adjusted
+                }
+                return super.read();
+            }
+        };
+        final byte[] array = new byte[3];
+        input.read(array, 0, 3);
+        assertEquals(array, source);
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void readPastLimit() throws IOException {
+        final ArrayByteInput input = new ArrayByteInput(new byte[2], 1, 2);
+        input.read();
+        input.read();
+    }
+
+    @Test
+    public void underflow() throws IOException {
+        final byte[] source = new byte[]{1, 2, 3};
+        final ArrayByteInput input = new ArrayByteInput(source, 0, 1) {
+            @Override
+            protected void underflow() throws IOException {
+                limit = this.source.length; // lazily adjusted
+            }
+        };
+        final byte[] array = new byte[3];
+        input.read(array, 0, 3);
+        assertEquals(array, source);
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2013 Jin Kwon <jinahya at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import static java.util.concurrent.ThreadLocalRandom.current;
+
+/**
+ * Inputs, outputs and values shared by codec tests.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+final class BitIoFixtures {
+
+    /**
+     * Creates an input reading the octets written to specified stream so far.
+     *
+     * @param stream the stream
+     * @return a new input.
+     */
+    static DefaultBitInput<StreamByteInput> input(
+            final ByteArrayOutputStream stream) {
+        return new DefaultBitInput<>(new StreamByteInput(
+                new ByteArrayInputStream(stream.toByteArray())));
+    }
+
+    /**
+     * Creates an output writing to specified stream.
+     *
+     * @param stream the stream
+     * @return a new output.
+     */
+    static DefaultBitOutput<StreamByteOutput> output(
+            final ByteArrayOutputStream stream) {
+        return new DefaultBitOutput<>(new StreamByteOutput(stream));
+    }
+
+    /**
+     * Creates an LSB-first input reading specified octets.
+     *
+     * @param array the octets
+     * @return a new input.
+     */
+    static DefaultLsbBitInput<StreamByteInput> lsbInput(final byte[] array) {
+        return new DefaultLsbBitInput<>(new StreamByteInput(
+                new ByteArrayInputStream(array)));
+    }
+
+    /**
+     * Creates an LSB-first input reading the octets written to specified
+     * stream so far.
+     *
+     * @param stream the stream
+     * @return a new input.
+     */
+    static DefaultLsbBitInput<StreamByteInput> lsbInput(
+            final ByteArrayOutputStream stream) {
+        return lsbInput(stream.toByteArray());
+    }
+
+    /**
+     * Creates an LSB-first output writing to specified stream.
+     *
+     * @param stream the stream
+     * @return a new output.
+     */
+    static DefaultLsbBitOutput<StreamByteOutput> lsbOutput(
+            final ByteArrayOutputStream stream) {
+        return new DefaultLsbBitOutput<>(new StreamByteOutput(stream));
+    }
+
+    /**
+     * Generates unsigned values of random magnitudes, each of at most
+     * specified number of bits.
+     *
+     * @param count the number of values
+     * @param bits the maximum number of bits; between {@code 1} and
+     * {@code 64}, both inclusive.
+     * @return an array of values.
+     */
+    static long[] values(final int count, final int bits) {
+        final long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = current().nextLong() >>> current().nextInt(64 - bits,
+                                                                   64);
+        }
+        return values;
+    }
+
+    private BitIoFixtures() {
+        super();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for {@link BitIoOctets}. The multi-release profile runs this
+ * class again against the packaged jar with {@code bit.io.release} set so
+ * that the versioned class is verified too.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class BitIoOctetsTest {
+
+    private static long expected(final byte[] array, final int index,
+                                 final int length, final ByteOrder order) {
+        final byte[] padded = new byte[8];
+        System.arraycopy(array, index, padded, 0, length);
+        return ByteBuffer.wrap(padded).order(order).getLong();
+    }
+
+    @Test
+    public void versioned() {
+        final String release = System.getProperty("bit.io.release");
+        if (release == null) {
+            throw new SkipException("not run against the multi-release jar");
+        }
+        boolean found = false;
+        for (final Field field : BitIoOctets.class.getDeclaredFields()) {
+            found |= field.getType().getName().equals(
+                    "java.lang.invoke.VarHandle");
+        }
+        assertTrue(found, "versioned BitIoOctets not loaded");
+    }
+
+    @Test(invocationCount = 16)
+    public void words() {
+        final byte[] src = new byte[current().nextInt(1, 128)];
+        current().nextBytes(src);
+        final long[] big = new long[(src.length + 7) / 8 + 1];
+        final long[] little = new long[big.length];
+        BitIoOctets.words(src, src.length, big, 1);
+        BitIoOctets.littleWords(src, src.length, little, 1);
+        for (int i = 0; i < src.length; i += 8) {
+            final int length = Math.min(8, src.length - i);
+            assertEquals(big[1 + i / 8],
+                         expected(src, i, length, ByteOrder.BIG_ENDIAN));
+            assertEquals(little[1 + i / 8],
+                         expected(src, i, length, ByteOrder.LITTLE_ENDIAN));
+            assertEquals(BitIoOctets.getLong(src, i, length), big[1 + i / 8]);
+            assertEquals(BitIoOctets.getLittleLong(src, i, length),
+                         little[1 + i / 8]);
+        }
+    }
+
+    @Test(invocationCount = 16)
+    public void octets() {
+        final byte[] expected = new byte[current().nextInt(1, 128)];
+        current().nextBytes(expected);
+        final long[] big = new long[(expected.length + 7) / 8];
+        final long[] little = new long[big.length];
+        BitIoOctets.words(expected, expected.length, big, 0);
+        BitIoOctets.littleWords(expected, expected.length, little, 0);
+        final byte[] actual = new byte[expected.length];
+        BitIoOctets.octets(big, actual, actual.length);
+        assertEquals(actual, expected);
+        BitIoOctets.littleOctets(little, actual, actual.length);
+        assertEquals(actual, expected);
+    }
+}
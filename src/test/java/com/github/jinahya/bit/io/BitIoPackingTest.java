@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for {@link BitIoPacking}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class BitIoPackingTest {
+
+    @Test(invocationCount = 4)
+    public void unpackInts() {
+        for (int size = 1; size <= 32; size++) {
+            for (int bit = 0; bit < 64; bit++) {
+                final boolean unsigned = size < 32 && current().nextBoolean();
+                final int length = current().nextInt(512);
+                final int offset = current().nextInt(4);
+                final int[] src = new int[offset + length];
+                final int[] expected = new int[src.length];
+                for (int i = offset; i < src.length; i++) {
+                    src[i] = current().nextInt();
+                    final int extend = 32 - size;
+                    expected[i] = unsigned ? src[i] << extend >>> extend
+                                  : src[i] << extend >> extend;
+                }
+                final long[] words
+                        = new long[(int) ((bit + 32L * length) / 64L) + 1];
+                BitIoPacking.pack(words, bit, size, src, offset, length);
+                final int[] actual = new int[src.length];
+                BitIoPacking.unpack(words, bit, unsigned, size, actual,
+                                    offset, length);
+                assertEquals(actual, expected,
+                             "size: " + size + ", bit: " + bit);
+            }
+        }
+    }
+
+    @Test(invocationCount = 4)
+    public void unpackLongs() {
+        for (int size = 1; size <= 64; size++) {
+            for (int bit = 0; bit < 64; bit++) {
+                final boolean unsigned = size < 64 && current().nextBoolean();
+                final int length = current().nextInt(512);
+                final int offset = current().nextInt(4);
+                final long[] src = new long[offset + length];
+                final long[] expected = new long[src.length];
+                for (int i = offset; i < src.length; i++) {
+                    src[i] = current().nextLong();
+                    final int extend = 64 - size;
+                    expected[i] = unsigned ? src[i] << extend >>> extend
+                                  : src[i] << extend >> extend;
+                }
+                final long[] words
+                        = new long[(int) ((bit + 64L * length) / 64L) + 1];
+                BitIoPacking.pack(words, bit, size, src, offset, length);
+                final long[] actual = new long[src.length];
+                BitIoPacking.unpack(words, bit, unsigned, size, actual,
+                                    offset, length);
+                assertEquals(actual, expected,
+                             "size: " + size + ", bit: " + bit);
+            }
+        }
+    }
+
+    @Test
+    public void packBits() {
+        for (int size = 1; size <= 64; size++) {
+            for (int bit = 0; bit < 64; bit++) {
+                final int length = current().nextInt(512);
+                final long[] src = new long[length];
+                for (int i = 0; i < length; i++) {
+                    src[i] = current().nextLong();
+                }
+                final long end = bit + (long) size * length;
+                final long[] words = new long[(int) (end / 64L) + 1];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = current().nextLong();
+                }
+                final long[] previous = words.clone();
+                BitIoPacking.pack(words, bit, size, src, 0, length);
+                for (long b = 0; b < (end | 63) + 1; b++) {
+                    final long actual
+                            = words[(int) (b >>> 6)] >>> (63 - (b & 63)) & 1L;
+                    final long expected;
+                    if (b < bit) {
+                        expected = previous[(int) (b >>> 6)]
+                                   >>> (63 - (b & 63)) & 1L;
+                    } else if (b < end) {
+                        final long value = src[(int) ((b - bit) / size)];
+                        expected = value >>> (size - 1 - (b - bit) % size)
+                                   & 1L;
+                    } else {
+                        expected = 0L;
+                    }
+                    assertEquals(actual, expected,
+                                 "size: " + size + ", bit: " + bit
+                                 + ", at: " + b);
+                }
+            }
+        }
+    }
+}
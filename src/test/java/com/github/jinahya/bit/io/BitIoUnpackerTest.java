@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.lang.reflect.Constructor;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+public class BitIoUnpackerTest {
+
+    @Test(invocationCount = 16)
+    public void unpack() {
+        final BitIoUnpacker unpacker = BitIoUnpacker.newInstance();
+        final long[] words = new long[130];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = current().nextLong();
+        }
+        for (int size = 1; size <= 32; size++) {
+            final boolean unsigned = size < 32 && current().nextBoolean();
+            final long bit = current().nextInt(128);
+            final int length = (int) ((128L * 64L - bit) / size);
+            final int offset = current().nextInt(4);
+            final int[] expected = new int[offset + length];
+            final int[] actual = new int[offset + length];
+            BitIoPacking.unpack(words, bit, unsigned, size, expected, offset,
+                                length);
+            unpacker.unpack(words, bit, unsigned, size, actual, offset,
+                            length);
+            assertEquals(actual, expected, "size: " + size);
+        }
+    }
+
+    /**
+     * Compares the vectorized unpacker, created even where
+     * {@link BitIoUnpacker#newInstance()} would fall back to the scalar
+     * kernel, with the scalar kernel for all sizes and bit offsets. Runs only
+     * in the {@code test-java16} execution of the multi-release-vector
+     * profile.
+     */
+    @Test
+    public void vector() throws ReflectiveOperationException {
+        if (!"16".equals(System.getProperty("bit.io.release"))) {
+            throw new SkipException("not run with the vector module");
+        }
+        final Constructor<?> constructor
+                = Class.forName(BitIoUnpacker.VECTOR_UNPACKER_NAME)
+                        .getDeclaredConstructor(boolean.class);
+        constructor.setAccessible(true);
+        final BitIoUnpacker unpacker
+                = (BitIoUnpacker) constructor.newInstance(true);
+        final long[] words = new long[66];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = current().nextLong();
+        }
+        for (int size = 1; size <= 32; size++) {
+            for (int bit = 0; bit < 64; bit++) {
+                for (final boolean unsigned : new boolean[]{true, false}) {
+                    if (unsigned && size == 32) {
+                        continue;
+                    }
+                    final int length = (int) ((64L * 64L - bit) / size);
+                    final int offset = current().nextInt(4);
+                    final int[] expected = new int[offset + length];
+                    final int[] actual = new int[offset + length];
+                    BitIoPacking.unpack(words, bit, unsigned, size, expected,
+                                        offset, length);
+                    unpacker.unpack(words, bit, unsigned, size, actual, offset,
+                                    length);
+                    assertEquals(actual, expected, "size: " + size + ", bit: "
+                                                   + bit + ", unsigned: "
+                                                   + unsigned);
+                }
+            }
+        }
+    }
+}
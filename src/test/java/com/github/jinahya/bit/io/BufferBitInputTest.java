@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for {@link BufferBitInput}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class BufferBitInputTest {
+
+    private static void test(final ByteBuffer buffer) throws IOException {
+        final long[] values = current().longs(current().nextInt(128))
+                .toArray();
+        final BitOutput output
+                = new DefaultBitOutput<>(new BufferByteOutput(buffer));
+        for (int i = 0; i < values.length; i++) {
+            output.writeLong(true, 1 + i % 63, values[i]);
+        }
+        output.align(1);
+        final int position = buffer.position();
+        buffer.putLong(current().nextLong()); // trailing garbage
+        buffer.flip();
+        final BitInput input = new BufferBitInput(buffer);
+        for (int i = 0; i < values.length; i++) {
+            final int size = 1 + i % 63;
+            assertEquals(input.readLong(true, size),
+                         values[i] & (-1L >>> (64 - size)));
+        }
+        input.align(1);
+        assertEquals(buffer.position(), position);
+    }
+
+    @Test(invocationCount = 16)
+    public void heap() throws IOException {
+        test(ByteBuffer.allocate(1048));
+    }
+
+    @Test(invocationCount = 16)
+    public void direct() throws IOException {
+        test(ByteBuffer.allocateDirect(1048));
+    }
+
+    @Test(invocationCount = 16)
+    public void littleEndian() throws IOException {
+        test(ByteBuffer.allocate(1048).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    public void alignPutsBackOctetsReadAhead() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        final BitInput input = new BufferBitInput(buffer);
+        input.readInt(true, 3);
+        assertEquals(input.align(2), 13L);
+        assertEquals(buffer.position(), 2);
+        input.readInt(true, 9);
+        assertEquals(input.align(1), 7L);
+        assertEquals(buffer.position(), 4);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
+import static java.nio.channels.Channels.newChannel;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for {@link BufferedBitInput}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class BufferedBitInputTest {
+
+    private static byte[] bytes(final long[] values) throws IOException {
+        final byte[] array = new byte[values.length * 8 + 1];
+        final BitOutput output = new DefaultBitOutput<>(
+                new ArrayByteOutput(array, 0, array.length));
+        for (int i = 0; i < values.length; i++) {
+            output.writeLong(true, 1 + i % 63, values[i]);
+        }
+        output.align(1);
+        return array;
+    }
+
+    private static void read(final BitInput input, final long[] values)
+            throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            final int size = 1 + i % 63;
+            assertEquals(input.readLong(true, size),
+                         values[i] & (-1L >>> (64 - size)));
+        }
+        input.align(1);
+    }
+
+    @Test(invocationCount = 16)
+    public void stream() throws IOException {
+        final long[] values = current().longs(128).toArray();
+        final byte[] array = bytes(values);
+        read(new StreamBitInput(new ByteArrayInputStream(array),
+                                new byte[current().nextInt(1, 16)]),
+             values);
+    }
+
+    @Test(invocationCount = 16)
+    public void channel() throws IOException {
+        final long[] values = current().longs(128).toArray();
+        final byte[] array = bytes(values);
+        read(new ChannelBitInput(newChannel(new ByteArrayInputStream(array)),
+                                 new byte[current().nextInt(1, 16)]),
+             values);
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void eof() throws IOException {
+        final BitInput input = new StreamBitInput(
+                new ByteArrayInputStream(new byte[3]));
+        input.readInt(true, 24);
+        input.readBoolean();
+    }
+
+    @Test(invocationCount = 16)
+    public void channelBulk() throws IOException {
+        final byte[] array = new byte[1024];
+        current().nextBytes(array);
+        final ChannelBitInput input = new ChannelBitInput(
+                newChannel(new ByteArrayInputStream(array)), new byte[8]);
+        final byte[] actual = new byte[array.length];
+        for (int i = 0; i < actual.length;) {
+            actual[i] = (byte) input.read();
+            i++;
+            final int length = Math.min(current().nextInt(16, 64),
+                                        actual.length - i);
+            input.read(actual, i, length);
+            i += length;
+        }
+        assertEquals(actual, array);
+    }
+
+    @Test(expectedExceptions = IllegalBlockingModeException.class)
+    public void nonBlockingChannel() throws IOException {
+        final Pipe pipe = Pipe.open();
+        try {
+            pipe.source().configureBlocking(false);
+            new ChannelBitInput(pipe.source()).readBoolean();
+        } finally {
+            pipe.source().close();
+            pipe.sink().close();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void emptyBuffer() {
+        new StreamBitInput(new ByteArrayInputStream(new byte[1]), new byte[0]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void setEmptyBuffer() {
+        new StreamBitInput(new ByteArrayInputStream(new byte[1]))
+                .setBuffer(new byte[0]);
+    }
+
+    @Test(invocationCount = 16)
+    public void lazyBuffer() throws IOException {
+        final long[] values = current().longs(128).toArray();
+        final byte[] array = bytes(values);
+        final int size = current().nextInt(1, 16);
+        final StreamBitInput input = new StreamBitInput(
+                new ByteArrayInputStream(array), null) {
+            @Override
+            protected byte[] newBuffer() {
+                return new byte[size];
+            }
+        };
+        read(input, values);
+        assertEquals(input.getBuffer().length, size);
+    }
+
+    @Test
+    public void defaultLazyBuffer() throws IOException {
+        final StreamBitInput input = new StreamBitInput(
+                new ByteArrayInputStream(new byte[]{(byte) 0xA5}), null);
+        final byte[] array = new byte[1];
+        input.read(array, 0, 1);
+        assertEquals(array[0], (byte) 0xA5);
+        assertEquals(input.getBuffer().length,
+                     BufferedBitInput.DEFAULT_BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
+import static java.nio.channels.Channels.newChannel;
+import java.util.Arrays;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for {@link BufferedBitOutput}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class BufferedBitOutputTest {
+
+    private static void write(final BitOutput output, final long[] values)
+            throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            output.writeLong(true, 1 + i % 63, values[i]);
+        }
+    }
+
+    private static byte[] expected(final long[] values) throws IOException {
+        final byte[] array = new byte[values.length * 8 + 1];
+        final ArrayByteOutput target
+                = new ArrayByteOutput(array, 0, array.length);
+        final BitOutput output = new DefaultBitOutput<>(target);
+        write(output, values);
+        output.align(1);
+        return Arrays.copyOf(array, target.getIndex());
+    }
+
+    @Test(invocationCount = 16)
+    public void stream() throws IOException {
+        final long[] values = current().longs(128).toArray();
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final StreamBitOutput output = new StreamBitOutput(
+                target, new byte[current().nextInt(1, 16)]);
+        write(output, values);
+        output.close();
+        assertEquals(target.toByteArray(), expected(values));
+    }
+
+    @Test(invocationCount = 16)
+    public void channel() throws IOException {
+        final long[] values = current().longs(128).toArray();
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final ChannelBitOutput output = new ChannelBitOutput(
+                newChannel(target), new byte[current().nextInt(1, 16)]);
+        write(output, values);
+        output.close();
+        assertEquals(target.toByteArray(), expected(values));
+    }
+
+    @Test
+    public void flushPadsCurrentOctet() throws IOException {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final StreamBitOutput output = new StreamBitOutput(target);
+        output.writeInt(true, 3, 0x07);
+        output.flush();
+        assertEquals(target.toByteArray(), new byte[]{(byte) 0xE0});
+        output.writeInt(true, 9, 0x1FF);
+        output.flush();
+        assertEquals(target.toByteArray(),
+                     new byte[]{(byte) 0xE0, (byte) 0xFF, (byte) 0x80});
+    }
+
+    @Test(expectedExceptions = IllegalBlockingModeException.class)
+    public void nonBlockingChannel() throws IOException {
+        final Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            final ChannelBitOutput output = new ChannelBitOutput(pipe.sink());
+            for (int i = 0; i < 1048576; i++) {
+                output.writeInt(false, 32, i);
+            }
+            output.flush();
+        } finally {
+            pipe.source().close();
+            pipe.sink().close();
+        }
+    }
+
+    @Test
+    public void closeAfterFailedFlush() throws IOException {
+        final int[] closes = new int[1];
+        final StreamBitOutput output = new StreamBitOutput(
+                new OutputStream() {
+                    @Override
+                    public void write(final int b) throws IOException {
+                        throw new IOException("failed");
+                    }
+
+                    @Override
+                    public void close() {
+                        closes[0]++;
+                    }
+                }, new byte[4]);
+        output.writeInt(true, 8, 0xA5);
+        try {
+            output.close();
+            fail("flushed");
+        } catch (final IOException expected) {
+            // drained into the failing stream
+        }
+        assertEquals(closes[0], 1);
+        output.close();
+        assertEquals(closes[0], 1);
+    }
+
+    @Test
+    public void closeTwice() throws IOException {
+        final int[] closes = new int[1];
+        final ByteArrayOutputStream target = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closes[0]++;
+            }
+        };
+        final StreamBitOutput output = new StreamBitOutput(target);
+        output.writeInt(true, 8, 0xA5);
+        output.close();
+        output.close();
+        assertEquals(target.toByteArray(), new byte[]{(byte) 0xA5});
+        assertEquals(closes[0], 1);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import static java.nio.channels.Channels.newChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for {@link ChannelByteOutput}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class ChannelByteOutputTest {
+
+    private static byte[] write(final WritableByteChannel channel)
+            throws IOException {
+        final byte[] expected = new byte[current().nextInt(1024)];
+        current().nextBytes(expected);
+        final ChannelByteOutput output = new ChannelByteOutput(
+                channel, current().nextInt(1, 32), current().nextInt(1, 4));
+        final BitOutput bitOutput = new DefaultBitOutput<>(output);
+        for (int i = 0; i < expected.length; i++) {
+            if (current().nextBoolean()) {
+                bitOutput.writeInt(true, 8, expected[i]);
+            } else {
+                final int length = current().nextInt(expected.length - i);
+                output.write(expected, i, length);
+                i += length - 1;
+            }
+        }
+        output.flush();
+        assertEquals(output.getBytesWritten(), expected.length);
+        assertEquals(output.getBuffersInUse(), 0);
+        output.close();
+        return expected;
+    }
+
+    @Test(invocationCount = 16)
+    public void gathering() throws IOException {
+        final File file = File.createTempFile("channel", null);
+        file.deleteOnExit();
+        final byte[] expected
+                = write(new RandomAccessFile(file, "rw").getChannel());
+        assertEquals(Files.readAllBytes(file.toPath()), expected);
+    }
+
+    @Test(invocationCount = 16)
+    public void writable() throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final byte[] expected = write(newChannel(baos));
+        assertEquals(baos.toByteArray(), expected);
+    }
+
+    @Test(expectedExceptions = IllegalBlockingModeException.class)
+    public void nonBlocking() throws IOException {
+        final Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            final ChannelByteOutput output = new ChannelByteOutput(pipe.sink());
+            final byte[] array = new byte[8192];
+            for (int i = 0; i < 128; i++) {
+                output.write(array, 0, array.length);
+            }
+            output.flush();
+        } finally {
+            pipe.source().close();
+            pipe.sink().close();
+        }
+    }
+
+    @Test
+    public void failedSend() throws IOException {
+        final WritableByteChannel channel = new WritableByteChannel() {
+            @Override
+            public int write(final ByteBuffer src) throws IOException {
+                src.get();
+                throw new IOException("failed");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return open;
+            }
+
+            @Override
+            public void close() {
+                open = false;
+            }
+
+            private boolean open = true;
+        };
+        final ChannelByteOutput output = new ChannelByteOutput(channel, 4, 2);
+        output.write(new byte[6], 0, 6);
+        try {
+            output.flush();
+            fail("flushed to a failing channel");
+        } catch (final IOException expected) {
+        }
+        assertEquals(output.getBuffersInUse(), 0);
+        try {
+            output.write(new byte[16], 0, 16);
+            fail("wrote after a failed batch");
+        } catch (final IOException expected) {
+        }
+        try {
+            output.close();
+            fail("closed without an exception");
+        } catch (final IOException expected) {
+        }
+        assertFalse(channel.isOpen());
+    }
+}
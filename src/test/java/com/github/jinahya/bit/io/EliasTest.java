@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.BitIoFixtures.input;
+import static com.github.jinahya.bit.io.BitIoFixtures.output;
+import static com.github.jinahya.bit.io.BitIoFixtures.values;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+public class EliasTest {
+
+    @Test
+    public void codes() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final UnaryBitOutput output = output(stream);
+        Elias.writeGamma(output, 1L); // 1
+        Elias.writeGamma(output, 2L); // 010
+        Elias.writeDelta(output, 2L); // 0100
+        Elias.writeOmega(output, 4L); // 101000
+        Elias.writeOmega(output, 1L); // 0
+        assertEquals(output.align(1), 1L);
+        assertEquals(stream.toByteArray(),
+                     new byte[]{(byte) 0xA4, (byte) 0xA0});
+        final UnaryBitInput input = input(stream);
+        assertEquals(Elias.readGamma(input), 1L);
+        assertEquals(Elias.readGamma(input), 2L);
+        assertEquals(Elias.readDelta(input), 2L);
+        assertEquals(Elias.readOmega(input), 4L);
+        assertEquals(Elias.readOmega(input), 1L);
+    }
+
+    @Test(invocationCount = 16)
+    public void roundTrip() throws IOException {
+        final long[] values = values(512, 64);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == 0L) {
+                values[i] = 1L;
+            }
+        }
+        values[0] = 1L;
+        values[1] = -1L;
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final UnaryBitOutput output = output(stream);
+        for (final long value : values) {
+            Elias.writeGamma(output, value);
+        }
+        for (final long value : values) {
+            Elias.writeDelta(output, value);
+        }
+        for (final long value : values) {
+            Elias.writeOmega(output, value);
+        }
+        output.align(1);
+        final UnaryBitInput input = input(stream);
+        final long[] actual = new long[values.length];
+        Elias.readGamma(input, actual, 0, actual.length);
+        assertEquals(actual, values);
+        Elias.readDelta(input, actual, 0, actual.length);
+        assertEquals(actual, values);
+        Elias.readOmega(input, actual, 0, actual.length);
+        assertEquals(actual, values);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void writeZero() throws IOException {
+        Elias.writeOmega(new DefaultBitOutput<>(
+                new StreamByteOutput(new ByteArrayOutputStream())), 0L);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+public class ExpGolombTest {
+
+    private static ExpGolombBitInput input(final byte[] array) {
+        return new DefaultBitInput<>(
+                new StreamByteInput(new ByteArrayInputStream(array)));
+    }
+
+    @Test
+    public void writeCodes() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final ExpGolombBitOutput output = new DefaultBitOutput<>(
+                new StreamByteOutput(stream));
+        output.writeExpGolombInt(true, 0); // 1
+        output.writeExpGolombInt(true, 3); // 00100
+        output.writeExpGolombInt(false, -1); // 011
+        output.writeExpGolombInt(false, 2); // 00100
+        output.writeExpGolombInt(true, 1); // 010
+        assertEquals(output.align(1), 7L);
+        assertEquals(stream.toByteArray(), new byte[]{
+            (byte) 0x91, (byte) 0x91, 0x00});
+    }
+
+    @Test
+    public void readCodes() throws IOException {
+        final ExpGolombBitInput input = input(new byte[]{
+            (byte) 0x91, (byte) 0x91, 0x00});
+        assertEquals(input.readExpGolombInt(true), 0);
+        assertEquals(input.readExpGolombInt(true), 3);
+        assertEquals(input.readExpGolombLong(false), -1L);
+        assertEquals(input.readExpGolombLong(false), 2L);
+        assertEquals(input.readExpGolombInt(true), 1);
+    }
+
+    @Test(invocationCount = 16)
+    public void roundTrip() throws IOException {
+        final int count = 1024;
+        final boolean[] unsigneds = new boolean[count];
+        final long[] values = new long[count];
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final ExpGolombBitOutput output = new DefaultBitOutput<>(
+                new StreamByteOutput(stream));
+        for (int i = 0; i < count; i++) {
+            unsigneds[i] = current().nextBoolean();
+            final int shift = current().nextInt(64);
+            if (i % 2 == 0) {
+                values[i] = current().nextInt() >> (shift & 31);
+                output.writeExpGolombInt(unsigneds[i], (int) values[i]);
+            } else {
+                values[i] = current().nextLong() >> shift;
+                if (values[i] == Long.MIN_VALUE || values[i] == -1L) {
+                    values[i] = 0L;
+                }
+                output.writeExpGolombLong(unsigneds[i], values[i]);
+            }
+        }
+        output.align(1);
+        final ExpGolombBitInput input = input(stream.toByteArray());
+        for (int i = 0; i < count; i++) {
+            if (i % 2 == 0) {
+                assertEquals(input.readExpGolombInt(unsigneds[i]),
+                             (int) values[i]);
+            } else {
+                assertEquals(input.readExpGolombLong(unsigneds[i]), values[i]);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void readTooManyZeros() throws IOException {
+        input(new byte[]{0, 0, 0, 0, (byte) 0x80}).readExpGolombInt(true);
+    }
+
+    @Test
+    public void readIntBounds() throws IOException {
+        // 32 zeros, a one and 32 bits of 0 or 1
+        final byte[] zero = {0, 0, 0, 0, (byte) 0x80, 0, 0, 0, 0};
+        final byte[] one = {0, 0, 0, 0, (byte) 0x80, 0, 0, 0, (byte) 0x80};
+        assertEquals(input(zero).readExpGolombInt(true), 0xFFFFFFFF);
+        assertEquals(input(one).readExpGolombInt(false), Integer.MIN_VALUE);
+        assertEquals(input(one).readExpGolombLong(true), 0x100000000L);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void readUnsignedIntOverflow() throws IOException {
+        final byte[] one = {0, 0, 0, 0, (byte) 0x80, 0, 0, 0, (byte) 0x80};
+        input(one).readExpGolombInt(true);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void readSignedIntOverflow() throws IOException {
+        final byte[] zero = {0, 0, 0, 0, (byte) 0x80, 0, 0, 0, 0};
+        input(zero).readExpGolombInt(false);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void writeUnsignedLongMax() throws IOException {
+        new DefaultBitOutput<>(
+                new StreamByteOutput(new ByteArrayOutputStream()))
+                .writeExpGolombLong(true, -1L);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.BitIoFixtures.input;
+import static com.github.jinahya.bit.io.BitIoFixtures.output;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+public class FrameOfReferenceTest {
+
+    private static long[] ascending(final int count, final int width) {
+        final long[] values = new long[count];
+        long value = current().nextLong();
+        for (int i = 0; i < count; i++) {
+            values[i] = value;
+            value += current().nextLong(1L << width);
+        }
+        return values;
+    }
+
+    @Test
+    public void block() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractBitOutput output = output(stream);
+        FrameOfReference.writeBlock(output, new long[]{10L, 11L, 14L}, 0, 3);
+        output.align(1);
+        // 16 + 7 + 64 bits of header and two deltas of 2 bits
+        assertEquals(stream.size(), 12);
+        final long[] actual = new long[4];
+        assertEquals(FrameOfReference.readBlock(input(stream), actual, 1), 3);
+        assertEquals(actual, new long[]{0L, 10L, 11L, 14L});
+    }
+
+    @Test
+    public void equalValues() throws IOException {
+        final long[] values = new long[100];
+        Arrays.fill(values, -7L);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractBitOutput output = output(stream);
+        FrameOfReference.write(output, values, 0, values.length);
+        output.align(1);
+        assertEquals(stream.size(), 11);
+        final long[] actual = new long[values.length];
+        FrameOfReference.read(input(stream), actual, 0, actual.length);
+        assertEquals(actual, values);
+    }
+
+    @Test
+    public void fullRange() throws IOException {
+        final long[] values = {Long.MIN_VALUE, 0L, Long.MAX_VALUE};
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractBitOutput output = output(stream);
+        FrameOfReference.write(output, values, 0, values.length);
+        FrameOfReference.write(output, new long[]{Long.MIN_VALUE,
+                                                  Long.MAX_VALUE}, 0, 2);
+        output.align(1);
+        final AbstractBitInput input = input(stream);
+        final long[] actual = new long[values.length];
+        FrameOfReference.read(input, actual, 0, actual.length);
+        assertEquals(actual, values);
+        FrameOfReference.read(input, actual, 0, 2);
+        assertEquals(actual[0], Long.MIN_VALUE);
+        assertEquals(actual[1], Long.MAX_VALUE);
+    }
+
+    @Test(invocationCount = 16)
+    public void roundTrip() throws IOException {
+        final int width = current().nextInt(0, 40);
+        final long[] values = ascending(current().nextInt(1, 1024), width);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractBitOutput output = output(stream);
+        FrameOfReference.write(output, values, 0, values.length);
+        output.align(1);
+        final int blocks = (values.length + FrameOfReference.BLOCK_SIZE - 1)
+                           / FrameOfReference.BLOCK_SIZE;
+        assertTrue(stream.size() * 8L
+                   <= blocks * 87L + (long) width * values.length + 7L);
+        final long[] actual = new long[values.length];
+        FrameOfReference.read(input(stream), actual, 0, actual.length);
+        assertEquals(actual, values);
+    }
+
+    @Test
+    public void skipBlocks() throws IOException {
+        final long[] values = ascending(1000, 20);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractBitOutput output = output(stream);
+        FrameOfReference.write(output, values, 0, values.length);
+        output.align(1);
+        final AbstractBitInput input = input(stream);
+        final long skipped = FrameOfReference.skipBlocks(input, 5);
+        assertEquals(skipped, 5L * FrameOfReference.BLOCK_SIZE);
+        final long[] actual = new long[FrameOfReference.BLOCK_SIZE];
+        final int length = FrameOfReference.readBlock(input, actual, 0);
+        assertEquals(length, FrameOfReference.BLOCK_SIZE);
+        assertEquals(actual, Arrays.copyOfRange(
+                values, (int) skipped, (int) skipped + length));
+        assertEquals(FrameOfReference.skipBlock(input),
+                     FrameOfReference.BLOCK_SIZE);
+        final long[] last = new long[FrameOfReference.BLOCK_SIZE];
+        assertEquals(FrameOfReference.readBlock(input, last, 0), 1000 - 896);
+        assertEquals(last[1000 - 897], values[999]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void decreasing() throws IOException {
+        FrameOfReference.write(output(new ByteArrayOutputStream()),
+                               new long[]{1L, 2L, 1L}, 0, 3);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void blockExceedsLength() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractBitOutput output = output(stream);
+        FrameOfReference.writeBlock(output, new long[]{1L, 2L, 3L}, 0, 3);
+        output.align(1);
+        FrameOfReference.read(input(stream), new long[3], 0, 2);
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.BitIoFixtures.input;
+import static com.github.jinahya.bit.io.BitIoFixtures.lsbInput;
+import static com.github.jinahya.bit.io.BitIoFixtures.lsbOutput;
+import static com.github.jinahya.bit.io.BitIoFixtures.output;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+public class HuffmanTest {
+
+    /**
+     * Returns the lengths of the fixed literal/length code of DEFLATE.
+     */
+    private static int[] fixed() {
+        final int[] lengths = new int[288];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = i < 144 ? 8 : i < 256 ? 9 : i < 280 ? 7 : 8;
+        }
+        return lengths;
+    }
+
+    /**
+     * Returns random lengths of a complete code.
+     */
+    private static int[] lengths(final int symbols, final int longest) {
+        final int[] lengths = new int[symbols];
+        // split a random leaf until there are enough leaves
+        final int[] leaves = new int[symbols];
+        int count = 1;
+        while (count < symbols) {
+            final int i = current().nextInt(count);
+            if (leaves[i] == longest) {
+                continue;
+            }
+            leaves[i]++;
+            leaves[count++] = leaves[i];
+        }
+        for (int i = 0; i < symbols; i++) {
+            lengths[i] = leaves[i];
+        }
+        return lengths;
+    }
+
+    @Test
+    public void codes() {
+        // DEFLATE, RFC 1951, 3.2.2
+        final Huffman huffman = new Huffman(new int[]{3, 3, 3, 3, 3, 2, 4, 4});
+        final int[] codes = {2, 3, 4, 5, 6, 0, 14, 15};
+        for (int symbol = 0; symbol < codes.length; symbol++) {
+            assertEquals(huffman.getCode(symbol), codes[symbol]);
+        }
+    }
+
+    @Test(invocationCount = 32)
+    public void roundTrip() throws IOException {
+        final int symbols = current().nextInt(2, 300);
+        final int[] lengths = lengths(symbols, current().nextInt(9, 21));
+        final Huffman huffman = new Huffman(
+                lengths, current().nextInt(1, 12));
+        final int[] values = new int[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current().nextInt(symbols);
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BitOutput output = output(stream);
+        huffman.write(output, values, 0, values.length);
+        output.align(1);
+        final int[] actual = new int[values.length];
+        huffman.read(input(stream), actual, 0, actual.length);
+        assertEquals(actual, values);
+    }
+
+    @Test(invocationCount = 32)
+    public void lsbRoundTrip() throws IOException {
+        final int symbols = current().nextInt(2, 300);
+        final int[] lengths = lengths(symbols, current().nextInt(9, 21));
+        final Huffman huffman = new Huffman(
+                lengths, current().nextInt(1, 12));
+        final int[] values = new int[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current().nextInt(symbols);
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput output = lsbOutput(stream);
+        output.writeInt(true, 3, 5); // not octet-aligned
+        huffman.writeLsb(output, values, 0, values.length);
+        output.align(1);
+        final PeekableBitInput input = lsbInput(stream);
+        assertEquals(input.readInt(true, 3), 5);
+        final int[] actual = new int[values.length];
+        huffman.read(input, actual, 0, actual.length);
+        assertEquals(actual, values);
+    }
+
+    @Test
+    public void lsbSymbols() throws IOException {
+        final Huffman huffman = new Huffman(new int[]{1, 2, 3, 3});
+        final int[] values = {0, 1, 2, 3, 3, 2, 1, 0, 2, 2, 1, 3};
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput output = lsbOutput(stream);
+        huffman.writeLsb(output, values, 0, values.length);
+        output.align(1);
+        final int[] actual = new int[values.length];
+        huffman.read(lsbInput(stream), actual, 0, actual.length);
+        assertEquals(actual, values);
+    }
+
+    @Test(invocationCount = 32)
+    public void backwardRoundTrip() throws IOException {
+        final int symbols = current().nextInt(2, 300);
+        final int[] lengths = lengths(symbols, current().nextInt(9, 21));
+        final Huffman huffman = new Huffman(
+                lengths, current().nextInt(1, 12));
+        final int[] values = new int[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current().nextInt(symbols);
+        }
+        final BackwardBitWriter writer = new BackwardBitWriter();
+        for (int i = values.length - 1; i >= 0; i--) {
+            huffman.write(writer, values[i]);
+        }
+        final byte[] array = writer.finish();
+        final ReverseBitInput input
+                = new ReverseBitInput(array, 0, array.length);
+        final int[] actual = new int[values.length];
+        huffman.read(input, actual, 0, actual.length);
+        assertEquals(actual, values);
+        assertEquals(input.remaining(), 0L);
+    }
+
+    @Test
+    public void deflateFixedBlock() throws IOException, DataFormatException {
+        final Huffman huffman = new Huffman(fixed());
+        final byte[] text = "bit-io".getBytes("US-ASCII");
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput output = lsbOutput(stream);
+        output.writeBoolean(true); // BFINAL
+        output.writeInt(true, 2, 1); // BTYPE, fixed Huffman codes
+        for (final byte octet : text) {
+            huffman.writeLsb(output, octet & 0xFF);
+        }
+        huffman.writeLsb(output, 256); // end of block
+        output.align(1);
+        // inflate what is written
+        final Inflater inflater = new Inflater(true);
+        inflater.setInput(stream.toByteArray());
+        final byte[] inflated = new byte[text.length];
+        assertEquals(inflater.inflate(inflated), text.length);
+        assertEquals(inflated, text);
+        inflater.end();
+        // read what is deflated
+        final Deflater deflater = new Deflater(
+                Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(text);
+        deflater.finish();
+        final byte[] deflated = new byte[64];
+        final int length = deflater.deflate(deflated);
+        deflater.end();
+        final PeekableBitInput input = new DefaultLsbBitInput<>(
+                new StreamByteInput(
+                        new ByteArrayInputStream(deflated, 0, length)));
+        assertEquals(input.readBoolean(), true);
+        assertEquals(input.readInt(true, 2), 1);
+        for (final byte octet : text) {
+            assertEquals(huffman.read(input), octet & 0xFF);
+        }
+        assertEquals(huffman.read(input), 256);
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void readPastEnd() throws IOException {
+        final Huffman huffman = new Huffman(new int[]{1, 2, 3, 3});
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.write(0xFF); // 111 111 11
+        final PeekableBitInput input = input(stream);
+        assertEquals(huffman.read(input), 3);
+        assertEquals(huffman.read(input), 3);
+        huffman.read(input);
+    }
+
+    @Test
+    public void readToEndOfArray() throws IOException {
+        final Huffman huffman = new Huffman(new int[]{1, 2, 3, 3});
+        final byte[] array = {(byte) 0xDD}; // 110 111 0 1
+        final PeekableBitInput input = new DefaultBitInput<>(
+                new ArrayByteInput(array, 0, array.length));
+        assertEquals(huffman.read(input), 2);
+        assertEquals(huffman.read(input), 3);
+        assertEquals(huffman.read(input), 0);
+        try {
+            huffman.read(input);
+            fail("read past the end");
+        } catch (final EOFException eofe) {
+            // expected
+        }
+    }
+
+    @Test
+    public void longCodes() throws IOException {
+        // 1, 2, ..., 31, 32, 32
+        final int[] lengths = new int[33];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = Math.min(i + 1, 32);
+        }
+        final int[] values = new int[256];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current().nextInt(lengths.length);
+        }
+        for (final int primaryBits : new int[]{1, 7, 16}) {
+            final Huffman huffman = new Huffman(lengths, primaryBits);
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            final BitOutput output = output(stream);
+            huffman.write(output, values, 0, values.length);
+            output.align(1);
+            final int[] actual = new int[values.length];
+            huffman.read(input(stream), actual, 0, actual.length);
+            assertEquals(actual, values);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void overSubscribed() {
+        new Huffman(new int[]{1, 1, 1});
+    }
+}
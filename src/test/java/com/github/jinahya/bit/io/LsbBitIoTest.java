@@ -0,0 +1,240 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.BitIoFixtures.lsbInput;
+import static com.github.jinahya.bit.io.BitIoFixtures.lsbOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+public class LsbBitIoTest {
+
+    @Test
+    public void order() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput output = lsbOutput(stream);
+        output.writeBoolean(true); // BFINAL
+        output.writeInt(true, 2, 1); // BTYPE
+        output.writeInt(true, 7, 0x55);
+        output.writeInt(true, 12, 0xABC);
+        assertEquals(output.align(1), 2L);
+        assertEquals(stream.toByteArray(),
+                     new byte[]{(byte) 0xAB, (byte) 0xF2, 0x2A});
+        final AbstractLsbBitInput input = lsbInput(stream);
+        assertEquals(input.readBoolean(), true);
+        assertEquals(input.readInt(true, 2), 1);
+        assertEquals(input.readInt(true, 7), 0x55);
+        assertEquals(input.readInt(true, 12), 0xABC);
+        assertEquals(input.align(1), 2L);
+    }
+
+    @Test(invocationCount = 16)
+    public void bitsAreReversedOctets() throws IOException {
+        final boolean[] bits = new boolean[current().nextInt(1, 1024) << 3];
+        final ByteArrayOutputStream lsb = new ByteArrayOutputStream();
+        final ByteArrayOutputStream msb = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput lsbOutput = lsbOutput(lsb);
+        final AbstractBitOutput msbOutput = new DefaultBitOutput<>(
+                new StreamByteOutput(msb));
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = current().nextBoolean();
+            lsbOutput.writeBoolean(bits[i]);
+            msbOutput.writeBoolean(bits[i]);
+        }
+        final byte[] expected = msb.toByteArray();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) (Integer.reverse(expected[i]) >>> 24);
+        }
+        assertEquals(lsb.toByteArray(), expected);
+    }
+
+    @Test(invocationCount = 32)
+    public void roundTrip() throws IOException {
+        final int count = current().nextInt(1, 1024);
+        final int[] sizes = new int[count];
+        final long[] values = new long[count];
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput output = lsbOutput(stream);
+        for (int i = 0; i < count; i++) {
+            sizes[i] = current().nextInt(1, 65);
+            values[i] = current().nextLong();
+            switch (current().nextInt(4)) {
+                case 0:
+                    output.writeLong(false, sizes[i], values[i]);
+                    values[i] = (values[i] << (64 - sizes[i]))
+                                >> (64 - sizes[i]);
+                    sizes[i] = -sizes[i];
+                    break;
+                case 1:
+                    values[i] = current().nextInt(100);
+                    output.writeUnary((int) values[i]);
+                    sizes[i] = 0;
+                    break;
+                default:
+                    sizes[i] = Math.min(sizes[i], 63);
+                    values[i] &= -1L >>> (64 - sizes[i]);
+                    output.writeLong(true, sizes[i], values[i]);
+                    break;
+            }
+        }
+        output.align(1);
+        final AbstractLsbBitInput input = lsbInput(stream);
+        for (int i = 0; i < count; i++) {
+            if (sizes[i] < 0) {
+                assertEquals(input.readLong(false, -sizes[i]), values[i]);
+            } else if (sizes[i] == 0) {
+                assertEquals(input.readUnary(), values[i]);
+            } else {
+                if (sizes[i] <= 57 && current().nextBoolean()) {
+                    assertEquals(input.peekLong(sizes[i]),
+                                 Long.reverse(values[i]) >>> (64 - sizes[i]));
+                }
+                assertEquals(input.readLong(true, sizes[i]), values[i]);
+            }
+        }
+    }
+
+    @Test(invocationCount = 16)
+    public void bulk() throws IOException {
+        final int size = current().nextInt(1, 32);
+        final int[] ints = new int[current().nextInt(1, 4096)];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = current().nextInt() >>> (32 - size);
+        }
+        final long[] longs = new long[current().nextInt(1, 4096)];
+        final int lsize = current().nextInt(1, 65);
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = current().nextLong() >> (64 - lsize);
+        }
+        final int head = current().nextInt(1, 8);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput output = lsbOutput(stream);
+        output.writeInt(true, head, 1);
+        output.writeInts(true, size, ints, 0, ints.length);
+        for (int i = 0; i < 3; i++) {
+            output.writeInt(true, size, ints[i % ints.length]);
+        }
+        output.writeLongs(false, lsize, longs, 0, longs.length);
+        output.align(1);
+        // bulk writes equal to single writes
+        final ByteArrayOutputStream single = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput singleOutput = lsbOutput(single);
+        singleOutput.writeInt(true, head, 1);
+        for (final int value : ints) {
+            singleOutput.writeInt(true, size, value);
+        }
+        for (int i = 0; i < 3; i++) {
+            singleOutput.writeInt(true, size, ints[i % ints.length]);
+        }
+        for (final long value : longs) {
+            singleOutput.writeLong(false, lsize, value);
+        }
+        singleOutput.align(1);
+        assertEquals(stream.toByteArray(), single.toByteArray());
+        final AbstractLsbBitInput input = lsbInput(stream);
+        assertEquals(input.readInt(true, head), 1);
+        final int[] actualInts = new int[ints.length];
+        input.readInts(true, size, actualInts, 0, actualInts.length);
+        assertEquals(actualInts, ints);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(input.readInt(true, size), ints[i % ints.length]);
+        }
+        final long[] actualLongs = new long[longs.length];
+        input.readLongs(false, lsize, actualLongs, 0, actualLongs.length);
+        assertEquals(actualLongs, longs);
+    }
+
+    @Test(invocationCount = 16)
+    public void expGolomb() throws IOException {
+        final long[] values = new long[256];
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput output = lsbOutput(stream);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current().nextLong() >> current().nextInt(64);
+            output.writeExpGolombLong(false, values[i]);
+            output.writeExpGolombInt(true, (int) values[i]);
+        }
+        output.align(1);
+        final AbstractLsbBitInput input = lsbInput(stream);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(input.readExpGolombLong(false), values[i]);
+            assertEquals(input.readExpGolombInt(true), (int) values[i]);
+        }
+    }
+
+    @Test
+    public void expGolombCodes() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final AbstractLsbBitOutput output = lsbOutput(stream);
+        output.writeExpGolombInt(true, 0); // 1
+        output.writeExpGolombInt(true, 3); // 00 1 00
+        output.writeExpGolombInt(true, 4); // 00 1 10
+        assertEquals(output.align(1), 5L);
+        assertEquals(stream.toByteArray(), new byte[]{0x09, 0x03});
+    }
+
+    @Test
+    public void peekPastEnd() throws IOException {
+        final AbstractLsbBitInput input = lsbInput(new byte[]{(byte) 0xA5});
+        input.consume(2);
+        assertEquals(input.peekInt(10), 0x250); // 100101 0000
+        assertEquals(input.padding(), 4);
+        input.consume(6);
+        try {
+            input.consume(1);
+            fail("consumed past the end");
+        } catch (final EOFException eofe) {
+            // expected
+        }
+    }
+
+    @Test
+    public void peekPastEndOfArray() throws IOException {
+        final byte[] array = {(byte) 0xA5};
+        final AbstractLsbBitInput input = new DefaultLsbBitInput<>(
+                new ArrayByteInput(array, 0, array.length));
+        input.consume(2);
+        assertEquals(input.peekInt(10), 0x250);
+        assertEquals(input.padding(), 4);
+        input.consume(6);
+        assertEquals(input.peekLong(57), 0L);
+        assertEquals(input.padding(), 57);
+        try {
+            input.consume(1);
+            fail("consumed past the end");
+        } catch (final EOFException eofe) {
+            // expected
+        }
+    }
+
+    @Test
+    public void alignAndSkip() throws IOException {
+        final byte[] array = new byte[64];
+        current().nextBytes(array);
+        final AbstractLsbBitInput input = lsbInput(array);
+        input.skip(3);
+        assertEquals(input.align(4), 29L);
+        input.skip(29);
+        assertEquals(input.position(), 61L);
+        assertEquals(input.readInt(true, 3), (array[7] & 0xFF) >>> 5);
+        assertEquals(input.readInt(true, 8), array[8] & 0xFF);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for {@link MappedBitInput}.
+ *
+ * @author Jin Kwon &lt;jinahya_at_gmail.com&gt;
+ */
+public class MappedBitInputTest {
+
+    private static int size(final int i) {
+        return 1 + i % 63;
+    }
+
+    private static long mask(final long value, final int size) {
+        return value & (-1L >>> (64 - size));
+    }
+
+    private static File write(final long[] values) throws IOException {
+        final File file = File.createTempFile("mapped", null);
+        file.deleteOnExit();
+        final StreamBitOutput output
+                = new StreamBitOutput(new FileOutputStream(file));
+        try {
+            for (int i = 0; i < values.length; i++) {
+                output.writeLong(true, size(i), values[i]);
+            }
+        } finally {
+            output.close();
+        }
+        return file;
+    }
+
+    @Test(invocationCount = 16)
+    public void read() throws IOException {
+        final long[] values = current().longs(256).toArray();
+        final File file = write(values);
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = raf.getChannel();
+            final MappedBitInput input
+                    = new MappedBitInput(channel, current().nextInt(8, 64));
+            long position = 0L;
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(input.position(), position);
+                assertEquals(input.readLong(true, size(i)),
+                             mask(values[i], size(i)));
+                position += size(i);
+            }
+            input.align(1);
+            assertEquals(input.position(), channel.size() << 3);
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test(invocationCount = 16)
+    public void seek() throws IOException {
+        final long[] values = current().longs(256).toArray();
+        final long[] positions = new long[values.length];
+        for (int i = 1; i < values.length; i++) {
+            positions[i] = positions[i - 1] + size(i - 1);
+        }
+        final File file = write(values);
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final MappedBitInput input = new MappedBitInput(
+                    raf.getChannel(), current().nextInt(8, 64));
+            for (int j = 0; j < 64; j++) {
+                final int i = current().nextInt(values.length);
+                input.seek(positions[i]);
+                assertEquals(input.readLong(true, size(i)),
+                             mask(values[i], size(i)));
+                assertEquals(input.position(), positions[i] + size(i));
+            }
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test(invocationCount = 16)
+    public void skip() throws IOException {
+        final long[] values = current().longs(256).toArray();
+        final File file = write(values);
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final MappedBitInput input = new MappedBitInput(
+                    raf.getChannel(), current().nextInt(8, 64));
+            for (int i = 0; i < values.length; i++) {
+                if (current().nextBoolean()) {
+                    input.skip(size(i));
+                    continue;
+                }
+                assertEquals(input.readLong(true, size(i)),
+                             mask(values[i], size(i)));
+            }
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void eof() throws IOException {
+        final File file = write(new long[]{0L});
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final MappedBitInput input = new MappedBitInput(raf.getChannel());
+            input.seek(8L);
+            input.readBoolean();
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    public void prefetchFirstWindow() throws IOException {
+        final File file = write(new long[64]);
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final int[] loaded = new int[1];
+            final MappedBitInput input = new MappedBitInput(raf.getChannel()) {
+                @Override
+                protected long octets(final int length) throws IOException {
+                    loaded[0] = length;
+                    return super.octets(length);
+                }
+            };
+            input.readInt(true, 8);
+            assertEquals(loaded[0], 8);
+        } finally {
+            raf.close();
+        }
+    }
+}
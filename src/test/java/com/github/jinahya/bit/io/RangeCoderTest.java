@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.BitIoFixtures.input;
+import static com.github.jinahya.bit.io.BitIoFixtures.output;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+public class RangeCoderTest {
+
+    @Test(invocationCount = 16)
+    public void bits() throws IOException {
+        final int[] bits = new int[65536];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = current().nextInt(100) < 3 ? 1 : 0;
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BitOutput output = output(stream);
+        output.writeInt(true, 3, 5); // need not be aligned
+        final RangeEncoder encoder = new RangeEncoder(output);
+        final short[] probabilities
+                = RangeCoding.initialize(new short[2]);
+        for (int i = 0; i < bits.length; i++) {
+            encoder.encodeBit(probabilities, i & 1, bits[i]);
+        }
+        encoder.finish();
+        output.writeInt(true, 5, 9);
+        output.align(1);
+        // the entropy is about 0.194 bits per decision
+        assertTrue(stream.size() < bits.length * 0.25 / 8, "" + stream.size());
+        final BitInput input = input(stream);
+        assertEquals(input.readInt(true, 3), 5);
+        final RangeDecoder decoder = new RangeDecoder(input);
+        RangeCoding.initialize(probabilities);
+        for (int i = 0; i < bits.length; i++) {
+            assertEquals(decoder.decodeBit(probabilities, i & 1), bits[i]);
+        }
+        assertEquals(input.readInt(true, 5), 9);
+    }
+
+    @Test(invocationCount = 16)
+    public void mixed() throws IOException {
+        final int[] symbols = new int[4096];
+        final int[] directs = new int[symbols.length];
+        final int[] trees = new int[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            symbols[i] = (int) Math.sqrt(current().nextInt(400));
+            directs[i] = current().nextInt();
+            trees[i] = current().nextInt(16) * current().nextInt(16);
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final RangeEncoder encoder = new RangeEncoder(output(stream));
+        int[] cumulative = RangeCoding.cumulative(20);
+        short[] probabilities = RangeCoding.initialize(new short[256]);
+        for (int i = 0; i < symbols.length; i++) {
+            encoder.encode(cumulative, symbols[i]);
+            RangeCoding.update(cumulative, symbols[i]);
+            encoder.encodeDirect(32, directs[i]);
+            encoder.encodeTree(probabilities, 8, trees[i]);
+        }
+        encoder.finish();
+        final RangeDecoder decoder = new RangeDecoder(input(stream));
+        cumulative = RangeCoding.cumulative(20);
+        probabilities = RangeCoding.initialize(new short[256]);
+        for (int i = 0; i < symbols.length; i++) {
+            final int symbol = decoder.decode(cumulative);
+            assertEquals(symbol, symbols[i]);
+            RangeCoding.update(cumulative, symbol);
+            assertEquals(decoder.decodeDirect(32), directs[i]);
+            assertEquals(decoder.decodeTree(probabilities, 8), trees[i]);
+        }
+    }
+
+    @Test
+    public void update() {
+        final int[] cumulative = RangeCoding.cumulative(3);
+        for (int i = 0; i < 4096; i++) {
+            RangeCoding.update(cumulative, 1);
+            assertTrue(cumulative[3] <= RangeCoding.MAX_TOTAL);
+        }
+        assertTrue(cumulative[1] > 0);
+        assertTrue(cumulative[2] < cumulative[3]);
+    }
+
+    @Test
+    public void updateWithMaxSymbols() {
+        final int[] cumulative
+                = RangeCoding.cumulative(RangeCoding.MAX_SYMBOLS);
+        for (int i = 0; i < 4096; i++) {
+            RangeCoding.update(cumulative, i & 1);
+            assertTrue(cumulative[cumulative.length - 1]
+                       <= RangeCoding.MAX_TOTAL);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void cumulativeWithTooManySymbols() {
+        RangeCoding.cumulative(RangeCoding.MAX_SYMBOLS + 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void encodeWithTotalTooLarge() throws IOException {
+        new RangeEncoder(output(new ByteArrayOutputStream()))
+                .encode(0, 1, RangeCoding.MAX_TOTAL + 1);
+    }
+}
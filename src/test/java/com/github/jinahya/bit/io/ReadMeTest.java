@@ -77,4 +77,43 @@ public class ReadMeTest {
         assertEquals(w, "01101110 00100000 00000000 00000000"
                         + " 00000110 00110000 00000000 00000000");
     }
+
+    @Test
+    public void readLazily() throws IOException {
+        final byte[] array = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        final PositionedBitInput input = new DefaultBitInput<ByteInput>(null) {
+            @Override
+            public int read() throws IOException {
+                if (delegate == null) {
+                    delegate = new ByteInput() { // read() only
+                        @Override
+                        public int read() throws IOException {
+                            return array[index++] & 0xFF;
+                        }
+                        private int index;
+                    };
+                }
+                return super.read();
+            }
+        };
+        assertEquals(input.readLong(false, 64), 0x0102030405060708L);
+        input.skip(4L);
+        assertEquals(input.readInt(true, 4), 9);
+    }
+
+    @Test
+    public void writeLazily() throws IOException {
+        final byte[] array = new byte[8];
+        final BitOutput output = new DefaultBitOutput<ByteOutput>(null) {
+            @Override
+            public void write(final int value) throws IOException {
+                if (delegate == null) {
+                    delegate = new ArrayByteOutput(array, 0, array.length);
+                }
+                super.write(value);
+            }
+        };
+        output.writeLong(false, 64, 0x0102030405060708L);
+        assertEquals(array, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+public class ReverseMsbBitInputTest {
+
+    private static ReverseMsbBitInput input(final byte[] octets)
+            throws IOException {
+        return new ReverseMsbBitInput(octets, 0, octets.length);
+    }
+
+    /**
+     * Values written forward by an {@link AbstractLsbBitOutput}, as Zstandard
+     * writes them, are read back, last first, from a direct buffer region of
+     * a big-endian buffer.
+     */
+    @Test(invocationCount = 16)
+    public void lsbOutput() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BitOutput output = new DefaultLsbBitOutput<>(
+                new StreamByteOutput(stream));
+        final int[] sizes = new int[current().nextInt(1, 512)];
+        final long[] values = new long[sizes.length];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = current().nextInt(1, 65);
+            values[i] = current().nextLong() >> (64 - sizes[i]);
+            output.writeLong(false, sizes[i], values[i]);
+        }
+        output.writeBoolean(true); // sentinel
+        output.align(1);
+        final byte[] octets = stream.toByteArray();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(octets.length + 7)
+                .order(ByteOrder.BIG_ENDIAN);
+        buffer.position(3);
+        buffer.put(octets).flip().position(3);
+        final ReverseMsbBitInput input = new ReverseMsbBitInput(buffer);
+        for (int i = sizes.length - 1; i >= 0; i--) {
+            if (sizes[i] <= 57 && current().nextBoolean()) {
+                assertEquals(input.peekLong(sizes[i]),
+                             values[i] & ~(-1L << sizes[i]));
+            }
+            assertEquals(input.readLong(false, sizes[i]), values[i]);
+        }
+        assertEquals(input.align(1), input.remaining());
+        assertEquals(input.remaining(), 0L);
+        assertEquals(buffer.position(), 3);
+        assertEquals(buffer.order(), ByteOrder.BIG_ENDIAN);
+    }
+
+    @Test
+    public void order() throws IOException {
+        // 5 in 3 bits, 1 in 2 bits and the sentinel, from bit 0 upward
+        final ReverseMsbBitInput input = input(new byte[]{0x2D});
+        assertEquals(input.remaining(), 5L);
+        assertEquals(input.readInt(true, 2), 1);
+        assertEquals(input.readInt(false, 3), -3);
+    }
+
+    @Test
+    public void littleEndian() throws IOException {
+        final ReverseMsbBitInput input
+                = input(new byte[]{0x34, 0x12, 0x01, 0x00, 0x01});
+        assertEquals(input.readInt(true, 8), 0x00);
+        assertEquals(input.readInt(true, 24), 0x011234);
+    }
+
+    @Test
+    public void arrayByteInput() throws IOException {
+        final byte[] array = {0x00, (byte) 0x81, 0x01, 0x00};
+        final ArrayByteInput byteInput = new ArrayByteInput(array, 1, 3);
+        final ReverseMsbBitInput input = new ReverseMsbBitInput(byteInput);
+        assertEquals(input.remaining(), 8L);
+        assertEquals(input.readInt(true, 8), 0x81);
+        assertEquals(byteInput.getIndex(), 1);
+    }
+
+    @Test
+    public void peekPastStart() throws IOException {
+        final ReverseMsbBitInput input
+                = input(new byte[]{(byte) 0xA5, 0x03});
+        input.consume(1);
+        assertEquals(input.peekInt(12), 0xA50);
+        assertEquals(input.padding(), 4);
+        input.consume(8);
+        assertEquals(input.remaining(), 0L);
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void readPastStart() throws IOException {
+        input(new byte[]{0x01, 0x02}).readInt(true, 10);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void withoutSentinel() throws IOException {
+        input(new byte[]{0x01, 0x00});
+    }
+
+    @Test
+    public void skipAndAlign() throws IOException {
+        final byte[] array = new byte[32];
+        current().nextBytes(array);
+        array[31] = 0x01;
+        final ReverseMsbBitInput input = input(array);
+        input.skip(3);
+        assertEquals(input.align(1), 5L);
+        assertEquals(input.readInt(true, 8), array[29] & 0xFF);
+        input.skip(100);
+        assertEquals(input.position(), 116L);
+        final long expected = input.remaining() % 32;
+        assertEquals(input.align(4), expected);
+        assertEquals(input.remaining() % 32, 0L);
+    }
+}
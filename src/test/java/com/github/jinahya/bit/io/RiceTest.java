@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.BitIoFixtures.input;
+import static com.github.jinahya.bit.io.BitIoFixtures.output;
+import static com.github.jinahya.bit.io.BitIoFixtures.values;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+public class RiceTest {
+
+    @Test
+    public void unary() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final UnaryBitOutput output = output(stream);
+        final int[] values = {0, 1, 7, 63, 64, 200, 3};
+        for (final int value : values) {
+            output.writeUnary(value);
+        }
+        output.align(1);
+        final UnaryBitInput input = input(stream);
+        for (final int value : values) {
+            assertEquals(input.readUnary(), value);
+        }
+    }
+
+    @Test
+    public void rice() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final UnaryBitOutput output = output(stream);
+        Rice.writeRice(output, 2, 9L); // 00 1 01
+        Rice.writeRice(output, 0, 2L); // 00 1
+        output.align(1);
+        assertEquals(stream.toByteArray(), new byte[]{0x29});
+    }
+
+    @Test(invocationCount = 16)
+    public void riceRoundTrip() throws IOException {
+        final int k = current().nextInt(0, 12);
+        final long[] values = values(512, 11);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final UnaryBitOutput output = output(stream);
+        Rice.writeRice(output, k, values, 0, values.length);
+        output.align(1);
+        final long[] actual = new long[values.length];
+        Rice.readRice(input(stream), k, actual, 0, actual.length);
+        assertEquals(actual, values);
+    }
+
+    @Test(invocationCount = 16)
+    public void golombRoundTrip() throws IOException {
+        final long m = current().nextLong(1L, 1000L);
+        final long[] values = values(512, 11);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final UnaryBitOutput output = output(stream);
+        for (final long value : values) {
+            Rice.writeGolomb(output, m, value);
+        }
+        output.align(1);
+        final UnaryBitInput input = input(stream);
+        for (final long value : values) {
+            assertEquals(Rice.readGolomb(input, m), value, "m: " + m);
+        }
+    }
+
+    @Test(invocationCount = 16)
+    public void adaptiveRoundTrip() throws IOException {
+        final long[] values = values(1024, 11);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final UnaryBitOutput output = output(stream);
+        new Rice().write(output, values, 0, values.length);
+        output.align(1);
+        final long[] actual = new long[values.length];
+        new Rice().read(input(stream), actual, 0, actual.length);
+        assertEquals(actual, values);
+    }
+
+    @Test
+    public void adaptiveK() throws IOException {
+        final Rice rice = new Rice(0L);
+        assertEquals(rice.getK(), 0);
+        final UnaryBitOutput output = output(new ByteArrayOutputStream());
+        for (int i = 0; i < 256; i++) {
+            rice.write(output, 1000L);
+        }
+        assertEquals(rice.getK(), 10); // 2^9 < 1000 <= 2^10
+    }
+}
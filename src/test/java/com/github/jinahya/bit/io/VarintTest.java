@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import static com.github.jinahya.bit.io.BitIoFixtures.input;
+import static com.github.jinahya.bit.io.BitIoFixtures.output;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+public class VarintTest {
+
+    @Test
+    public void groups() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BitOutput output = output(stream);
+        Varint.writeVarint(output, 4, 0x5AL); // 1 1010 0 0101
+        Varint.writeSignedVarint(output, 4, -1L); // 0 0001
+        assertEquals(output.align(1), 1L);
+        assertEquals(stream.toByteArray(), new byte[]{(byte) 0xD1, 0x42});
+        final BitInput input = input(stream);
+        assertEquals(Varint.readVarint(input, 4), 0x5AL);
+        assertEquals(Varint.readSignedVarint(input, 4), -1L);
+    }
+
+    @Test(invocationCount = 16)
+    public void roundTrip() throws IOException {
+        final int width = current().nextInt(1, 33);
+        final long[] values = new long[512];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current().nextLong() >> current().nextInt(64);
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BitOutput output = output(stream);
+        Varint.writeVarints(output, width, values, 0, values.length);
+        Varint.writeSignedVarints(output, width, values, 0, values.length);
+        output.align(1);
+        final BitInput input = input(stream);
+        final long[] actual = new long[values.length];
+        Varint.readVarints(input, width, actual, 0, actual.length);
+        assertEquals(actual, values);
+        Varint.readSignedVarints(input, width, actual, 0, actual.length);
+        assertEquals(actual, values);
+    }
+
+    @Test
+    public void lastGroup() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BitOutput output = output(stream);
+        Varint.writeVarint(output, 3, -1L);
+        output.align(1);
+        assertEquals(Varint.readVarint(input(stream), 3), -1L);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void lastGroupOverflow() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BitOutput output = output(stream);
+        for (int i = 0; i < 21; i++) {
+            output.writeInt(true, 4, 0x0F);
+        }
+        output.writeInt(true, 4, 0x02); // bit 64
+        output.align(1);
+        Varint.readVarint(input(stream), 3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void writeWithZeroWidth() throws IOException {
+        Varint.writeVarint(new DefaultBitOutput<>(
+                new StreamByteOutput(new ByteArrayOutputStream())), 0, 1L);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 Jin Kwon &lt;jinahya_at_gmail.com&gt;.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jinahya.bit.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.Test;
+
+public class ZigZagTest {
+
+    @Test
+    public void encode() {
+        assertEquals(ZigZag.encode(0), 0);
+        assertEquals(ZigZag.encode(-1), 1);
+        assertEquals(ZigZag.encode(1), 2);
+        assertEquals(ZigZag.encode(-2), 3);
+        assertEquals(ZigZag.encode(Integer.MAX_VALUE), -2);
+        assertEquals(ZigZag.encode(Integer.MIN_VALUE), -1);
+        assertEquals(ZigZag.encode(Long.MIN_VALUE), -1L);
+    }
+
+    @Test(invocationCount = 128)
+    public void decode() {
+        final int i = current().nextInt();
+        assertEquals(ZigZag.decode(ZigZag.encode(i)), i);
+        final long l = current().nextLong();
+        assertEquals(ZigZag.decode(ZigZag.encode(l)), l);
+    }
+
+    @Test(invocationCount = 16)
+    public void roundTrip() throws IOException {
+        final int size = current().nextInt(2, 33);
+        final int[] ints = new int[256];
+        final long[] longs = new long[256];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = current().nextInt() >> (33 - size);
+            longs[i] = current().nextLong() >> (65 - size);
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BulkBitOutput output = new DefaultBitOutput<>(
+                new StreamByteOutput(stream));
+        ZigZag.writeInts(output, size, ints, 0, ints.length);
+        ZigZag.writeLongs(output, size, longs, 0, longs.length);
+        ZigZag.writeInt(output, size, ints[0]);
+        output.align(1);
+        final BulkBitInput input = new DefaultBitInput<>(new StreamByteInput(
+                new ByteArrayInputStream(stream.toByteArray())));
+        final int[] actualInts = new int[ints.length];
+        ZigZag.readInts(input, size, actualInts, 0, actualInts.length);
+        assertEquals(actualInts, ints);
+        final long[] actualLongs = new long[longs.length];
+        ZigZag.readLongs(input, size, actualLongs, 0, actualLongs.length);
+        assertEquals(actualLongs, longs);
+        assertEquals(ZigZag.readInt(input, size), ints[0]);
+    }
+
+    @Test
+    public void fullRange() throws IOException {
+        final int[] ints = new int[3000];
+        final long[] longs = new long[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = current().nextInt();
+            longs[i] = current().nextLong();
+        }
+        ints[0] = Integer.MIN_VALUE;
+        ints[1] = Integer.MAX_VALUE;
+        longs[0] = Long.MIN_VALUE;
+        longs[1] = Long.MAX_VALUE;
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BulkBitOutput output = new DefaultBitOutput<>(
+                new StreamByteOutput(stream));
+        ZigZag.writeInts(output, 32, ints, 0, ints.length);
+        ZigZag.writeLongs(output, 64, longs, 0, longs.length);
+        ZigZag.writeInt(output, 32, Integer.MIN_VALUE);
+        ZigZag.writeLong(output, 64, Long.MIN_VALUE);
+        output.align(1);
+        final BulkBitInput input = new DefaultBitInput<>(new StreamByteInput(
+                new ByteArrayInputStream(stream.toByteArray())));
+        final int[] actualInts = new int[ints.length];
+        ZigZag.readInts(input, 32, actualInts, 0, actualInts.length);
+        assertEquals(actualInts, ints);
+        final long[] actualLongs = new long[longs.length];
+        ZigZag.readLongs(input, 64, actualLongs, 0, actualLongs.length);
+        assertEquals(actualLongs, longs);
+        assertEquals(ZigZag.readInt(input, 32), Integer.MIN_VALUE);
+        assertEquals(ZigZag.readLong(input, 64), Long.MIN_VALUE);
+    }
+}